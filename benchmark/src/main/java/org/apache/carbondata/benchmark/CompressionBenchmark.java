@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.Compressor;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the column page compressors on representative pages of one
+ * blocklet: sorted dictionary keys, no dictionary strings, delta encoded long
+ * measures and double measures. Compression ratio of each page is printed
+ * during setup, encode and decode throughput is reported in pages per second,
+ * multiply it by the printed page size to get bytes per second.
+ * Run with: java -jar benchmark/target/carbondata-benchmarks.jar CompressionBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CompressionBenchmark {
+
+  /**
+   * number of rows in one blocklet
+   */
+  private static final int NUMBER_OF_ROWS = 120000;
+
+  @Param({ "SNAPPY", "LZ4", "ZSTD", "NONE" })
+  public String codec;
+
+  @Param({ "dictionary", "string", "long", "double" })
+  public String page;
+
+  private Compressor<byte[]> byteCompressor;
+
+  private Compressor<long[]> longCompressor;
+
+  private Compressor<double[]> doubleCompressor;
+
+  private byte[] bytePage;
+
+  private long[] longPage;
+
+  private double[] doublePage;
+
+  private byte[] compressedPage;
+
+  @Setup public void setup() {
+    CompressionCodec compressionCodec = CompressionCodec.valueOf(codec);
+    byteCompressor = CompressorFactory.getByteCompressor(compressionCodec);
+    longCompressor = CompressorFactory.getLongCompressor(compressionCodec);
+    doubleCompressor = CompressorFactory.getDoubleCompressor(compressionCodec);
+    Random random = new Random(0);
+    int uncompressedSize;
+    switch (page) {
+      case "dictionary":
+        // sorted 2 byte dictionary keys of a column with 1000 distinct values
+        int[] surrogates = new int[NUMBER_OF_ROWS];
+        for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+          surrogates[i] = random.nextInt(1000) + 1;
+        }
+        Arrays.sort(surrogates);
+        ByteBuffer keys = ByteBuffer.allocate(NUMBER_OF_ROWS * 2);
+        for (int surrogate : surrogates) {
+          keys.putShort((short) surrogate);
+        }
+        bytePage = keys.array();
+        uncompressedSize = bytePage.length;
+        break;
+      case "string":
+        // length prefixed values as written for no dictionary columns
+        ByteBuffer values = ByteBuffer.allocate(NUMBER_OF_ROWS * 20);
+        for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+          byte[] value = ("customer_" + random.nextInt(100000)).getBytes();
+          values.putShort((short) value.length);
+          values.put(value);
+        }
+        bytePage = Arrays.copyOf(values.array(), values.position());
+        uncompressedSize = bytePage.length;
+        break;
+      case "long":
+        // difference from the max value, as stored for integer measures
+        longPage = new long[NUMBER_OF_ROWS];
+        for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+          longPage[i] = random.nextInt(1000000);
+        }
+        uncompressedSize = NUMBER_OF_ROWS * 8;
+        break;
+      default:
+        doublePage = new double[NUMBER_OF_ROWS];
+        for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+          doublePage[i] = random.nextInt(100000) / 100.0;
+        }
+        uncompressedSize = NUMBER_OF_ROWS * 8;
+        break;
+    }
+    compressedPage = compress();
+    System.out.println(String
+        .format("%n%s %s page: %d bytes, compressed: %d bytes, ratio: %.2f", codec, page,
+            uncompressedSize, compressedPage.length,
+            (double) uncompressedSize / compressedPage.length));
+  }
+
+  @Benchmark public byte[] compress() {
+    if (null != longPage) {
+      return longCompressor.compress(longPage);
+    } else if (null != doublePage) {
+      return doubleCompressor.compress(doublePage);
+    }
+    return byteCompressor.compress(bytePage);
+  }
+
+  @Benchmark public Object decompress() {
+    if (null != longPage) {
+      return longCompressor.unCompress(compressedPage);
+    } else if (null != doublePage) {
+      return doubleCompressor.unCompress(compressedPage);
+    }
+    return byteCompressor.unCompress(compressedPage);
+  }
+}
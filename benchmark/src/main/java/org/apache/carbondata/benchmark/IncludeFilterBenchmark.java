@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.benchmark;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.carbondata.core.util.ByteUtil;
+import org.apache.carbondata.scan.filter.executer.FilterKeyLookup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the IN filter evaluation on one blocklet using the row by filter
+ * key loop with the evaluation using {@link FilterKeyLookup}, for dictionary
+ * (fixed length) and no dictionary (variable length) columns.
+ * Run with: java -jar benchmark/target/carbondata-benchmarks.jar IncludeFilterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class IncludeFilterBenchmark {
+
+  /**
+   * number of rows in one blocklet
+   */
+  private static final int NUMBER_OF_ROWS = 120000;
+
+  /**
+   * size of the dictionary key of the column
+   */
+  private static final int KEY_SIZE = 3;
+
+  private static final int CARDINALITY = 1 << 20;
+
+  @Param({ "1", "10", "100", "1000" })
+  public int numberOfFilterKeys;
+
+  private byte[] fixedLengthData;
+
+  private byte[][] fixedLengthFilterKeys;
+
+  private List<byte[]> variableLengthData;
+
+  private byte[][] variableLengthFilterKeys;
+
+  private FilterKeyLookup fixedLengthLookup;
+
+  private FilterKeyLookup variableLengthLookup;
+
+  @Setup public void setup() {
+    Random random = new Random(0);
+    fixedLengthData = new byte[NUMBER_OF_ROWS * KEY_SIZE];
+    variableLengthData = new ArrayList<>(NUMBER_OF_ROWS);
+    for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+      int surrogate = random.nextInt(CARDINALITY);
+      writeKey(surrogate, fixedLengthData, i * KEY_SIZE);
+      variableLengthData.add(("value" + surrogate).getBytes());
+    }
+    fixedLengthFilterKeys = new byte[numberOfFilterKeys][];
+    variableLengthFilterKeys = new byte[numberOfFilterKeys][];
+    for (int i = 0; i < numberOfFilterKeys; i++) {
+      int surrogate = random.nextInt(CARDINALITY);
+      fixedLengthFilterKeys[i] = new byte[KEY_SIZE];
+      writeKey(surrogate, fixedLengthFilterKeys[i], 0);
+      variableLengthFilterKeys[i] = ("value" + surrogate).getBytes();
+    }
+    fixedLengthLookup = FilterKeyLookup.createFixedLengthLookup(fixedLengthFilterKeys);
+    variableLengthLookup = FilterKeyLookup.createVariableLengthLookup(variableLengthFilterKeys);
+  }
+
+  private static void writeKey(int surrogate, byte[] data, int offset) {
+    for (int i = KEY_SIZE - 1; i >= 0; i--) {
+      data[offset + i] = (byte) surrogate;
+      surrogate >>>= 8;
+    }
+  }
+
+  @Benchmark public BitSet fixedLengthLoop() {
+    BitSet bitSet = new BitSet(NUMBER_OF_ROWS);
+    for (int k = 0; k < fixedLengthFilterKeys.length; k++) {
+      for (int j = 0; j < NUMBER_OF_ROWS; j++) {
+        if (ByteUtil.UnsafeComparer.INSTANCE
+            .compareTo(fixedLengthData, j * KEY_SIZE, KEY_SIZE, fixedLengthFilterKeys[k], 0,
+                KEY_SIZE) == 0) {
+          bitSet.set(j);
+        }
+      }
+    }
+    return bitSet;
+  }
+
+  @Benchmark public BitSet fixedLengthLookup() {
+    BitSet bitSet = new BitSet(NUMBER_OF_ROWS);
+    fixedLengthLookup.setFilteredIndexes(fixedLengthData, NUMBER_OF_ROWS, bitSet);
+    return bitSet;
+  }
+
+  @Benchmark public BitSet variableLengthLoop() {
+    BitSet bitSet = new BitSet(NUMBER_OF_ROWS);
+    for (int i = 0; i < variableLengthFilterKeys.length; i++) {
+      for (int index = 0; index < NUMBER_OF_ROWS; index++) {
+        if (ByteUtil.UnsafeComparer.INSTANCE
+            .compareTo(variableLengthFilterKeys[i], variableLengthData.get(index)) == 0) {
+          bitSet.set(index);
+        }
+      }
+    }
+    return bitSet;
+  }
+
+  @Benchmark public BitSet variableLengthLookup() {
+    BitSet bitSet = new BitSet(NUMBER_OF_ROWS);
+    variableLengthLookup.setFilteredIndexes(variableLengthData, null, bitSet);
+    return bitSet;
+  }
+}
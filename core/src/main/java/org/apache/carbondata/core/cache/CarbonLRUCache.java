@@ -20,10 +20,13 @@
 package org.apache.carbondata.core.cache;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
@@ -31,7 +34,11 @@ import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.util.CarbonProperties;
 
 /**
- * class which manages the lru cache
+ * class which manages the lru cache.
+ * Keys are distributed to segments each having its own lock and access
+ * ordered map, so lookups of different keys do not contend on one lock.
+ * Memory size is accounted globally and eviction picks the least recently
+ * used entry across all the segments which is not in use
  */
 public final class CarbonLRUCache {
   /**
@@ -44,10 +51,9 @@ public final class CarbonLRUCache {
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(CarbonLRUCache.class.getName());
   /**
-   * Map that will contain key as table unique name and value as cache Holder
-   * object
+   * segments of the cache, key is mapped to segment based on its hash code
    */
-  private Map<String, Cacheable> lruCacheMap;
+  private Segment[] segments;
   /**
    * lruCacheSize
    */
@@ -55,7 +61,27 @@ public final class CarbonLRUCache {
   /**
    * totalSize size of the cache
    */
-  private long currentSize;
+  private AtomicLong currentSize = new AtomicLong();
+  /**
+   * logical clock used to find the least recently used entry across segments
+   */
+  private AtomicLong accessClock = new AtomicLong();
+  /**
+   * number of lookups for which value was present
+   */
+  private AtomicLong hitCount = new AtomicLong();
+  /**
+   * number of lookups for which value was not present
+   */
+  private AtomicLong missCount = new AtomicLong();
+  /**
+   * number of entries removed to free memory
+   */
+  private AtomicLong evictionCount = new AtomicLong();
+  /**
+   * total time in milliseconds taken to load the values added to cache
+   */
+  private AtomicLong totalLoadTime = new AtomicLong();
 
   /**
    * @param propertyName        property name to take the size configured
@@ -83,52 +109,87 @@ public final class CarbonLRUCache {
    * initialize lru cache
    */
   private void initCache() {
-    lruCacheMap =
-        new LinkedHashMap<String, Cacheable>(CarbonCommonConstants.DEFAULT_COLLECTION_SIZE, 1.0f,
-            true);
+    int numberOfSegments;
+    try {
+      numberOfSegments = Integer.parseInt(CarbonProperties.getInstance()
+          .getProperty(CarbonCommonConstants.CARBON_LRU_CACHE_SEGMENTS,
+              CarbonCommonConstants.CARBON_LRU_CACHE_SEGMENTS_DEFAULT));
+    } catch (NumberFormatException e) {
+      numberOfSegments = Integer.parseInt(CarbonCommonConstants.CARBON_LRU_CACHE_SEGMENTS_DEFAULT);
+    }
+    if (numberOfSegments <= 0) {
+      numberOfSegments = Integer.parseInt(CarbonCommonConstants.CARBON_LRU_CACHE_SEGMENTS_DEFAULT);
+    }
+    segments = new Segment[numberOfSegments];
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = new Segment();
+    }
+  }
+
+  private Segment segmentFor(String key) {
+    int hash = key.hashCode();
+    // spread the higher bits as keys of same table share a long prefix
+    hash ^= (hash >>> 16);
+    return segments[(hash & Integer.MAX_VALUE) % segments.length];
   }
 
   /**
-   * This method will give the list of all the keys that can be deleted from
-   * the level LRU cache
+   * This method will give the list of all the entries that can be deleted from
+   * the level LRU cache. Entries are taken in least recently used order across
+   * the segments, if enough size cannot be freed then no entry is returned.
+   * Lock of all the segments must be held by the caller
    */
   private List<String> getKeysToBeRemoved(long size) {
     List<String> toBeDeletedKeys =
         new ArrayList<String>(CarbonCommonConstants.DEFAULT_COLLECTION_SIZE);
+    List<Iterator<Entry<String, CacheEntry>>> iterators =
+        new ArrayList<Iterator<Entry<String, CacheEntry>>>(segments.length);
+    List<Entry<String, CacheEntry>> heads = new ArrayList<Entry<String, CacheEntry>>();
+    for (Segment segment : segments) {
+      Iterator<Entry<String, CacheEntry>> iterator = segment.map.entrySet().iterator();
+      iterators.add(iterator);
+      heads.add(nextRemovable(iterator));
+    }
     long removedSize = 0;
-    for (Entry<String, Cacheable> entry : lruCacheMap.entrySet()) {
-      String key = entry.getKey();
-      Cacheable cacheInfo = entry.getValue();
-      long memorySize = cacheInfo.getMemorySize();
-      if (canBeRemoved(cacheInfo)) {
-        removedSize = removedSize + memorySize;
-        toBeDeletedKeys.add(key);
-        // check if after removing the current file size, required
-        // size when added to current size is sufficient to load a
-        // level or not
-        if (lruCacheMemorySize >= (currentSize - memorySize + size)) {
-          toBeDeletedKeys.clear();
-          toBeDeletedKeys.add(key);
-          removedSize = memorySize;
-          break;
-        }
-        // check if after removing the added size/removed size,
-        // required size when added to current size is sufficient to
-        // load a level or not
-        else if (lruCacheMemorySize >= (currentSize - removedSize + size)) {
-          break;
+    long usedSize = currentSize.get();
+    while (lruCacheMemorySize < (usedSize - removedSize + size)) {
+      // find the least recently used entry among the head of each segment
+      int oldest = -1;
+      for (int i = 0; i < heads.size(); i++) {
+        Entry<String, CacheEntry> head = heads.get(i);
+        if (null != head && (oldest < 0
+            || head.getValue().lastAccessTime < heads.get(oldest).getValue().lastAccessTime)) {
+          oldest = i;
         }
       }
-    }
-    // this case will come when iteration is complete over the keys but
-    // still size is not sufficient for level file to be loaded, then we
-    // will not delete any of the keys
-    if ((currentSize - removedSize + size) > lruCacheMemorySize) {
-      toBeDeletedKeys.clear();
+      if (oldest < 0) {
+        // this case will come when iteration is complete over the keys but
+        // still size is not sufficient for level file to be loaded, then we
+        // will not delete any of the keys
+        toBeDeletedKeys.clear();
+        break;
+      }
+      Entry<String, CacheEntry> entry = heads.get(oldest);
+      toBeDeletedKeys.add(entry.getKey());
+      removedSize = removedSize + entry.getValue().cacheable.getMemorySize();
+      heads.set(oldest, nextRemovable(iterators.get(oldest)));
     }
     return toBeDeletedKeys;
   }
 
+  /**
+   * @return next entry of the iterator which can be removed, null if none is present
+   */
+  private Entry<String, CacheEntry> nextRemovable(Iterator<Entry<String, CacheEntry>> iterator) {
+    while (iterator.hasNext()) {
+      Entry<String, CacheEntry> entry = iterator.next();
+      if (canBeRemoved(entry.getValue().cacheable)) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
   /**
    * @param cacheInfo
    * @return
@@ -144,22 +205,26 @@ public final class CarbonLRUCache {
    * @param key
    */
   public void remove(String key) {
-    synchronized (lruCacheMap) {
-      removeKey(key);
+    Segment segment = segmentFor(key);
+    segment.lock.lock();
+    try {
+      removeKey(segment, key);
+    } finally {
+      segment.lock.unlock();
     }
   }
 
   /**
-   * This method will remove the key from lru cache
+   * This method will remove the key from lru cache. Lock of the segment must
+   * be held by the caller
    *
    * @param key
    */
-  private void removeKey(String key) {
-    Cacheable cacheable = lruCacheMap.get(key);
-    if (null != cacheable) {
-      currentSize = currentSize - cacheable.getMemorySize();
+  private void removeKey(Segment segment, String key) {
+    CacheEntry cacheEntry = segment.map.remove(key);
+    if (null != cacheEntry) {
+      currentSize.addAndGet(-cacheEntry.cacheable.getMemorySize());
     }
-    lruCacheMap.remove(key);
     LOGGER.info("Removed level entry from InMemory level lru cache :: " + key);
   }
 
@@ -173,61 +238,84 @@ public final class CarbonLRUCache {
   public boolean put(String columnIdentifier, Cacheable cacheInfo, long requiredSize) {
     boolean columnKeyAddedSuccessfully = false;
     if (freeMemorySizeForAddingCache(requiredSize)) {
-      synchronized (lruCacheMap) {
-        currentSize = currentSize + requiredSize;
-        if (null == lruCacheMap.get(columnIdentifier)) {
-          lruCacheMap.put(columnIdentifier, cacheInfo);
+      Segment segment = segmentFor(columnIdentifier);
+      segment.lock.lock();
+      try {
+        CacheEntry cacheEntry = segment.map.get(columnIdentifier);
+        if (null == cacheEntry) {
+          segment.map.put(columnIdentifier,
+              new CacheEntry(cacheInfo, accessClock.incrementAndGet()));
+        } else {
+          // value is already present and required size is the memory added to
+          // it, like the incremental load of dictionary
+          cacheEntry.lastAccessTime = accessClock.incrementAndGet();
         }
         columnKeyAddedSuccessfully = true;
+      } finally {
+        segment.lock.unlock();
       }
       LOGGER.debug("Added level entry to InMemory level lru cache :: " + columnIdentifier);
     } else {
       LOGGER.error("Size not available. Column cannot be added to level lru cache :: "
           + columnIdentifier + " .Required Size = " + requiredSize + " Size available "
-          + (lruCacheMemorySize - currentSize));
+          + (lruCacheMemorySize - currentSize.get()));
     }
     return columnKeyAddedSuccessfully;
   }
 
   /**
    * This method will check a required column can be loaded into memory or not. If required
-   * this method will call for eviction of existing data from memory
+   * this method will call for eviction of existing data from memory. If memory is
+   * available then required size is added to current size
    *
    * @param requiredSize
    * @return
    */
   private boolean freeMemorySizeForAddingCache(long requiredSize) {
-    boolean memoryAvailable = false;
-    if (lruCacheMemorySize > 0) {
-      if (isSizeAvailableToLoadColumnDictionary(requiredSize)) {
-        memoryAvailable = true;
-      } else {
-        synchronized (lruCacheMap) {
-          // get the keys that can be removed from memory
-          List<String> keysToBeRemoved = getKeysToBeRemoved(requiredSize);
-          for (String cacheKey : keysToBeRemoved) {
-            removeKey(cacheKey);
-          }
-          // after removing the keys check again if required size is available
-          if (isSizeAvailableToLoadColumnDictionary(requiredSize)) {
-            memoryAvailable = true;
-          }
-        }
+    if (lruCacheMemorySize <= 0) {
+      currentSize.addAndGet(requiredSize);
+      return true;
+    }
+    if (reserveSize(requiredSize)) {
+      return true;
+    }
+    // eviction is the slow path, so lock all the segments to get a consistent
+    // view for finding the least recently used entries
+    for (Segment segment : segments) {
+      segment.lock.lock();
+    }
+    try {
+      // get the keys that can be removed from memory
+      List<String> keysToBeRemoved = getKeysToBeRemoved(requiredSize);
+      for (String cacheKey : keysToBeRemoved) {
+        removeKey(segmentFor(cacheKey), cacheKey);
+      }
+      evictionCount.addAndGet(keysToBeRemoved.size());
+      // after removing the keys check again if required size is available
+      return reserveSize(requiredSize);
+    } finally {
+      for (int i = segments.length - 1; i >= 0; i--) {
+        segments[i].lock.unlock();
       }
-    } else {
-      memoryAvailable = true;
     }
-    return memoryAvailable;
   }
 
   /**
-   * This method will check if size is available to laod dictionary into memory
+   * This method will add the required size to current size if it is available
    *
    * @param requiredSize
-   * @return
+   * @return true if size is available
    */
-  private boolean isSizeAvailableToLoadColumnDictionary(long requiredSize) {
-    return lruCacheMemorySize >= (currentSize + requiredSize);
+  private boolean reserveSize(long requiredSize) {
+    while (true) {
+      long size = currentSize.get();
+      if (lruCacheMemorySize < (size + requiredSize)) {
+        return false;
+      }
+      if (currentSize.compareAndSet(size, size + requiredSize)) {
+        return true;
+      }
+    }
   }
 
   /**
@@ -235,17 +323,110 @@ public final class CarbonLRUCache {
    * @return
    */
   public Cacheable get(String key) {
-    synchronized (lruCacheMap) {
-      return lruCacheMap.get(key);
+    Segment segment = segmentFor(key);
+    CacheEntry cacheEntry;
+    segment.lock.lock();
+    try {
+      cacheEntry = segment.map.get(key);
+      if (null != cacheEntry) {
+        cacheEntry.lastAccessTime = accessClock.incrementAndGet();
+      }
+    } finally {
+      segment.lock.unlock();
     }
+    if (null == cacheEntry) {
+      missCount.incrementAndGet();
+      return null;
+    }
+    hitCount.incrementAndGet();
+    return cacheEntry.cacheable;
+  }
+
+  /**
+   * This method will be used to record the time taken to load a value added to cache
+   *
+   * @param loadTime time in milliseconds
+   */
+  public void recordLoadTime(long loadTime) {
+    totalLoadTime.addAndGet(loadTime);
+  }
+
+  /**
+   * @return number of lookups for which value was present
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return number of lookups for which value was not present
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * @return number of entries removed to free memory
+   */
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  /**
+   * @return total time in milliseconds taken to load the values added to cache
+   */
+  public long getTotalLoadTime() {
+    return totalLoadTime.get();
+  }
+
+  /**
+   * @return memory size in bytes of the values present in cache
+   */
+  public long getCurrentSize() {
+    return currentSize.get();
   }
 
   /**
    * This method will empty the level cache
    */
   public void clear() {
-    synchronized (lruCacheMap) {
-      lruCacheMap.clear();
+    for (Segment segment : segments) {
+      segment.lock.lock();
+      try {
+        for (CacheEntry cacheEntry : segment.map.values()) {
+          currentSize.addAndGet(-cacheEntry.cacheable.getMemorySize());
+        }
+        segment.map.clear();
+      } finally {
+        segment.lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Part of the cache guarded by its own lock
+   */
+  private static class Segment {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<String, CacheEntry> map =
+        new LinkedHashMap<String, CacheEntry>(CarbonCommonConstants.DEFAULT_COLLECTION_SIZE, 1.0f,
+            true);
+  }
+
+  /**
+   * Value present in cache with its last access time
+   */
+  private static class CacheEntry {
+
+    private final Cacheable cacheable;
+
+    private long lastAccessTime;
+
+    private CacheEntry(Cacheable cacheable, long lastAccessTime) {
+      this.cacheable = cacheable;
+      this.lastAccessTime = lastAccessTime;
     }
   }
 }
@@ -23,6 +23,7 @@ import java.nio.charset.Charset;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.util.CarbonUtil;
@@ -50,23 +51,28 @@ public abstract class AbstractColumnDictionaryInfo implements DictionaryInfo {
   /**
    * file timestamp
    */
-  protected long fileTimeStamp;
+  protected volatile long fileTimeStamp;
 
   /**
    * offset till where file is read
    */
-  protected long offsetTillFileIsRead;
+  protected volatile long offsetTillFileIsRead;
 
   /**
    * length of dictionary metadata file
    */
-  private long dictionaryMetaFileLength;
+  private volatile long dictionaryMetaFileLength;
 
   /**
    * size of one dictionary bucket
    */
   private final int dictionaryOneChunkSize = CarbonUtil.getDictionaryChunkSize();
 
+  /**
+   * lock held while dictionary data is refreshed
+   */
+  private final ReentrantLock refreshLock = new ReentrantLock();
+
   /**
    * This method will return the timestamp of file based on which decision
    * the decision will be taken whether to read that file or not
@@ -133,6 +139,15 @@ public abstract class AbstractColumnDictionaryInfo implements DictionaryInfo {
     this.offsetTillFileIsRead = offsetTillFileIsRead;
   }
 
+  /**
+   * This method will return the end offset till where file is read
+   *
+   * @return offset till file is read
+   */
+  @Override public long getOffsetTillFileIsRead() {
+    return offsetTillFileIsRead;
+  }
+
   /**
    * This method will update the timestamp of a file if a file is modified
    * like in case of incremental load
@@ -226,6 +241,26 @@ public abstract class AbstractColumnDictionaryInfo implements DictionaryInfo {
   @Override public void setSortReverseOrderIndex(List<Integer> sortReverseOrderIndex) {
   }
 
+  /**
+   * This method will merge the dictionary values added after the sort index was set
+   * into the sort index and sort reverse index
+   *
+   * @return true if sort index is merged, false if sort index has to be read from file
+   */
+  @Override public boolean mergeSortIndexOfNewValues() {
+    return false;
+  }
+
+  /**
+   * This method will return the lock which has to be held while dictionary data is
+   * being refreshed
+   *
+   * @return refresh lock
+   */
+  @Override public ReentrantLock getRefreshLock() {
+    return refreshLock;
+  }
+
   /**
    * This method will find and return the dictionary value for a given surrogate key.
    * Applicable scenarios:
@@ -21,6 +21,7 @@ package org.apache.carbondata.core.cache.dictionary;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.carbondata.common.factory.CarbonCommonFactory;
 import org.apache.carbondata.core.cache.Cache;
@@ -190,42 +191,17 @@ public abstract class AbstractDictionaryCache<K extends DictionaryColumnUniqueId
       // if dictionary metadata file is modified then only read the last entry from dictionary
       // meta file
       if (dictionaryMetaFileModified) {
-        synchronized (dictionaryInfo) {
-          carbonFile = getDictionaryMetaCarbonFile(dictionaryColumnUniqueIdentifier);
-          dictionaryMetaFileModified =
-              isDictionaryMetaFileModified(carbonFile, dictionaryInfo.getFileTimeStamp(),
-                  dictionaryInfo.getDictionaryMetaFileLength());
-          // Double Check :
-          // if dictionary metadata file is modified then only read the last entry from dictionary
-          // meta file
-          if (dictionaryMetaFileModified) {
-            CarbonDictionaryColumnMetaChunk carbonDictionaryColumnMetaChunk =
-                readLastChunkFromDictionaryMetadataFile(dictionaryColumnUniqueIdentifier);
-            // required size will be size total size of file - offset till file is
-            // already read
-            long requiredSize =
-                carbonDictionaryColumnMetaChunk.getEnd_offset() - dictionaryInfo.getMemorySize();
-            if (requiredSize > 0) {
-              boolean columnAddedToLRUCache =
-                  carbonLRUCache.put(lruCacheKey, dictionaryInfo, requiredSize);
-              // if column is successfully added to lru cache then only load the
-              // dictionary data
-              if (columnAddedToLRUCache) {
-                // load dictionary data
-                loadDictionaryData(dictionaryInfo, dictionaryColumnUniqueIdentifier,
-                    dictionaryInfo.getMemorySize(), carbonDictionaryColumnMetaChunk.getEnd_offset(),
-                    loadSortIndex);
-                // set the end offset till where file is read
-                dictionaryInfo
-                    .setOffsetTillFileIsRead(carbonDictionaryColumnMetaChunk.getEnd_offset());
-                dictionaryInfo.setFileTimeStamp(carbonFile.getLastModifiedTime());
-                dictionaryInfo.setDictionaryMetaFileLength(carbonFile.getSize());
-              } else {
-                throw new CarbonUtilException(
-                    "Cannot load dictionary into memory. Not enough memory available");
-              }
-            }
-          }
+        // a reader which finds the dictionary file modified may query a segment which uses the
+        // new values, so it always waits for the refresh. Only one thread loads the new data,
+        // other threads find it loaded after getting the lock. In incremental refresh the new
+        // data is published at once, so queries already holding the dictionary are not blocked
+        ReentrantLock refreshLock = dictionaryInfo.getRefreshLock();
+        refreshLock.lock();
+        try {
+          refreshDictionaryData(dictionaryColumnUniqueIdentifier, dictionaryInfo, lruCacheKey,
+              loadSortIndex);
+        } finally {
+          refreshLock.unlock();
         }
       }
       // increment the column access count
@@ -235,6 +211,62 @@ public abstract class AbstractDictionaryCache<K extends DictionaryColumnUniqueId
     }
   }
 
+  /**
+   * This method will load the dictionary data added after the dictionary was last loaded,
+   * it has to be called holding the refresh lock of dictionary
+   *
+   * @param dictionaryColumnUniqueIdentifier unique identifier which contains dbName,
+   *                                         tableName and columnIdentifier
+   * @param dictionaryInfo
+   * @param lruCacheKey
+   * @param loadSortIndex                    read and load sort index file in memory
+   * @throws IOException
+   * @throws CarbonUtilException in case memory is not sufficient to load dictionary into memory
+   */
+  private void refreshDictionaryData(
+      DictionaryColumnUniqueIdentifier dictionaryColumnUniqueIdentifier,
+      DictionaryInfo dictionaryInfo, String lruCacheKey, boolean loadSortIndex)
+      throws IOException, CarbonUtilException {
+    CarbonFile carbonFile = getDictionaryMetaCarbonFile(dictionaryColumnUniqueIdentifier);
+    boolean dictionaryMetaFileModified =
+        isDictionaryMetaFileModified(carbonFile, dictionaryInfo.getFileTimeStamp(),
+            dictionaryInfo.getDictionaryMetaFileLength());
+    // Double Check :
+    // if dictionary metadata file is modified then only read the last entry from dictionary
+    // meta file
+    if (dictionaryMetaFileModified) {
+      CarbonDictionaryColumnMetaChunk carbonDictionaryColumnMetaChunk =
+          readLastChunkFromDictionaryMetadataFile(dictionaryColumnUniqueIdentifier);
+      // required size will be size total size of file - offset till file is
+      // already read
+      long requiredSize = carbonDictionaryColumnMetaChunk.getEnd_offset() - dictionaryInfo
+          .getOffsetTillFileIsRead();
+      if (requiredSize > 0) {
+        boolean columnAddedToLRUCache =
+            carbonLRUCache.put(lruCacheKey, dictionaryInfo, requiredSize);
+        // if column is successfully added to lru cache then only load the
+        // dictionary data
+        if (columnAddedToLRUCache) {
+          long loadStartTime = System.currentTimeMillis();
+          // load dictionary data
+          loadDictionaryData(dictionaryInfo, dictionaryColumnUniqueIdentifier,
+              dictionaryInfo.getOffsetTillFileIsRead(),
+              carbonDictionaryColumnMetaChunk.getEnd_offset(),
+              loadSortIndex);
+          // set the end offset till where file is read
+          dictionaryInfo
+              .setOffsetTillFileIsRead(carbonDictionaryColumnMetaChunk.getEnd_offset());
+          dictionaryInfo.setFileTimeStamp(carbonFile.getLastModifiedTime());
+          dictionaryInfo.setDictionaryMetaFileLength(carbonFile.getSize());
+          carbonLRUCache.recordLoadTime(System.currentTimeMillis() - loadStartTime);
+        } else {
+          throw new CarbonUtilException(
+              "Cannot load dictionary into memory. Not enough memory available");
+        }
+      }
+    }
+  }
+
   /**
    * This method will prepare the lru cache key and return the same
    *
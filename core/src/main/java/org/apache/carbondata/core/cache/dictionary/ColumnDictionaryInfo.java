@@ -21,33 +21,46 @@ package org.apache.carbondata.core.cache.dictionary;
 
 import java.nio.charset.Charset;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.apache.carbondata.core.cache.CarbonLRUCache;
 import org.apache.carbondata.core.carbon.metadata.datatype.DataType;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
-import org.apache.carbondata.core.util.ByteUtil;
 import org.apache.carbondata.core.util.CarbonProperties;
-import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.core.writer.sortindex.CarbonDictionarySortModel;
 
 /**
  * class that implements methods specific for dictionary data look up
  */
 public class ColumnDictionaryInfo extends AbstractColumnDictionaryInfo {
 
+  /**
+   * dictionary values of the column, replaced by a new arena whenever dictionary
+   * values are appended
+   */
+  private AtomicReference<DictionaryArena> arenaReference =
+      new AtomicReference<DictionaryArena>(new DictionaryArena());
+
   /**
    * index after members are sorted
    */
-  private AtomicReference<List<Integer>> sortOrderReference =
-      new AtomicReference<List<Integer>>(new ArrayList<Integer>());
+  private AtomicReference<int[]> sortOrderReference = new AtomicReference<int[]>(new int[0]);
 
   /**
    * inverted index to retrieve the member
    */
-  private AtomicReference<List<Integer>> sortReverseOrderReference =
-      new AtomicReference<List<Integer>>(new ArrayList<Integer>());
+  private AtomicReference<int[]> sortReverseOrderReference =
+      new AtomicReference<int[]>(new int[0]);
+
+  /**
+   * dictionary values converted to the data type of column, created on first
+   * use and recreated when new dictionary chunk is added
+   */
+  private volatile DictionaryValues dictionaryValues;
 
   private DataType dataType;
 
@@ -78,14 +91,14 @@ public class ColumnDictionaryInfo extends AbstractColumnDictionaryInfo {
    * @return if found returns key else 0
    */
   @Override public int getSortedIndex(int surrogateKey) {
-    if (surrogateKey > sortReverseOrderReference.get().size()
-        || surrogateKey < MINIMUM_SURROGATE_KEY) {
+    int[] sortReverseOrder = sortReverseOrderReference.get();
+    if (surrogateKey > sortReverseOrder.length || surrogateKey < MINIMUM_SURROGATE_KEY) {
       return -1;
     }
-    // decrement surrogate key as surrogate key basically means the index in array list
-    // because surrogate key starts from 1 and index of list from 0, so it needs to be
+    // decrement surrogate key as surrogate key basically means the index in array
+    // because surrogate key starts from 1 and index of array from 0, so it needs to be
     // decremented by 1
-    return sortReverseOrderReference.get().get(surrogateKey - 1);
+    return sortReverseOrder[surrogateKey - 1];
   }
 
   /**
@@ -99,64 +112,105 @@ public class ColumnDictionaryInfo extends AbstractColumnDictionaryInfo {
    * @return value if found else null
    */
   @Override public String getDictionaryValueFromSortedIndex(int sortedIndex) {
-    if (sortedIndex > sortReverseOrderReference.get().size()
-        || sortedIndex < MINIMUM_SURROGATE_KEY) {
+    int[] sortOrder = sortOrderReference.get();
+    if (sortedIndex > sortOrder.length || sortedIndex < MINIMUM_SURROGATE_KEY) {
       return null;
     }
-    // decrement surrogate key as surrogate key basically means the index in array list
+    // decrement surrogate key as surrogate key basically means the index in array
     // because surrogate key starts from 1, sort index will start form 1 and index
-    // of list from 0, so it needs to be decremented by 1
-    int surrogateKey = sortOrderReference.get().get(sortedIndex - 1);
+    // of array from 0, so it needs to be decremented by 1
+    int surrogateKey = sortOrder[sortedIndex - 1];
     return getDictionaryValueForKey(surrogateKey);
   }
 
   /**
-   * This method will add a new dictionary chunk to existing list of dictionary chunks
+   * This method will append the values of new dictionary chunk to the dictionary arena and
+   * publish the new arena, readers using the old arena are not affected
    *
    * @param newDictionaryChunk
    */
-  @Override public void addDictionaryChunk(List<byte[]> newDictionaryChunk) {
-    if (dictionaryChunks.size() > 0) {
-      // Ensure that each time a new dictionary chunk is getting added to the
-      // dictionary chunks list, equal distribution of dictionary values should
-      // be there in the sublists of dictionary chunk list
-      List<byte[]> lastDictionaryChunk = dictionaryChunks.get(dictionaryChunks.size() - 1);
-      int dictionaryOneChunkSize = CarbonUtil.getDictionaryChunkSize();
-      int differenceInLastDictionaryAndOneChunkSize =
-          dictionaryOneChunkSize - lastDictionaryChunk.size();
-      if (differenceInLastDictionaryAndOneChunkSize > 0) {
-        // if difference is greater than new dictionary size then copy a part of list
-        // else copy the complete new dictionary chunk list in the last dictionary chunk list
-        if (differenceInLastDictionaryAndOneChunkSize >= newDictionaryChunk.size()) {
-          lastDictionaryChunk.addAll(newDictionaryChunk);
-        } else {
-          List<byte[]> subListOfNewDictionaryChunk =
-              newDictionaryChunk.subList(0, differenceInLastDictionaryAndOneChunkSize);
-          lastDictionaryChunk.addAll(subListOfNewDictionaryChunk);
-          List<byte[]> remainingNewDictionaryChunk = newDictionaryChunk
-              .subList(differenceInLastDictionaryAndOneChunkSize, newDictionaryChunk.size());
-          dictionaryChunks.add(remainingNewDictionaryChunk);
-        }
-      } else {
-        dictionaryChunks.add(newDictionaryChunk);
+  @Override public synchronized void addDictionaryChunk(List<byte[]> newDictionaryChunk) {
+    arenaReference.set(arenaReference.get().append(newDictionaryChunk));
+  }
+
+  /**
+   * The method return the dictionary values of the column
+   * Applications Scenario.
+   * For preparing the column Sort info while writing the sort index file.
+   *
+   * @return
+   */
+  @Override public DictionaryChunksWrapper getDictionaryChunks() {
+    return new DictionaryChunksWrapper(
+        Collections.singletonList(arenaReference.get().asList()));
+  }
+
+  /**
+   * This method will return the dictionary values converted to the data type
+   * of the column, which can be accessed by surrogate key without parsing
+   * the value. Values are kept till new dictionary chunk is added and their
+   * size is added to the size of this column in lru cache, if lru cache does
+   * not have enough memory values are created but not kept
+   * Applicable scenarios:
+   * 1. Query final result preparation : While decoding the surrogate keys of
+   * every row back to original dictionary values
+   *
+   * @param carbonLRUCache lru cache holding this column, null if it is not cached
+   * @param lruCacheKey    key of this column in lru cache
+   * @return dictionary values
+   */
+  public DictionaryValues getDictionaryValues(CarbonLRUCache carbonLRUCache,
+      String lruCacheKey) {
+    DictionaryValues values = dictionaryValues;
+    DictionaryArena arena = arenaReference.get();
+    if (null != values && values.getSize() == arena.getSize() + 1) {
+      return values;
+    }
+    synchronized (this) {
+      values = dictionaryValues;
+      arena = arenaReference.get();
+      if (null != values && values.getSize() == arena.getSize() + 1) {
+        return values;
+      }
+      DictionaryValues newValues =
+          DictionaryValues.create(dataType, Collections.singletonList(arena.asList()));
+      if (null == carbonLRUCache) {
+        return newValues;
       }
-    } else {
-      dictionaryChunks.add(newDictionaryChunk);
+      long oldSize = null == values ? 0 : values.getMemorySize();
+      dictionaryValues = newValues;
+      // put of existing column adds only the required size to the lru cache size
+      if (!carbonLRUCache.put(lruCacheKey, this, newValues.getMemorySize() - oldSize)) {
+        dictionaryValues = values;
+      }
+      return newValues;
     }
   }
 
   /**
-   * This method will return the size of of last dictionary chunk so that only that many
-   * values are read from the dictionary reader
+   * This method will return the memory size of the column, which is the size
+   * of dictionary file read and the size of converted dictionary values
+   *
+   * @return memory size
+   */
+  @Override public long getMemorySize() {
+    DictionaryValues values = dictionaryValues;
+    return super.getMemorySize() + (null == values ? 0 : values.getMemorySize());
+  }
+
+  /**
+   * This method will find and return the dictionary value as byte array for a
+   * given surrogate key
    *
-   * @return size of last dictionary chunk
+   * @param surrogateKey
+   * @return
    */
-  @Override public int getSizeOfLastDictionaryChunk() {
-    int lastDictionaryChunkSize = 0;
-    if (dictionaryChunks.size() > 0) {
-      lastDictionaryChunkSize = dictionaryChunks.get(dictionaryChunks.size() - 1).size();
+  @Override protected byte[] getDictionaryBytesFromSurrogate(int surrogateKey) {
+    DictionaryArena arena = arenaReference.get();
+    if (surrogateKey < MINIMUM_SURROGATE_KEY || surrogateKey > arena.getSize()) {
+      return null;
     }
-    return lastDictionaryChunkSize;
+    return arena.getValue(surrogateKey - 1);
   }
 
   /**
@@ -166,7 +220,7 @@ public class ColumnDictionaryInfo extends AbstractColumnDictionaryInfo {
    * @param sortOrderIndex
    */
   @Override public void setSortOrderIndex(List<Integer> sortOrderIndex) {
-    sortOrderReference.set(sortOrderIndex);
+    sortOrderReference.set(toIntArray(sortOrderIndex));
   }
 
   /**
@@ -176,7 +230,72 @@ public class ColumnDictionaryInfo extends AbstractColumnDictionaryInfo {
    * @param sortReverseOrderIndex
    */
   @Override public void setSortReverseOrderIndex(List<Integer> sortReverseOrderIndex) {
-    sortReverseOrderReference.set(sortReverseOrderIndex);
+    sortReverseOrderReference.set(toIntArray(sortReverseOrderIndex));
+  }
+
+  /**
+   * This method will sort the dictionary values added after the sort index was set and
+   * merge them with the sorted existing values. Values are compared the same way as
+   * while writing the sort index file. Dictionary values are published before the
+   * merged sort index, so readers never find a surrogate key in sort index which is not
+   * present in dictionary values.
+   *
+   * @return true if sort index is merged, false if sort index has to be read from file
+   */
+  @Override public boolean mergeSortIndexOfNewValues() {
+    int[] sortOrder = sortOrderReference.get();
+    DictionaryArena arena = arenaReference.get();
+    int existingSize = sortOrder.length;
+    // sort index should cover all the existing values
+    if (existingSize > arena.getSize()
+        || sortReverseOrderReference.get().length != existingSize) {
+      return false;
+    }
+    if (existingSize == arena.getSize()) {
+      return true;
+    }
+    Charset charset = Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET);
+    CarbonDictionarySortModel[] newValues =
+        new CarbonDictionarySortModel[arena.getSize() - existingSize];
+    for (int i = 0; i < newValues.length; i++) {
+      newValues[i] = new CarbonDictionarySortModel(existingSize + i + 1, dataType,
+          new String(arena.getValue(existingSize + i), charset));
+    }
+    Arrays.sort(newValues);
+    int[] newSortOrder = new int[arena.getSize()];
+    int[] newSortReverseOrder = new int[arena.getSize()];
+    int existingIndex = 0;
+    int newIndex = 0;
+    CarbonDictionarySortModel existingValue = null;
+    for (int i = 0; i < newSortOrder.length; i++) {
+      if (null == existingValue && existingIndex < existingSize) {
+        int surrogateKey = sortOrder[existingIndex];
+        existingValue = new CarbonDictionarySortModel(surrogateKey, dataType,
+            new String(arena.getValue(surrogateKey - 1), charset));
+      }
+      // on equal values existing value is kept first as the sort while writing
+      // sort index file is stable
+      if (newIndex == newValues.length
+          || (null != existingValue && existingValue.compareTo(newValues[newIndex]) <= 0)) {
+        newSortOrder[i] = existingValue.getKey();
+        existingValue = null;
+        existingIndex++;
+      } else {
+        newSortOrder[i] = newValues[newIndex++].getKey();
+      }
+      newSortReverseOrder[newSortOrder[i] - 1] = i + 1;
+    }
+    sortOrderReference.set(newSortOrder);
+    sortReverseOrderReference.set(newSortReverseOrder);
+    return true;
+  }
+
+  private int[] toIntArray(List<Integer> index) {
+    int[] indexArray = new int[index.size()];
+    for (int i = 0; i < indexArray.length; i++) {
+      indexArray[i] = index.get(i);
+    }
+    return indexArray;
   }
 
   /**
@@ -189,19 +308,19 @@ public class ColumnDictionaryInfo extends AbstractColumnDictionaryInfo {
   private int getSurrogateKeyFromDictionaryValue(byte[] key) {
     String filterKey = new String(key, Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET));
     int low = 0;
-    List<Integer> sortedSurrogates = sortOrderReference.get();
-    int high = sortedSurrogates.size() - 1;
+    int[] sortedSurrogates = sortOrderReference.get();
+    DictionaryArena arena = arenaReference.get();
+    int high = sortedSurrogates.length - 1;
     while (low <= high) {
       int mid = (low + high) >>> 1;
-      int surrogateKey = sortedSurrogates.get(mid);
-      byte[] dictionaryValue = getDictionaryBytesFromSurrogate(surrogateKey);
+      int surrogateKey = sortedSurrogates[mid];
       int cmp = -1;
       if (this.getDataType() != DataType.STRING) {
-        cmp = compareFilterKeyWithDictionaryKey(new String(dictionaryValue), filterKey,
-            this.getDataType());
+        cmp = compareFilterKeyWithDictionaryKey(new String(arena.getValue(surrogateKey - 1)),
+            filterKey, this.getDataType());
 
       } else {
-        cmp = ByteUtil.UnsafeComparer.INSTANCE.compareTo(dictionaryValue, key);
+        cmp = arena.compareTo(surrogateKey - 1, key);
       }
       if (cmp < 0) {
         low = mid + 1;
@@ -224,7 +343,8 @@ public class ColumnDictionaryInfo extends AbstractColumnDictionaryInfo {
    */
   public void getIncrementalSurrogateKeyFromDictionary(List<byte[]> byteValuesOfFilterMembers,
       List<Integer> surrogates) {
-    List<Integer> sortedSurrogates = sortOrderReference.get();
+    int[] sortedSurrogates = sortOrderReference.get();
+    DictionaryArena arena = arenaReference.get();
     int low = 0;
     for (byte[] byteValueOfFilterMember : byteValuesOfFilterMembers) {
       String filterKey = new String(byteValueOfFilterMember,
@@ -233,22 +353,20 @@ public class ColumnDictionaryInfo extends AbstractColumnDictionaryInfo {
         surrogates.add(CarbonCommonConstants.MEMBER_DEFAULT_VAL_SURROGATE_KEY);
         continue;
       }
-      int high = sortedSurrogates.size() - 1;
+      int high = sortedSurrogates.length - 1;
       while (low <= high) {
         int mid = (low + high) >>> 1;
-        int surrogateKey = sortedSurrogates.get(mid);
-        byte[] dictionaryValue = getDictionaryBytesFromSurrogate(surrogateKey);
+        int surrogateKey = sortedSurrogates[mid];
         int cmp = -1;
         //fortify fix
-        if (null == dictionaryValue) {
+        if (surrogateKey > arena.getSize()) {
           cmp = -1;
         } else if (this.getDataType() != DataType.STRING) {
-          cmp = compareFilterKeyWithDictionaryKey(new String(dictionaryValue), filterKey,
-              this.getDataType());
+          cmp = compareFilterKeyWithDictionaryKey(new String(arena.getValue(surrogateKey - 1)),
+              filterKey, this.getDataType());
 
         } else {
-          cmp =
-              ByteUtil.UnsafeComparer.INSTANCE.compareTo(dictionaryValue, byteValueOfFilterMember);
+          cmp = arena.compareTo(surrogateKey - 1, byteValueOfFilterMember);
         }
         if (cmp < 0) {
           low = mid + 1;
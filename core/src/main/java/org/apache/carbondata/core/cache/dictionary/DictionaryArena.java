@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.carbondata.core.cache.dictionary;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.carbondata.core.util.ByteUtil;
+
+/**
+ * Holds the dictionary values of a column in one byte array with an offset table, value of
+ * surrogate key n is stored at index n - 1. Instance is immutable for its readers, appending
+ * values returns a new instance which may share the arrays with this one as the existing part of
+ * arrays is never modified. Only the latest instance can be appended, so the appends have to be
+ * done by one thread at a time.
+ */
+public class DictionaryArena {
+
+  /**
+   * all the dictionary values one after another
+   */
+  private final byte[] data;
+
+  /**
+   * start offset of each value in data, offset of value after the last value is the end
+   * offset of last value
+   */
+  private final int[] offsets;
+
+  /**
+   * number of values in this instance
+   */
+  private final int size;
+
+  public DictionaryArena() {
+    this(new byte[0], new int[1], 0);
+  }
+
+  private DictionaryArena(byte[] data, int[] offsets, int size) {
+    this.data = data;
+    this.offsets = offsets;
+    this.size = size;
+  }
+
+  /**
+   * This method will return a new arena holding the values of this arena followed by the given
+   * values
+   *
+   * @param values dictionary values to be appended
+   * @return arena with the appended values
+   */
+  public DictionaryArena append(List<byte[]> values) {
+    int dataLength = offsets[size];
+    int newDataLength = dataLength;
+    for (byte[] value : values) {
+      newDataLength += value.length;
+    }
+    int newSize = size + values.size();
+    // arrays grow to double the size so that appending small chunks is not copying
+    // the complete dictionary every time
+    byte[] newData = data;
+    if (newDataLength > data.length) {
+      newData = Arrays.copyOf(data, Math.max(newDataLength, data.length * 2));
+    }
+    int[] newOffsets = offsets;
+    if (newSize + 1 > offsets.length) {
+      newOffsets = Arrays.copyOf(offsets, Math.max(newSize + 1, offsets.length * 2));
+    }
+    int index = size;
+    for (byte[] value : values) {
+      System.arraycopy(value, 0, newData, dataLength, value.length);
+      dataLength += value.length;
+      newOffsets[++index] = dataLength;
+    }
+    return new DictionaryArena(newData, newOffsets, newSize);
+  }
+
+  /**
+   * @return number of values
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * This method will return a copy of the value at given index
+   *
+   * @param index index of value
+   * @return value as byte array
+   */
+  public byte[] getValue(int index) {
+    return Arrays.copyOfRange(data, offsets[index], offsets[index + 1]);
+  }
+
+  /**
+   * This method will compare the value at given index with the key without copying the value
+   *
+   * @param index index of value
+   * @param key   key to be compared
+   * @return comparison result of value and key
+   */
+  public int compareTo(int index, byte[] key) {
+    return ByteUtil.UnsafeComparer.INSTANCE
+        .compareTo(data, offsets[index], offsets[index + 1] - offsets[index], key, 0, key.length);
+  }
+
+  /**
+   * This method will return the values as a list, values are copied when they are accessed
+   *
+   * @return list of values
+   */
+  public List<byte[]> asList() {
+    return new AbstractList<byte[]>() {
+      @Override public byte[] get(int index) {
+        if (index < 0 || index >= size) {
+          throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return getValue(index);
+      }
+
+      @Override public int size() {
+        return size;
+      }
+    };
+  }
+}
@@ -31,6 +31,7 @@ import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.reader.CarbonDictionaryReader;
 import org.apache.carbondata.core.reader.sortindex.CarbonDictionarySortIndexReader;
 import org.apache.carbondata.core.service.DictionaryService;
+import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.CarbonUtil;
 
 /**
@@ -48,6 +49,11 @@ public class DictionaryCacheLoaderImpl implements DictionaryCacheLoader {
    */
   private String carbonStorePath;
 
+  /**
+   * whether sort index of new dictionary values can be merged in memory
+   */
+  private boolean incrementalRefresh;
+
   /**
    * @param carbonTableIdentifier fully qualified table name
    * @param carbonStorePath       hdfs store path
@@ -56,6 +62,9 @@ public class DictionaryCacheLoaderImpl implements DictionaryCacheLoader {
       String carbonStorePath) {
     this.carbonTableIdentifier = carbonTableIdentifier;
     this.carbonStorePath = carbonStorePath;
+    this.incrementalRefresh = Boolean.parseBoolean(CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.CARBON_DICTIONARY_INCREMENTAL_REFRESH,
+            CarbonCommonConstants.CARBON_DICTIONARY_INCREMENTAL_REFRESH_DEFAULT));
   }
 
   /**
@@ -77,10 +86,18 @@ public class DictionaryCacheLoaderImpl implements DictionaryCacheLoader {
       throws IOException {
     Iterator<byte[]> columnDictionaryChunkWrapper =
         load(columnIdentifier, dictionaryChunkStartOffset, dictionaryChunkEndOffset);
+    // dictionary values are added before sort index so that a sort index is never
+    // published with surrogate keys which are not yet loaded
+    fillDictionaryValuesAndAddToDictionaryChunks(dictionaryInfo, columnDictionaryChunkWrapper);
     if (loadSortIndex) {
-      readSortIndexFile(dictionaryInfo, columnIdentifier);
+      // in incremental refresh only the new values are merged into the sort index
+      // instead of reading complete sort index file again
+      boolean sortIndexMerged = incrementalRefresh && dictionaryChunkStartOffset > 0
+          && dictionaryInfo.mergeSortIndexOfNewValues();
+      if (!sortIndexMerged) {
+        readSortIndexFile(dictionaryInfo, columnIdentifier);
+      }
     }
-    fillDictionaryValuesAndAddToDictionaryChunks(dictionaryInfo, columnDictionaryChunkWrapper);
   }
 
   /**
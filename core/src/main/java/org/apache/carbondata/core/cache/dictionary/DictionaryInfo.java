@@ -20,6 +20,7 @@
 package org.apache.carbondata.core.cache.dictionary;
 
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.carbondata.core.cache.Cacheable;
 
@@ -42,6 +43,14 @@ public interface DictionaryInfo extends Cacheable, Dictionary {
    */
   void setOffsetTillFileIsRead(long offsetTillFileIsRead);
 
+  /**
+   * This method will return the end offset till where file is read, memory size of the
+   * dictionary can be more than it
+   *
+   * @return offset till file is read
+   */
+  long getOffsetTillFileIsRead();
+
   /**
    * This method will update the timestamp of a file if a file is modified
    * like in case of incremental load
@@ -81,6 +90,23 @@ public interface DictionaryInfo extends Cacheable, Dictionary {
    */
   void setSortReverseOrderIndex(List<Integer> sortReverseOrderIndex);
 
+  /**
+   * This method will merge the dictionary values added after the sort index was set
+   * into the sort index and sort reverse index, so that sort index file need not be
+   * read again after an incremental load.
+   *
+   * @return true if sort index is merged, false if sort index has to be read from file
+   */
+  boolean mergeSortIndexOfNewValues();
+
+  /**
+   * This method will return the lock which has to be held while dictionary data is
+   * being refreshed
+   *
+   * @return refresh lock
+   */
+  ReentrantLock getRefreshLock();
+
   /**
    * dictionary metadata file length which will be set whenever we reload dictionary
    * data from disk
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.cache.dictionary;
+
+import java.nio.charset.Charset;
+import java.util.List;
+
+import org.apache.carbondata.core.carbon.metadata.datatype.DataType;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.util.DataTypeUtil;
+
+import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.unsafe.types.UTF8String;
+
+/**
+ * Dictionary values of a column converted to their data type and stored in a
+ * typed array indexed by surrogate key. It is used while decoding the query
+ * result so that the dictionary value is not parsed for every row. It is
+ * kept with the dictionary in the dictionary cache and its memory size is
+ * added to the size of the dictionary
+ */
+public final class DictionaryValues {
+
+  /**
+   * approximate size of a decimal or string object including its reference
+   */
+  private static final int OBJECT_SIZE = 48;
+
+  /**
+   * data type of the values
+   */
+  private DataType dataType;
+
+  /**
+   * number of values including the surrogate key 0 which is not used
+   */
+  private int size;
+
+  /**
+   * whether the value of surrogate key is null
+   */
+  private boolean[] nullValues;
+
+  private int[] intValues;
+
+  private short[] shortValues;
+
+  /**
+   * values of long and timestamp columns, timestamp is stored in micro seconds
+   */
+  private long[] longValues;
+
+  private double[] doubleValues;
+
+  /**
+   * values of decimal column, spark decimal is mutable so a copy is given to
+   * the consumer of the value
+   */
+  private Decimal[] decimalValues;
+
+  /**
+   * values of string and all other data types
+   */
+  private UTF8String[] stringValues;
+
+  /**
+   * approximate memory size of the values in bytes
+   */
+  private long memorySize;
+
+  private DictionaryValues(DataType dataType, int size) {
+    this.dataType = dataType;
+    this.size = size;
+    this.nullValues = new boolean[size];
+    this.memorySize = size;
+    switch (dataType) {
+      case INT:
+        intValues = new int[size];
+        memorySize += size * 4L;
+        break;
+      case SHORT:
+        shortValues = new short[size];
+        memorySize += size * 2L;
+        break;
+      case LONG:
+      case TIMESTAMP:
+        longValues = new long[size];
+        memorySize += size * 8L;
+        break;
+      case DOUBLE:
+        doubleValues = new double[size];
+        memorySize += size * 8L;
+        break;
+      case DECIMAL:
+        decimalValues = new Decimal[size];
+        break;
+      default:
+        stringValues = new UTF8String[size];
+    }
+    if (null != decimalValues || null != stringValues) {
+      memorySize += size * 8L;
+    }
+  }
+
+  /**
+   * Below method will be used to convert the dictionary values of a column to
+   * the data type of the column
+   *
+   * @param dataType         data type of the column
+   * @param dictionaryChunks dictionary values of the column
+   * @return dictionary values
+   */
+  public static DictionaryValues create(DataType dataType, List<List<byte[]>> dictionaryChunks) {
+    int numberOfValues = 0;
+    for (List<byte[]> dictionaryChunk : dictionaryChunks) {
+      numberOfValues += dictionaryChunk.size();
+    }
+    // surrogate key starts from 1, so index 0 is kept as null
+    DictionaryValues dictionaryValues = new DictionaryValues(dataType, numberOfValues + 1);
+    dictionaryValues.nullValues[0] = true;
+    int surrogateKey = 1;
+    for (List<byte[]> dictionaryChunk : dictionaryChunks) {
+      for (int i = 0; i < dictionaryChunk.size() && surrogateKey <= numberOfValues; i++) {
+        dictionaryValues.setValue(surrogateKey++, dictionaryChunk.get(i));
+      }
+    }
+    return dictionaryValues;
+  }
+
+  private void setValue(int surrogateKey, byte[] dictionaryValue) {
+    Object value = null;
+    if (null != dictionaryValue) {
+      value = DataTypeUtil.getDataBasedOnDataType(
+          new String(dictionaryValue, Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET)),
+          dataType);
+    }
+    if (null == value) {
+      nullValues[surrogateKey] = true;
+      return;
+    }
+    switch (dataType) {
+      case INT:
+        intValues[surrogateKey] = (Integer) value;
+        break;
+      case SHORT:
+        shortValues[surrogateKey] = (Short) value;
+        break;
+      case LONG:
+      case TIMESTAMP:
+        longValues[surrogateKey] = (Long) value;
+        break;
+      case DOUBLE:
+        doubleValues[surrogateKey] = (Double) value;
+        break;
+      case DECIMAL:
+        decimalValues[surrogateKey] = (Decimal) value;
+        memorySize += OBJECT_SIZE;
+        break;
+      default:
+        stringValues[surrogateKey] = (UTF8String) value;
+        memorySize += OBJECT_SIZE + stringValues[surrogateKey].numBytes();
+    }
+  }
+
+  /**
+   * @return data type of the values
+   */
+  public DataType getDataType() {
+    return dataType;
+  }
+
+  /**
+   * @return number of values including the unused surrogate key 0
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * @return approximate memory size of the values in bytes
+   */
+  public long getMemorySize() {
+    return memorySize;
+  }
+
+  /**
+   * @param surrogateKey surrogate key
+   * @return true if value is null or surrogate key is not present
+   */
+  public boolean isNull(int surrogateKey) {
+    return surrogateKey < 0 || surrogateKey >= size || nullValues[surrogateKey];
+  }
+
+  public int getInt(int surrogateKey) {
+    return intValues[surrogateKey];
+  }
+
+  public short getShort(int surrogateKey) {
+    return shortValues[surrogateKey];
+  }
+
+  public long getLong(int surrogateKey) {
+    return longValues[surrogateKey];
+  }
+
+  public double getDouble(int surrogateKey) {
+    return doubleValues[surrogateKey];
+  }
+
+  /**
+   * @param surrogateKey surrogate key
+   * @return new decimal instance of the value, which the caller can modify
+   */
+  public Decimal getDecimal(int surrogateKey) {
+    return decimalValues[surrogateKey].clone();
+  }
+
+  public UTF8String getUTF8String(int surrogateKey) {
+    return stringValues[surrogateKey];
+  }
+}
@@ -23,6 +23,7 @@ import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.carbondata.core.cache.CarbonLRUCache;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 
 /**
@@ -35,6 +36,13 @@ public class ForwardDictionary implements Dictionary {
    */
   private ColumnDictionaryInfo columnDictionaryInfo;
 
+  /**
+   * lru cache holding the column, size of dictionary values is added to it
+   */
+  private CarbonLRUCache carbonLRUCache;
+
+  private String lruCacheKey;
+
   /**
    * @param columnDictionaryInfo
    */
@@ -42,6 +50,18 @@ public class ForwardDictionary implements Dictionary {
     this.columnDictionaryInfo = columnDictionaryInfo;
   }
 
+  /**
+   * @param columnDictionaryInfo
+   * @param carbonLRUCache       lru cache holding the column
+   * @param lruCacheKey          key of the column in lru cache
+   */
+  public ForwardDictionary(ColumnDictionaryInfo columnDictionaryInfo,
+      CarbonLRUCache carbonLRUCache, String lruCacheKey) {
+    this.columnDictionaryInfo = columnDictionaryInfo;
+    this.carbonLRUCache = carbonLRUCache;
+    this.lruCacheKey = lruCacheKey;
+  }
+
   /**
    * This method will find and return the surrogate key for a given dictionary value
    * Applicable scenario:
@@ -83,6 +103,18 @@ public class ForwardDictionary implements Dictionary {
     return columnDictionaryInfo.getDictionaryValueForKey(surrogateKey);
   }
 
+  /**
+   * This method will return the dictionary values converted to the data type
+   * of the column, indexed by surrogate key. Values are created once and
+   * shared by all the queries on the column, they are not cached if dictionary
+   * is not from lru cache
+   *
+   * @return dictionary values
+   */
+  public DictionaryValues getDictionaryValues() {
+    return columnDictionaryInfo.getDictionaryValues(carbonLRUCache, lruCacheKey);
+  }
+
   /**
    * This method will find and return the sort index for a given dictionary id.
    * Applicable scenarios:
@@ -130,11 +130,13 @@ public class ForwardDictionaryCache<K extends DictionaryColumnUniqueIdentifier,
   @Override public Dictionary getIfPresent(
       DictionaryColumnUniqueIdentifier dictionaryColumnUniqueIdentifier) {
     Dictionary forwardDictionary = null;
-    ColumnDictionaryInfo columnDictionaryInfo = (ColumnDictionaryInfo) carbonLRUCache.get(
+    String lruCacheKey =
         getLruCacheKey(dictionaryColumnUniqueIdentifier.getColumnIdentifier().getColumnId(),
-            CacheType.FORWARD_DICTIONARY));
+            CacheType.FORWARD_DICTIONARY);
+    ColumnDictionaryInfo columnDictionaryInfo =
+        (ColumnDictionaryInfo) carbonLRUCache.get(lruCacheKey);
     if (null != columnDictionaryInfo) {
-      forwardDictionary = new ForwardDictionary(columnDictionaryInfo);
+      forwardDictionary = new ForwardDictionary(columnDictionaryInfo, carbonLRUCache, lruCacheKey);
       incrementDictionaryAccessCount(columnDictionaryInfo);
     }
     return forwardDictionary;
@@ -176,11 +178,11 @@ public class ForwardDictionaryCache<K extends DictionaryColumnUniqueIdentifier,
     String columnIdentifier = dictionaryColumnUniqueIdentifier.getColumnIdentifier().getColumnId();
     ColumnDictionaryInfo columnDictionaryInfo =
         getColumnDictionaryInfo(dictionaryColumnUniqueIdentifier, columnIdentifier);
+    String lruCacheKey = getLruCacheKey(columnIdentifier, CacheType.FORWARD_DICTIONARY);
     // load sort index file in case of forward dictionary
     checkAndLoadDictionaryData(dictionaryColumnUniqueIdentifier, columnDictionaryInfo,
-        getLruCacheKey(dictionaryColumnUniqueIdentifier.getColumnIdentifier().getColumnId(),
-            CacheType.FORWARD_DICTIONARY), true);
-    forwardDictionary = new ForwardDictionary(columnDictionaryInfo);
+        lruCacheKey, true);
+    forwardDictionary = new ForwardDictionary(columnDictionaryInfo, carbonLRUCache, lruCacheKey);
     return forwardDictionary;
   }
 
@@ -29,8 +29,14 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.apache.carbondata.common.logging.LogService;
+import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.cache.CarbonLRUCache;
 import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
 import org.apache.carbondata.core.carbon.datastore.block.AbstractIndex;
 import org.apache.carbondata.core.carbon.datastore.block.BlockIndex;
@@ -41,23 +47,30 @@ import org.apache.carbondata.core.carbon.metadata.blocklet.DataFileFooter;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.CarbonUtil;
-import org.apache.carbondata.core.util.CarbonUtilException;
 
 /**
  * Singleton Class to handle loading, unloading,clearing,storing of the table
- * blocks
+ * blocks. Loaded blocks are kept in a size accounted lru cache, so blocks
+ * which are not used by any query can be evicted when configured executor
+ * cache size is reached
  */
 public class BlockIndexStore {
 
+  /**
+   * Attribute for Carbon LOGGER
+   */
+  private static final LogService LOGGER =
+      LogServiceFactory.getLogService(BlockIndexStore.class.getName());
+
   /**
    * singleton instance
    */
   private static final BlockIndexStore CARBONTABLEBLOCKSINSTANCE = new BlockIndexStore();
 
   /**
-   * map to hold the table and its list of blocks
+   * lru cache which holds the loaded blocks of all the tables
    */
-  private Map<AbsoluteTableIdentifier, Map<BlockInfo, AbstractIndex>> tableBlocksMap;
+  private CarbonLRUCache lruCache;
 
   /**
    * map to maintain segment id to block info map, this map will be used to
@@ -66,35 +79,64 @@ public class BlockIndexStore {
   private Map<AbsoluteTableIdentifier, Map<String, List<BlockInfo>>> segmentIdToBlockListMap;
 
   /**
-   * map of block info to lock object map, while loading the btree this will be filled
-   * and removed after loading the tree for that particular block info, this will be useful
-   * while loading the tree concurrently so only block level lock will be applied another
-   * block can be loaded concurrently
+   * table and its lock object to this will be useful in case of concurrent
+   * query scenario when more than one query comes for same table
    */
-  private Map<BlockInfo, Object> blockInfoLock;
+  private Map<AbsoluteTableIdentifier, Object> tableLockMap;
 
   /**
-   * table and its lock object to this will be useful in case of concurrent
-   * query scenario when more than one query comes for same table and in that
-   * case it will ensure that only one query will able to load the blocks
+   * lru cache key to future of the block which is being loaded, useful when
+   * same block is requested by multiple queries concurrently so that it is
+   * loaded only once. Entry is removed once block is loaded
    */
-  private Map<AbsoluteTableIdentifier, Object> tableLockMap;
+  private Map<String, Future<AbstractIndex>> mapOfBlockKeyToFuture;
 
   /**
-   * block info to future task mapping
-   * useful when blocklet distribution is enabled and
-   * same block is loaded by multiple thread
+   * executor service shared by all the queries to load the blocks
    */
-  private Map<BlockInfo, Future<AbstractIndex>> mapOfBlockInfoToFuture;
+  private ExecutorService blockLoaderService;
+
+  /**
+   * number of blocks loaded
+   */
+  private AtomicLong loadCount = new AtomicLong();
 
   private BlockIndexStore() {
-    tableBlocksMap = new ConcurrentHashMap<AbsoluteTableIdentifier, Map<BlockInfo, AbstractIndex>>(
-        CarbonCommonConstants.DEFAULT_COLLECTION_SIZE);
+    lruCache = new CarbonLRUCache(CarbonCommonConstants.CARBON_MAX_EXECUTOR_LRU_CACHE_SIZE,
+        CarbonCommonConstants.CARBON_MAX_EXECUTOR_LRU_CACHE_SIZE_DEFAULT);
     tableLockMap = new ConcurrentHashMap<AbsoluteTableIdentifier, Object>(
         CarbonCommonConstants.DEFAULT_COLLECTION_SIZE);
-    blockInfoLock = new ConcurrentHashMap<BlockInfo, Object>();
     segmentIdToBlockListMap = new ConcurrentHashMap<>();
-    mapOfBlockInfoToFuture = new ConcurrentHashMap<>();
+    mapOfBlockKeyToFuture = new ConcurrentHashMap<>();
+    blockLoaderService = Executors.newFixedThreadPool(getNumberOfLoaderThreads(),
+        new ThreadFactory() {
+          private final AtomicInteger threadNumber = new AtomicInteger();
+
+          @Override public Thread newThread(Runnable runnable) {
+            Thread thread =
+                new Thread(runnable, "BlockIndexStore-loader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+  }
+
+  /**
+   * @return number of threads to be used for loading the blocks
+   */
+  private static int getNumberOfLoaderThreads() {
+    int numberOfCores;
+    try {
+      numberOfCores = Integer.parseInt(CarbonProperties.getInstance()
+          .getProperty(CarbonCommonConstants.NUM_CORES,
+              CarbonCommonConstants.NUM_CORES_DEFAULT_VAL));
+    } catch (NumberFormatException e) {
+      numberOfCores = Integer.parseInt(CarbonCommonConstants.NUM_CORES_DEFAULT_VAL);
+    }
+    if (numberOfCores <= 0) {
+      numberOfCores = Integer.parseInt(CarbonCommonConstants.NUM_CORES_DEFAULT_VAL);
+    }
+    return numberOfCores;
   }
 
   /**
@@ -110,6 +152,9 @@ public class BlockIndexStore {
    * below method will be used to load the block which are not loaded and to
    * get the loaded blocks if all the blocks which are passed is loaded then
    * it will not load , else it will load.
+   * Access count of the returned blocks is incremented so they will not be
+   * evicted, caller has to call {@link #clearAccessCount(List)} once the
+   * blocks are no longer used
    *
    * @param tableBlocksInfos        list of blocks to be loaded
    * @param absoluteTableIdentifier absolute Table Identifier to identify the table
@@ -122,90 +167,72 @@ public class BlockIndexStore {
 
     // get the instance
     Object lockObject = tableLockMap.get(absoluteTableIdentifier);
-    Map<BlockInfo, AbstractIndex> tableBlockMapTemp = null;
-    int numberOfCores = 1;
-    try {
-      numberOfCores = Integer.parseInt(CarbonProperties.getInstance()
-          .getProperty(CarbonCommonConstants.NUM_CORES,
-              CarbonCommonConstants.NUM_CORES_DEFAULT_VAL));
-    } catch (NumberFormatException e) {
-      numberOfCores = Integer.parseInt(CarbonCommonConstants.NUM_CORES_DEFAULT_VAL);
-    }
-    ExecutorService executor = Executors.newFixedThreadPool(numberOfCores);
-    // Acquire the lock to ensure only one query is loading the table blocks
-    // if same block is assigned to both the queries
     List<BlockInfo> blockInfosNeedToLoad = null;
     synchronized (lockObject) {
-      tableBlockMapTemp = tableBlocksMap.get(absoluteTableIdentifier);
-      // if it is loading for first time
-      if (null == tableBlockMapTemp) {
-        tableBlockMapTemp = new ConcurrentHashMap<BlockInfo, AbstractIndex>();
-        tableBlocksMap.put(absoluteTableIdentifier, tableBlockMapTemp);
-      }
       blockInfosNeedToLoad = fillSegmentIdToTableInfoMap(tableBlocksInfos, absoluteTableIdentifier);
     }
+    List<Future<AbstractIndex>> blockFutures =
+        new ArrayList<Future<AbstractIndex>>(blockInfosNeedToLoad.size());
     AbstractIndex tableBlock = null;
-    int counter = -1;
-    for (BlockInfo blockInfo : blockInfosNeedToLoad) {
-      counter++;
-      // if table block is already loaded then do not load
-      // that block
-      tableBlock = tableBlockMapTemp.get(blockInfo);
-      // if block is not loaded
-      if (null == tableBlock) {
-        // check any lock object is present in
-        // block info lock map
-        Object blockInfoLockObject = blockInfoLock.get(blockInfo);
-        // if lock object is not present then acquire
-        // the lock in block info lock and add a lock object in the map for
-        // particular block info, added double checking mechanism to add the lock
-        // object so in case of concurrent query we for same block info only one lock
-        // object will be added
-        if (null == blockInfoLockObject) {
-          synchronized (blockInfoLock) {
-            // again checking the block info lock, to check whether lock object is present
-            // or not if now also not present then add a lock object
-            blockInfoLockObject = blockInfoLock.get(blockInfo);
-            if (null == blockInfoLockObject) {
-              blockInfoLockObject = new Object();
-              blockInfoLock.put(blockInfo, blockInfoLockObject);
-            }
-          }
-        }
-        //acquire the lock for particular block info
-        synchronized (blockInfoLockObject) {
-          // check again whether block is present or not to avoid the
-          // same block is loaded
-          //more than once in case of concurrent query
-          tableBlock = tableBlockMapTemp.get(blockInfo);
-          // if still block is not present then load the block
-          if (null == tableBlock) {
-            if (null == mapOfBlockInfoToFuture.get(blockInfo)) {
-              mapOfBlockInfoToFuture.put(blockInfo, executor
-                  .submit(new BlockLoaderThread(blockInfo, tableBlockMapTemp)));
-            }
-          } else {
-            loadedBlock[counter] = tableBlock;
-          }
-        }
-      } else {
+    for (int i = 0; i < blockInfosNeedToLoad.size(); i++) {
+      BlockInfo blockInfo = blockInfosNeedToLoad.get(i);
+      String lruCacheKey = getLruCacheKey(absoluteTableIdentifier, blockInfo);
+      tableBlock = (AbstractIndex) lruCache.get(lruCacheKey);
+      if (null != tableBlock) {
         // if blocks is already loaded then directly set the block at particular position
         //so block will be present in sorted order
-        loadedBlock[counter] = tableBlock;
+        tableBlock.incrementAccessCount();
+        loadedBlock[i] = tableBlock;
+        blockFutures.add(null);
+      } else {
+        blockFutures.add(submitBlockLoader(lruCacheKey, blockInfo));
       }
     }
-    // shutdown the executor gracefully and wait until all the task is finished
-    executor.shutdown();
-    try {
-      executor.awaitTermination(1, TimeUnit.HOURS);
-    } catch (InterruptedException e) {
-      throw new IndexBuilderException(e);
-    }
     // fill the block which were not loaded before to loaded blocks array
-    fillLoadedBlocks(loadedBlock, blockInfosNeedToLoad);
+    fillLoadedBlocks(loadedBlock, blockFutures);
     return Arrays.asList(loadedBlock);
   }
 
+  /**
+   * Below method will be used to submit the block for loading, if same block
+   * is already being loaded by other query then its future will be returned
+   *
+   * @param lruCacheKey key of the block in lru cache
+   * @param blockInfo   block to be loaded
+   * @return future of the loaded block
+   */
+  private Future<AbstractIndex> submitBlockLoader(String lruCacheKey, BlockInfo blockInfo) {
+    Future<AbstractIndex> future = mapOfBlockKeyToFuture.get(lruCacheKey);
+    if (null != future) {
+      return future;
+    }
+    FutureTask<AbstractIndex> task =
+        new FutureTask<AbstractIndex>(new BlockLoaderThread(lruCacheKey, blockInfo));
+    synchronized (mapOfBlockKeyToFuture) {
+      future = mapOfBlockKeyToFuture.get(lruCacheKey);
+      if (null != future) {
+        return future;
+      }
+      // loader adds the block to cache before removing its future, so block
+      // loaded after it was looked up in cache will be found here and it is
+      // not loaded again
+      final AbstractIndex tableBlock = (AbstractIndex) lruCache.get(lruCacheKey);
+      if (null != tableBlock) {
+        FutureTask<AbstractIndex> loadedTask =
+            new FutureTask<AbstractIndex>(new Callable<AbstractIndex>() {
+              @Override public AbstractIndex call() {
+                return tableBlock;
+              }
+            });
+        loadedTask.run();
+        return loadedTask;
+      }
+      mapOfBlockKeyToFuture.put(lruCacheKey, task);
+    }
+    blockLoaderService.execute(task);
+    return task;
+  }
+
   /**
    * Below method will be used to fill segment id to its block mapping map.
    * it will group all the table block info based on segment id and it will fill
@@ -243,25 +270,37 @@ public class BlockIndexStore {
    * which will be used for query execution
    *
    * @param loadedBlockArray array of blocks which will be filled
-   * @param blocksList       blocks loaded in thread
+   * @param blockFutures     futures of the blocks loaded in thread, null
+   *                         for the blocks which were already loaded
    * @throws IndexBuilderException in case of any failure
    */
-  private void fillLoadedBlocks(AbstractIndex[] loadedBlockArray, List<BlockInfo> blockInfos)
-      throws IndexBuilderException {
+  private void fillLoadedBlocks(AbstractIndex[] loadedBlockArray,
+      List<Future<AbstractIndex>> blockFutures) throws IndexBuilderException {
     for (int i = 0; i < loadedBlockArray.length; i++) {
       if (null == loadedBlockArray[i]) {
         try {
-          loadedBlockArray[i] = mapOfBlockInfoToFuture.get(blockInfos.get(i)).get();
+          loadedBlockArray[i] = blockFutures.get(i).get();
+          loadedBlockArray[i].incrementAccessCount();
         } catch (InterruptedException | ExecutionException e) {
+          // release the blocks acquired so far as query will not use them
+          clearAccessCount(Arrays.asList(loadedBlockArray));
           throw new IndexBuilderException(e);
         }
       }
-
     }
   }
 
-  private AbstractIndex loadBlock(Map<BlockInfo, AbstractIndex> tableBlockMapTemp,
-      BlockInfo blockInfo) throws CarbonUtilException {
+  /**
+   * Below method will be used to load the block and add it to lru cache
+   *
+   * @param lruCacheKey key of the block in lru cache
+   * @param blockInfo   block to be loaded
+   * @return loaded block
+   * @throws Exception in case of any failure while reading footer or if
+   *                   memory is not sufficient to keep the block in cache
+   */
+  private AbstractIndex loadBlock(String lruCacheKey, BlockInfo blockInfo) throws Exception {
+    long startTime = System.currentTimeMillis();
     AbstractIndex tableBlock;
     DataFileFooter footer;
     // getting the data file meta data of the block
@@ -272,13 +311,33 @@ public class BlockIndexStore {
     footer.setBlockInfo(blockInfo);
     // building the block
     tableBlock.buildIndex(Arrays.asList(footer));
-    tableBlockMapTemp.put(blockInfo, tableBlock);
-    // finally remove the lock object from block info lock as once block is loaded
-    // it will not come inside this if condition
-    blockInfoLock.remove(blockInfo);
+    lruCache.recordLoadTime(System.currentTimeMillis() - startTime);
+    loadCount.incrementAndGet();
+    if (!lruCache.put(lruCacheKey, tableBlock, tableBlock.getMemorySize())) {
+      throw new IndexBuilderException(
+          "Cannot load block index into memory. Not enough memory available");
+    }
     return tableBlock;
   }
 
+  /**
+   * Below method will be used to get the key of the block in lru cache
+   *
+   * @param absoluteTableIdentifier absolute table identifier
+   * @param blockInfo               block info
+   * @return lru cache key
+   */
+  private String getLruCacheKey(AbsoluteTableIdentifier absoluteTableIdentifier,
+      BlockInfo blockInfo) {
+    TableBlockInfo tableBlockInfo = blockInfo.getTableBlockInfo();
+    return absoluteTableIdentifier.getStorePath() + CarbonCommonConstants.FILE_SEPARATOR
+        + absoluteTableIdentifier.getCarbonTableIdentifier().getTableUniqueName()
+        + CarbonCommonConstants.UNDERSCORE + tableBlockInfo.getSegmentId()
+        + CarbonCommonConstants.UNDERSCORE + tableBlockInfo.getFilePath()
+        + CarbonCommonConstants.UNDERSCORE + tableBlockInfo.getBlockOffset()
+        + CarbonCommonConstants.UNDERSCORE + tableBlockInfo.getBlockLength();
+  }
+
   /**
    * Method to add table level lock if lock is not present for the table
    *
@@ -291,6 +350,24 @@ public class BlockIndexStore {
     }
   }
 
+  /**
+   * Below method will be used to decrement the access count of the blocks
+   * once query has finished using them, so that they can be evicted from
+   * lru cache
+   *
+   * @param blocks blocks returned by {@link #loadAndGetBlocks(List, AbsoluteTableIdentifier)}
+   */
+  public void clearAccessCount(List<AbstractIndex> blocks) {
+    if (null == blocks) {
+      return;
+    }
+    for (AbstractIndex block : blocks) {
+      if (null != block) {
+        block.decrementAccessCount();
+      }
+    }
+  }
+
   /**
    * This will be used to remove a particular blocks useful in case of
    * deletion of some of the blocks in case of retention or may be some other
@@ -308,11 +385,6 @@ public class BlockIndexStore {
     if (null == lockObject) {
       return;
     }
-    Map<BlockInfo, AbstractIndex> map = tableBlocksMap.get(absoluteTableIdentifier);
-    // if there is no loaded blocks then return
-    if (null == map || map.isEmpty()) {
-      return;
-    }
     Map<String, List<BlockInfo>> segmentIdToBlockInfoMap =
         segmentIdToBlockListMap.get(absoluteTableIdentifier);
     if (null == segmentIdToBlockInfoMap || segmentIdToBlockInfoMap.isEmpty()) {
@@ -327,7 +399,7 @@ public class BlockIndexStore {
         Iterator<BlockInfo> tableBlockInfoIterator = tableBlockInfoList.iterator();
         while (tableBlockInfoIterator.hasNext()) {
           BlockInfo info = tableBlockInfoIterator.next();
-          map.remove(info);
+          lruCache.remove(getLruCacheKey(absoluteTableIdentifier, info));
         }
       }
     }
@@ -341,7 +413,58 @@ public class BlockIndexStore {
   public void clear(AbsoluteTableIdentifier absoluteTableIdentifier) {
     // removing all the details of table
     tableLockMap.remove(absoluteTableIdentifier);
-    tableBlocksMap.remove(absoluteTableIdentifier);
+    Map<String, List<BlockInfo>> segmentIdToBlockInfoMap =
+        segmentIdToBlockListMap.remove(absoluteTableIdentifier);
+    if (null == segmentIdToBlockInfoMap) {
+      return;
+    }
+    for (List<BlockInfo> tableBlockInfoList : segmentIdToBlockInfoMap.values()) {
+      for (BlockInfo info : tableBlockInfoList) {
+        lruCache.remove(getLruCacheKey(absoluteTableIdentifier, info));
+      }
+    }
+  }
+
+  /**
+   * @return number of block lookups for which block was already loaded
+   */
+  public long getHitCount() {
+    return lruCache.getHitCount();
+  }
+
+  /**
+   * @return number of block lookups for which block was not loaded
+   */
+  public long getMissCount() {
+    return lruCache.getMissCount();
+  }
+
+  /**
+   * @return number of blocks loaded
+   */
+  public long getLoadCount() {
+    return loadCount.get();
+  }
+
+  /**
+   * @return total time in milliseconds taken to load the blocks
+   */
+  public long getTotalLoadTime() {
+    return lruCache.getTotalLoadTime();
+  }
+
+  /**
+   * @return number of blocks evicted to free memory
+   */
+  public long getEvictionCount() {
+    return lruCache.getEvictionCount();
+  }
+
+  /**
+   * @return approximate memory size in bytes of the loaded blocks
+   */
+  public long getMemorySize() {
+    return lruCache.getCurrentSize();
   }
 
   /**
@@ -349,21 +472,31 @@ public class BlockIndexStore {
    */
   private class BlockLoaderThread implements Callable<AbstractIndex> {
     /**
-     * table block info to block index map
+     * key of the block in lru cache
      */
-    private Map<BlockInfo, AbstractIndex> tableBlockMap;
+    private String lruCacheKey;
 
     // block info
     private BlockInfo blockInfo;
 
-    private BlockLoaderThread(BlockInfo blockInfo, Map<BlockInfo, AbstractIndex> tableBlockMap) {
-      this.tableBlockMap = tableBlockMap;
+    private BlockLoaderThread(String lruCacheKey, BlockInfo blockInfo) {
+      this.lruCacheKey = lruCacheKey;
       this.blockInfo = blockInfo;
     }
 
     @Override public AbstractIndex call() throws Exception {
-      // load and return the loaded blocks
-      return loadBlock(tableBlockMap, blockInfo);
+      try {
+        // load and return the loaded blocks
+        return loadBlock(lruCacheKey, blockInfo);
+      } catch (Exception e) {
+        LOGGER.error(e, "Problem while loading the block " + blockInfo.getTableBlockInfo()
+            .getFilePath());
+        throw e;
+      } finally {
+        // once block is added to cache, later queries will get it from
+        // cache, so future is not required anymore
+        mapOfBlockKeyToFuture.remove(lruCacheKey);
+      }
     }
   }
 }
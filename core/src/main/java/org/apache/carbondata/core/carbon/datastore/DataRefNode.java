@@ -20,7 +20,9 @@ package org.apache.carbondata.core.carbon.datastore;
 
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionColumnDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.MeasureColumnDataChunk;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
 import org.apache.carbondata.core.datastorage.store.FileHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBufferPool;
 
 /**
  * Interface data block reference
@@ -67,39 +69,56 @@ public interface DataRefNode {
    */
   byte[][] getColumnsMinValue();
 
+  /**
+   * This method will be used to get the bloom filter of the columns this can
+   * be used in case of filter query
+   *
+   * @return bloom filter of the columns indexed by block index, null or null
+   * element if bloom filter is not present
+   */
+  BlockletBloomFilter[] getColumnsBloomFilter();
+
   /**
    * Below method will be used to get the dimension chunks
    *
    * @param fileReader   file reader to read the chunks from file
    * @param blockIndexes indexes of the blocks need to be read
+   * @param bufferPool   buffers to uncompress the pages, null to allocate new arrays
    * @return dimension data chunks
    */
-  DimensionColumnDataChunk[] getDimensionChunks(FileHolder fileReader, int[] blockIndexes);
+  DimensionColumnDataChunk[] getDimensionChunks(FileHolder fileReader, int[] blockIndexes,
+      ColumnPageBufferPool bufferPool);
 
   /**
    * Below method will be used to get the dimension chunk
    *
    * @param fileReader file reader to read the chunk from file
    * @param blockIndex block index to be read
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
    * @return dimension data chunk
    */
-  DimensionColumnDataChunk getDimensionChunk(FileHolder fileReader, int blockIndexes);
+  DimensionColumnDataChunk getDimensionChunk(FileHolder fileReader, int blockIndexes,
+      ColumnPageBufferPool bufferPool);
 
   /**
    * Below method will be used to get the measure chunk
    *
    * @param fileReader   file reader to read the chunk from file
    * @param blockIndexes block indexes to be read from file
+   * @param bufferPool   buffers to uncompress the pages, null to allocate new arrays
    * @return measure column data chunk
    */
-  MeasureColumnDataChunk[] getMeasureChunks(FileHolder fileReader, int[] blockIndexes);
+  MeasureColumnDataChunk[] getMeasureChunks(FileHolder fileReader, int[] blockIndexes,
+      ColumnPageBufferPool bufferPool);
 
   /**
    * Below method will be used to read the measure chunk
    *
    * @param fileReader file read to read the file chunk
    * @param blockIndex block index to be read from file
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
    * @return measure data chunk
    */
-  MeasureColumnDataChunk getMeasureChunk(FileHolder fileReader, int blockIndex);
+  MeasureColumnDataChunk getMeasureChunk(FileHolder fileReader, int blockIndex,
+      ColumnPageBufferPool bufferPool);
 }
@@ -18,26 +18,36 @@
  */
 package org.apache.carbondata.core.carbon.datastore;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
 import org.apache.carbondata.core.carbon.datastore.block.AbstractIndex;
+import org.apache.carbondata.core.carbon.datastore.block.MappedSegmentTaskIndex;
 import org.apache.carbondata.core.carbon.datastore.block.SegmentTaskIndex;
 import org.apache.carbondata.core.carbon.datastore.block.TableBlockInfo;
 import org.apache.carbondata.core.carbon.datastore.exception.IndexBuilderException;
 import org.apache.carbondata.core.carbon.metadata.blocklet.DataFileFooter;
+import org.apache.carbondata.core.carbon.path.CarbonTablePath;
 import org.apache.carbondata.core.carbon.path.CarbonTablePath.DataFileUtil;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastorage.store.impl.FileFactory;
+import org.apache.carbondata.core.reader.CarbonIndexMapFileReader;
+import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.core.util.CarbonUtilException;
+import org.apache.carbondata.core.util.DataFileFooterConverter;
 
 /**
  * Singleton Class to handle loading, unloading,clearing,storing of the table
@@ -74,6 +84,12 @@ public class SegmentTaskIndexStore {
    */
   private Map<AbsoluteTableIdentifier, Object> tableLockMap;
 
+  /**
+   * table and modification time of its table status file when the loaded
+   * segments were last validated
+   */
+  private Map<AbsoluteTableIdentifier, Long> tableStatusTimestampMap;
+
   private SegmentTaskIndexStore() {
     tableSegmentMap =
         new ConcurrentHashMap<AbsoluteTableIdentifier, Map<String, Map<String, AbstractIndex>>>(
@@ -81,6 +97,8 @@ public class SegmentTaskIndexStore {
     tableLockMap = new ConcurrentHashMap<AbsoluteTableIdentifier, Object>(
         CarbonCommonConstants.DEFAULT_COLLECTION_SIZE);
     segmentLockMap = new ConcurrentHashMap<String, Object>();
+    tableStatusTimestampMap = new ConcurrentHashMap<AbsoluteTableIdentifier, Long>(
+        CarbonCommonConstants.DEFAULT_COLLECTION_SIZE);
   }
 
   /**
@@ -235,6 +253,14 @@ public class SegmentTaskIndexStore {
    */
   private AbstractIndex loadBlocks(String taskId, List<TableBlockInfo> tableBlockInfoList,
       AbsoluteTableIdentifier tableIdentifier) throws CarbonUtilException {
+    if (Boolean.parseBoolean(CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.CARBON_INDEX_MAP_FILE_ENABLE,
+            CarbonCommonConstants.CARBON_INDEX_MAP_FILE_ENABLE_DEFAULT))) {
+      AbstractIndex segment = loadMappedBlocks(taskId, tableBlockInfoList, tableIdentifier);
+      if (null != segment) {
+        return segment;
+      }
+    }
     // all the block of one task id will be loaded together
     // so creating a list which will have all the data file meta data to of one task
     List<DataFileFooter> footerList =
@@ -246,6 +272,44 @@ public class SegmentTaskIndexStore {
     return segment;
   }
 
+  /**
+   * Below method will be used to load the blocks from index map file of the
+   * task, only header of the carbon index file is read
+   *
+   * @param taskId             task id
+   * @param tableBlockInfoList blocks of the task
+   * @param tableIdentifier    absolute table identifier
+   * @return loaded segment, null if index map file is not present or
+   * cannot be used
+   */
+  private AbstractIndex loadMappedBlocks(String taskId, List<TableBlockInfo> tableBlockInfoList,
+      AbsoluteTableIdentifier tableIdentifier) {
+    // blocks are kept in index file in sorted order
+    String carbonIndexFilePath =
+        CarbonUtil.getCarbonIndexFilePath(taskId, tableBlockInfoList, tableIdentifier);
+    String indexMapFilePath = CarbonTablePath.getCarbonIndexMapFilePath(carbonIndexFilePath);
+    try {
+      if (!FileFactory.isFileExist(indexMapFilePath, FileFactory.getFileType(indexMapFilePath))) {
+        return null;
+      }
+      CarbonIndexMapFileReader indexMapReader = CarbonIndexMapFileReader.open(indexMapFilePath);
+      if (indexMapReader.getNumberOfBlocks() != tableBlockInfoList.size()) {
+        LOGGER.warn("Number of blocks in index map file " + indexMapFilePath
+            + " is not matching, index file will be used");
+        return null;
+      }
+      DataFileFooter indexHeader =
+          new DataFileFooterConverter().getIndexHeaderInfo(carbonIndexFilePath);
+      AbstractIndex segment = new MappedSegmentTaskIndex(indexMapReader, tableBlockInfoList);
+      segment.buildIndex(Arrays.asList(indexHeader));
+      return segment;
+    } catch (IOException e) {
+      LOGGER.error(e, "Problem while reading index map file " + indexMapFilePath
+          + ", index file will be used");
+      return null;
+    }
+  }
+
   /**
    * Below method will be used to get the task id to all the table block info belongs to
    * that task id mapping
@@ -285,6 +349,42 @@ public class SegmentTaskIndexStore {
     // removing all the details of table
     tableLockMap.remove(absoluteTableIdentifier);
     tableSegmentMap.remove(absoluteTableIdentifier);
+    tableStatusTimestampMap.remove(absoluteTableIdentifier);
+  }
+
+  /**
+   * Below method will be used to remove the loaded segments which are not
+   * valid any more. Segment tree is kept against the modification time of
+   * table status file, and only when the table status is modified after the
+   * segments were validated the loaded segments will be checked. Data of a
+   * valid segment is not modified once loaded, so only segments which are
+   * deleted or compacted are removed
+   *
+   * @param absoluteTableIdentifier absolute table identifier
+   * @param tableStatusModifiedTime modification time of table status file
+   * @param validSegments           valid segments of the table
+   */
+  public void removeInvalidSegments(AbsoluteTableIdentifier absoluteTableIdentifier,
+      long tableStatusModifiedTime, List<String> validSegments) {
+    Long lastModifiedTime =
+        tableStatusTimestampMap.put(absoluteTableIdentifier, tableStatusModifiedTime);
+    if (null == lastModifiedTime || lastModifiedTime == tableStatusModifiedTime) {
+      return;
+    }
+    Map<String, Map<String, AbstractIndex>> map = tableSegmentMap.get(absoluteTableIdentifier);
+    if (null == map) {
+      return;
+    }
+    Set<String> validSegmentSet = new HashSet<String>(validSegments);
+    Iterator<String> loadedSegments = map.keySet().iterator();
+    while (loadedSegments.hasNext()) {
+      String segmentId = loadedSegments.next();
+      if (!validSegmentSet.contains(segmentId)) {
+        LOGGER.info("Removing segment " + segmentId + " of table " + absoluteTableIdentifier
+            .getCarbonTableIdentifier().getTableUniqueName() + " as it is not valid any more");
+        loadedSegments.remove();
+      }
+    }
   }
 
   /**
@@ -19,11 +19,13 @@
 package org.apache.carbondata.core.carbon.datastore.block;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.carbondata.core.cache.Cacheable;
 import org.apache.carbondata.core.carbon.datastore.DataRefNode;
 import org.apache.carbondata.core.carbon.metadata.blocklet.DataFileFooter;
 
-public abstract class AbstractIndex {
+public abstract class AbstractIndex implements Cacheable {
 
   /**
    * vo class which will hold the RS information of the block
@@ -40,6 +42,17 @@ public abstract class AbstractIndex {
    */
   protected long totalNumberOfRows;
 
+  /**
+   * approximate memory size of the index in bytes
+   */
+  protected long memorySize;
+
+  /**
+   * number of queries currently using the index, index will not be
+   * evicted from lru cache while it is in use
+   */
+  protected AtomicInteger accessCount = new AtomicInteger();
+
   /**
    * @return the totalNumberOfRows
    */
@@ -61,6 +74,48 @@ public abstract class AbstractIndex {
     return dataRefNode;
   }
 
+  /**
+   * carbon data files are never modified once written, so the index does not
+   * need to be reloaded based on file timestamp
+   *
+   * @return 0
+   */
+  @Override public long getFileTimeStamp() {
+    return 0;
+  }
+
+  /**
+   * @return number of queries currently using the index
+   */
+  @Override public int getAccessCount() {
+    return accessCount.get();
+  }
+
+  /**
+   * @return approximate memory size of the index in bytes
+   */
+  @Override public long getMemorySize() {
+    return memorySize;
+  }
+
+  /**
+   * This method will increment the access count of the index by 1, it has to
+   * be called before using the index in a query
+   */
+  public void incrementAccessCount() {
+    accessCount.incrementAndGet();
+  }
+
+  /**
+   * This method will decrement the access count of the index by 1, it has to
+   * be called once query has finished using the index
+   */
+  public void decrementAccessCount() {
+    if (accessCount.get() > 0) {
+      accessCount.decrementAndGet();
+    }
+  }
+
   /**
    * Below method will be used to load the data block
    *
@@ -23,7 +23,9 @@ import java.util.List;
 import org.apache.carbondata.core.carbon.datastore.BTreeBuilderInfo;
 import org.apache.carbondata.core.carbon.datastore.BtreeBuilder;
 import org.apache.carbondata.core.carbon.datastore.impl.btree.BlockletBTreeBuilder;
+import org.apache.carbondata.core.carbon.metadata.blocklet.BlockletInfo;
 import org.apache.carbondata.core.carbon.metadata.blocklet.DataFileFooter;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletIndex;
 
 /**
  * Class which is responsible for loading the b+ tree block. This class will
@@ -31,6 +33,22 @@ import org.apache.carbondata.core.carbon.metadata.blocklet.DataFileFooter;
  */
 public class BlockIndex extends AbstractIndex {
 
+  /**
+   * approximate size of the objects held for each column of the block, this
+   * includes column schema and the segment properties
+   */
+  private static final int COLUMN_SIZE_ESTIMATE = 512;
+
+  /**
+   * approximate size of data chunk metadata of a column in a blocklet
+   */
+  private static final int DATA_CHUNK_SIZE_ESTIMATE = 256;
+
+  /**
+   * object and reference overhead of a byte array
+   */
+  private static final int BYTE_ARRAY_OVERHEAD = 24;
+
   /**
    * Below method will be used to load the data block
    *
@@ -49,5 +67,57 @@ public class BlockIndex extends AbstractIndex {
     blocksBuilder.build(indexBuilderInfo);
     dataRefNode = blocksBuilder.get();
     totalNumberOfRows = footerList.get(0).getNumberOfRows();
+    for (DataFileFooter footer : footerList) {
+      memorySize += getMemorySize(footer);
+    }
+  }
+
+  /**
+   * Below method will be used to calculate the approximate memory size of
+   * the index built from a footer. Start and end key of each blocklet are
+   * kept in leaf and non leaf node, min max and data chunk metadata are kept
+   * in leaf node
+   *
+   * @param footer data file footer
+   * @return size in bytes
+   */
+  private long getMemorySize(DataFileFooter footer) {
+    long size = (long) footer.getColumnInTable().size() * COLUMN_SIZE_ESTIMATE;
+    if (null == footer.getBlockletList()) {
+      return size;
+    }
+    for (BlockletInfo blockletInfo : footer.getBlockletList()) {
+      BlockletIndex blockletIndex = blockletInfo.getBlockletIndex();
+      if (null != blockletIndex && null != blockletIndex.getBtreeIndex()) {
+        size += 2 * (getSize(blockletIndex.getBtreeIndex().getStartKey()) + getSize(
+            blockletIndex.getBtreeIndex().getEndKey()));
+      }
+      if (null != blockletIndex && null != blockletIndex.getMinMaxIndex()) {
+        size += getSize(blockletIndex.getMinMaxIndex().getMinValues()) + getSize(
+            blockletIndex.getMinMaxIndex().getMaxValues());
+      }
+      if (null != blockletInfo.getDimensionColumnChunk()) {
+        size += (long) blockletInfo.getDimensionColumnChunk().size() * DATA_CHUNK_SIZE_ESTIMATE;
+      }
+      if (null != blockletInfo.getMeasureColumnChunk()) {
+        size += (long) blockletInfo.getMeasureColumnChunk().size() * DATA_CHUNK_SIZE_ESTIMATE;
+      }
+    }
+    return size;
+  }
+
+  private static long getSize(byte[] value) {
+    return null == value ? 0 : BYTE_ARRAY_OVERHEAD + value.length;
+  }
+
+  private static long getSize(byte[][] values) {
+    if (null == values) {
+      return 0;
+    }
+    long size = BYTE_ARRAY_OVERHEAD;
+    for (byte[] value : values) {
+      size += getSize(value);
+    }
+    return size;
   }
 }
@@ -37,6 +37,11 @@ public class BlockletInfos implements Serializable {
    * end blocklet number
    */
   private int numberOfBlockletToScan;
+  /**
+   * sorted ids of the blocklets to be scanned which are pruned in driver,
+   * null if blocklets are not pruned
+   */
+  private int[] blockletIds;
   /**
    * default constructor
    */
@@ -108,5 +113,23 @@ public class BlockletInfos implements Serializable {
     this.numberOfBlockletToScan = numberOfBlockletToScan;
   }
 
+  /**
+   * returns the ids of blocklets to be scanned
+   *
+   * @return sorted blocklet ids, null if blocklets are not pruned
+   */
+  public int[] getBlockletIds() {
+    return blockletIds;
+  }
+
+  /**
+   * set the ids of blocklets to be scanned
+   *
+   * @param blockletIds sorted blocklet ids
+   */
+  public void setBlockletIds(int[] blockletIds) {
+    this.blockletIds = blockletIds;
+  }
+
 }
 
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.carbon.datastore.block;
+
+import java.util.List;
+
+import org.apache.carbondata.core.carbon.datastore.impl.btree.BTreeNode;
+import org.apache.carbondata.core.carbon.datastore.impl.btree.MappedBTreeNonLeafNode;
+import org.apache.carbondata.core.carbon.datastore.impl.btree.MappedBlockBTreeLeafNode;
+import org.apache.carbondata.core.carbon.metadata.blocklet.DataFileFooter;
+import org.apache.carbondata.core.reader.CarbonIndexMapFileReader;
+import org.apache.carbondata.core.util.DataFileFooterConverter;
+
+/**
+ * Segment task index whose block start keys and min max values are kept in
+ * a memory mapped index map file instead of a btree built in heap
+ */
+public class MappedSegmentTaskIndex extends AbstractIndex {
+
+  /**
+   * reader of the index map file of the task
+   */
+  private CarbonIndexMapFileReader indexMapReader;
+
+  /**
+   * blocks of the task sorted in same order as index map file
+   */
+  private List<TableBlockInfo> tableBlockInfoList;
+
+  /**
+   * @param indexMapReader     reader of the index map file of the task
+   * @param tableBlockInfoList blocks of the task sorted in same order as
+   *                           index map file
+   */
+  public MappedSegmentTaskIndex(CarbonIndexMapFileReader indexMapReader,
+      List<TableBlockInfo> tableBlockInfoList) {
+    this.indexMapReader = indexMapReader;
+    this.tableBlockInfoList = tableBlockInfoList;
+  }
+
+  /**
+   * Below method will be used to build the index, footer list will have
+   * only index header detail which will be used to create the segment
+   * properties
+   *
+   * @param footerList footer having table columns and segment info
+   */
+  public void buildIndex(List<DataFileFooter> footerList) {
+    segmentProperties = new SegmentProperties(footerList.get(0).getColumnInTable(),
+        footerList.get(0).getSegmentInfo().getColumnCardinality());
+    int numberOfBlocks = indexMapReader.getNumberOfBlocks();
+    if (numberOfBlocks == 0) {
+      return;
+    }
+    BTreeNode[] leafNodes = new BTreeNode[numberOfBlocks];
+    for (int i = 0; i < numberOfBlocks; i++) {
+      TableBlockInfo tableBlockInfo = tableBlockInfoList.get(i);
+      long numberOfRows = indexMapReader.getNumberOfRows(i);
+      tableBlockInfo.getBlockletInfos()
+          .setNoOfBlockLets(DataFileFooterConverter.getNumberOfBlocklets(numberOfRows));
+      leafNodes[i] = new MappedBlockBTreeLeafNode(indexMapReader, new BlockInfo(tableBlockInfo), i);
+      // all the leaf node will be chained
+      if (i > 0) {
+        leafNodes[i - 1].setNextNode(leafNodes[i]);
+      }
+      totalNumberOfRows += numberOfRows;
+    }
+    dataRefNode = new MappedBTreeNonLeafNode(indexMapReader, leafNodes);
+  }
+}
@@ -45,6 +45,21 @@ public interface DimensionColumnDataChunk<T> {
   int fillConvertedChunkData(int rowId, int columnIndex, int[] row,
       KeyStructureInfo restructuringInfo);
 
+  /**
+   * Below method will be used to convert the column data of the given rows to
+   * dictionary integer values in columnar format
+   *
+   * @param rowIds            row ids of the chunk
+   * @param numberOfRows      number of row ids to be converted
+   * @param columnIndex       index of the first vector to be filled
+   * @param vectors           dictionary vectors of the dictionary columns present in query
+   * @param vectorOffset      offset from which the vectors need to be filled
+   * @param restructuringInfo define the structure of the key
+   * @return index of the next vector to be filled
+   */
+  int fillConvertedChunkDataVector(int[] rowIds, int numberOfRows, int columnIndex,
+      int[][] vectors, int vectorOffset, KeyStructureInfo restructuringInfo);
+
   /**
    * Below method to get  the data based in row id
    *
@@ -68,4 +83,10 @@ public interface DimensionColumnDataChunk<T> {
    * @return complete chunk
    */
   T getCompleteDataChunk();
+
+  /**
+   * Below method will be used to free the memory occupied by the chunk, it
+   * will be called once the blocklet is scanned
+   */
+  void freeMemory();
 }
@@ -68,4 +68,13 @@ public class MeasureColumnDataChunk {
     this.nullValueIndexHolder = nullValueIndexHolder;
   }
 
+  /**
+   * Below method will be used to free the memory occupied by the chunk, it
+   * will be called once the blocklet is scanned
+   */
+  public void freeMemory() {
+    if (null != measureDataHolder) {
+      measureDataHolder.freeMemory();
+    }
+  }
 }
@@ -80,6 +80,23 @@ public class ColumnGroupDimensionDataChunk implements DimensionColumnDataChunk<b
     return columnIndex;
   }
 
+  /**
+   * Converts the given rows to column dictionary integer values of the
+   * columns of the group selected in query
+   */
+  @Override public int fillConvertedChunkDataVector(int[] rowIds, int numberOfRows,
+      int columnIndex, int[][] vectors, int vectorOffset, KeyStructureInfo info) {
+    int columnValueSize = chunkAttributes.getColumnValueSize();
+    int[] ordinal = info.getMdkeyQueryDimensionOrdinal();
+    for (int i = 0; i < numberOfRows; i++) {
+      long[] keyArray = info.getKeyGenerator().getKeyArray(dataChunk, rowIds[i] * columnValueSize);
+      for (int j = 0; j < ordinal.length; j++) {
+        vectors[columnIndex + j][vectorOffset + i] = (int) keyArray[ordinal[j]];
+      }
+    }
+    return columnIndex + ordinal.length;
+  }
+
   /**
    * Below method masks key
    *
@@ -125,4 +142,10 @@ public class ColumnGroupDimensionDataChunk implements DimensionColumnDataChunk<b
   @Override public byte[] getCompleteDataChunk() {
     return dataChunk;
   }
+
+  /**
+   * data is kept in heap, so nothing to free
+   */
+  @Override public void freeMemory() {
+  }
 }
@@ -20,6 +20,8 @@ package org.apache.carbondata.core.carbon.datastore.chunk.impl;
 
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionChunkAttributes;
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionColumnDataChunk;
+import org.apache.carbondata.core.datastorage.store.columnar.UnBlockIndexer;
+import org.apache.carbondata.core.util.ByteUtil;
 import org.apache.carbondata.scan.executor.infos.KeyStructureInfo;
 
 /**
@@ -38,6 +40,22 @@ public class FixedLengthDimensionDataChunk implements DimensionColumnDataChunk<b
    */
   private byte[] dataChunk;
 
+  /**
+   * value of each run if the chunk is run length encoded, null otherwise
+   */
+  private byte[] runValues;
+
+  /**
+   * rle index of the chunk, pair of entries for each run where second entry
+   * is the number of rows in the run
+   */
+  private int[] rlePage;
+
+  /**
+   * start index of each run, last entry is the number of rows in the chunk
+   */
+  private int[] runStarts;
+
   /**
    * Constructor for this class
    *
@@ -49,6 +67,96 @@ public class FixedLengthDimensionDataChunk implements DimensionColumnDataChunk<b
     this.dataChunk = dataChunk;
   }
 
+  /**
+   * Constructor for run length encoded chunk, data will be expanded only when
+   * it is accessed row wise, filters can be applied on the runs directly
+   *
+   * @param runValues       value of each run
+   * @param rlePage         rle index of the chunk
+   * @param chunkAttributes chunk attributes
+   */
+  public FixedLengthDimensionDataChunk(byte[] runValues, int[] rlePage,
+      DimensionChunkAttributes chunkAttributes) {
+    this.chunkAttributes = chunkAttributes;
+    if (rlePage.length < 1) {
+      this.dataChunk = runValues;
+    } else {
+      setRunLengthPage(runValues, rlePage);
+    }
+  }
+
+  /**
+   * Below method will be used to keep the runs of the chunk, so filters can
+   * be applied on the runs without expanding the data
+   *
+   * @param runValues value of each run
+   * @param rlePage   rle index of the chunk
+   */
+  public void setRunLengthPage(byte[] runValues, int[] rlePage) {
+    int numberOfRuns = rlePage.length / 2;
+    int[] starts = new int[numberOfRuns + 1];
+    for (int i = 0; i < numberOfRuns; i++) {
+      starts[i + 1] = starts[i] + rlePage[i * 2 + 1];
+    }
+    this.runValues = runValues;
+    this.rlePage = rlePage;
+    this.runStarts = starts;
+  }
+
+  /**
+   * @return true if runs of the chunk are present
+   */
+  public boolean isRunLengthEncoded() {
+    return null != runStarts;
+  }
+
+  /**
+   * @return number of runs in the chunk
+   */
+  public int getNumberOfRuns() {
+    return runStarts.length - 1;
+  }
+
+  /**
+   * Below method will be used to get the index of first row of the run,
+   * index is not mapped through inverted index. Passing number of runs
+   * returns number of rows in the chunk
+   *
+   * @param run run index
+   * @return start index of the run
+   */
+  public int getRunStart(int run) {
+    return runStarts[run];
+  }
+
+  /**
+   * Below method will be used to compare the value of the run with the given
+   * value
+   *
+   * @param run          run index
+   * @param compareValue value to be compared
+   * @return compare result
+   */
+  public int compareRunValue(int run, byte[] compareValue) {
+    return ByteUtil.UnsafeComparer.INSTANCE
+        .compareTo(runValues, run * compareValue.length, compareValue.length, compareValue, 0,
+            compareValue.length);
+  }
+
+  /**
+   * Below method will be used to get the expanded data, run length encoded
+   * data is expanded on first access
+   *
+   * @return data of the chunk
+   */
+  private byte[] getData() {
+    if (null == dataChunk && null != runValues) {
+      dataChunk =
+          UnBlockIndexer.uncompressData(runValues, rlePage, chunkAttributes.getColumnValueSize());
+    }
+    return dataChunk;
+  }
+
   /**
    * Below method will be used to fill the data based on offset and row id
    *
@@ -63,7 +171,7 @@ public class FixedLengthDimensionDataChunk implements DimensionColumnDataChunk<b
     if (chunkAttributes.getInvertedIndexes() != null) {
       index = chunkAttributes.getInvertedIndexesReverse()[index];
     }
-    System.arraycopy(dataChunk, index * chunkAttributes.getColumnValueSize(), data, offset,
+    System.arraycopy(getData(), index * chunkAttributes.getColumnValueSize(), data, offset,
         chunkAttributes.getColumnValueSize());
     return chunkAttributes.getColumnValueSize();
   }
@@ -76,16 +184,44 @@ public class FixedLengthDimensionDataChunk implements DimensionColumnDataChunk<b
     if (chunkAttributes.getInvertedIndexes() != null) {
       rowId = chunkAttributes.getInvertedIndexesReverse()[rowId];
     }
+    byte[] data = getData();
     int start = rowId * chunkAttributes.getColumnValueSize();
     int dict = 0;
     for (int i = start; i < start + chunkAttributes.getColumnValueSize(); i++) {
       dict <<= 8;
-      dict ^= dataChunk[i] & 0xFF;
+      dict ^= data[i] & 0xFF;
     }
     row[columnIndex] = dict;
     return columnIndex + 1;
   }
 
+  /**
+   * Converts the given rows to column dictionary integer values
+   */
+  @Override public int fillConvertedChunkDataVector(int[] rowIds, int numberOfRows,
+      int columnIndex, int[][] vectors, int vectorOffset, KeyStructureInfo restructuringInfo) {
+    int[] vector = vectors[columnIndex];
+    int[] invertedIndexesReverse = chunkAttributes.getInvertedIndexes() != null ?
+        chunkAttributes.getInvertedIndexesReverse() :
+        null;
+    int columnValueSize = chunkAttributes.getColumnValueSize();
+    byte[] data = getData();
+    for (int i = 0; i < numberOfRows; i++) {
+      int rowId = rowIds[i];
+      if (null != invertedIndexesReverse) {
+        rowId = invertedIndexesReverse[rowId];
+      }
+      int start = rowId * columnValueSize;
+      int dict = 0;
+      for (int j = start; j < start + columnValueSize; j++) {
+        dict <<= 8;
+        dict ^= data[j] & 0xFF;
+      }
+      vector[vectorOffset + i] = dict;
+    }
+    return columnIndex + 1;
+  }
+
   /**
    * Below method to get the data based in row id
    *
@@ -97,7 +233,7 @@ public class FixedLengthDimensionDataChunk implements DimensionColumnDataChunk<b
     if (chunkAttributes.getInvertedIndexes() != null) {
       index = chunkAttributes.getInvertedIndexesReverse()[index];
     }
-    System.arraycopy(dataChunk, index * chunkAttributes.getColumnValueSize(), data, 0,
+    System.arraycopy(getData(), index * chunkAttributes.getColumnValueSize(), data, 0,
         chunkAttributes.getColumnValueSize());
     return data;
   }
@@ -118,6 +254,52 @@ public class FixedLengthDimensionDataChunk implements DimensionColumnDataChunk<b
    * @return complete chunk
    */
   @Override public byte[] getCompleteDataChunk() {
-    return dataChunk;
+    return getData();
+  }
+
+  /**
+   * Below method will be used to compare the value present at the index of
+   * the chunk with the given value, index is not mapped through inverted index
+   *
+   * @param index        index of the value in chunk
+   * @param compareValue value to be compared
+   * @return compare result
+   */
+  public int compareTo(int index, byte[] compareValue) {
+    return ByteUtil.UnsafeComparer.INSTANCE
+        .compareTo(getData(), index * compareValue.length, compareValue.length, compareValue, 0,
+            compareValue.length);
+  }
+
+  /**
+   * Below method will be used to get the key present at the index of the
+   * chunk as long value, index is not mapped through inverted index. Column
+   * value size must not be more than 8 bytes
+   *
+   * @param index index of the value in chunk
+   * @return key value
+   */
+  public long getKeyValue(int index) {
+    int columnValueSize = chunkAttributes.getColumnValueSize();
+    int start = index * columnValueSize;
+    byte[] data = getData();
+    long value = 0;
+    for (int i = start; i < start + columnValueSize; i++) {
+      value = (value << 8) | (data[i] & 0xFF);
+    }
+    return value;
+  }
+
+  /**
+   * @return true if data is kept in off heap memory
+   */
+  public boolean isOffHeap() {
+    return false;
+  }
+
+  /**
+   * data is kept in heap, so nothing to free
+   */
+  @Override public void freeMemory() {
   }
 }
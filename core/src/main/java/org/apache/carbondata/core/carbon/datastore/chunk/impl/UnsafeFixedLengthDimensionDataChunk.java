@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.carbon.datastore.chunk.impl;
+
+import org.apache.carbondata.core.carbon.datastore.chunk.DimensionChunkAttributes;
+import org.apache.carbondata.core.unsafe.CarbonUnsafe;
+import org.apache.carbondata.scan.executor.infos.KeyStructureInfo;
+
+/**
+ * Fixed length dimension chunk whose data is kept in off heap memory.
+ * Memory must be released by calling {@link #freeMemory()} once the blocklet
+ * is scanned
+ */
+public class UnsafeFixedLengthDimensionDataChunk extends FixedLengthDimensionDataChunk {
+
+  /**
+   * address of the off heap memory where data is stored
+   */
+  private long dataAddress;
+
+  /**
+   * size of the data in bytes
+   */
+  private int dataLength;
+
+  /**
+   * Constructor for this class, data will be copied to off heap memory
+   *
+   * @param dataChunk       data chunk
+   * @param chunkAttributes chunk attributes
+   */
+  public UnsafeFixedLengthDimensionDataChunk(byte[] dataChunk,
+      DimensionChunkAttributes chunkAttributes) {
+    super(null, chunkAttributes);
+    this.dataLength = dataChunk.length;
+    this.dataAddress = CarbonUnsafe.UNSAFE.allocateMemory(dataLength);
+    CarbonUnsafe.UNSAFE
+        .copyMemory(dataChunk, CarbonUnsafe.BYTE_ARRAY_OFFSET, null, dataAddress, dataLength);
+  }
+
+  /**
+   * Below method will be used to fill the data based on offset and row id
+   *
+   * @param data             data to filed
+   * @param offset           offset from which data need to be filed
+   * @param index            row id of the chunk
+   * @param keyStructureInfo define the structure of the key
+   * @return how many bytes was copied
+   */
+  @Override public int fillChunkData(byte[] data, int offset, int index,
+      KeyStructureInfo keyStructureInfo) {
+    DimensionChunkAttributes chunkAttributes = getAttributes();
+    if (chunkAttributes.getInvertedIndexes() != null) {
+      index = chunkAttributes.getInvertedIndexesReverse()[index];
+    }
+    int columnValueSize = chunkAttributes.getColumnValueSize();
+    CarbonUnsafe.UNSAFE.copyMemory(null, dataAddress + (long) index * columnValueSize, data,
+        CarbonUnsafe.BYTE_ARRAY_OFFSET + offset, columnValueSize);
+    return columnValueSize;
+  }
+
+  /**
+   * Converts to column dictionary integer value
+   */
+  @Override public int fillConvertedChunkData(int rowId, int columnIndex, int[] row,
+      KeyStructureInfo restructuringInfo) {
+    DimensionChunkAttributes chunkAttributes = getAttributes();
+    if (chunkAttributes.getInvertedIndexes() != null) {
+      rowId = chunkAttributes.getInvertedIndexesReverse()[rowId];
+    }
+    row[columnIndex] = (int) getKeyValue(rowId);
+    return columnIndex + 1;
+  }
+
+  /**
+   * Converts the given rows to column dictionary integer values
+   */
+  @Override public int fillConvertedChunkDataVector(int[] rowIds, int numberOfRows,
+      int columnIndex, int[][] vectors, int vectorOffset, KeyStructureInfo restructuringInfo) {
+    DimensionChunkAttributes chunkAttributes = getAttributes();
+    int[] vector = vectors[columnIndex];
+    int[] invertedIndexesReverse = chunkAttributes.getInvertedIndexes() != null ?
+        chunkAttributes.getInvertedIndexesReverse() :
+        null;
+    for (int i = 0; i < numberOfRows; i++) {
+      int rowId = rowIds[i];
+      if (null != invertedIndexesReverse) {
+        rowId = invertedIndexesReverse[rowId];
+      }
+      vector[vectorOffset + i] = (int) getKeyValue(rowId);
+    }
+    return columnIndex + 1;
+  }
+
+  /**
+   * Below method to get the data based in row id
+   *
+   * @param index row id of the data
+   * @return chunk
+   */
+  @Override public byte[] getChunkData(int index) {
+    byte[] data = new byte[getAttributes().getColumnValueSize()];
+    fillChunkData(data, 0, index, null);
+    return data;
+  }
+
+  /**
+   * Below method will be used to return the complete data chunk. As data is
+   * off heap it will be copied to heap, so callers should use the index
+   * based accessors instead
+   *
+   * @return complete chunk
+   */
+  @Override public byte[] getCompleteDataChunk() {
+    byte[] data = new byte[dataLength];
+    CarbonUnsafe.UNSAFE
+        .copyMemory(null, dataAddress, data, CarbonUnsafe.BYTE_ARRAY_OFFSET, dataLength);
+    return data;
+  }
+
+  @Override public int compareTo(int index, byte[] compareValue) {
+    long address = dataAddress + (long) index * compareValue.length;
+    for (int i = 0; i < compareValue.length; i++) {
+      int a = CarbonUnsafe.UNSAFE.getByte(address + i) & 0xFF;
+      int b = compareValue[i] & 0xFF;
+      if (a != b) {
+        return a - b;
+      }
+    }
+    return 0;
+  }
+
+  @Override public long getKeyValue(int index) {
+    int columnValueSize = getAttributes().getColumnValueSize();
+    long address = dataAddress + (long) index * columnValueSize;
+    long value = 0;
+    for (int i = 0; i < columnValueSize; i++) {
+      value = (value << 8) | (CarbonUnsafe.UNSAFE.getByte(address + i) & 0xFF);
+    }
+    return value;
+  }
+
+  @Override public boolean isOffHeap() {
+    return true;
+  }
+
+  /**
+   * Below method will be used to release the off heap memory, calling it
+   * again is a no-op
+   */
+  @Override public void freeMemory() {
+    if (dataAddress != 0) {
+      CarbonUnsafe.UNSAFE.freeMemory(dataAddress);
+      dataAddress = 0;
+    }
+  }
+}
@@ -80,6 +80,11 @@ public class VariableLengthDimensionDataChunk implements DimensionColumnDataChun
     return columnIndex + 1;
   }
 
+  @Override public int fillConvertedChunkDataVector(int[] rowIds, int numberOfRows,
+      int columnIndex, int[][] vectors, int vectorOffset, KeyStructureInfo restructuringInfo) {
+    return columnIndex + 1;
+  }
+
   /**
    * Below method to get the data based in row id
    *
@@ -111,4 +116,10 @@ public class VariableLengthDimensionDataChunk implements DimensionColumnDataChun
   @Override public List<byte[]> getCompleteDataChunk() {
     return dataChunk;
   }
+
+  /**
+   * data is kept in heap, so nothing to free
+   */
+  @Override public void freeMemory() {
+  }
 }
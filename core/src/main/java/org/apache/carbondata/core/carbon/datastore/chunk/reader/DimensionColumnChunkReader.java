@@ -20,6 +20,7 @@ package org.apache.carbondata.core.carbon.datastore.chunk.reader;
 
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionColumnDataChunk;
 import org.apache.carbondata.core.datastorage.store.FileHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBufferPool;
 
 /**
  * Interface for reading the data chunk
@@ -33,16 +34,20 @@ public interface DimensionColumnChunkReader {
    *
    * @param fileReader   file reader to read the blocks from file
    * @param blockIndexes blocks to be read
+   * @param bufferPool   buffers to uncompress the pages, null to allocate new arrays
    * @return dimension column chunks
    */
-  DimensionColumnDataChunk[] readDimensionChunks(FileHolder fileReader, int... blockIndexes);
+  DimensionColumnDataChunk[] readDimensionChunks(FileHolder fileReader, int[] blockIndexes,
+      ColumnPageBufferPool bufferPool);
 
   /**
    * Below method will be used to read the chunk based on block index
    *
    * @param fileReader file reader to read the blocks from file
    * @param blockIndex block to be read
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
    * @return dimension column chunk
    */
-  DimensionColumnDataChunk readDimensionChunk(FileHolder fileReader, int blockIndex);
+  DimensionColumnDataChunk readDimensionChunk(FileHolder fileReader, int blockIndex,
+      ColumnPageBufferPool bufferPool);
 }
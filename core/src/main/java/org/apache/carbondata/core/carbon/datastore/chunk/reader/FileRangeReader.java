@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.carbon.datastore.chunk.reader;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastorage.store.FileHolder;
+import org.apache.carbondata.core.util.CarbonProperties;
+
+/**
+ * Reads multiple byte ranges of a file with minimum number of read calls.
+ * All the ranges are first added, then ranges which are adjacent or whose
+ * gap is within the configured threshold are merged till the configured
+ * maximum size and each merged range is read in a single call. After reading,
+ * each added range can be taken as a buffer on the merged data without copy.
+ */
+public class FileRangeReader {
+
+  /**
+   * maximum gap in bytes between two ranges to merge them in one read
+   */
+  private long maxGap;
+
+  /**
+   * maximum size in bytes of a merged range
+   */
+  private long maxSize;
+
+  /**
+   * ranges added for reading, each range is offset and length
+   */
+  private List<long[]> ranges;
+
+  /**
+   * merged ranges which are read from file
+   */
+  private List<long[]> mergedRanges;
+
+  /**
+   * data of the merged ranges
+   */
+  private List<byte[]> mergedData;
+
+  public FileRangeReader() {
+    long gap;
+    try {
+      gap = Long.parseLong(CarbonProperties.getInstance()
+          .getProperty(CarbonCommonConstants.CARBON_READ_COALESCE_GAP_SIZE,
+              CarbonCommonConstants.CARBON_READ_COALESCE_GAP_SIZE_DEFAULT));
+    } catch (NumberFormatException e) {
+      gap = Long.parseLong(CarbonCommonConstants.CARBON_READ_COALESCE_GAP_SIZE_DEFAULT);
+    }
+    this.maxGap = Math.max(0, gap);
+    long size;
+    try {
+      size = Long.parseLong(CarbonProperties.getInstance()
+          .getProperty(CarbonCommonConstants.CARBON_READ_COALESCE_MAX_SIZE,
+              CarbonCommonConstants.CARBON_READ_COALESCE_MAX_SIZE_DEFAULT));
+    } catch (NumberFormatException e) {
+      size = Long.parseLong(CarbonCommonConstants.CARBON_READ_COALESCE_MAX_SIZE_DEFAULT);
+    }
+    // merged range is read in one byte array
+    this.maxSize = Math.min(Math.max(1, size), Integer.MAX_VALUE);
+    this.ranges = new ArrayList<>();
+  }
+
+  /**
+   * Below method will be used to add the range which needs to be read
+   *
+   * @param offset offset in file
+   * @param length number of bytes
+   */
+  public void addRange(long offset, int length) {
+    ranges.add(new long[] { offset, length });
+  }
+
+  /**
+   * Below method will be used to merge the added ranges and read them from file
+   *
+   * @param fileReader file reader
+   * @param filePath   file to be read
+   */
+  public void read(FileHolder fileReader, String filePath) {
+    List<long[]> sortedRanges = new ArrayList<>(ranges);
+    Collections.sort(sortedRanges, new Comparator<long[]>() {
+      @Override public int compare(long[] range1, long[] range2) {
+        return Long.compare(range1[0], range2[0]);
+      }
+    });
+    mergedRanges = new ArrayList<>();
+    long[] current = null;
+    for (long[] range : sortedRanges) {
+      long mergedLength =
+          null == current ? 0 : Math.max(current[1], range[0] + range[1] - current[0]);
+      if (null != current && range[0] - (current[0] + current[1]) <= maxGap
+          && mergedLength <= maxSize) {
+        current[1] = mergedLength;
+      } else {
+        current = new long[] { range[0], range[1] };
+        mergedRanges.add(current);
+      }
+    }
+    mergedData = new ArrayList<>(mergedRanges.size());
+    for (long[] range : mergedRanges) {
+      mergedData.add(fileReader.readByteArray(filePath, range[0], (int) range[1]));
+    }
+  }
+
+  /**
+   * @return number of read calls done for reading all the ranges
+   */
+  public int getNumberOfReads() {
+    return null == mergedRanges ? 0 : mergedRanges.size();
+  }
+
+  /**
+   * Below method will be used to get the bytes of the added range, buffer
+   * shares the data read from file so its position is the start of the range
+   * in the backing array and remaining is the length of the range
+   *
+   * @param offset offset in file
+   * @param length number of bytes
+   * @return buffer of the range
+   */
+  public ByteBuffer getBuffer(long offset, int length) {
+    for (int i = 0; i < mergedRanges.size(); i++) {
+      long[] range = mergedRanges.get(i);
+      if (offset >= range[0] && offset + length <= range[0] + range[1]) {
+        return ByteBuffer.wrap(mergedData.get(i), (int) (offset - range[0]), length);
+      }
+    }
+    throw new IllegalArgumentException(
+        "Range with offset " + offset + " and length " + length + " is not read");
+  }
+}
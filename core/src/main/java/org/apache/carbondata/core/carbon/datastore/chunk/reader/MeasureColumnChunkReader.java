@@ -20,6 +20,7 @@ package org.apache.carbondata.core.carbon.datastore.chunk.reader;
 
 import org.apache.carbondata.core.carbon.datastore.chunk.MeasureColumnDataChunk;
 import org.apache.carbondata.core.datastorage.store.FileHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBufferPool;
 
 /**
  * Reader interface for reading the measure blocks from file
@@ -31,17 +32,21 @@ public interface MeasureColumnChunkReader {
    *
    * @param fileReader   file reader to read the blocks
    * @param blockIndexes blocks to be read
+   * @param bufferPool   buffers to uncompress the pages, null to allocate new arrays
    * @return measure data chunks
    */
-  MeasureColumnDataChunk[] readMeasureChunks(FileHolder fileReader, int... blockIndexes);
+  MeasureColumnDataChunk[] readMeasureChunks(FileHolder fileReader, int[] blockIndexes,
+      ColumnPageBufferPool bufferPool);
 
   /**
    * Method to read the blocks data based on block index
    *
    * @param fileReader file reader to read the blocks
    * @param blockIndex block to be read
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
    * @return measure data chunk
    */
-  MeasureColumnDataChunk readMeasureChunk(FileHolder fileReader, int blockIndex);
+  MeasureColumnDataChunk readMeasureChunk(FileHolder fileReader, int blockIndex,
+      ColumnPageBufferPool bufferPool);
 
 }
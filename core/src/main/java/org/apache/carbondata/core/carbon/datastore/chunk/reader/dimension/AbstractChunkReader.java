@@ -25,9 +25,8 @@ import java.util.List;
 import org.apache.carbondata.core.carbon.datastore.chunk.reader.DimensionColumnChunkReader;
 import org.apache.carbondata.core.carbon.metadata.blocklet.datachunk.DataChunk;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
 import org.apache.carbondata.core.keygenerator.mdkey.NumberCompressor;
+import org.apache.carbondata.core.unsafe.CarbonUnsafe;
 import org.apache.carbondata.core.util.CarbonProperties;
 
 /**
@@ -36,12 +35,6 @@ import org.apache.carbondata.core.util.CarbonProperties;
  */
 public abstract class AbstractChunkReader implements DimensionColumnChunkReader {
 
-  /**
-   * compressor will be used to uncompress the data
-   */
-  protected static final Compressor<byte[]> COMPRESSOR =
-      SnappyCompression.SnappyByteCompression.INSTANCE;
-
   /**
    * data chunk list which holds the information
    * about the data block metadata
@@ -71,6 +64,11 @@ public abstract class AbstractChunkReader implements DimensionColumnChunkReader
    */
   private int numberOfElement;
 
+  /**
+   * whether fixed length chunks has to be kept in off heap memory
+   */
+  protected boolean isOffHeapChunkStore;
+
   /**
    * Constructor to get minimum parameter to create
    * instance of this class
@@ -93,6 +91,7 @@ public abstract class AbstractChunkReader implements DimensionColumnChunkReader
       numberOfElement = Integer.parseInt(CarbonCommonConstants.BLOCKLET_SIZE_DEFAULT_VAL);
     }
     this.numberComressor = new NumberCompressor(numberOfElement);
+    this.isOffHeapChunkStore = CarbonUnsafe.isOffHeapChunkStoreEnabled();
   }
 
   /**
@@ -18,17 +18,24 @@
  */
 package org.apache.carbondata.core.carbon.datastore.chunk.reader.dimension;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionChunkAttributes;
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionColumnDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.impl.ColumnGroupDimensionDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.impl.FixedLengthDimensionDataChunk;
+import org.apache.carbondata.core.carbon.datastore.chunk.impl.UnsafeFixedLengthDimensionDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.impl.VariableLengthDimensionDataChunk;
+import org.apache.carbondata.core.carbon.datastore.chunk.reader.FileRangeReader;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
 import org.apache.carbondata.core.carbon.metadata.blocklet.datachunk.DataChunk;
 import org.apache.carbondata.core.carbon.metadata.encoder.Encoding;
 import org.apache.carbondata.core.datastorage.store.FileHolder;
 import org.apache.carbondata.core.datastorage.store.columnar.UnBlockIndexer;
+import org.apache.carbondata.core.datastorage.store.compression.Compressor;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBufferPool;
 import org.apache.carbondata.core.util.CarbonUtil;
 
 /**
@@ -53,15 +60,47 @@ public class CompressedDimensionChunkFileBasedReader extends AbstractChunkReader
    *
    * @param fileReader   file reader to read the blocks from file
    * @param blockIndexes blocks to be read
+   * @param bufferPool   buffers to uncompress the pages, null to allocate new arrays
    * @return dimension column chunks
    */
   @Override public DimensionColumnDataChunk[] readDimensionChunks(FileHolder fileReader,
-      int... blockIndexes) {
+      int[] blockIndexes, ColumnPageBufferPool bufferPool) {
     // read the column chunk based on block index and add
     DimensionColumnDataChunk[] dataChunks =
         new DimensionColumnDataChunk[dimensionColumnChunk.size()];
+    if (blockIndexes.length == 1) {
+      dataChunks[blockIndexes[0]] = readDimensionChunk(fileReader, blockIndexes[0], bufferPool);
+      return dataChunks;
+    }
+    // plan all the pages of the requested blocks and read them together, so
+    // nearby pages are read in one call instead of one call per page
+    FileRangeReader rangeReader = new FileRangeReader();
+    for (int i = 0; i < blockIndexes.length; i++) {
+      DataChunk dataChunk = dimensionColumnChunk.get(blockIndexes[i]);
+      rangeReader.addRange(dataChunk.getDataPageOffset(), dataChunk.getDataPageLength());
+      if (CarbonUtil.hasEncoding(dataChunk.getEncodingList(), Encoding.INVERTED_INDEX)) {
+        rangeReader.addRange(dataChunk.getRowIdPageOffset(), dataChunk.getRowIdPageLength());
+      }
+      if (CarbonUtil.hasEncoding(dataChunk.getEncodingList(), Encoding.RLE)) {
+        rangeReader.addRange(dataChunk.getRlePageOffset(), dataChunk.getRlePageLength());
+      }
+    }
+    rangeReader.read(fileReader, filePath);
     for (int i = 0; i < blockIndexes.length; i++) {
-      dataChunks[blockIndexes[i]] = readDimensionChunk(fileReader, blockIndexes[i]);
+      DataChunk dataChunk = dimensionColumnChunk.get(blockIndexes[i]);
+      ByteBuffer rowIdPage = null;
+      ByteBuffer rlePage = null;
+      if (CarbonUtil.hasEncoding(dataChunk.getEncodingList(), Encoding.INVERTED_INDEX)) {
+        rowIdPage =
+            rangeReader.getBuffer(dataChunk.getRowIdPageOffset(), dataChunk.getRowIdPageLength());
+      }
+      if (CarbonUtil.hasEncoding(dataChunk.getEncodingList(), Encoding.RLE)) {
+        rlePage =
+            rangeReader.getBuffer(dataChunk.getRlePageOffset(), dataChunk.getRlePageLength());
+      }
+      dataChunks[blockIndexes[i]] = createDimensionChunk(blockIndexes[i],
+          rangeReader.getBuffer(dataChunk.getDataPageOffset(), dataChunk.getDataPageLength()),
+          rowIdPage, rlePage, bufferPool);
     }
     return dataChunks;
   }
@@ -71,41 +110,78 @@ public class CompressedDimensionChunkFileBasedReader extends AbstractChunkReader
    *
    * @param fileReader file reader to read the blocks from file
    * @param blockIndex block to be read
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
    * @return dimension column chunk
    */
   @Override public DimensionColumnDataChunk readDimensionChunk(FileHolder fileReader,
-      int blockIndex) {
-    byte[] dataPage = null;
+      int blockIndex, ColumnPageBufferPool bufferPool) {
+    DataChunk dataChunk = dimensionColumnChunk.get(blockIndex);
+    ByteBuffer rowIdPage = null;
+    ByteBuffer rlePage = null;
+    ByteBuffer dataPage = ByteBuffer.wrap(fileReader
+        .readByteArray(filePath, dataChunk.getDataPageOffset(), dataChunk.getDataPageLength()));
+    if (CarbonUtil.hasEncoding(dataChunk.getEncodingList(), Encoding.INVERTED_INDEX)) {
+      rowIdPage = ByteBuffer.wrap(fileReader
+          .readByteArray(filePath, dataChunk.getRowIdPageOffset(),
+              dataChunk.getRowIdPageLength()));
+    }
+    if (CarbonUtil.hasEncoding(dataChunk.getEncodingList(), Encoding.RLE)) {
+      rlePage = ByteBuffer.wrap(fileReader
+          .readByteArray(filePath, dataChunk.getRlePageOffset(), dataChunk.getRlePageLength()));
+    }
+    return createDimensionChunk(blockIndex, dataPage, rowIdPage, rlePage, bufferPool);
+  }
+
+  /**
+   * Below method will be used to uncompress the pages read from file and
+   * create the dimension column chunk. Pages are uncompressed from the
+   * position of the buffers, so the pages of merged read are not copied
+   *
+   * @param blockIndex         block index
+   * @param compressedDataPage compressed data page
+   * @param rowIdPage          compressed row id page, null if not inverted index
+   * @param compressedRlePage  compressed rle page, null if rle is not applied
+   * @param bufferPool         buffers to uncompress the pages, null to allocate new arrays
+   * @return dimension column chunk
+   */
+  private DimensionColumnDataChunk createDimensionChunk(int blockIndex,
+      ByteBuffer compressedDataPage, ByteBuffer rowIdPage, ByteBuffer compressedRlePage,
+      ColumnPageBufferPool bufferPool) {
     int[] invertedIndexes = null;
     int[] invertedIndexesReverse = null;
-    int[] rlePage = null;
-
-    // first read the data and uncompressed it
-    dataPage = COMPRESSOR.unCompress(fileReader
-        .readByteArray(filePath, dimensionColumnChunk.get(blockIndex).getDataPageOffset(),
-            dimensionColumnChunk.get(blockIndex).getDataPageLength()));
-    // if row id block is present then read the row id chunk and uncompress it
-    if (CarbonUtil.hasEncoding(dimensionColumnChunk.get(blockIndex).getEncodingList(),
-        Encoding.INVERTED_INDEX)) {
+    // first uncompress the data using the codec with which it was written
+    CompressionCodec codec =
+        CompressorFactory.getCompressionCodec(dimensionColumnChunk.get(blockIndex));
+    Compressor<byte[]> compressor = CompressorFactory.getByteCompressor(codec);
+    byte[] compressedData = compressedDataPage.array();
+    int compressedOffset = compressedDataPage.arrayOffset() + compressedDataPage.position();
+    int compressedLength = compressedDataPage.remaining();
+    int dataPageLength =
+        compressor.unCompressedLength(compressedData, compressedOffset, compressedLength);
+    byte[] dataPage;
+    if (null == bufferPool) {
+      dataPage = new byte[dataPageLength];
+    } else {
+      // page of the previous blocklet is not used any more, so the same
+      // array can be filled
+      dataPage = bufferPool.getDimensionBuffer(blockIndex).getByteArray(dataPageLength);
+    }
+    compressor.unCompress(compressedData, compressedOffset, compressedLength, dataPage);
+    // if row id block is present then uncompress the row id chunk
+    if (null != rowIdPage) {
       invertedIndexes = CarbonUtil
           .getUnCompressColumnIndex(dimensionColumnChunk.get(blockIndex).getRowIdPageLength(),
-              fileReader.readByteArray(filePath,
-                  dimensionColumnChunk.get(blockIndex).getRowIdPageOffset(),
-                  dimensionColumnChunk.get(blockIndex).getRowIdPageLength()), numberComressor);
+              rowIdPage, numberComressor);
       // get the reverse index
       invertedIndexesReverse = getInvertedReverseIndex(invertedIndexes);
     }
-    // if rle is applied then read the rle block chunk and then uncompress
-    //then actual data based on rle block
-    if (CarbonUtil
-        .hasEncoding(dimensionColumnChunk.get(blockIndex).getEncodingList(), Encoding.RLE)) {
-      // read and uncompress the rle block
-      rlePage = numberComressor.unCompress(fileReader
-          .readByteArray(filePath, dimensionColumnChunk.get(blockIndex).getRlePageOffset(),
-              dimensionColumnChunk.get(blockIndex).getRlePageLength()));
-      // uncompress the data with rle indexes
-      dataPage = UnBlockIndexer.uncompressData(dataPage, rlePage, eachColumnValueSize[blockIndex]);
-      rlePage = null;
+    // if rle is applied then uncompress the rle block chunk, fixed length
+    // heap chunk keeps the runs and expands the data only when required
+    int[] rlePage = null;
+    if (null != compressedRlePage) {
+      rlePage = numberComressor.unCompress(compressedRlePage.array(),
+          compressedRlePage.arrayOffset() + compressedRlePage.position(),
+          compressedRlePage.remaining());
     }
     // fill chunk attributes
     DimensionChunkAttributes chunkAttributes = new DimensionChunkAttributes();
@@ -113,18 +189,36 @@ public class CompressedDimensionChunkFileBasedReader extends AbstractChunkReader
     chunkAttributes.setInvertedIndexes(invertedIndexes);
     chunkAttributes.setInvertedIndexesReverse(invertedIndexesReverse);
     DimensionColumnDataChunk columnDataChunk = null;
-
+    boolean isFixedLengthChunk = !dimensionColumnChunk.get(blockIndex).isRowMajor() && CarbonUtil
+        .hasEncoding(dimensionColumnChunk.get(blockIndex).getEncodingList(), Encoding.DICTIONARY);
+    if (isFixedLengthChunk && !isOffHeapChunkStore && null != rlePage) {
+      // to store run length encoded fixed length column chunk values
+      return new FixedLengthDimensionDataChunk(dataPage, rlePage, chunkAttributes);
+    }
+    byte[] runValues = dataPage;
+    if (null != rlePage) {
+      // uncompress the data with rle indexes
+      dataPage = UnBlockIndexer.uncompressData(dataPage, rlePage, eachColumnValueSize[blockIndex]);
+    }
     if (dimensionColumnChunk.get(blockIndex).isRowMajor()) {
       // to store fixed length column chunk values
       columnDataChunk = new ColumnGroupDimensionDataChunk(dataPage, chunkAttributes);
     }
     // if no dictionary column then first create a no dictionary column chunk
     // and set to data chunk instance
-    else if (!CarbonUtil
-        .hasEncoding(dimensionColumnChunk.get(blockIndex).getEncodingList(), Encoding.DICTIONARY)) {
+    else if (!isFixedLengthChunk) {
       columnDataChunk =
           new VariableLengthDimensionDataChunk(getNoDictionaryDataChunk(dataPage), chunkAttributes);
       chunkAttributes.setNoDictionary(true);
+    } else if (isOffHeapChunkStore) {
+      // to store fixed length column chunk values in off heap memory, runs
+      // are kept in heap for the filters
+      UnsafeFixedLengthDimensionDataChunk unsafeDataChunk =
+          new UnsafeFixedLengthDimensionDataChunk(dataPage, chunkAttributes);
+      if (null != rlePage && rlePage.length > 0) {
+        unsafeDataChunk.setRunLengthPage(runValues, rlePage);
+      }
+      columnDataChunk = unsafeDataChunk;
     } else {
       // to store fixed length column chunk values
       columnDataChunk = new FixedLengthDimensionDataChunk(dataPage, chunkAttributes);
@@ -25,6 +25,7 @@ import org.apache.carbondata.core.carbon.metadata.blocklet.datachunk.DataChunk;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder.UnCompressValue;
+import org.apache.carbondata.core.unsafe.CarbonUnsafe;
 
 /**
  * Measure block reader abstract class
@@ -51,6 +52,11 @@ public abstract class AbstractMeasureChunkReader implements MeasureColumnChunkRe
    */
   protected UnCompressValue[] values;
 
+  /**
+   * whether numeric measure values has to be kept in off heap memory
+   */
+  protected boolean isOffHeapChunkStore;
+
   /**
    * Constructor to get minimum parameter to create instance of this class
    *
@@ -71,5 +77,6 @@ public abstract class AbstractMeasureChunkReader implements MeasureColumnChunkRe
     for (int i = 0; i < values.length; i++) {
       values[i] = compressionModel.getUnCompressValues()[i].getNew().getCompressorObject();
     }
+    this.isOffHeapChunkStore = CarbonUnsafe.isOffHeapChunkStoreEnabled();
   }
 }
@@ -18,14 +18,23 @@
  */
 package org.apache.carbondata.core.carbon.datastore.chunk.reader.measure;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.carbondata.core.carbon.datastore.chunk.MeasureColumnDataChunk;
+import org.apache.carbondata.core.carbon.datastore.chunk.reader.FileRangeReader;
 import org.apache.carbondata.core.carbon.metadata.blocklet.datachunk.DataChunk;
 import org.apache.carbondata.core.datastorage.store.FileHolder;
+import org.apache.carbondata.core.datastorage.store.compression.Compressor;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
+import org.apache.carbondata.core.datastorage.store.compression.MeasurePageCodec;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBufferPool;
+import org.apache.carbondata.core.datastorage.store.dataholder.UnsafeCarbonReadDataHolder;
 
 /**
  * Compressed measure chunk reader
@@ -50,13 +59,29 @@ public class CompressedMeasureChunkFileBasedReader extends AbstractMeasureChunkR
    *
    * @param fileReader   file reader to read the blocks
    * @param blockIndexes blocks to be read
+   * @param bufferPool   buffers to uncompress the pages, null to allocate new arrays
    * @return measure data chunks
    */
   @Override public MeasureColumnDataChunk[] readMeasureChunks(FileHolder fileReader,
-      int... blockIndexes) {
+      int[] blockIndexes, ColumnPageBufferPool bufferPool) {
     MeasureColumnDataChunk[] datChunk = new MeasureColumnDataChunk[values.length];
+    if (blockIndexes.length == 1) {
+      datChunk[blockIndexes[0]] = readMeasureChunk(fileReader, blockIndexes[0], bufferPool);
+      return datChunk;
+    }
+    // read the data pages of all the blocks together, nearby pages are read
+    // in one call
+    FileRangeReader rangeReader = new FileRangeReader();
+    for (int i = 0; i < blockIndexes.length; i++) {
+      DataChunk dataChunk = measureColumnChunk.get(blockIndexes[i]);
+      rangeReader.addRange(dataChunk.getDataPageOffset(), dataChunk.getDataPageLength());
+    }
+    rangeReader.read(fileReader, filePath);
     for (int i = 0; i < blockIndexes.length; i++) {
-      datChunk[blockIndexes[i]] = readMeasureChunk(fileReader, blockIndexes[i]);
+      DataChunk dataChunk = measureColumnChunk.get(blockIndexes[i]);
+      datChunk[blockIndexes[i]] = createMeasureChunk(blockIndexes[i],
+          rangeReader.getBuffer(dataChunk.getDataPageOffset(), dataChunk.getDataPageLength()),
+          bufferPool);
     }
     return datChunk;
   }
@@ -66,21 +91,62 @@ public class CompressedMeasureChunkFileBasedReader extends AbstractMeasureChunkR
    *
    * @param fileReader file reader to read the blocks
    * @param blockIndex block to be read
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
    * @return measure data chunk
    */
-  @Override public MeasureColumnDataChunk readMeasureChunk(FileHolder fileReader, int blockIndex) {
-    MeasureColumnDataChunk datChunk = new MeasureColumnDataChunk();
-    // create a new uncompressor
-    ValueCompressonHolder.UnCompressValue copy = values[blockIndex].getNew();
-    // read data from file and set to uncompressor
-    copy.setValue(fileReader
+  @Override public MeasureColumnDataChunk readMeasureChunk(FileHolder fileReader, int blockIndex,
+      ColumnPageBufferPool bufferPool) {
+    return createMeasureChunk(blockIndex, ByteBuffer.wrap(fileReader
         .readByteArray(filePath, measureColumnChunk.get(blockIndex).getDataPageOffset(),
-            measureColumnChunk.get(blockIndex).getDataPageLength()));
-    // get the data holder after uncompressing
-    CarbonReadDataHolder measureDataHolder =
-        copy.uncompress(compressionModel.getChangedDataType()[blockIndex])
-            .getValues(compressionModel.getDecimal()[blockIndex],
-                compressionModel.getMaxValue()[blockIndex]);
+            measureColumnChunk.get(blockIndex).getDataPageLength())), bufferPool);
+  }
+
+  /**
+   * Below method will be used to uncompress the data page read from file and
+   * create the measure data chunk. Page is uncompressed from the position of
+   * the buffer, so the pages of merged read are not copied
+   *
+   * @param blockIndex block index
+   * @param dataPage   compressed data page
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
+   * @return measure data chunk
+   */
+  private MeasureColumnDataChunk createMeasureChunk(int blockIndex, ByteBuffer dataPage,
+      ColumnPageBufferPool bufferPool) {
+    MeasureColumnDataChunk datChunk = new MeasureColumnDataChunk();
+    ColumnPageBuffer buffer =
+        null == bufferPool ? new ColumnPageBuffer() : bufferPool.getMeasureBuffer(blockIndex);
+    DataChunk dataChunk = measureColumnChunk.get(blockIndex);
+    CarbonReadDataHolder measureDataHolder;
+    byte[] page = dataPage.array();
+    int pageOffset = dataPage.arrayOffset() + dataPage.position();
+    int pageLength = dataPage.remaining();
+    if (dataChunk.getEncodingList().size() > 1) {
+      // page is encoded with a page encoding in place of value compression
+      Compressor<byte[]> compressor =
+          CompressorFactory.getByteCompressor(CompressorFactory.getCompressionCodec(dataChunk));
+      byte[] encodedPage = new byte[compressor.unCompressedLength(page, pageOffset, pageLength)];
+      compressor.unCompress(page, pageOffset, pageLength, encodedPage);
+      measureDataHolder = MeasurePageCodec.decode(encodedPage, buffer);
+    } else {
+      // create a new uncompressor
+      ValueCompressonHolder.UnCompressValue copy = values[blockIndex].getNew();
+      // set the data to uncompressor
+      if (copy instanceof ValueCompressonHolder.CompressedPageValue) {
+        ((ValueCompressonHolder.CompressedPageValue) copy).setValue(page, pageOffset, pageLength);
+      } else {
+        copy.setValue(Arrays.copyOfRange(page, pageOffset, pageOffset + pageLength));
+      }
+      // get the data holder after uncompressing using the codec with which
+      // the chunk was written
+      measureDataHolder = copy.uncompress(compressionModel.getChangedDataType()[blockIndex],
+          CompressorFactory.getCompressionCodec(dataChunk), buffer)
+          .getValues(compressionModel.getDecimal()[blockIndex],
+              compressionModel.getMaxValue()[blockIndex], buffer);
+    }
+    if (isOffHeapChunkStore) {
+      measureDataHolder = new UnsafeCarbonReadDataHolder(measureDataHolder);
+    }
     // set the data chunk
     datChunk.setMeasureDataHolder(measureDataHolder);
     // set the enun value indexes
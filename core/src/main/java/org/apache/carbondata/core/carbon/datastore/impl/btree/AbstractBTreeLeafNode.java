@@ -22,7 +22,9 @@ import org.apache.carbondata.core.carbon.datastore.DataRefNode;
 import org.apache.carbondata.core.carbon.datastore.IndexKey;
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionColumnDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.MeasureColumnDataChunk;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
 import org.apache.carbondata.core.datastorage.store.FileHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBufferPool;
 
 /**
  * Non leaf node abstract class
@@ -56,6 +58,12 @@ public abstract class AbstractBTreeLeafNode implements BTreeNode {
    */
   protected byte[][] minKeyOfColumns;
 
+  /**
+   * bloom filter of the columns this will be used to check whether this leaf
+   * will be used for scanning or not
+   */
+  protected BlockletBloomFilter[] bloomFilterOfColumns;
+
   /**
    * Method to get the next block this can be used while scanning when
    * iterator of this class can be used iterate over blocks
@@ -125,6 +133,16 @@ public abstract class AbstractBTreeLeafNode implements BTreeNode {
     return minKeyOfColumns;
   }
 
+  /**
+   * This method will be used to get the bloom filter of the columns this can
+   * be used in case of filter query
+   *
+   * @return bloom filter of the columns
+   */
+  @Override public BlockletBloomFilter[] getColumnsBloomFilter() {
+    return bloomFilterOfColumns;
+  }
+
   /**
    * to check whether node in a btree is a leaf node or not
    *
@@ -154,6 +172,17 @@ public abstract class AbstractBTreeLeafNode implements BTreeNode {
     throw new UnsupportedOperationException("Operation not supported in case of leaf node");
   }
 
+  /**
+   * below method will return the node entry present at the given index
+   *
+   * @param index entry index
+   * @return node entry
+   */
+  @Override public IndexKey getNodeKey(int index) {
+    // as this is a leaf node so this method implementation is not required
+    throw new UnsupportedOperationException("Operation not supported in case of leaf node");
+  }
+
   /**
    * below method will be used to set the children of intermediate node
    *
@@ -169,10 +198,11 @@ public abstract class AbstractBTreeLeafNode implements BTreeNode {
    *
    * @param fileReader   file reader to read the chunks from file
    * @param blockIndexes indexes of the blocks need to be read
+   * @param bufferPool   buffers to uncompress the pages, null to allocate new arrays
    * @return dimension data chunks
    */
   @Override public DimensionColumnDataChunk[] getDimensionChunks(FileHolder fileReader,
-      int[] blockIndexes) {
+      int[] blockIndexes, ColumnPageBufferPool bufferPool) {
     // No required here as leaf which will will be use this class will implement its own get
     // dimension chunks
     return null;
@@ -183,10 +213,11 @@ public abstract class AbstractBTreeLeafNode implements BTreeNode {
    *
    * @param fileReader file reader to read the chunk from file
    * @param blockIndex block index to be read
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
    * @return dimension data chunk
    */
-  @Override public DimensionColumnDataChunk getDimensionChunk(FileHolder fileReader,
-      int blockIndex) {
+  @Override public DimensionColumnDataChunk getDimensionChunk(FileHolder fileReader, int blockIndex,
+      ColumnPageBufferPool bufferPool) {
     // No required here as leaf which will will be use this class will implement
     // its own get dimension chunks
     return null;
@@ -197,10 +228,11 @@ public abstract class AbstractBTreeLeafNode implements BTreeNode {
    *
    * @param fileReader   file reader to read the chunk from file
    * @param blockIndexes block indexes to be read from file
+   * @param bufferPool   buffers to uncompress the pages, null to allocate new arrays
    * @return measure column data chunk
    */
   @Override public MeasureColumnDataChunk[] getMeasureChunks(FileHolder fileReader,
-      int[] blockIndexes) {
+      int[] blockIndexes, ColumnPageBufferPool bufferPool) {
     // No required here as leaf which will will be use this class will implement its own get
     // measure chunks
     return null;
@@ -211,9 +243,11 @@ public abstract class AbstractBTreeLeafNode implements BTreeNode {
    *
    * @param fileReader file read to read the file chunk
    * @param blockIndex block index to be read from file
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
    * @return measure data chunk
    */
-  @Override public MeasureColumnDataChunk getMeasureChunk(FileHolder fileReader, int blockIndex) {
+  @Override public MeasureColumnDataChunk getMeasureChunk(FileHolder fileReader, int blockIndex,
+      ColumnPageBufferPool bufferPool) {
     // No required here as leaf which will will be use this class will implement its own get
     // measure chunks
     return null;
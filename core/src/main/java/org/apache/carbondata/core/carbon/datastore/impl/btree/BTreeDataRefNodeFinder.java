@@ -113,12 +113,11 @@ public class BTreeDataRefNodeFinder implements DataRefNodeFinder {
     int high = node.nodeSize() - 1;
     int mid = 0;
     int compareRes = -1;
-    IndexKey[] nodeKeys = node.getNodeKeys();
     //
     while (low <= high) {
       mid = (low + high) >>> 1;
       // compare the entries
-      compareRes = compareIndexes(key, nodeKeys[mid]);
+      compareRes = compareIndexes(key, node.getNodeKey(mid));
       if (compareRes < 0) {
         high = mid - 1;
       } else if (compareRes > 0) {
@@ -126,7 +125,7 @@ public class BTreeDataRefNodeFinder implements DataRefNodeFinder {
       } else {
         // if key is matched then get the first entry
         int currentPos = mid;
-        while (currentPos - 1 >= 0 && compareIndexes(key, nodeKeys[currentPos - 1]) == 0) {
+        while (currentPos - 1 >= 0 && compareIndexes(key, node.getNodeKey(currentPos - 1)) == 0) {
           currentPos--;
         }
         mid = currentPos;
@@ -163,12 +162,11 @@ public class BTreeDataRefNodeFinder implements DataRefNodeFinder {
     int high = node.nodeSize() - 1;
     int mid = 0;
     int compareRes = -1;
-    IndexKey[] nodeKeys = node.getNodeKeys();
     //
     while (low <= high) {
       mid = (low + high) >>> 1;
       // compare the entries
-      compareRes = compareIndexes(key, nodeKeys[mid]);
+      compareRes = compareIndexes(key, node.getNodeKey(mid));
       if (compareRes < 0) {
         high = mid - 1;
       } else if (compareRes > 0) {
@@ -177,7 +175,7 @@ public class BTreeDataRefNodeFinder implements DataRefNodeFinder {
         int currentPos = mid;
         // if key is matched then get the first entry
         while (currentPos + 1 < node.nodeSize()
-            && compareIndexes(key, nodeKeys[currentPos + 1]) == 0) {
+            && compareIndexes(key, node.getNodeKey(currentPos + 1)) == 0) {
           currentPos++;
         }
         mid = currentPos;
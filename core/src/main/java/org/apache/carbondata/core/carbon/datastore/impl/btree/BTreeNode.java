@@ -33,6 +33,16 @@ public interface BTreeNode extends DataRefNode {
    */
   IndexKey[] getNodeKeys();
 
+  /**
+   * below method will return the node entry present at the given index,
+   * this can be used when all the entries are not required, for example
+   * while searching the node
+   *
+   * @param index entry index
+   * @return node entry
+   */
+  IndexKey getNodeKey(int index);
+
   /**
    * to check whether node in a btree is a leaf node or not
    *
@@ -25,8 +25,10 @@ import org.apache.carbondata.core.carbon.datastore.DataRefNode;
 import org.apache.carbondata.core.carbon.datastore.IndexKey;
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionColumnDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.MeasureColumnDataChunk;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.datastorage.store.FileHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBufferPool;
 
 /**
  * No leaf node of a b+tree class which will keep the matadata(start key) of the
@@ -58,6 +60,16 @@ public class BTreeNonLeafNode implements BTreeNode {
     return listOfKeys.toArray(new IndexKey[listOfKeys.size()]);
   }
 
+  /**
+   * below method will return the node entry present at the given index
+   *
+   * @param index entry index
+   * @return node entry
+   */
+  @Override public IndexKey getNodeKey(int index) {
+    return listOfKeys.get(index);
+  }
+
   /**
    * as it is a non leaf node it will have the reference of all the leaf node
    * under it, setting all the children
@@ -161,15 +173,28 @@ public class BTreeNonLeafNode implements BTreeNode {
     throw new UnsupportedOperationException("Unsupported operation");
   }
 
+  /**
+   * This method will be used to get the bloom filter of the columns this can
+   * be used in case of filter query
+   *
+   * @return bloom filter of the columns
+   */
+  @Override public BlockletBloomFilter[] getColumnsBloomFilter() {
+    // operation of getting the bloom filter is not supported as its a non leaf
+    // node
+    throw new UnsupportedOperationException("Unsupported operation");
+  }
+
   /**
    * Below method will be used to get the dimension chunks
    *
    * @param fileReader   file reader to read the chunks from file
    * @param blockIndexes indexes of the blocks need to be read
+   * @param bufferPool   buffers to uncompress the pages, null to allocate new arrays
    * @return dimension data chunks
    */
   @Override public DimensionColumnDataChunk[] getDimensionChunks(FileHolder fileReader,
-      int[] blockIndexes) {
+      int[] blockIndexes, ColumnPageBufferPool bufferPool) {
 
     // operation of getting the dimension chunks is not supported as its a
     // non leaf node
@@ -184,10 +209,11 @@ public class BTreeNonLeafNode implements BTreeNode {
    *
    * @param fileReader file reader to read the chunk from file
    * @param blockIndex block index to be read
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
    * @return dimension data chunk
    */
   @Override public DimensionColumnDataChunk getDimensionChunk(FileHolder fileReader,
-      int blockIndexes) {
+      int blockIndexes, ColumnPageBufferPool bufferPool) {
     // operation of getting the dimension chunk is not supported as its a
     // non leaf node
     // and in case of B+Tree data will be stored only in leaf node and
@@ -201,10 +227,11 @@ public class BTreeNonLeafNode implements BTreeNode {
    *
    * @param fileReader   file reader to read the chunk from file
    * @param blockIndexes block indexes to be read from file
+   * @param bufferPool   buffers to uncompress the pages, null to allocate new arrays
    * @return measure column data chunk
    */
   @Override public MeasureColumnDataChunk[] getMeasureChunks(FileHolder fileReader,
-      int[] blockIndexes) {
+      int[] blockIndexes, ColumnPageBufferPool bufferPool) {
     // operation of getting the measure chunk is not supported as its a non
     // leaf node
     // and in case of B+Tree data will be stored only in leaf node and
@@ -218,10 +245,12 @@ public class BTreeNonLeafNode implements BTreeNode {
    *
    * @param fileReader file read to read the file chunk
    * @param blockIndex block index to be read from file
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
    * @return measure data chunk
    */
 
-  @Override public MeasureColumnDataChunk getMeasureChunk(FileHolder fileReader, int blockIndex) {
+  @Override public MeasureColumnDataChunk getMeasureChunk(FileHolder fileReader, int blockIndex,
+      ColumnPageBufferPool bufferPool) {
     // operation of getting the measure chunk is not supported as its a non
     // leaf node
     // and in case of B+Tree data will be stored only in leaf node and
@@ -51,6 +51,18 @@ public class BlockBTreeLeafNode extends AbstractBTreeLeafNode {
     this.blockInfo = footer.getBlockInfo();
   }
 
+  /**
+   * Create a leaf node whose min max values are provided by the sub class
+   *
+   * @param blockInfo  block info of the leaf node
+   * @param nodeNumber node number
+   */
+  protected BlockBTreeLeafNode(BlockInfo blockInfo, long nodeNumber) {
+    numberOfKeys = 1;
+    this.nodeNumber = nodeNumber;
+    this.blockInfo = blockInfo;
+  }
+
   /**
    * Below method is to get the table block info
    * This will be used only in case of BlockBtree leaf node which will
@@ -18,6 +18,8 @@
  */
 package org.apache.carbondata.core.carbon.datastore.impl.btree;
 
+import java.util.List;
+
 import org.apache.carbondata.core.carbon.datastore.BTreeBuilderInfo;
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionColumnDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.MeasureColumnDataChunk;
@@ -25,9 +27,12 @@ import org.apache.carbondata.core.carbon.datastore.chunk.reader.DimensionColumnC
 import org.apache.carbondata.core.carbon.datastore.chunk.reader.MeasureColumnChunkReader;
 import org.apache.carbondata.core.carbon.datastore.chunk.reader.dimension.CompressedDimensionChunkFileBasedReader;
 import org.apache.carbondata.core.carbon.datastore.chunk.reader.measure.CompressedMeasureChunkFileBasedReader;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletIndex;
 import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletMinMaxIndex;
 import org.apache.carbondata.core.datastorage.store.FileHolder;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBufferPool;
 import org.apache.carbondata.core.util.CarbonUtil;
 
 /**
@@ -55,14 +60,16 @@ public class BlockletBTreeLeafNode extends AbstractBTreeLeafNode {
    *                     give some leaf node of a btree to one executor some to other
    */
   public BlockletBTreeLeafNode(BTreeBuilderInfo builderInfos, int leafIndex, long nodeNumber) {
+    BlockletIndex blockletIndex =
+        builderInfos.getFooterList().get(0).getBlockletList().get(leafIndex).getBlockletIndex();
     // get a lead node min max
-    BlockletMinMaxIndex minMaxIndex =
-        builderInfos.getFooterList().get(0).getBlockletList().get(leafIndex)
-            .getBlockletIndex().getMinMaxIndex();
+    BlockletMinMaxIndex minMaxIndex = blockletIndex.getMinMaxIndex();
     // max key of the columns
     maxKeyOfColumns = minMaxIndex.getMaxValues();
     // min keys of the columns
     minKeyOfColumns = minMaxIndex.getMinValues();
+    // bloom filter of the columns
+    bloomFilterOfColumns = getBloomFilterOfColumns(blockletIndex.getBloomFilters());
     // number of keys present in the leaf
     numberOfKeys = builderInfos.getFooterList().get(0).getBlockletList().get(leafIndex)
         .getNumberOfRows();
@@ -83,16 +90,39 @@ public class BlockletBTreeLeafNode extends AbstractBTreeLeafNode {
     this.nodeNumber = nodeNumber;
   }
 
+  /**
+   * Below method will be used to index the bloom filters of the blocklet by
+   * column block index
+   *
+   * @param bloomFilters bloom filters of the blocklet
+   * @return bloom filter of each column, null if not present
+   */
+  private BlockletBloomFilter[] getBloomFilterOfColumns(List<BlockletBloomFilter> bloomFilters) {
+    if (null == bloomFilters || bloomFilters.isEmpty()) {
+      return null;
+    }
+    int maxColumnIndex = 0;
+    for (BlockletBloomFilter bloomFilter : bloomFilters) {
+      maxColumnIndex = Math.max(maxColumnIndex, bloomFilter.getColumnIndex());
+    }
+    BlockletBloomFilter[] bloomFilterOfColumns = new BlockletBloomFilter[maxColumnIndex + 1];
+    for (BlockletBloomFilter bloomFilter : bloomFilters) {
+      bloomFilterOfColumns[bloomFilter.getColumnIndex()] = bloomFilter;
+    }
+    return bloomFilterOfColumns;
+  }
+
   /**
    * Below method will be used to get the dimension chunks
    *
    * @param fileReader   file reader to read the chunks from file
    * @param blockIndexes indexes of the blocks need to be read
+   * @param bufferPool   buffers to uncompress the pages, null to allocate new arrays
    * @return dimension data chunks
    */
   @Override public DimensionColumnDataChunk[] getDimensionChunks(FileHolder fileReader,
-      int[] blockIndexes) {
-    return dimensionChunksReader.readDimensionChunks(fileReader, blockIndexes);
+      int[] blockIndexes, ColumnPageBufferPool bufferPool) {
+    return dimensionChunksReader.readDimensionChunks(fileReader, blockIndexes, bufferPool);
   }
 
   /**
@@ -100,11 +130,12 @@ public class BlockletBTreeLeafNode extends AbstractBTreeLeafNode {
    *
    * @param fileReader file reader to read the chunk from file
    * @param blockIndex block index to be read
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
    * @return dimension data chunk
    */
-  @Override public DimensionColumnDataChunk getDimensionChunk(FileHolder fileReader,
-      int blockIndex) {
-    return dimensionChunksReader.readDimensionChunk(fileReader, blockIndex);
+  @Override public DimensionColumnDataChunk getDimensionChunk(FileHolder fileReader, int blockIndex,
+      ColumnPageBufferPool bufferPool) {
+    return dimensionChunksReader.readDimensionChunk(fileReader, blockIndex, bufferPool);
   }
 
   /**
@@ -112,11 +143,12 @@ public class BlockletBTreeLeafNode extends AbstractBTreeLeafNode {
    *
    * @param fileReader   file reader to read the chunk from file
    * @param blockIndexes block indexes to be read from file
+   * @param bufferPool   buffers to uncompress the pages, null to allocate new arrays
    * @return measure column data chunk
    */
   @Override public MeasureColumnDataChunk[] getMeasureChunks(FileHolder fileReader,
-      int[] blockIndexes) {
-    return measureColumnChunkReader.readMeasureChunks(fileReader, blockIndexes);
+      int[] blockIndexes, ColumnPageBufferPool bufferPool) {
+    return measureColumnChunkReader.readMeasureChunks(fileReader, blockIndexes, bufferPool);
   }
 
   /**
@@ -124,9 +156,11 @@ public class BlockletBTreeLeafNode extends AbstractBTreeLeafNode {
    *
    * @param fileReader file read to read the file chunk
    * @param blockIndex block index to be read from file
+   * @param bufferPool buffers to uncompress the pages, null to allocate new arrays
    * @return measure data chunk
    */
-  @Override public MeasureColumnDataChunk getMeasureChunk(FileHolder fileReader, int blockIndex) {
-    return measureColumnChunkReader.readMeasureChunk(fileReader, blockIndex);
+  @Override public MeasureColumnDataChunk getMeasureChunk(FileHolder fileReader, int blockIndex,
+      ColumnPageBufferPool bufferPool) {
+    return measureColumnChunkReader.readMeasureChunk(fileReader, blockIndex, bufferPool);
   }
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.carbon.datastore.impl.btree;
+
+import org.apache.carbondata.core.carbon.datastore.IndexKey;
+import org.apache.carbondata.core.reader.CarbonIndexMapFileReader;
+
+/**
+ * Root node of the blocks present in an index map file. All the blocks are
+ * children of this node and node entries are read from the mapped file
+ * while searching, so no intermediate nodes are built
+ */
+public class MappedBTreeNonLeafNode extends BTreeNonLeafNode {
+
+  /**
+   * reader of the index map file
+   */
+  private CarbonIndexMapFileReader indexMapReader;
+
+  /**
+   * leaf nodes, one for each block
+   */
+  private BTreeNode[] children;
+
+  /**
+   * @param indexMapReader reader of the index map file
+   * @param children       leaf node of each block in index map file order
+   */
+  public MappedBTreeNonLeafNode(CarbonIndexMapFileReader indexMapReader, BTreeNode[] children) {
+    this.indexMapReader = indexMapReader;
+    this.children = children;
+  }
+
+  @Override public IndexKey[] getNodeKeys() {
+    IndexKey[] nodeKeys = new IndexKey[children.length];
+    for (int i = 0; i < nodeKeys.length; i++) {
+      nodeKeys[i] = indexMapReader.getStartKey(i);
+    }
+    return nodeKeys;
+  }
+
+  @Override public IndexKey getNodeKey(int index) {
+    return indexMapReader.getStartKey(index);
+  }
+
+  @Override public void setChildren(BTreeNode[] children) {
+    this.children = children;
+  }
+
+  @Override public BTreeNode getChild(int index) {
+    return children[index];
+  }
+
+  @Override public void setKey(IndexKey key) {
+    throw new UnsupportedOperationException("Node entries are read from index map file");
+  }
+
+  @Override public int nodeSize() {
+    return children.length;
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.carbon.datastore.impl.btree;
+
+import org.apache.carbondata.core.carbon.datastore.block.BlockInfo;
+import org.apache.carbondata.core.reader.CarbonIndexMapFileReader;
+
+/**
+ * Block leaf node whose min max values are read from the index map file
+ * when required instead of keeping them in heap
+ */
+public class MappedBlockBTreeLeafNode extends BlockBTreeLeafNode {
+
+  /**
+   * reader of the index map file having the block
+   */
+  private CarbonIndexMapFileReader indexMapReader;
+
+  /**
+   * @param indexMapReader reader of the index map file
+   * @param blockInfo      block info of the node
+   * @param nodeNumber     index of the block in index map file
+   */
+  public MappedBlockBTreeLeafNode(CarbonIndexMapFileReader indexMapReader, BlockInfo blockInfo,
+      int nodeNumber) {
+    super(blockInfo, nodeNumber);
+    this.indexMapReader = indexMapReader;
+  }
+
+  @Override public byte[][] getColumnsMaxValue() {
+    return indexMapReader.getMaxValues((int) nodeNumber);
+  }
+
+  @Override public byte[][] getColumnsMinValue() {
+    return indexMapReader.getMinValues((int) nodeNumber);
+  }
+}
@@ -28,4 +28,19 @@ public enum CompressionCodec {
    * snappy compression
    */
   SNAPPY,
+
+  /**
+   * lz4 compression, faster to decompress than snappy
+   */
+  LZ4,
+
+  /**
+   * zstandard compression, better compression ratio at the cost of cpu
+   */
+  ZSTD,
+
+  /**
+   * no compression
+   */
+  NONE,
 }
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.carbon.metadata.blocklet.index;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+/**
+ * Bloom filter of the values of one column in a blocklet. It is used to skip
+ * the blocklets during equal and in filter on high cardinality columns, where
+ * min max of every blocklet covers the filter value
+ */
+public class BlockletBloomFilter implements Serializable {
+
+  /**
+   * serialization version
+   */
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * constants of the murmur hash
+   */
+  private static final long C1 = 0x87c37b91114253d5L;
+
+  private static final long C2 = 0x4cf5ad432745937fL;
+
+  /**
+   * index of the dimension column block whose values are added
+   */
+  private int columnIndex;
+
+  /**
+   * number of hash functions used to set the bits of a value
+   */
+  private int numberOfHashFunctions;
+
+  /**
+   * bits of the filter
+   */
+  private long[] bits;
+
+  /**
+   * Constructor to create the filter read from the file
+   *
+   * @param columnIndex           column block index
+   * @param numberOfHashFunctions number of hash functions
+   * @param bitSet                bits of the filter
+   */
+  public BlockletBloomFilter(int columnIndex, int numberOfHashFunctions, byte[] bitSet) {
+    this.columnIndex = columnIndex;
+    this.numberOfHashFunctions = numberOfHashFunctions;
+    this.bits = new long[bitSet.length / 8];
+    ByteBuffer buffer = ByteBuffer.wrap(bitSet);
+    for (int i = 0; i < bits.length; i++) {
+      bits[i] = buffer.getLong();
+    }
+  }
+
+  private BlockletBloomFilter(int columnIndex, int numberOfHashFunctions, long[] bits) {
+    this.columnIndex = columnIndex;
+    this.numberOfHashFunctions = numberOfHashFunctions;
+    this.bits = bits;
+  }
+
+  /**
+   * Below method will be used to create an empty filter sized for the
+   * expected number of values and false positive probability
+   *
+   * @param columnIndex     column block index
+   * @param expectedEntries expected number of distinct values
+   * @param fpp             false positive probability
+   * @return bloom filter
+   */
+  public static BlockletBloomFilter create(int columnIndex, int expectedEntries, double fpp) {
+    int entries = Math.max(1, expectedEntries);
+    long numberOfBits = (long) (-entries * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+    int numberOfLongs = (int) Math.max(1, (numberOfBits + 63) / 64);
+    int numberOfHashFunctions =
+        Math.max(1, (int) Math.round((double) numberOfBits / entries * Math.log(2)));
+    return new BlockletBloomFilter(columnIndex, numberOfHashFunctions, new long[numberOfLongs]);
+  }
+
+  /**
+   * Below method will be used to add a value to the filter
+   *
+   * @param value  array holding the value
+   * @param offset offset of the value in array
+   * @param length length of the value
+   */
+  public void add(byte[] value, int offset, int length) {
+    long hash = hash(value, offset, length);
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    long numberOfBits = (long) bits.length * 64;
+    for (int i = 1; i <= numberOfHashFunctions; i++) {
+      int combinedHash = hash1 + i * hash2;
+      if (combinedHash < 0) {
+        combinedHash = ~combinedHash;
+      }
+      long bitIndex = combinedHash % numberOfBits;
+      bits[(int) (bitIndex >>> 6)] |= 1L << bitIndex;
+    }
+  }
+
+  /**
+   * Below method will be used to check whether value may be present in the
+   * filter, false means value is not present
+   *
+   * @param value value to be checked
+   * @return false if value is not added to the filter
+   */
+  public boolean mightContain(byte[] value) {
+    long hash = hash(value, 0, value.length);
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    long numberOfBits = (long) bits.length * 64;
+    for (int i = 1; i <= numberOfHashFunctions; i++) {
+      int combinedHash = hash1 + i * hash2;
+      if (combinedHash < 0) {
+        combinedHash = ~combinedHash;
+      }
+      long bitIndex = combinedHash % numberOfBits;
+      if ((bits[(int) (bitIndex >>> 6)] & (1L << bitIndex)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 64 bit murmur hash of the value
+   */
+  private static long hash(byte[] value, int offset, int length) {
+    long h = length;
+    int end = offset + (length & ~7);
+    for (int i = offset; i < end; i += 8) {
+      long k = (value[i] & 0xFFL) | (value[i + 1] & 0xFFL) << 8 | (value[i + 2] & 0xFFL) << 16
+          | (value[i + 3] & 0xFFL) << 24 | (value[i + 4] & 0xFFL) << 32
+          | (value[i + 5] & 0xFFL) << 40 | (value[i + 6] & 0xFFL) << 48
+          | (value[i + 7] & 0xFFL) << 56;
+      h ^= mixK(k);
+      h = Long.rotateLeft(h, 27) * 5 + 0x52dce729;
+    }
+    long k = 0;
+    for (int i = offset + length - 1; i >= end; i--) {
+      k = (k << 8) | (value[i] & 0xFFL);
+    }
+    h ^= mixK(k);
+    return fmix(h);
+  }
+
+  private static long mixK(long k) {
+    k *= C1;
+    k = Long.rotateLeft(k, 31);
+    k *= C2;
+    return k;
+  }
+
+  private static long fmix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  /**
+   * @return the columnIndex
+   */
+  public int getColumnIndex() {
+    return columnIndex;
+  }
+
+  /**
+   * @return the numberOfHashFunctions
+   */
+  public int getNumberOfHashFunctions() {
+    return numberOfHashFunctions;
+  }
+
+  /**
+   * @return bits of the filter to be written to file
+   */
+  public byte[] getBitSet() {
+    ByteBuffer buffer = ByteBuffer.allocate(bits.length * 8);
+    for (long word : bits) {
+      buffer.putLong(word);
+    }
+    return buffer.array();
+  }
+}
@@ -17,6 +17,7 @@
 package org.apache.carbondata.core.carbon.metadata.blocklet.index;
 
 import java.io.Serializable;
+import java.util.List;
 
 /**
  * Persist Index of all blocklets in one file
@@ -38,6 +39,11 @@ public class BlockletIndex implements Serializable {
    */
   private BlockletMinMaxIndex minMaxIndex;
 
+  /**
+   * bloom filter of the columns configured by the user, null if not present
+   */
+  private List<BlockletBloomFilter> bloomFilters;
+
   public BlockletIndex() {
   }
 
@@ -74,4 +80,17 @@ public class BlockletIndex implements Serializable {
     this.minMaxIndex = minMaxIndex;
   }
 
+  /**
+   * @return the bloomFilters
+   */
+  public List<BlockletBloomFilter> getBloomFilters() {
+    return bloomFilters;
+  }
+
+  /**
+   * @param bloomFilters the bloomFilters to set
+   */
+  public void setBloomFilters(List<BlockletBloomFilter> bloomFilters) {
+    this.bloomFilters = bloomFilters;
+  }
 }
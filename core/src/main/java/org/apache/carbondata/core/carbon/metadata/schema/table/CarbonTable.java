@@ -22,18 +22,22 @@ package org.apache.carbondata.core.carbon.metadata.schema.table;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
 import org.apache.carbondata.core.carbon.CarbonTableIdentifier;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
 import org.apache.carbondata.core.carbon.metadata.encoder.Encoding;
 import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonDimension;
 import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonMeasure;
 import org.apache.carbondata.core.carbon.metadata.schema.table.column.ColumnSchema;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 
 /**
  * Mapping class for Carbon actual table
@@ -91,6 +95,17 @@ public class CarbonTable implements Serializable {
    */
   private int blockSize;
 
+  /**
+   * codec used to compress the column pages of the table
+   */
+  private CompressionCodec compressionCodec;
+
+  /**
+   * lower case names of the columns for which bloom filter of each blocklet
+   * is stored
+   */
+  private Set<String> bloomFilterColumns;
+
   public CarbonTable() {
     this.tableDimensionsMap = new HashMap<String, List<CarbonDimension>>();
     this.tableMeasuresMap = new HashMap<String, List<CarbonMeasure>>();
@@ -102,6 +117,8 @@ public class CarbonTable implements Serializable {
    */
   public void loadCarbonTable(TableInfo tableInfo) {
     this.blockSize = getTableBlockSizeInMB(tableInfo);
+    this.compressionCodec = getTableCompressionCodec(tableInfo);
+    this.bloomFilterColumns = getTableBloomFilterColumns(tableInfo);
     this.tableLastUpdatedTime = tableInfo.getLastUpdatedTime();
     this.tableUniqueName = tableInfo.getTableUniqueName();
     this.metaDataFilepath = tableInfo.getMetaDataFilepath();
@@ -144,6 +161,54 @@ public class CarbonTable implements Serializable {
     return Integer.parseInt(tableBlockSize);
   }
 
+  /**
+   * This method will return the codec of the table. Codec configured in carbon
+   * properties will be considered in case not specified by the user
+   *
+   * @param tableInfo
+   * @return
+   */
+  private CompressionCodec getTableCompressionCodec(TableInfo tableInfo) {
+    CompressionCodec codec = null;
+    Map<String, String> tableProperties = tableInfo.getFactTable().getTableProperties();
+    if (null != tableProperties) {
+      String codecName = tableProperties.get(CarbonCommonConstants.TABLE_COMPRESSOR);
+      codec = CompressorFactory.getCompressionCodec(codecName);
+      if (null == codec && null != codecName) {
+        LOGGER.error("Invalid compressor " + codecName + " specified for "
+            + tableInfo.getTableUniqueName() + ". Therefore considering the default compressor");
+      }
+    }
+    if (null == codec) {
+      codec = CompressorFactory.getDefaultCompressionCodec();
+    }
+    return codec;
+  }
+
+  /**
+   * This method will return the columns configured by the user for which
+   * bloom filter of each blocklet is stored
+   *
+   * @param tableInfo
+   * @return lower case column names
+   */
+  private Set<String> getTableBloomFilterColumns(TableInfo tableInfo) {
+    Set<String> columns = new HashSet<String>();
+    Map<String, String> tableProperties = tableInfo.getFactTable().getTableProperties();
+    if (null != tableProperties) {
+      String bloomFilterColumns =
+          tableProperties.get(CarbonCommonConstants.TABLE_BLOOM_FILTER_COLUMNS);
+      if (null != bloomFilterColumns) {
+        for (String column : bloomFilterColumns.split(CarbonCommonConstants.COMMA)) {
+          if (!column.trim().isEmpty()) {
+            columns.add(column.trim().toLowerCase());
+          }
+        }
+      }
+    }
+    return columns;
+  }
+
   /**
    * Fill dimensions and measures for carbon table
    *
@@ -438,4 +503,23 @@ public class CarbonTable implements Serializable {
     this.blockSize = blockSize;
   }
 
+  public CompressionCodec getCompressionCodec() {
+    return compressionCodec;
+  }
+
+  /**
+   * @param columnName column name
+   * @return true if bloom filter of each blocklet is stored for the column
+   */
+  public boolean isBloomFilterColumn(String columnName) {
+    return null != bloomFilterColumns && bloomFilterColumns.contains(columnName.toLowerCase());
+  }
+
+  /**
+   * @return true if bloom filter is stored for any column of the table
+   */
+  public boolean hasBloomFilterColumns() {
+    return null != bloomFilterColumns && !bloomFilterColumns.isEmpty();
+  }
+
 }
@@ -48,6 +48,7 @@ public class CarbonTablePath extends Path {
   protected static final String CARBON_DATA_EXT = ".carbondata";
   protected static final String DATA_PART_PREFIX = "part";
   protected static final String INDEX_FILE_EXT = ".carbonindex";
+  protected static final String INDEX_MAP_FILE_EXT = ".carbonindexmap";
 
   protected String tablePath;
   protected CarbonTableIdentifier carbonTableIdentifier;
@@ -289,6 +290,18 @@ public class CarbonTablePath extends Path {
     return taskNo + "-" + factUpdatedTimeStamp + INDEX_FILE_EXT;
   }
 
+  /**
+   * Below method will be used to get the index map file path of a carbon
+   * index file, index map file is written in same folder with same name
+   *
+   * @param carbonIndexFilePath carbon index file path
+   * @return index map file path
+   */
+  public static String getCarbonIndexMapFilePath(String carbonIndexFilePath) {
+    return carbonIndexFilePath.substring(0, carbonIndexFilePath.lastIndexOf('.'))
+        + INDEX_MAP_FILE_EXT;
+  }
+
   private String getSegmentDir(String partitionId, String segmentId) {
     return getPartitionDir(partitionId) + File.separator + SEGMENT_PREFIX + segmentId;
   }
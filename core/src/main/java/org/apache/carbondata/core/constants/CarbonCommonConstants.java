@@ -263,6 +263,38 @@ public final class CarbonCommonConstants {
    * Number of cores to be used while compacting
    */
   public static final String NUM_CORES_COMPACTING = "carbon.number.of.cores.while.compacting";
+  /**
+   * Number of data files written in parallel by each load task, each file is written
+   * by its own writer with a separate task id in the file name. Blocklets are dealt to
+   * the writers round robin, so every file covers the whole key range of the task and
+   * block level min max pruning can select up to this many times more blocks
+   */
+  public static final String NUMBER_OF_DATA_WRITERS = "carbon.number.of.data.writers";
+  /**
+   * Default value of number of data files written in parallel by each load task
+   */
+  public static final String NUMBER_OF_DATA_WRITERS_DEFAULT_VAL = "1";
+  /**
+   * Whether the measure pages are encoded with the cheapest of RLE, delta, bit packing
+   * and page dictionary when it is smaller than the value compression of the measure
+   */
+  public static final String ENABLE_ADAPTIVE_PAGE_ENCODING = "carbon.enable.adaptive.page.encoding";
+  /**
+   * Default value of adaptive page encoding
+   */
+  public static final String ENABLE_ADAPTIVE_PAGE_ENCODING_DEFAULT_VAL = "true";
+
+  /**
+   * false positive probability of the blocklet bloom filter of the columns
+   * configured in bloom_filter_columns table property
+   */
+  public static final String CARBON_BLOOM_FILTER_FPP = "carbon.bloom.filter.fpp";
+
+  /**
+   * default false positive probability of the blocklet bloom filter
+   */
+  public static final String CARBON_BLOOM_FILTER_FPP_DEFAULT_VAL = "0.01";
+
   /**
    * Number of cores to be used for block sort
    */
@@ -439,6 +471,10 @@ public final class CarbonCommonConstants {
    * LOAD_STATUS PARTIAL_SUCCESS
    */
   public static final String STORE_LOADSTATUS_PARTIAL_SUCCESS = "Partial Success";
+  /**
+   * LOAD_STATUS IN_PROGRESS, segment is opened for loading and not yet visible for query
+   */
+  public static final String STORE_LOADSTATUS_IN_PROGRESS = "In Progress";
   /**
    * LOAD_STATUS
    */
@@ -547,6 +583,32 @@ public final class CarbonCommonConstants {
    * max level cache size default value in GB
    */
   public static final String CARBON_MAX_LEVEL_CACHE_SIZE_DEFAULT = "-1";
+  /**
+   * number of segments of the level cache, each segment is locked separately
+   */
+  public static final String CARBON_LRU_CACHE_SEGMENTS = "carbon.lru.cache.segments";
+  /**
+   * default number of segments of the level cache
+   */
+  public static final String CARBON_LRU_CACHE_SEGMENTS_DEFAULT = "16";
+  /**
+   * max size in MB of the block indexes which can be kept in executor memory
+   */
+  public static final String CARBON_MAX_EXECUTOR_LRU_CACHE_SIZE =
+      "carbon.max.executor.lru.cache.size";
+  /**
+   * default value of executor lru cache size, -1 means no limit
+   */
+  public static final String CARBON_MAX_EXECUTOR_LRU_CACHE_SIZE_DEFAULT = "-1";
+  /**
+   * whether to write and use the memory mappable index map file along with
+   * carbon index file
+   */
+  public static final String CARBON_INDEX_MAP_FILE_ENABLE = "carbon.index.map.file.enable";
+  /**
+   * default value of index map file enable
+   */
+  public static final String CARBON_INDEX_MAP_FILE_ENABLE_DEFAULT = "false";
   /**
    * DOUBLE_VALUE_MEASURE
    */
@@ -618,6 +680,51 @@ public final class CarbonCommonConstants {
    */
   public static final String DICTIONARY_ONE_CHUNK_SIZE_DEFAULT = "10000";
 
+  /**
+   * whether to refresh the dictionary cache incrementally, sort index of only the new
+   * dictionary values is merged in memory instead of reading the complete sort index file
+   */
+  public static final String CARBON_DICTIONARY_INCREMENTAL_REFRESH =
+      "carbon.dictionary.incremental.refresh";
+
+  /**
+   * default value of incremental dictionary cache refresh
+   */
+  public static final String CARBON_DICTIONARY_INCREMENTAL_REFRESH_DEFAULT = "false";
+
+  /**
+   * port of dictionary server started in driver for single pass data load, any free
+   * port is used if it is 0
+   */
+  public static final String CARBON_DICTIONARY_SERVER_PORT = "carbon.dictionary.server.port";
+
+  /**
+   * default port of dictionary server
+   */
+  public static final String CARBON_DICTIONARY_SERVER_PORT_DEFAULT = "0";
+
+  /**
+   * timeout in milliseconds of dictionary client to connect and to get the response from
+   * dictionary server, and of dictionary server to get the token from client
+   */
+  public static final String CARBON_DICTIONARY_SERVER_TIMEOUT = "carbon.dictionary.server.timeout";
+
+  /**
+   * default timeout of dictionary server and client
+   */
+  public static final String CARBON_DICTIONARY_SERVER_TIMEOUT_DEFAULT = "120000";
+
+  /**
+   * maximum number of client connections handled by dictionary server at a time
+   */
+  public static final String CARBON_DICTIONARY_SERVER_MAX_CONNECTIONS =
+      "carbon.dictionary.server.max.connections";
+
+  /**
+   * default maximum number of dictionary server connections
+   */
+  public static final String CARBON_DICTIONARY_SERVER_MAX_CONNECTIONS_DEFAULT = "1000";
+
   /**
    * xxhash algorithm property for hashmap
    */
@@ -719,6 +826,12 @@ public final class CarbonCommonConstants {
   public static final String COLUMN_PROPERTIES = "columnproperties";
   // table block size in MB
   public static final String TABLE_BLOCKSIZE = "table_blocksize";
+  // compressor used for the column pages of the table
+  public static final String TABLE_COMPRESSOR = "table_compressor";
+  // column property to override the table compressor for one column
+  public static final String COLUMN_COMPRESSOR = "compressor";
+  // no dictionary columns for which bloom filter of each blocklet is stored
+  public static final String TABLE_BLOOM_FILTER_COLUMNS = "bloom_filter_columns";
 
   /**
    * this variable is to enable/disable identify high cardinality during first data loading
@@ -765,6 +878,43 @@ public final class CarbonCommonConstants {
    */
   public static final int NUMBER_OF_CORE_TO_LOAD_DRIVER_SEGMENT_DEFAULT_VALUE = 10;
 
+  /**
+   * whether to prune the blocklets of filter query in driver using the min
+   * max of blocklets in the footer of data file, footer of each selected
+   * block is read in driver
+   */
+  public static final String CARBON_DRIVER_BLOCKLET_PRUNING_ENABLE =
+      "carbon.driver.blocklet.pruning.enable";
+
+  /**
+   * default value of driver blocklet pruning enable
+   */
+  public static final String CARBON_DRIVER_BLOCKLET_PRUNING_ENABLE_DEFAULT = "false";
+
+  /**
+   * whether to aggregate the rows in executor on the dictionary surrogate keys
+   * before the dictionary decoder, when the decoder is below the aggregate
+   */
+  public static final String CARBON_PARTIAL_AGGREGATE_ENABLE =
+      "carbon.query.partial.aggregate.enable";
+
+  /**
+   * default value of partial aggregate enable
+   */
+  public static final String CARBON_PARTIAL_AGGREGATE_ENABLE_DEFAULT = "true";
+
+  /**
+   * maximum number of groups kept in memory by the partial aggregate of a
+   * partition, groups are returned and cleared once it is reached
+   */
+  public static final String CARBON_PARTIAL_AGGREGATE_MAX_GROUPS =
+      "carbon.query.partial.aggregate.max.groups";
+
+  /**
+   * default value of maximum number of groups of partial aggregate
+   */
+  public static final String CARBON_PARTIAL_AGGREGATE_MAX_GROUPS_DEFAULT = "65536";
+
   /**
    * ZOOKEEPERLOCK TYPE
    */
@@ -894,6 +1044,129 @@ public final class CarbonCommonConstants {
    */
   public static final String DATA_LOAD_BATCH_SIZE_DEFAULT = "1000";
 
+  /**
+   * to enable the prefetch mode of detail query, in which multiple blocks are
+   * scanned concurrently and ready batches are buffered for the consumer.
+   * It is ignored for vector reader
+   */
+  public static final String ENABLE_QUERY_PREFETCH = "carbon.query.prefetch.enable";
+
+  /**
+   * default value of query prefetch mode
+   */
+  public static final String ENABLE_QUERY_PREFETCH_DEFAULT = "false";
+
+  /**
+   * number of threads which will scan the blocks concurrently in prefetch mode
+   */
+  public static final String QUERY_PREFETCH_THREADS = "carbon.query.prefetch.threads";
+
+  /**
+   * maximum number of ready batches buffered in prefetch mode
+   */
+  public static final String QUERY_PREFETCH_QUEUE_DEPTH = "carbon.query.prefetch.queue.depth";
+
+  /**
+   * default number of ready batches buffered in prefetch mode
+   */
+  public static final String QUERY_PREFETCH_QUEUE_DEPTH_DEFAULT = "4";
+
+  /**
+   * memory budget in MB for the ready batches buffered in prefetch mode
+   */
+  public static final String QUERY_PREFETCH_MEMORY_IN_MB = "carbon.query.prefetch.memory.mb";
+
+  /**
+   * default memory budget in MB for prefetch mode
+   */
+  public static final String QUERY_PREFETCH_MEMORY_IN_MB_DEFAULT = "256";
+
+  /**
+   * to enable the pooled file holder for HDFS, which keeps a process wide
+   * pool of open streams and reads them using positional reads
+   */
+  public static final String ENABLE_DFS_STREAM_POOL = "carbon.dfs.stream.pool.enable";
+
+  /**
+   * default value of pooled file holder
+   */
+  public static final String ENABLE_DFS_STREAM_POOL_DEFAULT = "false";
+
+  /**
+   * maximum number of streams kept open in the stream pool
+   */
+  public static final String DFS_STREAM_POOL_SIZE = "carbon.dfs.stream.pool.size";
+
+  /**
+   * default maximum number of streams kept open in the stream pool
+   */
+  public static final String DFS_STREAM_POOL_SIZE_DEFAULT = "256";
+
+  /**
+   * time in milliseconds after which an unused stream is closed
+   */
+  public static final String DFS_STREAM_POOL_IDLE_TIMEOUT = "carbon.dfs.stream.pool.idle.timeout";
+
+  /**
+   * default idle time in milliseconds after which an unused stream is closed
+   */
+  public static final String DFS_STREAM_POOL_IDLE_TIMEOUT_DEFAULT = "60000";
+
+  /**
+   * maximum gap in bytes between two column chunk pages of a blocklet to
+   * read them in one read call, 0 will merge only adjacent pages
+   */
+  public static final String CARBON_READ_COALESCE_GAP_SIZE = "carbon.read.coalesce.gap.size";
+
+  /**
+   * default gap in bytes for merging the column chunk page reads
+   */
+  public static final String CARBON_READ_COALESCE_GAP_SIZE_DEFAULT = "65536";
+
+  /**
+   * maximum size in bytes of one merged read of column chunk pages, pages
+   * beyond it are read in the next read
+   */
+  public static final String CARBON_READ_COALESCE_MAX_SIZE = "carbon.read.coalesce.max.size";
+
+  /**
+   * default maximum size in bytes of merged column chunk page read
+   */
+  public static final String CARBON_READ_COALESCE_MAX_SIZE_DEFAULT = "16777216";
+
+  /**
+   * to keep the loaded fixed length dimension and numeric measure chunks in
+   * off heap memory, memory is released after the blocklet is scanned
+   */
+  public static final String ENABLE_OFFHEAP_CHUNK_STORE = "carbon.chunk.store.offheap.enable";
+
+  /**
+   * by default column chunks are kept in heap
+   */
+  public static final String ENABLE_OFFHEAP_CHUNK_STORE_DEFAULT = "false";
+
+  /**
+   * compressor used for the column pages of the tables which does not
+   * configure one, supported values are snappy, lz4, zstd and none
+   */
+  public static final String CARBON_COLUMN_COMPRESSOR = "carbon.column.compressor";
+
+  /**
+   * default column page compressor
+   */
+  public static final String CARBON_COLUMN_COMPRESSOR_DEFAULT = "snappy";
+
+  /**
+   * to sort the rows in data loading by the packed key prefix of dictionary
+   * dimensions using radix sort instead of comparing the complete rows
+   */
+  public static final String CARBON_LOAD_SORT_PREFIX_ENABLE = "carbon.load.sort.prefix.enable";
+
+  /**
+   * by default key prefix sort is used
+   */
+  public static final String CARBON_LOAD_SORT_PREFIX_ENABLE_DEFAULT = "true";
+
   private CarbonCommonConstants() {
   }
 }
@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.compression;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
+
+import com.github.luben.zstd.Zstd;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Compressors of the codecs which only compress byte arrays. Arrays of other
+ * primitive types are compressed using the byte representation of the array
+ */
+public class ByteArrayBasedCompression {
+
+  /**
+   * lz4 block format does not store the uncompressed length, so it is
+   * written as an int before the compressed data
+   */
+  private static final int LZ4_LENGTH_SIZE = 4;
+
+  /**
+   * compression level, 3 is the default level of zstandard and gives a
+   * better ratio than snappy at a similar compression speed
+   */
+  private static final int ZSTD_COMPRESSION_LEVEL = 3;
+
+  /**
+   * zstd is uncompressed without a dictionary
+   */
+  private static final byte[] ZSTD_EMPTY_DICTIONARY = new byte[0];
+
+  private static final LZ4Compressor LZ4_COMPRESSOR =
+      LZ4Factory.fastestInstance().fastCompressor();
+
+  private static final LZ4FastDecompressor LZ4_DECOMPRESSOR =
+      LZ4Factory.fastestInstance().fastDecompressor();
+
+  /**
+   * ByteCompressor of each byte array based codec
+   */
+  public static enum ByteCompressor implements Compressor<byte[]> {
+
+    LZ4 {
+      public byte[] compress(byte[] unCompInput) {
+        int maxCompressedLength = LZ4_COMPRESSOR.maxCompressedLength(unCompInput.length);
+        byte[] output = new byte[LZ4_LENGTH_SIZE + maxCompressedLength];
+        ByteBuffer.wrap(output).putInt(unCompInput.length);
+        int compressedLength = LZ4_COMPRESSOR
+            .compress(unCompInput, 0, unCompInput.length, output, LZ4_LENGTH_SIZE,
+                maxCompressedLength);
+        return Arrays.copyOf(output, LZ4_LENGTH_SIZE + compressedLength);
+      }
+
+      public int unCompressedLength(byte[] compInput, int offset, int length) {
+        return ByteBuffer.wrap(compInput, offset, length).getInt();
+      }
+
+      public int unCompress(byte[] compInput, int offset, int length, byte[] output,
+          int outputOffset) {
+        int unCompressedLength = unCompressedLength(compInput, offset, length);
+        LZ4_DECOMPRESSOR.decompress(compInput, offset + LZ4_LENGTH_SIZE, output, outputOffset,
+            unCompressedLength);
+        return unCompressedLength;
+      }
+    },
+
+    ZSTD {
+      public byte[] compress(byte[] unCompInput) {
+        return Zstd.compress(unCompInput, ZSTD_COMPRESSION_LEVEL);
+      }
+
+      /**
+       * uncompressed size is stored in the frame header by Zstd.compress, so
+       * only the header is passed as zstd-jni can not read a part of the array
+       */
+      public int unCompressedLength(byte[] compInput, int offset, int length) {
+        int headerLength = Math.min(length, Zstd.frameHeaderSizeMax());
+        return (int) Zstd
+            .decompressedSize(Arrays.copyOfRange(compInput, offset, offset + headerLength));
+      }
+
+      public int unCompress(byte[] compInput, int offset, int length, byte[] output,
+          int outputOffset) {
+        long unCompressedLength = Zstd
+            .decompressUsingDict(output, outputOffset, compInput, offset, length,
+                ZSTD_EMPTY_DICTIONARY);
+        if (Zstd.isError(unCompressedLength)) {
+          throw new IllegalStateException(
+              "Problem while uncompressing zstd data: " + Zstd.getErrorName(unCompressedLength));
+        }
+        return (int) unCompressedLength;
+      }
+    },
+
+    /**
+     * keeps the data as it is. Can be used for the columns whose data does
+     * not compress, so cpu is not wasted
+     */
+    NONE {
+      public byte[] compress(byte[] unCompInput) {
+        return unCompInput;
+      }
+
+      public byte[] unCompress(byte[] compInput) {
+        return compInput;
+      }
+
+      public int unCompressedLength(byte[] compInput, int offset, int length) {
+        return length;
+      }
+
+      public int unCompress(byte[] compInput, int offset, int length, byte[] output,
+          int outputOffset) {
+        System.arraycopy(compInput, offset, output, outputOffset, length);
+        return length;
+      }
+    };
+
+    /**
+     * compressors of the primitive arrays using this codec
+     */
+    final PrimitiveArrayCompressor<short[]> shortCompressor =
+        new PrimitiveArrayCompressor<short[]>(this, PrimitiveArrayType.SHORT);
+
+    final PrimitiveArrayCompressor<int[]> intCompressor =
+        new PrimitiveArrayCompressor<int[]>(this, PrimitiveArrayType.INT);
+
+    final PrimitiveArrayCompressor<long[]> longCompressor =
+        new PrimitiveArrayCompressor<long[]>(this, PrimitiveArrayType.LONG);
+
+    final PrimitiveArrayCompressor<float[]> floatCompressor =
+        new PrimitiveArrayCompressor<float[]>(this, PrimitiveArrayType.FLOAT);
+
+    final PrimitiveArrayCompressor<double[]> doubleCompressor =
+        new PrimitiveArrayCompressor<double[]>(this, PrimitiveArrayType.DOUBLE);
+
+    /**
+     * Below method will be used to uncompress the data in to an existing
+     * array from the given offset
+     *
+     * @param compInput    compressed data
+     * @param offset       offset of the compressed data in compInput
+     * @param length       length of the compressed data
+     * @param output       array to fill
+     * @param outputOffset offset in output from which data is filled
+     * @return number of bytes filled
+     */
+    public abstract int unCompress(byte[] compInput, int offset, int length, byte[] output,
+        int outputOffset);
+
+    /**
+     * wrapper method for unCompress byte[] compInput.
+     *
+     * @return byte[].
+     */
+    public byte[] unCompress(byte[] compInput) {
+      byte[] output = new byte[unCompressedLength(compInput, 0, compInput.length)];
+      unCompress(compInput, 0, compInput.length, output, 0);
+      return output;
+    }
+
+    public int unCompress(byte[] compInput, int offset, int length, byte[] output) {
+      return unCompress(compInput, offset, length, output, 0);
+    }
+  }
+
+  /**
+   * Compressor of a primitive array, which compresses the byte representation
+   * of the array using the byte compressor of the codec
+   *
+   * @param <T> primitive array type
+   */
+  public static final class PrimitiveArrayCompressor<T> implements Compressor<T> {
+
+    private ByteCompressor byteCompressor;
+
+    private PrimitiveArrayType<T> arrayType;
+
+    PrimitiveArrayCompressor(ByteCompressor byteCompressor, PrimitiveArrayType<T> arrayType) {
+      this.byteCompressor = byteCompressor;
+      this.arrayType = arrayType;
+    }
+
+    @Override public byte[] compress(T input) {
+      ByteBuffer buffer = ByteBuffer.allocate(arrayType.length(input) * arrayType.size);
+      arrayType.put(buffer, input);
+      return byteCompressor.compress(buffer.array());
+    }
+
+    @Override public T unCompress(byte[] input) {
+      byte[] data = byteCompressor.unCompress(input);
+      T output = arrayType.newArray(data.length / arrayType.size);
+      arrayType.get(ByteBuffer.wrap(data), output, data.length / arrayType.size);
+      return output;
+    }
+
+    @Override public int unCompressedLength(byte[] input, int offset, int length) {
+      return byteCompressor.unCompressedLength(input, offset, length) / arrayType.size;
+    }
+
+    @Override public int unCompress(byte[] input, int offset, int length, T output) {
+      return unCompress(input, offset, length, output, null);
+    }
+
+    /**
+     * Below method will be used to uncompress the data in to an existing
+     * array. Bytes are uncompressed in to the byte array of the buffer, so
+     * no intermediate array is allocated for the page
+     *
+     * @param input  compressed data
+     * @param offset offset of the compressed data in input
+     * @param length length of the compressed data
+     * @param output array to fill from index 0
+     * @param buffer buffer of the column, null if a new array can be allocated
+     * @return number of values filled
+     */
+    public int unCompress(byte[] input, int offset, int length, T output,
+        ColumnPageBuffer buffer) {
+      int numberOfValues = unCompressedLength(input, offset, length);
+      ByteBuffer data;
+      if (byteCompressor == ByteCompressor.NONE) {
+        // uncompressed data is read directly from the input
+        data = ByteBuffer.wrap(input, offset, length);
+      } else {
+        int numberOfBytes = numberOfValues * arrayType.size;
+        byte[] bytes =
+            null == buffer ? new byte[numberOfBytes] : buffer.getByteArray(numberOfBytes);
+        byteCompressor.unCompress(input, offset, length, bytes, 0);
+        data = ByteBuffer.wrap(bytes);
+      }
+      arrayType.get(data, output, numberOfValues);
+      return numberOfValues;
+    }
+  }
+
+  /**
+   * Conversion of a primitive array to and from its byte representation
+   *
+   * @param <T> primitive array type
+   */
+  abstract static class PrimitiveArrayType<T> {
+
+    static final PrimitiveArrayType<short[]> SHORT = new PrimitiveArrayType<short[]>(2) {
+      @Override short[] newArray(int length) {
+        return new short[length];
+      }
+
+      @Override int length(short[] array) {
+        return array.length;
+      }
+
+      @Override void put(ByteBuffer buffer, short[] array) {
+        buffer.asShortBuffer().put(array);
+      }
+
+      @Override void get(ByteBuffer buffer, short[] array, int length) {
+        buffer.asShortBuffer().get(array, 0, length);
+      }
+    };
+
+    static final PrimitiveArrayType<int[]> INT = new PrimitiveArrayType<int[]>(4) {
+      @Override int[] newArray(int length) {
+        return new int[length];
+      }
+
+      @Override int length(int[] array) {
+        return array.length;
+      }
+
+      @Override void put(ByteBuffer buffer, int[] array) {
+        buffer.asIntBuffer().put(array);
+      }
+
+      @Override void get(ByteBuffer buffer, int[] array, int length) {
+        buffer.asIntBuffer().get(array, 0, length);
+      }
+    };
+
+    static final PrimitiveArrayType<long[]> LONG = new PrimitiveArrayType<long[]>(8) {
+      @Override long[] newArray(int length) {
+        return new long[length];
+      }
+
+      @Override int length(long[] array) {
+        return array.length;
+      }
+
+      @Override void put(ByteBuffer buffer, long[] array) {
+        buffer.asLongBuffer().put(array);
+      }
+
+      @Override void get(ByteBuffer buffer, long[] array, int length) {
+        buffer.asLongBuffer().get(array, 0, length);
+      }
+    };
+
+    static final PrimitiveArrayType<float[]> FLOAT = new PrimitiveArrayType<float[]>(4) {
+      @Override float[] newArray(int length) {
+        return new float[length];
+      }
+
+      @Override int length(float[] array) {
+        return array.length;
+      }
+
+      @Override void put(ByteBuffer buffer, float[] array) {
+        buffer.asFloatBuffer().put(array);
+      }
+
+      @Override void get(ByteBuffer buffer, float[] array, int length) {
+        buffer.asFloatBuffer().get(array, 0, length);
+      }
+    };
+
+    static final PrimitiveArrayType<double[]> DOUBLE = new PrimitiveArrayType<double[]>(8) {
+      @Override double[] newArray(int length) {
+        return new double[length];
+      }
+
+      @Override int length(double[] array) {
+        return array.length;
+      }
+
+      @Override void put(ByteBuffer buffer, double[] array) {
+        buffer.asDoubleBuffer().put(array);
+      }
+
+      @Override void get(ByteBuffer buffer, double[] array, int length) {
+        buffer.asDoubleBuffer().get(array, 0, length);
+      }
+    };
+
+    /**
+     * size of one value in bytes
+     */
+    private final int size;
+
+    private PrimitiveArrayType(int size) {
+      this.size = size;
+    }
+
+    abstract T newArray(int length);
+
+    abstract int length(T array);
+
+    abstract void put(ByteBuffer buffer, T array);
+
+    abstract void get(ByteBuffer buffer, T array, int length);
+  }
+}
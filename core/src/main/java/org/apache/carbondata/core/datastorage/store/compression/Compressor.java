@@ -25,4 +25,29 @@ public interface Compressor<T> {
 
   T unCompress(byte[] input);
 
+  /**
+   * Below method will be used to get the number of values the compressed
+   * data will have after uncompressing
+   *
+   * @param input  compressed data
+   * @param offset offset of the compressed data in input
+   * @param length length of the compressed data
+   * @return number of values
+   */
+  int unCompressedLength(byte[] input, int offset, int length);
+
+  /**
+   * Below method will be used to uncompress the data in to an existing
+   * array, so callers can reuse the array instead of allocating a new one
+   * for every page
+   *
+   * @param input  compressed data
+   * @param offset offset of the compressed data in input
+   * @param length length of the compressed data
+   * @param output array to fill from index 0, it must be able to hold
+   *               {@link #unCompressedLength(byte[], int, int)} values
+   * @return number of values filled
+   */
+  int unCompress(byte[] input, int offset, int length, T output);
+
 }
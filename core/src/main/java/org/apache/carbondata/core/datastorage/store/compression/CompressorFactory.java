@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.compression;
+
+import org.apache.carbondata.common.logging.LogService;
+import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.carbon.metadata.blocklet.datachunk.DataChunk;
+import org.apache.carbondata.core.carbon.metadata.schema.table.column.ColumnSchema;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastorage.store.compression.ByteArrayBasedCompression.ByteCompressor;
+import org.apache.carbondata.core.util.CarbonProperties;
+
+/**
+ * Factory to get the compressor of a compression codec. Snappy is backed by
+ * the {@link SnappyCompression} compressors, other codecs are backed by the
+ * {@link ByteArrayBasedCompression} compressors
+ */
+public final class CompressorFactory {
+
+  /**
+   * Attribute for Carbon LOGGER
+   */
+  private static final LogService LOGGER =
+      LogServiceFactory.getLogService(CompressorFactory.class.getName());
+
+  private CompressorFactory() {
+
+  }
+
+  /**
+   * files written before the codec was recorded do not have any codec,
+   * those were always compressed using snappy
+   */
+  private static CompressionCodec getCodecOrDefault(CompressionCodec codec) {
+    return null == codec ? CompressionCodec.SNAPPY : codec;
+  }
+
+  /**
+   * Below method will be used to get the byte compressor of the codecs which
+   * only compress byte arrays
+   *
+   * @param codec codec
+   * @return byte compressor, null in case of snappy
+   */
+  private static ByteCompressor getByteArrayBasedCompressor(CompressionCodec codec) {
+    switch (getCodecOrDefault(codec)) {
+      case LZ4:
+        return ByteCompressor.LZ4;
+      case ZSTD:
+        return ByteCompressor.ZSTD;
+      case NONE:
+        return ByteCompressor.NONE;
+      default:
+        return null;
+    }
+  }
+
+  public static Compressor<byte[]> getByteCompressor(CompressionCodec codec) {
+    ByteCompressor byteCompressor = getByteArrayBasedCompressor(codec);
+    return null == byteCompressor ?
+        SnappyCompression.SnappyByteCompression.INSTANCE :
+        byteCompressor;
+  }
+
+  public static Compressor<short[]> getShortCompressor(CompressionCodec codec) {
+    ByteCompressor byteCompressor = getByteArrayBasedCompressor(codec);
+    return null == byteCompressor ?
+        SnappyCompression.SnappyShortCompression.INSTANCE :
+        byteCompressor.shortCompressor;
+  }
+
+  public static Compressor<int[]> getIntCompressor(CompressionCodec codec) {
+    ByteCompressor byteCompressor = getByteArrayBasedCompressor(codec);
+    return null == byteCompressor ?
+        SnappyCompression.SnappyIntCompression.INSTANCE :
+        byteCompressor.intCompressor;
+  }
+
+  public static Compressor<long[]> getLongCompressor(CompressionCodec codec) {
+    ByteCompressor byteCompressor = getByteArrayBasedCompressor(codec);
+    return null == byteCompressor ?
+        SnappyCompression.SnappyLongCompression.INSTANCE :
+        byteCompressor.longCompressor;
+  }
+
+  public static Compressor<float[]> getFloatCompressor(CompressionCodec codec) {
+    ByteCompressor byteCompressor = getByteArrayBasedCompressor(codec);
+    return null == byteCompressor ?
+        SnappyCompression.SnappyFloatCompression.INSTANCE :
+        byteCompressor.floatCompressor;
+  }
+
+  public static Compressor<double[]> getDoubleCompressor(CompressionCodec codec) {
+    ByteCompressor byteCompressor = getByteArrayBasedCompressor(codec);
+    return null == byteCompressor ?
+        SnappyCompression.SnappyDoubleCompression.INSTANCE :
+        byteCompressor.doubleCompressor;
+  }
+
+  /**
+   * Below method will be used to get the codec from its name
+   *
+   * @param codecName name of the codec, case insensitive
+   * @return codec or null if name is not a valid codec
+   */
+  public static CompressionCodec getCompressionCodec(String codecName) {
+    if (null == codecName) {
+      return null;
+    }
+    for (CompressionCodec codec : CompressionCodec.values()) {
+      if (codec.name().equalsIgnoreCase(codecName.trim())) {
+        return codec;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Below method will be used to get the codec configured in carbon
+   * properties, it will be used for the tables which does not configure one
+   *
+   * @return default codec
+   */
+  public static CompressionCodec getDefaultCompressionCodec() {
+    String codecName = CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.CARBON_COLUMN_COMPRESSOR,
+            CarbonCommonConstants.CARBON_COLUMN_COMPRESSOR_DEFAULT);
+    CompressionCodec codec = getCompressionCodec(codecName);
+    if (null == codec) {
+      LOGGER.error("Invalid value " + codecName + " configured for "
+          + CarbonCommonConstants.CARBON_COLUMN_COMPRESSOR + ", considering the default value "
+          + CarbonCommonConstants.CARBON_COLUMN_COMPRESSOR_DEFAULT);
+      codec = getCompressionCodec(CarbonCommonConstants.CARBON_COLUMN_COMPRESSOR_DEFAULT);
+    }
+    return codec;
+  }
+
+  /**
+   * Below method will be used to get the codec for a column, codec set in
+   * the column properties overrides the table codec
+   *
+   * @param tableCodec   codec of the table
+   * @param columnSchema column
+   * @return codec to be used for the column pages
+   */
+  public static CompressionCodec getCompressionCodec(CompressionCodec tableCodec,
+      ColumnSchema columnSchema) {
+    CompressionCodec codec = null;
+    if (null != columnSchema) {
+      codec = getCompressionCodec(
+          columnSchema.getColumnProperty(CarbonCommonConstants.COLUMN_COMPRESSOR));
+    }
+    return null == codec ? tableCodec : codec;
+  }
+
+  /**
+   * Below method will be used to get the codec with which a chunk was
+   * written
+   *
+   * @param dataChunk chunk metadata
+   * @return codec of the chunk
+   */
+  public static CompressionCodec getCompressionCodec(DataChunk dataChunk) {
+    if (null == dataChunk.getChunkCompressionMeta()) {
+      return CompressionCodec.SNAPPY;
+    }
+    return getCodecOrDefault(dataChunk.getChunkCompressionMeta().getCompressorCodec());
+  }
+}
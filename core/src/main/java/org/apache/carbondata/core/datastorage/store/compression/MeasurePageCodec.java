@@ -0,0 +1,505 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.compression;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
+
+/**
+ * Encodes a measure page of long or double values with the cheapest of the
+ * {@link MeasurePageEncoding} and decodes it back. Size of every encoding is
+ * calculated from the statistics collected in one pass over the page and the
+ * page is encoded only if the cheapest encoding is smaller than the value
+ * compression of the measure.
+ * Double values are encoded as long values after scaling them with the
+ * decimal count of the page when the scaled value gives back the same
+ * double, otherwise the bits of the double are encoded.
+ * Page is written as encoding id, value type, scale, number of rows and the
+ * encoded data
+ */
+public final class MeasurePageCodec {
+
+  /**
+   * value types of the page
+   */
+  private static final byte LONG_VALUES = 0;
+
+  private static final byte SCALED_DOUBLE_VALUES = 1;
+
+  private static final byte DOUBLE_BITS_VALUES = 2;
+
+  /**
+   * size of encoding id, value type, scale and number of rows
+   */
+  private static final int HEADER_SIZE = 3 + CarbonCommonConstants.INT_SIZE_IN_BYTE;
+
+  /**
+   * size of reference value and bit width of a bit packed block
+   */
+  private static final int PACKED_BLOCK_HEADER_SIZE = CarbonCommonConstants.LONG_SIZE_IN_BYTE + 1;
+
+  /**
+   * max number of distinct values of a page to be dictionary encoded
+   */
+  private static final int MAX_DICTIONARY_SIZE = 4096;
+
+  private static final double[] POWERS_OF_TEN =
+      { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15 };
+
+  private MeasurePageCodec() {
+
+  }
+
+  /**
+   * Below method will be used to encode the long values of a page
+   *
+   * @param values    values of the page
+   * @param plainSize size of the page with value compression
+   * @return encoded page, null if no encoding is cheaper than value compression
+   */
+  public static byte[] encode(long[] values, int plainSize) {
+    return encode(values, LONG_VALUES, 0, plainSize);
+  }
+
+  /**
+   * Below method will be used to encode the double values of a page
+   *
+   * @param values    values of the page
+   * @param decimal   max number of decimal places of the values
+   * @param plainSize size of the page with value compression
+   * @return encoded page, null if no encoding is cheaper than value compression
+   */
+  public static byte[] encode(double[] values, int decimal, int plainSize) {
+    long[] longValues = new long[values.length];
+    byte valueType = SCALED_DOUBLE_VALUES;
+    int scale = 0;
+    if (!scaleValues(values, scale, longValues)) {
+      scale = Math.min(decimal, POWERS_OF_TEN.length - 1);
+      if (scale == 0 || !scaleValues(values, scale, longValues)) {
+        valueType = DOUBLE_BITS_VALUES;
+        scale = 0;
+        for (int i = 0; i < values.length; i++) {
+          longValues[i] = Double.doubleToRawLongBits(values[i]);
+        }
+      }
+    }
+    return encode(longValues, valueType, scale, plainSize);
+  }
+
+  /**
+   * @param page encoded page
+   * @return encoding of the page
+   */
+  public static MeasurePageEncoding getEncoding(byte[] page) {
+    return MeasurePageEncoding.valueOf(page[0]);
+  }
+
+  /**
+   * Below method will be used to decode the page, values are decoded in to
+   * the arrays of the buffer
+   *
+   * @param page   encoded page
+   * @param buffer buffer of the column
+   * @return data holder with long values for long page and double values
+   * for double page
+   */
+  public static CarbonReadDataHolder decode(byte[] page, ColumnPageBuffer buffer) {
+    ByteBuffer input = ByteBuffer.wrap(page);
+    MeasurePageEncoding encoding = MeasurePageEncoding.valueOf(input.get());
+    byte valueType = input.get();
+    int scale = input.get();
+    int rowCount = input.getInt();
+    long[] values = LONG_VALUES == valueType ?
+        buffer.getReadableLongArray(rowCount) :
+        buffer.getLongArray(rowCount);
+    switch (encoding) {
+      case BIT_PACKED:
+        readPackedBlock(input, values, 0, rowCount);
+        break;
+      case DELTA:
+        values[0] = input.getLong();
+        readPackedBlock(input, values, 1, rowCount - 1);
+        for (int i = 1; i < rowCount; i++) {
+          values[i] += values[i - 1];
+        }
+        break;
+      case RLE:
+        int runCount = input.getInt();
+        long[] runValues = new long[runCount];
+        long[] runLengths = new long[runCount];
+        readPackedBlock(input, runValues, 0, runCount);
+        readPackedBlock(input, runLengths, 0, runCount);
+        int rowId = 0;
+        for (int i = 0; i < runCount; i++) {
+          Arrays.fill(values, rowId, rowId + (int) runLengths[i], runValues[i]);
+          rowId += (int) runLengths[i];
+        }
+        break;
+      case DICTIONARY:
+        long[] dictionary = new long[input.getInt()];
+        readPackedBlock(input, dictionary, 0, dictionary.length);
+        readPackedBlock(input, values, 0, rowCount);
+        for (int i = 0; i < rowCount; i++) {
+          values[i] = dictionary[(int) values[i]];
+        }
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid measure page encoding: " + encoding);
+    }
+    CarbonReadDataHolder dataHolder = new CarbonReadDataHolder();
+    if (LONG_VALUES == valueType) {
+      dataHolder.setReadableLongValues(values);
+      return dataHolder;
+    }
+    double[] doubleValues = buffer.getReadableDoubleArray(rowCount);
+    if (SCALED_DOUBLE_VALUES == valueType) {
+      double factor = POWERS_OF_TEN[scale];
+      for (int i = 0; i < rowCount; i++) {
+        doubleValues[i] = values[i] / factor;
+      }
+    } else {
+      for (int i = 0; i < rowCount; i++) {
+        doubleValues[i] = Double.longBitsToDouble(values[i]);
+      }
+    }
+    dataHolder.setReadableDoubleValues(doubleValues);
+    return dataHolder;
+  }
+
+  /**
+   * Below method will be used to scale the double values to long values,
+   * fails if any scaled value does not give back the same double
+   *
+   * @return true if all the values are scaled
+   */
+  private static boolean scaleValues(double[] values, int scale, long[] output) {
+    double factor = POWERS_OF_TEN[scale];
+    for (int i = 0; i < values.length; i++) {
+      long value = Math.round(values[i] * factor);
+      if (Double.doubleToRawLongBits(value / factor) != Double.doubleToRawLongBits(values[i])) {
+        return false;
+      }
+      output[i] = value;
+    }
+    return true;
+  }
+
+  private static byte[] encode(long[] values, byte valueType, int scale, int plainSize) {
+    int rowCount = values.length;
+    if (rowCount == 0) {
+      return null;
+    }
+    PageStatistics statistics = new PageStatistics(values);
+    long min = statistics.min;
+    long max = statistics.max;
+    MeasurePageEncoding encoding = null;
+    long encodedSize = plainSize;
+    long size = HEADER_SIZE + getPackedBlockSize(rowCount, min, max);
+    if (size < encodedSize) {
+      encoding = MeasurePageEncoding.BIT_PACKED;
+      encodedSize = size;
+    }
+    size = HEADER_SIZE + CarbonCommonConstants.LONG_SIZE_IN_BYTE + getPackedBlockSize(rowCount - 1,
+        statistics.minDelta, statistics.maxDelta);
+    if (size < encodedSize) {
+      encoding = MeasurePageEncoding.DELTA;
+      encodedSize = size;
+    }
+    int runCount = statistics.runCount;
+    size = HEADER_SIZE + CarbonCommonConstants.INT_SIZE_IN_BYTE + getPackedBlockSize(runCount, min,
+        max) + getPackedBlockSize(runCount, statistics.minRunLength, statistics.maxRunLength);
+    if (size < encodedSize) {
+      encoding = MeasurePageEncoding.RLE;
+      encodedSize = size;
+    }
+    int dictionarySize = statistics.dictionarySize;
+    if (dictionarySize > 0) {
+      size = HEADER_SIZE + CarbonCommonConstants.INT_SIZE_IN_BYTE + getPackedBlockSize(
+          dictionarySize, min, max) + getPackedBlockSize(rowCount, 0, dictionarySize - 1);
+      if (size < encodedSize) {
+        encoding = MeasurePageEncoding.DICTIONARY;
+        encodedSize = size;
+      }
+    }
+    if (null == encoding) {
+      return null;
+    }
+    ByteBuffer output = ByteBuffer.allocate((int) encodedSize);
+    output.put(encoding.getId());
+    output.put(valueType);
+    output.put((byte) scale);
+    output.putInt(rowCount);
+    switch (encoding) {
+      case BIT_PACKED:
+        writePackedBlock(output, values, rowCount, min, max);
+        break;
+      case DELTA:
+        long[] deltas = new long[rowCount - 1];
+        for (int i = 1; i < rowCount; i++) {
+          deltas[i - 1] = values[i] - values[i - 1];
+        }
+        output.putLong(values[0]);
+        writePackedBlock(output, deltas, deltas.length, statistics.minDelta, statistics.maxDelta);
+        break;
+      case RLE:
+        long[] runValues = new long[runCount];
+        long[] runLengths = new long[runCount];
+        int run = 0;
+        runValues[0] = values[0];
+        for (int i = 0; i < rowCount; i++) {
+          if (values[i] != runValues[run]) {
+            runValues[++run] = values[i];
+          }
+          runLengths[run]++;
+        }
+        output.putInt(runCount);
+        writePackedBlock(output, runValues, runCount, min, max);
+        writePackedBlock(output, runLengths, runCount, statistics.minRunLength,
+            statistics.maxRunLength);
+        break;
+      case DICTIONARY:
+        long[] dictionary = statistics.getDictionary();
+        long[] indexes = new long[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+          indexes[i] = Arrays.binarySearch(dictionary, values[i]);
+        }
+        output.putInt(dictionarySize);
+        writePackedBlock(output, dictionary, dictionarySize, min, max);
+        writePackedBlock(output, indexes, rowCount, 0, dictionarySize - 1);
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid measure page encoding: " + encoding);
+    }
+    return output.array();
+  }
+
+  /**
+   * @return number of bits required to store the difference of value from min
+   */
+  private static int getBitWidth(long min, long max) {
+    return Long.SIZE - Long.numberOfLeadingZeros(max - min);
+  }
+
+  private static long getPackedBlockSize(int count, long min, long max) {
+    return PACKED_BLOCK_HEADER_SIZE + (((long) count * getBitWidth(min, max) + 7) >>> 3);
+  }
+
+  /**
+   * Below method will be used to write the difference of each value from
+   * the min value using the bit width of max difference. Bits are written
+   * in little endian order
+   */
+  private static void writePackedBlock(ByteBuffer output, long[] values, int count, long min,
+      long max) {
+    int bitWidth = getBitWidth(min, max);
+    output.putLong(min);
+    output.put((byte) bitWidth);
+    if (0 == bitWidth) {
+      return;
+    }
+    long word = 0;
+    int bitsInWord = 0;
+    for (int i = 0; i < count; i++) {
+      long value = values[i] - min;
+      word |= value << bitsInWord;
+      int totalBits = bitsInWord + bitWidth;
+      if (totalBits >= Long.SIZE) {
+        writeBytes(output, word, CarbonCommonConstants.LONG_SIZE_IN_BYTE);
+        int writtenBits = Long.SIZE - bitsInWord;
+        word = writtenBits == Long.SIZE ? 0 : value >>> writtenBits;
+        bitsInWord = totalBits - Long.SIZE;
+      } else {
+        bitsInWord = totalBits;
+      }
+    }
+    writeBytes(output, word, (bitsInWord + 7) >>> 3);
+  }
+
+  private static void writeBytes(ByteBuffer output, long word, int numberOfBytes) {
+    for (int i = 0; i < numberOfBytes; i++) {
+      output.put((byte) (word >>> (i << 3)));
+    }
+  }
+
+  /**
+   * Below method will be used to read the values written by
+   * {@link #writePackedBlock(ByteBuffer, long[], int, long, long)}
+   */
+  private static void readPackedBlock(ByteBuffer input, long[] values, int offset, int count) {
+    long min = input.getLong();
+    int bitWidth = input.get() & 0xFF;
+    if (0 == bitWidth) {
+      Arrays.fill(values, offset, offset + count, min);
+      return;
+    }
+    byte[] data = input.array();
+    int start = input.position();
+    long mask = bitWidth == Long.SIZE ? -1L : (1L << bitWidth) - 1;
+    long bitIndex = 0;
+    for (int i = 0; i < count; i++) {
+      int byteIndex = start + (int) (bitIndex >>> 3);
+      int shift = (int) (bitIndex & 7);
+      long value = (data[byteIndex++] & 0xFF) >>> shift;
+      int readBits = 8 - shift;
+      while (readBits < bitWidth) {
+        value |= (long) (data[byteIndex++] & 0xFF) << readBits;
+        readBits += 8;
+      }
+      values[offset + i] = (value & mask) + min;
+      bitIndex += bitWidth;
+    }
+    input.position(start + (int) ((bitIndex + 7) >>> 3));
+  }
+
+  /**
+   * Statistics of the page required to find the size of each encoding
+   */
+  private static final class PageStatistics {
+
+    private long min = Long.MAX_VALUE;
+
+    private long max = Long.MIN_VALUE;
+
+    private long minDelta = Long.MAX_VALUE;
+
+    private long maxDelta = Long.MIN_VALUE;
+
+    private int runCount;
+
+    private int minRunLength = Integer.MAX_VALUE;
+
+    private int maxRunLength;
+
+    /**
+     * number of distinct values, 0 if it is more than max dictionary size
+     */
+    private int dictionarySize;
+
+    /**
+     * open addressing hash table of the distinct values
+     */
+    private long[] dictionaryTable = new long[64];
+
+    private boolean[] dictionaryTableUsed = new boolean[64];
+
+    private PageStatistics(long[] values) {
+      long previous = values[0];
+      int runLength = 0;
+      boolean isDictionaryFull = false;
+      for (int i = 0; i < values.length; i++) {
+        long value = values[i];
+        min = min < value ? min : value;
+        max = max > value ? max : value;
+        if (i > 0) {
+          long delta = value - previous;
+          minDelta = minDelta < delta ? minDelta : delta;
+          maxDelta = maxDelta > delta ? maxDelta : delta;
+          if (value != previous) {
+            addRun(runLength);
+            runLength = 0;
+          }
+        }
+        runLength++;
+        previous = value;
+        if (!isDictionaryFull) {
+          isDictionaryFull = !addToDictionary(value);
+        }
+      }
+      addRun(runLength);
+      if (values.length == 1) {
+        minDelta = 0;
+        maxDelta = 0;
+      }
+      if (isDictionaryFull) {
+        dictionarySize = 0;
+        dictionaryTable = null;
+        dictionaryTableUsed = null;
+      }
+    }
+
+    private void addRun(int runLength) {
+      runCount++;
+      minRunLength = minRunLength < runLength ? minRunLength : runLength;
+      maxRunLength = maxRunLength > runLength ? maxRunLength : runLength;
+    }
+
+    /**
+     * @return false if number of distinct values is more than max dictionary size
+     */
+    private boolean addToDictionary(long value) {
+      int mask = dictionaryTable.length - 1;
+      int index = hash(value) & mask;
+      while (dictionaryTableUsed[index]) {
+        if (dictionaryTable[index] == value) {
+          return true;
+        }
+        index = (index + 1) & mask;
+      }
+      if (dictionarySize == MAX_DICTIONARY_SIZE) {
+        return false;
+      }
+      dictionaryTable[index] = value;
+      dictionaryTableUsed[index] = true;
+      dictionarySize++;
+      // keep the table at most half full
+      if (dictionarySize << 1 > dictionaryTable.length) {
+        long[] oldTable = dictionaryTable;
+        boolean[] oldTableUsed = dictionaryTableUsed;
+        dictionaryTable = new long[oldTable.length << 1];
+        dictionaryTableUsed = new boolean[oldTable.length << 1];
+        mask = dictionaryTable.length - 1;
+        for (int i = 0; i < oldTable.length; i++) {
+          if (oldTableUsed[i]) {
+            index = hash(oldTable[i]) & mask;
+            while (dictionaryTableUsed[index]) {
+              index = (index + 1) & mask;
+            }
+            dictionaryTable[index] = oldTable[i];
+            dictionaryTableUsed[index] = true;
+          }
+        }
+      }
+      return true;
+    }
+
+    private static int hash(long value) {
+      long hash = value * 0x9E3779B97F4A7C15L;
+      return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * @return sorted distinct values of the page
+     */
+    private long[] getDictionary() {
+      long[] dictionary = new long[dictionarySize];
+      int index = 0;
+      for (int i = 0; i < dictionaryTable.length; i++) {
+        if (dictionaryTableUsed[i]) {
+          dictionary[index++] = dictionaryTable[i];
+        }
+      }
+      Arrays.sort(dictionary);
+      return dictionary;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.compression;
+
+import org.apache.carbondata.core.carbon.metadata.encoder.Encoding;
+
+/**
+ * Encodings which can be applied on a measure page in place of the value
+ * compression of the measure
+ */
+public enum MeasurePageEncoding {
+
+  /**
+   * values are stored as difference from the min value of the page
+   * using the number of bits required for the max difference
+   */
+  BIT_PACKED((byte) 1, Encoding.BIT_PACKED),
+
+  /**
+   * first value is stored and every other value is stored as difference
+   * from the previous value, differences are bit packed
+   */
+  DELTA((byte) 2, Encoding.DELTA),
+
+  /**
+   * value of each run and length of each run is bit packed
+   */
+  RLE((byte) 3, Encoding.RLE),
+
+  /**
+   * distinct values of the page and index of each row in them is bit packed
+   */
+  DICTIONARY((byte) 4, Encoding.DICTIONARY);
+
+  /**
+   * id written in the page
+   */
+  private byte id;
+
+  /**
+   * encoding recorded in the data chunk
+   */
+  private Encoding encoding;
+
+  MeasurePageEncoding(byte id, Encoding encoding) {
+    this.id = id;
+    this.encoding = encoding;
+  }
+
+  public byte getId() {
+    return id;
+  }
+
+  public Encoding getEncoding() {
+    return encoding;
+  }
+
+  /**
+   * @param id id written in the page
+   * @return page encoding of the id
+   */
+  public static MeasurePageEncoding valueOf(byte id) {
+    for (MeasurePageEncoding pageEncoding : values()) {
+      if (pageEncoding.id == id) {
+        return pageEncoding;
+      }
+    }
+    throw new IllegalArgumentException("Invalid measure page encoding: " + id);
+  }
+}
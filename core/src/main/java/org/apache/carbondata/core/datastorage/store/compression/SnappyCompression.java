@@ -67,6 +67,24 @@ public class SnappyCompression {
       }
       return compInput;
     }
+
+    public int unCompressedLength(byte[] compInput, int offset, int length) {
+      try {
+        return Snappy.uncompressedLength(compInput, offset, length);
+      } catch (IOException e) {
+        LOGGER.error(e, e.getMessage());
+      }
+      return 0;
+    }
+
+    public int unCompress(byte[] compInput, int offset, int length, byte[] output) {
+      try {
+        return Snappy.uncompress(compInput, offset, length, output, 0);
+      } catch (IOException e) {
+        LOGGER.error(e, e.getMessage());
+      }
+      return 0;
+    }
   }
 
   /**
@@ -105,6 +123,24 @@ public class SnappyCompression {
       return null;
     }
 
+    public int unCompressedLength(byte[] compInput, int offset, int length) {
+      try {
+        return Snappy.uncompressedLength(compInput, offset, length) / 8;
+      } catch (IOException e) {
+        LOGGER.error(e, e.getMessage());
+      }
+      return 0;
+    }
+
+    public int unCompress(byte[] compInput, int offset, int length, double[] output) {
+      try {
+        return Snappy.rawUncompress(compInput, offset, length, output, 0) / 8;
+      } catch (IOException e) {
+        LOGGER.error(e, e.getMessage());
+      }
+      return 0;
+    }
+
   }
 
   /**
@@ -147,6 +183,24 @@ public class SnappyCompression {
       }
       return null;
     }
+
+    public int unCompressedLength(byte[] compInput, int offset, int length) {
+      try {
+        return Snappy.uncompressedLength(compInput, offset, length) / 2;
+      } catch (IOException e) {
+        LOGGER.error(e, e.getMessage());
+      }
+      return 0;
+    }
+
+    public int unCompress(byte[] compInput, int offset, int length, short[] output) {
+      try {
+        return Snappy.rawUncompress(compInput, offset, length, output, 0) / 2;
+      } catch (IOException e) {
+        LOGGER.error(e, e.getMessage());
+      }
+      return 0;
+    }
   }
 
   /**
@@ -187,6 +241,24 @@ public class SnappyCompression {
       }
       return null;
     }
+
+    public int unCompressedLength(byte[] compInput, int offset, int length) {
+      try {
+        return Snappy.uncompressedLength(compInput, offset, length) / 4;
+      } catch (IOException e) {
+        LOGGER.error(e, e.getMessage());
+      }
+      return 0;
+    }
+
+    public int unCompress(byte[] compInput, int offset, int length, int[] output) {
+      try {
+        return Snappy.rawUncompress(compInput, offset, length, output, 0) / 4;
+      } catch (IOException e) {
+        LOGGER.error(e, e.getMessage());
+      }
+      return 0;
+    }
   }
 
   /**
@@ -227,6 +299,24 @@ public class SnappyCompression {
       }
       return null;
     }
+
+    public int unCompressedLength(byte[] compInput, int offset, int length) {
+      try {
+        return Snappy.uncompressedLength(compInput, offset, length) / 8;
+      } catch (IOException e) {
+        LOGGER.error(e, e.getMessage());
+      }
+      return 0;
+    }
+
+    public int unCompress(byte[] compInput, int offset, int length, long[] output) {
+      try {
+        return Snappy.rawUncompress(compInput, offset, length, output, 0) / 8;
+      } catch (IOException e) {
+        LOGGER.error(e, e.getMessage());
+      }
+      return 0;
+    }
   }
 
   /**
@@ -268,6 +358,24 @@ public class SnappyCompression {
       }
       return null;
     }
+
+    public int unCompressedLength(byte[] compInput, int offset, int length) {
+      try {
+        return Snappy.uncompressedLength(compInput, offset, length) / 4;
+      } catch (IOException e) {
+        LOGGER.error(e, e.getMessage());
+      }
+      return 0;
+    }
+
+    public int unCompress(byte[] compInput, int offset, int length, float[] output) {
+      try {
+        return Snappy.rawUncompress(compInput, offset, length, output, 0) / 4;
+      } catch (IOException e) {
+        LOGGER.error(e, e.getMessage());
+      }
+      return 0;
+    }
   }
 
 }
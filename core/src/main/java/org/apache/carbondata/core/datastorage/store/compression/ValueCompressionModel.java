@@ -19,6 +19,7 @@
 
 package org.apache.carbondata.core.datastorage.store.compression;
 
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 
 public class ValueCompressionModel {
@@ -56,6 +57,18 @@ public class ValueCompressionModel {
    */
   private int[] decimal;
 
+  /**
+   * codec used to compress each measure
+   */
+  private CompressionCodec[] compressionCodec;
+
+  /**
+   * encoding applied on the page of each measure, null for a measure which
+   * is compressed as per its compression type. Pages are not encoded when
+   * this array is not set
+   */
+  private MeasurePageEncoding[] pageEncoding;
+
   /**
    * aggType
    */
@@ -233,4 +246,32 @@ public class ValueCompressionModel {
   public void setMinValueFactForAgg(Object[] minValueFactForAgg) {
     this.minValueFactForAgg = minValueFactForAgg;
   }
+
+  /**
+   * @return the compressionCodec
+   */
+  public CompressionCodec[] getCompressionCodec() {
+    return compressionCodec;
+  }
+
+  /**
+   * @param compressionCodec the compressionCodec to set
+   */
+  public void setCompressionCodec(CompressionCodec[] compressionCodec) {
+    this.compressionCodec = compressionCodec;
+  }
+
+  /**
+   * @return the pageEncoding
+   */
+  public MeasurePageEncoding[] getPageEncoding() {
+    return pageEncoding;
+  }
+
+  /**
+   * @param pageEncoding the pageEncoding to set
+   */
+  public void setPageEncoding(MeasurePageEncoding[] pageEncoding) {
+    this.pageEncoding = pageEncoding;
+  }
 }
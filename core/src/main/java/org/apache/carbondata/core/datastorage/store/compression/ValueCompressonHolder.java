@@ -19,7 +19,9 @@
 
 package org.apache.carbondata.core.datastorage.store.compression;
 
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
 
 /**
@@ -27,84 +29,120 @@ import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
  */
 public final class ValueCompressonHolder {
 
-  /**
-   * byteCompressor.
-   */
-  private static Compressor<byte[]> byteCompressor =
-      SnappyCompression.SnappyByteCompression.INSTANCE;
-
-  /**
-   * shortCompressor.
-   */
-  private static Compressor<short[]> shortCompressor =
-      SnappyCompression.SnappyShortCompression.INSTANCE;
-
-  /**
-   * intCompressor.
-   */
-  private static Compressor<int[]> intCompressor = SnappyCompression.SnappyIntCompression.INSTANCE;
+  private ValueCompressonHolder() {
 
-  /**
-   * longCompressor.
-   */
-  private static Compressor<long[]> longCompressor =
-      SnappyCompression.SnappyLongCompression.INSTANCE;
+  }
 
   /**
-   * floatCompressor
-   */
-  private static Compressor<float[]> floatCompressor =
-      SnappyCompression.SnappyFloatCompression.INSTANCE;
-  /**
-   * doubleCompressor.
+   * Below method will be used to uncompress the data in to the arrays of the
+   * buffer, so the pages are uncompressed without allocating new arrays
+   *
+   * @param dataType
+   * @param value
+   * @param data
+   * @param codec    codec with which the data was compressed
+   * @param buffer   buffer of the column to which data will be uncompressed
    */
-  private static Compressor<double[]> doubleCompressor =
-      SnappyCompression.SnappyDoubleCompression.INSTANCE;
-
-  private ValueCompressonHolder() {
-
+  public static void unCompress(DataType dataType, UnCompressValue value, byte[] data,
+      CompressionCodec codec, ColumnPageBuffer buffer) {
+    unCompress(dataType, value, data, 0, data.length, codec, buffer);
   }
 
   /**
+   * Below method will be used to uncompress the data from a part of the
+   * array in to the arrays of the buffer
+   *
    * @param dataType
    * @param value
    * @param data
+   * @param offset   offset of the compressed data in data
+   * @param length   length of the compressed data
+   * @param codec    codec with which the data was compressed
+   * @param buffer   buffer of the column to which data will be uncompressed
    */
-  public static void unCompress(DataType dataType, UnCompressValue value, byte[] data) {
+  public static void unCompress(DataType dataType, UnCompressValue value, byte[] data,
+      int offset, int length, CompressionCodec codec, ColumnPageBuffer buffer) {
     switch (dataType) {
       case DATA_BYTE:
-
-        value.setValue(byteCompressor.unCompress(data));
+        Compressor<byte[]> byteCompressor = CompressorFactory.getByteCompressor(codec);
+        byte[] byteValues =
+            buffer.getByteArray(byteCompressor.unCompressedLength(data, offset, length));
+        byteCompressor.unCompress(data, offset, length, byteValues);
+        value.setValue(byteValues);
         break;
 
       case DATA_SHORT:
-
-        value.setValue(shortCompressor.unCompress(data));
+        Compressor<short[]> shortCompressor = CompressorFactory.getShortCompressor(codec);
+        short[] shortValues =
+            buffer.getShortArray(shortCompressor.unCompressedLength(data, offset, length));
+        unCompress(shortCompressor, data, offset, length, shortValues, buffer);
+        value.setValue(shortValues);
         break;
 
       case DATA_INT:
-
-        value.setValue(intCompressor.unCompress(data));
+        Compressor<int[]> intCompressor = CompressorFactory.getIntCompressor(codec);
+        int[] intValues =
+            buffer.getIntArray(intCompressor.unCompressedLength(data, offset, length));
+        unCompress(intCompressor, data, offset, length, intValues, buffer);
+        value.setValue(intValues);
         break;
 
       case DATA_LONG:
       case DATA_BIGINT:
-
-        value.setValue(longCompressor.unCompress(data));
+        Compressor<long[]> longCompressor = CompressorFactory.getLongCompressor(codec);
+        long[] longValues =
+            buffer.getLongArray(longCompressor.unCompressedLength(data, offset, length));
+        unCompress(longCompressor, data, offset, length, longValues, buffer);
+        value.setValue(longValues);
         break;
 
       case DATA_FLOAT:
-
-        value.setValue(floatCompressor.unCompress(data));
+        Compressor<float[]> floatCompressor = CompressorFactory.getFloatCompressor(codec);
+        float[] floatValues =
+            buffer.getFloatArray(floatCompressor.unCompressedLength(data, offset, length));
+        unCompress(floatCompressor, data, offset, length, floatValues, buffer);
+        value.setValue(floatValues);
         break;
       default:
-
-        value.setValue(doubleCompressor.unCompress(data));
+        Compressor<double[]> doubleCompressor = CompressorFactory.getDoubleCompressor(codec);
+        double[] doubleValues =
+            buffer.getDoubleArray(doubleCompressor.unCompressedLength(data, offset, length));
+        unCompress(doubleCompressor, data, offset, length, doubleValues, buffer);
+        value.setValue(doubleValues);
         break;
 
     }
   }
 
+  /**
+   * Below method will be used to uncompress the data in to the values array.
+   * Byte array based codecs uncompress the bytes in to the byte array of the
+   * buffer before converting them to the values
+   */
+  private static <T> void unCompress(Compressor<T> compressor, byte[] data, int offset,
+      int length, T values, ColumnPageBuffer buffer) {
+    if (compressor instanceof ByteArrayBasedCompression.PrimitiveArrayCompressor) {
+      ((ByteArrayBasedCompression.PrimitiveArrayCompressor<T>) compressor)
+          .unCompress(data, offset, length, values, buffer);
+    } else {
+      compressor.unCompress(data, offset, length, values);
+    }
+  }
+
+  /**
+   * value which can be set from a part of the page read from file, so the
+   * compressed data is not copied to a separate array
+   */
+  public interface CompressedPageValue {
+
+    /**
+     * @param page   array holding the compressed data
+     * @param offset offset of the compressed data in page
+     * @param length length of the compressed data
+     */
+    void setValue(byte[] page, int offset, int length);
+  }
+
   /**
    * interface for  UnCompressValue<T>.
    *
@@ -120,15 +158,24 @@ public final class ValueCompressonHolder {
 
     UnCompressValue<T> getNew();
 
-    UnCompressValue compress();
+    UnCompressValue compress(CompressionCodec codec);
 
-    UnCompressValue uncompress(DataType dataType);
+    /**
+     * uncompress the value, arrays of the buffer are used to hold the
+     * uncompressed data
+     */
+    UnCompressValue uncompress(DataType dataType, CompressionCodec codec,
+        ColumnPageBuffer buffer);
 
     byte[] getBackArrayData();
 
     UnCompressValue getCompressorObject();
 
-    CarbonReadDataHolder getValues(int decimal, Object maxValue);
+    /**
+     * get the actual values, arrays of the buffer are used to hold the
+     * converted values
+     */
+    CarbonReadDataHolder getValues(int decimal, Object maxValue, ColumnPageBuffer buffer);
 
   }
 
@@ -26,31 +26,37 @@ import java.util.List;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.DataTypeUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 
-public class UnCompressByteArray implements ValueCompressonHolder.UnCompressValue<byte[]> {
+public class UnCompressByteArray implements ValueCompressonHolder.UnCompressValue<byte[]>,
+    ValueCompressonHolder.CompressedPageValue {
   /**
    * Attribute for Carbon LOGGER
    */
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressMaxMinByte.class.getName());
-  /**
-   * byteCompressor.
-   */
-  private static Compressor<byte[]> byteCompressor =
-      SnappyCompression.SnappyByteCompression.INSTANCE;
   private ByteArrayType arrayType;
   /**
    * value.
    */
   private byte[] value;
 
+  /**
+   * offset and length of the compressed data in value, value can be the
+   * complete page read from file
+   */
+  private int offset;
+
+  private int length;
+
   public UnCompressByteArray(ByteArrayType type) {
     if (type == ByteArrayType.BYTE_ARRAY) {
       arrayType = ByteArrayType.BYTE_ARRAY;
@@ -62,11 +68,21 @@ public class UnCompressByteArray implements ValueCompressonHolder.UnCompressValu
 
   @Override public void setValue(byte[] value) {
     this.value = value;
+    this.offset = 0;
+    this.length = value.length;
+
+  }
 
+  @Override public void setValue(byte[] page, int offset, int length) {
+    this.value = page;
+    this.offset = offset;
+    this.length = length;
   }
 
   @Override public void setValueInBytes(byte[] value) {
     this.value = value;
+    this.offset = 0;
+    this.length = value.length;
 
   }
 
@@ -79,16 +95,23 @@ public class UnCompressByteArray implements ValueCompressonHolder.UnCompressValu
     return null;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue compress() {
+  @Override public ValueCompressonHolder.UnCompressValue compress(CompressionCodec codec) {
     UnCompressByteArray byte1 = new UnCompressByteArray(arrayType);
-    byte1.setValue(byteCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getByteCompressor(codec).compress(value));
     return byte1;
   }
 
   @Override
-  public ValueCompressonHolder.UnCompressValue uncompress(ValueCompressionUtil.DataType dataType) {
+  public ValueCompressonHolder.UnCompressValue uncompress(ValueCompressionUtil.DataType dataType,
+      CompressionCodec codec, ColumnPageBuffer pageBuffer) {
     ValueCompressonHolder.UnCompressValue byte1 = new UnCompressByteArray(arrayType);
-    byte1.setValue(byteCompressor.unCompress(value));
+    // values are copied to separate arrays in getValues, so the uncompressed
+    // page can be reused for the next page
+    Compressor<byte[]> byteCompressor = CompressorFactory.getByteCompressor(codec);
+    byte[] data =
+        pageBuffer.getByteArray(byteCompressor.unCompressedLength(value, offset, length));
+    byteCompressor.unCompress(value, offset, length, data);
+    byte1.setValue(data);
     return byte1;
   }
 
@@ -100,7 +123,8 @@ public class UnCompressByteArray implements ValueCompressonHolder.UnCompressValu
     return new UnCompressByteArray(arrayType);
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer pageBuffer) {
     List<byte[]> valsList = new ArrayList<byte[]>(CarbonCommonConstants.DEFAULT_COLLECTION_SIZE);
     ByteBuffer buffer = ByteBuffer.wrap(value);
     buffer.rewind();
@@ -22,6 +22,7 @@ import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 
 public class UnCompressDefaultLong extends UnCompressNoneLong {
 
@@ -38,9 +39,10 @@ public class UnCompressDefaultLong extends UnCompressNoneLong {
     return null;
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     CarbonReadDataHolder dataHolder = new CarbonReadDataHolder();
-    long[] vals = new long[value.length];
+    long[] vals = buffer.getReadableLongArray(value.length);
     System.arraycopy(value, 0, vals, 0, vals.length);
     dataHolder.setReadableLongValues(vals);
     return dataHolder;
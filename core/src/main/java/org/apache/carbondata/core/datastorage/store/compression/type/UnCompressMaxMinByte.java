@@ -21,36 +21,49 @@ package org.apache.carbondata.core.datastorage.store.compression.type;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder.UnCompressValue;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
 
-public class UnCompressMaxMinByte implements UnCompressValue<byte[]> {
+public class UnCompressMaxMinByte implements UnCompressValue<byte[]>,
+    ValueCompressonHolder.CompressedPageValue {
 
   /**
    * Attribute for Carbon LOGGER
    */
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressMaxMinByte.class.getName());
-  /**
-   * byteCompressor.
-   */
-  private static Compressor<byte[]> byteCompressor =
-      SnappyCompression.SnappyByteCompression.INSTANCE;
   /**
    * value.
    */
   protected byte[] value;
 
+  /**
+   * offset and length of the compressed data in value, value can be the
+   * complete page read from file
+   */
+  protected int offset;
+
+  protected int length;
+
   //TODO SIMIAN
 
   @Override public void setValue(byte[] value) {
     this.value = value;
+    this.offset = 0;
+    this.length = value.length;
+
+  }
 
+  @Override public void setValue(byte[] page, int offset, int length) {
+    this.value = page;
+    this.offset = offset;
+    this.length = length;
   }
 
   @Override public UnCompressValue getNew() {
@@ -62,16 +75,17 @@ public class UnCompressMaxMinByte implements UnCompressValue<byte[]> {
     return null;
   }
 
-  @Override public UnCompressValue compress() {
+  @Override public UnCompressValue compress(CompressionCodec codec) {
 
     UnCompressMaxMinByte byte1 = new UnCompressMaxMinByte();
-    byte1.setValue(byteCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getByteCompressor(codec).compress(value));
     return byte1;
   }
 
-  @Override public UnCompressValue uncompress(DataType dataType) {
+  @Override public UnCompressValue uncompress(DataType dataType, CompressionCodec codec,
+      ColumnPageBuffer buffer) {
     UnCompressValue byte1 = ValueCompressionUtil.unCompressMaxMin(dataType, dataType);
-    ValueCompressonHolder.unCompress(dataType, byte1, value);
+    ValueCompressonHolder.unCompress(dataType, byte1, value, offset, length, codec, buffer);
     return byte1;
   }
 
@@ -81,6 +95,8 @@ public class UnCompressMaxMinByte implements UnCompressValue<byte[]> {
 
   @Override public void setValueInBytes(byte[] value) {
     this.value = value;
+    this.offset = 0;
+    this.length = value.length;
   }
 
   /**
@@ -90,9 +106,10 @@ public class UnCompressMaxMinByte implements UnCompressValue<byte[]> {
     return new UnCompressMaxMinByte();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     double maxValue = (double) maxValueObject;
-    double[] vals = new double[value.length];
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     CarbonReadDataHolder dataHolder = new CarbonReadDataHolder();
     for (int i = 0; i < vals.length; i++) {
       if (value[i] == 0) {
@@ -20,18 +20,17 @@ package org.apache.carbondata.core.datastorage.store.compression.type;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 
 public class UnCompressMaxMinByteForLong extends UnCompressMaxMinByte {
 
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressMaxMinByteForLong.class.getName());
-  private static Compressor<byte[]> byteCompressor =
-      SnappyCompression.SnappyByteCompression.INSTANCE;
 
   @Override public ValueCompressonHolder.UnCompressValue getNew() {
     try {
@@ -42,18 +41,19 @@ public class UnCompressMaxMinByteForLong extends UnCompressMaxMinByte {
     return null;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue compress() {
+  @Override public ValueCompressonHolder.UnCompressValue compress(CompressionCodec codec) {
 
     UnCompressMaxMinByteForLong byte1 = new UnCompressMaxMinByteForLong();
-    byte1.setValue(byteCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getByteCompressor(codec).compress(value));
     return byte1;
   }
 
   @Override
-  public ValueCompressonHolder.UnCompressValue uncompress(ValueCompressionUtil.DataType dataType) {
+  public ValueCompressonHolder.UnCompressValue uncompress(ValueCompressionUtil.DataType dataType,
+      CompressionCodec codec, ColumnPageBuffer buffer) {
     ValueCompressonHolder.UnCompressValue byte1 =
         ValueCompressionUtil.unCompressMaxMin(dataType, dataType);
-    ValueCompressonHolder.unCompress(dataType, byte1, value);
+    ValueCompressonHolder.unCompress(dataType, byte1, value, offset, length, codec, buffer);
     return byte1;
   }
 
@@ -61,9 +61,10 @@ public class UnCompressMaxMinByteForLong extends UnCompressMaxMinByte {
     return new UnCompressMaxMinByteForLong();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     long maxValue = (long) maxValueObject;
-    long[] vals = new long[value.length];
+    long[] vals = buffer.getReadableLongArray(value.length);
     CarbonReadDataHolder dataHolder = new CarbonReadDataHolder();
     for (int i = 0; i < vals.length; i++) {
       if (value[i] == 0) {
@@ -23,10 +23,11 @@ import java.nio.ByteBuffer;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
 
@@ -38,11 +39,6 @@ public class UnCompressMaxMinDefault implements ValueCompressonHolder.UnCompress
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressMaxMinDefault.class.getName());
 
-  /**
-   * doubleCompressor.
-   */
-  private static Compressor<double[]> doubleCompressor =
-      SnappyCompression.SnappyDoubleCompression.INSTANCE;
   /**
    * value.
    */
@@ -62,13 +58,14 @@ public class UnCompressMaxMinDefault implements ValueCompressonHolder.UnCompress
     return null;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue compress() {
+  @Override public ValueCompressonHolder.UnCompressValue compress(CompressionCodec codec) {
     UnCompressMaxMinByte byte1 = new UnCompressMaxMinByte();
-    byte1.setValue(doubleCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getDoubleCompressor(codec).compress(value));
     return byte1;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue uncompress(DataType dataType) {
+  @Override public ValueCompressonHolder.UnCompressValue uncompress(DataType dataType,
+      CompressionCodec codec, ColumnPageBuffer buffer) {
     return null;
   }
 
@@ -89,9 +86,10 @@ public class UnCompressMaxMinDefault implements ValueCompressonHolder.UnCompress
   }
 
   //TODO SIMIAN
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     double maxValue = (double) maxValueObject;
-    double[] vals = new double[value.length];
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     CarbonReadDataHolder dataHolderInfoObj = new CarbonReadDataHolder();
     for (int i = 0; i < vals.length; i++) {
       if (value[i] == 0) {
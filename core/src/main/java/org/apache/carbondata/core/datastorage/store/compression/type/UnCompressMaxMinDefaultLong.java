@@ -20,18 +20,17 @@ package org.apache.carbondata.core.datastorage.store.compression.type;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 
 public class UnCompressMaxMinDefaultLong extends UnCompressMaxMinLong {
 
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressMaxMinDefaultLong.class.getName());
-  private static Compressor<long[]> longCompressor =
-      SnappyCompression.SnappyLongCompression.INSTANCE;
 
   @Override public ValueCompressonHolder.UnCompressValue getNew() {
     try {
@@ -42,9 +41,9 @@ public class UnCompressMaxMinDefaultLong extends UnCompressMaxMinLong {
     return null;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue compress() {
+  @Override public ValueCompressonHolder.UnCompressValue compress(CompressionCodec codec) {
     UnCompressMaxMinByteForLong byte1 = new UnCompressMaxMinByteForLong();
-    byte1.setValue(longCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getLongCompressor(codec).compress(value));
     return byte1;
   }
 
@@ -56,9 +55,10 @@ public class UnCompressMaxMinDefaultLong extends UnCompressMaxMinLong {
     return new UnCompressMaxMinByteForLong();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     long maxValue = (long) maxValueObject;
-    long[] vals = new long[value.length];
+    long[] vals = buffer.getReadableLongArray(value.length);
     CarbonReadDataHolder dataHolderInfoObj = new CarbonReadDataHolder();
     for (int i = 0; i < vals.length; i++) {
       if (value[i] == 0) {
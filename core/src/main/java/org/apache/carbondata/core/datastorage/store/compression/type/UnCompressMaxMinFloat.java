@@ -23,10 +23,11 @@ import java.nio.ByteBuffer;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder.UnCompressValue;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
 
@@ -37,11 +38,6 @@ public class UnCompressMaxMinFloat implements UnCompressValue<float[]> {
    */
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressMaxMinFloat.class.getName());
-  /**
-   * floatCompressor
-   */
-  private static Compressor<float[]> floatCompressor =
-      SnappyCompression.SnappyFloatCompression.INSTANCE;
   /**
    * value.
    */
@@ -61,14 +57,15 @@ public class UnCompressMaxMinFloat implements UnCompressValue<float[]> {
     return null;
   }
 
-  @Override public UnCompressValue compress() {
+  @Override public UnCompressValue compress(CompressionCodec codec) {
 
     UnCompressMaxMinByte byte1 = new UnCompressMaxMinByte();
-    byte1.setValue(floatCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getFloatCompressor(codec).compress(value));
     return byte1;
   }
 
-  @Override public UnCompressValue uncompress(DataType dTypeVal) {
+  @Override public UnCompressValue uncompress(DataType dTypeVal, CompressionCodec codec,
+      ColumnPageBuffer buffer) {
     return null;
   }
 
@@ -88,9 +85,10 @@ public class UnCompressMaxMinFloat implements UnCompressValue<float[]> {
     return new UnCompressMaxMinByte();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     double maxValue = (double) maxValueObject;
-    double[] vals = new double[value.length];
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     CarbonReadDataHolder dataHolderVal = new CarbonReadDataHolder();
     for (int i = 0; i < vals.length; i++) {
       if (value[i] == 0) {
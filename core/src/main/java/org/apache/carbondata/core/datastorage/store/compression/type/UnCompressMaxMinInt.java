@@ -23,10 +23,11 @@ import java.nio.ByteBuffer;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 
 public class UnCompressMaxMinInt implements ValueCompressonHolder.UnCompressValue<int[]> {
@@ -36,10 +37,6 @@ public class UnCompressMaxMinInt implements ValueCompressonHolder.UnCompressValu
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressMaxMinInt.class.getName());
 
-  /**
-   * intCompressor.
-   */
-  private static Compressor<int[]> intCompressor = SnappyCompression.SnappyIntCompression.INSTANCE;
   /**
    * value.
    */
@@ -59,14 +56,15 @@ public class UnCompressMaxMinInt implements ValueCompressonHolder.UnCompressValu
     return null;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue compress() {
+  @Override public ValueCompressonHolder.UnCompressValue compress(CompressionCodec codec) {
     UnCompressMaxMinByte byte1 = new UnCompressMaxMinByte();
-    byte1.setValue(intCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getIntCompressor(codec).compress(value));
     return byte1;
   }
 
   @Override public ValueCompressonHolder.UnCompressValue uncompress(
-      ValueCompressionUtil.DataType dataTypeValue) {
+      ValueCompressionUtil.DataType dataTypeValue, CompressionCodec codec,
+      ColumnPageBuffer buffer) {
     return null;
   }
 
@@ -86,9 +84,10 @@ public class UnCompressMaxMinInt implements ValueCompressonHolder.UnCompressValu
     return new UnCompressMaxMinByte();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decVal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decVal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     double maxValue = (double) maxValueObject;
-    double[] vals = new double[value.length];
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     CarbonReadDataHolder dataHolder = new CarbonReadDataHolder();
     for (int i = 0; i < vals.length; i++) {
       if (value[i] == 0) {
@@ -23,10 +23,11 @@ import java.nio.ByteBuffer;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 
 public class UnCompressMaxMinLong implements ValueCompressonHolder.UnCompressValue<long[]> {
@@ -35,11 +36,6 @@ public class UnCompressMaxMinLong implements ValueCompressonHolder.UnCompressVal
    */
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressMaxMinLong.class.getName());
-  /**
-   * longCompressor.
-   */
-  private static Compressor<long[]> longCompressor =
-      SnappyCompression.SnappyLongCompression.INSTANCE;
   /**
    * value.
    */
@@ -54,9 +50,9 @@ public class UnCompressMaxMinLong implements ValueCompressonHolder.UnCompressVal
     return null;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue compress() {
+  @Override public ValueCompressonHolder.UnCompressValue compress(CompressionCodec codec) {
     UnCompressMaxMinByte unCompressByte = new UnCompressMaxMinByte();
-    unCompressByte.setValue(longCompressor.compress(value));
+    unCompressByte.setValue(CompressorFactory.getLongCompressor(codec).compress(value));
     return unCompressByte;
   }
 
@@ -66,7 +62,8 @@ public class UnCompressMaxMinLong implements ValueCompressonHolder.UnCompressVal
   }
 
   @Override
-  public ValueCompressonHolder.UnCompressValue uncompress(ValueCompressionUtil.DataType dataType) {
+  public ValueCompressonHolder.UnCompressValue uncompress(ValueCompressionUtil.DataType dataType,
+      CompressionCodec codec, ColumnPageBuffer buffer) {
     return null;
   }
 
@@ -86,9 +83,10 @@ public class UnCompressMaxMinLong implements ValueCompressonHolder.UnCompressVal
     return new UnCompressMaxMinByte();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     double maxValue = (double) maxValueObject;
-    double[] vals = new double[value.length];
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     CarbonReadDataHolder data = new CarbonReadDataHolder();
     for (int i = 0; i < vals.length; i++) {
       if (value[i] == 0) {
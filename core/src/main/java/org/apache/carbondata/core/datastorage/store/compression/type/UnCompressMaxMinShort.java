@@ -23,10 +23,11 @@ import java.nio.ByteBuffer;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
 
@@ -36,11 +37,6 @@ public class UnCompressMaxMinShort implements ValueCompressonHolder.UnCompressVa
    */
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressMaxMinShort.class.getName());
-  /**
-   * shortCompressor.
-   */
-  private static Compressor<short[]> shortCompressor =
-      SnappyCompression.SnappyShortCompression.INSTANCE;
   /**
    * value.
    */
@@ -51,7 +47,8 @@ public class UnCompressMaxMinShort implements ValueCompressonHolder.UnCompressVa
 
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue uncompress(DataType dataType) {
+  @Override public ValueCompressonHolder.UnCompressValue uncompress(DataType dataType,
+      CompressionCodec codec, ColumnPageBuffer buffer) {
     return null;
   }
 
@@ -68,10 +65,10 @@ public class UnCompressMaxMinShort implements ValueCompressonHolder.UnCompressVa
     return null;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue compress() {
+  @Override public ValueCompressonHolder.UnCompressValue compress(CompressionCodec codec) {
 
     UnCompressMaxMinByte byte1 = new UnCompressMaxMinByte();
-    byte1.setValue(shortCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getShortCompressor(codec).compress(value));
     return byte1;
   }
 
@@ -87,9 +84,10 @@ public class UnCompressMaxMinShort implements ValueCompressonHolder.UnCompressVa
     return new UnCompressMaxMinByte();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     double maxValue = (double) maxValueObject;
-    double[] vals = new double[value.length];
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     CarbonReadDataHolder carbonDataHolderObj = new CarbonReadDataHolder();
     for (int i = 0; i < vals.length; i++) {
       if (value[i] == 0) {
@@ -21,31 +21,44 @@ package org.apache.carbondata.core.datastorage.store.compression.type;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
 
-public class UnCompressNonDecimalByte implements ValueCompressonHolder.UnCompressValue<byte[]> {
+public class UnCompressNonDecimalByte implements ValueCompressonHolder.UnCompressValue<byte[]>,
+    ValueCompressonHolder.CompressedPageValue {
   /**
    * Attribute for Carbon LOGGER
    */
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressNonDecimalByte.class.getName());
-  /**
-   * byteCompressor.
-   */
-  private static Compressor<byte[]> byteCompressor =
-      SnappyCompression.SnappyByteCompression.INSTANCE;
   /**
    * value.
    */
   private byte[] value;
 
+  /**
+   * offset and length of the compressed data in value, value can be the
+   * complete page read from file
+   */
+  private int offset;
+
+  private int length;
+
   @Override public void setValue(byte[] value) {
     this.value = value;
+    this.offset = 0;
+    this.length = value.length;
+  }
+
+  @Override public void setValue(byte[] page, int offset, int length) {
+    this.value = page;
+    this.offset = offset;
+    this.length = length;
   }
 
   @Override public ValueCompressonHolder.UnCompressValue getNew() {
@@ -57,21 +70,24 @@ public class UnCompressNonDecimalByte implements ValueCompressonHolder.UnCompres
     return null;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue compress() {
+  @Override public ValueCompressonHolder.UnCompressValue compress(CompressionCodec codec) {
     UnCompressNonDecimalByte byte1 = new UnCompressNonDecimalByte();
-    byte1.setValue(byteCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getByteCompressor(codec).compress(value));
     return byte1;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue uncompress(DataType dataType) {
+  @Override public ValueCompressonHolder.UnCompressValue uncompress(DataType dataType,
+      CompressionCodec codec, ColumnPageBuffer buffer) {
     ValueCompressonHolder.UnCompressValue byte1 =
         ValueCompressionUtil.unCompressNonDecimal(dataType, dataType);
-    ValueCompressonHolder.unCompress(dataType, byte1, value);
+    ValueCompressonHolder.unCompress(dataType, byte1, value, offset, length, codec, buffer);
     return byte1;
   }
 
   @Override public void setValueInBytes(byte[] value) {
     this.value = value;
+    this.offset = 0;
+    this.length = value.length;
   }
 
   @Override public byte[] getBackArrayData() {
@@ -85,8 +101,9 @@ public class UnCompressNonDecimalByte implements ValueCompressonHolder.UnCompres
     return new UnCompressNonDecimalByte();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
-    double[] vals = new double[value.length];
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     CarbonReadDataHolder dataHolder = new CarbonReadDataHolder();
     for (int i = 0; i < vals.length; i++) {
       vals[i] = value[i] / Math.pow(10, decimal);
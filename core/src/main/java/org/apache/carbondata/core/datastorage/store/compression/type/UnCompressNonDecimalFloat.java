@@ -23,10 +23,11 @@ import java.nio.ByteBuffer;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 
 public class UnCompressNonDecimalFloat implements ValueCompressonHolder.UnCompressValue<float[]> {
@@ -35,11 +36,6 @@ public class UnCompressNonDecimalFloat implements ValueCompressonHolder.UnCompre
    */
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressNonDecimalFloat.class.getName());
-  /**
-   * floatCompressor
-   */
-  private static Compressor<float[]> floatCompressor =
-      SnappyCompression.SnappyFloatCompression.INSTANCE;
   /**
    * value.
    */
@@ -65,14 +61,15 @@ public class UnCompressNonDecimalFloat implements ValueCompressonHolder.UnCompre
     return ValueCompressionUtil.convertToBytes(value);
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue compress() {
+  @Override public ValueCompressonHolder.UnCompressValue compress(CompressionCodec codec) {
     UnCompressNonDecimalByte byte1 = new UnCompressNonDecimalByte();
-    byte1.setValue(floatCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getFloatCompressor(codec).compress(value));
     return byte1;
   }
 
   @Override
-  public ValueCompressonHolder.UnCompressValue uncompress(ValueCompressionUtil.DataType dataType) {
+  public ValueCompressonHolder.UnCompressValue uncompress(ValueCompressionUtil.DataType dataType,
+      CompressionCodec codec, ColumnPageBuffer buffer) {
     return null;
   }
 
@@ -88,8 +85,9 @@ public class UnCompressNonDecimalFloat implements ValueCompressonHolder.UnCompre
     return new UnCompressNonDecimalByte();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
-    double[] vals = new double[value.length];
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     for (int m = 0; m < vals.length; m++) {
       vals[m] = value[m] / Math.pow(10, decimal);
     }
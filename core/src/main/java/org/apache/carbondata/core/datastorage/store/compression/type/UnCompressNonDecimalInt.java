@@ -23,10 +23,11 @@ import java.nio.ByteBuffer;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder.UnCompressValue;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
 
@@ -36,10 +37,6 @@ public class UnCompressNonDecimalInt implements UnCompressValue<int[]> {
    */
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressNonDecimalInt.class.getName());
-  /**
-   * intCompressor.
-   */
-  private static Compressor<int[]> intCompressor = SnappyCompression.SnappyIntCompression.INSTANCE;
   /**
    * value.
    */
@@ -59,9 +56,9 @@ public class UnCompressNonDecimalInt implements UnCompressValue<int[]> {
     return null;
   }
 
-  @Override public UnCompressValue compress() {
+  @Override public UnCompressValue compress(CompressionCodec codec) {
     UnCompressNonDecimalByte byte1 = new UnCompressNonDecimalByte();
-    byte1.setValue(intCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getIntCompressor(codec).compress(value));
     return byte1;
   }
 
@@ -81,8 +78,9 @@ public class UnCompressNonDecimalInt implements UnCompressValue<int[]> {
     return new UnCompressNonDecimalByte();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
-    double[] vals = new double[value.length];
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     for (int k = 0; k < vals.length; k++) {
       vals[k] = value[k] / Math.pow(10, decimal);
     }
@@ -91,7 +89,8 @@ public class UnCompressNonDecimalInt implements UnCompressValue<int[]> {
     return dataHolder;
   }
 
-  @Override public UnCompressValue uncompress(DataType dataType) {
+  @Override public UnCompressValue uncompress(DataType dataType, CompressionCodec codec,
+      ColumnPageBuffer buffer) {
     return null;
   }
 
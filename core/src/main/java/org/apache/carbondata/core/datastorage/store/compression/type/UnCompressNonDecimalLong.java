@@ -23,10 +23,11 @@ import java.nio.ByteBuffer;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder.UnCompressValue;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
 
@@ -37,11 +38,6 @@ public class UnCompressNonDecimalLong implements UnCompressValue<long[]> {
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressNonDecimalLong.class.getName());
 
-  /**
-   * longCompressor.
-   */
-  private static Compressor<long[]> longCompressor =
-      SnappyCompression.SnappyLongCompression.INSTANCE;
 
   /**
    * value.
@@ -52,9 +48,9 @@ public class UnCompressNonDecimalLong implements UnCompressValue<long[]> {
     this.value = value;
   }
 
-  @Override public UnCompressValue compress() {
+  @Override public UnCompressValue compress(CompressionCodec codec) {
     UnCompressNonDecimalByte byte1 = new UnCompressNonDecimalByte();
-    byte1.setValue(longCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getLongCompressor(codec).compress(value));
     return byte1;
   }
 
@@ -67,7 +63,8 @@ public class UnCompressNonDecimalLong implements UnCompressValue<long[]> {
     return null;
   }
 
-  @Override public UnCompressValue uncompress(DataType dataType) {
+  @Override public UnCompressValue uncompress(DataType dataType, CompressionCodec codec,
+      ColumnPageBuffer buffer) {
     return null;
   }
 
@@ -87,8 +84,9 @@ public class UnCompressNonDecimalLong implements UnCompressValue<long[]> {
     return new UnCompressNonDecimalByte();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
-    double[] vals = new double[value.length];
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     for (int i = 0; i < vals.length; i++) {
       vals[i] = value[i] / Math.pow(10, decimal);
     }
@@ -23,30 +23,35 @@ import java.math.BigDecimal;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
 
 public class UnCompressNonDecimalMaxMinByte
-    implements ValueCompressonHolder.UnCompressValue<byte[]> {
+    implements ValueCompressonHolder.UnCompressValue<byte[]>,
+    ValueCompressonHolder.CompressedPageValue {
   /**
    * Attribute for Carbon LOGGER
    */
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressNonDecimalMaxMinByte.class.getName());
-  /**
-   * byteCompressor.
-   */
-  private static Compressor<byte[]> byteCompressor =
-      SnappyCompression.SnappyByteCompression.INSTANCE;
   /**
    * value.
    */
   private byte[] value;
 
+  /**
+   * offset and length of the compressed data in value, value can be the
+   * complete page read from file
+   */
+  private int offset;
+
+  private int length;
+
   @Override public ValueCompressonHolder.UnCompressValue getNew() {
     try {
       return (ValueCompressonHolder.UnCompressValue) clone();
@@ -57,16 +62,17 @@ public class UnCompressNonDecimalMaxMinByte
     return null;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue compress() {
+  @Override public ValueCompressonHolder.UnCompressValue compress(CompressionCodec codec) {
     UnCompressNonDecimalMaxMinByte byte1 = new UnCompressNonDecimalMaxMinByte();
-    byte1.setValue(byteCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getByteCompressor(codec).compress(value));
     return byte1;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue uncompress(DataType dataType) {
+  @Override public ValueCompressonHolder.UnCompressValue uncompress(DataType dataType,
+      CompressionCodec codec, ColumnPageBuffer buffer) {
     ValueCompressonHolder.UnCompressValue byte1 =
         ValueCompressionUtil.unCompressNonDecimalMaxMin(dataType, dataType);
-    ValueCompressonHolder.unCompress(dataType, byte1, value);
+    ValueCompressonHolder.unCompress(dataType, byte1, value, offset, length, codec, buffer);
     return byte1;
   }
 
@@ -83,11 +89,14 @@ public class UnCompressNonDecimalMaxMinByte
 
   @Override public void setValueInBytes(byte[] value) {
     this.value = value;
+    this.offset = 0;
+    this.length = value.length;
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimalVal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimalVal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     double maxValue = (double) maxValueObject;
-    double[] vals = new double[value.length];
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     CarbonReadDataHolder dataHolder = new CarbonReadDataHolder();
     for (int i = 0; i < vals.length; i++) {
       vals[i] = value[i] / Math.pow(10, decimalVal);
@@ -107,6 +116,14 @@ public class UnCompressNonDecimalMaxMinByte
 
   @Override public void setValue(byte[] value) {
     this.value = value;
+    this.offset = 0;
+    this.length = value.length;
+  }
+
+  @Override public void setValue(byte[] page, int offset, int length) {
+    this.value = page;
+    this.offset = offset;
+    this.length = length;
   }
 
 }
@@ -24,10 +24,11 @@ import java.nio.ByteBuffer;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder.UnCompressValue;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
 
@@ -37,11 +38,6 @@ public class UnCompressNonDecimalMaxMinDefault implements UnCompressValue<double
    */
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressNonDecimalMaxMinDefault.class.getName());
-  /**
-   * doubleCompressor.
-   */
-  private static Compressor<double[]> doubleCompressor =
-      SnappyCompression.SnappyDoubleCompression.INSTANCE;
   /**
    * value.
    */
@@ -60,9 +56,9 @@ public class UnCompressNonDecimalMaxMinDefault implements UnCompressValue<double
     return null;
   }
 
-  @Override public UnCompressValue compress() {
+  @Override public UnCompressValue compress(CompressionCodec codec) {
     UnCompressNonDecimalMaxMinByte byte1 = new UnCompressNonDecimalMaxMinByte();
-    byte1.setValue(doubleCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getDoubleCompressor(codec).compress(value));
     return byte1;
   }
 
@@ -82,13 +78,15 @@ public class UnCompressNonDecimalMaxMinDefault implements UnCompressValue<double
     return new UnCompressNonDecimalMaxMinByte();
   }
 
-  @Override public UnCompressValue uncompress(DataType dataType) {
+  @Override public UnCompressValue uncompress(DataType dataType, CompressionCodec codec,
+      ColumnPageBuffer buffer) {
     return null;
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     double maxVal = (double) maxValueObject;
-    double[] vals = new double[value.length];
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     CarbonReadDataHolder holder = new CarbonReadDataHolder();
     for (int i = 0; i < vals.length; i++) {
       vals[i] = value[i] / Math.pow(10, decimal);
@@ -21,32 +21,37 @@ package org.apache.carbondata.core.datastorage.store.compression.type;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder.UnCompressValue;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
 
-public class UnCompressNoneByte implements UnCompressValue<byte[]> {
+public class UnCompressNoneByte implements UnCompressValue<byte[]>,
+    ValueCompressonHolder.CompressedPageValue {
   /**
    * Attribute for Carbon LOGGER
    */
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressNoneByte.class.getName());
 
-  /**
-   * byteCompressor.
-   */
-  private static Compressor<byte[]> byteCompressor =
-      SnappyCompression.SnappyByteCompression.INSTANCE;
 
   /**
    * value.
    */
   private byte[] value;
 
+  /**
+   * offset and length of the compressed data in value, value can be the
+   * complete page read from file
+   */
+  private int offset;
+
+  private int length;
+
   @Override public UnCompressValue getNew() {
     try {
       return (UnCompressValue) clone();
@@ -58,17 +63,26 @@ public class UnCompressNoneByte implements UnCompressValue<byte[]> {
 
   @Override public void setValue(byte[] value) {
     this.value = value;
+    this.offset = 0;
+    this.length = value.length;
+  }
+
+  @Override public void setValue(byte[] page, int offset, int length) {
+    this.value = page;
+    this.offset = offset;
+    this.length = length;
   }
 
-  @Override public UnCompressValue uncompress(DataType dataType) {
+  @Override public UnCompressValue uncompress(DataType dataType, CompressionCodec codec,
+      ColumnPageBuffer buffer) {
     UnCompressValue byte1 = ValueCompressionUtil.unCompressNone(dataType, dataType);
-    ValueCompressonHolder.unCompress(dataType, byte1, value);
+    ValueCompressonHolder.unCompress(dataType, byte1, value, offset, length, codec, buffer);
     return byte1;
   }
 
-  @Override public UnCompressValue compress() {
+  @Override public UnCompressValue compress(CompressionCodec codec) {
     UnCompressNoneByte byte1 = new UnCompressNoneByte();
-    byte1.setValue(byteCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getByteCompressor(codec).compress(value));
     return byte1;
   }
 
@@ -78,6 +92,8 @@ public class UnCompressNoneByte implements UnCompressValue<byte[]> {
 
   @Override public void setValueInBytes(byte[] value) {
     this.value = value;
+    this.offset = 0;
+    this.length = value.length;
   }
 
   /**
@@ -87,9 +103,10 @@ public class UnCompressNoneByte implements UnCompressValue<byte[]> {
     return new UnCompressNoneByte();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     CarbonReadDataHolder dataHldr = new CarbonReadDataHolder();
-    double[] vals = new double[value.length];
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     for (int i = 0; i < vals.length; i++) {
       vals[i] = value[i];
     }
@@ -23,10 +23,11 @@ import java.nio.ByteBuffer;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 
 public class UnCompressNoneLong implements ValueCompressonHolder.UnCompressValue<long[]> {
@@ -35,11 +36,6 @@ public class UnCompressNoneLong implements ValueCompressonHolder.UnCompressValue
    */
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressNoneLong.class.getName());
-  /**
-   * longCompressor.
-   */
-  private static Compressor<long[]> longCompressor =
-      SnappyCompression.SnappyLongCompression.INSTANCE;
   /**
    * value.
    */
@@ -60,15 +56,16 @@ public class UnCompressNoneLong implements ValueCompressonHolder.UnCompressValue
     return null;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue compress() {
+  @Override public ValueCompressonHolder.UnCompressValue compress(CompressionCodec codec) {
     UnCompressNoneByte byte1 = new UnCompressNoneByte();
-    byte1.setValue(longCompressor.compress(value));
+    byte1.setValue(CompressorFactory.getLongCompressor(codec).compress(value));
     return byte1;
 
   }
 
   @Override
-  public ValueCompressonHolder.UnCompressValue uncompress(ValueCompressionUtil.DataType dType) {
+  public ValueCompressonHolder.UnCompressValue uncompress(ValueCompressionUtil.DataType dType,
+      CompressionCodec codec, ColumnPageBuffer buffer) {
     return null;
   }
 
@@ -88,9 +85,10 @@ public class UnCompressNoneLong implements ValueCompressonHolder.UnCompressValue
     return new UnCompressNoneByte();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     CarbonReadDataHolder dataHolder = new CarbonReadDataHolder();
-    double[] vals = new double[value.length];
+    double[] vals = buffer.getReadableDoubleArray(value.length);
     for (int i = 0; i < vals.length; i++) {
       vals[i] = value[i];
     }
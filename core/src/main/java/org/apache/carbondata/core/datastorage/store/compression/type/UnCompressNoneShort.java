@@ -23,10 +23,11 @@ import java.nio.ByteBuffer;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
-import org.apache.carbondata.core.datastorage.store.compression.Compressor;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
 
@@ -37,11 +38,6 @@ public class UnCompressNoneShort implements ValueCompressonHolder.UnCompressValu
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(UnCompressNoneShort.class.getName());
 
-  /**
-   * shortCompressor.
-   */
-  private static Compressor<short[]> shortCompressor =
-      SnappyCompression.SnappyShortCompression.INSTANCE;
 
   /**
    * value.
@@ -62,16 +58,17 @@ public class UnCompressNoneShort implements ValueCompressonHolder.UnCompressValu
     return null;
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue compress() {
+  @Override public ValueCompressonHolder.UnCompressValue compress(CompressionCodec codec) {
 
     UnCompressNoneByte byte1 = new UnCompressNoneByte();
-    byte1.setValue(shortCompressor.compress(shortValue));
+    byte1.setValue(CompressorFactory.getShortCompressor(codec).compress(shortValue));
 
     return byte1;
 
   }
 
-  @Override public ValueCompressonHolder.UnCompressValue uncompress(DataType dataType) {
+  @Override public ValueCompressonHolder.UnCompressValue uncompress(DataType dataType,
+      CompressionCodec codec, ColumnPageBuffer buffer) {
     return null;
   }
 
@@ -91,9 +88,10 @@ public class UnCompressNoneShort implements ValueCompressonHolder.UnCompressValu
     return new UnCompressNoneByte();
   }
 
-  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject) {
+  @Override public CarbonReadDataHolder getValues(int decimal, Object maxValueObject,
+      ColumnPageBuffer buffer) {
     CarbonReadDataHolder dataHolder = new CarbonReadDataHolder();
-    double[] vals = new double[shortValue.length];
+    double[] vals = buffer.getReadableDoubleArray(shortValue.length);
     for (int i = 0; i < vals.length; i++) {
       vals[i] = shortValue[i];
     }
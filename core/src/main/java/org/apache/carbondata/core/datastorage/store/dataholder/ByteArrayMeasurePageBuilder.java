@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.dataholder;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.util.DataTypeUtil;
+
+/**
+ * Page builder of measure stored as byte array. Every value is written to
+ * the page prefixed with its length, so the page does not need to be
+ * flattened again before compression
+ */
+public class ByteArrayMeasurePageBuilder extends MeasurePageBuilder {
+
+  private static final byte[] EMPTY_VALUE = new byte[0];
+
+  /**
+   * length prefixed values of the page
+   */
+  private byte[] page;
+
+  private int pageLength;
+
+  public ByteArrayMeasurePageBuilder(int pageSize) {
+    super(pageSize);
+    page = new byte[pageSize * (CarbonCommonConstants.INT_SIZE_IN_BYTE + 8)];
+  }
+
+  @Override public void putBytes(byte[] value) {
+    addValue(value);
+  }
+
+  @Override public void putDecimal(BigDecimal value) {
+    addValue(DataTypeUtil.bigDecimalToByte(value));
+  }
+
+  @Override public void putNull() {
+    nullBitSet.set(rowCount);
+    addValue(EMPTY_VALUE);
+  }
+
+  /**
+   * Below method will be used to add the value with its length to the page
+   *
+   * @param value
+   */
+  protected void addValue(byte[] value) {
+    int requiredLength = pageLength + CarbonCommonConstants.INT_SIZE_IN_BYTE + value.length;
+    if (requiredLength > page.length) {
+      page = Arrays.copyOf(page, Math.max(requiredLength, page.length << 1));
+    }
+    int length = value.length;
+    page[pageLength++] = (byte) (length >>> 24);
+    page[pageLength++] = (byte) (length >>> 16);
+    page[pageLength++] = (byte) (length >>> 8);
+    page[pageLength++] = (byte) length;
+    System.arraycopy(value, 0, page, pageLength, length);
+    pageLength += length;
+    rowCount++;
+  }
+
+  @Override public Object getMaxValue() {
+    return 0.0;
+  }
+
+  @Override public Object getMinValue() {
+    return 0.0;
+  }
+
+  @Override public Object getUniqueValue() {
+    return -1.0;
+  }
+
+  @Override public CarbonWriteDataHolder getWriteDataHolder() {
+    CarbonWriteDataHolder dataHolder = new CarbonWriteDataHolder();
+    dataHolder.setWritableByteArrayPage(
+        pageLength == page.length ? page : Arrays.copyOf(page, pageLength));
+    return dataHolder;
+  }
+}
@@ -112,4 +112,25 @@ public class CarbonReadDataHolder {
   public byte[] getReadableByteArrayValueByIndex(int index) {
     return this.byteValues[index];
   }
+
+  /**
+   * @return the longValues
+   */
+  public long[] getReadableLongValues() {
+    return longValues;
+  }
+
+  /**
+   * @return the bigDecimalValues
+   */
+  public BigDecimal[] getReadableBigDecimalValues() {
+    return bigDecimalValues;
+  }
+
+  /**
+   * Below method will be used to free the memory occupied by the values,
+   * values are kept in heap so nothing to free
+   */
+  public void freeMemory() {
+  }
 }
@@ -45,6 +45,11 @@ public class CarbonWriteDataHolder {
    */
   private byte[][][] columnByteValues;
 
+  /**
+   * length prefixed byte array values of the page
+   */
+  private byte[] byteArrayPage;
+
   /**
    * size
    */
@@ -142,6 +147,37 @@ public class CarbonWriteDataHolder {
     size++;
   }
 
+  /**
+   * set double value by index
+   *
+   * @param index
+   * @param value
+   */
+  public void setWritableDoubleValueByIndex(int index, double value) {
+    doubleValues[index] = value;
+    size++;
+  }
+
+  /**
+   * set long value by index
+   *
+   * @param index
+   * @param value
+   */
+  public void setWritableLongValueByIndex(int index, long value) {
+    longValues[index] = value;
+    size++;
+  }
+
+  /**
+   * set byte array values of the page which are already flattened
+   *
+   * @param byteArrayPage
+   */
+  public void setWritableByteArrayPage(byte[] byteArrayPage) {
+    this.byteArrayPage = byteArrayPage;
+  }
+
   /**
    * set byte array value by index
    *
@@ -187,6 +223,9 @@ public class CarbonWriteDataHolder {
    * Get writable byte array values
    */
   public byte[] getWritableByteArrayValues() {
+    if (null != byteArrayPage) {
+      return byteArrayPage;
+    }
     byte[] temp = new byte[totalSize];
     int startIndexToCopy = 0;
     for (int i = 0; i < size; i++) {
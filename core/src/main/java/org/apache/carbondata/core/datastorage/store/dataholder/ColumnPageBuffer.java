@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.dataholder;
+
+/**
+ * Arrays used to uncompress the pages of one column. Number of rows is
+ * mostly same for all the blocklets, so an array is reused when the next
+ * page has the same number of values and replaced otherwise. Arrays are
+ * handed out as they are, so the data of a page is valid only till the
+ * next page of the column is uncompressed using this buffer
+ */
+public class ColumnPageBuffer {
+
+  /**
+   * arrays to hold the uncompressed page
+   */
+  private byte[] byteArray;
+
+  private short[] shortArray;
+
+  private int[] intArray;
+
+  private long[] longArray;
+
+  private float[] floatArray;
+
+  private double[] doubleArray;
+
+  /**
+   * arrays to hold the actual values converted from the uncompressed page
+   */
+  private long[] readableLongArray;
+
+  private double[] readableDoubleArray;
+
+  public byte[] getByteArray(int length) {
+    if (null == byteArray || byteArray.length != length) {
+      byteArray = new byte[length];
+    }
+    return byteArray;
+  }
+
+  public short[] getShortArray(int length) {
+    if (null == shortArray || shortArray.length != length) {
+      shortArray = new short[length];
+    }
+    return shortArray;
+  }
+
+  public int[] getIntArray(int length) {
+    if (null == intArray || intArray.length != length) {
+      intArray = new int[length];
+    }
+    return intArray;
+  }
+
+  public long[] getLongArray(int length) {
+    if (null == longArray || longArray.length != length) {
+      longArray = new long[length];
+    }
+    return longArray;
+  }
+
+  public float[] getFloatArray(int length) {
+    if (null == floatArray || floatArray.length != length) {
+      floatArray = new float[length];
+    }
+    return floatArray;
+  }
+
+  public double[] getDoubleArray(int length) {
+    if (null == doubleArray || doubleArray.length != length) {
+      doubleArray = new double[length];
+    }
+    return doubleArray;
+  }
+
+  public long[] getReadableLongArray(int length) {
+    if (null == readableLongArray || readableLongArray.length != length) {
+      readableLongArray = new long[length];
+    }
+    return readableLongArray;
+  }
+
+  public double[] getReadableDoubleArray(int length) {
+    if (null == readableDoubleArray || readableDoubleArray.length != length) {
+      readableDoubleArray = new double[length];
+    }
+    return readableDoubleArray;
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.dataholder;
+
+/**
+ * Pool of {@link ColumnPageBuffer} of every column of a block. It is owned by
+ * the blocklet iterator of a query, so blocklets are uncompressed in to the
+ * same arrays instead of allocating new arrays for every blocklet. As the
+ * arrays are overwritten by the next blocklet, the chunks read using this
+ * pool must not be used once the iterator moves to the next blocklet
+ */
+public class ColumnPageBufferPool {
+
+  private ColumnPageBuffer[] dimensionBuffers;
+
+  private ColumnPageBuffer[] measureBuffers;
+
+  public ColumnPageBufferPool(int numberOfDimensionBlock, int numberOfMeasureBlock) {
+    dimensionBuffers = new ColumnPageBuffer[numberOfDimensionBlock];
+    measureBuffers = new ColumnPageBuffer[numberOfMeasureBlock];
+  }
+
+  /**
+   * Below method will be used to get the buffer of the dimension block
+   *
+   * @param blockIndex dimension block index
+   * @return buffer of the block
+   */
+  public ColumnPageBuffer getDimensionBuffer(int blockIndex) {
+    if (null == dimensionBuffers[blockIndex]) {
+      dimensionBuffers[blockIndex] = new ColumnPageBuffer();
+    }
+    return dimensionBuffers[blockIndex];
+  }
+
+  /**
+   * Below method will be used to get the buffer of the measure block
+   *
+   * @param blockIndex measure block index
+   * @return buffer of the block
+   */
+  public ColumnPageBuffer getMeasureBuffer(int blockIndex) {
+    if (null == measureBuffers[blockIndex]) {
+      measureBuffers[blockIndex] = new ColumnPageBuffer();
+    }
+    return measureBuffers[blockIndex];
+  }
+}
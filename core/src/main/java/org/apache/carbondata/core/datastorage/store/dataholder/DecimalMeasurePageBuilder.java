@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.dataholder;
+
+import java.math.BigDecimal;
+
+import org.apache.carbondata.core.util.DataTypeUtil;
+
+/**
+ * Page builder of measure of decimal type, values are stored as byte array
+ */
+public class DecimalMeasurePageBuilder extends ByteArrayMeasurePageBuilder {
+
+  /**
+   * storage value of the null rows
+   */
+  private static final byte[] NULL_VALUE = DataTypeUtil.bigDecimalToByte(BigDecimal.valueOf(0));
+
+  private BigDecimal maxValue = new BigDecimal(0.0);
+
+  private BigDecimal minValue = new BigDecimal(Double.MAX_VALUE);
+
+  public DecimalMeasurePageBuilder(int pageSize) {
+    super(pageSize);
+  }
+
+  @Override public void putDecimal(BigDecimal value) {
+    minValue = minValue.min(value);
+    super.putDecimal(value);
+  }
+
+  @Override public void putBytes(byte[] value) {
+    minValue = minValue.min(DataTypeUtil.byteToBigDecimal(value));
+    addValue(value);
+  }
+
+  @Override public void putNull() {
+    nullBitSet.set(rowCount);
+    addValue(NULL_VALUE);
+  }
+
+  @Override public Object getMaxValue() {
+    return maxValue;
+  }
+
+  @Override public Object getMinValue() {
+    return minValue;
+  }
+
+  @Override public Object getUniqueValue() {
+    return minValue.subtract(new BigDecimal(1.0));
+  }
+}
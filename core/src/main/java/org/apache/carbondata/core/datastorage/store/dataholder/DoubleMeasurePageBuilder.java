@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.dataholder;
+
+import java.math.BigDecimal;
+
+/**
+ * Page builder of measure of double type
+ */
+public class DoubleMeasurePageBuilder extends MeasurePageBuilder {
+
+  private CarbonWriteDataHolder dataHolder;
+
+  /**
+   * whether max, min and decimal count has to be calculated
+   */
+  private boolean calculateStatistics;
+
+  private double maxValue;
+
+  private double minValue;
+
+  public DoubleMeasurePageBuilder(int pageSize, boolean calculateStatistics) {
+    super(pageSize);
+    this.calculateStatistics = calculateStatistics;
+    if (calculateStatistics) {
+      maxValue = -Double.MAX_VALUE;
+      minValue = Double.MAX_VALUE;
+    }
+    dataHolder = new CarbonWriteDataHolder();
+    dataHolder.initialiseDoubleValues(pageSize);
+  }
+
+  @Override public void putDouble(double value) {
+    dataHolder.setWritableDoubleValueByIndex(rowCount++, value);
+    if (calculateStatistics) {
+      maxValue = maxValue > value ? maxValue : value;
+      minValue = minValue < value ? minValue : value;
+      int num = getDecimalCount(value);
+      decimal = decimal > num ? decimal : num;
+    }
+  }
+
+  @Override public void putNull() {
+    nullBitSet.set(rowCount);
+    dataHolder.setWritableDoubleValueByIndex(rowCount++, 0.0);
+  }
+
+  @Override public Object getMaxValue() {
+    return maxValue;
+  }
+
+  @Override public Object getMinValue() {
+    return minValue;
+  }
+
+  @Override public Object getUniqueValue() {
+    return minValue - 1;
+  }
+
+  @Override public CarbonWriteDataHolder getWriteDataHolder() {
+    return dataHolder;
+  }
+
+  /**
+   * @param value
+   * @return it return no of value after decimal
+   */
+  public static int getDecimalCount(double value) {
+    double absValue = Math.abs(value);
+    // whole number is written with one decimal place till it is printed in
+    // scientific notation, no need to convert it to string
+    if (absValue < 1.0E7 && absValue == Math.rint(absValue)) {
+      return 1;
+    }
+    String strValue = BigDecimal.valueOf(absValue).toPlainString();
+    int integerPlaces = strValue.indexOf('.');
+    int decimalPlaces = 0;
+    if (-1 != integerPlaces) {
+      decimalPlaces = strValue.length() - integerPlaces - 1;
+    }
+    return decimalPlaces;
+  }
+}
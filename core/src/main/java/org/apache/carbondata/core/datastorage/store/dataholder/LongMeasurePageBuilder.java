@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.dataholder;
+
+/**
+ * Page builder of measure of long type
+ */
+public class LongMeasurePageBuilder extends MeasurePageBuilder {
+
+  private CarbonWriteDataHolder dataHolder;
+
+  private long maxValue = Long.MIN_VALUE;
+
+  private long minValue = Long.MAX_VALUE;
+
+  public LongMeasurePageBuilder(int pageSize) {
+    super(pageSize);
+    dataHolder = new CarbonWriteDataHolder();
+    dataHolder.initialiseLongValues(pageSize);
+  }
+
+  @Override public void putLong(long value) {
+    dataHolder.setWritableLongValueByIndex(rowCount++, value);
+    maxValue = maxValue > value ? maxValue : value;
+    minValue = minValue < value ? minValue : value;
+    // a long value is written with one decimal place till it is printed in
+    // scientific notation
+    if (decimal < 1 && Math.abs((double) value) < 1.0E7) {
+      decimal = 1;
+    }
+  }
+
+  @Override public void putNull() {
+    nullBitSet.set(rowCount);
+    dataHolder.setWritableLongValueByIndex(rowCount++, 0L);
+  }
+
+  @Override public Object getMaxValue() {
+    return maxValue;
+  }
+
+  @Override public Object getMinValue() {
+    return minValue;
+  }
+
+  @Override public Object getUniqueValue() {
+    return minValue - 1;
+  }
+
+  @Override public CarbonWriteDataHolder getWriteDataHolder() {
+    return dataHolder;
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.dataholder;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+
+/**
+ * Builder of one measure column page of a blocklet. Values of the rows are
+ * appended in primitive form and the statistics of the page (max, min,
+ * decimal count) are updated while appending, so no boxed value is created
+ * per row. Rows which are null are recorded in the null bitmap of the page
+ */
+public abstract class MeasurePageBuilder {
+
+  /**
+   * index of the rows which are null
+   */
+  protected BitSet nullBitSet;
+
+  /**
+   * number of rows added to the page
+   */
+  protected int rowCount;
+
+  /**
+   * max number of decimal places of the values
+   */
+  protected int decimal;
+
+  protected MeasurePageBuilder(int pageSize) {
+    this.nullBitSet = new BitSet(pageSize);
+  }
+
+  /**
+   * Below method will be used to get the page builder for the measure type
+   *
+   * @param aggType  measure type
+   * @param pageSize number of rows in the page
+   * @return page builder
+   */
+  public static MeasurePageBuilder newInstance(char aggType, int pageSize) {
+    switch (aggType) {
+      case CarbonCommonConstants.BIG_INT_MEASURE:
+        return new LongMeasurePageBuilder(pageSize);
+      case CarbonCommonConstants.SUM_COUNT_VALUE_MEASURE:
+        return new DoubleMeasurePageBuilder(pageSize, true);
+      case CarbonCommonConstants.BIG_DECIMAL_MEASURE:
+        return new DecimalMeasurePageBuilder(pageSize);
+      case CarbonCommonConstants.BYTE_VALUE_MEASURE:
+        return new ByteArrayMeasurePageBuilder(pageSize);
+      default:
+        return new DoubleMeasurePageBuilder(pageSize, false);
+    }
+  }
+
+  public void putLong(long value) {
+    throw new UnsupportedOperationException("Long value is not supported by " + getClass());
+  }
+
+  public void putDouble(double value) {
+    throw new UnsupportedOperationException("Double value is not supported by " + getClass());
+  }
+
+  public void putDecimal(BigDecimal value) {
+    throw new UnsupportedOperationException("Decimal value is not supported by " + getClass());
+  }
+
+  public void putBytes(byte[] value) {
+    throw new UnsupportedOperationException("Byte array value is not supported by " + getClass());
+  }
+
+  /**
+   * Below method will be used to add a null row to the page
+   */
+  public abstract void putNull();
+
+  /**
+   * @return max value of the page
+   */
+  public abstract Object getMaxValue();
+
+  /**
+   * @return min value of the page
+   */
+  public abstract Object getMinValue();
+
+  /**
+   * @return value which is not present in the page, used as the storage
+   * value of the null rows
+   */
+  public abstract Object getUniqueValue();
+
+  /**
+   * @return data holder of the page to be compressed
+   */
+  public abstract CarbonWriteDataHolder getWriteDataHolder();
+
+  /**
+   * @return max number of decimal places of the values
+   */
+  public int getDecimal() {
+    return decimal;
+  }
+
+  /**
+   * @return index of the null rows
+   */
+  public BitSet getNullBitSet() {
+    return nullBitSet;
+  }
+
+  /**
+   * @return number of rows added to the page
+   */
+  public int getRowCount() {
+    return rowCount;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.dataholder;
+
+import org.apache.carbondata.core.unsafe.CarbonUnsafe;
+
+/**
+ * Read data holder which keeps the double and long values in off heap
+ * memory. Big decimal and byte array values are objects, so they are still
+ * kept in heap. Memory must be released by calling {@link #freeMemory()}
+ */
+public class UnsafeCarbonReadDataHolder extends CarbonReadDataHolder {
+
+  /**
+   * address of the double values, 0 if not present
+   */
+  private long doubleValuesAddress;
+
+  private int numberOfDoubleValues;
+
+  /**
+   * address of the long values, 0 if not present
+   */
+  private long longValuesAddress;
+
+  private int numberOfLongValues;
+
+  /**
+   * Constructor for this class, double and long values of the holder will
+   * be copied to off heap memory
+   *
+   * @param dataHolder uncompressed data holder
+   */
+  public UnsafeCarbonReadDataHolder(CarbonReadDataHolder dataHolder) {
+    double[] doubleValues = dataHolder.getReadableDoubleValues();
+    if (null != doubleValues) {
+      numberOfDoubleValues = doubleValues.length;
+      long size = (long) numberOfDoubleValues << 3;
+      doubleValuesAddress = CarbonUnsafe.UNSAFE.allocateMemory(size);
+      CarbonUnsafe.UNSAFE
+          .copyMemory(doubleValues, CarbonUnsafe.DOUBLE_ARRAY_OFFSET, null, doubleValuesAddress,
+              size);
+    }
+    long[] longValues = dataHolder.getReadableLongValues();
+    if (null != longValues) {
+      numberOfLongValues = longValues.length;
+      long size = (long) numberOfLongValues << 3;
+      longValuesAddress = CarbonUnsafe.UNSAFE.allocateMemory(size);
+      CarbonUnsafe.UNSAFE
+          .copyMemory(longValues, CarbonUnsafe.LONG_ARRAY_OFFSET, null, longValuesAddress, size);
+    }
+    setReadableBigDecimalValues(dataHolder.getReadableBigDecimalValues());
+    setReadableByteValues(dataHolder.getReadableByteArrayValues());
+  }
+
+  /**
+   * values are off heap, so a copy is returned
+   *
+   * @return the doubleValues
+   */
+  @Override public double[] getReadableDoubleValues() {
+    if (doubleValuesAddress == 0) {
+      return null;
+    }
+    double[] doubleValues = new double[numberOfDoubleValues];
+    CarbonUnsafe.UNSAFE
+        .copyMemory(null, doubleValuesAddress, doubleValues, CarbonUnsafe.DOUBLE_ARRAY_OFFSET,
+            (long) numberOfDoubleValues << 3);
+    return doubleValues;
+  }
+
+  /**
+   * values are off heap, so a copy is returned
+   *
+   * @return the longValues
+   */
+  @Override public long[] getReadableLongValues() {
+    if (longValuesAddress == 0) {
+      return null;
+    }
+    long[] longValues = new long[numberOfLongValues];
+    CarbonUnsafe.UNSAFE
+        .copyMemory(null, longValuesAddress, longValues, CarbonUnsafe.LONG_ARRAY_OFFSET,
+            (long) numberOfLongValues << 3);
+    return longValues;
+  }
+
+  @Override public double getReadableDoubleValueByIndex(int index) {
+    return CarbonUnsafe.UNSAFE.getDouble(doubleValuesAddress + ((long) index << 3));
+  }
+
+  @Override public long getReadableLongValueByIndex(int index) {
+    return CarbonUnsafe.UNSAFE.getLong(longValuesAddress + ((long) index << 3));
+  }
+
+  /**
+   * Below method will be used to release the off heap memory, calling it
+   * again is a no-op
+   */
+  @Override public void freeMemory() {
+    if (doubleValuesAddress != 0) {
+      CarbonUnsafe.UNSAFE.freeMemory(doubleValuesAddress);
+      doubleValuesAddress = 0;
+    }
+    if (longValuesAddress != 0) {
+      CarbonUnsafe.UNSAFE.freeMemory(longValuesAddress);
+      longValuesAddress = 0;
+    }
+  }
+}
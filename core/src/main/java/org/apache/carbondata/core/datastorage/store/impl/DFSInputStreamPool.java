@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.carbondata.common.logging.LogService;
+import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.util.CarbonProperties;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.Path;
+
+/**
+ * Process wide pool of open file system input streams. Streams are shared by
+ * all the readers as they are read only through positional reads, so a file
+ * is opened once per executor instead of once per query.
+ * Pool is bounded by number of open streams, least recently used streams which
+ * are not in use are closed when pool is full, and streams which are not used
+ * for the configured idle time are closed by a background thread.
+ * Files are opened outside the pool lock, readers of the file being opened
+ * wait only for that file
+ */
+public final class DFSInputStreamPool {
+
+  private static final LogService LOGGER =
+      LogServiceFactory.getLogService(DFSInputStreamPool.class.getName());
+
+  private static final DFSInputStreamPool INSTANCE = new DFSInputStreamPool();
+
+  /**
+   * access ordered map of file path to pooled stream
+   */
+  private final LinkedHashMap<String, PooledStream> streams;
+
+  /**
+   * invalidated streams which are still in use, they are closed on last release
+   */
+  private final Map<FSDataInputStream, PooledStream> doomedStreams;
+
+  /**
+   * maximum number of streams kept open
+   */
+  private final int maxStreams;
+
+  /**
+   * time in milliseconds after which an unused stream will be closed
+   */
+  private final long idleTimeout;
+
+  private ScheduledExecutorService idleEvictor;
+
+  private DFSInputStreamPool() {
+    this(parsePositive(CarbonProperties.getInstance()
+            .getProperty(CarbonCommonConstants.DFS_STREAM_POOL_SIZE,
+                CarbonCommonConstants.DFS_STREAM_POOL_SIZE_DEFAULT),
+        CarbonCommonConstants.DFS_STREAM_POOL_SIZE_DEFAULT), parsePositive(
+        CarbonProperties.getInstance()
+            .getProperty(CarbonCommonConstants.DFS_STREAM_POOL_IDLE_TIMEOUT,
+                CarbonCommonConstants.DFS_STREAM_POOL_IDLE_TIMEOUT_DEFAULT),
+        CarbonCommonConstants.DFS_STREAM_POOL_IDLE_TIMEOUT_DEFAULT));
+  }
+
+  DFSInputStreamPool(int maxStreams, long idleTimeout) {
+    this.maxStreams = maxStreams;
+    this.idleTimeout = idleTimeout;
+    streams = new LinkedHashMap<>(16, 0.75f, true);
+    doomedStreams = new IdentityHashMap<>();
+  }
+
+  public static DFSInputStreamPool getInstance() {
+    return INSTANCE;
+  }
+
+  private static int parsePositive(String value, String defaultValue) {
+    try {
+      int parsedValue = Integer.parseInt(value);
+      if (parsedValue > 0) {
+        return parsedValue;
+      }
+    } catch (NumberFormatException e) {
+      // use default value
+    }
+    LOGGER.info("The stream pool value \"" + value + "\" is invalid. Using the default value \""
+        + defaultValue);
+    return Integer.parseInt(defaultValue);
+  }
+
+  /**
+   * Below method will be used to get the stream of the file, file will be
+   * opened if not present in pool. Stream will not be closed by pool till
+   * it is released
+   *
+   * @param filePath fully qualified file path
+   * @return stream
+   * @throws IOException if file cannot be opened
+   */
+  public FSDataInputStream acquire(final String filePath) throws IOException {
+    PooledStream pooledStream;
+    boolean isNewStream = false;
+    synchronized (this) {
+      pooledStream = streams.get(filePath);
+      if (null == pooledStream) {
+        pooledStream = new PooledStream(new FutureTask<>(new Callable<FSDataInputStream>() {
+          @Override public FSDataInputStream call() throws IOException {
+            Path path = new Path(filePath);
+            return path.getFileSystem(FileFactory.getConfiguration()).open(path);
+          }
+        }));
+        streams.put(filePath, pooledStream);
+        isNewStream = true;
+      }
+      // reference is taken before eviction so that the new stream is never closed, pool can
+      // grow beyond the limit till other streams are released
+      pooledStream.references++;
+      if (isNewStream) {
+        evictIfFull();
+        startIdleEvictor();
+      }
+    }
+    if (isNewStream) {
+      pooledStream.opener.run();
+    }
+    try {
+      return pooledStream.opener.get();
+    } catch (InterruptedException e) {
+      removeFailedStream(filePath, pooledStream);
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while opening the file " + filePath, e);
+    } catch (ExecutionException e) {
+      removeFailedStream(filePath, pooledStream);
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException("Problem while opening the file " + filePath, e.getCause());
+    }
+  }
+
+  /**
+   * Below method will be used to release the stream acquired earlier, the
+   * stream is closed if it was invalidated and this is the last reference
+   *
+   * @param filePath fully qualified file path
+   * @param stream   stream returned by acquire
+   */
+  public synchronized void release(String filePath, FSDataInputStream stream) {
+    PooledStream pooledStream = streams.get(filePath);
+    if (null != pooledStream && pooledStream.isSameStream(stream)) {
+      pooledStream.references--;
+      pooledStream.lastAccessTime = System.currentTimeMillis();
+      return;
+    }
+    pooledStream = doomedStreams.get(stream);
+    if (null != pooledStream && --pooledStream.references == 0) {
+      doomedStreams.remove(stream);
+      close(pooledStream);
+    }
+  }
+
+  /**
+   * Below method will be used to remove the stream of the file from pool, it
+   * will be used when the stream failed or the file is deleted or modified.
+   * Next acquire opens the file again, the stream is closed once all its
+   * users have released it
+   *
+   * @param filePath fully qualified file path
+   * @param stream   stream returned by acquire
+   */
+  public synchronized void invalidate(String filePath, FSDataInputStream stream) {
+    PooledStream pooledStream = streams.get(filePath);
+    if (null == pooledStream || !pooledStream.isSameStream(stream)) {
+      return;
+    }
+    streams.remove(filePath);
+    if (pooledStream.references == 0) {
+      close(pooledStream);
+    } else {
+      doomedStreams.put(stream, pooledStream);
+    }
+  }
+
+  /**
+   * Removes the stream which could not be opened, reference taken by the
+   * failed acquire is given up
+   */
+  private synchronized void removeFailedStream(String filePath, PooledStream pooledStream) {
+    pooledStream.references--;
+    if (streams.get(filePath) == pooledStream) {
+      streams.remove(filePath);
+    }
+  }
+
+  /**
+   * @return number of streams currently open
+   */
+  public synchronized int size() {
+    return streams.size();
+  }
+
+  /**
+   * Closes the least recently used streams which are not in use till pool
+   * size is within the limit
+   */
+  private void evictIfFull() {
+    Iterator<PooledStream> iterator = streams.values().iterator();
+    while (streams.size() > maxStreams && iterator.hasNext()) {
+      PooledStream pooledStream = iterator.next();
+      if (pooledStream.references == 0) {
+        iterator.remove();
+        close(pooledStream);
+      }
+    }
+  }
+
+  private synchronized void evictIdleStreams() {
+    long now = System.currentTimeMillis();
+    List<String> idleFiles = new ArrayList<>();
+    for (Map.Entry<String, PooledStream> entry : streams.entrySet()) {
+      PooledStream pooledStream = entry.getValue();
+      if (pooledStream.references == 0 && now - pooledStream.lastAccessTime >= idleTimeout) {
+        idleFiles.add(entry.getKey());
+      }
+    }
+    for (String filePath : idleFiles) {
+      close(streams.remove(filePath));
+    }
+  }
+
+  private void startIdleEvictor() {
+    if (null != idleEvictor) {
+      return;
+    }
+    idleEvictor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+      @Override public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "DFSInputStreamPool-idle-evictor");
+        thread.setDaemon(true);
+        return thread;
+      }
+    });
+    idleEvictor.scheduleWithFixedDelay(new Runnable() {
+      @Override public void run() {
+        evictIdleStreams();
+      }
+    }, idleTimeout, idleTimeout, TimeUnit.MILLISECONDS);
+  }
+
+  private void close(PooledStream pooledStream) {
+    try {
+      pooledStream.opener.get().close();
+    } catch (IOException | ExecutionException e) {
+      LOGGER.error(e, e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Stream present in the pool with its usage details
+   */
+  private static class PooledStream {
+
+    /**
+     * opens the stream, it is run by the first reader outside the pool lock
+     */
+    private FutureTask<FSDataInputStream> opener;
+
+    /**
+     * number of readers currently using the stream
+     */
+    private int references;
+
+    private long lastAccessTime;
+
+    private PooledStream(FutureTask<FSDataInputStream> opener) {
+      this.opener = opener;
+      this.lastAccessTime = System.currentTimeMillis();
+    }
+
+    private boolean isSameStream(FSDataInputStream stream) {
+      try {
+        return opener.isDone() && opener.get() == stream;
+      } catch (InterruptedException | ExecutionException e) {
+        return false;
+      }
+    }
+  }
+}
@@ -30,12 +30,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.zip.GZIPInputStream;
 
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.datastorage.store.FileHolder;
 import org.apache.carbondata.core.datastorage.store.filesystem.AlluxioCarbonFile;
 import org.apache.carbondata.core.datastorage.store.filesystem.CarbonFile;
 import org.apache.carbondata.core.datastorage.store.filesystem.HDFSCarbonFile;
 import org.apache.carbondata.core.datastorage.store.filesystem.LocalCarbonFile;
 import org.apache.carbondata.core.datastorage.store.filesystem.ViewFSCarbonFile;
+import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.CarbonUtil;
 
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
@@ -84,12 +86,21 @@ public final class FileFactory {
       case HDFS:
       case ALLUXIO:
       case VIEWFS:
+        if (isDFSStreamPoolEnabled()) {
+          return new PooledDFSFileHolderImpl();
+        }
         return new DFSFileHolderImpl();
       default:
         return new FileHolderImpl();
     }
   }
 
+  private static boolean isDFSStreamPoolEnabled() {
+    return Boolean.parseBoolean(CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.ENABLE_DFS_STREAM_POOL,
+            CarbonCommonConstants.ENABLE_DFS_STREAM_POOL_DEFAULT));
+  }
+
   public static FileType getFileType() {
     String property = CarbonUtil.getCarbonStorePath();
     if (property != null) {
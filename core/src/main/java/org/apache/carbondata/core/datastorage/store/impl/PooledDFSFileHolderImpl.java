@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.carbondata.core.datastorage.store.FileHolder;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+
+/**
+ * File holder which reads the file using positional reads on the streams
+ * shared through {@link DFSInputStreamPool}. As positional read does not
+ * change the stream state, one holder can be used by multiple threads and
+ * streams are not closed on finish, only released back to the pool.
+ * Read failures are thrown instead of returning empty data, the failed
+ * stream is invalidated in the pool so that next read opens the file again
+ */
+public class PooledDFSFileHolderImpl implements FileHolder {
+
+  /**
+   * streams acquired by this holder
+   */
+  private Map<String, FSDataInputStream> acquiredStreams;
+
+  /**
+   * position of each file after last read, used for the reads without offset
+   */
+  private Map<String, Long> filePositions;
+
+  private DFSInputStreamPool pool;
+
+  public PooledDFSFileHolderImpl() {
+    this.acquiredStreams = new ConcurrentHashMap<>();
+    this.filePositions = new ConcurrentHashMap<>();
+    this.pool = DFSInputStreamPool.getInstance();
+  }
+
+  /**
+   * Below method will be used to get the stream of the file, first time it
+   * is acquired from the pool
+   */
+  private FSDataInputStream getStream(String filePath) throws IOException {
+    FSDataInputStream stream = acquiredStreams.get(filePath);
+    if (null == stream) {
+      synchronized (acquiredStreams) {
+        stream = acquiredStreams.get(filePath);
+        if (null == stream) {
+          stream = pool.acquire(filePath);
+          acquiredStreams.put(filePath, stream);
+        }
+      }
+    }
+    return stream;
+  }
+
+  private byte[] read(String filePath, long offset, int length) {
+    byte[] buffer = new byte[length];
+    FSDataInputStream stream;
+    try {
+      stream = getStream(filePath);
+    } catch (IOException e) {
+      throw new RuntimeException("Problem while opening the file " + filePath, e);
+    }
+    try {
+      stream.readFully(offset, buffer);
+    } catch (IOException e) {
+      invalidate(filePath, stream);
+      throw new RuntimeException("Problem while reading the file " + filePath, e);
+    }
+    filePositions.put(filePath, offset + length);
+    return buffer;
+  }
+
+  /**
+   * Below method will be used to give up the failed stream, it is closed by
+   * the pool once no other reader is using it
+   */
+  private void invalidate(String filePath, FSDataInputStream stream) {
+    synchronized (acquiredStreams) {
+      pool.invalidate(filePath, stream);
+      if (acquiredStreams.get(filePath) == stream) {
+        acquiredStreams.remove(filePath);
+        pool.release(filePath, stream);
+      }
+    }
+  }
+
+  private long currentPosition(String filePath) {
+    Long position = filePositions.get(filePath);
+    return null == position ? 0 : position;
+  }
+
+  @Override public byte[] readByteArray(String filePath, long offset, int length) {
+    return read(filePath, offset, length);
+  }
+
+  @Override public byte[] readByteArray(String filePath, int length) {
+    return read(filePath, currentPosition(filePath), length);
+  }
+
+  @Override public int readInt(String filePath, long offset) {
+    return ByteBuffer.wrap(read(filePath, offset, 4)).getInt();
+  }
+
+  @Override public long readLong(String filePath, long offset) {
+    return ByteBuffer.wrap(read(filePath, offset, 8)).getLong();
+  }
+
+  @Override public int readInt(String filePath) {
+    return ByteBuffer.wrap(read(filePath, currentPosition(filePath), 4)).getInt();
+  }
+
+  @Override public long readDouble(String filePath, long offset) {
+    return ByteBuffer.wrap(read(filePath, offset, 8)).getLong();
+  }
+
+  /**
+   * Releases all the acquired streams back to the pool
+   */
+  @Override public void finish() {
+    synchronized (acquiredStreams) {
+      for (Map.Entry<String, FSDataInputStream> entry : acquiredStreams.entrySet()) {
+        pool.release(entry.getKey(), entry.getValue());
+      }
+      acquiredStreams.clear();
+      filePositions.clear();
+    }
+  }
+}
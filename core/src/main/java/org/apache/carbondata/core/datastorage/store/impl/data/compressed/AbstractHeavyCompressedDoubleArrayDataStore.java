@@ -21,6 +21,9 @@ package org.apache.carbondata.core.datastorage.store.impl.data.compressed;
 
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.datastorage.store.NodeMeasureDataStore;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
+import org.apache.carbondata.core.datastorage.store.compression.MeasurePageCodec;
+import org.apache.carbondata.core.datastorage.store.compression.MeasurePageEncoding;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonWriteDataHolder;
@@ -60,10 +63,21 @@ public abstract class AbstractHeavyCompressedDoubleArrayDataStore
   }
 
   @Override public byte[][] getWritableMeasureDataArray(CarbonWriteDataHolder[] dataHolder) {
+    byte[][] returnValue = new byte[values.length][];
+    MeasurePageEncoding[] pageEncoding = compressionModel.getPageEncoding();
     for (int i = 0; i < compressionModel.getUnCompressValues().length; i++) {
       values[i] = compressionModel.getUnCompressValues()[i].getNew();
       if (type[i] != CarbonCommonConstants.BYTE_VALUE_MEASURE
           && type[i] != CarbonCommonConstants.BIG_DECIMAL_MEASURE) {
+        if (null != pageEncoding) {
+          byte[] encodedPage = getEncodedPage(i, dataHolder[i]);
+          if (null != encodedPage) {
+            pageEncoding[i] = MeasurePageCodec.getEncoding(encodedPage);
+            returnValue[i] = CompressorFactory.getByteCompressor(
+                compressionModel.getCompressionCodec()[i]).compress(encodedPage);
+            continue;
+          }
+        }
         if (type[i] == CarbonCommonConstants.BIG_INT_MEASURE) {
           values[i].setValue(ValueCompressionUtil
               .getCompressedValues(compressionModel.getCompType()[i],
@@ -78,15 +92,31 @@ public abstract class AbstractHeavyCompressedDoubleArrayDataStore
       } else {
         values[i].setValue(dataHolder[i].getWritableByteArrayValues());
       }
-      values[i] = values[i].compress();
-    }
-    byte[][] returnValue = new byte[values.length][];
-    for (int i = 0; i < values.length; i++) {
+      values[i] = values[i].compress(compressionModel.getCompressionCodec()[i]);
       returnValue[i] = values[i].getBackArrayData();
     }
     return returnValue;
   }
 
+  /**
+   * Below method will be used to encode the page of the measure with the
+   * cheapest page encoding
+   *
+   * @param index      measure index
+   * @param dataHolder data holder of the measure
+   * @return encoded page, null if value compression of the measure is cheaper
+   */
+  private byte[] getEncodedPage(int index, CarbonWriteDataHolder dataHolder) {
+    int valueSize = ValueCompressionUtil.getSize(compressionModel.getChangedDataType()[index]);
+    if (type[index] == CarbonCommonConstants.BIG_INT_MEASURE) {
+      long[] longValues = dataHolder.getWritableLongValues();
+      return MeasurePageCodec.encode(longValues, longValues.length * valueSize);
+    }
+    double[] doubleValues = dataHolder.getWritableDoubleValues();
+    return MeasurePageCodec.encode(doubleValues, compressionModel.getDecimal()[index],
+        doubleValues.length * valueSize);
+  }
+
   @Override public short getLength() {
     return values != null ? (short) values.length : 0;
   }
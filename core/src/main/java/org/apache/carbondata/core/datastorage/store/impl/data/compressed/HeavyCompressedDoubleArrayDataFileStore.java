@@ -24,6 +24,7 @@ import org.apache.carbondata.core.datastorage.store.MeasureDataWrapper;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.datastorage.store.impl.CompressedDataMeasureDataWrapper;
 
 public class HeavyCompressedDoubleArrayDataFileStore
@@ -75,9 +76,10 @@ public class HeavyCompressedDoubleArrayDataFileStore
         ValueCompressonHolder.UnCompressValue copy = values[cols[i]].getNew();
         copy.setValue(fileHolder
             .readByteArray(fileName, measuresOffsetsArray[cols[i]], measuresLengthArray[cols[i]]));
-        vals[cols[i]] = copy.uncompress(compressionModel.getChangedDataType()[cols[i]])
+        vals[cols[i]] = copy.uncompress(compressionModel.getChangedDataType()[cols[i]],
+            compressionModel.getCompressionCodec()[cols[i]], new ColumnPageBuffer())
             .getValues(compressionModel.getDecimal()[cols[i]],
-                compressionModel.getMaxValue()[cols[i]]);
+                compressionModel.getMaxValue()[cols[i]], new ColumnPageBuffer());
         copy = null;
       }
     } else {
@@ -85,8 +87,10 @@ public class HeavyCompressedDoubleArrayDataFileStore
         ValueCompressonHolder.UnCompressValue copy = values[j].getNew();
         copy.setValue(
             fileHolder.readByteArray(fileName, measuresOffsetsArray[j], measuresLengthArray[j]));
-        vals[j] = copy.uncompress(compressionModel.getChangedDataType()[j])
-            .getValues(compressionModel.getDecimal()[j], compressionModel.getMaxValue()[j]);
+        vals[j] = copy.uncompress(compressionModel.getChangedDataType()[j],
+            compressionModel.getCompressionCodec()[j], new ColumnPageBuffer())
+            .getValues(compressionModel.getDecimal()[j],
+                compressionModel.getMaxValue()[j], new ColumnPageBuffer());
         copy = null;
       }
     }
@@ -102,8 +106,10 @@ public class HeavyCompressedDoubleArrayDataFileStore
     ValueCompressonHolder.UnCompressValue copy = values[cols].getNew();
     copy.setValue(
         fileHolder.readByteArray(fileName, measuresOffsetsArray[cols], measuresLengthArray[cols]));
-    vals[cols] = copy.uncompress(compressionModel.getChangedDataType()[cols])
-        .getValues(compressionModel.getDecimal()[cols], compressionModel.getMaxValue()[cols]);
+    vals[cols] = copy.uncompress(compressionModel.getChangedDataType()[cols],
+        compressionModel.getCompressionCodec()[cols], new ColumnPageBuffer())
+        .getValues(compressionModel.getDecimal()[cols],
+            compressionModel.getMaxValue()[cols], new ColumnPageBuffer());
     return new CompressedDataMeasureDataWrapper(vals);
   }
 
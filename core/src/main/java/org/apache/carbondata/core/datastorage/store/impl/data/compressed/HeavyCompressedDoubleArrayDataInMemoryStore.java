@@ -23,6 +23,7 @@ import org.apache.carbondata.core.datastorage.store.FileHolder;
 import org.apache.carbondata.core.datastorage.store.MeasureDataWrapper;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.datastorage.store.impl.CompressedDataMeasureDataWrapper;
 
 public class HeavyCompressedDoubleArrayDataInMemoryStore
@@ -50,15 +51,18 @@ public class HeavyCompressedDoubleArrayDataInMemoryStore
     CarbonReadDataHolder[] vals = new CarbonReadDataHolder[values.length];
     if (cols != null) {
       for (int i = 0; i < cols.length; i++) {
-        vals[cols[i]] = values[cols[i]].uncompress(compressionModel.getChangedDataType()[cols[i]])
+        vals[cols[i]] = values[cols[i]].uncompress(compressionModel.getChangedDataType()[cols[i]],
+            compressionModel.getCompressionCodec()[cols[i]], new ColumnPageBuffer())
             .getValues(compressionModel.getDecimal()[cols[i]],
-                compressionModel.getMaxValue()[cols[i]]);
+                compressionModel.getMaxValue()[cols[i]], new ColumnPageBuffer());
       }
     } else {
       for (int i = 0; i < vals.length; i++) {
 
-        vals[i] = values[i].uncompress(compressionModel.getChangedDataType()[i])
-            .getValues(compressionModel.getDecimal()[i], compressionModel.getMaxValue()[i]);
+        vals[i] = values[i].uncompress(compressionModel.getChangedDataType()[i],
+            compressionModel.getCompressionCodec()[i], new ColumnPageBuffer())
+            .getValues(compressionModel.getDecimal()[i],
+                compressionModel.getMaxValue()[i], new ColumnPageBuffer());
       }
     }
     return new CompressedDataMeasureDataWrapper(vals);
@@ -69,8 +73,10 @@ public class HeavyCompressedDoubleArrayDataInMemoryStore
       return null;
     }
     CarbonReadDataHolder[] vals = new CarbonReadDataHolder[values.length];
-    vals[cols] = values[cols].uncompress(compressionModel.getChangedDataType()[cols])
-        .getValues(compressionModel.getDecimal()[cols], compressionModel.getMaxValue()[cols]);
+    vals[cols] = values[cols].uncompress(compressionModel.getChangedDataType()[cols],
+        compressionModel.getCompressionCodec()[cols], new ColumnPageBuffer())
+        .getValues(compressionModel.getDecimal()[cols],
+            compressionModel.getMaxValue()[cols], new ColumnPageBuffer());
     return new CompressedDataMeasureDataWrapper(vals);
   }
 }
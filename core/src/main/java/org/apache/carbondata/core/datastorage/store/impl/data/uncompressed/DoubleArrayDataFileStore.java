@@ -24,6 +24,7 @@ import org.apache.carbondata.core.datastorage.store.MeasureDataWrapper;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder.UnCompressValue;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.datastorage.store.impl.CompressedDataMeasureDataWrapper;
 
 public class DoubleArrayDataFileStore extends AbstractDoubleArrayDataStore {
@@ -54,7 +55,7 @@ public class DoubleArrayDataFileStore extends AbstractDoubleArrayDataStore {
         unComp[cols[i]].setValueInBytes(fileHolder
             .readByteArray(fileName, measuresOffsetsArray[cols[i]], measuresLengthArray[cols[i]]));
         vals[cols[i]] = unComp[cols[i]].getValues(compressionModel.getDecimal()[cols[i]],
-            compressionModel.getMaxValue()[cols[i]]);
+            compressionModel.getMaxValue()[cols[i]], new ColumnPageBuffer());
       }
     } else {
       for (int i = 0; i < unComp.length; i++) {
@@ -63,7 +64,8 @@ public class DoubleArrayDataFileStore extends AbstractDoubleArrayDataStore {
         unComp[i].setValueInBytes(
             fileHolder.readByteArray(fileName, measuresOffsetsArray[i], measuresLengthArray[i]));
         vals[i] = unComp[i]
-            .getValues(compressionModel.getDecimal()[i], compressionModel.getMaxValue()[i]);
+            .getValues(compressionModel.getDecimal()[i],
+                compressionModel.getMaxValue()[i], new ColumnPageBuffer());
       }
     }
     return new CompressedDataMeasureDataWrapper(vals);
@@ -80,7 +82,8 @@ public class DoubleArrayDataFileStore extends AbstractDoubleArrayDataStore {
     unComp[cols].setValueInBytes(
         fileHolder.readByteArray(fileName, measuresOffsetsArray[cols], measuresLengthArray[cols]));
     vals[cols] = unComp[cols]
-        .getValues(compressionModel.getDecimal()[cols], compressionModel.getMaxValue()[cols]);
+        .getValues(compressionModel.getDecimal()[cols],
+            compressionModel.getMaxValue()[cols], new ColumnPageBuffer());
     return new CompressedDataMeasureDataWrapper(vals);
   }
 }
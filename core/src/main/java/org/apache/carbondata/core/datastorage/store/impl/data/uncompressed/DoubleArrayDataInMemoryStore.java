@@ -24,6 +24,7 @@ import org.apache.carbondata.core.datastorage.store.MeasureDataWrapper;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder.UnCompressValue;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
 import org.apache.carbondata.core.datastorage.store.impl.CompressedDataMeasureDataWrapper;
 
 /**
@@ -136,12 +137,13 @@ public class DoubleArrayDataInMemoryStore extends AbstractDoubleArrayDataStore {
     if (null == cols) {
       for (int i = 0; i < vals.length; i++) {
         vals[i] = values[i]
-            .getValues(compressionModel.getDecimal()[i], compressionModel.getMaxValue()[i]);
+            .getValues(compressionModel.getDecimal()[i],
+                compressionModel.getMaxValue()[i], new ColumnPageBuffer());
       }
     } else {
       for (int i = 0; i < cols.length; i++) {
         vals[cols[i]] = values[cols[i]].getValues(compressionModel.getDecimal()[cols[i]],
-            compressionModel.getMaxValue()[cols[i]]);
+            compressionModel.getMaxValue()[cols[i]], new ColumnPageBuffer());
       }
     }
     // return new CompressedDataMeasureDataWrapper(values,
@@ -156,7 +158,8 @@ public class DoubleArrayDataInMemoryStore extends AbstractDoubleArrayDataStore {
     CarbonReadDataHolder[] vals = new CarbonReadDataHolder[values.length];
 
     vals[cols] = values[cols]
-        .getValues(compressionModel.getDecimal()[cols], compressionModel.getMaxValue()[cols]);
+        .getValues(compressionModel.getDecimal()[cols],
+            compressionModel.getMaxValue()[cols], new ColumnPageBuffer());
     return new CompressedDataMeasureDataWrapper(vals);
   }
 
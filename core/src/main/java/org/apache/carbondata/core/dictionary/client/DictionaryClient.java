@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.carbondata.core.dictionary.client;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.Charset;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.dictionary.server.DictionaryServer;
+import org.apache.carbondata.core.util.CarbonUtil;
+
+/**
+ * Client of dictionary server used in executor during single pass data load. One connection
+ * is shared by all the columns and threads of a task, so requests are sent one at a time.
+ * Values are sent in multiple requests if they are beyond the request limits of server.
+ */
+public class DictionaryClient implements Closeable {
+
+  private Socket socket;
+
+  private DataInputStream in;
+
+  private DataOutputStream out;
+
+  private Charset charset = Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET);
+
+  /**
+   * @param host  host of dictionary server
+   * @param port  port of dictionary server
+   * @param token token of the load given to dictionary server
+   * @throws IOException if connection to server fails
+   */
+  public DictionaryClient(String host, int port, String token) throws IOException {
+    int timeout = DictionaryServer
+        .getPositiveProperty(CarbonCommonConstants.CARBON_DICTIONARY_SERVER_TIMEOUT,
+            CarbonCommonConstants.CARBON_DICTIONARY_SERVER_TIMEOUT_DEFAULT);
+    socket = new Socket();
+    try {
+      socket.connect(new InetSocketAddress(host, port), timeout);
+      socket.setSoTimeout(timeout);
+      socket.setTcpNoDelay(true);
+      in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      byte[] tokenBytes = token.getBytes(charset);
+      out.writeInt(tokenBytes.length);
+      out.write(tokenBytes);
+      out.flush();
+    } catch (IOException e) {
+      socket.close();
+      throw e;
+    }
+  }
+
+  /**
+   * This method will get the surrogate keys of given values from dictionary server, keys
+   * are generated by server for the values which are not present in dictionary
+   *
+   * @param columnId unique id of column
+   * @param values   dictionary values
+   * @return surrogate keys in the order of values
+   * @throws IOException if request fails or server could not generate the keys
+   */
+  public synchronized int[] generateKeys(String columnId, String[] values) throws IOException {
+    int[] keys = new int[values.length];
+    byte[][] valueBytes = new byte[values.length][];
+    int start = 0;
+    int requestSize = 0;
+    for (int i = 0; i < values.length; i++) {
+      valueBytes[i] = values[i].getBytes(charset);
+      if (valueBytes[i].length > DictionaryServer.MAX_REQUEST_SIZE) {
+        throw new IOException("Dictionary value of " + valueBytes[i].length
+            + " bytes is beyond the dictionary server request size");
+      }
+      if (i - start == DictionaryServer.MAX_VALUES_PER_REQUEST
+          || requestSize + valueBytes[i].length > DictionaryServer.MAX_REQUEST_SIZE) {
+        generateKeys(columnId, valueBytes, start, i, keys);
+        start = i;
+        requestSize = 0;
+      }
+      requestSize += valueBytes[i].length;
+    }
+    if (start < values.length) {
+      generateKeys(columnId, valueBytes, start, values.length, keys);
+    }
+    return keys;
+  }
+
+  /**
+   * Below method will be used to send one request with the values from start till end
+   */
+  private void generateKeys(String columnId, byte[][] valueBytes, int start, int end, int[] keys)
+      throws IOException {
+    out.writeInt(DictionaryServer.GENERATE_KEYS);
+    out.writeUTF(columnId);
+    out.writeInt(end - start);
+    for (int i = start; i < end; i++) {
+      out.writeInt(valueBytes[i].length);
+      out.write(valueBytes[i]);
+    }
+    out.flush();
+    int numberOfKeys = in.readInt();
+    if (numberOfKeys == DictionaryServer.GENERATE_KEYS_FAILED) {
+      throw new IOException("Dictionary server failed to generate keys: " + in.readUTF());
+    }
+    if (numberOfKeys != end - start) {
+      throw new IOException("Dictionary server returned " + numberOfKeys + " keys for "
+          + (end - start) + " values");
+    }
+    for (int i = start; i < end; i++) {
+      keys[i] = in.readInt();
+    }
+  }
+
+  @Override public void close() throws IOException {
+    CarbonUtil.closeStreams(in, out);
+    socket.close();
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.carbondata.core.dictionary.generator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.carbondata.common.factory.CarbonCommonFactory;
+import org.apache.carbondata.core.cache.dictionary.Dictionary;
+import org.apache.carbondata.core.carbon.CarbonTableIdentifier;
+import org.apache.carbondata.core.carbon.ColumnIdentifier;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.service.DictionaryService;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.core.util.CarbonUtilException;
+import org.apache.carbondata.core.writer.CarbonDictionaryWriter;
+import org.apache.carbondata.core.writer.sortindex.CarbonDictionarySortIndexWriter;
+import org.apache.carbondata.core.writer.sortindex.CarbonDictionarySortInfo;
+import org.apache.carbondata.core.writer.sortindex.CarbonDictionarySortInfoPreparator;
+
+/**
+ * Generates the surrogate keys of new dictionary values of a column during data load and
+ * writes the new values to the dictionary file after the load. Keys are given in the
+ * order of the values in dictionary file, so new values are written in the order of
+ * their keys.
+ */
+public class ColumnDictionaryGenerator {
+
+  /**
+   * existing dictionary of the column, null if dictionary file does not exist
+   */
+  private Dictionary dictionary;
+
+  /**
+   * surrogate keys of the new dictionary values
+   */
+  private Map<String, Integer> newValueKeys = new HashMap<>();
+
+  /**
+   * new dictionary values in the order of surrogate keys
+   */
+  private List<String> newValues = new ArrayList<>();
+
+  /**
+   * surrogate key for next new value
+   */
+  private int nextKey;
+
+  /**
+   * @param dictionary existing dictionary of the column, null for a new dictionary
+   */
+  public ColumnDictionaryGenerator(Dictionary dictionary) {
+    this.dictionary = dictionary;
+    if (null == dictionary) {
+      // new dictionary file starts with the default member
+      newValueKeys.put(CarbonCommonConstants.MEMBER_DEFAULT_VAL,
+          CarbonCommonConstants.MEMBER_DEFAULT_VAL_SURROGATE_KEY);
+      newValues.add(CarbonCommonConstants.MEMBER_DEFAULT_VAL);
+      nextKey = CarbonCommonConstants.MEMBER_DEFAULT_VAL_SURROGATE_KEY + 1;
+    } else {
+      nextKey = dictionary.getDictionaryChunks().getSize() + 1;
+    }
+  }
+
+  /**
+   * This method will return the surrogate key of given value, key is generated if value
+   * is not present in dictionary
+   *
+   * @param value dictionary value
+   * @return surrogate key
+   */
+  public synchronized int generateKey(String value) {
+    Integer key = newValueKeys.get(value);
+    if (null == key) {
+      if (null != dictionary) {
+        int existingKey = dictionary.getSurrogateKey(value);
+        if (existingKey != CarbonCommonConstants.INVALID_SURROGATE_KEY) {
+          return existingKey;
+        }
+      }
+      key = nextKey++;
+      newValueKeys.put(value, key);
+      newValues.add(value);
+    }
+    return key;
+  }
+
+  /**
+   * @return number of new values generated
+   */
+  public synchronized int getNewValueCount() {
+    return newValues.size();
+  }
+
+  /**
+   * This method will write the new values to dictionary file, rewrite the sort index file
+   * and then update the dictionary metadata
+   *
+   * @param tableIdentifier  table identifier
+   * @param columnIdentifier column identifier
+   * @param storePath        store path
+   * @throws IOException
+   * @throws CarbonUtilException
+   */
+  public synchronized void writeDictionaryData(CarbonTableIdentifier tableIdentifier,
+      ColumnIdentifier columnIdentifier, String storePath)
+      throws IOException, CarbonUtilException {
+    if (newValues.isEmpty()) {
+      return;
+    }
+    DictionaryService dictService = CarbonCommonFactory.getDictionaryService();
+    CarbonDictionaryWriter writer =
+        dictService.getDictionaryWriter(tableIdentifier, columnIdentifier, storePath);
+    try {
+      for (String value : newValues) {
+        writer.write(value);
+      }
+    } finally {
+      writer.close();
+    }
+    CarbonDictionarySortInfo dictionarySortInfo = new CarbonDictionarySortInfoPreparator()
+        .getDictionarySortInfo(newValues, dictionary, columnIdentifier.getDataType());
+    CarbonDictionarySortIndexWriter sortIndexWriter =
+        dictService.getDictionarySortIndexWriter(tableIdentifier, columnIdentifier, storePath);
+    try {
+      sortIndexWriter.writeSortIndex(dictionarySortInfo.getSortIndex());
+      sortIndexWriter.writeInvertedSortIndex(dictionarySortInfo.getSortIndexInverted());
+    } finally {
+      sortIndexWriter.close();
+    }
+    // dictionary metadata is updated at the end so that readers see the new values
+    // only after sort index is written
+    writer.commit();
+  }
+
+  /**
+   * This method will release the existing dictionary of column
+   */
+  public synchronized void clear() {
+    CarbonUtil.clearDictionaryCache(dictionary);
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.carbondata.core.dictionary.generator;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.carbondata.common.logging.LogService;
+import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.cache.Cache;
+import org.apache.carbondata.core.cache.CacheProvider;
+import org.apache.carbondata.core.cache.CacheType;
+import org.apache.carbondata.core.cache.dictionary.Dictionary;
+import org.apache.carbondata.core.cache.dictionary.DictionaryColumnUniqueIdentifier;
+import org.apache.carbondata.core.carbon.CarbonTableIdentifier;
+import org.apache.carbondata.core.carbon.metadata.encoder.Encoding;
+import org.apache.carbondata.core.carbon.metadata.schema.table.CarbonTable;
+import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonDimension;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.core.util.CarbonUtilException;
+
+/**
+ * Generates the dictionary keys of all the dictionary columns of a table during single pass
+ * data load. Generator of a column is created on the first request for the column.
+ */
+public class TableDictionaryGenerator {
+
+  private static final LogService LOGGER =
+      LogServiceFactory.getLogService(TableDictionaryGenerator.class.getName());
+
+  private CarbonTableIdentifier carbonTableIdentifier;
+
+  private String storePath;
+
+  /**
+   * dictionary dimensions of table with column id as key
+   */
+  private Map<String, CarbonDimension> dictionaryDimensions = new HashMap<>();
+
+  /**
+   * generators of the columns with column id as key
+   */
+  private Map<String, ColumnDictionaryGenerator> columnGenerators = new HashMap<>();
+
+  public TableDictionaryGenerator(CarbonTable carbonTable) {
+    this.carbonTableIdentifier = carbonTable.getCarbonTableIdentifier();
+    this.storePath = carbonTable.getStorePath();
+    List<CarbonDimension> dimensions =
+        carbonTable.getDimensionByTableName(carbonTable.getFactTableName());
+    for (CarbonDimension dimension : dimensions) {
+      if (dimension.hasEncoding(Encoding.DICTIONARY) && !dimension
+          .hasEncoding(Encoding.DIRECT_DICTIONARY) && !dimension.isComplex()) {
+        dictionaryDimensions.put(dimension.getColumnId(), dimension);
+      }
+    }
+  }
+
+  /**
+   * This method will return the surrogate keys of given values of a column, keys are
+   * generated for the values which are not present in dictionary
+   *
+   * @param columnId unique id of column
+   * @param values   dictionary values
+   * @return surrogate keys in the order of values
+   * @throws CarbonUtilException if existing dictionary of column can not be loaded
+   */
+  public int[] generateKeys(String columnId, String[] values) throws CarbonUtilException {
+    ColumnDictionaryGenerator generator = getColumnGenerator(columnId);
+    int[] keys = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      keys[i] = generator.generateKey(values[i]);
+    }
+    return keys;
+  }
+
+  private synchronized ColumnDictionaryGenerator getColumnGenerator(String columnId)
+      throws CarbonUtilException {
+    ColumnDictionaryGenerator generator = columnGenerators.get(columnId);
+    if (null == generator) {
+      CarbonDimension dimension = dictionaryDimensions.get(columnId);
+      if (null == dimension) {
+        throw new CarbonUtilException("No dictionary column with id " + columnId + " in table "
+            + carbonTableIdentifier.getTableUniqueName());
+      }
+      Dictionary dictionary = null;
+      if (CarbonUtil.isDictionaryFileExists(storePath, carbonTableIdentifier, columnId)) {
+        Cache<DictionaryColumnUniqueIdentifier, Dictionary> cache =
+            CacheProvider.getInstance().createCache(CacheType.REVERSE_DICTIONARY, storePath);
+        dictionary = cache.get(
+            new DictionaryColumnUniqueIdentifier(carbonTableIdentifier,
+                dimension.getColumnIdentifier(), dimension.getDataType()));
+      }
+      generator = new ColumnDictionaryGenerator(dictionary);
+      columnGenerators.put(columnId, generator);
+    }
+    return generator;
+  }
+
+  /**
+   * This method will write the new values generated for each column to the dictionary files
+   *
+   * @throws IOException
+   * @throws CarbonUtilException
+   */
+  public synchronized void writeDictionaryData() throws IOException, CarbonUtilException {
+    for (Map.Entry<String, ColumnDictionaryGenerator> entry : columnGenerators.entrySet()) {
+      CarbonDimension dimension = dictionaryDimensions.get(entry.getKey());
+      ColumnDictionaryGenerator generator = entry.getValue();
+      generator.writeDictionaryData(carbonTableIdentifier, dimension.getColumnIdentifier(),
+          storePath);
+      LOGGER.info("New dictionary values count of column " + dimension.getColName() + " : "
+          + generator.getNewValueCount());
+    }
+  }
+
+  /**
+   * This method will release the existing dictionaries loaded for generating keys
+   */
+  public synchronized void clear() {
+    for (ColumnDictionaryGenerator generator : columnGenerators.values()) {
+      generator.clear();
+    }
+    columnGenerators.clear();
+  }
+}
@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.carbondata.core.dictionary.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.carbondata.common.logging.LogService;
+import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.dictionary.generator.TableDictionaryGenerator;
+import org.apache.carbondata.core.util.CarbonProperties;
+import org.apache.carbondata.core.util.CarbonUtil;
+
+/**
+ * Dictionary server started in driver for single pass data load. Executors connect to it to
+ * get the surrogate keys of dictionary values which are not present in the dictionary of
+ * previous loads.
+ * Client first sends the token of the load, connection is closed if it does not match.
+ * Each request contains the request type, column id, number of values and each value as
+ * length and UTF-8 bytes. Response contains the number of keys followed by the keys, or -1
+ * followed by the error message if keys could not be generated. Requests beyond the
+ * size limits are failed and the connection is closed.
+ */
+public class DictionaryServer {
+
+  private static final LogService LOGGER =
+      LogServiceFactory.getLogService(DictionaryServer.class.getName());
+
+  /**
+   * request to generate the surrogate keys of dictionary values
+   */
+  public static final int GENERATE_KEYS = 1;
+
+  /**
+   * response value of number of keys in case keys could not be generated
+   */
+  public static final int GENERATE_KEYS_FAILED = -1;
+
+  /**
+   * maximum number of values in one request
+   */
+  public static final int MAX_VALUES_PER_REQUEST = 100000;
+
+  /**
+   * maximum size in bytes of all the values in one request
+   */
+  public static final int MAX_REQUEST_SIZE = 64 * 1024 * 1024;
+
+  private TableDictionaryGenerator dictionaryGenerator;
+
+  /**
+   * token of the load, only the clients of the load know it
+   */
+  private byte[] token;
+
+  private ServerSocket serverSocket;
+
+  private ThreadPoolExecutor executorService;
+
+  /**
+   * timeout in milliseconds for the client to send the token
+   */
+  private int timeout;
+
+  /**
+   * connections from the clients, closed when server is shutdown
+   */
+  private Set<Socket> clientSockets =
+      Collections.newSetFromMap(new ConcurrentHashMap<Socket, Boolean>());
+
+  /**
+   * @param dictionaryGenerator generator of the surrogate keys of the load
+   * @param token               token of the load which clients have to send
+   */
+  public DictionaryServer(TableDictionaryGenerator dictionaryGenerator, String token) {
+    this.dictionaryGenerator = dictionaryGenerator;
+    this.token = token.getBytes(Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET));
+    this.timeout = getPositiveProperty(CarbonCommonConstants.CARBON_DICTIONARY_SERVER_TIMEOUT,
+        CarbonCommonConstants.CARBON_DICTIONARY_SERVER_TIMEOUT_DEFAULT);
+  }
+
+  /**
+   * @return positive int value of the property, default value if it is not valid
+   */
+  public static int getPositiveProperty(String property, String defaultValue) {
+    String value = CarbonProperties.getInstance().getProperty(property, defaultValue);
+    try {
+      int parsedValue = Integer.parseInt(value);
+      if (parsedValue > 0) {
+        return parsedValue;
+      }
+    } catch (NumberFormatException e) {
+      // use default value
+    }
+    LOGGER.info("The value \"" + value + "\" configured for " + property
+        + " is invalid. Using the default value \"" + defaultValue + "\"");
+    return Integer.parseInt(defaultValue);
+  }
+
+  /**
+   * This method will start the server on given host and port, any free port is used if
+   * port is 0. Server listens only on the address of the host, which is the address
+   * executors use to connect to driver
+   *
+   * @param host host name or address to bind to
+   * @param port port of server
+   * @throws IOException if server socket can not be created
+   */
+  public void start(String host, int port) throws IOException {
+    serverSocket = new ServerSocket(port, 0, InetAddress.getByName(host));
+    int maxConnections =
+        getPositiveProperty(CarbonCommonConstants.CARBON_DICTIONARY_SERVER_MAX_CONNECTIONS,
+            CarbonCommonConstants.CARBON_DICTIONARY_SERVER_MAX_CONNECTIONS_DEFAULT);
+    // one thread accepts the connections and one thread handles each connection
+    executorService = new ThreadPoolExecutor(0, maxConnections + 1, 60L, TimeUnit.SECONDS,
+        new SynchronousQueue<Runnable>());
+    executorService.submit(new Runnable() {
+      @Override public void run() {
+        acceptConnections();
+      }
+    });
+    LOGGER.info("Dictionary server started on " + host + ":" + serverSocket.getLocalPort());
+  }
+
+  /**
+   * @return port on which server is listening
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  private void acceptConnections() {
+    while (!serverSocket.isClosed()) {
+      try {
+        final Socket socket = serverSocket.accept();
+        clientSockets.add(socket);
+        try {
+          executorService.submit(new Runnable() {
+            @Override public void run() {
+              handleConnection(socket);
+            }
+          });
+        } catch (RejectedExecutionException e) {
+          LOGGER.error("Dictionary server reached the maximum connections, closing connection from "
+              + socket.getRemoteSocketAddress());
+          clientSockets.remove(socket);
+          closeSocket(socket);
+        }
+      } catch (IOException e) {
+        if (!serverSocket.isClosed()) {
+          LOGGER.error(e, "Problem while accepting dictionary client connection");
+        }
+      }
+    }
+  }
+
+  private void handleConnection(Socket socket) {
+    Charset charset = Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET);
+    DataInputStream in = null;
+    DataOutputStream out = null;
+    try {
+      in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      if (!isValidToken(socket, in)) {
+        LOGGER.error("Invalid token from dictionary client " + socket.getRemoteSocketAddress());
+        writeFailure(out, "Invalid dictionary server token");
+        return;
+      }
+      while (true) {
+        int requestType;
+        try {
+          requestType = in.readInt();
+        } catch (EOFException e) {
+          // client closed the connection
+          break;
+        }
+        if (requestType != GENERATE_KEYS) {
+          throw new IOException("Invalid dictionary request type " + requestType);
+        }
+        String columnId = in.readUTF();
+        int numberOfValues = in.readInt();
+        if (numberOfValues < 0 || numberOfValues > MAX_VALUES_PER_REQUEST) {
+          LOGGER.error("Invalid number of dictionary values " + numberOfValues);
+          writeFailure(out, "Invalid number of values " + numberOfValues);
+          break;
+        }
+        String[] values = new String[numberOfValues];
+        int requestSize = 0;
+        for (int i = 0; i < values.length; i++) {
+          int length = in.readInt();
+          if (length < 0 || length > MAX_REQUEST_SIZE - requestSize) {
+            LOGGER.error("Invalid dictionary value length " + length);
+            writeFailure(out, "Invalid value length " + length);
+            return;
+          }
+          requestSize += length;
+          byte[] value = new byte[length];
+          in.readFully(value);
+          values[i] = new String(value, charset);
+        }
+        int[] keys;
+        try {
+          keys = dictionaryGenerator.generateKeys(columnId, values);
+        } catch (Exception e) {
+          LOGGER.error(e, "Problem while generating dictionary keys");
+          writeFailure(out, String.valueOf(e.getMessage()));
+          continue;
+        }
+        out.writeInt(keys.length);
+        for (int key : keys) {
+          out.writeInt(key);
+        }
+        out.flush();
+      }
+    } catch (IOException e) {
+      if (!serverSocket.isClosed()) {
+        LOGGER.error(e, "Problem while handling dictionary client request");
+      }
+    } finally {
+      CarbonUtil.closeStreams(in, out);
+      clientSockets.remove(socket);
+      closeSocket(socket);
+    }
+  }
+
+  /**
+   * Below method will be used to check the token sent by client, client has to send it
+   * within the timeout
+   */
+  private boolean isValidToken(Socket socket, DataInputStream in) throws IOException {
+    socket.setSoTimeout(timeout);
+    byte[] clientToken;
+    try {
+      int length = in.readInt();
+      if (length != token.length) {
+        return false;
+      }
+      clientToken = new byte[length];
+      in.readFully(clientToken);
+    } catch (SocketTimeoutException e) {
+      return false;
+    }
+    // connection stays open till the load completes, so there is no timeout after token
+    socket.setSoTimeout(0);
+    return MessageDigest.isEqual(token, clientToken);
+  }
+
+  private void writeFailure(DataOutputStream out, String message) throws IOException {
+    out.writeInt(GENERATE_KEYS_FAILED);
+    out.writeUTF(message);
+    out.flush();
+  }
+
+  /**
+   * This method will stop the server and close all the client connections
+   */
+  public void shutdown() {
+    try {
+      serverSocket.close();
+    } catch (IOException e) {
+      LOGGER.error(e, "Problem while closing dictionary server");
+    }
+    for (Socket socket : clientSockets) {
+      closeSocket(socket);
+    }
+    executorService.shutdownNow();
+    LOGGER.info("Dictionary server stopped");
+  }
+
+  private void closeSocket(Socket socket) {
+    try {
+      socket.close();
+    } catch (IOException e) {
+      LOGGER.error(e, "Problem while closing dictionary client connection");
+    }
+  }
+}
@@ -140,14 +140,26 @@ public class NumberCompressor {
   }
 
   public int[] unCompress(byte[] key) {
-    int ls = key.length;
+    return unCompress(key, 0, key.length);
+  }
+
+  /**
+   * Below method will be used to uncompress the keys from a part of the array
+   *
+   * @param key    array holding the compressed keys
+   * @param offset offset of the compressed keys in array
+   * @param length length of the compressed keys
+   * @return keys
+   */
+  public int[] unCompress(byte[] key, int offset, int length) {
+    int ls = length;
     int arrayLength = (ls * BYTE_LENGTH) / bitsLength;
     long[] words = new long[getWordsSizeFromBytesSize(ls)];
-    unCompressVal(key, ls, words);
+    unCompressVal(key, offset, ls, words);
     return getArray(words, arrayLength);
   }
 
-  private void unCompressVal(byte[] key, int ls, long[] words) {
+  private void unCompressVal(byte[] key, int offset, int ls, long[] words) {
     for (int i = 0; i < words.length; i++) {
       long l = 0;
       ls -= BYTE_LENGTH;
@@ -160,7 +172,7 @@ public class NumberCompressor {
       }
       for (int j = ls; j < m; j++) {
         l <<= BYTE_LENGTH;
-        l ^= key[j] & 0xFF;
+        l ^= key[offset + j] & 0xFF;
       }
       words[i] = l;
     }
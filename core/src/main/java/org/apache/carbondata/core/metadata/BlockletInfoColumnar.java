@@ -20,7 +20,10 @@
 package org.apache.carbondata.core.metadata;
 
 import java.util.BitSet;
+import java.util.List;
 
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 import org.apache.carbondata.core.keygenerator.mdkey.NumberCompressor;
 
@@ -100,6 +103,11 @@ public class BlockletInfoColumnar {
 
   private ValueCompressionModel compressionModel;
 
+  /**
+   * codec used to compress each key block
+   */
+  private CompressionCodec[] keyBlockCompressionCodec;
+
   /**
    * column min array
    */
@@ -121,6 +129,11 @@ public class BlockletInfoColumnar {
    */
   private BitSet[] measureNullValueIndex;
 
+  /**
+   * bloom filter of the columns configured by the user, null if not present
+   */
+  private List<BlockletBloomFilter> bloomFilters;
+
   /**
    * getFileName().
    *
@@ -402,4 +415,32 @@ public class BlockletInfoColumnar {
   public void setMeasureNullValueIndex(BitSet[] measureNullValueIndex) {
     this.measureNullValueIndex = measureNullValueIndex;
   }
+
+  /**
+   * @return the keyBlockCompressionCodec
+   */
+  public CompressionCodec[] getKeyBlockCompressionCodec() {
+    return keyBlockCompressionCodec;
+  }
+
+  /**
+   * @param keyBlockCompressionCodec the keyBlockCompressionCodec to set
+   */
+  public void setKeyBlockCompressionCodec(CompressionCodec[] keyBlockCompressionCodec) {
+    this.keyBlockCompressionCodec = keyBlockCompressionCodec;
+  }
+
+  /**
+   * @return the bloomFilters
+   */
+  public List<BlockletBloomFilter> getBloomFilters() {
+    return bloomFilters;
+  }
+
+  /**
+   * @param bloomFilters the bloomFilters to set
+   */
+  public void setBloomFilters(List<BlockletBloomFilter> bloomFilters) {
+    this.bloomFilters = bloomFilters;
+  }
 }
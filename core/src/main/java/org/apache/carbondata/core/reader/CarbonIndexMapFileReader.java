@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.reader;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.apache.carbondata.core.carbon.datastore.IndexKey;
+import org.apache.carbondata.core.datastorage.store.impl.FileFactory;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.core.writer.CarbonIndexMapFileWriter;
+
+/**
+ * Reader class which will be used to read the index map file written by
+ * {@link CarbonIndexMapFileWriter}. Local files are memory mapped and other
+ * file systems are read in to heap with one read. Values of a block are
+ * read from the buffer only when they are requested
+ */
+public class CarbonIndexMapFileReader {
+
+  /**
+   * buffer having complete content of the file
+   */
+  private ByteBuffer buffer;
+
+  /**
+   * number of blocks present in the file
+   */
+  private int numberOfBlocks;
+
+  /**
+   * number of columns for which min max is present
+   */
+  private int numberOfColumns;
+
+  /**
+   * @param buffer buffer having complete content of the file
+   * @throws IOException if buffer is not a valid index map file
+   */
+  public CarbonIndexMapFileReader(ByteBuffer buffer) throws IOException {
+    this.buffer = buffer;
+    if (buffer.capacity() < CarbonIndexMapFileWriter.HEADER_SIZE
+        || buffer.getInt(0) != CarbonIndexMapFileWriter.MAGIC_NUMBER) {
+      throw new IOException("Not a valid index map file");
+    }
+    if (buffer.getInt(4) != CarbonIndexMapFileWriter.VERSION) {
+      throw new IOException("Unsupported index map file version " + buffer.getInt(4));
+    }
+    this.numberOfBlocks = buffer.getInt(8);
+    this.numberOfColumns = buffer.getInt(12);
+  }
+
+  /**
+   * Below method will be used to open the index map file
+   *
+   * @param filePath path of the index map file
+   * @return reader
+   * @throws IOException in case of any failure while reading
+   */
+  public static CarbonIndexMapFileReader open(String filePath) throws IOException {
+    FileFactory.FileType fileType = FileFactory.getFileType(filePath);
+    if (fileType == FileFactory.FileType.LOCAL) {
+      RandomAccessFile file = new RandomAccessFile(FileFactory.getUpdatedFilePath(filePath), "r");
+      try {
+        // mapping remains valid after the channel is closed
+        FileChannel channel = file.getChannel();
+        return new CarbonIndexMapFileReader(
+            channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+      } finally {
+        file.close();
+      }
+    }
+    byte[] content = new byte[(int) FileFactory.getCarbonFile(filePath, fileType).getSize()];
+    DataInputStream inputStream = null;
+    try {
+      inputStream = FileFactory.getDataInputStream(filePath, fileType);
+      inputStream.readFully(content);
+    } finally {
+      CarbonUtil.closeStreams(inputStream);
+    }
+    return new CarbonIndexMapFileReader(ByteBuffer.wrap(content));
+  }
+
+  /**
+   * @return number of blocks present in the file
+   */
+  public int getNumberOfBlocks() {
+    return numberOfBlocks;
+  }
+
+  /**
+   * @return number of columns for which min max is present
+   */
+  public int getNumberOfColumns() {
+    return numberOfColumns;
+  }
+
+  /**
+   * @param blockIndex index of the block
+   * @return number of rows present in the block
+   */
+  public long getNumberOfRows(int blockIndex) {
+    return buffer.getLong(getRecordOffset(blockIndex));
+  }
+
+  /**
+   * Below method will be used to get the start key of the block as node entry
+   *
+   * @param blockIndex index of the block
+   * @return start key
+   */
+  public IndexKey getStartKey(int blockIndex) {
+    // skip number of rows and start key length, start key has dictionary
+    // key size and no dictionary key size followed by the keys
+    int offset = getRecordOffset(blockIndex) + 8 + 4;
+    int dictionaryKeySize = buffer.getInt(offset);
+    int noDictionaryKeySize = buffer.getInt(offset + 4);
+    offset += 8;
+    byte[] dictionaryKey = getBytes(offset, dictionaryKeySize);
+    byte[] noDictionaryKey = getBytes(offset + dictionaryKeySize, noDictionaryKeySize);
+    return new IndexKey(dictionaryKey, noDictionaryKey);
+  }
+
+  /**
+   * @param blockIndex index of the block
+   * @return min value of each column of the block
+   */
+  public byte[][] getMinValues(int blockIndex) {
+    return getMinMaxValues(blockIndex, 0);
+  }
+
+  /**
+   * @param blockIndex index of the block
+   * @return max value of each column of the block
+   */
+  public byte[][] getMaxValues(int blockIndex) {
+    return getMinMaxValues(blockIndex, 1);
+  }
+
+  private byte[][] getMinMaxValues(int blockIndex, int valueIndex) {
+    int offset = getRecordOffset(blockIndex) + 8;
+    // skip start key and end key
+    offset += 4 + buffer.getInt(offset);
+    offset += 4 + buffer.getInt(offset);
+    byte[][] values = new byte[numberOfColumns][];
+    for (int i = 0; i < numberOfColumns; i++) {
+      for (int j = 0; j < 2; j++) {
+        int length = buffer.getInt(offset);
+        offset += 4;
+        if (j == valueIndex) {
+          values[i] = getBytes(offset, length);
+        }
+        offset += length;
+      }
+    }
+    return values;
+  }
+
+  private int getRecordOffset(int blockIndex) {
+    // index map file is mapped in a single buffer, so offset fits in int
+    return (int) buffer.getLong(CarbonIndexMapFileWriter.HEADER_SIZE + 8 * blockIndex);
+  }
+
+  private byte[] getBytes(int offset, int length) {
+    byte[] value = new byte[length];
+    ByteBuffer duplicate = buffer.duplicate();
+    duplicate.position(offset);
+    duplicate.get(value);
+    return value;
+  }
+}
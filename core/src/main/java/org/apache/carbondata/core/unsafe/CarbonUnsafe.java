@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.unsafe;
+
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.util.CarbonProperties;
+
+/**
+ * Holds the unsafe instance used for allocating and accessing the off heap
+ * memory of the column chunks
+ */
+public final class CarbonUnsafe {
+
+  public static final sun.misc.Unsafe UNSAFE;
+
+  /**
+   * offset to the first element of the arrays
+   */
+  public static final int BYTE_ARRAY_OFFSET;
+
+  public static final int LONG_ARRAY_OFFSET;
+
+  public static final int DOUBLE_ARRAY_OFFSET;
+
+  static {
+    UNSAFE = (sun.misc.Unsafe) AccessController.doPrivileged(new PrivilegedAction<Object>() {
+      @Override public Object run() {
+        try {
+          Field f = sun.misc.Unsafe.class.getDeclaredField("theUnsafe");
+          f.setAccessible(true);
+          return f.get(null);
+        } catch (NoSuchFieldException e) {
+          throw new Error(e);
+        } catch (IllegalAccessException e) {
+          throw new Error(e);
+        }
+      }
+    });
+    BYTE_ARRAY_OFFSET = UNSAFE.arrayBaseOffset(byte[].class);
+    LONG_ARRAY_OFFSET = UNSAFE.arrayBaseOffset(long[].class);
+    DOUBLE_ARRAY_OFFSET = UNSAFE.arrayBaseOffset(double[].class);
+  }
+
+  private CarbonUnsafe() {
+  }
+
+  /**
+   * Below method will be used to check whether loaded column chunks has to be
+   * kept in off heap memory
+   *
+   * @return true if off heap chunk store is enabled
+   */
+  public static boolean isOffHeapChunkStoreEnabled() {
+    return Boolean.parseBoolean(CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.ENABLE_OFFHEAP_CHUNK_STORE,
+            CarbonCommonConstants.ENABLE_OFFHEAP_CHUNK_STORE_DEFAULT));
+  }
+}
@@ -31,19 +31,21 @@ import java.util.Set;
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.core.carbon.datastore.block.SegmentProperties;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
 import org.apache.carbondata.core.carbon.metadata.index.BlockIndexInfo;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastorage.store.compression.MeasurePageEncoding;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 import org.apache.carbondata.core.metadata.BlockletInfoColumnar;
 import org.apache.carbondata.core.metadata.ValueEncoderMeta;
 import org.apache.carbondata.format.BlockIndex;
 import org.apache.carbondata.format.BlockletBTreeIndex;
+import org.apache.carbondata.format.BlockletBloomFilter;
 import org.apache.carbondata.format.BlockletIndex;
 import org.apache.carbondata.format.BlockletInfo;
 import org.apache.carbondata.format.BlockletMinMaxIndex;
 import org.apache.carbondata.format.ChunkCompressionMeta;
 import org.apache.carbondata.format.ColumnSchema;
-import org.apache.carbondata.format.CompressionCodec;
 import org.apache.carbondata.format.DataChunk;
 import org.apache.carbondata.format.Encoding;
 import org.apache.carbondata.format.FileFooter;
@@ -139,6 +141,15 @@ public class CarbonMetadataUtil {
     BlockletIndex blockletIndex = new BlockletIndex();
     blockletIndex.setMin_max_index(blockletMinMaxIndex);
     blockletIndex.setB_tree_index(blockletBTreeIndex);
+    if (null != info.getBloomFilters()) {
+      for (org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter bloomFilter
+          : info.getBloomFilters()) {
+        blockletIndex.addToBloom_filters(
+            new BlockletBloomFilter(bloomFilter.getColumnIndex(),
+                bloomFilter.getNumberOfHashFunctions(),
+                ByteBuffer.wrap(bloomFilter.getBitSet())));
+      }
+    }
     return blockletIndex;
   }
 
@@ -156,9 +167,12 @@ public class CarbonMetadataUtil {
     boolean[] isSortedKeyColumn = blockletInfoColumnar.getIsSortedKeyColumn();
     boolean[] aggKeyBlock = blockletInfoColumnar.getAggKeyBlock();
     boolean[] colGrpblock = blockletInfoColumnar.getColGrpBlocks();
+    CompressionCodec[] keyBlockCompressionCodec =
+        blockletInfoColumnar.getKeyBlockCompressionCodec();
     for (int i = 0; i < blockletInfoColumnar.getKeyLengths().length; i++) {
       DataChunk dataChunk = new DataChunk();
-      dataChunk.setChunk_meta(getChunkCompressionMeta());
+      dataChunk.setChunk_meta(getChunkCompressionMeta(
+          null == keyBlockCompressionCodec ? null : keyBlockCompressionCodec[i]));
       List<Encoding> encodings = new ArrayList<Encoding>();
       if (containsEncoding(i, Encoding.DICTIONARY, columnSchenma, segmentProperties)) {
         encodings.add(Encoding.DICTIONARY);
@@ -193,9 +207,12 @@ public class CarbonMetadataUtil {
       colDataChunks.add(dataChunk);
     }
 
+    CompressionCodec[] measureCompressionCodec =
+        blockletInfoColumnar.getCompressionModel().getCompressionCodec();
     for (int i = 0; i < blockletInfoColumnar.getMeasureLength().length; i++) {
       DataChunk dataChunk = new DataChunk();
-      dataChunk.setChunk_meta(getChunkCompressionMeta());
+      dataChunk.setChunk_meta(getChunkCompressionMeta(
+          null == measureCompressionCodec ? null : measureCompressionCodec[i]));
       dataChunk.setRowMajor(false);
       //TODO : Once schema PR is merged and information needs to be passed here.
       dataChunk.setColumn_ids(new ArrayList<Integer>());
@@ -204,6 +221,13 @@ public class CarbonMetadataUtil {
       //TODO : Right now the encodings are happening at runtime. change as per this encoders.
       List<Encoding> encodings = new ArrayList<Encoding>();
       encodings.add(Encoding.DELTA);
+      // encoding applied on the page is recorded after the value compression,
+      // encoder meta is present only for the value compression
+      MeasurePageEncoding[] pageEncoding =
+          blockletInfoColumnar.getCompressionModel().getPageEncoding();
+      if (null != pageEncoding && null != pageEncoding[i]) {
+        encodings.add(fromWrapperToExternalEncoding(pageEncoding[i].getEncoding()));
+      }
       dataChunk.setEncoders(encodings);
       //TODO writing dummy presence meta need to set actual presence
       //meta
@@ -226,6 +250,29 @@ public class CarbonMetadataUtil {
     return blockletInfo;
   }
 
+  /**
+   * Below method will be used to convert the wrapper encoding of the measure
+   * page to thrift encoding
+   *
+   * @param encoding wrapper encoding
+   * @return thrift encoding
+   */
+  private static Encoding fromWrapperToExternalEncoding(
+      org.apache.carbondata.core.carbon.metadata.encoder.Encoding encoding) {
+    switch (encoding) {
+      case DELTA:
+        return Encoding.DELTA;
+      case RLE:
+        return Encoding.RLE;
+      case BIT_PACKED:
+        return Encoding.BIT_PACKED;
+      case DICTIONARY:
+        return Encoding.DICTIONARY;
+      default:
+        throw new IllegalArgumentException("Invalid measure page encoding: " + encoding);
+    }
+  }
+
   /**
    * @param blockIndex
    * @param encoding
@@ -270,16 +317,44 @@ public class CarbonMetadataUtil {
   }
 
   /**
-   * Right now it is set to default values. We may use this in future
+   * Below method will be used to get the compression meta of a chunk, sizes
+   * are set to default values. We may use this in future
+   *
+   * @param codec codec used to compress the chunk, snappy if null
+   * @return chunk compression meta
    */
-  private static ChunkCompressionMeta getChunkCompressionMeta() {
+  private static ChunkCompressionMeta getChunkCompressionMeta(CompressionCodec codec) {
     ChunkCompressionMeta chunkCompressionMeta = new ChunkCompressionMeta();
-    chunkCompressionMeta.setCompression_codec(CompressionCodec.SNAPPY);
+    chunkCompressionMeta.setCompression_codec(getThriftCompressionCodec(codec));
     chunkCompressionMeta.setTotal_compressed_size(0);
     chunkCompressionMeta.setTotal_uncompressed_size(0);
     return chunkCompressionMeta;
   }
 
+  /**
+   * Below method will be used to convert the wrapper compression codec to
+   * thrift compression codec
+   *
+   * @param codec wrapper codec
+   * @return thrift codec
+   */
+  private static org.apache.carbondata.format.CompressionCodec getThriftCompressionCodec(
+      CompressionCodec codec) {
+    if (null == codec) {
+      return org.apache.carbondata.format.CompressionCodec.SNAPPY;
+    }
+    switch (codec) {
+      case LZ4:
+        return org.apache.carbondata.format.CompressionCodec.LZ4;
+      case ZSTD:
+        return org.apache.carbondata.format.CompressionCodec.ZSTD;
+      case NONE:
+        return org.apache.carbondata.format.CompressionCodec.NONE;
+      default:
+        return org.apache.carbondata.format.CompressionCodec.SNAPPY;
+    }
+  }
+
   /**
    * It converts FileFooter thrift object to list of BlockletInfoColumnar objects
    *
@@ -399,6 +474,18 @@ public class CarbonMetadataUtil {
         max[j] = minMaxIndexList.getMax_values().get(j).array();
       }
       listOfNodeInfo.get(i).setColumnMaxData(max);
+      if (blockletIndexList.get(i).isSetBloom_filters()) {
+        List<org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter>
+            bloomFilters = new ArrayList<
+            org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter>();
+        for (BlockletBloomFilter bloomFilter : blockletIndexList.get(i).getBloom_filters()) {
+          bloomFilters.add(
+              new org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter(
+                  bloomFilter.getColumn_index(), bloomFilter.getNum_hash_functions(),
+                  bloomFilter.getBitset()));
+        }
+        listOfNodeInfo.get(i).setBloomFilters(bloomFilters);
+      }
     }
   }
 
@@ -46,6 +46,7 @@ import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.core.cache.dictionary.Dictionary;
 import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
+import org.apache.carbondata.core.carbon.CarbonTableIdentifier;
 import org.apache.carbondata.core.carbon.datastore.block.TableBlockInfo;
 import org.apache.carbondata.core.carbon.datastore.chunk.impl.FixedLengthDimensionDataChunk;
 import org.apache.carbondata.core.carbon.metadata.blocklet.DataFileFooter;
@@ -560,9 +561,7 @@ public final class CarbonUtil {
     int cmpResult = 0;
     while (high >= low) {
       int mid = (low + high) / 2;
-      cmpResult = ByteUtil.UnsafeComparer.INSTANCE
-          .compareTo(dimColumnDataChunk.getCompleteDataChunk(), mid * compareValue.length,
-              compareValue.length, compareValue, 0, compareValue.length);
+      cmpResult = dimColumnDataChunk.compareTo(mid, compareValue);
       if (cmpResult < 0) {
         low = mid + 1;
       } else if (cmpResult > 0) {
@@ -570,17 +569,13 @@ public final class CarbonUtil {
       } else {
         int currentIndex = mid;
         if(!matchUpLimit) {
-          while (currentIndex - 1 >= 0 && ByteUtil.UnsafeComparer.INSTANCE
-              .compareTo(dimColumnDataChunk.getCompleteDataChunk(),
-                  (currentIndex - 1) * compareValue.length, compareValue.length, compareValue, 0,
-                  compareValue.length) == 0) {
+          while (currentIndex - 1 >= 0
+              && dimColumnDataChunk.compareTo(currentIndex - 1, compareValue) == 0) {
             --currentIndex;
           }
         } else {
-          while (currentIndex + 1 <= high && ByteUtil.UnsafeComparer.INSTANCE
-              .compareTo(dimColumnDataChunk.getCompleteDataChunk(),
-                  (currentIndex + 1) * compareValue.length, compareValue.length, compareValue, 0,
-                  compareValue.length) == 0) {
+          while (currentIndex + 1 <= high
+              && dimColumnDataChunk.compareTo(currentIndex + 1, compareValue) == 0) {
             currentIndex++;
           }
         }
@@ -601,10 +596,8 @@ public final class CarbonUtil {
    */
   public static int nextLesserValueToTarget(int currentIndex,
       FixedLengthDimensionDataChunk dimColumnDataChunk, byte[] compareValue) {
-    while (currentIndex - 1 >= 0 && ByteUtil.UnsafeComparer.INSTANCE
-        .compareTo(dimColumnDataChunk.getCompleteDataChunk(),
-            (currentIndex - 1) * compareValue.length, compareValue.length, compareValue, 0,
-            compareValue.length) >= 0) {
+    while (currentIndex - 1 >= 0
+        && dimColumnDataChunk.compareTo(currentIndex - 1, compareValue) >= 0) {
       --currentIndex;
     }
 
@@ -623,10 +616,8 @@ public final class CarbonUtil {
    */
   public static int nextGreaterValueToTarget(int currentIndex,
       FixedLengthDimensionDataChunk dimColumnDataChunk, byte[] compareValue, int numerOfRows) {
-    while (currentIndex + 1 < numerOfRows && ByteUtil.UnsafeComparer.INSTANCE
-        .compareTo(dimColumnDataChunk.getCompleteDataChunk(),
-            (currentIndex + 1) * compareValue.length, compareValue.length, compareValue, 0,
-            compareValue.length) <= 0) {
+    while (currentIndex + 1 < numerOfRows
+        && dimColumnDataChunk.compareTo(currentIndex + 1, compareValue) <= 0) {
       ++currentIndex;
     }
 
@@ -635,16 +626,30 @@ public final class CarbonUtil {
 
   public static int[] getUnCompressColumnIndex(int totalLength, byte[] columnIndexData,
       NumberCompressor numberCompressor) {
-    ByteBuffer buffer = ByteBuffer.wrap(columnIndexData);
-    buffer.rewind();
-    int indexDataLength = buffer.getInt();
-    byte[] indexData = new byte[indexDataLength];
-    byte[] indexMap =
-        new byte[totalLength - indexDataLength - CarbonCommonConstants.INT_SIZE_IN_BYTE];
-    buffer.get(indexData);
-    buffer.get(indexMap);
-    return UnBlockIndexer.uncompressIndex(numberCompressor.unCompress(indexData),
-        numberCompressor.unCompress(indexMap));
+    return getUnCompressColumnIndex(totalLength, ByteBuffer.wrap(columnIndexData),
+        numberCompressor);
+  }
+
+  /**
+   * Below method will be used to uncompress the row id page from the
+   * position of the buffer, data is read from the backing array of buffer
+   * without copying
+   *
+   * @param totalLength      length of row id page
+   * @param columnIndexData  buffer of row id page
+   * @param numberCompressor compressor of row ids
+   * @return row ids
+   */
+  public static int[] getUnCompressColumnIndex(int totalLength, ByteBuffer columnIndexData,
+      NumberCompressor numberCompressor) {
+    byte[] data = columnIndexData.array();
+    int offset = columnIndexData.arrayOffset() + columnIndexData.position();
+    int indexDataLength = columnIndexData.getInt(columnIndexData.position());
+    int indexDataOffset = offset + CarbonCommonConstants.INT_SIZE_IN_BYTE;
+    int indexMapLength = totalLength - indexDataLength - CarbonCommonConstants.INT_SIZE_IN_BYTE;
+    return UnBlockIndexer.uncompressIndex(
+        numberCompressor.unCompress(data, indexDataOffset, indexDataLength),
+        numberCompressor.unCompress(data, indexDataOffset + indexDataLength, indexMapLength));
   }
 
   /**
@@ -1239,6 +1244,22 @@ public final class CarbonUtil {
     }
   }
 
+  /**
+   * This method will check whether dictionary and its metadata file exist for a given column
+   *
+   * @param carbonStorePath       store path
+   * @param carbonTableIdentifier table identifier
+   * @param columnId              unique id of column
+   * @return true if both dictionary and its metadata file exist
+   */
+  public static boolean isDictionaryFileExists(String carbonStorePath,
+      CarbonTableIdentifier carbonTableIdentifier, String columnId) {
+    CarbonTablePath carbonTablePath =
+        CarbonStorePath.getCarbonTablePath(carbonStorePath, carbonTableIdentifier);
+    return isFileExists(carbonTablePath.getDictionaryFilePath(columnId)) && isFileExists(
+        carbonTablePath.getDictionaryMetaFilePath(columnId));
+  }
+
   /**
    * convert from wrapper to external data type
    *
@@ -1360,16 +1381,8 @@ public final class CarbonUtil {
   public static List<DataFileFooter> readCarbonIndexFile(String taskId,
       List<TableBlockInfo> tableBlockInfoList, AbsoluteTableIdentifier absoluteTableIdentifier)
       throws CarbonUtilException {
-    // need to sort the  block info list based for task in ascending  order so
-    // it will be sinkup with block index read from file
-    Collections.sort(tableBlockInfoList);
-    CarbonTablePath carbonTablePath = CarbonStorePath
-        .getCarbonTablePath(absoluteTableIdentifier.getStorePath(),
-            absoluteTableIdentifier.getCarbonTableIdentifier());
-    // geting the index file path
-    //TODO need to pass proper partition number when partiton will be supported
-    String carbonIndexFilePath = carbonTablePath
-        .getCarbonIndexFilePath(taskId, "0", tableBlockInfoList.get(0).getSegmentId());
+    String carbonIndexFilePath =
+        getCarbonIndexFilePath(taskId, tableBlockInfoList, absoluteTableIdentifier);
     DataFileFooterConverter fileFooterConverter = new DataFileFooterConverter();
     try {
       // read the index info and return
@@ -1379,6 +1392,27 @@ public final class CarbonUtil {
     }
   }
 
+  /**
+   * Below method will be used to get the path of the index file of a task. Block
+   * info list is sorted in ascending order so that it will be in sync with the
+   * block index read from the file
+   *
+   * @param taskId                  task id of the file
+   * @param tableBlockInfoList      list of table block
+   * @param absoluteTableIdentifier absolute table identifier
+   * @return index file path
+   */
+  public static String getCarbonIndexFilePath(String taskId,
+      List<TableBlockInfo> tableBlockInfoList, AbsoluteTableIdentifier absoluteTableIdentifier) {
+    Collections.sort(tableBlockInfoList);
+    CarbonTablePath carbonTablePath = CarbonStorePath
+        .getCarbonTablePath(absoluteTableIdentifier.getStorePath(),
+            absoluteTableIdentifier.getCarbonTableIdentifier());
+    //TODO need to pass proper partition number when partiton will be supported
+    return carbonTablePath
+        .getCarbonIndexFilePath(taskId, "0", tableBlockInfoList.get(0).getSegmentId());
+  }
+
   /**
    * initialize the value of dictionary chunk that can be kept in memory at a time
    *
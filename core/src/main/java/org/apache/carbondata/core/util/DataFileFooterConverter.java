@@ -39,6 +39,7 @@ import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.Compressio
 import org.apache.carbondata.core.carbon.metadata.blocklet.datachunk.DataChunk;
 import org.apache.carbondata.core.carbon.metadata.blocklet.datachunk.PresenceMeta;
 import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBTreeIndex;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
 import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletIndex;
 import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletMinMaxIndex;
 import org.apache.carbondata.core.carbon.metadata.blocklet.sort.SortState;
@@ -112,13 +113,51 @@ public class DataFileFooterConverter {
     return dataFileFooters;
   }
 
+  /**
+   * Below method will be used to read only the header of the index file,
+   * returned footer will have the table columns and segment info
+   *
+   * @param filePath index file path
+   * @return footer having index header detail
+   * @throws IOException in case of any failure while reading
+   */
+  public DataFileFooter getIndexHeaderInfo(String filePath) throws IOException {
+    CarbonIndexFileReader indexReader = new CarbonIndexFileReader();
+    DataFileFooter dataFileFooter = new DataFileFooter();
+    try {
+      indexReader.openThriftReader(filePath);
+      org.apache.carbondata.format.IndexHeader readIndexHeader = indexReader.readIndexHeader();
+      List<ColumnSchema> columnSchemaList = new ArrayList<ColumnSchema>();
+      List<org.apache.carbondata.format.ColumnSchema> table_columns =
+          readIndexHeader.getTable_columns();
+      for (int i = 0; i < table_columns.size(); i++) {
+        columnSchemaList.add(thriftColumnSchmeaToWrapperColumnSchema(table_columns.get(i)));
+      }
+      dataFileFooter.setColumnInTable(columnSchemaList);
+      dataFileFooter.setSegmentInfo(getSegmentInfo(readIndexHeader.getSegment_info()));
+    } finally {
+      indexReader.closeThriftReader();
+    }
+    return dataFileFooter;
+  }
+
   /**
    * the methods returns the number of blocklets in a block
    * @param readBlockIndexInfo
    * @return
    */
   private int getBlockletSize(BlockIndex readBlockIndexInfo) {
-    long num_rows = readBlockIndexInfo.getNum_rows();
+    return getNumberOfBlocklets(readBlockIndexInfo.getNum_rows());
+  }
+
+  /**
+   * the methods returns the number of blocklets in a block based on number
+   * of rows in the block
+   *
+   * @param num_rows number of rows in the block
+   * @return number of blocklets
+   */
+  public static int getNumberOfBlocklets(long num_rows) {
     int blockletSize = Integer.parseInt(CarbonProperties.getInstance()
         .getProperty(CarbonCommonConstants.BLOCKLET_SIZE,
             CarbonCommonConstants.BLOCKLET_SIZE_DEFAULT_VAL));
@@ -312,6 +351,12 @@ public class DataFileFooterConverter {
     switch (compressionCodecThrift) {
       case SNAPPY:
         return CompressionCodec.SNAPPY;
+      case LZ4:
+        return CompressionCodec.LZ4;
+      case ZSTD:
+        return CompressionCodec.ZSTD;
+      case NONE:
+        return CompressionCodec.NONE;
       default:
         return CompressionCodec.SNAPPY;
     }
@@ -348,9 +393,20 @@ public class DataFileFooterConverter {
         blockletIndexThrift.getB_tree_index();
     org.apache.carbondata.format.BlockletMinMaxIndex minMaxIndex =
         blockletIndexThrift.getMin_max_index();
-    return new BlockletIndex(
+    BlockletIndex blockletIndex = new BlockletIndex(
         new BlockletBTreeIndex(btreeIndex.getStart_key(), btreeIndex.getEnd_key()),
         new BlockletMinMaxIndex(minMaxIndex.getMin_values(), minMaxIndex.getMax_values()));
+    if (blockletIndexThrift.isSetBloom_filters()) {
+      List<BlockletBloomFilter> bloomFilters =
+          new ArrayList<BlockletBloomFilter>(blockletIndexThrift.getBloom_filtersSize());
+      for (org.apache.carbondata.format.BlockletBloomFilter bloomFilter : blockletIndexThrift
+          .getBloom_filters()) {
+        bloomFilters.add(new BlockletBloomFilter(bloomFilter.getColumn_index(),
+            bloomFilter.getNum_hash_functions(), bloomFilter.getBitset()));
+      }
+      blockletIndex.setBloomFilters(bloomFilters);
+    }
+    return blockletIndex;
   }
 
   /**
@@ -25,6 +25,7 @@ import java.util.Arrays;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
 import org.apache.carbondata.core.datastorage.store.compression.MeasureMetaDataModel;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder;
@@ -54,6 +55,7 @@ import org.apache.carbondata.core.datastorage.store.compression.type.UnCompressN
 import org.apache.carbondata.core.datastorage.store.compression.type.UnCompressNoneInt;
 import org.apache.carbondata.core.datastorage.store.compression.type.UnCompressNoneLong;
 import org.apache.carbondata.core.datastorage.store.compression.type.UnCompressNoneShort;
+import org.apache.carbondata.core.datastorage.store.dataholder.MeasurePageBuilder;
 
 public final class ValueCompressionUtil {
 
@@ -719,6 +721,31 @@ public final class ValueCompressionUtil {
     return getValueCompressionModel(metaDataModel);
   }
 
+  /**
+   * Below method will be used to get the compression model of the measure
+   * pages of a blocklet from the statistics collected by the page builders
+   *
+   * @param measurePages page builder of each measure
+   * @param aggType      type of each measure
+   * @return compression model
+   */
+  public static ValueCompressionModel getValueCompressionModel(MeasurePageBuilder[] measurePages,
+      char[] aggType) {
+    int measureCount = measurePages.length;
+    Object[] maxValue = new Object[measureCount];
+    Object[] minValue = new Object[measureCount];
+    Object[] uniqueValue = new Object[measureCount];
+    int[] decimal = new int[measureCount];
+    for (int i = 0; i < measureCount; i++) {
+      maxValue[i] = measurePages[i].getMaxValue();
+      minValue[i] = measurePages[i].getMinValue();
+      uniqueValue[i] = measurePages[i].getUniqueValue();
+      decimal[i] = measurePages[i].getDecimal();
+    }
+    return getValueCompressionModel(maxValue, minValue, decimal, uniqueValue, aggType,
+        new byte[measureCount]);
+  }
+
   public static ValueCompressionModel getValueCompressionModel(MeasureMetaDataModel measureMDMdl) {
     int measureCount = measureMDMdl.getMeasureCount();
     Object[] minValue = measureMDMdl.getMinValue();
@@ -748,6 +775,10 @@ public final class ValueCompressionUtil {
     compressionModel.setType(type);
     compressionModel.setMinValueFactForAgg(measureMDMdl.getMinValueFactForAgg());
     compressionModel.setDataTypeSelected(dataTypeSelected);
+    // snappy by default, data loading overrides it with the codec of the table
+    CompressionCodec[] compressionCodec = new CompressionCodec[measureCount];
+    Arrays.fill(compressionCodec, CompressionCodec.SNAPPY);
+    compressionModel.setCompressionCodec(compressionCodec);
     ValueCompressonHolder.UnCompressValue[] values = ValueCompressionUtil
         .getUncompressedValues(compressionModel.getCompType(), compressionModel.getActualDataType(),
             compressionModel.getChangedDataType());
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.writer;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBTreeIndex;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletMinMaxIndex;
+import org.apache.carbondata.core.carbon.metadata.index.BlockIndexInfo;
+import org.apache.carbondata.core.datastorage.store.impl.FileFactory;
+import org.apache.carbondata.core.util.CarbonUtil;
+
+/**
+ * Writer class which will be used to write the index map file. Index map
+ * file keeps the same block indexes as carbon index file in a fixed layout
+ * so it can be memory mapped and searched without deserializing.
+ * Layout of the file is
+ * <magic number><version><number of blocks><number of columns>
+ * <offset of each block record>
+ * and for each block
+ * <number of rows><start key length><start key><end key length><end key>
+ * <min length><min><max length><max> for each column
+ */
+public class CarbonIndexMapFileWriter {
+
+  /**
+   * magic number to identify the index map file
+   */
+  public static final int MAGIC_NUMBER = 0x43494458;
+
+  /**
+   * version of the index map file layout
+   */
+  public static final int VERSION = 1;
+
+  /**
+   * size of the header in bytes
+   */
+  public static final int HEADER_SIZE = 16;
+
+  /**
+   * Below method will be used to write the index map file
+   *
+   * @param filePath           path of the file
+   * @param blockIndexInfoList block index of all the blocks in same order as
+   *                           written in carbon index file
+   * @throws IOException in case of any failure while writing
+   */
+  public void writeIndexMapFile(String filePath, List<BlockIndexInfo> blockIndexInfoList)
+      throws IOException {
+    int numberOfColumns = 0;
+    if (!blockIndexInfoList.isEmpty()) {
+      numberOfColumns =
+          blockIndexInfoList.get(0).getBlockletIndex().getMinMaxIndex().getMinValues().length;
+    }
+    DataOutputStream outputStream = null;
+    try {
+      outputStream = FileFactory.getDataOutputStream(filePath, FileFactory.getFileType(filePath));
+      outputStream.writeInt(MAGIC_NUMBER);
+      outputStream.writeInt(VERSION);
+      outputStream.writeInt(blockIndexInfoList.size());
+      outputStream.writeInt(numberOfColumns);
+      // offset table is written first so any block can be read directly
+      long recordOffset = HEADER_SIZE + 8L * blockIndexInfoList.size();
+      for (BlockIndexInfo blockIndexInfo : blockIndexInfoList) {
+        outputStream.writeLong(recordOffset);
+        recordOffset += getRecordSize(blockIndexInfo);
+      }
+      for (BlockIndexInfo blockIndexInfo : blockIndexInfoList) {
+        BlockletBTreeIndex btreeIndex = blockIndexInfo.getBlockletIndex().getBtreeIndex();
+        BlockletMinMaxIndex minMaxIndex = blockIndexInfo.getBlockletIndex().getMinMaxIndex();
+        outputStream.writeLong(blockIndexInfo.getNumberOfRows());
+        writeValue(outputStream, btreeIndex.getStartKey());
+        writeValue(outputStream, btreeIndex.getEndKey());
+        for (int i = 0; i < numberOfColumns; i++) {
+          writeValue(outputStream, minMaxIndex.getMinValues()[i]);
+          writeValue(outputStream, minMaxIndex.getMaxValues()[i]);
+        }
+      }
+    } finally {
+      CarbonUtil.closeStreams(outputStream);
+    }
+  }
+
+  private static void writeValue(DataOutputStream outputStream, byte[] value)
+      throws IOException {
+    outputStream.writeInt(value.length);
+    outputStream.write(value);
+  }
+
+  /**
+   * @return size of the block record in bytes
+   */
+  private static long getRecordSize(BlockIndexInfo blockIndexInfo) {
+    BlockletBTreeIndex btreeIndex = blockIndexInfo.getBlockletIndex().getBtreeIndex();
+    BlockletMinMaxIndex minMaxIndex = blockIndexInfo.getBlockletIndex().getMinMaxIndex();
+    long size = 8 + 4 + btreeIndex.getStartKey().length + 4 + btreeIndex.getEndKey().length;
+    for (int i = 0; i < minMaxIndex.getMinValues().length; i++) {
+      size += 4 + minMaxIndex.getMinValues()[i].length + 4 + minMaxIndex.getMaxValues()[i].length;
+    }
+    return size;
+  }
+}
@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.aggregator;
+
+import java.util.Arrays;
+
+/**
+ * Hash aggregator which groups the rows on dictionary surrogate keys and
+ * aggregates the values of each group. Surrogate keys of the groups are kept
+ * in an open addressing hash table of primitive int, so no object is created
+ * per row. It is used for partial aggregation in executor before the
+ * surrogate keys are decoded, so that only the aggregated groups are decoded.
+ * Surrogate key starts from 1, so 0 can be used as key of null value.
+ * Number of groups is bounded, once it is full the caller returns the partial
+ * groups and clears the aggregator, as the final aggregate merges the groups
+ * returned more than once
+ */
+public class SurrogateKeyAggregator {
+
+  /**
+   * aggregate functions supported by the aggregator
+   */
+  public enum AggregateType {
+    SUM, MIN, MAX, COUNT
+  }
+
+  /**
+   * value of empty slot of hash table
+   */
+  private static final int EMPTY = -1;
+
+  /**
+   * default number of groups for which space is allocated
+   */
+  private static final int DEFAULT_CAPACITY = 64;
+
+  /**
+   * number of surrogate keys of a group
+   */
+  private int numberOfKeys;
+
+  private AggregateType[] aggregateTypes;
+
+  /**
+   * whether value of aggregate is double, otherwise long
+   */
+  private boolean[] isDoubleValue;
+
+  /**
+   * group index of each slot of the hash table, size is power of 2
+   */
+  private int[] hashTable;
+
+  /**
+   * surrogate keys of the groups, numberOfKeys keys per group
+   */
+  private int[] groupKeys;
+
+  /**
+   * aggregated values of the groups, one per aggregate per group
+   */
+  private long[] longValues;
+
+  private double[] doubleValues;
+
+  /**
+   * whether any not null value is aggregated
+   */
+  private boolean[] hasValue;
+
+  private int numberOfGroups;
+
+  /**
+   * maximum number of groups kept before the aggregator is full
+   */
+  private int maxGroups;
+
+  /**
+   * @param numberOfKeys   number of surrogate keys of a group
+   * @param aggregateTypes aggregate functions
+   * @param isDoubleValue  whether value of aggregate is double, otherwise
+   *                       long. Count is always long
+   * @param maxGroups      maximum number of groups kept before the aggregator is full
+   */
+  public SurrogateKeyAggregator(int numberOfKeys, AggregateType[] aggregateTypes,
+      boolean[] isDoubleValue, int maxGroups) {
+    this.numberOfKeys = numberOfKeys;
+    this.maxGroups = maxGroups;
+    this.aggregateTypes = aggregateTypes;
+    this.isDoubleValue = isDoubleValue;
+    this.hashTable = new int[DEFAULT_CAPACITY * 2];
+    Arrays.fill(hashTable, EMPTY);
+    this.groupKeys = new int[DEFAULT_CAPACITY * numberOfKeys];
+    this.longValues = new long[DEFAULT_CAPACITY * aggregateTypes.length];
+    this.doubleValues = new double[DEFAULT_CAPACITY * aggregateTypes.length];
+    this.hasValue = new boolean[DEFAULT_CAPACITY * aggregateTypes.length];
+  }
+
+  /**
+   * Below method will be used to get the group of the surrogate keys, new
+   * group is added if not present
+   *
+   * @param keys surrogate keys of the row
+   * @return group index
+   */
+  public int addGroup(int[] keys) {
+    int mask = hashTable.length - 1;
+    int slot = hash(keys, 0) & mask;
+    int group;
+    while ((group = hashTable[slot]) != EMPTY) {
+      if (isKeyEqual(group, keys)) {
+        return group;
+      }
+      slot = (slot + 1) & mask;
+    }
+    group = numberOfGroups++;
+    if (numberOfGroups * numberOfKeys > groupKeys.length || numberOfGroups
+        * aggregateTypes.length > hasValue.length) {
+      growGroups();
+    }
+    System.arraycopy(keys, 0, groupKeys, group * numberOfKeys, numberOfKeys);
+    for (int i = 0; i < aggregateTypes.length; i++) {
+      int index = group * aggregateTypes.length + i;
+      // values are reset as group can be reused after clear
+      longValues[index] = 0;
+      doubleValues[index] = 0;
+      // count of a group is never null
+      hasValue[index] = aggregateTypes[i] == AggregateType.COUNT;
+    }
+    hashTable[slot] = group;
+    // keep the load factor of hash table below 0.5
+    if (numberOfGroups * 2 > hashTable.length) {
+      rehash();
+    }
+    return group;
+  }
+
+  /**
+   * Below method will be used to aggregate a long value of the group
+   *
+   * @param group     group index
+   * @param aggregate aggregate index
+   * @param value     not null value
+   */
+  public void aggregate(int group, int aggregate, long value) {
+    int index = group * aggregateTypes.length + aggregate;
+    switch (aggregateTypes[aggregate]) {
+      case SUM:
+        longValues[index] += value;
+        break;
+      case MIN:
+        if (!hasValue[index] || value < longValues[index]) {
+          longValues[index] = value;
+        }
+        break;
+      case MAX:
+        if (!hasValue[index] || value > longValues[index]) {
+          longValues[index] = value;
+        }
+        break;
+      default:
+        longValues[index]++;
+    }
+    hasValue[index] = true;
+  }
+
+  /**
+   * Below method will be used to aggregate a double value of the group
+   *
+   * @param group     group index
+   * @param aggregate aggregate index
+   * @param value     not null value
+   */
+  public void aggregate(int group, int aggregate, double value) {
+    int index = group * aggregateTypes.length + aggregate;
+    switch (aggregateTypes[aggregate]) {
+      case SUM:
+        doubleValues[index] += value;
+        break;
+      case MIN:
+        if (!hasValue[index] || value < doubleValues[index]) {
+          doubleValues[index] = value;
+        }
+        break;
+      case MAX:
+        if (!hasValue[index] || value > doubleValues[index]) {
+          doubleValues[index] = value;
+        }
+        break;
+      default:
+        longValues[index]++;
+    }
+    hasValue[index] = true;
+  }
+
+  /**
+   * Below method will be used to count a not null value of the group
+   *
+   * @param group     group index
+   * @param aggregate aggregate index
+   */
+  public void count(int group, int aggregate) {
+    longValues[group * aggregateTypes.length + aggregate]++;
+  }
+
+  /**
+   * @return true if maximum number of groups is reached, groups have to be
+   * returned and cleared before adding a new group
+   */
+  public boolean isFull() {
+    return numberOfGroups >= maxGroups;
+  }
+
+  /**
+   * Below method will be used to remove all the groups, allocated memory is
+   * kept for the next groups
+   */
+  public void clear() {
+    Arrays.fill(hashTable, EMPTY);
+    numberOfGroups = 0;
+  }
+
+  /**
+   * @return number of groups
+   */
+  public int getNumberOfGroups() {
+    return numberOfGroups;
+  }
+
+  /**
+   * @param group    group index
+   * @param keyIndex index of the key
+   * @return surrogate key of the group
+   */
+  public int getKey(int group, int keyIndex) {
+    return groupKeys[group * numberOfKeys + keyIndex];
+  }
+
+  /**
+   * @param group     group index
+   * @param aggregate aggregate index
+   * @return true if no not null value is aggregated
+   */
+  public boolean isNull(int group, int aggregate) {
+    return !hasValue[group * aggregateTypes.length + aggregate];
+  }
+
+  /**
+   * @param group     group index
+   * @param aggregate aggregate index
+   * @return aggregated long value
+   */
+  public long getLong(int group, int aggregate) {
+    return longValues[group * aggregateTypes.length + aggregate];
+  }
+
+  /**
+   * @param group     group index
+   * @param aggregate aggregate index
+   * @return aggregated double value
+   */
+  public double getDouble(int group, int aggregate) {
+    if (aggregateTypes[aggregate] == AggregateType.COUNT || !isDoubleValue[aggregate]) {
+      return longValues[group * aggregateTypes.length + aggregate];
+    }
+    return doubleValues[group * aggregateTypes.length + aggregate];
+  }
+
+  private boolean isKeyEqual(int group, int[] keys) {
+    int offset = group * numberOfKeys;
+    for (int i = 0; i < numberOfKeys; i++) {
+      if (groupKeys[offset + i] != keys[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int hash(int[] keys, int offset) {
+    int hash = 0;
+    for (int i = 0; i < numberOfKeys; i++) {
+      hash = 31 * hash + keys[offset + i];
+    }
+    // spread the bits as surrogate keys are sequential
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    hash *= 0xc2b2ae35;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+
+  private void growGroups() {
+    int capacity = groupKeys.length / Math.max(1, numberOfKeys) * 2;
+    capacity = Math.max(capacity, numberOfGroups);
+    groupKeys = Arrays.copyOf(groupKeys, capacity * numberOfKeys);
+    longValues = Arrays.copyOf(longValues, capacity * aggregateTypes.length);
+    doubleValues = Arrays.copyOf(doubleValues, capacity * aggregateTypes.length);
+    hasValue = Arrays.copyOf(hasValue, capacity * aggregateTypes.length);
+  }
+
+  private void rehash() {
+    int[] newHashTable = new int[hashTable.length * 2];
+    Arrays.fill(newHashTable, EMPTY);
+    int mask = newHashTable.length - 1;
+    for (int group = 0; group < numberOfGroups; group++) {
+      int slot = hash(groupKeys, group * numberOfKeys) & mask;
+      while (newHashTable[slot] != EMPTY) {
+        slot = (slot + 1) & mask;
+      }
+      newHashTable[slot] = group;
+    }
+    hashTable = newHashTable;
+  }
+}
@@ -21,6 +21,7 @@ package org.apache.carbondata.scan.collector;
 import java.util.List;
 
 import org.apache.carbondata.scan.result.AbstractScannedResult;
+import org.apache.carbondata.scan.result.ColumnarBatch;
 
 /**
  * Interface which will be used to aggregate the scan result
@@ -35,4 +36,14 @@ public interface ScannedResultCollector {
    */
   List<Object[]> collectData(AbstractScannedResult scannedResult, int batchSize);
 
+  /**
+   * Below method will be used to fill the scanned result in to the columnar
+   * batch, rows will be added after the rows already present in the batch
+   * till the batch is full or scanned result is exhausted
+   *
+   * @param scannedResult scanned result
+   * @param columnarBatch batch to be filled
+   */
+  void collectVectorBatch(AbstractScannedResult scannedResult, ColumnarBatch columnarBatch);
+
 }
@@ -31,6 +31,7 @@ import org.apache.carbondata.scan.executor.infos.BlockExecutionInfo;
 import org.apache.carbondata.scan.executor.infos.KeyStructureInfo;
 import org.apache.carbondata.scan.executor.util.QueryUtil;
 import org.apache.carbondata.scan.result.AbstractScannedResult;
+import org.apache.carbondata.scan.result.ColumnarBatch;
 import org.apache.carbondata.scan.wrappers.ByteArrayWrapper;
 
 /**
@@ -67,7 +68,7 @@ public abstract class AbstractScannedResultCollector implements ScannedResultCol
    * be present in the table so in that default value will be used to
    * aggregate the data for that measure columns
    */
-  private Object[] measureDefaultValue;
+  protected Object[] measureDefaultValue;
 
   /**
    * measure datatypes.
@@ -117,6 +118,16 @@ public abstract class AbstractScannedResultCollector implements ScannedResultCol
     return null;
   }
 
+  /**
+   * Columnar batch is not supported by default, collectors which support it
+   * need to override this method
+   */
+  @Override public void collectVectorBatch(AbstractScannedResult scannedResult,
+      ColumnarBatch columnarBatch) {
+    throw new UnsupportedOperationException(
+        "Columnar batch is not supported by " + getClass().getName());
+  }
+
   /**
    * Below method will used to get the result
    */
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.collector.impl;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.carbondata.common.logging.LogService;
+import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.carbon.metadata.datatype.DataType;
+import org.apache.carbondata.core.carbon.metadata.encoder.Encoding;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.keygenerator.directdictionary.DirectDictionaryGenerator;
+import org.apache.carbondata.core.keygenerator.directdictionary.DirectDictionaryKeyGeneratorFactory;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.scan.executor.infos.BlockExecutionInfo;
+import org.apache.carbondata.scan.model.QueryDimension;
+import org.apache.carbondata.scan.model.QueryMeasure;
+import org.apache.carbondata.scan.result.AbstractScannedResult;
+import org.apache.carbondata.scan.result.ColumnVector;
+import org.apache.carbondata.scan.result.ColumnarBatch;
+
+/**
+ * Collector which fills the scanned result in to columnar batch. Each column
+ * is filled for all the rows of the batch in one go from the column chunk, so
+ * no row object is created. Dictionary dimensions are filled as dictionary
+ * ids, direct dictionary dimensions as dictionary ids and long values, no
+ * dictionary dimensions as byte arrays and measures as primitive values.
+ * Complex dimensions are not supported
+ */
+public class DictionaryBasedVectorResultCollector extends DictionaryBasedResultCollector {
+
+  private static final LogService LOGGER =
+      LogServiceFactory.getLogService(DictionaryBasedVectorResultCollector.class.getName());
+
+  private static final Charset CHARSET = Charset.forName(CarbonCommonConstants.DEFAULT_CHARSET);
+
+  private static final byte[] MEMBER_DEFAULT_VAL_ARRAY =
+      CarbonCommonConstants.MEMBER_DEFAULT_VAL.getBytes(CHARSET);
+
+  /**
+   * query order of the dictionary dimensions
+   */
+  private int[] dictionaryColumnOrders;
+
+  /**
+   * direct dictionary generator of the dictionary dimensions, null for the
+   * dimensions which are not direct dictionary
+   */
+  private DirectDictionaryGenerator[] directDictionaryGenerators;
+
+  /**
+   * query order of the no dictionary dimensions
+   */
+  private int[] noDictionaryColumnOrders;
+
+  /**
+   * query order of the measures
+   */
+  private int[] measureOrders;
+
+  /**
+   * row ids of the rows being collected
+   */
+  private int[] rowIds;
+
+  public DictionaryBasedVectorResultCollector(BlockExecutionInfo blockExecutionInfos) {
+    super(blockExecutionInfos);
+    QueryDimension[] queryDimensions = tableBlockExecutionInfos.getQueryDimensions();
+    List<Integer> dictionaryOrders = new ArrayList<>();
+    List<DirectDictionaryGenerator> generators = new ArrayList<>();
+    List<Integer> noDictionaryOrders = new ArrayList<>();
+    for (int i = 0; i < queryDimensions.length; i++) {
+      if (CarbonUtil.hasComplexDataType(queryDimensions[i].getDimension().getDataType())) {
+        throw new UnsupportedOperationException(
+            "Columnar batch is not supported for complex dimension " + queryDimensions[i]
+                .getColumnName());
+      } else if (!queryDimensions[i].getDimension().hasEncoding(Encoding.DICTIONARY)) {
+        noDictionaryOrders.add(queryDimensions[i].getQueryOrder());
+      } else {
+        dictionaryOrders.add(queryDimensions[i].getQueryOrder());
+        generators.add(queryDimensions[i].getDimension().hasEncoding(Encoding.DIRECT_DICTIONARY) ?
+            DirectDictionaryKeyGeneratorFactory
+                .getDirectDictionaryGenerator(queryDimensions[i].getDimension().getDataType()) :
+            null);
+      }
+    }
+    dictionaryColumnOrders = toIntArray(dictionaryOrders);
+    directDictionaryGenerators =
+        generators.toArray(new DirectDictionaryGenerator[generators.size()]);
+    noDictionaryColumnOrders = toIntArray(noDictionaryOrders);
+    QueryMeasure[] queryMeasures = tableBlockExecutionInfos.getQueryMeasures();
+    measureOrders = new int[queryMeasures.length];
+    for (int i = 0; i < queryMeasures.length; i++) {
+      measureOrders[i] = queryMeasures[i].getQueryOrder();
+    }
+    rowIds = new int[0];
+  }
+
+  private static int[] toIntArray(List<Integer> list) {
+    int[] array = new int[list.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = list.get(i);
+    }
+    return array;
+  }
+
+  @Override public void collectVectorBatch(AbstractScannedResult scannedResult,
+      ColumnarBatch columnarBatch) {
+    int offset = columnarBatch.getRowCount();
+    int requiredRows = columnarBatch.getCapacity() - offset;
+    if (rowIds.length < requiredRows) {
+      rowIds = new int[requiredRows];
+    }
+    int numberOfRows = scannedResult.fillRowIds(rowIds, requiredRows);
+    if (numberOfRows == 0) {
+      return;
+    }
+    if (dictionaryColumnOrders.length > 0) {
+      fillDictionaryVectors(scannedResult, columnarBatch, numberOfRows, offset);
+    }
+    for (int i = 0; i < noDictionaryColumnOrders.length; i++) {
+      ColumnVector vector = columnarBatch.getColumn(noDictionaryColumnOrders[i]);
+      byte[][] values = vector.getByteArrayValues();
+      scannedResult.fillNoDictionaryKeyVector(i, rowIds, numberOfRows, values, offset);
+      for (int j = offset; j < offset + numberOfRows; j++) {
+        if (Arrays.equals(MEMBER_DEFAULT_VAL_ARRAY, values[j])) {
+          vector.putNull(j);
+        }
+      }
+    }
+    for (int i = 0; i < measureOrders.length; i++) {
+      ColumnVector vector = columnarBatch.getColumn(measureOrders[i]);
+      if (isMeasureExistsInCurrentBlock[i]) {
+        scannedResult
+            .fillMeasureVector(measuresOrdinal[i], rowIds, numberOfRows, vector, offset);
+      } else {
+        fillDefaultMeasureValue(vector, measureDefaultValue[i], numberOfRows, offset);
+      }
+    }
+    columnarBatch.setRowCount(offset + numberOfRows);
+  }
+
+  private void fillDictionaryVectors(AbstractScannedResult scannedResult,
+      ColumnarBatch columnarBatch, int numberOfRows, int offset) {
+    int[][] vectors = new int[dictionaryColumnOrders.length][];
+    for (int i = 0; i < vectors.length; i++) {
+      vectors[i] = columnarBatch.getColumn(dictionaryColumnOrders[i]).getDictionaryIds();
+    }
+    scannedResult.fillDictionaryKeyVectors(rowIds, numberOfRows, vectors, offset);
+    for (int i = 0; i < directDictionaryGenerators.length; i++) {
+      if (null == directDictionaryGenerators[i]) {
+        continue;
+      }
+      ColumnVector vector = columnarBatch.getColumn(dictionaryColumnOrders[i]);
+      long[] values = vector.getLongValues();
+      for (int j = offset; j < offset + numberOfRows; j++) {
+        Object value = directDictionaryGenerators[i].getValueFromSurrogate(vectors[i][j]);
+        if (null == value) {
+          vector.putNull(j);
+        } else {
+          values[j] = (Long) value;
+        }
+      }
+    }
+  }
+
+  /**
+   * Below method will be used to fill the default value of the measure which
+   * is not present in the current block
+   */
+  private void fillDefaultMeasureValue(ColumnVector vector, Object defaultValue,
+      int numberOfRows, int offset) {
+    if (null != defaultValue) {
+      String value = defaultValue instanceof byte[] ?
+          new String((byte[]) defaultValue, CHARSET) :
+          defaultValue.toString();
+      try {
+        DataType dataType = vector.getDataType();
+        switch (dataType) {
+          case INT:
+          case LONG:
+            Arrays.fill(vector.getLongValues(), offset, offset + numberOfRows,
+                Long.parseLong(value));
+            break;
+          case DECIMAL:
+            Arrays.fill(vector.getDecimalValues(), offset, offset + numberOfRows,
+                new BigDecimal(value));
+            break;
+          default:
+            Arrays.fill(vector.getDoubleValues(), offset, offset + numberOfRows,
+                Double.parseDouble(value));
+        }
+        return;
+      } catch (NumberFormatException e) {
+        LOGGER.error("Invalid default value of measure: " + value);
+      }
+    }
+    for (int i = offset; i < offset + numberOfRows; i++) {
+      vector.putNull(i);
+    }
+  }
+}
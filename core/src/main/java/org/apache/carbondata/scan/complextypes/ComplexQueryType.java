@@ -41,7 +41,8 @@ public class ComplexQueryType {
   public void fillRequiredBlockData(BlocksChunkHolder blockChunkHolder) {
     if (null == blockChunkHolder.getDimensionDataChunk()[blockIndex]) {
       blockChunkHolder.getDimensionDataChunk()[blockIndex] = blockChunkHolder.getDataBlock()
-          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex);
+          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex,
+              blockChunkHolder.getBufferPool());
     }
     children.fillRequiredBlockData(blockChunkHolder);
   }
@@ -74,7 +75,8 @@ public class ComplexQueryType {
   protected void readBlockDataChunk(BlocksChunkHolder blockChunkHolder) {
     if (null == blockChunkHolder.getDimensionDataChunk()[blockIndex]) {
       blockChunkHolder.getDimensionDataChunk()[blockIndex] = blockChunkHolder.getDataBlock()
-          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex);
+          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex,
+              blockChunkHolder.getBufferPool());
     }
   }
 }
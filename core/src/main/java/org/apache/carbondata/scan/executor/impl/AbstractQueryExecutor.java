@@ -20,6 +20,7 @@ package org.apache.carbondata.scan.executor.impl;
 
 import java.util.*;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
@@ -27,6 +28,7 @@ import org.apache.carbondata.common.logging.impl.StandardLogService;
 import org.apache.carbondata.core.carbon.datastore.BlockIndexStore;
 import org.apache.carbondata.core.carbon.datastore.IndexKey;
 import org.apache.carbondata.core.carbon.datastore.block.AbstractIndex;
+import org.apache.carbondata.core.carbon.datastore.block.BlockletInfos;
 import org.apache.carbondata.core.carbon.datastore.block.SegmentProperties;
 import org.apache.carbondata.core.carbon.datastore.exception.IndexBuilderException;
 import org.apache.carbondata.core.carbon.metadata.datatype.DataType;
@@ -38,6 +40,7 @@ import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.datastorage.store.impl.FileFactory;
 import org.apache.carbondata.core.keygenerator.KeyGenException;
 import org.apache.carbondata.core.keygenerator.KeyGenerator;
+import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.CarbonTimeStatisticsFactory;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.scan.executor.QueryExecutor;
@@ -51,6 +54,7 @@ import org.apache.carbondata.scan.filter.FilterUtil;
 import org.apache.carbondata.scan.model.QueryDimension;
 import org.apache.carbondata.scan.model.QueryMeasure;
 import org.apache.carbondata.scan.model.QueryModel;
+import org.apache.carbondata.scan.result.iterator.AbstractDetailQueryResultIterator;
 
 import org.apache.commons.lang3.ArrayUtils;
 
@@ -63,11 +67,24 @@ public abstract class AbstractQueryExecutor<E> implements QueryExecutor<E> {
 
   private static final LogService LOGGER =
       LogServiceFactory.getLogService(AbstractQueryExecutor.class.getName());
+
+  /**
+   * time in seconds to wait for the scanning threads to stop when query is
+   * finished
+   */
+  private static final long EXECUTOR_TERMINATION_TIMEOUT = 60;
+
   /**
    * holder for query properties which will be used to execute the query
    */
   protected QueryExecutorProperties queryProperties;
 
+  /**
+   * result iterator returned by the executor, memory of its block iterators
+   * is freed when query is finished
+   */
+  protected AbstractDetailQueryResultIterator queryIterator;
+
   public AbstractQueryExecutor() {
     queryProperties = new QueryExecutorProperties();
   }
@@ -85,8 +102,14 @@ public abstract class AbstractQueryExecutor<E> implements QueryExecutor<E> {
         queryModel.getQueryId());
     LOGGER.info("Query will be executed on table: " + queryModel.getAbsoluteTableIdentifier()
         .getCarbonTableIdentifier().getTableName());
-    // add executor service for query execution
-    queryProperties.executorService = Executors.newFixedThreadPool(1);
+    // add executor service for query execution, in case of prefetch mode
+    // multiple blocks will be scanned concurrently, prefetch is not
+    // applicable for vector reader
+    int numberOfScanThreads = 1;
+    if (isPrefetchEnabled() && !queryModel.isVectorReader()) {
+      numberOfScanThreads = getNumberOfPrefetchThreads();
+    }
+    queryProperties.executorService = Executors.newFixedThreadPool(numberOfScanThreads);
     // Initializing statistics list to record the query statistics
     // creating copy on write to handle concurrent scenario
     queryProperties.queryStatisticsRecorder =
@@ -202,11 +225,12 @@ public abstract class AbstractQueryExecutor<E> implements QueryExecutor<E> {
     // query
     // and query will be executed based on that infos
     for (int i = 0; i < queryProperties.dataBlocks.size(); i++) {
-      blockExecutionInfoList.add(
+      BlockletInfos blockletInfos = queryModel.getTableBlockInfos().get(i).getBlockletInfos();
+      BlockExecutionInfo blockExecutionInfo =
           getBlockExecutionInfoForBlock(queryModel, queryProperties.dataBlocks.get(i),
-              queryModel.getTableBlockInfos().get(i).getBlockletInfos().getStartBlockletNumber(),
-              queryModel.getTableBlockInfos().get(i).getBlockletInfos()
-                  .getNumberOfBlockletToScan()));
+              blockletInfos.getStartBlockletNumber(), blockletInfos.getNumberOfBlockletToScan());
+      blockExecutionInfo.setBlockletIdsToScan(blockletInfos.getBlockletIds());
+      blockExecutionInfoList.add(blockExecutionInfo);
     }
     queryProperties.complexDimensionInfoMap =
         blockExecutionInfoList.get(blockExecutionInfoList.size() - 1).getComlexDimensionInfoMap();
@@ -264,6 +288,8 @@ public abstract class AbstractQueryExecutor<E> implements QueryExecutor<E> {
     blockExecutionInfo.setDetailQuery(queryModel.isDetailQuery());
     // setting whether raw record query or not
     blockExecutionInfo.setRawRecordDetailQuery(queryModel.isForcedDetailRawQuery());
+    // setting whether result has to be collected in columnar batches
+    blockExecutionInfo.setVectorBatchCollector(queryModel.isVectorReader());
     // setting the masked byte of the block which will be
     // used to update the unpack the older block keys
     blockExecutionInfo.setMaskedByteForBlock(maksedByte);
@@ -429,14 +455,68 @@ public abstract class AbstractQueryExecutor<E> implements QueryExecutor<E> {
         .toPrimitive(parentBlockIndexList.toArray(new Integer[parentBlockIndexList.size()]));
   }
 
+  /**
+   * Below method will be used to check whether prefetch mode is enabled for
+   * detail query. Vector reader does not support prefetch, so it is ignored
+   * for vector reader
+   *
+   * @return true if prefetch is enabled
+   */
+  protected boolean isPrefetchEnabled() {
+    return Boolean.parseBoolean(CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.ENABLE_QUERY_PREFETCH,
+            CarbonCommonConstants.ENABLE_QUERY_PREFETCH_DEFAULT));
+  }
+
+  /**
+   * Below method will be used to get the number of threads which will scan
+   * the blocks in prefetch mode, by default it is number of cores
+   *
+   * @return number of scan threads
+   */
+  private int getNumberOfPrefetchThreads() {
+    CarbonProperties properties = CarbonProperties.getInstance();
+    String numberOfCores = properties.getProperty(CarbonCommonConstants.NUM_CORES,
+        CarbonCommonConstants.NUM_CORES_DEFAULT_VAL);
+    try {
+      int numberOfThreads = Integer.parseInt(
+          properties.getProperty(CarbonCommonConstants.QUERY_PREFETCH_THREADS, numberOfCores));
+      if (numberOfThreads > 0) {
+        return numberOfThreads;
+      }
+    } catch (NumberFormatException e) {
+      LOGGER.error("Invalid prefetch thread count. Using number of cores");
+    }
+    return Integer.parseInt(numberOfCores);
+  }
+
   /**
    * Below method will be used to finish the execution
    *
    * @throws QueryExecutionException
    */
   @Override public void finish() throws QueryExecutionException {
+    // release the blocks so they can be evicted from executor lru cache
+    BlockIndexStore.getInstance().clearAccessCount(queryProperties.dataBlocks);
+    boolean terminated = true;
     if (null != queryProperties.executorService) {
       queryProperties.executorService.shutdownNow();
+      try {
+        terminated = queryProperties.executorService
+            .awaitTermination(EXECUTOR_TERMINATION_TIMEOUT, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        terminated = false;
+      }
+    }
+    // block iterators can be freed only after scanning threads are stopped, as
+    // freeing the memory which is being read will crash the process
+    if (null != queryIterator) {
+      if (terminated) {
+        queryIterator.close();
+      } else {
+        LOGGER.error("Scanning threads are not stopped, so memory of the blocks is not freed");
+      }
     }
   }
 
@@ -21,23 +21,46 @@ package org.apache.carbondata.scan.executor.impl;
 import java.util.List;
 
 import org.apache.carbondata.common.CarbonIterator;
+import org.apache.carbondata.common.logging.LogService;
+import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.scan.executor.exception.QueryExecutionException;
 import org.apache.carbondata.scan.executor.infos.BlockExecutionInfo;
 import org.apache.carbondata.scan.model.QueryModel;
 import org.apache.carbondata.scan.result.iterator.DetailQueryResultIterator;
+import org.apache.carbondata.scan.result.iterator.PrefetchDetailQueryResultIterator;
+import org.apache.carbondata.scan.result.iterator.VectorDetailQueryResultIterator;
 
 /**
  * Below class will be used to execute the detail query
  * For executing the detail query it will pass all the block execution
- * info to detail query result iterator and iterator will be returned
+ * info to detail query result iterator and iterator will be returned.
+ * Prefetch mode is not supported by vector reader, so in case of vector
+ * reader prefetch is ignored
  */
 public class DetailQueryExecutor extends AbstractQueryExecutor {
 
+  private static final LogService LOGGER =
+      LogServiceFactory.getLogService(DetailQueryExecutor.class.getName());
+
   @Override public CarbonIterator<Object[]> execute(QueryModel queryModel)
       throws QueryExecutionException {
     List<BlockExecutionInfo> blockExecutionInfoList = getBlockExecutionInfos(queryModel);
-    return new DetailQueryResultIterator(blockExecutionInfoList, queryModel,
-        queryProperties.executorService);
+    if (queryModel.isVectorReader()) {
+      if (isPrefetchEnabled()) {
+        LOGGER.warn("Prefetch mode is not supported for vector reader, so "
+            + CarbonCommonConstants.ENABLE_QUERY_PREFETCH + " is ignored");
+      }
+      queryIterator = new VectorDetailQueryResultIterator(blockExecutionInfoList, queryModel,
+          queryProperties.executorService);
+    } else if (isPrefetchEnabled()) {
+      queryIterator = new PrefetchDetailQueryResultIterator(blockExecutionInfoList, queryModel,
+          queryProperties.executorService);
+    } else {
+      queryIterator = new DetailQueryResultIterator(blockExecutionInfoList, queryModel,
+          queryProperties.executorService);
+    }
+    return queryIterator;
   }
 
 }
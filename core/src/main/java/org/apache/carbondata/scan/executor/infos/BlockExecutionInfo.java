@@ -199,6 +199,11 @@ public class BlockExecutionInfo {
    */
   private boolean isRawRecordDetailQuery;
 
+  /**
+   * whether result has to be collected in columnar batches
+   */
+  private boolean isVectorBatchCollector;
+
   /**
    * start index of blocklets
    */
@@ -209,6 +214,12 @@ public class BlockExecutionInfo {
    */
   private int numberOfBlockletToScan;
 
+  /**
+   * sorted ids of the blocklets to be scanned, null if all the blocklets
+   * are to be scanned
+   */
+  private int[] blockletIdsToScan;
+
   /**
    * complexParentIndexToQueryMap
    */
@@ -637,6 +648,14 @@ public class BlockExecutionInfo {
     isRawRecordDetailQuery = rawRecordDetailQuery;
   }
 
+  public boolean isVectorBatchCollector() {
+    return isVectorBatchCollector;
+  }
+
+  public void setVectorBatchCollector(boolean vectorBatchCollector) {
+    isVectorBatchCollector = vectorBatchCollector;
+  }
+
   /**
    * @return the complexParentIndexToQueryMap
    */
@@ -724,4 +743,19 @@ public class BlockExecutionInfo {
   public void setStartBlockletIndex(int startBlockletIndex) {
     this.startBlockletIndex = startBlockletIndex;
   }
+
+  /**
+   * @return sorted ids of the blocklets to be scanned, null if all the
+   * blocklets are to be scanned
+   */
+  public int[] getBlockletIdsToScan() {
+    return blockletIdsToScan;
+  }
+
+  /**
+   * @param blockletIdsToScan sorted ids of the blocklets to be scanned
+   */
+  public void setBlockletIdsToScan(int[] blockletIdsToScan) {
+    this.blockletIdsToScan = blockletIdsToScan;
+  }
 }
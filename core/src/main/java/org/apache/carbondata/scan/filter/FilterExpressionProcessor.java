@@ -142,7 +142,7 @@ public class FilterExpressionProcessor implements FilterProcessor {
   }
 
   /**
-   * Selects the blocks based on col max and min value.
+   * Selects the blocks based on col max and min value and bloom filter.
    *
    * @param filterResolver
    * @param listOfDataBlocksToScan
@@ -155,6 +155,9 @@ public class FilterExpressionProcessor implements FilterProcessor {
 
     BitSet bitSet = filterExecuter
         .isScanRequired(dataRefNode.getColumnsMaxValue(), dataRefNode.getColumnsMinValue());
+    if (!bitSet.isEmpty()) {
+      bitSet = filterExecuter.isScanRequired(dataRefNode.getColumnsBloomFilter());
+    }
     if (!bitSet.isEmpty()) {
       listOfDataBlocksToScan.add(dataRefNode);
 
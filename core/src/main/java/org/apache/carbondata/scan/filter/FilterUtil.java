@@ -1413,6 +1413,28 @@ public final class FilterUtil {
 
   }
 
+  /**
+   * Below method will be used to set the rows of one run of a run length
+   * encoded column chunk. If column has inverted index each index of the run
+   * is mapped to its row id, otherwise the whole range is set in one call
+   *
+   * @param bitSet          bitset to be filled
+   * @param invertedIndexes inverted index of the chunk, null if not present
+   * @param from            start index of the run, inclusive
+   * @param to              end index of the run, exclusive
+   * @param value           value to be set for the rows of the run
+   */
+  public static void setRunToBitSet(BitSet bitSet, int[] invertedIndexes, int from, int to,
+      boolean value) {
+    if (null == invertedIndexes) {
+      bitSet.set(from, to, value);
+      return;
+    }
+    for (int j = from; j < to; j++) {
+      bitSet.set(invertedIndexes[j], value);
+    }
+  }
+
   /**
    * This method will prepare the list with all unknown expressions
    *
@@ -20,6 +20,7 @@ package org.apache.carbondata.scan.filter.executer;
 
 import java.util.BitSet;
 
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
 import org.apache.carbondata.scan.expression.exception.FilterUnsupportedException;
 import org.apache.carbondata.scan.processor.BlocksChunkHolder;
 
@@ -59,4 +60,17 @@ public class AndFilterExecuterImpl implements FilterExecuter {
     leftFilters.and(rightFilter);
     return leftFilters;
   }
+
+  @Override public BitSet isScanRequired(BlockletBloomFilter[] columnsBloomFilter) {
+    BitSet leftFilters = leftExecuter.isScanRequired(columnsBloomFilter);
+    if (leftFilters.isEmpty()) {
+      return leftFilters;
+    }
+    BitSet rightFilter = rightExecuter.isScanRequired(columnsBloomFilter);
+    if (rightFilter.isEmpty()) {
+      return rightFilter;
+    }
+    leftFilters.and(rightFilter);
+    return leftFilters;
+  }
 }
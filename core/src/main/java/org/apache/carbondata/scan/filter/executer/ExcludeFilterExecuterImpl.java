@@ -25,6 +25,7 @@ import org.apache.carbondata.core.carbon.datastore.block.SegmentProperties;
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionColumnDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.impl.FixedLengthDimensionDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.impl.VariableLengthDimensionDataChunk;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
 import org.apache.carbondata.core.util.ByteUtil;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.scan.filter.FilterUtil;
@@ -51,11 +52,13 @@ public class ExcludeFilterExecuterImpl implements FilterExecuter {
         .get(dimColEvaluatorInfo.getColumnIndex());
     if (null == blockChunkHolder.getDimensionDataChunk()[blockIndex]) {
       blockChunkHolder.getDataBlock()
-          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex);
+          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex,
+              blockChunkHolder.getBufferPool());
     }
     if (null == blockChunkHolder.getDimensionDataChunk()[blockIndex]) {
       blockChunkHolder.getDimensionDataChunk()[blockIndex] = blockChunkHolder.getDataBlock()
-          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex);
+          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex,
+              blockChunkHolder.getBufferPool());
     }
     return getFilteredIndexes(blockChunkHolder.getDimensionDataChunk()[blockIndex],
         blockChunkHolder.getDataBlock().nodeSize());
@@ -69,6 +72,11 @@ public class ExcludeFilterExecuterImpl implements FilterExecuter {
       return setDirectKeyFilterIndexToBitSet((VariableLengthDimensionDataChunk) dimColumnDataChunk,
           numerOfRows);
     }
+    if (dimColumnDataChunk instanceof FixedLengthDimensionDataChunk
+        && ((FixedLengthDimensionDataChunk) dimColumnDataChunk).isRunLengthEncoded()) {
+      return setFilterdIndexToBitSetForRuns((FixedLengthDimensionDataChunk) dimColumnDataChunk,
+          numerOfRows);
+    }
     if (null != dimColumnDataChunk.getAttributes().getInvertedIndexes()
         && dimColumnDataChunk instanceof FixedLengthDimensionDataChunk) {
       return setFilterdIndexToBitSetWithColumnIndex(
@@ -125,6 +133,33 @@ public class ExcludeFilterExecuterImpl implements FilterExecuter {
 
   }
 
+  /**
+   * Method will apply the filter on the runs of run length encoded chunk, rows
+   * of each run matching a filter value are cleared together
+   *
+   * @param dimColumnDataChunk
+   * @param numerOfRows
+   * @return BitSet.
+   */
+  private BitSet setFilterdIndexToBitSetForRuns(FixedLengthDimensionDataChunk dimColumnDataChunk,
+      int numerOfRows) {
+    BitSet bitSet = new BitSet(numerOfRows);
+    bitSet.flip(0, numerOfRows);
+    int[] columnIndex = dimColumnDataChunk.getAttributes().getInvertedIndexes();
+    byte[][] filterValues = dimColumnExecuterInfo.getFilterKeys();
+    int numberOfRuns = dimColumnDataChunk.getNumberOfRuns();
+    for (int run = 0; run < numberOfRuns; run++) {
+      for (int k = 0; k < filterValues.length; k++) {
+        if (dimColumnDataChunk.compareRunValue(run, filterValues[k]) == 0) {
+          FilterUtil.setRunToBitSet(bitSet, columnIndex, dimColumnDataChunk.getRunStart(run),
+              dimColumnDataChunk.getRunStart(run + 1), false);
+          break;
+        }
+      }
+    }
+    return bitSet;
+  }
+
   private BitSet setFilterdIndexToBitSetWithColumnIndex(
       FixedLengthDimensionDataChunk dimColumnDataChunk, int numerOfRows) {
     int[] columnIndex = dimColumnDataChunk.getAttributes().getInvertedIndexes();
@@ -144,9 +179,7 @@ public class ExcludeFilterExecuterImpl implements FilterExecuter {
       bitSet.flip(columnIndex[startKey]);
       last = startKey;
       for (int j = startKey + 1; j < numerOfRows; j++) {
-        if (ByteUtil.UnsafeComparer.INSTANCE
-            .compareTo(dimColumnDataChunk.getCompleteDataChunk(), j * filterValues[i].length,
-                filterValues[i].length, filterValues[i], 0, filterValues[i].length) == 0) {
+        if (dimColumnDataChunk.compareTo(j, filterValues[i]) == 0) {
           bitSet.flip(columnIndex[j]);
           last++;
         } else {
@@ -168,9 +201,7 @@ public class ExcludeFilterExecuterImpl implements FilterExecuter {
     byte[][] filterValues = dimColumnExecuterInfo.getFilterKeys();
     for (int k = 0; k < filterValues.length; k++) {
       for (int j = 0; j < numerOfRows; j++) {
-        if (ByteUtil.UnsafeComparer.INSTANCE
-            .compareTo(dimColumnDataChunk.getCompleteDataChunk(), j * filterValues[k].length,
-                filterValues[k].length, filterValues[k], 0, filterValues[k].length) == 0) {
+        if (dimColumnDataChunk.compareTo(j, filterValues[k]) == 0) {
           bitSet.flip(j);
         }
       }
@@ -183,4 +214,11 @@ public class ExcludeFilterExecuterImpl implements FilterExecuter {
     bitSet.flip(0, 1);
     return bitSet;
   }
+
+  @Override public BitSet isScanRequired(BlockletBloomFilter[] columnsBloomFilter) {
+    // bloom filter can not say that all the rows are excluded
+    BitSet bitSet = new BitSet(1);
+    bitSet.flip(0, 1);
+    return bitSet;
+  }
 }
@@ -20,6 +20,7 @@ package org.apache.carbondata.scan.filter.executer;
 
 import java.util.BitSet;
 
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
 import org.apache.carbondata.scan.expression.exception.FilterUnsupportedException;
 import org.apache.carbondata.scan.processor.BlocksChunkHolder;
 
@@ -42,4 +43,14 @@ public interface FilterExecuter {
    * @return BitSet
    */
   BitSet isScanRequired(byte[][] blockMaxValue, byte[][] blockMinValue);
+
+  /**
+   * API will verify whether the block can be shortlisted based on bloom
+   * filter of the block columns.
+   *
+   * @param columnsBloomFilter bloom filter of the columns indexed by block
+   *                           index, can be null
+   * @return BitSet
+   */
+  BitSet isScanRequired(BlockletBloomFilter[] columnsBloomFilter);
 }
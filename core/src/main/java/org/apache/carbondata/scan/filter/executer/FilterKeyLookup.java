@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.filter.executer;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.apache.carbondata.core.carbon.datastore.chunk.impl.FixedLengthDimensionDataChunk;
+
+/**
+ * Lookup structure built once over the filter keys of IN filter, so that
+ * column chunk can be evaluated in a single pass instead of comparing every
+ * row with every filter key.
+ * For fixed length keys(dictionary surrogates) keys are converted to long and
+ * a direct lookup bitmap is used when max key is small, otherwise an open
+ * addressing hash set is used. For variable length keys(no dictionary values)
+ * an open addressing hash set over byte arrays is used
+ */
+public class FilterKeyLookup {
+
+  /**
+   * max key value up to which direct lookup bitmap will be used
+   */
+  private static final long MAX_DIRECT_LOOKUP_KEY = 1 << 22;
+
+  /**
+   * max fixed key size which can be converted to long
+   */
+  private static final int MAX_FIXED_KEY_SIZE = 8;
+
+  /**
+   * size of the fixed length key, -1 in case of variable length keys
+   */
+  private int keySize;
+
+  /**
+   * direct lookup bitmap for small fixed length keys
+   */
+  private BitSet directLookup;
+
+  /**
+   * hash table for fixed length keys
+   */
+  private long[] longTable;
+
+  /**
+   * occupied slots of fixed length key hash table
+   */
+  private boolean[] occupied;
+
+  /**
+   * hash table for variable length keys
+   */
+  private byte[][] bytesTable;
+
+  /**
+   * mask to get the slot from hash
+   */
+  private int mask;
+
+  private FilterKeyLookup(int keySize) {
+    this.keySize = keySize;
+  }
+
+  /**
+   * Below method will be used to create the lookup for fixed length keys
+   *
+   * @param filterKeys filter keys, all of same length
+   * @return lookup or null if keys cannot be converted to long
+   */
+  public static FilterKeyLookup createFixedLengthLookup(byte[][] filterKeys) {
+    if (filterKeys.length == 0 || filterKeys[0].length > MAX_FIXED_KEY_SIZE) {
+      return null;
+    }
+    int keySize = filterKeys[0].length;
+    FilterKeyLookup lookup = new FilterKeyLookup(keySize);
+    long[] keys = new long[filterKeys.length];
+    long maxKey = 0;
+    for (int i = 0; i < filterKeys.length; i++) {
+      if (filterKeys[i].length != keySize) {
+        return null;
+      }
+      keys[i] = toLong(filterKeys[i], 0, keySize);
+      maxKey = Math.max(maxKey, keys[i]);
+    }
+    if (keySize < MAX_FIXED_KEY_SIZE && maxKey < MAX_DIRECT_LOOKUP_KEY) {
+      lookup.directLookup = new BitSet((int) maxKey + 1);
+      for (long key : keys) {
+        lookup.directLookup.set((int) key);
+      }
+    } else {
+      int capacity = tableSize(keys.length);
+      lookup.mask = capacity - 1;
+      lookup.longTable = new long[capacity];
+      lookup.occupied = new boolean[capacity];
+      for (long key : keys) {
+        int slot = lookup.slot(key);
+        lookup.longTable[slot] = key;
+        lookup.occupied[slot] = true;
+      }
+    }
+    return lookup;
+  }
+
+  /**
+   * Below method will be used to create the lookup for variable length keys
+   *
+   * @param filterKeys filter keys
+   * @return lookup
+   */
+  public static FilterKeyLookup createVariableLengthLookup(byte[][] filterKeys) {
+    FilterKeyLookup lookup = new FilterKeyLookup(-1);
+    int capacity = tableSize(filterKeys.length);
+    lookup.mask = capacity - 1;
+    lookup.bytesTable = new byte[capacity][];
+    for (byte[] key : filterKeys) {
+      int slot = lookup.slot(key);
+      lookup.bytesTable[slot] = key;
+    }
+    return lookup;
+  }
+
+  /**
+   * table size is power of 2 and at least twice the number of keys
+   */
+  private static int tableSize(int numberOfKeys) {
+    int capacity = 2;
+    while (capacity < numberOfKeys * 2) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private static long toLong(byte[] data, int offset, int length) {
+    long value = 0;
+    for (int i = offset; i < offset + length; i++) {
+      value = (value << 8) | (data[i] & 0xFF);
+    }
+    return value;
+  }
+
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private static int hash(byte[] key) {
+    int h = Arrays.hashCode(key);
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * returns the slot where key is present or the empty slot where key can be added
+   */
+  private int slot(long key) {
+    int slot = hash(key) & mask;
+    while (occupied[slot] && longTable[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private int slot(byte[] key) {
+    int slot = hash(key) & mask;
+    while (null != bytesTable[slot] && !Arrays.equals(bytesTable[slot], key)) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * Below method will be used to check whether fixed length key present in
+   * the data at given offset is one of the filter keys
+   */
+  public boolean contains(byte[] data, int offset) {
+    long key = toLong(data, offset, keySize);
+    if (null != directLookup) {
+      return key < MAX_DIRECT_LOOKUP_KEY && directLookup.get((int) key);
+    }
+    return occupied[slot(key)];
+  }
+
+  /**
+   * Below method will be used to check whether variable length key is one of
+   * the filter keys
+   */
+  public boolean contains(byte[] key) {
+    return null != bytesTable[slot(key)];
+  }
+
+  /**
+   * Below method will be used to check whether fixed length key is one of
+   * the filter keys
+   */
+  public boolean contains(long key) {
+    if (null != directLookup) {
+      return key >= 0 && key < MAX_DIRECT_LOOKUP_KEY && directLookup.get((int) key);
+    }
+    return occupied[slot(key)];
+  }
+
+  /**
+   * Below method will be used to set the rows of fixed length column chunk
+   * whose key is one of the filter keys. Heap chunk is read directly from its
+   * data array and off heap chunk is read through its accessor
+   *
+   * @param dimensionChunk fixed length column chunk
+   * @param numerOfRows    number of rows in the chunk
+   * @param bitSet         bitset to be filled
+   */
+  public void setFilteredIndexes(FixedLengthDimensionDataChunk dimensionChunk, int numerOfRows,
+      BitSet bitSet) {
+    if (!dimensionChunk.isOffHeap()) {
+      setFilteredIndexes(dimensionChunk.getCompleteDataChunk(), numerOfRows, bitSet);
+      return;
+    }
+    for (int j = 0; j < numerOfRows; j++) {
+      if (contains(dimensionChunk.getKeyValue(j))) {
+        bitSet.set(j);
+      }
+    }
+  }
+
+  /**
+   * Below method will be used to set the rows of fixed length column chunk
+   * whose key is one of the filter keys
+   *
+   * @param data        complete data of the chunk
+   * @param numerOfRows number of rows in the chunk
+   * @param bitSet      bitset to be filled
+   */
+  public void setFilteredIndexes(byte[] data, int numerOfRows, BitSet bitSet) {
+    int offset = 0;
+    for (int j = 0; j < numerOfRows; j++) {
+      if (contains(data, offset)) {
+        bitSet.set(j);
+      }
+      offset += keySize;
+    }
+  }
+
+  /**
+   * Below method will be used to set the rows of variable length column chunk
+   * whose value is one of the filter keys
+   *
+   * @param data                chunk data in stored order
+   * @param invertedIndexReverse row id to stored position mapping, can be null
+   * @param bitSet              bitset to be filled
+   */
+  public void setFilteredIndexes(List<byte[]> data, int[] invertedIndexReverse, BitSet bitSet) {
+    int numberOfRows = data.size();
+    for (int rowId = 0; rowId < numberOfRows; rowId++) {
+      int position = null == invertedIndexReverse ? rowId : invertedIndexReverse[rowId];
+      if (contains(data.get(position))) {
+        bitSet.set(rowId);
+      }
+    }
+  }
+}
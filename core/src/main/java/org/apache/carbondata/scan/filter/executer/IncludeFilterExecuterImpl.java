@@ -25,6 +25,8 @@ import org.apache.carbondata.core.carbon.datastore.block.SegmentProperties;
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionColumnDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.impl.FixedLengthDimensionDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.impl.VariableLengthDimensionDataChunk;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
+import org.apache.carbondata.core.carbon.metadata.encoder.Encoding;
 import org.apache.carbondata.core.util.ByteUtil;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.scan.filter.FilterUtil;
@@ -33,10 +35,21 @@ import org.apache.carbondata.scan.processor.BlocksChunkHolder;
 
 public class IncludeFilterExecuterImpl implements FilterExecuter {
 
+  /**
+   * minimum number of filter keys from which filter keys lookup will be used
+   * instead of comparing each row with each filter key
+   */
+  private static final int MIN_KEYS_FOR_LOOKUP = 2;
+
   protected DimColumnResolvedFilterInfo dimColumnEvaluatorInfo;
   protected DimColumnExecuterFilterInfo dimColumnExecuterInfo;
   protected SegmentProperties segmentProperties;
 
+  /**
+   * lookup over filter keys, created once and reused for all the blocklets
+   */
+  private FilterKeyLookup filterKeyLookup;
+
   public IncludeFilterExecuterImpl(DimColumnResolvedFilterInfo dimColumnEvaluatorInfo,
       SegmentProperties segmentProperties) {
     this.dimColumnEvaluatorInfo = dimColumnEvaluatorInfo;
@@ -53,7 +66,8 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
         .get(dimColumnEvaluatorInfo.getColumnIndex());
     if (null == blockChunkHolder.getDimensionDataChunk()[blockIndex]) {
       blockChunkHolder.getDimensionDataChunk()[blockIndex] = blockChunkHolder.getDataBlock()
-          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex);
+          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex,
+              blockChunkHolder.getBufferPool());
     }
     return getFilteredIndexes(blockChunkHolder.getDimensionDataChunk()[blockIndex],
         blockChunkHolder.getDataBlock().nodeSize());
@@ -65,6 +79,10 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
         && dimensionColumnDataChunk instanceof VariableLengthDimensionDataChunk) {
       return setDirectKeyFilterIndexToBitSet(
           (VariableLengthDimensionDataChunk) dimensionColumnDataChunk, numerOfRows);
+    } else if (dimensionColumnDataChunk instanceof FixedLengthDimensionDataChunk
+        && ((FixedLengthDimensionDataChunk) dimensionColumnDataChunk).isRunLengthEncoded()) {
+      return setFilterdIndexToBitSetForRuns(
+          (FixedLengthDimensionDataChunk) dimensionColumnDataChunk, numerOfRows);
     } else if (null != dimensionColumnDataChunk.getAttributes().getInvertedIndexes()
         && dimensionColumnDataChunk instanceof FixedLengthDimensionDataChunk) {
       return setFilterdIndexToBitSetWithColumnIndex(
@@ -83,6 +101,15 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
     int[] columnIndexArray = dimensionColumnDataChunk.getAttributes().getInvertedIndexes();
     int[] columnReverseIndexArray =
         dimensionColumnDataChunk.getAttributes().getInvertedIndexesReverse();
+    if (filterValues.length >= MIN_KEYS_FOR_LOOKUP
+        && null != listOfColumnarKeyBlockDataForNoDictionaryVals) {
+      if (null == filterKeyLookup) {
+        filterKeyLookup = FilterKeyLookup.createVariableLengthLookup(filterValues);
+      }
+      filterKeyLookup.setFilteredIndexes(listOfColumnarKeyBlockDataForNoDictionaryVals,
+          columnReverseIndexArray, bitSet);
+      return bitSet;
+    }
     for (int i = 0; i < filterValues.length; i++) {
       byte[] filterVal = filterValues[i];
       if (null != listOfColumnarKeyBlockDataForNoDictionaryVals) {
@@ -118,6 +145,32 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
 
   }
 
+  /**
+   * Method will apply the filter on the runs of run length encoded chunk, each
+   * run is compared once and all its rows are set together
+   *
+   * @param dimensionColumnDataChunk
+   * @param numerOfRows
+   * @return BitSet.
+   */
+  private BitSet setFilterdIndexToBitSetForRuns(
+      FixedLengthDimensionDataChunk dimensionColumnDataChunk, int numerOfRows) {
+    BitSet bitSet = new BitSet(numerOfRows);
+    int[] columnIndex = dimensionColumnDataChunk.getAttributes().getInvertedIndexes();
+    byte[][] filterValues = dimColumnExecuterInfo.getFilterKeys();
+    int numberOfRuns = dimensionColumnDataChunk.getNumberOfRuns();
+    for (int run = 0; run < numberOfRuns; run++) {
+      for (int k = 0; k < filterValues.length; k++) {
+        if (dimensionColumnDataChunk.compareRunValue(run, filterValues[k]) == 0) {
+          FilterUtil.setRunToBitSet(bitSet, columnIndex, dimensionColumnDataChunk.getRunStart(run),
+              dimensionColumnDataChunk.getRunStart(run + 1), true);
+          break;
+        }
+      }
+    }
+    return bitSet;
+  }
+
   private BitSet setFilterdIndexToBitSetWithColumnIndex(
       FixedLengthDimensionDataChunk dimensionColumnDataChunk, int numerOfRows) {
     BitSet bitSet = new BitSet(numerOfRows);
@@ -136,9 +189,7 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
       bitSet.set(columnIndex[start]);
       last = start;
       for (int j = start + 1; j < numerOfRows; j++) {
-        if (ByteUtil.UnsafeComparer.INSTANCE
-            .compareTo(dimensionColumnDataChunk.getCompleteDataChunk(), j * filterValues[i].length,
-                filterValues[i].length, filterValues[i], 0, filterValues[i].length) == 0) {
+        if (dimensionColumnDataChunk.compareTo(j, filterValues[i]) == 0) {
           bitSet.set(columnIndex[j]);
           last++;
         } else {
@@ -160,11 +211,18 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
       FixedLengthDimensionDataChunk fixedDimensionChunk =
           (FixedLengthDimensionDataChunk) dimensionColumnDataChunk;
       byte[][] filterValues = dimColumnExecuterInfo.getFilterKeys();
+      if (filterValues.length >= MIN_KEYS_FOR_LOOKUP) {
+        if (null == filterKeyLookup) {
+          filterKeyLookup = FilterKeyLookup.createFixedLengthLookup(filterValues);
+        }
+        if (null != filterKeyLookup) {
+          filterKeyLookup.setFilteredIndexes(fixedDimensionChunk, numerOfRows, bitSet);
+          return bitSet;
+        }
+      }
       for (int k = 0; k < filterValues.length; k++) {
         for (int j = 0; j < numerOfRows; j++) {
-          if (ByteUtil.UnsafeComparer.INSTANCE
-              .compareTo(fixedDimensionChunk.getCompleteDataChunk(), j * filterValues[k].length,
-                  filterValues[k].length, filterValues[k], 0, filterValues[k].length) == 0) {
+          if (fixedDimensionChunk.compareTo(j, filterValues[k]) == 0) {
             bitSet.set(j);
           }
         }
@@ -203,4 +261,31 @@ public class IncludeFilterExecuterImpl implements FilterExecuter {
     return bitSet;
   }
 
+  @Override public BitSet isScanRequired(BlockletBloomFilter[] columnsBloomFilter) {
+    BitSet bitSet = new BitSet(1);
+    // bloom filter is present only for no dictionary columns
+    if (null == columnsBloomFilter || dimColumnEvaluatorInfo.getDimension()
+        .hasEncoding(Encoding.DICTIONARY)) {
+      bitSet.set(0);
+      return bitSet;
+    }
+    int blockIndex = segmentProperties.getDimensionOrdinalToBlockMapping()
+        .get(dimColumnEvaluatorInfo.getColumnIndex());
+    if (blockIndex >= columnsBloomFilter.length || null == columnsBloomFilter[blockIndex]) {
+      bitSet.set(0);
+      return bitSet;
+    }
+    BlockletBloomFilter bloomFilter = columnsBloomFilter[blockIndex];
+    byte[][] filterValues = dimColumnExecuterInfo.getFilterKeys();
+    for (int k = 0; k < filterValues.length; k++) {
+      // if any filter value might be present than this block needs to be
+      // scanned
+      if (bloomFilter.mightContain(filterValues[k])) {
+        bitSet.set(0);
+        break;
+      }
+    }
+    return bitSet;
+  }
+
 }
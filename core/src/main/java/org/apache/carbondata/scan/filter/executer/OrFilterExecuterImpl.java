@@ -20,6 +20,7 @@ package org.apache.carbondata.scan.filter.executer;
 
 import java.util.BitSet;
 
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
 import org.apache.carbondata.scan.expression.exception.FilterUnsupportedException;
 import org.apache.carbondata.scan.processor.BlocksChunkHolder;
 
@@ -49,4 +50,11 @@ public class OrFilterExecuterImpl implements FilterExecuter {
     return leftFilters;
   }
 
+
+  @Override public BitSet isScanRequired(BlockletBloomFilter[] columnsBloomFilter) {
+    BitSet leftFilters = leftExecuter.isScanRequired(columnsBloomFilter);
+    BitSet rightFilters = rightExecuter.isScanRequired(columnsBloomFilter);
+    leftFilters.or(rightFilters);
+    return leftFilters;
+  }
 }
@@ -21,6 +21,7 @@ package org.apache.carbondata.scan.filter.executer;
 import java.util.BitSet;
 
 import org.apache.carbondata.core.carbon.datastore.block.SegmentProperties;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
 import org.apache.carbondata.scan.filter.FilterUtil;
 import org.apache.carbondata.scan.filter.resolver.resolverinfo.DimColumnResolvedFilterInfo;
 import org.apache.carbondata.scan.processor.BlocksChunkHolder;
@@ -51,4 +52,10 @@ public class RestructureFilterExecuterImpl implements FilterExecuter {
     bitSet.set(0);
     return bitSet;
   }
+
+  @Override public BitSet isScanRequired(BlockletBloomFilter[] columnsBloomFilter) {
+    BitSet bitSet = new BitSet(1);
+    bitSet.set(0);
+    return bitSet;
+  }
 }
@@ -34,6 +34,7 @@ import org.apache.carbondata.core.cache.dictionary.Dictionary;
 import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
 import org.apache.carbondata.core.carbon.datastore.block.SegmentProperties;
 import org.apache.carbondata.core.carbon.datastore.chunk.impl.VariableLengthDimensionDataChunk;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
 import org.apache.carbondata.core.carbon.metadata.datatype.DataType;
 import org.apache.carbondata.core.carbon.metadata.encoder.Encoding;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
@@ -101,7 +102,8 @@ public class RowLevelFilterExecuterImpl implements FilterExecuter {
           && dimColumnEvaluatorInfo.getDimension().getDataType() != DataType.STRUCT) {
         if (null == blockChunkHolder.getDimensionDataChunk()[blocksIndex[i]]) {
           blockChunkHolder.getDimensionDataChunk()[blocksIndex[i]] = blockChunkHolder.getDataBlock()
-              .getDimensionChunk(blockChunkHolder.getFileReader(), blocksIndex[i]);
+              .getDimensionChunk(blockChunkHolder.getFileReader(), blocksIndex[i],
+                  blockChunkHolder.getBufferPool());
         }
       } else {
         GenericQueryType complexType = complexDimensionInfoMap.get(blocksIndex[i]);
@@ -116,7 +118,7 @@ public class RowLevelFilterExecuterImpl implements FilterExecuter {
             .getMeasureDataChunk()[msrColumnEvalutorInfo.getColumnIndex()]) {
           blockChunkHolder.getMeasureDataChunk()[msrColumnEvalutorInfo.getColumnIndex()] =
               blockChunkHolder.getDataBlock().getMeasureChunk(blockChunkHolder.getFileReader(),
-                  msrColumnEvalutorInfo.getColumnIndex());
+                  msrColumnEvalutorInfo.getColumnIndex(), blockChunkHolder.getBufferPool());
         }
       }
     }
@@ -399,4 +401,10 @@ public class RowLevelFilterExecuterImpl implements FilterExecuter {
     bitSet.set(0);
     return bitSet;
   }
+
+  @Override public BitSet isScanRequired(BlockletBloomFilter[] columnsBloomFilter) {
+    BitSet bitSet = new BitSet(1);
+    bitSet.set(0);
+    return bitSet;
+  }
 }
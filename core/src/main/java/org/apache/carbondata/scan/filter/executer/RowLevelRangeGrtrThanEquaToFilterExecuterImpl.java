@@ -30,6 +30,7 @@ import org.apache.carbondata.core.util.ByteUtil;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.scan.expression.Expression;
 import org.apache.carbondata.scan.expression.exception.FilterUnsupportedException;
+import org.apache.carbondata.scan.filter.FilterUtil;
 import org.apache.carbondata.scan.filter.resolver.resolverinfo.DimColumnResolvedFilterInfo;
 import org.apache.carbondata.scan.filter.resolver.resolverinfo.MeasureColumnResolvedFilterInfo;
 import org.apache.carbondata.scan.processor.BlocksChunkHolder;
@@ -82,7 +83,8 @@ public class RowLevelRangeGrtrThanEquaToFilterExecuterImpl extends RowLevelFilte
         .get(dimColEvaluatorInfoList.get(0).getColumnIndex());
     if (null == blockChunkHolder.getDimensionDataChunk()[blockIndex]) {
       blockChunkHolder.getDimensionDataChunk()[blockIndex] = blockChunkHolder.getDataBlock()
-          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex);
+          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex,
+              blockChunkHolder.getBufferPool());
     }
     return getFilteredIndexes(blockChunkHolder.getDimensionDataChunk()[blockIndex],
         blockChunkHolder.getDataBlock().nodeSize());
@@ -90,6 +92,11 @@ public class RowLevelRangeGrtrThanEquaToFilterExecuterImpl extends RowLevelFilte
 
   private BitSet getFilteredIndexes(DimensionColumnDataChunk dimensionColumnDataChunk,
       int numerOfRows) {
+    if (dimensionColumnDataChunk instanceof FixedLengthDimensionDataChunk
+        && ((FixedLengthDimensionDataChunk) dimensionColumnDataChunk).isRunLengthEncoded()) {
+      return setFilterdIndexToBitSetForRuns(
+          (FixedLengthDimensionDataChunk) dimensionColumnDataChunk, numerOfRows);
+    }
     if (null != dimensionColumnDataChunk.getAttributes().getInvertedIndexes()
         && dimensionColumnDataChunk instanceof FixedLengthDimensionDataChunk) {
       return setFilterdIndexToBitSetWithColumnIndex(
@@ -98,6 +105,32 @@ public class RowLevelRangeGrtrThanEquaToFilterExecuterImpl extends RowLevelFilte
     return setFilterdIndexToBitSet(dimensionColumnDataChunk, numerOfRows);
   }
 
+  /**
+   * Method will apply the filter on the runs of run length encoded chunk, all
+   * rows of a run whose value is greater than or equal to filter member are set together
+   *
+   * @param dimensionColumnDataChunk
+   * @param numerOfRows
+   * @return BitSet.
+   */
+  private BitSet setFilterdIndexToBitSetForRuns(
+      FixedLengthDimensionDataChunk dimensionColumnDataChunk, int numerOfRows) {
+    BitSet bitSet = new BitSet(numerOfRows);
+    int[] columnIndex = dimensionColumnDataChunk.getAttributes().getInvertedIndexes();
+    byte[][] filterValues = this.filterRangeValues;
+    int numberOfRuns = dimensionColumnDataChunk.getNumberOfRuns();
+    for (int run = 0; run < numberOfRuns; run++) {
+      for (int k = 0; k < filterValues.length; k++) {
+        if (dimensionColumnDataChunk.compareRunValue(run, filterValues[k]) >= 0) {
+          FilterUtil.setRunToBitSet(bitSet, columnIndex, dimensionColumnDataChunk.getRunStart(run),
+              dimensionColumnDataChunk.getRunStart(run + 1), true);
+          break;
+        }
+      }
+    }
+    return bitSet;
+  }
+
   /**
    * Method will scan the block and finds the range start index from which all members
    * will be considered for applying range filters. this method will be called if the
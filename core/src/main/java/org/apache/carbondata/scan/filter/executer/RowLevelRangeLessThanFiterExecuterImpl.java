@@ -84,7 +84,8 @@ public class RowLevelRangeLessThanFiterExecuterImpl extends RowLevelFilterExecut
         .get(dimColEvaluatorInfoList.get(0).getColumnIndex());
     if (null == blockChunkHolder.getDimensionDataChunk()[blockIndex]) {
       blockChunkHolder.getDimensionDataChunk()[blockIndex] = blockChunkHolder.getDataBlock()
-          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex);
+          .getDimensionChunk(blockChunkHolder.getFileReader(), blockIndex,
+              blockChunkHolder.getBufferPool());
     }
     return getFilteredIndexes(blockChunkHolder.getDimensionDataChunk()[blockIndex],
         blockChunkHolder.getDataBlock().nodeSize());
@@ -101,6 +102,11 @@ public class RowLevelRangeLessThanFiterExecuterImpl extends RowLevelFilterExecut
       defaultValue = FilterUtil.getMaskKey(key, dimColEvaluatorInfoList.get(0).getDimension(),
           this.segmentProperties.getDimensionKeyGenerator());
     }
+    if (dimensionColumnDataChunk instanceof FixedLengthDimensionDataChunk
+        && ((FixedLengthDimensionDataChunk) dimensionColumnDataChunk).isRunLengthEncoded()) {
+      return setFilterdIndexToBitSetForRuns(
+          (FixedLengthDimensionDataChunk) dimensionColumnDataChunk, numerOfRows, defaultValue);
+    }
     if (null != dimensionColumnDataChunk.getAttributes().getInvertedIndexes()
         && dimensionColumnDataChunk instanceof FixedLengthDimensionDataChunk) {
       return setFilterdIndexToBitSetWithColumnIndex(
@@ -109,6 +115,39 @@ public class RowLevelRangeLessThanFiterExecuterImpl extends RowLevelFilterExecut
     return setFilterdIndexToBitSet(dimensionColumnDataChunk, numerOfRows, defaultValue);
   }
 
+  /**
+   * Method will apply the filter on the runs of run length encoded chunk, all
+   * rows of a run whose value is less than filter member are set together
+   *
+   * @param dimensionColumnDataChunk
+   * @param numerOfRows
+   * @param defaultValue
+   * @return BitSet.
+   */
+  private BitSet setFilterdIndexToBitSetForRuns(
+      FixedLengthDimensionDataChunk dimensionColumnDataChunk, int numerOfRows,
+      byte[] defaultValue) {
+    BitSet bitSet = new BitSet(numerOfRows);
+    int[] columnIndex = dimensionColumnDataChunk.getAttributes().getInvertedIndexes();
+    byte[][] filterValues = this.filterRangeValues;
+    int numberOfRuns = dimensionColumnDataChunk.getNumberOfRuns();
+    for (int run = 0; run < numberOfRuns; run++) {
+      // rows lesser than default value are null values of direct dictionary
+      if (null != defaultValue
+          && dimensionColumnDataChunk.compareRunValue(run, defaultValue) < 0) {
+        continue;
+      }
+      for (int k = 0; k < filterValues.length; k++) {
+        if (dimensionColumnDataChunk.compareRunValue(run, filterValues[k]) < 0) {
+          FilterUtil.setRunToBitSet(bitSet, columnIndex, dimensionColumnDataChunk.getRunStart(run),
+              dimensionColumnDataChunk.getRunStart(run + 1), true);
+          break;
+        }
+      }
+    }
+    return bitSet;
+  }
+
   /**
    * Method will scan the block and finds the range start index from which all members
    * will be considered for applying range filters. this method will be called if the
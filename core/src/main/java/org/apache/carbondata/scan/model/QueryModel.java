@@ -119,6 +119,11 @@ public class QueryModel implements Serializable {
    * raw detailed records to it.
    */
   private boolean forcedDetailRawQuery;
+  /**
+   * whether result has to be returned as columnar batches instead of rows,
+   * it is supported only for detail query without complex dimensions
+   */
+  private boolean vectorReader;
   /**
    * partition column list
    */
@@ -483,6 +488,14 @@ public class QueryModel implements Serializable {
     this.forcedDetailRawQuery = forcedDetailRawQuery;
   }
 
+  public boolean isVectorReader() {
+    return vectorReader;
+  }
+
+  public void setVectorReader(boolean vectorReader) {
+    this.vectorReader = vectorReader;
+  }
+
   /**
    * @return
    */
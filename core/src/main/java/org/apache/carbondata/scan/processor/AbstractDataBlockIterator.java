@@ -28,10 +28,12 @@ import org.apache.carbondata.core.carbon.querystatistics.QueryStatisticsModel;
 import org.apache.carbondata.core.datastorage.store.FileHolder;
 import org.apache.carbondata.scan.collector.ScannedResultCollector;
 import org.apache.carbondata.scan.collector.impl.DictionaryBasedResultCollector;
+import org.apache.carbondata.scan.collector.impl.DictionaryBasedVectorResultCollector;
 import org.apache.carbondata.scan.collector.impl.RawBasedResultCollector;
 import org.apache.carbondata.scan.executor.exception.QueryExecutionException;
 import org.apache.carbondata.scan.executor.infos.BlockExecutionInfo;
 import org.apache.carbondata.scan.result.AbstractScannedResult;
+import org.apache.carbondata.scan.result.ColumnarBatch;
 import org.apache.carbondata.scan.scanner.BlockletScanner;
 import org.apache.carbondata.scan.scanner.impl.FilterScanner;
 import org.apache.carbondata.scan.scanner.impl.NonFilterScanner;
@@ -82,8 +84,14 @@ public abstract class AbstractDataBlockIterator extends CarbonIterator<List<Obje
   public AbstractDataBlockIterator(BlockExecutionInfo blockExecutionInfo,
       FileHolder fileReader, int batchSize, QueryStatisticsModel queryStatisticsModel) {
     this.blockExecutionInfo = blockExecutionInfo;
-    dataBlockIterator = new BlockletIterator(blockExecutionInfo.getFirstDataBlock(),
-        blockExecutionInfo.getNumberOfBlockToScan());
+    if (null != blockExecutionInfo.getBlockletIdsToScan()) {
+      dataBlockIterator = new BlockletIdIterator(blockExecutionInfo.getFirstDataBlock(),
+          blockExecutionInfo.getBlockletIdsToScan(), blockExecutionInfo.getStartBlockletIndex(),
+          blockExecutionInfo.getNumberOfBlockletToScan());
+    } else {
+      dataBlockIterator = new BlockletIterator(blockExecutionInfo.getFirstDataBlock(),
+          blockExecutionInfo.getNumberOfBlockToScan());
+    }
     blocksChunkHolder = new BlocksChunkHolder(blockExecutionInfo.getTotalNumberDimensionBlock(),
         blockExecutionInfo.getTotalNumberOfMeasureBlock());
     blocksChunkHolder.setFileReader(fileReader);
@@ -96,6 +104,9 @@ public abstract class AbstractDataBlockIterator extends CarbonIterator<List<Obje
     if (blockExecutionInfo.isRawRecordDetailQuery()) {
       this.scannerResultAggregator =
           new RawBasedResultCollector(blockExecutionInfo);
+    } else if (blockExecutionInfo.isVectorBatchCollector()) {
+      this.scannerResultAggregator =
+          new DictionaryBasedVectorResultCollector(blockExecutionInfo);
     } else {
       this.scannerResultAggregator =
           new DictionaryBasedResultCollector(blockExecutionInfo);
@@ -112,6 +123,23 @@ public abstract class AbstractDataBlockIterator extends CarbonIterator<List<Obje
     }
   }
 
+  /**
+   * It scans the block and fills the columnar batch till it is full or the
+   * block is exhausted
+   *
+   * @param columnarBatch batch to be filled, it will be reset before filling
+   */
+  public void processNextBatch(ColumnarBatch columnarBatch) {
+    columnarBatch.reset();
+    while (!columnarBatch.isFull() && updateScanner()) {
+      this.scannerResultAggregator.collectVectorBatch(scannedResult, columnarBatch);
+    }
+    if (!hasNext()) {
+      // all the blocklets are scanned, so free the last blocklet
+      freeBlockletMemory();
+    }
+  }
+
   protected boolean updateScanner() {
     try {
       if (scannedResult != null && scannedResult.hasNext()) {
@@ -132,6 +160,8 @@ public abstract class AbstractDataBlockIterator extends CarbonIterator<List<Obje
   }
 
   private AbstractScannedResult getNextScannedResult() throws QueryExecutionException {
+    // rows of previous blocklet are already collected, so its chunks can be freed
+    freeBlockletMemory();
     if (dataBlockIterator.hasNext()) {
       blocksChunkHolder.setDataBlock(dataBlockIterator.next());
       blocksChunkHolder.reset();
@@ -140,5 +170,23 @@ public abstract class AbstractDataBlockIterator extends CarbonIterator<List<Obje
     return null;
   }
 
+  /**
+   * Below method will be used to free the memory held by the iterator, it
+   * is called when the block is not scanned till the end, e.g. limit query,
+   * task failure or cancellation
+   */
+  public void close() {
+    freeBlockletMemory();
+  }
 
+  /**
+   * Below method will be used to free the memory of the chunks read for the
+   * last scanned blocklet
+   */
+  protected void freeBlockletMemory() {
+    if (null != scannedResult) {
+      scannedResult.freeMemory();
+    }
+    blocksChunkHolder.freeMemory();
+  }
 }
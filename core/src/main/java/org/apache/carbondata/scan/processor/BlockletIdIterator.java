@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.processor;
+
+import org.apache.carbondata.common.CarbonIterator;
+import org.apache.carbondata.core.carbon.datastore.DataRefNode;
+
+/**
+ * Below class will be used to iterate over only the given blocklets of a
+ * data block, blocklets which are not present in the given ids are skipped
+ * without reading them
+ */
+public class BlockletIdIterator extends CarbonIterator<DataRefNode> {
+
+  /**
+   * next data block to be returned, null if no more blocks
+   */
+  private DataRefNode datablock;
+
+  /**
+   * sorted ids of blocklets to be scanned
+   */
+  private int[] blockletIds;
+
+  /**
+   * index of the next blocklet id to be scanned
+   */
+  private int blockletIdIndex;
+
+  /**
+   * Constructor
+   *
+   * @param datablock              first data block
+   * @param blockletIds            sorted ids of blocklets to be scanned
+   * @param startBlockletIndex     first blocklet of the block assigned to this scan
+   * @param numberOfBlockletToScan number of blocklets assigned to this scan, all the
+   *                               blocklets after the start if it is not positive
+   */
+  public BlockletIdIterator(DataRefNode datablock, int[] blockletIds, int startBlockletIndex,
+      int numberOfBlockletToScan) {
+    this.datablock = datablock;
+    this.blockletIds =
+        getBlockletIdsToScan(blockletIds, startBlockletIndex, numberOfBlockletToScan);
+    moveToNextBlocklet();
+  }
+
+  /**
+   * Below method will be used to get the blocklet ids within the blocklets
+   * assigned to the scan, when a block is distributed to multiple tasks each
+   * task gets a range of blocklets and must scan only the ids in its range
+   *
+   * @param blockletIds            sorted ids of blocklets to be scanned
+   * @param startBlockletIndex     first blocklet assigned to the scan
+   * @param numberOfBlockletToScan number of blocklets assigned to the scan, all the
+   *                               blocklets after the start if it is not positive
+   * @return sorted ids in the range
+   */
+  public static int[] getBlockletIdsToScan(int[] blockletIds, int startBlockletIndex,
+      int numberOfBlockletToScan) {
+    long endBlockletIndex = numberOfBlockletToScan > 0 ?
+        (long) startBlockletIndex + numberOfBlockletToScan :
+        Long.MAX_VALUE;
+    int from = 0;
+    while (from < blockletIds.length && blockletIds[from] < startBlockletIndex) {
+      from++;
+    }
+    int to = from;
+    while (to < blockletIds.length && blockletIds[to] < endBlockletIndex) {
+      to++;
+    }
+    if (from == 0 && to == blockletIds.length) {
+      return blockletIds;
+    }
+    int[] blockletIdsToScan = new int[to - from];
+    System.arraycopy(blockletIds, from, blockletIdsToScan, 0, blockletIdsToScan.length);
+    return blockletIdsToScan;
+  }
+
+  @Override public boolean hasNext() {
+    return null != datablock;
+  }
+
+  @Override public DataRefNode next() {
+    DataRefNode datablockTemp = datablock;
+    datablock = datablock.getNextDataRefNode();
+    blockletIdIndex++;
+    moveToNextBlocklet();
+    return datablockTemp;
+  }
+
+  /**
+   * Below method will be used to move to the data block of next blocklet id,
+   * ids of blocklets before the current data block are ignored
+   */
+  private void moveToNextBlocklet() {
+    while (null != datablock && blockletIdIndex < blockletIds.length) {
+      long nodeNumber = datablock.nodeNumber();
+      if (nodeNumber == blockletIds[blockletIdIndex]) {
+        return;
+      } else if (nodeNumber < blockletIds[blockletIdIndex]) {
+        datablock = datablock.getNextDataRefNode();
+      } else {
+        blockletIdIndex++;
+      }
+    }
+    datablock = null;
+  }
+}
@@ -22,6 +22,7 @@ import org.apache.carbondata.core.carbon.datastore.DataRefNode;
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionColumnDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.MeasureColumnDataChunk;
 import org.apache.carbondata.core.datastorage.store.FileHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBufferPool;
 
 /**
  * Block chunk holder which will hold the dimension and
@@ -49,9 +50,16 @@ public class BlocksChunkHolder {
    */
   private DataRefNode dataBlock;
 
+  /**
+   * buffers to which the pages of every blocklet are uncompressed, chunks of
+   * a blocklet are not used once the next blocklet is read
+   */
+  private ColumnPageBufferPool bufferPool;
+
   public BlocksChunkHolder(int numberOfDimensionBlock, int numberOfMeasureBlock) {
     dimensionDataChunk = new DimensionColumnDataChunk[numberOfDimensionBlock];
     measureDataChunk = new MeasureColumnDataChunk[numberOfMeasureBlock];
+    bufferPool = new ColumnPageBufferPool(numberOfDimensionBlock, numberOfMeasureBlock);
   }
 
   /**
@@ -110,6 +118,13 @@ public class BlocksChunkHolder {
     this.dataBlock = dataBlock;
   }
 
+  /**
+   * @return the bufferPool
+   */
+  public ColumnPageBufferPool getBufferPool() {
+    return bufferPool;
+  }
+
   /***
    * To reset the measure chunk and dimension chunk
    * array
@@ -122,4 +137,21 @@ public class BlocksChunkHolder {
       this.dimensionDataChunk[i] = null;
     }
   }
+
+  /**
+   * Below method will be used to free the memory of the chunks read for the
+   * current blocklet
+   */
+  public void freeMemory() {
+    for (int i = 0; i < measureDataChunk.length; i++) {
+      if (null != measureDataChunk[i]) {
+        measureDataChunk[i].freeMemory();
+      }
+    }
+    for (int i = 0; i < dimensionDataChunk.length; i++) {
+      if (null != dimensionDataChunk[i]) {
+        dimensionDataChunk[i].freeMemory();
+      }
+    }
+  }
 }
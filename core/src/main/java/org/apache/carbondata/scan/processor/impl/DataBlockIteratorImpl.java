@@ -57,6 +57,10 @@ public class DataBlockIteratorImpl extends AbstractDataBlockIterator {
     } else {
       collectedResult = new ArrayList<>();
     }
+    if (!hasNext()) {
+      // all the blocklets are scanned, so free the last blocklet
+      freeBlockletMemory();
+    }
     return collectedResult;
   }
 
@@ -22,12 +22,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.BitSet;
 import java.util.Map;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionColumnDataChunk;
 import org.apache.carbondata.core.carbon.datastore.chunk.MeasureColumnDataChunk;
+import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.scan.executor.infos.BlockExecutionInfo;
 import org.apache.carbondata.scan.executor.infos.KeyStructureInfo;
@@ -177,6 +179,117 @@ public abstract class AbstractScannedResult {
     return completeKey;
   }
 
+  /**
+   * Below method will be used to get the row ids of the next rows of the
+   * result, result will be moved after the returned rows
+   *
+   * @param rowIds       array to be filled with the row ids
+   * @param numberOfRows maximum number of rows to be returned
+   * @return number of row ids filled
+   */
+  public int fillRowIds(int[] rowIds, int numberOfRows) {
+    int count = Math.min(numberOfRows, totalNumberOfRows - rowCounter);
+    if (null == rowMapping) {
+      for (int i = 0; i < count; i++) {
+        rowIds[i] = ++currentRow;
+      }
+    } else {
+      for (int i = 0; i < count; i++) {
+        rowIds[i] = rowMapping[++currentRow];
+      }
+    }
+    rowCounter += count;
+    return count;
+  }
+
+  /**
+   * Below method will be used to fill the dictionary keys of the given rows
+   * for all the dictionary dimensions present in the query
+   *
+   * @param rowIds       row ids selected after scanning
+   * @param numberOfRows number of row ids
+   * @param vectors      dictionary id vectors of the dictionary dimensions in query
+   * @param vectorOffset offset from which vectors need to be filled
+   */
+  public void fillDictionaryKeyVectors(int[] rowIds, int numberOfRows, int[][] vectors,
+      int vectorOffset) {
+    int column = 0;
+    for (int i = 0; i < this.dictionaryColumnBlockIndexes.length; i++) {
+      column = dataChunks[dictionaryColumnBlockIndexes[i]]
+          .fillConvertedChunkDataVector(rowIds, numberOfRows, column, vectors, vectorOffset,
+              columnGroupKeyStructureInfo.get(dictionaryColumnBlockIndexes[i]));
+    }
+  }
+
+  /**
+   * Below method will be used to fill the keys of the given rows for one no
+   * dictionary dimension present in the query
+   *
+   * @param noDictionaryIndex index of the no dictionary dimension in query
+   * @param rowIds            row ids selected after scanning
+   * @param numberOfRows      number of row ids
+   * @param vector            vector to be filled
+   * @param vectorOffset      offset from which vector need to be filled
+   */
+  public void fillNoDictionaryKeyVector(int noDictionaryIndex, int[] rowIds, int numberOfRows,
+      byte[][] vector, int vectorOffset) {
+    DimensionColumnDataChunk dataChunk =
+        dataChunks[noDictionaryColumnBlockIndexes[noDictionaryIndex]];
+    for (int i = 0; i < numberOfRows; i++) {
+      vector[vectorOffset + i] = dataChunk.getChunkData(rowIds[i]);
+    }
+  }
+
+  /**
+   * Below method will be used to fill the values of the given rows for a
+   * measure, values are filled based on the data type of the vector
+   *
+   * @param ordinal      measure ordinal
+   * @param rowIds       row ids selected after scanning
+   * @param numberOfRows number of row ids
+   * @param vector       vector to be filled
+   * @param vectorOffset offset from which vector need to be filled
+   */
+  public void fillMeasureVector(int ordinal, int[] rowIds, int numberOfRows, ColumnVector vector,
+      int vectorOffset) {
+    CarbonReadDataHolder dataHolder = measureDataChunks[ordinal].getMeasureDataHolder();
+    BitSet nullBitSet = measureDataChunks[ordinal].getNullValueIndexHolder().getBitSet();
+    boolean hasNull = !nullBitSet.isEmpty();
+    switch (vector.getDataType()) {
+      case INT:
+      case LONG:
+        long[] longValues = vector.getLongValues();
+        for (int i = 0; i < numberOfRows; i++) {
+          if (hasNull && nullBitSet.get(rowIds[i])) {
+            vector.putNull(vectorOffset + i);
+          } else {
+            longValues[vectorOffset + i] = dataHolder.getReadableLongValueByIndex(rowIds[i]);
+          }
+        }
+        break;
+      case DECIMAL:
+        BigDecimal[] decimalValues = vector.getDecimalValues();
+        for (int i = 0; i < numberOfRows; i++) {
+          if (hasNull && nullBitSet.get(rowIds[i])) {
+            vector.putNull(vectorOffset + i);
+          } else {
+            decimalValues[vectorOffset + i] =
+                dataHolder.getReadableBigDecimalValueByIndex(rowIds[i]);
+          }
+        }
+        break;
+      default:
+        double[] doubleValues = vector.getDoubleValues();
+        for (int i = 0; i < numberOfRows; i++) {
+          if (hasNull && nullBitSet.get(rowIds[i])) {
+            vector.putNull(vectorOffset + i);
+          } else {
+            doubleValues[vectorOffset + i] = dataHolder.getReadableDoubleValueByIndex(rowIds[i]);
+          }
+        }
+    }
+  }
+
   /**
    * Just increment the counter incase of query only on measures.
    */
@@ -285,6 +398,27 @@ public abstract class AbstractScannedResult {
     currentRow = -1;
   }
 
+  /**
+   * Below method will be used to free the memory of the chunks of the
+   * scanned blocklet
+   */
+  public void freeMemory() {
+    if (null != dataChunks) {
+      for (int i = 0; i < dataChunks.length; i++) {
+        if (null != dataChunks[i]) {
+          dataChunks[i].freeMemory();
+        }
+      }
+    }
+    if (null != measureDataChunks) {
+      for (int i = 0; i < measureDataChunks.length; i++) {
+        if (null != measureDataChunks[i]) {
+          measureDataChunks[i].freeMemory();
+        }
+      }
+    }
+  }
+
   /**
    * @param totalNumberOfRows set total of number rows valid after scanning
    */
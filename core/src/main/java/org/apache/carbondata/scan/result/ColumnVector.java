@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.result;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+
+import org.apache.carbondata.core.cache.dictionary.Dictionary;
+import org.apache.carbondata.core.carbon.metadata.datatype.DataType;
+
+/**
+ * Holds the values of one column of a {@link ColumnarBatch}. Values are kept in
+ * primitive arrays based on the type of the column
+ * dictionary column: surrogate keys in dictionary id array
+ * direct dictionary column: surrogate keys in dictionary id array and values in long array
+ * no dictionary column: byte array values
+ * INT and LONG measures: long array, DECIMAL measures: big decimal array and
+ * other measures: double array
+ * Arrays are created when they are requested first time and are reused for
+ * the next batches, so callers must not keep the reference of the arrays
+ * after the batch is reset
+ */
+public class ColumnVector {
+
+  /**
+   * data type of the column
+   */
+  private DataType dataType;
+
+  /**
+   * maximum number of rows which can be stored in vector
+   */
+  private int capacity;
+
+  private int[] dictionaryIds;
+
+  private long[] longValues;
+
+  private double[] doubleValues;
+
+  private BigDecimal[] decimalValues;
+
+  private byte[][] byteArrayValues;
+
+  /**
+   * null rows of the vector
+   */
+  private BitSet nullBitSet;
+
+  /**
+   * dictionary of the column to decode the dictionary ids, can be null
+   */
+  private Dictionary dictionary;
+
+  public ColumnVector(DataType dataType, int capacity) {
+    this.dataType = dataType;
+    this.capacity = capacity;
+    this.nullBitSet = new BitSet(capacity);
+  }
+
+  public DataType getDataType() {
+    return dataType;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * @return dictionary id array of the vector
+   */
+  public int[] getDictionaryIds() {
+    if (null == dictionaryIds) {
+      dictionaryIds = new int[capacity];
+    }
+    return dictionaryIds;
+  }
+
+  /**
+   * @return long value array of the vector
+   */
+  public long[] getLongValues() {
+    if (null == longValues) {
+      longValues = new long[capacity];
+    }
+    return longValues;
+  }
+
+  /**
+   * @return double value array of the vector
+   */
+  public double[] getDoubleValues() {
+    if (null == doubleValues) {
+      doubleValues = new double[capacity];
+    }
+    return doubleValues;
+  }
+
+  /**
+   * @return big decimal value array of the vector
+   */
+  public BigDecimal[] getDecimalValues() {
+    if (null == decimalValues) {
+      decimalValues = new BigDecimal[capacity];
+    }
+    return decimalValues;
+  }
+
+  /**
+   * @return byte array value array of the vector
+   */
+  public byte[][] getByteArrayValues() {
+    if (null == byteArrayValues) {
+      byteArrayValues = new byte[capacity][];
+    }
+    return byteArrayValues;
+  }
+
+  /**
+   * @return true if values of the vector are dictionary ids
+   */
+  public boolean isDictionaryEncoded() {
+    return null != dictionaryIds;
+  }
+
+  public int getDictionaryId(int rowId) {
+    return dictionaryIds[rowId];
+  }
+
+  public long getLong(int rowId) {
+    return longValues[rowId];
+  }
+
+  public double getDouble(int rowId) {
+    return doubleValues[rowId];
+  }
+
+  public BigDecimal getDecimal(int rowId) {
+    return decimalValues[rowId];
+  }
+
+  public byte[] getByteArray(int rowId) {
+    return byteArrayValues[rowId];
+  }
+
+  /**
+   * Below method will be used to decode the dictionary id of the row using the
+   * dictionary set to the vector
+   *
+   * @param rowId row of the vector
+   * @return dictionary value of the row
+   */
+  public String getDictionaryValue(int rowId) {
+    return dictionary.getDictionaryValueForKey(dictionaryIds[rowId]);
+  }
+
+  public Dictionary getDictionary() {
+    return dictionary;
+  }
+
+  public void setDictionary(Dictionary dictionary) {
+    this.dictionary = dictionary;
+  }
+
+  public void putNull(int rowId) {
+    nullBitSet.set(rowId);
+  }
+
+  public boolean isNullAt(int rowId) {
+    return nullBitSet.get(rowId);
+  }
+
+  /**
+   * @return true if any row of the vector is null
+   */
+  public boolean hasNull() {
+    return !nullBitSet.isEmpty();
+  }
+
+  /**
+   * Below method will be used to reset the vector so it can be filled again
+   */
+  public void reset() {
+    nullBitSet.clear();
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.result;
+
+/**
+ * Columnar result of a query, it holds one {@link ColumnVector} for each
+ * projected column in query order. Batch is reused by the reader, so its
+ * content is valid only till the next batch is requested
+ */
+public class ColumnarBatch {
+
+  /**
+   * vectors of the projected columns in query order
+   */
+  private ColumnVector[] columns;
+
+  /**
+   * maximum number of rows in the batch
+   */
+  private int capacity;
+
+  /**
+   * number of rows filled in the batch
+   */
+  private int rowCount;
+
+  public ColumnarBatch(ColumnVector[] columns, int capacity) {
+    this.columns = columns;
+    this.capacity = capacity;
+  }
+
+  public ColumnVector getColumn(int ordinal) {
+    return columns[ordinal];
+  }
+
+  public ColumnVector[] getColumns() {
+    return columns;
+  }
+
+  public int numberOfColumns() {
+    return columns.length;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  public void setRowCount(int rowCount) {
+    this.rowCount = rowCount;
+  }
+
+  /**
+   * @return true if no more rows can be added to the batch
+   */
+  public boolean isFull() {
+    return rowCount >= capacity;
+  }
+
+  /**
+   * Below method will be used to reset the batch and all its vectors so it can
+   * be filled again
+   */
+  public void reset() {
+    rowCount = 0;
+    for (int i = 0; i < columns.length; i++) {
+      columns[i].reset();
+    }
+  }
+}
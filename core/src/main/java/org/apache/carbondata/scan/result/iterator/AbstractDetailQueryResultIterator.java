@@ -18,7 +18,12 @@
  */
 package org.apache.carbondata.scan.result.iterator;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 import org.apache.carbondata.common.CarbonIterator;
@@ -38,6 +43,7 @@ import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.scan.executor.infos.BlockExecutionInfo;
 import org.apache.carbondata.scan.model.QueryModel;
 import org.apache.carbondata.scan.processor.AbstractDataBlockIterator;
+import org.apache.carbondata.scan.processor.BlockletIdIterator;
 import org.apache.carbondata.scan.processor.impl.DataBlockIteratorImpl;
 
 /**
@@ -77,13 +83,19 @@ public abstract class AbstractDetailQueryResultIterator extends CarbonIterator {
    */
   protected QueryStatisticsRecorder recorder;
   /**
-   * number of cores which can be used
+   * number of records returned in one batch
    */
-  private int batchSize;
+  protected int batchSize;
   /**
    * queryStatisticsModel to store query statistics object
    */
   QueryStatisticsModel queryStatisticsModel;
+  /**
+   * block iterators which are created and not yet closed, memory of these
+   * iterators is freed when query is finished
+   */
+  private Set<AbstractDataBlockIterator> liveDataBlockIterators =
+      Collections.newSetFromMap(new ConcurrentHashMap<AbstractDataBlockIterator, Boolean>());
 
   public AbstractDetailQueryResultIterator(List<BlockExecutionInfo> infos, QueryModel queryModel,
       ExecutorService execService) {
@@ -114,6 +126,16 @@ public abstract class AbstractDetailQueryResultIterator extends CarbonIterator {
       DataRefNodeFinder finder = new BTreeDataRefNodeFinder(blockInfo.getEachColumnValueSize());
       DataRefNode startDataBlock = finder
           .findFirstDataBlock(blockInfo.getDataBlock().getDataRefNode(), blockInfo.getStartKey());
+      int[] blockletIdsToScan = blockInfo.getBlockletIdsToScan();
+      if (null != blockletIdsToScan) {
+        // blocklets are pruned in driver, so only the given blocklets after
+        // the start block and within the blocklets assigned to this task will be scanned
+        blockInfo.setFirstDataBlock(startDataBlock);
+        blockInfo.setNumberOfBlockToScan(BlockletIdIterator
+            .getBlockletIdsToScan(blockletIdsToScan, blockInfo.getStartBlockletIndex(),
+                blockInfo.getNumberOfBlockletToScan()).length);
+        continue;
+      }
       while (startDataBlock.nodeNumber() != blockInfo.getStartBlockletIndex()) {
         startDataBlock = startDataBlock.getNextDataRefNode();
       }
@@ -136,45 +158,141 @@ public abstract class AbstractDetailQueryResultIterator extends CarbonIterator {
     } else if (blockExecutionInfos.size() > 0) {
       return true;
     } else {
-      if (!isStatisticsRecorded) {
-        QueryStatistic statistic = new QueryStatistic();
-        statistic.addFixedTimeStatistic(QueryStatisticsConstants.SCAN_BLOCKS_TIME,
-            System.currentTimeMillis() - totalScanTime);
-        recorder.recordStatistics(statistic);
-        isStatisticsRecorded = true;
-      }
+      recordScanStatistics();
       return false;
     }
   }
 
+  /**
+   * Below method will be used to record the total scan time once all the
+   * blocks are scanned
+   */
+  protected void recordScanStatistics() {
+    if (!isStatisticsRecorded) {
+      QueryStatistic statistic = new QueryStatistic();
+      statistic.addFixedTimeStatistic(QueryStatisticsConstants.SCAN_BLOCKS_TIME,
+          System.currentTimeMillis() - totalScanTime);
+      recorder.recordStatistics(statistic);
+      isStatisticsRecorded = true;
+    }
+  }
+
   protected void updateDataBlockIterator() {
     if (dataBlockIterator == null || !dataBlockIterator.hasNext()) {
+      closeDataBlockIterator(dataBlockIterator);
       dataBlockIterator = getDataBlockIterator();
       while (dataBlockIterator != null && !dataBlockIterator.hasNext()) {
+        closeDataBlockIterator(dataBlockIterator);
         dataBlockIterator = getDataBlockIterator();
       }
     }
   }
 
+  /**
+   * Below method will be used to free the memory of the block iterator and
+   * remove it from the live iterators
+   *
+   * @param iterator block iterator, can be null
+   */
+  protected void closeDataBlockIterator(AbstractDataBlockIterator iterator) {
+    if (null != iterator) {
+      iterator.close();
+      liveDataBlockIterators.remove(iterator);
+    }
+  }
+
+  /**
+   * Below method will be used to free the memory of all the block iterators
+   * which are not closed. It must be called only after the scanning threads
+   * are stopped
+   */
+  public void close() {
+    List<AbstractDataBlockIterator> iterators = new ArrayList<>(liveDataBlockIterators);
+    for (AbstractDataBlockIterator iterator : iterators) {
+      closeDataBlockIterator(iterator);
+    }
+  }
+
   private DataBlockIteratorImpl getDataBlockIterator() {
     if (blockExecutionInfos.size() > 0) {
       BlockExecutionInfo executionInfo = blockExecutionInfos.get(0);
       blockExecutionInfos.remove(executionInfo);
-      queryStatisticsModel.setRecorder(recorder);
-      return new DataBlockIteratorImpl(executionInfo, fileReader, batchSize, queryStatisticsModel);
+      return createDataBlockIterator(executionInfo, fileReader);
     }
     return null;
   }
 
+  /**
+   * Below method will be used to create the iterator over one block
+   *
+   * @param executionInfo execution info of the block
+   * @param reader        file reader to be used for reading the block
+   * @return block iterator
+   */
+  protected DataBlockIteratorImpl createDataBlockIterator(BlockExecutionInfo executionInfo,
+      FileHolder reader) {
+    return createDataBlockIterator(executionInfo, reader, queryStatisticsModel);
+  }
+
+  /**
+   * Below method will be used to create the iterator over one block which
+   * records the statistics in the given model
+   *
+   * @param executionInfo   execution info of the block
+   * @param reader          file reader to be used for reading the block
+   * @param statisticsModel model to record the scan statistics
+   * @return block iterator
+   */
+  protected DataBlockIteratorImpl createDataBlockIterator(BlockExecutionInfo executionInfo,
+      FileHolder reader, QueryStatisticsModel statisticsModel) {
+    DataBlockIteratorImpl iterator =
+        new DataBlockIteratorImpl(executionInfo, reader, batchSize, statisticsModel);
+    liveDataBlockIterators.add(iterator);
+    return iterator;
+  }
+
   protected void initQueryStatiticsModel() {
-    this.queryStatisticsModel = new QueryStatisticsModel();
+    this.queryStatisticsModel = createQueryStatisticsModel(recorder);
+  }
+
+  /**
+   * Below method will be used to create the model with the count statistics
+   * updated by the scanner
+   *
+   * @param statisticsRecorder recorder of the statistics
+   * @return statistics model
+   */
+  protected QueryStatisticsModel createQueryStatisticsModel(
+      QueryStatisticsRecorder statisticsRecorder) {
+    QueryStatisticsModel statisticsModel = new QueryStatisticsModel();
+    statisticsModel.setRecorder(statisticsRecorder);
     QueryStatistic queryStatisticTotalBlocklet = new QueryStatistic();
-    queryStatisticsModel.getStatisticsTypeAndObjMap()
+    statisticsModel.getStatisticsTypeAndObjMap()
         .put(QueryStatisticsConstants.TOTAL_BLOCKLET_NUM, queryStatisticTotalBlocklet);
-    QueryStatistic queryStatisticScanBlocklet = new QueryStatistic();
     QueryStatistic queryStatisticValidScanBlocklet = new QueryStatistic();
-    queryStatisticsModel.getStatisticsTypeAndObjMap()
+    statisticsModel.getStatisticsTypeAndObjMap()
         .put(QueryStatisticsConstants.VALID_SCAN_BLOCKLET_NUM, queryStatisticValidScanBlocklet);
+    return statisticsModel;
+  }
+
+  /**
+   * Below method will be used to add the counts of the given model to the
+   * counts of this query and record them
+   *
+   * @param statisticsModel model whose counts will be added
+   */
+  protected synchronized void mergeQueryStatistics(QueryStatisticsModel statisticsModel) {
+    for (Map.Entry<String, QueryStatistic> entry : statisticsModel.getStatisticsTypeAndObjMap()
+        .entrySet()) {
+      if (entry.getValue().getCount() == 0) {
+        continue;
+      }
+      QueryStatistic statistic =
+          queryStatisticsModel.getStatisticsTypeAndObjMap().get(entry.getKey());
+      statistic.addCountStatistic(entry.getKey(),
+          statistic.getCount() + entry.getValue().getCount());
+      recorder.recordStatistics(statistic);
+    }
   }
 
 }
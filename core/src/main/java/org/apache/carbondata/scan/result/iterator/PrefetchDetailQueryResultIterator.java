@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.result.iterator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.carbondata.common.logging.LogService;
+import org.apache.carbondata.common.logging.LogServiceFactory;
+import org.apache.carbondata.core.carbon.querystatistics.QueryStatisticsModel;
+import org.apache.carbondata.core.carbon.querystatistics.QueryStatisticsRecorderDummy;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastorage.store.FileHolder;
+import org.apache.carbondata.core.datastorage.store.impl.FileFactory;
+import org.apache.carbondata.core.datastorage.store.impl.FileFactory.FileType;
+import org.apache.carbondata.core.util.CarbonProperties;
+import org.apache.carbondata.scan.executor.infos.BlockExecutionInfo;
+import org.apache.carbondata.scan.model.QueryModel;
+import org.apache.carbondata.scan.processor.impl.DataBlockIteratorImpl;
+import org.apache.carbondata.scan.result.BatchResult;
+
+/**
+ * Detail query iterator which scans multiple blocks concurrently on the
+ * executor service and keeps the ready batches in a bounded buffer.
+ * Buffer is bounded by number of batches and by an estimated memory size.
+ * In case query needs the block order to be maintained (raw detail query used
+ * by compaction or query with sort dimensions) batches are returned block by
+ * block in the same order as block execution infos, otherwise batches are
+ * returned in the order in which they are ready
+ */
+public class PrefetchDetailQueryResultIterator extends AbstractDetailQueryResultIterator {
+
+  private static final LogService LOGGER =
+      LogServiceFactory.getLogService(PrefetchDetailQueryResultIterator.class.getName());
+
+  /**
+   * approximate size of one cell of a row, used for estimating the memory
+   * occupied by a batch
+   */
+  private static final int ESTIMATED_CELL_SIZE = 32;
+
+  /**
+   * approximate size of the object array holding one row
+   */
+  private static final int ESTIMATED_ROW_OVERHEAD = 16;
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private final Condition notEmpty = lock.newCondition();
+
+  private final Condition notFull = lock.newCondition();
+
+  /**
+   * buffers of ready batches, in case of ordered scan one buffer per block
+   * otherwise one buffer shared by all the blocks
+   */
+  private List<BatchBuffer> buffers;
+
+  /**
+   * whether block order needs to be maintained
+   */
+  private boolean ordered;
+
+  /**
+   * index of the buffer from which consumer is reading
+   */
+  private int currentBufferIndex;
+
+  /**
+   * maximum number of batches which can be buffered
+   */
+  private int maxQueuedBatches;
+
+  /**
+   * maximum estimated size in bytes of the batches which can be buffered
+   */
+  private long maxQueuedBytes;
+
+  private int queuedBatches;
+
+  private long queuedBytes;
+
+  /**
+   * estimated size of one row
+   */
+  private long estimatedRowSize;
+
+  /**
+   * first exception thrown by any of the scanning threads
+   */
+  private volatile Throwable failure;
+
+  /**
+   * file type of the store, used for creating the file reader of each block
+   */
+  private FileType fileType;
+
+  public PrefetchDetailQueryResultIterator(List<BlockExecutionInfo> infos, QueryModel queryModel,
+      ExecutorService execService) {
+    super(infos, queryModel, execService);
+    CarbonProperties properties = CarbonProperties.getInstance();
+    maxQueuedBatches = parsePositive(
+        properties.getProperty(CarbonCommonConstants.QUERY_PREFETCH_QUEUE_DEPTH,
+            CarbonCommonConstants.QUERY_PREFETCH_QUEUE_DEPTH_DEFAULT),
+        CarbonCommonConstants.QUERY_PREFETCH_QUEUE_DEPTH_DEFAULT);
+    maxQueuedBytes = parsePositive(
+        properties.getProperty(CarbonCommonConstants.QUERY_PREFETCH_MEMORY_IN_MB,
+            CarbonCommonConstants.QUERY_PREFETCH_MEMORY_IN_MB_DEFAULT),
+        CarbonCommonConstants.QUERY_PREFETCH_MEMORY_IN_MB_DEFAULT) * 1024L * 1024L;
+    int numberOfColumns =
+        queryModel.getQueryDimension().size() + queryModel.getQueryMeasures().size();
+    estimatedRowSize = ESTIMATED_ROW_OVERHEAD + (long) numberOfColumns * ESTIMATED_CELL_SIZE;
+    fileType = FileFactory.getFileType(queryModel.getAbsoluteTableIdentifier().getStorePath());
+    ordered = isOrderRequired(queryModel);
+    startScan();
+  }
+
+  /**
+   * Order of the rows across the blocks is required in case of raw detail
+   * query, as compaction merges the sorted result of each block, and in case
+   * of sort dimensions present in query
+   */
+  private static boolean isOrderRequired(QueryModel queryModel) {
+    return queryModel.isForcedDetailRawQuery() || (null != queryModel.getSortDimension()
+        && queryModel.getSortDimension().size() > 0);
+  }
+
+  private static int parsePositive(String value, String defaultValue) {
+    try {
+      int parsedValue = Integer.parseInt(value);
+      if (parsedValue > 0) {
+        return parsedValue;
+      }
+    } catch (NumberFormatException e) {
+      // use default value
+    }
+    LOGGER.info("The prefetch value \"" + value + "\" is invalid. Using the default value \""
+        + defaultValue);
+    return Integer.parseInt(defaultValue);
+  }
+
+  /**
+   * Below method will be used to submit one scan task per block to the
+   * executor service
+   */
+  private void startScan() {
+    List<BlockExecutionInfo> infos = new ArrayList<>(blockExecutionInfos);
+    blockExecutionInfos.clear();
+    buffers = new ArrayList<>();
+    if (ordered) {
+      for (int i = 0; i < infos.size(); i++) {
+        buffers.add(new BatchBuffer(i, 1));
+      }
+    } else {
+      buffers.add(new BatchBuffer(0, infos.size()));
+    }
+    for (int i = 0; i < infos.size(); i++) {
+      BatchBuffer buffer = ordered ? buffers.get(i) : buffers.get(0);
+      execService.submit(new BlockScanTask(infos.get(i), buffer));
+    }
+  }
+
+  @Override public boolean hasNext() {
+    lock.lock();
+    try {
+      while (true) {
+        if (null != failure) {
+          return true;
+        }
+        if (currentBufferIndex >= buffers.size()) {
+          recordScanStatistics();
+          return false;
+        }
+        BatchBuffer buffer = buffers.get(currentBufferIndex);
+        if (!buffer.batches.isEmpty()) {
+          return true;
+        }
+        if (buffer.isFinished()) {
+          currentBufferIndex++;
+          // producer of the new current buffer may be waiting for space
+          notFull.signalAll();
+          continue;
+        }
+        notEmpty.await();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override public BatchResult next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    lock.lock();
+    try {
+      if (null != failure) {
+        throw new RuntimeException(failure);
+      }
+      BatchResult result = buffers.get(currentBufferIndex).batches.poll();
+      queuedBatches--;
+      queuedBytes -= estimateSize(result);
+      notFull.signalAll();
+      return result;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private long estimateSize(BatchResult result) {
+    return result.getSize() * estimatedRowSize;
+  }
+
+  /**
+   * Below method will be used to add the batch to the buffer, it will wait
+   * till the buffer has space. In case of ordered scan batch of the buffer
+   * which is being read by consumer is always accepted, otherwise consumer can
+   * wait for a block whose scanner is waiting for the space
+   */
+  private void addBatch(BatchBuffer buffer, BatchResult result) throws InterruptedException {
+    long size = estimateSize(result);
+    lock.lock();
+    try {
+      while (null == failure && !(ordered && buffer.index == currentBufferIndex) && (
+          queuedBatches >= maxQueuedBatches || (queuedBatches > 0
+              && queuedBytes + size > maxQueuedBytes))) {
+        notFull.await();
+      }
+      buffer.batches.add(result);
+      queuedBatches++;
+      queuedBytes += size;
+      notEmpty.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void producerFinished(BatchBuffer buffer, Throwable throwable) {
+    lock.lock();
+    try {
+      buffer.runningProducers--;
+      if (null != throwable && null == failure) {
+        failure = throwable;
+      }
+      notEmpty.signalAll();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Buffer of the batches scanned by one or more blocks
+   */
+  private static class BatchBuffer {
+
+    private ArrayDeque<BatchResult> batches = new ArrayDeque<>();
+
+    private int index;
+
+    private int runningProducers;
+
+    private BatchBuffer(int index, int numberOfProducers) {
+      this.index = index;
+      this.runningProducers = numberOfProducers;
+    }
+
+    private boolean isFinished() {
+      return runningProducers == 0;
+    }
+  }
+
+  /**
+   * Task which scans one block and adds the batches to the buffer. Each task
+   * uses its own file reader as file reader is not thread safe. Each task also
+   * counts the scanned blocklets in its own statistics model, which is merged
+   * to the query statistics when the task is finished
+   */
+  private class BlockScanTask implements Runnable {
+
+    private BlockExecutionInfo blockExecutionInfo;
+
+    private BatchBuffer buffer;
+
+    private BlockScanTask(BlockExecutionInfo blockExecutionInfo, BatchBuffer buffer) {
+      this.blockExecutionInfo = blockExecutionInfo;
+      this.buffer = buffer;
+    }
+
+    @Override public void run() {
+      FileHolder reader = FileFactory.getFileHolder(fileType);
+      Throwable throwable = null;
+      DataBlockIteratorImpl iterator = null;
+      // counts are recorded once the task is finished
+      QueryStatisticsModel statisticsModel =
+          createQueryStatisticsModel(new QueryStatisticsRecorderDummy(null));
+      try {
+        iterator = createDataBlockIterator(blockExecutionInfo, reader, statisticsModel);
+        while (iterator.hasNext() && null == failure) {
+          List<Object[]> rows = iterator.next();
+          if (rows.isEmpty()) {
+            continue;
+          }
+          BatchResult batchResult = new BatchResult();
+          batchResult.setRows(rows);
+          addBatch(buffer, batchResult);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throwable = e;
+      } catch (Throwable e) {
+        LOGGER.error(e, "Problem while scanning the block");
+        throwable = e;
+      } finally {
+        // block may not be scanned till the end in case of failure or cancellation
+        closeDataBlockIterator(iterator);
+        reader.finish();
+        mergeQueryStatistics(statisticsModel);
+        producerFinished(buffer, throwable);
+      }
+    }
+  }
+}
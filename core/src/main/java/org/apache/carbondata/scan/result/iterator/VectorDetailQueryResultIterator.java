@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.result.iterator;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.carbondata.scan.executor.infos.BlockExecutionInfo;
+import org.apache.carbondata.scan.model.QueryDimension;
+import org.apache.carbondata.scan.model.QueryMeasure;
+import org.apache.carbondata.scan.model.QueryModel;
+import org.apache.carbondata.scan.result.ColumnVector;
+import org.apache.carbondata.scan.result.ColumnarBatch;
+
+/**
+ * Detail query iterator which returns the result as columnar batches. Same
+ * batch instance is filled on every next call, so the content of the batch
+ * returned is valid only till the next call
+ */
+public class VectorDetailQueryResultIterator extends AbstractDetailQueryResultIterator {
+
+  /**
+   * batch which is filled on every next call
+   */
+  private ColumnarBatch columnarBatch;
+
+  public VectorDetailQueryResultIterator(List<BlockExecutionInfo> infos, QueryModel queryModel,
+      ExecutorService execService) {
+    super(infos, queryModel, execService);
+    this.columnarBatch = createColumnarBatch(queryModel, batchSize);
+  }
+
+  /**
+   * Below method will be used to create the columnar batch with a vector for
+   * each projected column in query order
+   *
+   * @param queryModel query model
+   * @param capacity   number of rows of the batch
+   * @return columnar batch
+   */
+  public static ColumnarBatch createColumnarBatch(QueryModel queryModel, int capacity) {
+    ColumnVector[] vectors =
+        new ColumnVector[queryModel.getQueryDimension().size() + queryModel.getQueryMeasures()
+            .size()];
+    for (QueryDimension dimension : queryModel.getQueryDimension()) {
+      vectors[dimension.getQueryOrder()] =
+          new ColumnVector(dimension.getDimension().getDataType(), capacity);
+    }
+    for (QueryMeasure measure : queryModel.getQueryMeasures()) {
+      vectors[measure.getQueryOrder()] =
+          new ColumnVector(measure.getMeasure().getDataType(), capacity);
+    }
+    return new ColumnarBatch(vectors, capacity);
+  }
+
+  @Override public ColumnarBatch next() {
+    long startTime = System.currentTimeMillis();
+    try {
+      updateDataBlockIterator();
+      if (dataBlockIterator != null) {
+        dataBlockIterator.processNextBatch(columnarBatch);
+      } else {
+        columnarBatch.reset();
+      }
+      if (!hasNext()) {
+        fileReader.finish();
+      }
+    } catch (RuntimeException ex) {
+      fileReader.finish();
+      throw ex;
+    }
+    totalScanTime += System.currentTimeMillis() - startTime;
+    return columnarBatch;
+  }
+}
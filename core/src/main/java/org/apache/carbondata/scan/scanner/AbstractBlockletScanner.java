@@ -52,11 +52,13 @@ public abstract class AbstractBlockletScanner implements BlockletScanner {
     scannedResult.reset();
     scannedResult.setMeasureChunks(blocksChunkHolder.getDataBlock()
         .getMeasureChunks(blocksChunkHolder.getFileReader(),
-            blockExecutionInfo.getAllSelectedMeasureBlocksIndexes()));
+            blockExecutionInfo.getAllSelectedMeasureBlocksIndexes(),
+            blocksChunkHolder.getBufferPool()));
     scannedResult.setNumberOfRows(blocksChunkHolder.getDataBlock().nodeSize());
 
     scannedResult.setDimensionChunks(blocksChunkHolder.getDataBlock()
         .getDimensionChunks(blocksChunkHolder.getFileReader(),
-            blockExecutionInfo.getAllSelectedDimensionBlocksIndexes()));
+            blockExecutionInfo.getAllSelectedDimensionBlocksIndexes(),
+            blocksChunkHolder.getBufferPool()));
   }
 }
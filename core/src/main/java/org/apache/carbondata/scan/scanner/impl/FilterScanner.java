@@ -18,6 +18,7 @@
  */
 package org.apache.carbondata.scan.scanner.impl;
 
+import java.util.Arrays;
 import java.util.BitSet;
 
 import org.apache.carbondata.core.carbon.datastore.chunk.DimensionColumnDataChunk;
@@ -124,6 +125,11 @@ public class FilterScanner extends AbstractBlockletScanner {
       BitSet bitSet = this.filterExecuter
           .isScanRequired(blocksChunkHolder.getDataBlock().getColumnsMaxValue(),
               blocksChunkHolder.getDataBlock().getColumnsMinValue());
+      // apply bloom filter
+      if (!bitSet.isEmpty()) {
+        bitSet = this.filterExecuter
+            .isScanRequired(blocksChunkHolder.getDataBlock().getColumnsBloomFilter());
+      }
       if (bitSet.isEmpty()) {
         scannedResult.setNumberOfRows(0);
         scannedResult.setIndexes(new int[0]);
@@ -157,12 +163,19 @@ public class FilterScanner extends AbstractBlockletScanner {
         blockExecutionInfo.getAllSelectedDimensionBlocksIndexes();
     DimensionColumnDataChunk[] dimensionColumnDataChunk =
         new DimensionColumnDataChunk[blockExecutionInfo.getTotalNumberDimensionBlock()];
-    // read dimension chunk blocks from file which is not present
+    // read all the dimension chunk blocks which are not present in one go, so
+    // that their pages can be read together from file
+    int[] dimensionBlocksToRead = getBlocksToRead(allSelectedDimensionBlocksIndexes,
+        blocksChunkHolder.getDimensionDataChunk());
+    DimensionColumnDataChunk[] readDimensionChunks = null;
+    if (dimensionBlocksToRead.length > 0) {
+      readDimensionChunks = blocksChunkHolder.getDataBlock()
+          .getDimensionChunks(fileReader, dimensionBlocksToRead, blocksChunkHolder.getBufferPool());
+    }
     for (int i = 0; i < allSelectedDimensionBlocksIndexes.length; i++) {
       if (null == blocksChunkHolder.getDimensionDataChunk()[allSelectedDimensionBlocksIndexes[i]]) {
         dimensionColumnDataChunk[allSelectedDimensionBlocksIndexes[i]] =
-            blocksChunkHolder.getDataBlock()
-                .getDimensionChunk(fileReader, allSelectedDimensionBlocksIndexes[i]);
+            readDimensionChunks[allSelectedDimensionBlocksIndexes[i]];
       } else {
         dimensionColumnDataChunk[allSelectedDimensionBlocksIndexes[i]] =
             blocksChunkHolder.getDimensionDataChunk()[allSelectedDimensionBlocksIndexes[i]];
@@ -172,13 +185,18 @@ public class FilterScanner extends AbstractBlockletScanner {
         new MeasureColumnDataChunk[blockExecutionInfo.getTotalNumberOfMeasureBlock()];
     int[] allSelectedMeasureBlocksIndexes = blockExecutionInfo.getAllSelectedMeasureBlocksIndexes();
 
-    // read the measure chunk blocks which is not present
+    // read the measure chunk blocks which are not present
+    int[] measureBlocksToRead = getBlocksToRead(allSelectedMeasureBlocksIndexes,
+        blocksChunkHolder.getMeasureDataChunk());
+    MeasureColumnDataChunk[] readMeasureChunks = null;
+    if (measureBlocksToRead.length > 0) {
+      readMeasureChunks = blocksChunkHolder.getDataBlock()
+          .getMeasureChunks(fileReader, measureBlocksToRead, blocksChunkHolder.getBufferPool());
+    }
     for (int i = 0; i < allSelectedMeasureBlocksIndexes.length; i++) {
-
       if (null == blocksChunkHolder.getMeasureDataChunk()[allSelectedMeasureBlocksIndexes[i]]) {
         measureColumnDataChunk[allSelectedMeasureBlocksIndexes[i]] =
-            blocksChunkHolder.getDataBlock()
-                .getMeasureChunk(fileReader, allSelectedMeasureBlocksIndexes[i]);
+            readMeasureChunks[allSelectedMeasureBlocksIndexes[i]];
       } else {
         measureColumnDataChunk[allSelectedMeasureBlocksIndexes[i]] =
             blocksChunkHolder.getMeasureDataChunk()[allSelectedMeasureBlocksIndexes[i]];
@@ -189,4 +207,23 @@ public class FilterScanner extends AbstractBlockletScanner {
     scannedResult.setMeasureChunks(measureColumnDataChunk);
     scannedResult.setNumberOfRows(indexes.length);
   }
+
+  /**
+   * Below method will be used to get the selected blocks which are not
+   * already read while applying the filter
+   *
+   * @param selectedBlocksIndexes selected block indexes
+   * @param alreadyReadChunks     chunks read while applying filter
+   * @return block indexes to be read
+   */
+  private int[] getBlocksToRead(int[] selectedBlocksIndexes, Object[] alreadyReadChunks) {
+    int[] blocksToRead = new int[selectedBlocksIndexes.length];
+    int count = 0;
+    for (int i = 0; i < selectedBlocksIndexes.length; i++) {
+      if (null == alreadyReadChunks[selectedBlocksIndexes[i]]) {
+        blocksToRead[count++] = selectedBlocksIndexes[i];
+      }
+    }
+    return Arrays.copyOf(blocksToRead, count);
+  }
 }
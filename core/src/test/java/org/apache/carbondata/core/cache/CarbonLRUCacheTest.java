@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.carbondata.core.cache;
+
+import org.apache.carbondata.core.util.CarbonProperties;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for lru cache
+ */
+public class CarbonLRUCacheTest {
+
+  private static final String CACHE_SIZE_PROPERTY = "carbon.test.lru.cache.size";
+
+  private static final long MB = 1024 * 1024;
+
+  private CarbonLRUCache carbonLRUCache;
+
+  @Before public void setUp() {
+    CarbonProperties.getInstance().addProperty(CACHE_SIZE_PROPERTY, "3");
+    carbonLRUCache = new CarbonLRUCache(CACHE_SIZE_PROPERTY, "-1");
+  }
+
+  @Test public void testLeastRecentlyUsedEntryIsEvicted() {
+    Assert.assertTrue(carbonLRUCache.put("a", new TestCacheable(MB, 0), MB));
+    Assert.assertTrue(carbonLRUCache.put("b", new TestCacheable(MB, 0), MB));
+    Assert.assertTrue(carbonLRUCache.put("c", new TestCacheable(MB, 0), MB));
+    // access a so that b becomes the least recently used entry
+    Assert.assertNotNull(carbonLRUCache.get("a"));
+    Assert.assertTrue(carbonLRUCache.put("d", new TestCacheable(MB, 0), MB));
+    Assert.assertNull(carbonLRUCache.get("b"));
+    Assert.assertNotNull(carbonLRUCache.get("a"));
+    Assert.assertNotNull(carbonLRUCache.get("d"));
+    Assert.assertEquals(1, carbonLRUCache.getEvictionCount());
+    Assert.assertEquals(3 * MB, carbonLRUCache.getCurrentSize());
+  }
+
+  @Test public void testEntryInUseIsNotEvicted() {
+    Assert.assertTrue(carbonLRUCache.put("a", new TestCacheable(2 * MB, 1), 2 * MB));
+    Assert.assertTrue(carbonLRUCache.put("b", new TestCacheable(MB, 0), MB));
+    // only b can be removed which is not sufficient, so nothing is removed
+    Assert.assertFalse(carbonLRUCache.put("c", new TestCacheable(2 * MB, 0), 2 * MB));
+    Assert.assertNotNull(carbonLRUCache.get("b"));
+    Assert.assertEquals(0, carbonLRUCache.getEvictionCount());
+  }
+
+  @Test public void testHitAndMissCount() {
+    carbonLRUCache.put("a", new TestCacheable(MB, 0), MB);
+    carbonLRUCache.get("a");
+    carbonLRUCache.get("a");
+    carbonLRUCache.get("x");
+    Assert.assertEquals(2, carbonLRUCache.getHitCount());
+    Assert.assertEquals(1, carbonLRUCache.getMissCount());
+    carbonLRUCache.remove("a");
+    Assert.assertEquals(0, carbonLRUCache.getCurrentSize());
+  }
+
+  @Test public void testIncrementalPutOfExistingKeyIsRemovedFully() {
+    TestCacheable cacheable = new TestCacheable(MB, 0);
+    Assert.assertTrue(carbonLRUCache.put("a", cacheable, MB));
+    // incremental load of dictionary puts the size of newly loaded data
+    cacheable.memorySize = 2 * MB;
+    Assert.assertTrue(carbonLRUCache.put("a", cacheable, MB));
+    Assert.assertEquals(2 * MB, carbonLRUCache.getCurrentSize());
+    carbonLRUCache.remove("a");
+    Assert.assertEquals(0, carbonLRUCache.getCurrentSize());
+  }
+
+  private static class TestCacheable implements Cacheable {
+
+    private long memorySize;
+
+    private int accessCount;
+
+    private TestCacheable(long memorySize, int accessCount) {
+      this.memorySize = memorySize;
+      this.accessCount = accessCount;
+    }
+
+    @Override public long getFileTimeStamp() {
+      return 0;
+    }
+
+    @Override public int getAccessCount() {
+      return accessCount;
+    }
+
+    @Override public long getMemorySize() {
+      return memorySize;
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.cache.dictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.carbondata.core.carbon.metadata.datatype.DataType;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check dictionary look up of column dictionary info
+ */
+public class ColumnDictionaryInfoTest {
+
+  private static List<byte[]> prepareChunk(String... values) {
+    List<byte[]> chunk = new ArrayList<>();
+    for (String value : values) {
+      chunk.add(value.getBytes());
+    }
+    return chunk;
+  }
+
+  @Test public void testLookupAfterAppend() {
+    ColumnDictionaryInfo columnDictionaryInfo = new ColumnDictionaryInfo(DataType.STRING);
+    columnDictionaryInfo.addDictionaryChunk(prepareChunk("delhi", "bangalore"));
+    DictionaryChunksWrapper oldChunks = columnDictionaryInfo.getDictionaryChunks();
+    columnDictionaryInfo.addDictionaryChunk(prepareChunk("chennai"));
+    // sorted values are bangalore, chennai, delhi
+    columnDictionaryInfo.setSortOrderIndex(Arrays.asList(2, 3, 1));
+    columnDictionaryInfo.setSortReverseOrderIndex(Arrays.asList(3, 1, 2));
+    Assert.assertEquals(2, oldChunks.getSize());
+    Assert.assertEquals(3, columnDictionaryInfo.getDictionaryChunks().getSize());
+    Assert.assertEquals("chennai", columnDictionaryInfo.getDictionaryValueForKey(3));
+    Assert.assertNull(columnDictionaryInfo.getDictionaryValueForKey(4));
+    Assert.assertEquals(1, columnDictionaryInfo.getSurrogateKey("delhi"));
+    Assert.assertEquals(3, columnDictionaryInfo.getSurrogateKey("chennai"));
+    Assert.assertEquals(0, columnDictionaryInfo.getSurrogateKey("mumbai"));
+    Assert.assertEquals(3, columnDictionaryInfo.getSortedIndex(1));
+    Assert.assertEquals(-1, columnDictionaryInfo.getSortedIndex(4));
+    Assert.assertEquals("bangalore", columnDictionaryInfo.getDictionaryValueFromSortedIndex(1));
+  }
+
+  @Test public void testIncrementalSurrogateKeyLookup() {
+    ColumnDictionaryInfo columnDictionaryInfo = new ColumnDictionaryInfo(DataType.INT);
+    columnDictionaryInfo.addDictionaryChunk(prepareChunk("30", "10"));
+    columnDictionaryInfo.addDictionaryChunk(prepareChunk("20"));
+    columnDictionaryInfo.setSortOrderIndex(Arrays.asList(2, 3, 1));
+    columnDictionaryInfo.setSortReverseOrderIndex(Arrays.asList(3, 1, 2));
+    List<Integer> surrogates = new ArrayList<>();
+    columnDictionaryInfo
+        .getIncrementalSurrogateKeyFromDictionary(prepareChunk("10", "30"), surrogates);
+    Assert.assertEquals(Arrays.asList(2, 1), surrogates);
+  }
+
+  @Test public void testMergeSortIndexOfNewValues() {
+    ColumnDictionaryInfo columnDictionaryInfo = new ColumnDictionaryInfo(DataType.STRING);
+    columnDictionaryInfo.addDictionaryChunk(prepareChunk("delhi", "bangalore"));
+    columnDictionaryInfo.setSortOrderIndex(Arrays.asList(2, 1));
+    columnDictionaryInfo.setSortReverseOrderIndex(Arrays.asList(2, 1));
+    columnDictionaryInfo.addDictionaryChunk(prepareChunk("mumbai", "agra", "chennai"));
+    Assert.assertTrue(columnDictionaryInfo.mergeSortIndexOfNewValues());
+    // sorted values are agra, bangalore, chennai, delhi, mumbai
+    String[] sortedValues = { "agra", "bangalore", "chennai", "delhi", "mumbai" };
+    for (int i = 0; i < sortedValues.length; i++) {
+      Assert.assertEquals(sortedValues[i],
+          columnDictionaryInfo.getDictionaryValueFromSortedIndex(i + 1));
+    }
+    Assert.assertEquals(5, columnDictionaryInfo.getSortedIndex(3));
+    Assert.assertEquals(4, columnDictionaryInfo.getSurrogateKey("agra"));
+  }
+
+  @Test public void testMergeSortIndexWithoutExistingSortIndex() {
+    ColumnDictionaryInfo columnDictionaryInfo = new ColumnDictionaryInfo(DataType.INT);
+    columnDictionaryInfo.addDictionaryChunk(prepareChunk("30", "10"));
+    columnDictionaryInfo.setSortOrderIndex(Arrays.asList(2, 1, 3));
+    columnDictionaryInfo.setSortReverseOrderIndex(Arrays.asList(2, 1, 3));
+    Assert.assertFalse(columnDictionaryInfo.mergeSortIndexOfNewValues());
+  }
+}
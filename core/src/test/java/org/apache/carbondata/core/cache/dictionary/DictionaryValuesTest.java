@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.cache.dictionary;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.carbondata.core.cache.CarbonLRUCache;
+import org.apache.carbondata.core.carbon.metadata.datatype.DataType;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+
+import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.unsafe.types.UTF8String;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check dictionary values converted to data type
+ */
+public class DictionaryValuesTest {
+
+  private static List<List<byte[]>> prepareData(String... values) {
+    List<List<byte[]>> dictionaryChunks = new ArrayList<>();
+    List<byte[]> chunk = new ArrayList<>();
+    for (int i = 0; i < values.length; i++) {
+      chunk.add(values[i].getBytes());
+      // two values in one chunk
+      if (chunk.size() == 2) {
+        dictionaryChunks.add(chunk);
+        chunk = new ArrayList<>();
+      }
+    }
+    if (chunk.size() > 0) {
+      dictionaryChunks.add(chunk);
+    }
+    return dictionaryChunks;
+  }
+
+  @Test public void testStringValues() {
+    DictionaryValues dictionaryValues = DictionaryValues.create(DataType.STRING,
+        prepareData(CarbonCommonConstants.MEMBER_DEFAULT_VAL, "b", "a"));
+    Assert.assertEquals(4, dictionaryValues.getSize());
+    Assert.assertTrue(dictionaryValues.isNull(0));
+    Assert.assertTrue(dictionaryValues.isNull(1));
+    Assert.assertEquals(UTF8String.fromString("b"), dictionaryValues.getUTF8String(2));
+    Assert.assertEquals(UTF8String.fromString("a"), dictionaryValues.getUTF8String(3));
+    Assert.assertTrue(dictionaryValues.isNull(4));
+  }
+
+  @Test public void testIntValues() {
+    DictionaryValues dictionaryValues =
+        DictionaryValues.create(DataType.INT, prepareData("10", "x", "-3"));
+    Assert.assertEquals(10, dictionaryValues.getInt(1));
+    Assert.assertTrue(dictionaryValues.isNull(2));
+    Assert.assertEquals(-3, dictionaryValues.getInt(3));
+  }
+
+  @Test public void testLongAndDoubleValues() {
+    DictionaryValues longValues =
+        DictionaryValues.create(DataType.LONG, prepareData("12345678901"));
+    Assert.assertEquals(12345678901L, longValues.getLong(1));
+    DictionaryValues doubleValues =
+        DictionaryValues.create(DataType.DOUBLE, prepareData("1.5", "2"));
+    Assert.assertEquals(1.5, doubleValues.getDouble(1), 0);
+    Assert.assertEquals(2.0, doubleValues.getDouble(2), 0);
+  }
+
+  @Test public void testDecimalValueIsNotShared() {
+    DictionaryValues dictionaryValues =
+        DictionaryValues.create(DataType.DECIMAL, prepareData("12.345"));
+    Decimal decimal = dictionaryValues.getDecimal(1);
+    Assert.assertNotSame(decimal, dictionaryValues.getDecimal(1));
+    // consumer of the value like unsafe projection can change the precision
+    decimal.changePrecision(4, 1);
+    Assert.assertEquals(new BigDecimal("12.345"),
+        dictionaryValues.getDecimal(1).toJavaBigDecimal());
+  }
+
+  @Test public void testValuesAreCachedTillChunkIsAdded() {
+    ColumnDictionaryInfo columnDictionaryInfo = new ColumnDictionaryInfo(DataType.SHORT);
+    columnDictionaryInfo.addDictionaryChunk(new ArrayList<>(Arrays.asList("1".getBytes())));
+    CarbonLRUCache carbonLRUCache = new CarbonLRUCache("carbon.dictionary.values.test", "-1");
+    carbonLRUCache.put("column", columnDictionaryInfo, 0);
+    DictionaryValues dictionaryValues =
+        columnDictionaryInfo.getDictionaryValues(carbonLRUCache, "column");
+    Assert.assertSame(dictionaryValues,
+        columnDictionaryInfo.getDictionaryValues(carbonLRUCache, "column"));
+    Assert.assertTrue(dictionaryValues.isNull(2));
+    columnDictionaryInfo.addDictionaryChunk(new ArrayList<>(Arrays.asList("2".getBytes())));
+    dictionaryValues = columnDictionaryInfo.getDictionaryValues(carbonLRUCache, "column");
+    Assert.assertEquals(1, dictionaryValues.getShort(1));
+    Assert.assertEquals(2, dictionaryValues.getShort(2));
+  }
+
+  @Test public void testValuesSizeIsAddedToLRUCache() {
+    ColumnDictionaryInfo columnDictionaryInfo = new ColumnDictionaryInfo(DataType.STRING);
+    columnDictionaryInfo.addDictionaryChunk(new ArrayList<>(Arrays.asList("a".getBytes())));
+    columnDictionaryInfo.setOffsetTillFileIsRead(10);
+    CarbonLRUCache carbonLRUCache = new CarbonLRUCache("carbon.dictionary.values.test", "-1");
+    carbonLRUCache.put("column", columnDictionaryInfo, 10);
+    DictionaryValues dictionaryValues =
+        columnDictionaryInfo.getDictionaryValues(carbonLRUCache, "column");
+    Assert.assertEquals(10 + dictionaryValues.getMemorySize(),
+        columnDictionaryInfo.getMemorySize());
+    Assert.assertEquals(columnDictionaryInfo.getMemorySize(), carbonLRUCache.getCurrentSize());
+    columnDictionaryInfo.addDictionaryChunk(new ArrayList<>(Arrays.asList("bc".getBytes())));
+    columnDictionaryInfo.getDictionaryValues(carbonLRUCache, "column");
+    Assert.assertEquals(columnDictionaryInfo.getMemorySize(), carbonLRUCache.getCurrentSize());
+    carbonLRUCache.remove("column");
+    Assert.assertEquals(0, carbonLRUCache.getCurrentSize());
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.carbon.datastore.chunk.impl;
+
+import java.util.BitSet;
+
+import org.apache.carbondata.core.carbon.datastore.chunk.DimensionChunkAttributes;
+import org.apache.carbondata.scan.filter.FilterUtil;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check run length encoded chunk behaves same as expanded chunk
+ */
+public class FixedLengthDimensionDataChunkTest {
+
+  // 3 runs of 1 byte each: 2 x 3, 3 x 5, 1 x 9
+  private static final byte[] RUN_VALUES = new byte[] { 3, 5, 9 };
+
+  private static final int[] RLE_PAGE = new int[] { 0, 2, 2, 3, 5, 1 };
+
+  private static final byte[] EXPANDED = new byte[] { 3, 3, 5, 5, 5, 9 };
+
+  private static DimensionChunkAttributes getAttributes(int[] invertedIndexes,
+      int[] invertedIndexesReverse) {
+    DimensionChunkAttributes chunkAttributes = new DimensionChunkAttributes();
+    chunkAttributes.setEachRowSize(1);
+    chunkAttributes.setInvertedIndexes(invertedIndexes);
+    chunkAttributes.setInvertedIndexesReverse(invertedIndexesReverse);
+    return chunkAttributes;
+  }
+
+  @Test public void testRunsAreReadWithoutExpanding() {
+    FixedLengthDimensionDataChunk chunk =
+        new FixedLengthDimensionDataChunk(RUN_VALUES, RLE_PAGE, getAttributes(null, null));
+    Assert.assertTrue(chunk.isRunLengthEncoded());
+    Assert.assertEquals(3, chunk.getNumberOfRuns());
+    Assert.assertEquals(0, chunk.getRunStart(0));
+    Assert.assertEquals(2, chunk.getRunStart(1));
+    Assert.assertEquals(5, chunk.getRunStart(2));
+    Assert.assertEquals(6, chunk.getRunStart(3));
+    Assert.assertEquals(0, chunk.compareRunValue(1, new byte[] { 5 }));
+    Assert.assertTrue(chunk.compareRunValue(2, new byte[] { 5 }) > 0);
+    Assert.assertTrue(chunk.compareRunValue(0, new byte[] { 5 }) < 0);
+  }
+
+  @Test public void testRowAccessorsExpandRuns() {
+    FixedLengthDimensionDataChunk chunk =
+        new FixedLengthDimensionDataChunk(RUN_VALUES, RLE_PAGE, getAttributes(null, null));
+    FixedLengthDimensionDataChunk expandedChunk =
+        new FixedLengthDimensionDataChunk(EXPANDED, getAttributes(null, null));
+    for (int row = 0; row < EXPANDED.length; row++) {
+      Assert.assertEquals(expandedChunk.getKeyValue(row), chunk.getKeyValue(row));
+      Assert.assertArrayEquals(expandedChunk.getChunkData(row), chunk.getChunkData(row));
+    }
+    Assert.assertArrayEquals(EXPANDED, chunk.getCompleteDataChunk());
+  }
+
+  @Test public void testEmptyRlePageKeepsData() {
+    FixedLengthDimensionDataChunk chunk =
+        new FixedLengthDimensionDataChunk(EXPANDED, new int[0], getAttributes(null, null));
+    Assert.assertFalse(chunk.isRunLengthEncoded());
+    Assert.assertArrayEquals(EXPANDED, chunk.getCompleteDataChunk());
+  }
+
+  @Test public void testSetRunToBitSet() {
+    BitSet bitSet = new BitSet();
+    FilterUtil.setRunToBitSet(bitSet, null, 2, 5, true);
+    Assert.assertEquals("{2, 3, 4}", bitSet.toString());
+    FilterUtil.setRunToBitSet(bitSet, null, 3, 4, false);
+    Assert.assertEquals("{2, 4}", bitSet.toString());
+    bitSet.clear();
+    // sorted index 2..4 are rows 0, 5 and 1
+    FilterUtil.setRunToBitSet(bitSet, new int[] { 3, 4, 0, 5, 1, 2 }, 2, 5, true);
+    Assert.assertEquals("{0, 1, 5}", bitSet.toString());
+  }
+}
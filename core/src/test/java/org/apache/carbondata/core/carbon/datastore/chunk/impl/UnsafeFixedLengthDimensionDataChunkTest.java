@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.carbon.datastore.chunk.impl;
+
+import org.apache.carbondata.core.carbon.datastore.chunk.DimensionChunkAttributes;
+import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.UnsafeCarbonReadDataHolder;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class to check off heap chunks behave same as heap chunks
+ */
+public class UnsafeFixedLengthDimensionDataChunkTest {
+
+  private FixedLengthDimensionDataChunk heapChunk;
+
+  private FixedLengthDimensionDataChunk offHeapChunk;
+
+  @Before public void setUp() {
+    // 4 rows of 2 bytes each, stored in sorted order with inverted index
+    byte[] data = new byte[] { 0, 1, 0, 5, 1, 0, (byte) 255, 2 };
+    DimensionChunkAttributes chunkAttributes = new DimensionChunkAttributes();
+    chunkAttributes.setEachRowSize(2);
+    chunkAttributes.setInvertedIndexes(new int[] { 2, 0, 3, 1 });
+    chunkAttributes.setInvertedIndexesReverse(new int[] { 1, 3, 0, 2 });
+    heapChunk = new FixedLengthDimensionDataChunk(data, chunkAttributes);
+    offHeapChunk = new UnsafeFixedLengthDimensionDataChunk(data, chunkAttributes);
+  }
+
+  @After public void tearDown() {
+    offHeapChunk.freeMemory();
+  }
+
+  @Test public void testRowAccessors() {
+    Assert.assertTrue(offHeapChunk.isOffHeap());
+    for (int row = 0; row < 4; row++) {
+      Assert.assertArrayEquals(heapChunk.getChunkData(row), offHeapChunk.getChunkData(row));
+      byte[] heapData = new byte[4];
+      byte[] offHeapData = new byte[4];
+      heapChunk.fillChunkData(heapData, 1, row, null);
+      offHeapChunk.fillChunkData(offHeapData, 1, row, null);
+      Assert.assertArrayEquals(heapData, offHeapData);
+      int[] heapRow = new int[1];
+      int[] offHeapRow = new int[1];
+      heapChunk.fillConvertedChunkData(row, 0, heapRow, null);
+      offHeapChunk.fillConvertedChunkData(row, 0, offHeapRow, null);
+      Assert.assertEquals(heapRow[0], offHeapRow[0]);
+    }
+    Assert.assertArrayEquals(heapChunk.getCompleteDataChunk(),
+        offHeapChunk.getCompleteDataChunk());
+  }
+
+  @Test public void testCompareAndKeyValue() {
+    byte[][] values = new byte[][] { { 0, 5 }, { 1, 0 }, { (byte) 255, 2 }, { 0, 0 } };
+    for (int index = 0; index < 4; index++) {
+      Assert.assertEquals(heapChunk.getKeyValue(index), offHeapChunk.getKeyValue(index));
+      for (byte[] value : values) {
+        Assert.assertEquals(Integer.signum(heapChunk.compareTo(index, value)),
+            Integer.signum(offHeapChunk.compareTo(index, value)));
+      }
+    }
+    Assert.assertEquals(65282, offHeapChunk.getKeyValue(3));
+  }
+
+  @Test public void testFillConvertedChunkDataVector() {
+    int[] rowIds = new int[] { 3, 0, 2 };
+    int[][] heapVectors = new int[2][5];
+    int[][] offHeapVectors = new int[2][5];
+    Assert.assertEquals(2,
+        heapChunk.fillConvertedChunkDataVector(rowIds, rowIds.length, 1, heapVectors, 2, null));
+    Assert.assertEquals(2, offHeapChunk
+        .fillConvertedChunkDataVector(rowIds, rowIds.length, 1, offHeapVectors, 2, null));
+    Assert.assertArrayEquals(heapVectors[1], offHeapVectors[1]);
+    int[] row = new int[1];
+    for (int i = 0; i < rowIds.length; i++) {
+      heapChunk.fillConvertedChunkData(rowIds[i], 0, row, null);
+      Assert.assertEquals(row[0], heapVectors[1][2 + i]);
+    }
+    Assert.assertEquals(0, heapVectors[1][0]);
+    Assert.assertEquals(0, heapVectors[1][1]);
+  }
+
+  @Test public void testOffHeapMeasureValues() {
+    CarbonReadDataHolder dataHolder = new CarbonReadDataHolder();
+    dataHolder.setReadableDoubleValues(new double[] { 1.5, -2.25, 3 });
+    dataHolder.setReadableLongValues(new long[] { Long.MIN_VALUE, 7 });
+    CarbonReadDataHolder offHeapHolder = new UnsafeCarbonReadDataHolder(dataHolder);
+    try {
+      Assert.assertEquals(-2.25, offHeapHolder.getReadableDoubleValueByIndex(1), 0);
+      Assert.assertEquals(3, offHeapHolder.getReadableDoubleValueByIndex(2), 0);
+      Assert.assertEquals(Long.MIN_VALUE, offHeapHolder.getReadableLongValueByIndex(0));
+      Assert.assertEquals(7, offHeapHolder.getReadableLongValueByIndex(1));
+    } finally {
+      offHeapHolder.freeMemory();
+      // freeing again should not fail
+      offHeapHolder.freeMemory();
+    }
+  }
+}
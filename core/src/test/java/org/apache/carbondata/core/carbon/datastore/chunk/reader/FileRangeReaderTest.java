@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.carbon.datastore.chunk.reader;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastorage.store.FileHolder;
+import org.apache.carbondata.core.datastorage.store.impl.FileHolderImpl;
+import org.apache.carbondata.core.util.CarbonProperties;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Test class for coalesced range reads
+ */
+public class FileRangeReaderTest {
+
+  private static File file;
+
+  private static byte[] content;
+
+  @BeforeClass public static void setUp() throws IOException {
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_READ_COALESCE_GAP_SIZE, "10");
+    content = new byte[1000];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    file = File.createTempFile("rangeReader", ".carbondata");
+    FileOutputStream stream = new FileOutputStream(file);
+    try {
+      stream.write(content);
+    } finally {
+      stream.close();
+    }
+  }
+
+  @AfterClass public static void tearDown() {
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_READ_COALESCE_GAP_SIZE,
+            CarbonCommonConstants.CARBON_READ_COALESCE_GAP_SIZE_DEFAULT);
+    file.delete();
+  }
+
+  @Test public void testNearbyRangesAreReadTogether() {
+    FileRangeReader rangeReader = new FileRangeReader();
+    rangeReader.addRange(500, 20);
+    rangeReader.addRange(100, 50);
+    rangeReader.addRange(155, 10);
+    rangeReader.addRange(150, 5);
+    FileHolder fileHolder = new FileHolderImpl();
+    rangeReader.read(fileHolder, file.getAbsolutePath());
+    fileHolder.finish();
+    Assert.assertEquals(2, rangeReader.getNumberOfReads());
+    assertRange(rangeReader, 100, 50);
+    assertRange(rangeReader, 150, 5);
+    assertRange(rangeReader, 155, 10);
+    assertRange(rangeReader, 500, 20);
+  }
+
+  @Test public void testRangesBeyondGapAreReadSeparately() {
+    FileRangeReader rangeReader = new FileRangeReader();
+    rangeReader.addRange(0, 10);
+    rangeReader.addRange(21, 10);
+    FileHolder fileHolder = new FileHolderImpl();
+    rangeReader.read(fileHolder, file.getAbsolutePath());
+    fileHolder.finish();
+    Assert.assertEquals(2, rangeReader.getNumberOfReads());
+    assertRange(rangeReader, 0, 10);
+    assertRange(rangeReader, 21, 10);
+  }
+
+  @Test public void testMergedRangeIsLimitedToMaxSize() {
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.CARBON_READ_COALESCE_MAX_SIZE, "100");
+    try {
+      FileRangeReader rangeReader = new FileRangeReader();
+      rangeReader.addRange(0, 40);
+      rangeReader.addRange(40, 40);
+      rangeReader.addRange(80, 40);
+      rangeReader.addRange(120, 150);
+      FileHolder fileHolder = new FileHolderImpl();
+      rangeReader.read(fileHolder, file.getAbsolutePath());
+      fileHolder.finish();
+      Assert.assertEquals(3, rangeReader.getNumberOfReads());
+      assertRange(rangeReader, 0, 40);
+      assertRange(rangeReader, 40, 40);
+      assertRange(rangeReader, 80, 40);
+      assertRange(rangeReader, 120, 150);
+    } finally {
+      CarbonProperties.getInstance()
+          .addProperty(CarbonCommonConstants.CARBON_READ_COALESCE_MAX_SIZE,
+              CarbonCommonConstants.CARBON_READ_COALESCE_MAX_SIZE_DEFAULT);
+    }
+  }
+
+  private void assertRange(FileRangeReader rangeReader, int offset, int length) {
+    ByteBuffer buffer = rangeReader.getBuffer(offset, length);
+    Assert.assertEquals(length, buffer.remaining());
+    Assert.assertArrayEquals(Arrays.copyOfRange(content, offset, offset + length), Arrays
+        .copyOfRange(buffer.array(), buffer.position(), buffer.position() + buffer.remaining()));
+  }
+}
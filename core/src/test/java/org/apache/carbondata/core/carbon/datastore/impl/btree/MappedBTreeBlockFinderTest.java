@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.carbon.datastore.impl.btree;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.carbondata.core.carbon.datastore.BTreeBuilderInfo;
+import org.apache.carbondata.core.carbon.datastore.BtreeBuilder;
+import org.apache.carbondata.core.carbon.datastore.DataRefNode;
+import org.apache.carbondata.core.carbon.datastore.DataRefNodeFinder;
+import org.apache.carbondata.core.carbon.datastore.IndexKey;
+import org.apache.carbondata.core.carbon.datastore.block.BlockInfo;
+import org.apache.carbondata.core.carbon.datastore.block.TableBlockInfo;
+import org.apache.carbondata.core.carbon.metadata.blocklet.DataFileFooter;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBTreeIndex;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletIndex;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletMinMaxIndex;
+import org.apache.carbondata.core.carbon.metadata.index.BlockIndexInfo;
+import org.apache.carbondata.core.keygenerator.KeyGenException;
+import org.apache.carbondata.core.keygenerator.KeyGenerator;
+import org.apache.carbondata.core.keygenerator.mdkey.MultiDimKeyVarLengthGenerator;
+import org.apache.carbondata.core.reader.CarbonIndexMapFileReader;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.core.writer.CarbonIndexMapFileWriter;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class to check search over index map file gives same blocks as btree
+ */
+public class MappedBTreeBlockFinderTest {
+
+  private File indexMapFile;
+
+  private KeyGenerator keyGenerator;
+
+  private List<BlockIndexInfo> blockIndexInfoList;
+
+  @Before public void setUp() throws IOException, KeyGenException {
+    indexMapFile = File.createTempFile("0-0", ".carbonindexmap");
+    keyGenerator = new MultiDimKeyVarLengthGenerator(
+        CarbonUtil.getDimensionBitLength(new int[] { 10000, 10000 }, new int[] { 1, 1 }));
+    blockIndexInfoList = new ArrayList<BlockIndexInfo>();
+    for (int i = 1; i < 1001; i += 10) {
+      byte[] startKey = keyGenerator.generateKey(new int[] { i, i });
+      byte[] endKey = keyGenerator.generateKey(new int[] { i + 9, i + 9 });
+      BlockletBTreeIndex btreeIndex =
+          new BlockletBTreeIndex(getIndexKey(startKey), getIndexKey(endKey));
+      BlockletMinMaxIndex minMaxIndex = new BlockletMinMaxIndex();
+      minMaxIndex.setMinValues(new byte[][] { startKey });
+      minMaxIndex.setMaxValues(new byte[][] { endKey });
+      blockIndexInfoList
+          .add(new BlockIndexInfo(i, "part-" + i, 0, new BlockletIndex(btreeIndex, minMaxIndex)));
+    }
+    new CarbonIndexMapFileWriter()
+        .writeIndexMapFile(indexMapFile.getAbsolutePath(), blockIndexInfoList);
+  }
+
+  @After public void tearDown() {
+    indexMapFile.delete();
+  }
+
+  @Test public void testReaderGivesWrittenValues() throws IOException {
+    CarbonIndexMapFileReader reader =
+        CarbonIndexMapFileReader.open(indexMapFile.getAbsolutePath());
+    Assert.assertEquals(blockIndexInfoList.size(), reader.getNumberOfBlocks());
+    Assert.assertEquals(1, reader.getNumberOfColumns());
+    for (int i = 0; i < blockIndexInfoList.size(); i++) {
+      BlockIndexInfo blockIndexInfo = blockIndexInfoList.get(i);
+      Assert.assertEquals(blockIndexInfo.getNumberOfRows(), reader.getNumberOfRows(i));
+      Assert.assertArrayEquals(blockIndexInfo.getBlockletIndex().getMinMaxIndex().getMinValues(),
+          reader.getMinValues(i));
+      Assert.assertArrayEquals(blockIndexInfo.getBlockletIndex().getMinMaxIndex().getMaxValues(),
+          reader.getMaxValues(i));
+    }
+  }
+
+  @Test public void testSearchIsSameAsBtree() throws IOException, KeyGenException {
+    CarbonIndexMapFileReader reader =
+        CarbonIndexMapFileReader.open(indexMapFile.getAbsolutePath());
+    BTreeNode[] leafNodes = new BTreeNode[reader.getNumberOfBlocks()];
+    List<DataFileFooter> footerList = new ArrayList<DataFileFooter>();
+    for (int i = 0; i < leafNodes.length; i++) {
+      TableBlockInfo tableBlockInfo =
+          new TableBlockInfo("part-" + i, 0, "0", new String[] { "localhost" }, 100);
+      leafNodes[i] = new MappedBlockBTreeLeafNode(reader, new BlockInfo(tableBlockInfo), i);
+      if (i > 0) {
+        leafNodes[i - 1].setNextNode(leafNodes[i]);
+      }
+      DataFileFooter footer = new DataFileFooter();
+      footer.setBlockletIndex(blockIndexInfoList.get(i).getBlockletIndex());
+      footerList.add(footer);
+    }
+    DataRefNode mappedRoot = new MappedBTreeNonLeafNode(reader, leafNodes);
+    BtreeBuilder builder = new BlockBTreeBuilder();
+    builder.build(new BTreeBuilderInfo(footerList, null));
+    DataRefNode root = builder.get();
+    DataRefNodeFinder finder = new BTreeDataRefNodeFinder(new int[] { 2, 2 });
+    for (int value : new int[] { 0, 1, 5, 11, 500, 995, 10001 }) {
+      IndexKey key = new IndexKey(keyGenerator.generateKey(new int[] { value, value }), null);
+      Assert.assertEquals(finder.findFirstDataBlock(root, key).nodeNumber(),
+          finder.findFirstDataBlock(mappedRoot, key).nodeNumber());
+      Assert.assertEquals(finder.findLastDataBlock(root, key).nodeNumber(),
+          finder.findLastDataBlock(mappedRoot, key).nodeNumber());
+    }
+    DataRefNode leafNode = finder.findFirstDataBlock(mappedRoot,
+        new IndexKey(keyGenerator.generateKey(new int[] { 500, 500 }), null));
+    Assert.assertArrayEquals(keyGenerator.generateKey(new int[] { 491, 491 }),
+        leafNode.getColumnsMinValue()[0]);
+    Assert.assertEquals(leafNode.nodeNumber() + 1, leafNode.getNextDataRefNode().nodeNumber());
+  }
+
+  private static byte[] getIndexKey(byte[] dictionaryKey) {
+    ByteBuffer buffer = ByteBuffer.allocate(8 + dictionaryKey.length);
+    buffer.putInt(dictionaryKey.length);
+    buffer.putInt(0);
+    buffer.put(dictionaryKey);
+    return buffer.array();
+  }
+}
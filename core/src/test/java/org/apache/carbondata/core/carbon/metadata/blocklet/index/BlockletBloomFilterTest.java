@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.carbon.metadata.blocklet.index;
+
+import java.nio.charset.Charset;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check bloom filter of blocklet column
+ */
+public class BlockletBloomFilterTest {
+
+  private static final Charset CHARSET = Charset.forName("UTF-8");
+
+  private static byte[] getValueWithLength(String value) {
+    byte[] bytes = value.getBytes(CHARSET);
+    byte[] valueWithLength = new byte[bytes.length + 2];
+    valueWithLength[0] = (byte) (bytes.length >> 8);
+    valueWithLength[1] = (byte) bytes.length;
+    System.arraycopy(bytes, 0, valueWithLength, 2, bytes.length);
+    return valueWithLength;
+  }
+
+  private static BlockletBloomFilter createFilter(int numberOfValues) {
+    BlockletBloomFilter bloomFilter = BlockletBloomFilter.create(3, numberOfValues, 0.01);
+    for (int i = 0; i < numberOfValues; i++) {
+      byte[] value = getValueWithLength("value" + i);
+      bloomFilter.add(value, 2, value.length - 2);
+    }
+    return bloomFilter;
+  }
+
+  @Test public void testAddedValuesArePresent() {
+    BlockletBloomFilter bloomFilter = createFilter(1000);
+    for (int i = 0; i < 1000; i++) {
+      Assert.assertTrue(bloomFilter.mightContain(("value" + i).getBytes(CHARSET)));
+    }
+  }
+
+  @Test public void testFalsePositiveProbability() {
+    BlockletBloomFilter bloomFilter = createFilter(10000);
+    int falsePositives = 0;
+    for (int i = 0; i < 10000; i++) {
+      if (bloomFilter.mightContain(("other" + i).getBytes(CHARSET))) {
+        falsePositives++;
+      }
+    }
+    Assert.assertTrue(falsePositives < 300);
+  }
+
+  @Test public void testFilterReadFromBitSet() {
+    BlockletBloomFilter bloomFilter = createFilter(100);
+    BlockletBloomFilter readFilter =
+        new BlockletBloomFilter(bloomFilter.getColumnIndex(),
+            bloomFilter.getNumberOfHashFunctions(), bloomFilter.getBitSet());
+    Assert.assertEquals(3, readFilter.getColumnIndex());
+    for (int i = 0; i < 200; i++) {
+      byte[] value = ("value" + i).getBytes(CHARSET);
+      Assert.assertEquals(bloomFilter.mightContain(value), readFilter.mightContain(value));
+    }
+  }
+
+  @Test public void testEmptyValue() {
+    BlockletBloomFilter bloomFilter = BlockletBloomFilter.create(0, 0, 0.01);
+    Assert.assertFalse(bloomFilter.mightContain(new byte[0]));
+    bloomFilter.add(new byte[] { 0, 0 }, 2, 0);
+    Assert.assertTrue(bloomFilter.mightContain(new byte[0]));
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.compression;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check all the compression codecs
+ */
+public class CompressorFactoryTest {
+
+  @Test public void testRoundTripForAllCodecs() {
+    byte[] bytes = new byte[] { 1, 1, 1, 1, 2, 2, 2, 3, 0, -1, 127, -128 };
+    short[] shorts = new short[] { 1, -1, Short.MAX_VALUE, Short.MIN_VALUE };
+    int[] ints = new int[] { 1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, 0 };
+    long[] longs = new long[] { 1, -1, Long.MAX_VALUE, Long.MIN_VALUE };
+    float[] floats = new float[] { 1.5f, -2.25f, Float.MAX_VALUE };
+    double[] doubles = new double[] { 1.5, -2.25, Double.MAX_VALUE, Double.MIN_VALUE };
+    for (CompressionCodec codec : CompressionCodec.values()) {
+      Compressor<byte[]> byteCompressor = CompressorFactory.getByteCompressor(codec);
+      Assert.assertArrayEquals(bytes, byteCompressor.unCompress(byteCompressor.compress(bytes)));
+      Compressor<short[]> shortCompressor = CompressorFactory.getShortCompressor(codec);
+      Assert.assertArrayEquals(shorts,
+          shortCompressor.unCompress(shortCompressor.compress(shorts)));
+      Compressor<int[]> intCompressor = CompressorFactory.getIntCompressor(codec);
+      Assert.assertArrayEquals(ints, intCompressor.unCompress(intCompressor.compress(ints)));
+      Compressor<long[]> longCompressor = CompressorFactory.getLongCompressor(codec);
+      Assert.assertArrayEquals(longs, longCompressor.unCompress(longCompressor.compress(longs)));
+      Compressor<float[]> floatCompressor = CompressorFactory.getFloatCompressor(codec);
+      Assert.assertArrayEquals(floats,
+          floatCompressor.unCompress(floatCompressor.compress(floats)), 0);
+      Compressor<double[]> doubleCompressor = CompressorFactory.getDoubleCompressor(codec);
+      Assert.assertArrayEquals(doubles,
+          doubleCompressor.unCompress(doubleCompressor.compress(doubles)), 0);
+    }
+  }
+
+  @Test public void testUnCompressInToArrayForAllCodecs() {
+    long[] longs = new long[] { 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, 5, 5, 5 };
+    double[] doubles = new double[] { 1.5, -2.25, Double.MAX_VALUE, Double.MIN_VALUE };
+    for (CompressionCodec codec : CompressionCodec.values()) {
+      Compressor<long[]> longCompressor = CompressorFactory.getLongCompressor(codec);
+      // compressed page in the middle of a bigger array, as read from file
+      byte[] compressed = longCompressor.compress(longs);
+      byte[] input = new byte[compressed.length + 10];
+      System.arraycopy(compressed, 0, input, 3, compressed.length);
+      Assert.assertEquals(longs.length,
+          longCompressor.unCompressedLength(input, 3, compressed.length));
+      long[] longOutput = new long[longs.length];
+      Assert.assertEquals(longs.length,
+          longCompressor.unCompress(input, 3, compressed.length, longOutput));
+      Assert.assertArrayEquals(longs, longOutput);
+      Compressor<double[]> doubleCompressor = CompressorFactory.getDoubleCompressor(codec);
+      compressed = doubleCompressor.compress(doubles);
+      double[] doubleOutput = new double[doubles.length];
+      Assert.assertEquals(doubles.length,
+          doubleCompressor.unCompress(compressed, 0, compressed.length, doubleOutput));
+      Assert.assertArrayEquals(doubles, doubleOutput, 0);
+      Compressor<byte[]> byteCompressor = CompressorFactory.getByteCompressor(codec);
+      byte[] bytes = new byte[] { 1, 1, 1, 1, 2, 2, 2, 3, 0, -1, 127, -128 };
+      compressed = byteCompressor.compress(bytes);
+      byte[] byteOutput = new byte[byteCompressor.unCompressedLength(compressed, 0,
+          compressed.length)];
+      byteCompressor.unCompress(compressed, 0, compressed.length, byteOutput);
+      Assert.assertArrayEquals(bytes, byteOutput);
+    }
+  }
+
+  @Test public void testUnCompressInToOffsetOfArray() {
+    byte[] bytes = new byte[] { 1, 1, 1, 1, 2, 2, 2, 3, 0, -1, 127, -128 };
+    for (ByteArrayBasedCompression.ByteCompressor byteCompressor : ByteArrayBasedCompression
+        .ByteCompressor.values()) {
+      byte[] compressed = byteCompressor.compress(bytes);
+      byte[] input = new byte[compressed.length + 7];
+      System.arraycopy(compressed, 0, input, 5, compressed.length);
+      byte[] output = new byte[bytes.length + 3];
+      Assert.assertEquals(bytes.length,
+          byteCompressor.unCompress(input, 5, compressed.length, output, 3));
+      Assert.assertArrayEquals(bytes, Arrays.copyOfRange(output, 3, output.length));
+    }
+  }
+
+  @Test public void testUnCompressUsingColumnPageBuffer() {
+    int[] ints = new int[] { 1, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, 0 };
+    for (CompressionCodec codec : CompressionCodec.values()) {
+      Compressor<int[]> intCompressor = CompressorFactory.getIntCompressor(codec);
+      byte[] compressed = intCompressor.compress(ints);
+      ColumnPageBuffer buffer = new ColumnPageBuffer();
+      int[] output = buffer.getIntArray(intCompressor.unCompressedLength(compressed, 0,
+          compressed.length));
+      if (intCompressor instanceof ByteArrayBasedCompression.PrimitiveArrayCompressor) {
+        ((ByteArrayBasedCompression.PrimitiveArrayCompressor<int[]>) intCompressor)
+            .unCompress(compressed, 0, compressed.length, output, buffer);
+      } else {
+        intCompressor.unCompress(compressed, 0, compressed.length, output);
+      }
+      Assert.assertArrayEquals(ints, output);
+      // compressed codecs uncompress the page in to the byte array of the buffer
+      if (codec == CompressionCodec.LZ4 || codec == CompressionCodec.ZSTD) {
+        int[] pageValues = new int[ints.length];
+        ByteBuffer.wrap(buffer.getByteArray(ints.length * 4)).asIntBuffer().get(pageValues);
+        Assert.assertArrayEquals(ints, pageValues);
+      }
+    }
+  }
+
+  @Test public void testEmptyDataForAllCodecs() {
+    for (CompressionCodec codec : CompressionCodec.values()) {
+      Compressor<byte[]> byteCompressor = CompressorFactory.getByteCompressor(codec);
+      Assert.assertEquals(0,
+          byteCompressor.unCompress(byteCompressor.compress(new byte[0])).length);
+    }
+  }
+
+  @Test public void testGetCompressionCodec() {
+    Assert.assertEquals(CompressionCodec.LZ4, CompressorFactory.getCompressionCodec("lz4"));
+    Assert.assertEquals(CompressionCodec.ZSTD, CompressorFactory.getCompressionCodec(" ZSTD "));
+    Assert.assertEquals(CompressionCodec.NONE, CompressorFactory.getCompressionCodec("none"));
+    Assert.assertNull(CompressorFactory.getCompressionCodec("gzip"));
+    Assert.assertNull(CompressorFactory.getCompressionCodec((String) null));
+  }
+
+  @Test public void testNullCodecFallsBackToSnappy() {
+    Assert.assertSame(CompressorFactory.getByteCompressor(CompressionCodec.SNAPPY),
+        CompressorFactory.getByteCompressor(null));
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.compression;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.apache.carbondata.core.datastorage.store.dataholder.CarbonReadDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.ColumnPageBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check the measure pages are encoded with the cheapest
+ * encoding and decoded back to the same values
+ */
+public class MeasurePageCodecTest {
+
+  @Test public void testRunsAreRunLengthEncoded() {
+    long[] values = new long[1000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (i / 250) * 1000000007L;
+    }
+    assertLongPage(values, MeasurePageEncoding.RLE);
+  }
+
+  @Test public void testSequenceIsDeltaEncoded() {
+    long[] values = new long[1000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = 1480000000000L + i * 1000L + (i % 3);
+    }
+    assertLongPage(values, MeasurePageEncoding.DELTA);
+  }
+
+  @Test public void testNarrowRangeIsBitPacked() {
+    Random random = new Random(7);
+    long[] values = new long[1000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = -5000000000L + random.nextInt(100000);
+    }
+    assertLongPage(values, MeasurePageEncoding.BIT_PACKED);
+  }
+
+  @Test public void testFewDistinctValuesAreDictionaryEncoded() {
+    Random random = new Random(7);
+    long[] distinct = { Long.MIN_VALUE, -1L, 0L, 42L, Long.MAX_VALUE };
+    long[] values = new long[1000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = distinct[random.nextInt(distinct.length)];
+    }
+    assertLongPage(values, MeasurePageEncoding.DICTIONARY);
+  }
+
+  @Test public void testRandomValuesAreNotEncoded() {
+    Random random = new Random(7);
+    long[] values = new long[1000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextLong();
+    }
+    Assert.assertNull(MeasurePageCodec.encode(values, values.length * 8));
+  }
+
+  @Test public void testConstantPage() {
+    long[] values = new long[1000];
+    Arrays.fill(values, 12345L);
+    assertLongPage(values, MeasurePageEncoding.BIT_PACKED);
+    // encoded page of a single value is bigger than the value
+    Assert.assertNull(MeasurePageCodec.encode(new long[] { 12345L }, 8));
+  }
+
+  @Test public void testDoublePages() {
+    double[] values = new double[500];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = (i % 10) * 0.25;
+    }
+    assertDoublePage(values, 2);
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i % 7;
+    }
+    assertDoublePage(values, 1);
+    // values which can not be scaled are encoded using their bits
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i % 4 == 0 ? Math.PI : -0.0;
+    }
+    assertDoublePage(values, 15);
+  }
+
+  private void assertLongPage(long[] values, MeasurePageEncoding expectedEncoding) {
+    byte[] page = MeasurePageCodec.encode(values, values.length * 8);
+    Assert.assertNotNull(page);
+    Assert.assertEquals(expectedEncoding, MeasurePageCodec.getEncoding(page));
+    Assert.assertTrue(page.length < values.length * 8);
+    CarbonReadDataHolder dataHolder = MeasurePageCodec.decode(page, new ColumnPageBuffer());
+    Assert.assertArrayEquals(values, dataHolder.getReadableLongValues());
+  }
+
+  private void assertDoublePage(double[] values, int decimal) {
+    byte[] page = MeasurePageCodec.encode(values, decimal, values.length * 8);
+    Assert.assertNotNull(page);
+    double[] decoded =
+        MeasurePageCodec.decode(page, new ColumnPageBuffer()).getReadableDoubleValues();
+    Assert.assertEquals(values.length, decoded.length);
+    for (int i = 0; i < values.length; i++) {
+      Assert.assertEquals(Double.doubleToRawLongBits(values[i]),
+          Double.doubleToRawLongBits(decoded[i]));
+    }
+  }
+}
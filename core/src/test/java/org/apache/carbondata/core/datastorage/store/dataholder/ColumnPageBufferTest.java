@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.dataholder;
+
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
+import org.apache.carbondata.core.datastorage.store.compression.ValueCompressonHolder.UnCompressValue;
+import org.apache.carbondata.core.datastorage.store.compression.type.UnCompressMaxMinByte;
+import org.apache.carbondata.core.util.ValueCompressionUtil.DataType;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check pages are uncompressed in to the reused arrays
+ */
+public class ColumnPageBufferTest {
+
+  @Test public void testArrayIsReusedForSameLength() {
+    ColumnPageBuffer buffer = new ColumnPageBuffer();
+    double[] doubles = buffer.getReadableDoubleArray(10);
+    Assert.assertSame(doubles, buffer.getReadableDoubleArray(10));
+    Assert.assertEquals(5, buffer.getReadableDoubleArray(5).length);
+    Assert.assertNotSame(buffer.getLongArray(10), buffer.getReadableLongArray(10));
+  }
+
+  @Test public void testPoolKeepsBufferPerColumn() {
+    ColumnPageBufferPool pool = new ColumnPageBufferPool(2, 2);
+    Assert.assertSame(pool.getMeasureBuffer(1), pool.getMeasureBuffer(1));
+    Assert.assertNotSame(pool.getMeasureBuffer(0), pool.getMeasureBuffer(1));
+    Assert.assertNotSame(pool.getDimensionBuffer(0), pool.getMeasureBuffer(0));
+  }
+
+  @Test public void testMeasurePagesAreUncompressedInToBuffer() {
+    ColumnPageBuffer buffer = new ColumnPageBuffer();
+    double[] firstPage = getValues(new int[] { 0, 1, 2 }, 10, buffer);
+    Assert.assertArrayEquals(new double[] { 10, 9, 8 }, firstPage, 0);
+    double[] secondPage = getValues(new int[] { 5, 0, 7 }, 20, buffer);
+    Assert.assertArrayEquals(new double[] { 15, 20, 13 }, secondPage, 0);
+    Assert.assertSame(firstPage, secondPage);
+  }
+
+  private double[] getValues(int[] page, double maxValue, ColumnPageBuffer buffer) {
+    UnCompressMaxMinByte compressed = new UnCompressMaxMinByte();
+    compressed.setValue(
+        CompressorFactory.getIntCompressor(CompressionCodec.SNAPPY).compress(page));
+    UnCompressValue uncompressed =
+        compressed.uncompress(DataType.DATA_INT, CompressionCodec.SNAPPY, buffer);
+    return uncompressed.getValues(0, maxValue, buffer).getReadableDoubleValues();
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.dataholder;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.util.DataTypeUtil;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check the statistics and values of the measure pages
+ */
+public class MeasurePageBuilderTest {
+
+  @Test public void testLongPage() {
+    MeasurePageBuilder page =
+        MeasurePageBuilder.newInstance(CarbonCommonConstants.BIG_INT_MEASURE, 4);
+    page.putLong(20L);
+    page.putNull();
+    page.putLong(-5L);
+    Assert.assertEquals(20L, page.getMaxValue());
+    Assert.assertEquals(-5L, page.getMinValue());
+    Assert.assertEquals(-6L, page.getUniqueValue());
+    Assert.assertEquals(1, page.getDecimal());
+    Assert.assertEquals(3, page.getRowCount());
+    Assert.assertTrue(page.getNullBitSet().get(1));
+    Assert.assertEquals(1, page.getNullBitSet().cardinality());
+    Assert.assertArrayEquals(new long[] { 20L, 0L, -5L },
+        page.getWriteDataHolder().getWritableLongValues());
+  }
+
+  @Test public void testDoublePage() {
+    MeasurePageBuilder page =
+        MeasurePageBuilder.newInstance(CarbonCommonConstants.SUM_COUNT_VALUE_MEASURE, 3);
+    page.putDouble(1.25);
+    page.putDouble(-3.5);
+    page.putNull();
+    Assert.assertEquals(1.25, page.getMaxValue());
+    Assert.assertEquals(-3.5, page.getMinValue());
+    Assert.assertEquals(-4.5, page.getUniqueValue());
+    Assert.assertEquals(2, page.getDecimal());
+    Assert.assertTrue(page.getNullBitSet().get(2));
+    Assert.assertArrayEquals(new double[] { 1.25, -3.5, 0.0 },
+        page.getWriteDataHolder().getWritableDoubleValues(), 0);
+  }
+
+  @Test public void testDecimalCount() {
+    double[] values = { 0.0, 5.0, -12.0, 1.5, 0.001, 0.0001, 9999999.0, 1.0E7, 123456.789, 1.0E-8 };
+    for (double value : values) {
+      String strValue = BigDecimal.valueOf(Math.abs(value)).toPlainString();
+      int index = strValue.indexOf('.');
+      int expected = index == -1 ? 0 : strValue.length() - index - 1;
+      Assert.assertEquals(expected, DoubleMeasurePageBuilder.getDecimalCount(value));
+    }
+  }
+
+  @Test public void testDecimalPage() {
+    MeasurePageBuilder page =
+        MeasurePageBuilder.newInstance(CarbonCommonConstants.BIG_DECIMAL_MEASURE, 2);
+    byte[] first = DataTypeUtil.bigDecimalToByte(new BigDecimal("12.5"));
+    page.putBytes(first);
+    page.putNull();
+    page.putDecimal(new BigDecimal("-1.25"));
+    Assert.assertEquals(new BigDecimal("-1.25"), page.getMinValue());
+    Assert.assertEquals(new BigDecimal("-2.25"), page.getUniqueValue());
+    Assert.assertTrue(page.getNullBitSet().get(1));
+    ByteBuffer buffer = ByteBuffer.wrap(page.getWriteDataHolder().getWritableByteArrayValues());
+    byte[][] expected = new byte[][] { first, DataTypeUtil.bigDecimalToByte(BigDecimal.valueOf(0)),
+        DataTypeUtil.bigDecimalToByte(new BigDecimal("-1.25")) };
+    for (byte[] value : expected) {
+      byte[] actual = new byte[buffer.getInt()];
+      buffer.get(actual);
+      Assert.assertArrayEquals(value, actual);
+    }
+    Assert.assertFalse(buffer.hasRemaining());
+  }
+}
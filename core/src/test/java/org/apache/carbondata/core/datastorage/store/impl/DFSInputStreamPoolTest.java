@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.carbondata.core.datastorage.store.impl;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for stream pool eviction
+ */
+public class DFSInputStreamPoolTest {
+
+  private String[] filePaths = new String[3];
+
+  private DFSInputStreamPool pool;
+
+  @Before public void setUp() throws Exception {
+    for (int i = 0; i < filePaths.length; i++) {
+      File file = File.createTempFile("streamPool", ".carbondata");
+      filePaths[i] = file.getAbsolutePath();
+      DataOutputStream stream = new DataOutputStream(new FileOutputStream(file));
+      stream.writeInt(i);
+      stream.close();
+    }
+    pool = new DFSInputStreamPool(2, 60000L);
+  }
+
+  @After public void tearDown() {
+    for (String filePath : filePaths) {
+      new File(filePath).delete();
+    }
+  }
+
+  @Test public void testNewStreamIsNotEvictedWhenOtherStreamsAreInUse() throws IOException {
+    pool.acquire(filePaths[0]);
+    pool.acquire(filePaths[1]);
+    FSDataInputStream stream = pool.acquire(filePaths[2]);
+    byte[] buffer = new byte[4];
+    stream.readFully(0, buffer);
+    Assert.assertEquals(2, buffer[3]);
+    Assert.assertEquals(3, pool.size());
+  }
+
+  @Test public void testReleasedStreamIsEvictedWhenPoolIsFull() throws IOException {
+    FSDataInputStream firstStream = pool.acquire(filePaths[0]);
+    pool.acquire(filePaths[1]);
+    pool.release(filePaths[0], firstStream);
+    FSDataInputStream stream = pool.acquire(filePaths[2]);
+    byte[] buffer = new byte[4];
+    stream.readFully(0, buffer);
+    Assert.assertEquals(2, buffer[3]);
+    Assert.assertEquals(2, pool.size());
+  }
+
+  @Test public void testInvalidatedStreamIsClosedOnLastRelease() throws IOException {
+    FSDataInputStream stream = pool.acquire(filePaths[0]);
+    pool.invalidate(filePaths[0], stream);
+    Assert.assertEquals(0, pool.size());
+    byte[] buffer = new byte[4];
+    stream.readFully(0, buffer);
+    Assert.assertEquals(0, buffer[3]);
+    FSDataInputStream newStream = pool.acquire(filePaths[0]);
+    Assert.assertNotSame(stream, newStream);
+    pool.release(filePaths[0], stream);
+    try {
+      stream.read();
+      Assert.fail("stream should be closed on last release");
+    } catch (Exception e) {
+      // closed local file system stream fails on read
+    }
+    newStream.readFully(0, buffer);
+    Assert.assertEquals(0, buffer[3]);
+  }
+
+  @Test public void testFailedOpenIsNotPooled() {
+    try {
+      pool.acquire(filePaths[0] + ".missing");
+      Assert.fail("missing file should not be opened");
+    } catch (IOException e) {
+      // expected
+    }
+    Assert.assertEquals(0, pool.size());
+  }
+}
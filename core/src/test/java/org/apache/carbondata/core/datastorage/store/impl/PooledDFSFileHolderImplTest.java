@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.core.datastorage.store.impl;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for pooled file holder
+ */
+public class PooledDFSFileHolderImplTest {
+
+  private String filePath;
+
+  @Before public void setUp() throws Exception {
+    File file = File.createTempFile("pooledFileHolder", ".carbondata");
+    filePath = file.getAbsolutePath();
+    DataOutputStream stream = new DataOutputStream(new FileOutputStream(file));
+    stream.writeInt(10);
+    stream.writeLong(20L);
+    stream.write(new byte[] { 1, 2, 3, 4 });
+    stream.writeInt(30);
+    stream.close();
+  }
+
+  @After public void tearDown() {
+    new File(filePath).delete();
+  }
+
+  @Test public void testPositionalAndSequentialReads() {
+    PooledDFSFileHolderImpl fileHolder = new PooledDFSFileHolderImpl();
+    Assert.assertEquals(20L, fileHolder.readLong(filePath, 4));
+    Assert.assertArrayEquals(new byte[] { 1, 2, 3, 4 }, fileHolder.readByteArray(filePath, 4));
+    Assert.assertEquals(30, fileHolder.readInt(filePath));
+    Assert.assertEquals(10, fileHolder.readInt(filePath, 0));
+    fileHolder.finish();
+  }
+
+  @Test public void testStreamIsSharedAcrossHolders() {
+    int initialSize = DFSInputStreamPool.getInstance().size();
+    PooledDFSFileHolderImpl firstHolder = new PooledDFSFileHolderImpl();
+    PooledDFSFileHolderImpl secondHolder = new PooledDFSFileHolderImpl();
+    Assert.assertEquals(10, firstHolder.readInt(filePath, 0));
+    firstHolder.finish();
+    Assert.assertEquals(30, secondHolder.readInt(filePath, 16));
+    secondHolder.finish();
+    Assert.assertEquals(initialSize + 1, DFSInputStreamPool.getInstance().size());
+  }
+
+  @Test(expected = RuntimeException.class) public void testReadFailureIsThrown() {
+    PooledDFSFileHolderImpl fileHolder = new PooledDFSFileHolderImpl();
+    try {
+      fileHolder.readByteArray(filePath, 100, 10);
+    } finally {
+      fileHolder.finish();
+    }
+  }
+
+  @Test public void testFailedStreamIsReopened() {
+    PooledDFSFileHolderImpl fileHolder = new PooledDFSFileHolderImpl();
+    int initialSize = DFSInputStreamPool.getInstance().size();
+    Assert.assertEquals(10, fileHolder.readInt(filePath, 0));
+    try {
+      fileHolder.readByteArray(filePath, 100, 10);
+      Assert.fail("read beyond the file should fail");
+    } catch (RuntimeException e) {
+      // expected
+    }
+    Assert.assertEquals(initialSize, DFSInputStreamPool.getInstance().size());
+    Assert.assertEquals(30, fileHolder.readInt(filePath, 16));
+    fileHolder.finish();
+  }
+}
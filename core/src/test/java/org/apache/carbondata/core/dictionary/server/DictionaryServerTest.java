@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.carbondata.core.dictionary.server;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.carbondata.core.carbon.metadata.datatype.DataType;
+import org.apache.carbondata.core.carbon.metadata.encoder.Encoding;
+import org.apache.carbondata.core.carbon.metadata.schema.table.CarbonTable;
+import org.apache.carbondata.core.carbon.metadata.schema.table.TableInfo;
+import org.apache.carbondata.core.carbon.metadata.schema.table.TableSchema;
+import org.apache.carbondata.core.carbon.metadata.schema.table.column.ColumnSchema;
+import org.apache.carbondata.core.dictionary.client.DictionaryClient;
+import org.apache.carbondata.core.dictionary.generator.TableDictionaryGenerator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DictionaryServerTest {
+
+  private String columnId = UUID.randomUUID().toString();
+
+  private DictionaryServer server;
+
+  private DictionaryClient client;
+
+  @Before public void setUp() throws IOException {
+    CarbonTable carbonTable = new CarbonTable();
+    carbonTable.loadCarbonTable(getTableInfo());
+    server = new DictionaryServer(new TableDictionaryGenerator(carbonTable), "token");
+    server.start("localhost", 0);
+    client = new DictionaryClient("localhost", server.getPort(), "token");
+  }
+
+  @After public void tearDown() throws IOException {
+    client.close();
+    server.shutdown();
+  }
+
+  @Test public void testNewValuesGetKeysAfterDefaultMember() throws IOException {
+    int[] keys = client.generateKeys(columnId, new String[] { "a", "b", "a" });
+    assertArrayEquals(new int[] { 2, 3, 2 }, keys);
+  }
+
+  @Test public void testSameKeyIsReturnedForExistingValue() throws IOException {
+    client.generateKeys(columnId, new String[] { "a", "b" });
+    int[] keys = client.generateKeys(columnId, new String[] { "c", "b" });
+    assertArrayEquals(new int[] { 4, 3 }, keys);
+  }
+
+  @Test public void testKeysOfUnknownColumnFails() {
+    boolean failed = false;
+    try {
+      client.generateKeys("unknownColumn", new String[] { "a" });
+    } catch (IOException e) {
+      failed = true;
+    }
+    assertTrue(failed);
+  }
+
+  @Test public void testInvalidTokenFails() throws IOException {
+    DictionaryClient invalidClient = new DictionaryClient("localhost", server.getPort(), "other");
+    boolean failed = false;
+    try {
+      invalidClient.generateKeys(columnId, new String[] { "a" });
+    } catch (IOException e) {
+      failed = true;
+    } finally {
+      invalidClient.close();
+    }
+    assertTrue(failed);
+  }
+
+  @Test public void testNegativeNumberOfValuesFails() throws IOException {
+    assertEquals(DictionaryServer.GENERATE_KEYS_FAILED, sendInvalidRequest(-1, 1));
+  }
+
+  @Test public void testValueLengthBeyondLimitFails() throws IOException {
+    assertEquals(DictionaryServer.GENERATE_KEYS_FAILED,
+        sendInvalidRequest(1, DictionaryServer.MAX_REQUEST_SIZE + 1));
+  }
+
+  @Test public void testValuesBeyondRequestLimitAreSentInMultipleRequests() throws IOException {
+    String[] values = new String[DictionaryServer.MAX_VALUES_PER_REQUEST + 1];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = String.valueOf(i);
+    }
+    int[] keys = client.generateKeys(columnId, values);
+    assertEquals(values.length, keys.length);
+    assertEquals(values.length + 1, keys[values.length - 1]);
+  }
+
+  /**
+   * sends a request with given number of values and value length, returns the response
+   */
+  private int sendInvalidRequest(int numberOfValues, int valueLength) throws IOException {
+    Socket socket = new Socket("localhost", server.getPort());
+    try {
+      DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+      out.writeInt(5);
+      out.write("token".getBytes("UTF-8"));
+      out.writeInt(DictionaryServer.GENERATE_KEYS);
+      out.writeUTF(columnId);
+      out.writeInt(numberOfValues);
+      out.writeInt(valueLength);
+      out.flush();
+      return new DataInputStream(socket.getInputStream()).readInt();
+    } finally {
+      socket.close();
+    }
+  }
+
+  private ColumnSchema getDictionaryColumn() {
+    ColumnSchema column = new ColumnSchema();
+    column.setColumnar(true);
+    column.setColumnName("IMEI");
+    column.setColumnUniqueId(columnId);
+    column.setDataType(DataType.STRING);
+    column.setDimensionColumn(true);
+    List<Encoding> encodeList = new ArrayList<Encoding>();
+    encodeList.add(Encoding.DICTIONARY);
+    column.setEncodingList(encodeList);
+    column.setNumberOfChild(0);
+    return column;
+  }
+
+  private TableInfo getTableInfo() {
+    TableSchema tableSchema = new TableSchema();
+    List<ColumnSchema> columnSchemaList = new ArrayList<ColumnSchema>();
+    columnSchemaList.add(getDictionaryColumn());
+    tableSchema.setListOfColumns(columnSchemaList);
+    tableSchema.setTableId(UUID.randomUUID().toString());
+    tableSchema.setTableName("dictionaryServerTable");
+    TableInfo info = new TableInfo();
+    info.setDatabaseName("dictionaryServerDatabase");
+    info.setLastUpdatedTime(System.currentTimeMillis());
+    info.setTableUniqueName("dictionaryServerDatabase_dictionaryServerTable");
+    info.setFactTable(tableSchema);
+    info.setStorePath(System.getProperty("java.io.tmpdir") + "/dictionaryServerStore");
+    return info;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.aggregator;
+
+import org.apache.carbondata.scan.aggregator.SurrogateKeyAggregator.AggregateType;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check aggregation on surrogate keys
+ */
+public class SurrogateKeyAggregatorTest {
+
+  @Test public void testAggregateOnSingleKey() {
+    SurrogateKeyAggregator aggregator = new SurrogateKeyAggregator(1,
+        new AggregateType[] { AggregateType.SUM, AggregateType.MIN, AggregateType.MAX,
+            AggregateType.COUNT }, new boolean[] { false, false, false, false }, 100);
+    int[] keys = new int[1];
+    for (int i = 0; i < 1000; i++) {
+      keys[0] = i % 10 + 1;
+      int group = aggregator.addGroup(keys);
+      aggregator.aggregate(group, 0, i);
+      aggregator.aggregate(group, 1, i);
+      aggregator.aggregate(group, 2, i);
+      aggregator.count(group, 3);
+    }
+    Assert.assertEquals(10, aggregator.getNumberOfGroups());
+    for (int group = 0; group < 10; group++) {
+      int key = aggregator.getKey(group, 0);
+      Assert.assertEquals(group + 1, key);
+      // values i with i % 10 == key - 1
+      Assert.assertEquals(100 * (key - 1) + 10 * 99 * 100 / 2, aggregator.getLong(group, 0));
+      Assert.assertEquals(key - 1, aggregator.getLong(group, 1));
+      Assert.assertEquals(990 + key - 1, aggregator.getLong(group, 2));
+      Assert.assertEquals(100, aggregator.getLong(group, 3));
+    }
+  }
+
+  @Test public void testAggregateOnMultipleKeysWithRehash() {
+    SurrogateKeyAggregator aggregator = new SurrogateKeyAggregator(2,
+        new AggregateType[] { AggregateType.SUM }, new boolean[] { true }, 10000);
+    int[] keys = new int[2];
+    for (int round = 0; round < 2; round++) {
+      for (int i = 1; i <= 100; i++) {
+        for (int j = 1; j <= 50; j++) {
+          keys[0] = i;
+          keys[1] = j;
+          aggregator.aggregate(aggregator.addGroup(keys), 0, 0.5);
+        }
+      }
+    }
+    Assert.assertEquals(5000, aggregator.getNumberOfGroups());
+    for (int group = 0; group < aggregator.getNumberOfGroups(); group++) {
+      Assert.assertEquals(1.0, aggregator.getDouble(group, 0), 0);
+    }
+    keys[0] = 100;
+    keys[1] = 50;
+    Assert.assertEquals(4999, aggregator.addGroup(keys));
+  }
+
+  @Test public void testNullValues() {
+    SurrogateKeyAggregator aggregator = new SurrogateKeyAggregator(1,
+        new AggregateType[] { AggregateType.MAX, AggregateType.COUNT },
+        new boolean[] { true, false }, 100);
+    int group = aggregator.addGroup(new int[] { 0 });
+    Assert.assertTrue(aggregator.isNull(group, 0));
+    Assert.assertFalse(aggregator.isNull(group, 1));
+    Assert.assertEquals(0, aggregator.getLong(group, 1));
+    aggregator.aggregate(group, 0, -2.5);
+    aggregator.aggregate(group, 0, -3.5);
+    Assert.assertFalse(aggregator.isNull(group, 0));
+    Assert.assertEquals(-2.5, aggregator.getDouble(group, 0), 0);
+  }
+
+  @Test public void testGroupsAreBoundedAndCleared() {
+    SurrogateKeyAggregator aggregator = new SurrogateKeyAggregator(1,
+        new AggregateType[] { AggregateType.SUM, AggregateType.COUNT },
+        new boolean[] { false, false }, 3);
+    int[] keys = new int[1];
+    for (int i = 1; i <= 3; i++) {
+      keys[0] = i;
+      Assert.assertFalse(aggregator.isFull());
+      aggregator.aggregate(aggregator.addGroup(keys), 0, 10L);
+    }
+    Assert.assertTrue(aggregator.isFull());
+    // existing group can still be aggregated when full
+    aggregator.count(aggregator.addGroup(keys), 1);
+    Assert.assertEquals(3, aggregator.getNumberOfGroups());
+    aggregator.clear();
+    Assert.assertFalse(aggregator.isFull());
+    keys[0] = 3;
+    int group = aggregator.addGroup(keys);
+    Assert.assertEquals(0, group);
+    // values of the cleared group are not carried to the new group
+    Assert.assertEquals(0, aggregator.getLong(group, 0));
+    Assert.assertTrue(aggregator.isNull(group, 0));
+    Assert.assertEquals(0, aggregator.getLong(group, 1));
+  }
+}
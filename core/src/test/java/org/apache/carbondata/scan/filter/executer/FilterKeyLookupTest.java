@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.filter.executer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for filter key lookup
+ */
+public class FilterKeyLookupTest {
+
+  private static byte[] key(long value, int keySize) {
+    byte[] key = new byte[keySize];
+    for (int i = keySize - 1; i >= 0; i--) {
+      key[i] = (byte) value;
+      value >>>= 8;
+    }
+    return key;
+  }
+
+  private void assertFixedLength(long[] rows, long[] filterValues, int keySize) {
+    byte[] data = new byte[rows.length * keySize];
+    for (int i = 0; i < rows.length; i++) {
+      System.arraycopy(key(rows[i], keySize), 0, data, i * keySize, keySize);
+    }
+    byte[][] filterKeys = new byte[filterValues.length][];
+    for (int i = 0; i < filterValues.length; i++) {
+      filterKeys[i] = key(filterValues[i], keySize);
+    }
+    BitSet expected = new BitSet();
+    for (int i = 0; i < rows.length; i++) {
+      for (long filterValue : filterValues) {
+        if (rows[i] == filterValue) {
+          expected.set(i);
+        }
+      }
+    }
+    BitSet actual = new BitSet();
+    FilterKeyLookup.createFixedLengthLookup(filterKeys).setFilteredIndexes(data, rows.length,
+        actual);
+    Assert.assertEquals(expected, actual);
+  }
+
+  @Test public void testFixedLengthKeysWithDirectLookup() {
+    assertFixedLength(new long[] { 1, 5, 7, 255, 256, 65535, 5, 3 }, new long[] { 5, 256, 3 }, 2);
+  }
+
+  @Test public void testFixedLengthKeysWithHashLookup() {
+    assertFixedLength(new long[] { 1L << 30, 7, (1L << 30) + 1, 1L << 23, 12 },
+        new long[] { 1L << 30, 1L << 23, 9 }, 4);
+  }
+
+  @Test public void testFixedLengthKeysOfEightBytes() {
+    assertFixedLength(new long[] { -1L, 7, Long.MAX_VALUE, 0 }, new long[] { -1L, 0 }, 8);
+  }
+
+  @Test public void testVariableLengthKeysWithInvertedIndex() {
+    List<byte[]> data = new ArrayList<>();
+    data.add("a".getBytes());
+    data.add("b".getBytes());
+    data.add("c".getBytes());
+    data.add("bb".getBytes());
+    // row 0 -> c, row 1 -> a, row 2 -> bb, row 3 -> b
+    int[] invertedIndexReverse = new int[] { 2, 0, 3, 1 };
+    byte[][] filterKeys = new byte[][] { "b".getBytes(), "c".getBytes(), "x".getBytes() };
+    BitSet actual = new BitSet();
+    FilterKeyLookup.createVariableLengthLookup(filterKeys)
+        .setFilteredIndexes(data, invertedIndexReverse, actual);
+    BitSet expected = new BitSet();
+    expected.set(0);
+    expected.set(3);
+    Assert.assertEquals(expected, actual);
+  }
+
+  @Test public void testLookupNotCreatedForLongKeys() {
+    Assert.assertNull(FilterKeyLookup.createFixedLengthLookup(new byte[][] { new byte[9] }));
+  }
+}
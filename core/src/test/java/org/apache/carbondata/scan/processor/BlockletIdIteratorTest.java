@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.processor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.carbondata.core.carbon.datastore.DataRefNode;
+import org.apache.carbondata.core.carbon.datastore.impl.btree.BlockBTreeLeafNode;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check only the given blocklets are iterated
+ */
+public class BlockletIdIteratorTest {
+
+  private static class TestLeafNode extends BlockBTreeLeafNode {
+    private TestLeafNode(long nodeNumber) {
+      super(null, nodeNumber);
+    }
+  }
+
+  private static DataRefNode createNodes(int firstNodeNumber, int numberOfNodes) {
+    TestLeafNode first = new TestLeafNode(firstNodeNumber);
+    TestLeafNode current = first;
+    for (int i = 1; i < numberOfNodes; i++) {
+      TestLeafNode next = new TestLeafNode(firstNodeNumber + i);
+      current.setNextNode(next);
+      current = next;
+    }
+    return first;
+  }
+
+  private static List<Long> getNodeNumbers(BlockletIdIterator iterator) {
+    List<Long> nodeNumbers = new ArrayList<Long>();
+    while (iterator.hasNext()) {
+      nodeNumbers.add(iterator.next().nodeNumber());
+    }
+    return nodeNumbers;
+  }
+
+  @Test public void testOnlyGivenBlockletsAreIterated() {
+    BlockletIdIterator iterator =
+        new BlockletIdIterator(createNodes(0, 6), new int[] { 1, 4, 5 }, 0, 6);
+    List<Long> nodeNumbers = getNodeNumbers(iterator);
+    Assert.assertEquals(3, nodeNumbers.size());
+    Assert.assertEquals(1L, (long) nodeNumbers.get(0));
+    Assert.assertEquals(4L, (long) nodeNumbers.get(1));
+    Assert.assertEquals(5L, (long) nodeNumbers.get(2));
+  }
+
+  @Test public void testBlockletsBeforeFirstBlockAreIgnored() {
+    // first block is based on start key of filter, which can be after the
+    // pruned blocklets
+    BlockletIdIterator iterator =
+        new BlockletIdIterator(createNodes(2, 3), new int[] { 0, 3, 7 }, 0, 0);
+    List<Long> nodeNumbers = getNodeNumbers(iterator);
+    Assert.assertEquals(1, nodeNumbers.size());
+    Assert.assertEquals(3L, (long) nodeNumbers.get(0));
+    Assert.assertFalse(
+        new BlockletIdIterator(createNodes(2, 3), new int[] { 0, 1 }, 0, 0).hasNext());
+  }
+
+  @Test public void testOnlyBlockletsInAssignedRangeAreIterated() {
+    // block is distributed to two tasks, each task scans only the ids in its range
+    int[] blockletIds = new int[] { 1, 2, 4, 7, 8 };
+    List<Long> firstTask =
+        getNodeNumbers(new BlockletIdIterator(createNodes(0, 10), blockletIds, 0, 5));
+    List<Long> secondTask =
+        getNodeNumbers(new BlockletIdIterator(createNodes(0, 10), blockletIds, 5, 5));
+    Assert.assertEquals(Arrays.asList(1L, 2L, 4L), firstTask);
+    Assert.assertEquals(Arrays.asList(7L, 8L), secondTask);
+    Assert.assertArrayEquals(new int[] { 4, 7 },
+        BlockletIdIterator.getBlockletIdsToScan(blockletIds, 3, 5));
+    Assert.assertArrayEquals(new int[] { 7, 8 },
+        BlockletIdIterator.getBlockletIdsToScan(blockletIds, 5, 0));
+  }
+}
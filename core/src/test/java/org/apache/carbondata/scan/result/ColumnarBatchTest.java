@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.result;
+
+import org.apache.carbondata.core.carbon.metadata.datatype.DataType;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check filling and reusing the columnar batch
+ */
+public class ColumnarBatchTest {
+
+  @Test public void testFillAndReset() {
+    ColumnVector dictionaryVector = new ColumnVector(DataType.STRING, 4);
+    ColumnVector measureVector = new ColumnVector(DataType.LONG, 4);
+    ColumnarBatch batch =
+        new ColumnarBatch(new ColumnVector[] { dictionaryVector, measureVector }, 4);
+    Assert.assertFalse(dictionaryVector.isDictionaryEncoded());
+    int[] dictionaryIds = dictionaryVector.getDictionaryIds();
+    long[] values = measureVector.getLongValues();
+    for (int i = 0; i < 4; i++) {
+      dictionaryIds[i] = i + 2;
+      values[i] = i * 10L;
+    }
+    measureVector.putNull(3);
+    batch.setRowCount(4);
+    Assert.assertTrue(batch.isFull());
+    Assert.assertTrue(dictionaryVector.isDictionaryEncoded());
+    Assert.assertEquals(4, batch.getColumn(0).getDictionaryId(2));
+    Assert.assertEquals(20L, batch.getColumn(1).getLong(2));
+    Assert.assertTrue(measureVector.isNullAt(3));
+    Assert.assertFalse(dictionaryVector.hasNull());
+
+    batch.reset();
+    Assert.assertEquals(0, batch.getRowCount());
+    Assert.assertFalse(measureVector.hasNull());
+    // arrays are reused for the next batch
+    Assert.assertSame(values, measureVector.getLongValues());
+    Assert.assertSame(dictionaryIds, dictionaryVector.getDictionaryIds());
+  }
+}
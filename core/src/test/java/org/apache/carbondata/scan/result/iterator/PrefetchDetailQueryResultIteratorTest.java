@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.scan.result.iterator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import mockit.Invocation;
+import mockit.Mock;
+import mockit.MockUp;
+
+import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
+import org.apache.carbondata.core.carbon.CarbonTableIdentifier;
+import org.apache.carbondata.core.carbon.querystatistics.QueryStatistic;
+import org.apache.carbondata.core.carbon.querystatistics.QueryStatisticsConstants;
+import org.apache.carbondata.core.carbon.querystatistics.QueryStatisticsModel;
+import org.apache.carbondata.core.carbon.querystatistics.QueryStatisticsRecorderDummy;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastorage.store.FileHolder;
+import org.apache.carbondata.core.util.CarbonProperties;
+import org.apache.carbondata.scan.executor.infos.BlockExecutionInfo;
+import org.apache.carbondata.scan.model.QueryModel;
+import org.apache.carbondata.scan.processor.AbstractDataBlockIterator;
+import org.apache.carbondata.scan.processor.impl.DataBlockIteratorImpl;
+import org.apache.carbondata.scan.result.BatchResult;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class to check the prefetch detail query iterator against the detail
+ * query iterator, with the block iterators replaced by blocks of generated rows
+ */
+public class PrefetchDetailQueryResultIteratorTest {
+
+  private static final int NUMBER_OF_BLOCKS = 6;
+
+  private static final int BATCH_SIZE = 3;
+
+  /**
+   * generated block of each block execution info
+   */
+  private Map<BlockExecutionInfo, TestBlock> blocks;
+
+  /**
+   * block of each block iterator created by the query result iterator
+   */
+  private final Map<AbstractDataBlockIterator, TestBlock> iteratorBlocks =
+      Collections.synchronizedMap(new IdentityHashMap<AbstractDataBlockIterator, TestBlock>());
+
+  /**
+   * statistics model of each block iterator created by the query result iterator
+   */
+  private final Map<QueryStatisticsModel, Boolean> statisticsModels =
+      Collections.synchronizedMap(new IdentityHashMap<QueryStatisticsModel, Boolean>());
+
+  private ExecutorService executorService;
+
+  private String queueDepth;
+
+  /**
+   * Block which returns batches of rows { block index, row index }
+   */
+  private static class TestBlock {
+
+    private int blockIndex;
+
+    private int numberOfRows;
+
+    private int returnedRows;
+
+    /**
+     * batch number after which scanning the block fails, -1 if it does not fail
+     */
+    private int failAfterBatch = -1;
+
+    private int returnedBatches;
+
+    private volatile boolean closed;
+
+    private TestBlock(int blockIndex, int numberOfRows) {
+      this.blockIndex = blockIndex;
+      this.numberOfRows = numberOfRows;
+    }
+
+    private synchronized boolean hasNext() {
+      return returnedRows < numberOfRows;
+    }
+
+    private synchronized List<Object[]> next() {
+      if (returnedBatches == failAfterBatch) {
+        throw new IllegalStateException("Problem while reading block " + blockIndex);
+      }
+      List<Object[]> rows = new ArrayList<>();
+      while (rows.size() < BATCH_SIZE && returnedRows < numberOfRows) {
+        rows.add(new Object[] { blockIndex, returnedRows++ });
+      }
+      returnedBatches++;
+      return rows;
+    }
+  }
+
+  @Before public void setUp() {
+    queueDepth = CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.QUERY_PREFETCH_QUEUE_DEPTH,
+            CarbonCommonConstants.QUERY_PREFETCH_QUEUE_DEPTH_DEFAULT);
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.QUERY_PREFETCH_QUEUE_DEPTH, "2");
+    executorService = Executors.newFixedThreadPool(3);
+    new MockUp<AbstractDetailQueryResultIterator>() {
+      // the generated blocks do not have data blocks to be searched
+      @Mock private void intialiseInfos() {
+      }
+    };
+    new MockUp<AbstractDataBlockIterator>() {
+      @Mock public void $init(Invocation invocation, BlockExecutionInfo blockExecutionInfo,
+          FileHolder fileReader, int batchSize, QueryStatisticsModel queryStatisticsModel) {
+        AbstractDataBlockIterator iterator = invocation.getInvokedInstance();
+        iteratorBlocks.put(iterator, blocks.get(blockExecutionInfo));
+        // count one scanned blocklet per block same as the scanner
+        QueryStatistic statistic = queryStatisticsModel.getStatisticsTypeAndObjMap()
+            .get(QueryStatisticsConstants.TOTAL_BLOCKLET_NUM);
+        statistic.addCountStatistic(QueryStatisticsConstants.TOTAL_BLOCKLET_NUM,
+            statistic.getCount() + 1);
+        statisticsModels.put(queryStatisticsModel, Boolean.TRUE);
+      }
+
+      @Mock public boolean hasNext(Invocation invocation) {
+        return iteratorBlocks.get(invocation.getInvokedInstance()).hasNext();
+      }
+
+      @Mock public void close(Invocation invocation) {
+        iteratorBlocks.get(invocation.getInvokedInstance()).closed = true;
+      }
+    };
+    new MockUp<DataBlockIteratorImpl>() {
+      @Mock public List<Object[]> next(Invocation invocation) {
+        return iteratorBlocks.get(invocation.getInvokedInstance()).next();
+      }
+    };
+  }
+
+  @After public void tearDown() {
+    executorService.shutdownNow();
+    CarbonProperties.getInstance()
+        .addProperty(CarbonCommonConstants.QUERY_PREFETCH_QUEUE_DEPTH, queueDepth);
+  }
+
+  private List<BlockExecutionInfo> createBlocks() {
+    blocks = Collections.synchronizedMap(new IdentityHashMap<BlockExecutionInfo, TestBlock>());
+    List<BlockExecutionInfo> infos = new ArrayList<>();
+    for (int i = 0; i < NUMBER_OF_BLOCKS; i++) {
+      BlockExecutionInfo info = new BlockExecutionInfo();
+      // blocks have different number of batches and the last batch is not full
+      blocks.put(info, new TestBlock(i, (i + 1) * 4 + 1));
+      infos.add(info);
+    }
+    return infos;
+  }
+
+  private static QueryModel createQueryModel(boolean ordered) {
+    QueryModel queryModel = new QueryModel();
+    queryModel.setAbsoluteTableIdentifier(new AbsoluteTableIdentifier(
+        System.getProperty("java.io.tmpdir"), new CarbonTableIdentifier("db", "t1", "1")));
+    queryModel.setStatisticsRecorder(new QueryStatisticsRecorderDummy("1"));
+    queryModel.setForcedDetailRawQuery(ordered);
+    return queryModel;
+  }
+
+  private static List<String> readRows(AbstractDetailQueryResultIterator iterator) {
+    List<String> rows = new ArrayList<>();
+    while (iterator.hasNext()) {
+      BatchResult batchResult = (BatchResult) iterator.next();
+      while (batchResult.hasNext()) {
+        Object[] row = batchResult.next();
+        rows.add(row[0] + "_" + row[1]);
+      }
+    }
+    return rows;
+  }
+
+  private List<String> readRowsWithoutPrefetch() {
+    return readRows(
+        new DetailQueryResultIterator(createBlocks(), createQueryModel(true), executorService));
+  }
+
+  private void assertAllBlocksClosed() {
+    Assert.assertFalse(iteratorBlocks.isEmpty());
+    for (TestBlock block : iteratorBlocks.values()) {
+      Assert.assertTrue("block " + block.blockIndex + " is not closed", block.closed);
+    }
+  }
+
+  @Test public void testOrderedRowsAreSameAsWithoutPrefetch() {
+    List<String> expectedRows = readRowsWithoutPrefetch();
+    List<String> rows = readRows(
+        new PrefetchDetailQueryResultIterator(createBlocks(), createQueryModel(true),
+            executorService));
+    Assert.assertEquals(expectedRows, rows);
+  }
+
+  @Test public void testUnorderedRowsAreCompleteAndOrderedInBlock() {
+    List<String> expectedRows = readRowsWithoutPrefetch();
+    List<String> rows = readRows(
+        new PrefetchDetailQueryResultIterator(createBlocks(), createQueryModel(false),
+            executorService));
+    Assert.assertEquals(expectedRows.size(), rows.size());
+    // every row is returned once and rows of one block keep their order
+    int[] nextRowOfBlock = new int[NUMBER_OF_BLOCKS];
+    for (String row : rows) {
+      String[] split = row.split("_");
+      int blockIndex = Integer.parseInt(split[0]);
+      Assert.assertEquals(nextRowOfBlock[blockIndex]++, Integer.parseInt(split[1]));
+    }
+    for (int i = 0; i < NUMBER_OF_BLOCKS; i++) {
+      Assert.assertEquals((i + 1) * 4 + 1, nextRowOfBlock[i]);
+    }
+  }
+
+  @Test public void testStatisticsOfPrefetchTasksAreMerged() {
+    PrefetchDetailQueryResultIterator iterator =
+        new PrefetchDetailQueryResultIterator(createBlocks(), createQueryModel(false),
+            executorService);
+    readRows(iterator);
+    // every task counts in its own model
+    Assert.assertEquals(NUMBER_OF_BLOCKS, statisticsModels.size());
+    Assert.assertFalse(statisticsModels.containsKey(iterator.queryStatisticsModel));
+    Assert.assertEquals(NUMBER_OF_BLOCKS, iterator.queryStatisticsModel.getStatisticsTypeAndObjMap()
+        .get(QueryStatisticsConstants.TOTAL_BLOCKLET_NUM).getCount());
+  }
+
+  @Test public void testEarlyTerminationStopsPrefetchTasks() throws Exception {
+    PrefetchDetailQueryResultIterator iterator =
+        new PrefetchDetailQueryResultIterator(createBlocks(), createQueryModel(false),
+            executorService);
+    // read only the first batch like a limit query, scanning tasks are waiting
+    // for space in the queue
+    Assert.assertTrue(iterator.hasNext());
+    Assert.assertEquals(BATCH_SIZE, ((BatchResult) iterator.next()).getSize());
+    Thread.sleep(100);
+    int scannedRows = 0;
+    int totalRows = 0;
+    for (TestBlock block : blocks.values()) {
+      scannedRows += block.returnedRows;
+      totalRows += block.numberOfRows;
+    }
+    Assert.assertTrue(scannedRows < totalRows);
+    // same as finishing the query executor
+    executorService.shutdownNow();
+    Assert.assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+    iterator.close();
+    assertAllBlocksClosed();
+  }
+
+  @Test public void testExceptionInPrefetchTaskIsThrownToConsumer() throws Exception {
+    List<BlockExecutionInfo> infos = createBlocks();
+    blocks.get(infos.get(2)).failAfterBatch = 1;
+    PrefetchDetailQueryResultIterator iterator =
+        new PrefetchDetailQueryResultIterator(infos, createQueryModel(true), executorService);
+    try {
+      readRows(iterator);
+      Assert.fail("exception of scanning task is not thrown");
+    } catch (RuntimeException e) {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+      Assert.assertEquals("Problem while reading block 2", e.getCause().getMessage());
+    }
+    // other tasks stop scanning on failure without being interrupted
+    executorService.shutdown();
+    Assert.assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+    assertAllBlocksClosed();
+  }
+}
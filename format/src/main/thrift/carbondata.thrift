@@ -49,12 +49,22 @@ struct BlockletMinMaxIndex{
     2: required list<binary> max_values; //Max value of all columns of one blocklet Bit-Packed
 }
 
+/**
+*	Bloom filter of the values of one column in a blocklet
+*/
+struct BlockletBloomFilter{
+    1: required i32 column_index; // Index of the dimension column block whose values are added
+    2: required i32 num_hash_functions; // Number of hash functions used to set the bits of a value
+    3: required binary bitset; // Bits of the filter
+}
+
 /**
 * Index of one blocklet
 **/
 struct BlockletIndex{
     1: optional BlockletMinMaxIndex min_max_index;
     2: optional BlockletBTreeIndex b_tree_index;
+    3: optional list<BlockletBloomFilter> bloom_filters; // Bloom filter of the columns configured by the user
 }
 
 /**
@@ -71,6 +81,9 @@ enum SortState{
 */
 enum CompressionCodec{
     SNAPPY = 0;
+    LZ4 = 1;
+    ZSTD = 2;
+    NONE = 3;
 }
 
 /**
@@ -22,7 +22,7 @@ import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -30,7 +30,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
 import org.apache.carbondata.core.carbon.datastore.DataRefNode;
@@ -38,7 +39,6 @@ import org.apache.carbondata.core.carbon.datastore.DataRefNodeFinder;
 import org.apache.carbondata.core.carbon.datastore.IndexKey;
 import org.apache.carbondata.core.carbon.datastore.SegmentTaskIndexStore;
 import org.apache.carbondata.core.carbon.datastore.block.AbstractIndex;
-import org.apache.carbondata.core.carbon.datastore.block.BlockletInfos;
 import org.apache.carbondata.core.carbon.datastore.block.SegmentProperties;
 import org.apache.carbondata.core.carbon.datastore.block.TableBlockInfo;
 import org.apache.carbondata.core.carbon.datastore.exception.IndexBuilderException;
@@ -49,6 +49,7 @@ import org.apache.carbondata.core.carbon.path.CarbonStorePath;
 import org.apache.carbondata.core.carbon.path.CarbonTablePath;
 import org.apache.carbondata.core.carbon.querystatistics.*;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastorage.store.impl.FileFactory;
 import org.apache.carbondata.core.keygenerator.KeyGenException;
 import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.CarbonTimeStatisticsFactory;
@@ -66,6 +67,7 @@ import org.apache.carbondata.scan.filter.FilterExpressionProcessor;
 import org.apache.carbondata.scan.filter.FilterUtil;
 import org.apache.carbondata.scan.filter.resolver.FilterResolverIntf;
 import org.apache.carbondata.scan.model.CarbonQueryPlan;
+import org.apache.carbondata.scan.model.QueryDimension;
 import org.apache.carbondata.scan.model.QueryModel;
 
 import org.apache.commons.logging.Log;
@@ -103,6 +105,14 @@ public class CarbonInputFormat<T> extends FileInputFormat<Void, T> {
   private static final String COLUMN_PROJECTION = "mapreduce.input.carboninputformat.projection";
   private static final String CARBON_TABLE = "mapreduce.input.carboninputformat.table";
   private static final String CARBON_READ_SUPPORT = "mapreduce.input.carboninputformat.readsupport";
+  private static final String VECTOR_READER = "mapreduce.input.carboninputformat.vectorreader";
+  private static final String COMBINE_SPLIT_SIZE =
+      "mapreduce.input.carboninputformat.combine.splitsize";
+
+  /**
+   * thread pool used in driver to load and prune the segments
+   */
+  private static volatile ExecutorService driverThreadPool;
 
   /**
    * It is optional, if user does not set then it reads from store
@@ -185,6 +195,31 @@ public class CarbonInputFormat<T> extends FileInputFormat<Void, T> {
     }
   }
 
+  /**
+   * It sets whether the record reader has to read the data as columnar
+   * batches. Columnar batch is not supported for complex columns, so query
+   * with complex columns is read as rows
+   *
+   * @param configuration
+   * @param vectorReader
+   */
+  public static void setVectorReader(Configuration configuration, boolean vectorReader) {
+    configuration.setBoolean(VECTOR_READER, vectorReader);
+  }
+
+  /**
+   * It sets the target size of split in bytes to combine the small blocks
+   * in to bigger splits, blocks are combined only with blocks of same location.
+   * Combined splits are returned as {@link CarbonMultiBlockSplit}. Size less
+   * than or equal to 0 disables combining, which is the default
+   *
+   * @param configuration
+   * @param splitSize
+   */
+  public static void setCombineSplitSize(Configuration configuration, long splitSize) {
+    configuration.setLong(COMBINE_SPLIT_SIZE, splitSize);
+  }
+
   public static CarbonTablePath getTablePath(Configuration configuration) throws IOException {
     AbsoluteTableIdentifier absIdentifier = getAbsoluteTableIdentifier(configuration);
     return CarbonStorePath.getCarbonTablePath(absIdentifier);
@@ -209,12 +244,34 @@ public class CarbonInputFormat<T> extends FileInputFormat<Void, T> {
   private void addSegmentsIfEmpty(JobContext job, AbsoluteTableIdentifier absoluteTableIdentifier)
       throws IOException {
     if (getSegmentsFromConfiguration(job).length == 0) {
+      // modification time is read before reading the status, so any change
+      // done after this will be identified in the next query
+      long tableStatusModifiedTime = getTableStatusModifiedTime(absoluteTableIdentifier);
       // Get the valid segments from the carbon store.
       SegmentStatusManager.ValidAndInvalidSegmentsInfo validAndInvalidSegments =
           new SegmentStatusManager(absoluteTableIdentifier).getValidAndInvalidSegments();
+      // remove the loaded btree of segments which are deleted or compacted
+      SegmentTaskIndexStore.getInstance()
+          .removeInvalidSegments(absoluteTableIdentifier, tableStatusModifiedTime,
+              validAndInvalidSegments.getValidSegments());
       setSegmentsToAccess(job.getConfiguration(), validAndInvalidSegments.getValidSegments());
     }
   }
+
+  /**
+   * @return modification time of table status file, 0 if file is not present
+   */
+  private long getTableStatusModifiedTime(AbsoluteTableIdentifier absoluteTableIdentifier)
+      throws IOException {
+    String tableStatusPath =
+        CarbonStorePath.getCarbonTablePath(absoluteTableIdentifier).getTableStatusFilePath();
+    FileFactory.FileType fileType = FileFactory.getFileType(tableStatusPath);
+    if (!FileFactory.isFileExist(tableStatusPath, fileType)) {
+      return 0;
+    }
+    return FileFactory.getCarbonFile(tableStatusPath, fileType).getLastModifiedTime();
+  }
+
   /**
    * {@inheritDoc}
    * Configurations FileInputFormat.INPUT_DIR
@@ -281,6 +338,7 @@ public class CarbonInputFormat<T> extends FileInputFormat<Void, T> {
    * {@inheritDoc}
    * Configurations FileInputFormat.INPUT_DIR, CarbonInputFormat.INPUT_SEGMENT_NUMBERS
    * are used to get table path to read.
+   * Blocks of each segment are pruned in parallel using the driver thread pool
    *
    * @return
    * @throws IOException
@@ -288,29 +346,190 @@ public class CarbonInputFormat<T> extends FileInputFormat<Void, T> {
   private List<InputSplit> getSplits(JobContext job, FilterResolverIntf filterResolver)
       throws IOException, IndexBuilderException {
 
-    List<InputSplit> result = new LinkedList<InputSplit>();
-
     FilterExpressionProcessor filterExpressionProcessor = new FilterExpressionProcessor();
 
     AbsoluteTableIdentifier absoluteTableIdentifier =
         getAbsoluteTableIdentifier(job.getConfiguration());
 
-    //for each segment fetch blocks matching filter in Driver BTree
-    for (String segmentNo : getSegmentsFromConfiguration(job)) {
-      List<DataRefNode> dataRefNodes =
-          getDataBlocksOfSegment(job, filterExpressionProcessor, absoluteTableIdentifier,
-              filterResolver, segmentNo);
-      for (DataRefNode dataRefNode : dataRefNodes) {
-        BlockBTreeLeafNode leafNode = (BlockBTreeLeafNode) dataRefNode;
-        TableBlockInfo tableBlockInfo = leafNode.getTableBlockInfo();
-        result.add(new CarbonInputSplit(segmentNo, new Path(tableBlockInfo.getFilePath()),
-            tableBlockInfo.getBlockOffset(), tableBlockInfo.getBlockLength(),
-            tableBlockInfo.getLocations(), tableBlockInfo.getBlockletInfos().getNoOfBlockLets()));
+    boolean pruneBlocklets = isBlockletPruningRequired(job, filterResolver);
+    String[] segments = getSegmentsFromConfiguration(job);
+    List<InputSplit> result = new ArrayList<InputSplit>();
+    if (segments.length == 1) {
+      result.addAll(getSplitsOfSegment(job, filterExpressionProcessor, absoluteTableIdentifier,
+          filterResolver, segments[0], pruneBlocklets));
+    } else {
+      //for each segment fetch blocks matching filter in Driver BTree
+      List<Future<List<CarbonInputSplit>>> segmentSplits =
+          new ArrayList<Future<List<CarbonInputSplit>>>(segments.length);
+      for (String segmentNo : segments) {
+        segmentSplits.add(getDriverThreadPool().submit(
+            new BlocksPrunerThread(job, filterExpressionProcessor, absoluteTableIdentifier,
+                filterResolver, segmentNo, pruneBlocklets)));
+      }
+      try {
+        // adding the splits in segment order
+        for (Future<List<CarbonInputSplit>> segmentSplit : segmentSplits) {
+          result.addAll(segmentSplit.get());
+        }
+      } catch (InterruptedException e) {
+        throw new IndexBuilderException(e);
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException) {
+          throw (IOException) cause;
+        } else if (cause instanceof IndexBuilderException) {
+          throw (IndexBuilderException) cause;
+        }
+        throw new IndexBuilderException(cause);
+      } finally {
+        for (Future<List<CarbonInputSplit>> segmentSplit : segmentSplits) {
+          segmentSplit.cancel(true);
+        }
+      }
+    }
+    long combineSplitSize = job.getConfiguration().getLong(COMBINE_SPLIT_SIZE, 0);
+    if (combineSplitSize > 0) {
+      return combineSplits(result, combineSplitSize);
+    }
+    return result;
+  }
+
+  /**
+   * Below method will be used to check whether blocklets has to be pruned in
+   * driver. Blocklets are pruned when it is enabled in carbon properties or
+   * when the table has bloom filter columns, as bloom filter of blocklets is
+   * present only in the footer of data file
+   */
+  private boolean isBlockletPruningRequired(JobContext job, FilterResolverIntf filterResolver)
+      throws IOException {
+    if (null == filterResolver) {
+      return false;
+    }
+    boolean pruneBlocklets = Boolean.parseBoolean(CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.CARBON_DRIVER_BLOCKLET_PRUNING_ENABLE,
+            CarbonCommonConstants.CARBON_DRIVER_BLOCKLET_PRUNING_ENABLE_DEFAULT));
+    return pruneBlocklets || getCarbonTable(job.getConfiguration()).hasBloomFilterColumns();
+  }
+
+  /**
+   * Below method will be used to get the splits of blocks of a segment
+   * matching the filter. In case blocklet pruning in driver is enabled, the
+   * blocklets of each block are also pruned and blocks without any matching
+   * blocklet are not added
+   */
+  private List<CarbonInputSplit> getSplitsOfSegment(JobContext job,
+      FilterExpressionProcessor filterExpressionProcessor,
+      AbsoluteTableIdentifier absoluteTableIdentifier, FilterResolverIntf filterResolver,
+      String segmentNo, boolean pruneBlocklets) throws IndexBuilderException, IOException {
+    List<DataRefNode> dataRefNodes =
+        getDataBlocksOfSegment(job, filterExpressionProcessor, absoluteTableIdentifier,
+            filterResolver, segmentNo);
+    List<CarbonInputSplit> result = new ArrayList<CarbonInputSplit>(dataRefNodes.size());
+    for (DataRefNode dataRefNode : dataRefNodes) {
+      BlockBTreeLeafNode leafNode = (BlockBTreeLeafNode) dataRefNode;
+      TableBlockInfo tableBlockInfo = leafNode.getTableBlockInfo();
+      int[] blockletIds = null;
+      if (pruneBlocklets) {
+        blockletIds = CarbonInputFormatUtil
+            .getMatchedBlockletIds(filterExpressionProcessor, absoluteTableIdentifier,
+                filterResolver, tableBlockInfo);
+        if (null != blockletIds && blockletIds.length == 0) {
+          continue;
+        }
+      }
+      CarbonInputSplit split = new CarbonInputSplit(segmentNo,
+          new Path(tableBlockInfo.getFilePath()), tableBlockInfo.getBlockOffset(),
+          tableBlockInfo.getBlockLength(), tableBlockInfo.getLocations(),
+          tableBlockInfo.getBlockletInfos().getNoOfBlockLets());
+      split.setBlockletIds(blockletIds);
+      result.add(split);
+    }
+    return result;
+  }
+
+  /**
+   * Below method will be used to pack the small blocks in to bigger splits.
+   * Blocks are grouped based on their first location, so combined split is
+   * read local to the data, and blocks of same location are packed till the
+   * size of split reaches the given split size. Blocks bigger than the split
+   * size will be a split of its own
+   *
+   * @param splits    splits of each block
+   * @param splitSize target size of the combined split
+   * @return combined splits
+   */
+  static List<InputSplit> combineSplits(List<InputSplit> splits, long splitSize)
+      throws IOException {
+    Map<String, List<CarbonInputSplit>> locationToSplits =
+        new LinkedHashMap<String, List<CarbonInputSplit>>();
+    for (InputSplit split : splits) {
+      CarbonInputSplit carbonInputSplit = (CarbonInputSplit) split;
+      String[] locations = carbonInputSplit.getLocations();
+      String location = null != locations && locations.length > 0 ? locations[0] : "";
+      List<CarbonInputSplit> splitsOfLocation = locationToSplits.get(location);
+      if (null == splitsOfLocation) {
+        splitsOfLocation = new ArrayList<CarbonInputSplit>();
+        locationToSplits.put(location, splitsOfLocation);
+      }
+      splitsOfLocation.add(carbonInputSplit);
+    }
+    List<InputSplit> result = new ArrayList<InputSplit>();
+    for (Map.Entry<String, List<CarbonInputSplit>> entry : locationToSplits.entrySet()) {
+      String[] locations =
+          entry.getKey().isEmpty() ? new String[0] : new String[] { entry.getKey() };
+      List<CarbonInputSplit> currentSplits = new ArrayList<CarbonInputSplit>();
+      long currentSize = 0;
+      for (CarbonInputSplit split : entry.getValue()) {
+        if (!currentSplits.isEmpty() && currentSize + split.getLength() > splitSize) {
+          result.add(new CarbonMultiBlockSplit(currentSplits, locations));
+          currentSplits = new ArrayList<CarbonInputSplit>();
+          currentSize = 0;
+        }
+        currentSplits.add(split);
+        currentSize += split.getLength();
+      }
+      if (!currentSplits.isEmpty()) {
+        result.add(new CarbonMultiBlockSplit(currentSplits, locations));
       }
     }
     return result;
   }
 
+  /**
+   * Below method will be used to get the thread pool used in driver for
+   * loading and pruning the segments. Pool is shared by all the queries
+   *
+   * @return driver thread pool
+   */
+  private static ExecutorService getDriverThreadPool() {
+    if (null == driverThreadPool) {
+      synchronized (CarbonInputFormat.class) {
+        if (null == driverThreadPool) {
+          // no of core to load the blocks in driver
+          int numberOfCores;
+          try {
+            numberOfCores = Integer.parseInt(CarbonProperties.getInstance()
+                .getProperty(CarbonCommonConstants.NUMBER_OF_CORE_TO_LOAD_DRIVER_SEGMENT));
+          } catch (NumberFormatException e) {
+            numberOfCores =
+                CarbonCommonConstants.NUMBER_OF_CORE_TO_LOAD_DRIVER_SEGMENT_DEFAULT_VALUE;
+          }
+          driverThreadPool = Executors.newFixedThreadPool(numberOfCores, new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger();
+
+            @Override public Thread newThread(Runnable runnable) {
+              Thread thread = new Thread(runnable,
+                  "CarbonInputFormat-driver-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+        }
+      }
+    }
+    return driverThreadPool;
+  }
+
   /**
    * get total number of rows. Same as count(*)
    *
@@ -322,30 +541,14 @@ public class CarbonInputFormat<T> extends FileInputFormat<Void, T> {
     long rowCount = 0;
     AbsoluteTableIdentifier absoluteTableIdentifier =
         getAbsoluteTableIdentifier(job.getConfiguration());
-    // no of core to load the blocks in driver
     addSegmentsIfEmpty(job, absoluteTableIdentifier);
-    int numberOfCores = CarbonCommonConstants.NUMBER_OF_CORE_TO_LOAD_DRIVER_SEGMENT_DEFAULT_VALUE;
-    try {
-      numberOfCores = Integer.parseInt(CarbonProperties.getInstance()
-          .getProperty(CarbonCommonConstants.NUMBER_OF_CORE_TO_LOAD_DRIVER_SEGMENT));
-    } catch (NumberFormatException e) {
-      numberOfCores = CarbonCommonConstants.NUMBER_OF_CORE_TO_LOAD_DRIVER_SEGMENT_DEFAULT_VALUE;
-    }
-    // creating a thread pool
-    ExecutorService threadPool = Executors.newFixedThreadPool(numberOfCores);
     List<Future<Map<String, AbstractIndex>>> loadedBlocks =
         new ArrayList<Future<Map<String, AbstractIndex>>>();
     //for each segment fetch blocks matching filter in Driver BTree
     for (String segmentNo : getSegmentsFromConfiguration(job)) {
       // submitting the task
-      loadedBlocks
-          .add(threadPool.submit(new BlocksLoaderThread(job, absoluteTableIdentifier, segmentNo)));
-    }
-    threadPool.shutdown();
-    try {
-      threadPool.awaitTermination(1, TimeUnit.HOURS);
-    } catch (InterruptedException e) {
-      throw new IndexBuilderException(e);
+      loadedBlocks.add(getDriverThreadPool()
+          .submit(new BlocksLoaderThread(job, absoluteTableIdentifier, segmentNo)));
     }
     try {
       // adding all the rows of the blocks to get the total row
@@ -421,7 +624,7 @@ public class CarbonInputFormat<T> extends FileInputFormat<Void, T> {
     Map<String, AbstractIndex> segmentIndexMap =
         getSegmentAbstractIndexs(job, absoluteTableIdentifier, segmentId);
 
-    List<DataRefNode> resultFilterredBlocks = new LinkedList<DataRefNode>();
+    List<DataRefNode> resultFilterredBlocks = new ArrayList<DataRefNode>();
 
     // build result
     for (AbstractIndex abstractIndex : segmentIndexMap.values()) {
@@ -471,12 +674,10 @@ public class CarbonInputFormat<T> extends FileInputFormat<Void, T> {
     // identify table blocks
     for (InputSplit inputSplit : getSplitsInternal(newJob)) {
       CarbonInputSplit carbonInputSplit = (CarbonInputSplit) inputSplit;
-      BlockletInfos blockletInfos = new BlockletInfos(carbonInputSplit.getNumberOfBlocklets(), 0,
-          carbonInputSplit.getNumberOfBlocklets());
       tableBlockInfoList.add(
           new TableBlockInfo(carbonInputSplit.getPath().toString(), carbonInputSplit.getStart(),
               segmentId, carbonInputSplit.getLocations(), carbonInputSplit.getLength(),
-              blockletInfos));
+              carbonInputSplit.getBlockletInfos()));
     }
     return tableBlockInfoList;
   }
@@ -509,7 +710,7 @@ public class CarbonInputFormat<T> extends FileInputFormat<Void, T> {
    * get data blocks of given btree
    */
   private List<DataRefNode> getDataBlocksOfIndex(AbstractIndex abstractIndex) {
-    List<DataRefNode> blocks = new LinkedList<DataRefNode>();
+    List<DataRefNode> blocks = new ArrayList<DataRefNode>();
     SegmentProperties segmentProperties = abstractIndex.getSegmentProperties();
 
     try {
@@ -556,6 +757,8 @@ public class CarbonInputFormat<T> extends FileInputFormat<Void, T> {
           queryModel.setFilterExpressionResolverTree((FilterResolverIntf) filterPredicates);
         }
       }
+      queryModel.setVectorReader(
+          configuration.getBoolean(VECTOR_READER, false) && !hasComplexDimension(queryModel));
     } catch (Exception e) {
       throw new IOException(e);
     }
@@ -563,6 +766,15 @@ public class CarbonInputFormat<T> extends FileInputFormat<Void, T> {
     return new CarbonRecordReader<T>(queryModel, readSupport);
   }
 
+  private boolean hasComplexDimension(QueryModel queryModel) {
+    for (QueryDimension queryDimension : queryModel.getQueryDimension()) {
+      if (CarbonUtil.hasComplexDataType(queryDimension.getDimension().getDataType())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private CarbonReadSupport getReadSupportClass(Configuration configuration) {
     String readSupportClass = configuration.get(CARBON_READ_SUPPORT);
     //By default it uses dictionary decoder read class
@@ -709,6 +921,40 @@ public class CarbonInputFormat<T> extends FileInputFormat<Void, T> {
     return new String[] { "0" };
   }
 
+  /**
+   * Thread class to load the blocks of a segment and get the splits of
+   * blocks matching the filter
+   */
+  private class BlocksPrunerThread implements Callable<List<CarbonInputSplit>> {
+    private JobContext job;
+
+    private FilterExpressionProcessor filterExpressionProcessor;
+
+    private AbsoluteTableIdentifier absoluteTableIdentifier;
+
+    private FilterResolverIntf filterResolver;
+
+    private String segmentId;
+
+    private boolean pruneBlocklets;
+
+    private BlocksPrunerThread(JobContext job, FilterExpressionProcessor filterExpressionProcessor,
+        AbsoluteTableIdentifier absoluteTableIdentifier, FilterResolverIntf filterResolver,
+        String segmentId, boolean pruneBlocklets) {
+      this.job = job;
+      this.filterExpressionProcessor = filterExpressionProcessor;
+      this.absoluteTableIdentifier = absoluteTableIdentifier;
+      this.filterResolver = filterResolver;
+      this.segmentId = segmentId;
+      this.pruneBlocklets = pruneBlocklets;
+    }
+
+    @Override public List<CarbonInputSplit> call() throws Exception {
+      return getSplitsOfSegment(job, filterExpressionProcessor, absoluteTableIdentifier,
+          filterResolver, segmentId, pruneBlocklets);
+    }
+  }
+
   /**
    * Thread class to load the blocks
    */
@@ -22,8 +22,10 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.carbondata.core.carbon.datastore.block.BlockletInfos;
 import org.apache.carbondata.hadoop.internal.index.Block;
 
 import org.apache.hadoop.fs.Path;
@@ -41,6 +43,11 @@ public class CarbonInputSplit extends FileSplit implements Serializable, Writabl
    * Number of BlockLets in a block
    */
   private int numberOfBlocklets = 0;
+  /**
+   * sorted ids of blocklets to be scanned, null if all the blocklets are
+   * to be scanned
+   */
+  private int[] blockletIds;
 
   public CarbonInputSplit() {
     super(null, 0, 0, new String[0]);
@@ -67,16 +74,57 @@ public class CarbonInputSplit extends FileSplit implements Serializable, Writabl
     return segmentId;
   }
 
+  /**
+   * @return sorted ids of blocklets to be scanned, null if all the blocklets
+   * are to be scanned
+   */
+  public int[] getBlockletIds() {
+    return blockletIds;
+  }
+
+  /**
+   * @param blockletIds sorted ids of blocklets to be scanned
+   */
+  public void setBlockletIds(int[] blockletIds) {
+    this.blockletIds = blockletIds;
+  }
+
+  /**
+   * @return blocklets of the block to be scanned, including the ids of the
+   * blocklets which are pruned in driver
+   */
+  public BlockletInfos getBlockletInfos() {
+    BlockletInfos blockletInfos = new BlockletInfos(numberOfBlocklets, 0, numberOfBlocklets);
+    blockletInfos.setBlockletIds(blockletIds);
+    return blockletInfos;
+  }
+
   @Override public void readFields(DataInput in) throws IOException {
 
     super.readFields(in);
     this.segmentId = in.readUTF();
-
+    int numberOfBlockletIds = in.readInt();
+    if (numberOfBlockletIds >= 0) {
+      blockletIds = new int[numberOfBlockletIds];
+      for (int i = 0; i < numberOfBlockletIds; i++) {
+        blockletIds[i] = in.readInt();
+      }
+    } else {
+      blockletIds = null;
+    }
   }
 
   @Override public void write(DataOutput out) throws IOException {
     super.write(out);
     out.writeUTF(segmentId);
+    if (null == blockletIds) {
+      out.writeInt(-1);
+    } else {
+      out.writeInt(blockletIds.length);
+      for (int blockletId : blockletIds) {
+        out.writeInt(blockletId);
+      }
+    }
   }
 
   /**
@@ -94,11 +142,18 @@ public class CarbonInputSplit extends FileSplit implements Serializable, Writabl
 
   @Override
   public List<Long> getMatchedBlocklets() {
-    return null;
+    if (null == blockletIds) {
+      return null;
+    }
+    List<Long> matchedBlocklets = new ArrayList<Long>(blockletIds.length);
+    for (int blockletId : blockletIds) {
+      matchedBlocklets.add((long) blockletId);
+    }
+    return matchedBlocklets;
   }
 
   @Override
   public boolean fullScan() {
-    return true;
+    return null == blockletIds;
   }
 }
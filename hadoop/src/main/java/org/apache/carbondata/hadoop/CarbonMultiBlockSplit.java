@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.hadoop;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.io.Writable;
+import org.apache.hadoop.mapreduce.InputSplit;
+
+/**
+ * Carbon input split which combines multiple blocks, so small blocks of same
+ * location can be read by one task
+ */
+public class CarbonMultiBlockSplit extends InputSplit implements Serializable, Writable {
+
+  private static final long serialVersionUID = -2471939738414563562L;
+
+  /**
+   * splits of the blocks to be read
+   */
+  private List<CarbonInputSplit> splitList;
+
+  /**
+   * locations of the split
+   */
+  private String[] locations;
+
+  /**
+   * total length of all the blocks
+   */
+  private long length;
+
+  public CarbonMultiBlockSplit() {
+    splitList = new ArrayList<CarbonInputSplit>();
+    locations = new String[0];
+  }
+
+  public CarbonMultiBlockSplit(List<CarbonInputSplit> splitList, String[] locations) {
+    this.splitList = splitList;
+    this.locations = locations;
+    for (CarbonInputSplit split : splitList) {
+      length += split.getLength();
+    }
+  }
+
+  /**
+   * @return splits of all the blocks
+   */
+  public List<CarbonInputSplit> getAllSplits() {
+    return splitList;
+  }
+
+  @Override public long getLength() {
+    return length;
+  }
+
+  @Override public String[] getLocations() {
+    return locations;
+  }
+
+  @Override public void write(DataOutput out) throws IOException {
+    out.writeInt(splitList.size());
+    for (CarbonInputSplit split : splitList) {
+      split.write(out);
+    }
+    out.writeInt(locations.length);
+    for (String location : locations) {
+      out.writeUTF(location);
+    }
+  }
+
+  @Override public void readFields(DataInput in) throws IOException {
+    int numberOfSplits = in.readInt();
+    splitList = new ArrayList<CarbonInputSplit>(numberOfSplits);
+    length = 0;
+    for (int i = 0; i < numberOfSplits; i++) {
+      CarbonInputSplit split = new CarbonInputSplit();
+      split.readFields(in);
+      splitList.add(split);
+      length += split.getLength();
+    }
+    int numberOfLocations = in.readInt();
+    locations = new String[numberOfLocations];
+    for (int i = 0; i < numberOfLocations; i++) {
+      locations[i] = in.readUTF();
+    }
+  }
+}
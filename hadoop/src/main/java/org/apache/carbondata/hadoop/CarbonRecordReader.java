@@ -25,15 +25,16 @@ import java.util.Map;
 
 import org.apache.carbondata.common.CarbonIterator;
 import org.apache.carbondata.core.cache.dictionary.Dictionary;
-import org.apache.carbondata.core.carbon.datastore.block.BlockletInfos;
 import org.apache.carbondata.core.carbon.datastore.block.TableBlockInfo;
 import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.hadoop.internal.CarbonColumnarInputSplit;
 import org.apache.carbondata.hadoop.readsupport.CarbonReadSupport;
 import org.apache.carbondata.scan.executor.QueryExecutor;
 import org.apache.carbondata.scan.executor.QueryExecutorFactory;
 import org.apache.carbondata.scan.executor.exception.QueryExecutionException;
 import org.apache.carbondata.scan.model.QueryModel;
 import org.apache.carbondata.scan.result.BatchResult;
+import org.apache.carbondata.scan.result.ColumnarBatch;
 import org.apache.carbondata.scan.result.iterator.ChunkRowIterator;
 
 import org.apache.hadoop.mapreduce.InputSplit;
@@ -41,7 +42,10 @@ import org.apache.hadoop.mapreduce.RecordReader;
 import org.apache.hadoop.mapreduce.TaskAttemptContext;
 
 /**
- * Reads the data from Carbon store.
+ * Reads the data from Carbon store. In case vector reader is enabled in query
+ * model data is read as columnar batches, which can be read using
+ * {@link #nextBatch()} and {@link #getCurrentBatch()}, and the value
+ * returned by {@link #getCurrentValue()} is the current {@link ColumnarBatch}
  */
 public class CarbonRecordReader<T> extends RecordReader<Void, T> {
 
@@ -51,6 +55,10 @@ public class CarbonRecordReader<T> extends RecordReader<Void, T> {
 
   private CarbonIterator<Object[]> carbonIterator;
 
+  private CarbonIterator<ColumnarBatch> batchIterator;
+
+  private ColumnarBatch columnarBatch;
+
   private QueryExecutor queryExecutor;
 
   public CarbonRecordReader(QueryModel queryModel, CarbonReadSupport<T> readSupport) {
@@ -61,35 +69,78 @@ public class CarbonRecordReader<T> extends RecordReader<Void, T> {
 
   @Override public void initialize(InputSplit split, TaskAttemptContext context)
       throws IOException, InterruptedException {
-    CarbonInputSplit carbonInputSplit = (CarbonInputSplit) split;
     List<TableBlockInfo> tableBlockInfoList = new ArrayList<TableBlockInfo>();
-    BlockletInfos blockletInfos = new BlockletInfos(carbonInputSplit.getNumberOfBlocklets(), 0,
-        carbonInputSplit.getNumberOfBlocklets());
-    tableBlockInfoList.add(
-        new TableBlockInfo(carbonInputSplit.getPath().toString(), carbonInputSplit.getStart(),
-            carbonInputSplit.getSegmentId(), carbonInputSplit.getLocations(),
-            carbonInputSplit.getLength(), blockletInfos));
+    if (split instanceof CarbonMultiBlockSplit) {
+      for (CarbonInputSplit carbonInputSplit : ((CarbonMultiBlockSplit) split).getAllSplits()) {
+        tableBlockInfoList.add(getTableBlockInfo(carbonInputSplit));
+      }
+    } else if (split instanceof CarbonColumnarInputSplit) {
+      tableBlockInfoList.add(getTableBlockInfo(((CarbonColumnarInputSplit) split).getSplit()));
+    } else {
+      tableBlockInfoList.add(getTableBlockInfo((CarbonInputSplit) split));
+    }
     queryModel.setTableBlockInfos(tableBlockInfoList);
     readSupport
         .intialize(queryModel.getProjectionColumns(), queryModel.getAbsoluteTableIdentifier());
     try {
-      carbonIterator =
-          new ChunkRowIterator((CarbonIterator<BatchResult>) queryExecutor.execute(queryModel));
+      if (queryModel.isVectorReader()) {
+        batchIterator = (CarbonIterator<ColumnarBatch>) queryExecutor.execute(queryModel);
+      } else {
+        carbonIterator =
+            new ChunkRowIterator((CarbonIterator<BatchResult>) queryExecutor.execute(queryModel));
+      }
     } catch (QueryExecutionException e) {
       throw new InterruptedException(e.getMessage());
     }
   }
 
+  private TableBlockInfo getTableBlockInfo(CarbonInputSplit carbonInputSplit)
+      throws IOException {
+    return new TableBlockInfo(carbonInputSplit.getPath().toString(), carbonInputSplit.getStart(),
+        carbonInputSplit.getSegmentId(), carbonInputSplit.getLocations(),
+        carbonInputSplit.getLength(), carbonInputSplit.getBlockletInfos());
+  }
+
   @Override public boolean nextKeyValue() {
+    if (null != batchIterator) {
+      return nextBatch();
+    }
     return carbonIterator.hasNext();
 
   }
 
+  /**
+   * Below method will be used to read the next columnar batch, batch is
+   * reused so the previous batch is not valid after this call. It is supported
+   * only when vector reader is enabled in query model
+   *
+   * @return false if no more rows are present
+   */
+  public boolean nextBatch() {
+    while (batchIterator.hasNext()) {
+      columnarBatch = readSupport.readBatch(batchIterator.next());
+      if (columnarBatch.getRowCount() > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return current columnar batch
+   */
+  public ColumnarBatch getCurrentBatch() {
+    return columnarBatch;
+  }
+
   @Override public Void getCurrentKey() throws IOException, InterruptedException {
     return null;
   }
 
   @Override public T getCurrentValue() throws IOException, InterruptedException {
+    if (null != batchIterator) {
+      return (T) columnarBatch;
+    }
     return readSupport.readRow(carbonIterator.next());
   }
 
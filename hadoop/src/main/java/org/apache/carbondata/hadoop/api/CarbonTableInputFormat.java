@@ -20,18 +20,26 @@
 package org.apache.carbondata.hadoop.api;
 
 import java.io.IOException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
+import org.apache.carbondata.core.carbon.metadata.schema.table.CarbonTable;
 import org.apache.carbondata.hadoop.CarbonProjection;
+import org.apache.carbondata.hadoop.CarbonRecordReader;
 import org.apache.carbondata.hadoop.internal.CarbonInputSplit;
 import org.apache.carbondata.hadoop.internal.segment.Segment;
 import org.apache.carbondata.hadoop.internal.segment.SegmentManager;
 import org.apache.carbondata.hadoop.internal.segment.SegmentManagerFactory;
+import org.apache.carbondata.hadoop.readsupport.CarbonReadSupport;
+import org.apache.carbondata.hadoop.readsupport.impl.DictionaryDecodedReadSupportImpl;
 import org.apache.carbondata.hadoop.util.CarbonInputFormatUtil;
 import org.apache.carbondata.hadoop.util.ObjectSerializationUtil;
+import org.apache.carbondata.hadoop.util.SchemaReader;
 import org.apache.carbondata.scan.expression.Expression;
 import org.apache.carbondata.scan.filter.resolver.FilterResolverIntf;
+import org.apache.carbondata.scan.model.CarbonQueryPlan;
+import org.apache.carbondata.scan.model.QueryModel;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.mapreduce.InputSplit;
@@ -49,23 +57,34 @@ public class CarbonTableInputFormat<T> extends FileInputFormat<Void, T> {
   private static final String FILTER_PREDICATE =
       "mapreduce.input.carboninputformat.filter.predicate";
 
-  private SegmentManager segmentManager;
+  private static final String TABLE_PATH = "mapreduce.input.carboninputformat.tablepath";
 
-  public CarbonTableInputFormat() {
-    this.segmentManager = SegmentManagerFactory.getGlobalSegmentManager();
-  }
+  private static final String COLUMN_PROJECTION = "mapreduce.input.carboninputformat.projection";
+
+  private static final String CARBON_TABLE = "mapreduce.input.carboninputformat.table";
 
   @Override
   public RecordReader<Void, T> createRecordReader(InputSplit split,
       TaskAttemptContext context) throws IOException, InterruptedException {
     switch (((CarbonInputSplit)split).formatType()) {
       case COLUMNAR:
-        // TODO: create record reader for columnar format
-        break;
+        return createColumnarRecordReader(context.getConfiguration());
       default:
         throw new RuntimeException("Unsupported format type");
     }
-    return null;
+  }
+
+  private RecordReader<Void, T> createColumnarRecordReader(Configuration conf)
+      throws IOException {
+    CarbonTable carbonTable = getCarbonTable(conf);
+    // all columns are projected if projection is not set
+    CarbonQueryPlan queryPlan =
+        CarbonInputFormatUtil.createQueryPlan(carbonTable, conf.get(COLUMN_PROJECTION));
+    QueryModel queryModel =
+        QueryModel.createModel(carbonTable.getAbsoluteTableIdentifier(), queryPlan, carbonTable);
+    queryModel.setFilterExpressionResolverTree(getFilterResolver(conf, carbonTable));
+    CarbonReadSupport readSupport = new DictionaryDecodedReadSupportImpl();
+    return new CarbonRecordReader<T>(queryModel, readSupport);
   }
 
   @Override
@@ -75,10 +94,12 @@ public class CarbonTableInputFormat<T> extends FileInputFormat<Void, T> {
     // get all current valid segment
     // for each segment, get all input split
 
-    List<InputSplit> output = new LinkedList<>();
-    Expression filter = getFilter(job.getConfiguration());
+    List<InputSplit> output = new ArrayList<>();
+    CarbonTable carbonTable = getCarbonTable(job.getConfiguration());
+    FilterResolverIntf filterResolver = getFilterResolver(job.getConfiguration(), carbonTable);
+    SegmentManager segmentManager =
+        SegmentManagerFactory.getSegmentManager(carbonTable.getAbsoluteTableIdentifier());
     Segment[] segments = segmentManager.getAllValidSegments();
-    FilterResolverIntf filterResolver = CarbonInputFormatUtil.resolveFilter(filter, null);
     for (Segment segment: segments) {
       List<InputSplit> splits = segment.getSplits(job, filterResolver);
       output.addAll(splits);
@@ -86,13 +107,45 @@ public class CarbonTableInputFormat<T> extends FileInputFormat<Void, T> {
     return output;
   }
 
+  /**
+   * process and resolve the filter expression in the configuration
+   * @return resolved filter, null if no filter is set
+   */
+  private FilterResolverIntf getFilterResolver(Configuration conf, CarbonTable carbonTable) {
+    Expression filter = getFilter(conf);
+    if (filter == null) {
+      return null;
+    }
+    CarbonInputFormatUtil.processFilterExpression(filter, carbonTable);
+    return CarbonInputFormatUtil.resolveFilter(filter, carbonTable.getAbsoluteTableIdentifier());
+  }
+
+  /**
+   * return the table of the table path in the configuration, schema is read from the store
+   * only once and kept in the configuration
+   */
+  private CarbonTable getCarbonTable(Configuration conf) throws IOException {
+    String carbonTableStr = conf.get(CARBON_TABLE);
+    if (carbonTableStr != null) {
+      return (CarbonTable) ObjectSerializationUtil.convertStringToObject(carbonTableStr);
+    }
+    String tablePath = getTablePath(conf);
+    if (tablePath == null) {
+      throw new IOException("Table path is not set in the configuration");
+    }
+    CarbonTable carbonTable =
+        SchemaReader.readCarbonTableFromStore(AbsoluteTableIdentifier.fromTablePath(tablePath));
+    conf.set(CARBON_TABLE, ObjectSerializationUtil.convertObjectToString(carbonTable));
+    return carbonTable;
+  }
+
   /**
    * set the table path into configuration
    * @param conf configuration of the job
    * @param tablePath table path string
    */
   public void setTablePath(Configuration conf, String tablePath) {
-
+    conf.set(TABLE_PATH, tablePath);
   }
 
   /**
@@ -101,7 +154,7 @@ public class CarbonTableInputFormat<T> extends FileInputFormat<Void, T> {
    * @return table path string
    */
   public String getTablePath(Configuration conf) {
-    return null;
+    return conf.get(TABLE_PATH);
   }
 
   /**
@@ -110,7 +163,15 @@ public class CarbonTableInputFormat<T> extends FileInputFormat<Void, T> {
    * @param projection projection
    */
   public void setProjection(Configuration conf, CarbonProjection projection) {
-
+    if (projection == null || projection.isEmpty()) {
+      conf.unset(COLUMN_PROJECTION);
+      return;
+    }
+    StringBuilder builder = new StringBuilder();
+    for (String column : projection.getAllColumns()) {
+      builder.append(column).append(",");
+    }
+    conf.set(COLUMN_PROJECTION, builder.substring(0, builder.length() - 1));
   }
 
   /**
@@ -119,7 +180,14 @@ public class CarbonTableInputFormat<T> extends FileInputFormat<Void, T> {
    * @return projection
    */
   public CarbonProjection getProjection(Configuration conf) {
-    return null;
+    CarbonProjection projection = new CarbonProjection();
+    String columnString = conf.get(COLUMN_PROJECTION);
+    if (columnString != null) {
+      for (String column : columnString.split(",")) {
+        projection.addColumn(column);
+      }
+    }
+    return projection;
   }
 
   /**
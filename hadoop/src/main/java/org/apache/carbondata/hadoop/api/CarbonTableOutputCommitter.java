@@ -23,10 +23,23 @@ import java.io.IOException;
 
 import org.apache.carbondata.hadoop.internal.segment.Segment;
 import org.apache.carbondata.hadoop.internal.segment.SegmentManager;
+import org.apache.carbondata.hadoop.internal.segment.SegmentManagerFactory;
+import org.apache.carbondata.processing.model.CarbonLoadModel;
 
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.mapred.FileOutputCommitter;
+import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.JobContext;
+import org.apache.hadoop.mapred.TaskAttemptContext;
 
+/**
+ * Commits the segment written by CarbonTableOutputFormat, the segment is opened when the
+ * job is submitted so that all tasks know where to write. Each task attempt writes into its
+ * own directory under the segment, files of the attempt are moved into the segment when the
+ * task is committed, so failed and speculative attempts do not leave files in the segment
+ */
 public class CarbonTableOutputCommitter extends FileOutputCommitter {
   private SegmentManager segmentManager;
   private Segment newSegment;
@@ -34,24 +47,105 @@ public class CarbonTableOutputCommitter extends FileOutputCommitter {
   @Override
   public void setupJob(JobContext context) throws IOException {
     // steps:
-    // call segment manager to open new segment for loading
-    // load data synchronously
-    // close the segment and make it available for reading
+    // segment is opened for loading by CarbonTableOutputFormat.checkOutputSpecs
+    // tasks load data into the segment
+    // commit the segment to make it available for reading, or close it if job failed
 
-    newSegment = segmentManager.openNewSegment();
+    initSegment(context.getJobConf());
     super.setupJob(context);
   }
 
   @Override
   public void abortJob(JobContext context, int runState) throws IOException {
+    initSegment(context.getJobConf());
     segmentManager.closeSegment(newSegment);
     super.abortJob(context, runState);
   }
 
   @Override
   public void commitJob(JobContext context) throws IOException {
+    initSegment(context.getJobConf());
+    Path temporaryPath =
+        new Path(newSegment.getPath(), CarbonTableOutputFormat.TEMPORARY_DIR);
+    FileSystem fs = temporaryPath.getFileSystem(context.getJobConf());
+    boolean hasBadRecords =
+        fs.exists(new Path(temporaryPath, CarbonTableOutputFormat.BAD_RECORDS_MARKER));
+    // directories of the attempts which are not committed
+    fs.delete(temporaryPath, true);
     newSegment.setupForRead(context);
-    segmentManager.commitSegment(newSegment);
+    if (hasBadRecords) {
+      segmentManager.commitSegmentWithBadRecords(newSegment);
+    } else {
+      segmentManager.commitSegment(newSegment);
+    }
     super.commitJob(context);
   }
+
+  @Override
+  public boolean needsTaskCommit(TaskAttemptContext context) throws IOException {
+    Path taskAttemptPath = getCarbonTaskAttemptPath(context);
+    return taskAttemptPath.getFileSystem(context.getJobConf()).exists(taskAttemptPath) || super
+        .needsTaskCommit(context);
+  }
+
+  @Override
+  public void commitTask(TaskAttemptContext context) throws IOException {
+    Path taskAttemptPath = getCarbonTaskAttemptPath(context);
+    FileSystem fs = taskAttemptPath.getFileSystem(context.getJobConf());
+    if (fs.exists(taskAttemptPath)) {
+      Path segmentPath = new Path(newSegment.getPath());
+      boolean hasBadRecords = false;
+      for (FileStatus file : fs.listStatus(taskAttemptPath)) {
+        String fileName = file.getPath().getName();
+        if (CarbonTableOutputFormat.BAD_RECORDS_MARKER.equals(fileName)) {
+          hasBadRecords = true;
+          continue;
+        }
+        Path target = new Path(segmentPath, fileName);
+        // all attempts of a task write files with same name, file can be present if commit
+        // of an earlier attempt failed after moving it
+        if (fs.exists(target)) {
+          fs.delete(target, false);
+        }
+        if (!fs.rename(file.getPath(), target)) {
+          throw new IOException("Failed to move " + file.getPath() + " to " + segmentPath);
+        }
+      }
+      if (hasBadRecords) {
+        fs.create(new Path(new Path(segmentPath, CarbonTableOutputFormat.TEMPORARY_DIR),
+            CarbonTableOutputFormat.BAD_RECORDS_MARKER), true).close();
+      }
+      fs.delete(taskAttemptPath, true);
+    }
+    super.commitTask(context);
+  }
+
+  @Override
+  public void abortTask(TaskAttemptContext context) throws IOException {
+    Path taskAttemptPath = getCarbonTaskAttemptPath(context);
+    taskAttemptPath.getFileSystem(context.getJobConf()).delete(taskAttemptPath, true);
+    super.abortTask(context);
+  }
+
+  private Path getCarbonTaskAttemptPath(TaskAttemptContext context) throws IOException {
+    JobConf conf = context.getJobConf();
+    initSegment(conf);
+    return CarbonTableOutputFormat
+        .getTaskAttemptPath(CarbonTableOutputFormat.getLoadModel(conf), newSegment.getId(),
+            context.getTaskAttemptID().toString());
+  }
+
+  private void initSegment(JobConf conf) throws IOException {
+    if (newSegment != null) {
+      return;
+    }
+    CarbonLoadModel loadModel = CarbonTableOutputFormat.getLoadModel(conf);
+    String segmentId = conf.get(CarbonTableOutputFormat.SEGMENT_ID);
+    if (loadModel == null || segmentId == null) {
+      throw new IOException("Segment to commit is not set in the job configuration");
+    }
+    segmentManager = SegmentManagerFactory
+        .getSegmentManager(CarbonTableOutputFormat.getAbsoluteTableIdentifier(loadModel));
+    newSegment = segmentManager.getSegment(segmentId);
+  }
 }
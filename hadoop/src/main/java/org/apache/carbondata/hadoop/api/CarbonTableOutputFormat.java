@@ -19,23 +19,367 @@
 
 package org.apache.carbondata.hadoop.api;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
+import org.apache.carbondata.core.carbon.metadata.CarbonMetadata;
+import org.apache.carbondata.core.carbon.metadata.encoder.Encoding;
+import org.apache.carbondata.core.carbon.metadata.schema.table.CarbonTable;
+import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonDimension;
+import org.apache.carbondata.core.carbon.path.CarbonStorePath;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.core.util.CarbonUtilException;
+import org.apache.carbondata.hadoop.internal.segment.Segment;
+import org.apache.carbondata.hadoop.internal.segment.SegmentManagerFactory;
+import org.apache.carbondata.hadoop.util.ObjectSerializationUtil;
+import org.apache.carbondata.processing.model.CarbonLoadModel;
+import org.apache.carbondata.processing.newflow.DataLoadExecutor;
+import org.apache.carbondata.processing.newflow.exception.BadRecordFoundException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.mapred.FileOutputFormat;
 import org.apache.hadoop.mapred.JobConf;
 import org.apache.hadoop.mapred.RecordWriter;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.mapreduce.MRJobConfig;
 import org.apache.hadoop.util.Progressable;
 
 /**
  * Base class for all output format for CarbonData file.
+ *
+ * A new segment is opened when the job is submitted and its id is set in the job
+ * configuration. Every task attempt writes its carbondata files into its own directory under
+ * the segment, CarbonTableOutputCommitter moves the files of the committed attempt into the
+ * segment and makes the segment visible for query only after the job is committed, or deletes
+ * it if the job is aborted.
+ * Tables with dictionary columns are not supported as dictionary is not generated.
  * @param <T>
  */
 public abstract class CarbonTableOutputFormat<T> extends FileOutputFormat<Void, T> {
 
+  private static final Log LOG = LogFactory.getLog(CarbonTableOutputFormat.class);
+
+  private static final String LOAD_MODEL = "mapreduce.output.carbontableoutputformat.loadmodel";
+
+  static final String SEGMENT_ID = "mapreduce.output.carbontableoutputformat.segmentid";
+
+  /**
+   * directory under the segment where task attempts write their files
+   */
+  static final String TEMPORARY_DIR = "_temporary";
+
+  /**
+   * marker file written by a task attempt which found bad records
+   */
+  static final String BAD_RECORDS_MARKER = "_BAD_RECORDS";
+
+  /**
+   * number of rows handed over to the loading thread at once
+   */
+  private static final int BATCH_SIZE = 1000;
+
+  /**
+   * number of batches buffered before the writer blocks
+   */
+  private static final int QUEUE_SIZE = 10;
+
+  /**
+   * convert the record to the row given to data load, values must be in the order of the
+   * csv header of the load model
+   * @param value record
+   * @return row
+   */
+  protected abstract Object[] convertToRow(T value);
+
+  /**
+   * set the load model of the table to load into the configuration
+   * @param conf configuration of the job
+   * @param loadModel load model
+   */
+  public static void setLoadModel(Configuration conf, CarbonLoadModel loadModel)
+      throws IOException {
+    conf.set(LOAD_MODEL, ObjectSerializationUtil.convertObjectToString(loadModel));
+  }
+
+  /**
+   * return the load model in the configuration
+   * @param conf configuration of the job
+   * @return load model, null if it is not set
+   */
+  public static CarbonLoadModel getLoadModel(Configuration conf) throws IOException {
+    String loadModelString = conf.get(LOAD_MODEL);
+    if (loadModelString == null) {
+      return null;
+    }
+    return (CarbonLoadModel) ObjectSerializationUtil.convertStringToObject(loadModelString);
+  }
+
+  static AbsoluteTableIdentifier getAbsoluteTableIdentifier(CarbonLoadModel loadModel) {
+    return loadModel.getCarbonDataLoadSchema().getCarbonTable().getAbsoluteTableIdentifier();
+  }
+
+  /**
+   * return the directory of the segment being loaded by the job
+   */
+  static Path getSegmentPath(CarbonLoadModel loadModel, String segmentId) {
+    AbsoluteTableIdentifier identifier = getAbsoluteTableIdentifier(loadModel);
+    return new Path(CarbonStorePath
+        .getCarbonTablePath(identifier.getStorePath(), identifier.getCarbonTableIdentifier())
+        .getCarbonDataDirectoryPath("0", segmentId));
+  }
+
+  /**
+   * return the directory where the task attempt writes its files before it is committed
+   */
+  static Path getTaskAttemptPath(CarbonLoadModel loadModel, String segmentId,
+      String taskAttemptId) {
+    return new Path(new Path(getSegmentPath(loadModel, segmentId), TEMPORARY_DIR),
+        taskAttemptId);
+  }
+
+  /**
+   * data load generates dictionary only in a spark job, so a table with dictionary
+   * columns can not be loaded by this output format
+   */
+  private static void checkNoDictionaryColumn(CarbonTable carbonTable) throws IOException {
+    checkNoDictionaryColumn(carbonTable.getDimensionByTableName(carbonTable.getFactTableName()));
+  }
+
+  private static void checkNoDictionaryColumn(List<CarbonDimension> dimensions)
+      throws IOException {
+    for (CarbonDimension dimension : dimensions) {
+      if (dimension.hasEncoding(Encoding.DICTIONARY) && !dimension
+          .hasEncoding(Encoding.DIRECT_DICTIONARY)) {
+        throw new IOException("Table with dictionary column " + dimension.getColName()
+            + " is not supported, dictionary is not generated by CarbonTableOutputFormat");
+      }
+      if (dimension.numberOfChild() > 0) {
+        checkNoDictionaryColumn(dimension.getListOfChildDimensions());
+      }
+    }
+  }
+
+  /**
+   * It is called by the client while submitting the job, it opens the segment which all
+   * tasks of the job write into and sets CarbonTableOutputCommitter as the job committer
+   */
+  @Override
+  public void checkOutputSpecs(FileSystem ignored, JobConf job) throws IOException {
+    if (job.get(SEGMENT_ID) != null) {
+      return;
+    }
+    CarbonLoadModel loadModel = getLoadModel(job);
+    if (loadModel == null) {
+      throw new IOException("Load model is not set in the job configuration");
+    }
+    checkNoDictionaryColumn(loadModel.getCarbonDataLoadSchema().getCarbonTable());
+    Segment segment =
+        SegmentManagerFactory.getSegmentManager(getAbsoluteTableIdentifier(loadModel))
+            .openNewSegment();
+    loadModel.setSegmentId(segment.getId());
+    loadModel.setPartitionId("0");
+    loadModel.setFactTimeStamp(String.valueOf(System.currentTimeMillis()));
+    setLoadModel(job, loadModel);
+    job.set(SEGMENT_ID, segment.getId());
+    job.setOutputCommitter(CarbonTableOutputCommitter.class);
+  }
+
   @Override
   public RecordWriter<Void, T> getRecordWriter(FileSystem ignored, JobConf job, String name,
       Progressable progress) throws IOException {
-    return null;
+    CarbonLoadModel loadModel = getLoadModel(job);
+    if (loadModel == null || job.get(SEGMENT_ID) == null) {
+      throw new IOException("Segment to load is not opened, checkOutputSpecs is not called");
+    }
+    String taskAttemptId = job.get(MRJobConfig.TASK_ATTEMPT_ID);
+    if (taskAttemptId == null) {
+      throw new IOException("Task attempt id is not set in the job configuration");
+    }
+    // all attempts of a task use the same task number, files of only the committed attempt
+    // are moved into the segment
+    loadModel.setTaskNo(String.valueOf(job.getInt(MRJobConfig.TASK_PARTITION, 0)));
+    Path taskAttemptPath = getTaskAttemptPath(loadModel, job.get(SEGMENT_ID), taskAttemptId);
+    taskAttemptPath.getFileSystem(job).mkdirs(taskAttemptPath);
+    loadModel.setCarbonDataDirectoryPath(taskAttemptPath.toString());
+    return new CarbonRecordWriter(loadModel, taskAttemptPath, job);
+  }
+
+  /**
+   * Record writer which converts the records to rows and hands them over in batches to
+   * the data load running in a separate thread, the data load sorts the rows and writes
+   * them with CarbonFactDataHandlerColumnar into the directory of the task attempt
+   */
+  private class CarbonRecordWriter implements RecordWriter<Void, T>, Iterator<Object[]> {
+
+    private final BlockingQueue<Object[][]> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+
+    /**
+     * marks the end of the input
+     */
+    private final Object[][] endOfInput = new Object[0][];
+
+    private final CarbonLoadModel loadModel;
+
+    private final Path taskAttemptPath;
+
+    private final Configuration conf;
+
+    private final String storeLocation;
+
+    private final ExecutorService executorService;
+
+    private final Future<Void> loadFuture;
+
+    private Object[][] writeBatch = new Object[BATCH_SIZE][];
+
+    private int writeIndex;
+
+    private Object[][] readBatch = new Object[0][];
+
+    private int readIndex;
+
+    CarbonRecordWriter(final CarbonLoadModel loadModel, Path taskAttemptPath,
+        Configuration conf) {
+      this.loadModel = loadModel;
+      this.taskAttemptPath = taskAttemptPath;
+      this.conf = conf;
+      this.storeLocation =
+          System.getProperty("java.io.tmpdir") + File.separator + System.nanoTime()
+              + File.separator + loadModel.getTaskNo();
+      CarbonMetadata.getInstance()
+          .addCarbonTable(loadModel.getCarbonDataLoadSchema().getCarbonTable());
+      this.executorService = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override public Thread newThread(Runnable r) {
+          Thread thread = new Thread(r, "CarbonRecordWriter-" + loadModel.getTaskNo());
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+      this.loadFuture = executorService.submit(new Callable<Void>() {
+        @SuppressWarnings("unchecked")
+        @Override public Void call() throws Exception {
+          new DataLoadExecutor().execute(loadModel, storeLocation,
+              new Iterator[] { CarbonRecordWriter.this });
+          return null;
+        }
+      });
+    }
+
+    @Override
+    public void write(Void key, T value) throws IOException {
+      writeBatch[writeIndex++] = convertToRow(value);
+      if (writeIndex == BATCH_SIZE) {
+        putBatch(writeBatch);
+        writeBatch = new Object[BATCH_SIZE][];
+        writeIndex = 0;
+      }
+    }
+
+    /**
+     * hand over the batch to the loading thread, it fails if the load is already failed
+     * instead of blocking forever on a queue nobody reads
+     */
+    private void putBatch(Object[][] batch) throws IOException {
+      try {
+        while (!queue.offer(batch, 1, TimeUnit.SECONDS)) {
+          if (loadFuture.isDone()) {
+            waitForLoad();
+            throw new IOException("Data load is finished before all rows are written");
+          }
+        }
+      } catch (InterruptedException e) {
+        throw new IOException(e);
+      }
+    }
+
+    @Override
+    public void close(Reporter reporter) throws IOException {
+      try {
+        if (writeIndex > 0) {
+          Object[][] lastBatch = new Object[writeIndex][];
+          System.arraycopy(writeBatch, 0, lastBatch, 0, writeIndex);
+          putBatch(lastBatch);
+        }
+        putBatch(endOfInput);
+        waitForLoad();
+      } finally {
+        executorService.shutdownNow();
+        try {
+          CarbonUtil.deleteFoldersAndFiles(new File(storeLocation));
+        } catch (CarbonUtilException e) {
+          LOG.error("Failed to delete temporary store location " + storeLocation, e);
+        }
+      }
+    }
+
+    private void waitForLoad() throws IOException {
+      try {
+        loadFuture.get();
+      } catch (InterruptedException e) {
+        throw new IOException(e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof BadRecordFoundException) {
+          // rows are loaded as per bad records action, the marker makes the committer
+          // commit the segment as partially successful
+          LOG.warn("Bad records found while loading segment " + loadModel.getSegmentId());
+          Path marker = new Path(taskAttemptPath, BAD_RECORDS_MARKER);
+          marker.getFileSystem(conf).create(marker, true).close();
+          return;
+        }
+        throw new IOException("Data load failed for segment " + loadModel.getSegmentId(),
+            e.getCause());
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (readIndex < readBatch.length) {
+        return true;
+      }
+      if (readBatch == endOfInput) {
+        return false;
+      }
+      try {
+        do {
+          readBatch = queue.take();
+        } while (readBatch.length == 0 && readBatch != endOfInput);
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      readIndex = 0;
+      return readBatch != endOfInput;
+    }
+
+    @Override
+    public Object[] next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Object[] row = readBatch[readIndex];
+      readBatch[readIndex++] = null;
+      return row;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("remove");
+    }
   }
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.hadoop.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.apache.hadoop.io.Writable;
+
+/**
+ * Input split of columnar format, it wraps the carbondata file split which is scanned by
+ * CarbonRecordReader
+ */
+public class CarbonColumnarInputSplit extends CarbonInputSplit implements Writable {
+
+  private org.apache.carbondata.hadoop.CarbonInputSplit split;
+
+  public CarbonColumnarInputSplit() {
+    this.split = new org.apache.carbondata.hadoop.CarbonInputSplit();
+  }
+
+  public CarbonColumnarInputSplit(org.apache.carbondata.hadoop.CarbonInputSplit split) {
+    this.split = split;
+  }
+
+  /**
+   * @return the carbondata file split to scan
+   */
+  public org.apache.carbondata.hadoop.CarbonInputSplit getSplit() {
+    return split;
+  }
+
+  @Override
+  public CarbonFormatType formatType() {
+    return CarbonFormatType.COLUMNAR;
+  }
+
+  @Override
+  public long getLength() throws IOException, InterruptedException {
+    return split.getLength();
+  }
+
+  @Override
+  public String[] getLocations() throws IOException, InterruptedException {
+    return split.getLocations();
+  }
+
+  @Override
+  public void write(DataOutput out) throws IOException {
+    split.write(out);
+  }
+
+  @Override
+  public void readFields(DataInput in) throws IOException {
+    split.readFields(in);
+  }
+}
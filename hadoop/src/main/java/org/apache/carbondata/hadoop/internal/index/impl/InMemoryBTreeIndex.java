@@ -32,7 +32,6 @@ import org.apache.carbondata.core.carbon.datastore.DataRefNodeFinder;
 import org.apache.carbondata.core.carbon.datastore.IndexKey;
 import org.apache.carbondata.core.carbon.datastore.SegmentTaskIndexStore;
 import org.apache.carbondata.core.carbon.datastore.block.AbstractIndex;
-import org.apache.carbondata.core.carbon.datastore.block.BlockletInfos;
 import org.apache.carbondata.core.carbon.datastore.block.SegmentProperties;
 import org.apache.carbondata.core.carbon.datastore.block.TableBlockInfo;
 import org.apache.carbondata.core.carbon.datastore.exception.IndexBuilderException;
@@ -41,12 +40,15 @@ import org.apache.carbondata.core.carbon.datastore.impl.btree.BlockBTreeLeafNode
 import org.apache.carbondata.core.carbon.querystatistics.QueryStatistic;
 import org.apache.carbondata.core.carbon.querystatistics.QueryStatisticsConstants;
 import org.apache.carbondata.core.carbon.querystatistics.QueryStatisticsRecorder;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.keygenerator.KeyGenException;
+import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.CarbonTimeStatisticsFactory;
 import org.apache.carbondata.hadoop.CarbonInputSplit;
 import org.apache.carbondata.hadoop.internal.index.Block;
 import org.apache.carbondata.hadoop.internal.index.Index;
 import org.apache.carbondata.hadoop.internal.segment.Segment;
+import org.apache.carbondata.hadoop.util.CarbonInputFormatUtil;
 import org.apache.carbondata.scan.executor.exception.QueryExecutionException;
 import org.apache.carbondata.scan.filter.FilterExpressionProcessor;
 import org.apache.carbondata.scan.filter.FilterUtil;
@@ -61,15 +63,20 @@ import org.apache.hadoop.mapreduce.JobContext;
 class InMemoryBTreeIndex implements Index {
 
   private static final Log LOG = LogFactory.getLog(InMemoryBTreeIndex.class);
+  private static final String NAME = "InMemoryBTreeIndex";
+
   private Segment segment;
 
-  InMemoryBTreeIndex(Segment segment) {
+  private AbsoluteTableIdentifier identifier;
+
+  InMemoryBTreeIndex(Segment segment, AbsoluteTableIdentifier identifier) {
     this.segment = segment;
+    this.identifier = identifier;
   }
 
   @Override
   public String getName() {
-    return null;
+    return NAME;
   }
 
   @Override
@@ -80,8 +87,6 @@ class InMemoryBTreeIndex implements Index {
 
     FilterExpressionProcessor filterExpressionProcessor = new FilterExpressionProcessor();
 
-    AbsoluteTableIdentifier identifier = null;
-
     //for this segment fetch blocks matching filter in BTree
     List<DataRefNode> dataRefNodes = null;
     try {
@@ -89,12 +94,32 @@ class InMemoryBTreeIndex implements Index {
     } catch (IndexBuilderException e) {
       throw new IOException(e.getMessage());
     }
+    boolean pruneBlocklets = null != filter && Boolean.parseBoolean(
+        CarbonProperties.getInstance()
+            .getProperty(CarbonCommonConstants.CARBON_DRIVER_BLOCKLET_PRUNING_ENABLE,
+                CarbonCommonConstants.CARBON_DRIVER_BLOCKLET_PRUNING_ENABLE_DEFAULT));
     for (DataRefNode dataRefNode : dataRefNodes) {
       BlockBTreeLeafNode leafNode = (BlockBTreeLeafNode) dataRefNode;
       TableBlockInfo tableBlockInfo = leafNode.getTableBlockInfo();
-      result.add(new CarbonInputSplit(segment.getId(), new Path(tableBlockInfo.getFilePath()),
-          tableBlockInfo.getBlockOffset(), tableBlockInfo.getBlockLength(),
-          tableBlockInfo.getLocations(), tableBlockInfo.getBlockletInfos().getNoOfBlockLets()));
+      int[] blockletIds = null;
+      if (pruneBlocklets) {
+        try {
+          blockletIds = CarbonInputFormatUtil
+              .getMatchedBlockletIds(filterExpressionProcessor, identifier, filter,
+                  tableBlockInfo);
+        } catch (IndexBuilderException e) {
+          throw new IOException(e.getMessage());
+        }
+        if (null != blockletIds && blockletIds.length == 0) {
+          continue;
+        }
+      }
+      CarbonInputSplit split = new CarbonInputSplit(segment.getId(),
+          new Path(tableBlockInfo.getFilePath()), tableBlockInfo.getBlockOffset(),
+          tableBlockInfo.getBlockLength(), tableBlockInfo.getLocations(),
+          tableBlockInfo.getBlockletInfos().getNoOfBlockLets());
+      split.setBlockletIds(blockletIds);
+      result.add(split);
     }
     return result;
   }
@@ -133,12 +158,10 @@ class InMemoryBTreeIndex implements Index {
     // identify table blocks from all file locations of given segment
     for (InputSplit inputSplit : segment.getAllSplits(job)) {
       CarbonInputSplit carbonInputSplit = (CarbonInputSplit) inputSplit;
-      BlockletInfos blockletInfos = new BlockletInfos(carbonInputSplit.getNumberOfBlocklets(), 0,
-          carbonInputSplit.getNumberOfBlocklets());
       tableBlockInfoList.add(
           new TableBlockInfo(carbonInputSplit.getPath().toString(), carbonInputSplit.getStart(),
               segment.getId(), carbonInputSplit.getLocations(), carbonInputSplit.getLength(),
-              blockletInfos));
+              carbonInputSplit.getBlockletInfos()));
     }
     return tableBlockInfoList;
   }
@@ -19,13 +19,25 @@
 
 package org.apache.carbondata.hadoop.internal.index.impl;
 
+import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
 import org.apache.carbondata.hadoop.internal.index.Index;
 import org.apache.carbondata.hadoop.internal.index.IndexLoader;
 import org.apache.carbondata.hadoop.internal.segment.Segment;
 
+/**
+ * Loads the in memory BTree index of a segment, the BTree itself is cached in
+ * SegmentTaskIndexStore so it is built only once per segment
+ */
 public class InMemoryBTreeIndexLoader implements IndexLoader {
+
+  private AbsoluteTableIdentifier identifier;
+
+  public InMemoryBTreeIndexLoader(AbsoluteTableIdentifier identifier) {
+    this.identifier = identifier;
+  }
+
   @Override
   public Index load(Segment segment) {
-    return null;
+    return new InMemoryBTreeIndex(segment, identifier);
   }
 }
@@ -23,11 +23,15 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.carbondata.core.carbon.path.CarbonTablePath;
+import org.apache.carbondata.hadoop.CarbonInputSplit;
 import org.apache.carbondata.scan.filter.resolver.FilterResolverIntf;
 
-import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.BlockLocation;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.JobContext;
 
@@ -67,11 +71,22 @@ public abstract class Segment {
     List<InputSplit> result = new ArrayList<>();
     Path p = new Path(path);
     FileSystem fs = p.getFileSystem(job.getConfiguration());
+    if (!fs.exists(p)) {
+      return result;
+    }
 
-    //TODO: filter out the hidden files
-    FileStatus[] files = fs.globStatus(p);
-    for (FileStatus file: files) {
-      // make split and add to result
+    // only carbondata files are considered, index and hidden files are filtered out
+    RemoteIterator<LocatedFileStatus> files = fs.listLocatedStatus(p);
+    while (files.hasNext()) {
+      LocatedFileStatus file = files.next();
+      String fileName = file.getPath().getName();
+      if (file.isDirectory() || fileName.startsWith("_") || fileName.startsWith(".")
+          || !CarbonTablePath.isCarbonDataFile(fileName)) {
+        continue;
+      }
+      BlockLocation[] blockLocations = file.getBlockLocations();
+      String[] hosts = blockLocations.length > 0 ? blockLocations[0].getHosts() : new String[0];
+      result.add(new CarbonInputSplit(id, file.getPath(), 0, file.getLen(), hosts));
     }
     return result;
   }
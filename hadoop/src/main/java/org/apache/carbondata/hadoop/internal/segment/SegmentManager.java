@@ -30,7 +30,13 @@ public interface SegmentManager {
   /**
    * Used for getting all segments for scan
    */
-  Segment[] getAllValidSegments();
+  Segment[] getAllValidSegments() throws IOException;
+
+  /**
+   * Used for getting the segment of given id, for example to commit a segment opened by another
+   * process
+   */
+  Segment getSegment(String segmentId) throws IOException;
 
   /**
    * Used for data load
@@ -44,6 +50,12 @@ public interface SegmentManager {
    */
   void commitSegment(Segment segment) throws IOException;
 
+  /**
+   * Call this function when data load is completed but bad records are found, the segment is
+   * available for read with partial success status.
+   */
+  void commitSegmentWithBadRecords(Segment segment) throws IOException;
+
   /**
    * Call this function when data load or compaction failed.
    */
@@ -19,12 +19,29 @@
 
 package org.apache.carbondata.hadoop.internal.segment;
 
+import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.util.CarbonProperties;
+import org.apache.carbondata.hadoop.internal.segment.impl.fs.FileSegmentManager;
+import org.apache.carbondata.hadoop.internal.segment.impl.zk.ZkSegmentManager;
+
 /**
- * Used to get the global segment manager instance
+ * Used to get the segment manager instance of a table
  */
 public class SegmentManagerFactory {
-  public static SegmentManager getGlobalSegmentManager() {
-    //TODO return the default implementation
-    return null;
+
+  /**
+   * return the segment manager of given table, zookeeper based manager is used if zookeeper
+   * lock is configured, otherwise the lock configured by carbon.lock.type is used
+   * @param identifier table identifier
+   * @return segment manager
+   */
+  public static SegmentManager getSegmentManager(AbsoluteTableIdentifier identifier) {
+    String lockType = CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.LOCK_TYPE, CarbonCommonConstants.LOCK_TYPE_DEFAULT);
+    if (CarbonCommonConstants.CARBON_LOCK_TYPE_ZOOKEEPER.equalsIgnoreCase(lockType)) {
+      return new ZkSegmentManager(identifier);
+    }
+    return new FileSegmentManager(identifier);
   }
 }
@@ -20,9 +20,11 @@
 package org.apache.carbondata.hadoop.internal.segment.impl;
 
 import java.io.IOException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.carbondata.hadoop.CarbonInputSplit;
+import org.apache.carbondata.hadoop.internal.CarbonColumnarInputSplit;
 import org.apache.carbondata.hadoop.internal.index.Block;
 import org.apache.carbondata.hadoop.internal.index.Index;
 import org.apache.carbondata.hadoop.internal.index.IndexLoader;
@@ -52,7 +54,7 @@ public class IndexedSegment extends Segment {
     // 2. filter by index to get the filtered block
     // 3. create input split from filtered block
 
-    List<InputSplit> output = new LinkedList<>();
+    List<InputSplit> output = new ArrayList<>();
     Index index = loader.load(this);
     List<Block> blocks = index.filter(job, filterResolver);
     for (Block block: blocks) {
@@ -63,11 +65,15 @@ public class IndexedSegment extends Segment {
 
   @Override
   public void setupForRead(JobContext job) throws IOException {
-
+    // nothing to prepare, the index is built from carbondata files of the segment when it is
+    // loaded for the first query
   }
 
   private InputSplit makeInputSplit(Block block) {
-    // TODO: get all required parameter from block
-    return null;
+    if (!(block instanceof CarbonInputSplit)) {
+      throw new UnsupportedOperationException(
+          "Unsupported block type: " + block.getClass().getName());
+    }
+    return new CarbonColumnarInputSplit((CarbonInputSplit) block);
   }
 }
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.hadoop.internal.segment.impl.fs;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
+import org.apache.carbondata.core.carbon.path.CarbonStorePath;
+import org.apache.carbondata.core.carbon.path.CarbonTablePath;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastorage.store.filesystem.CarbonFile;
+import org.apache.carbondata.core.datastorage.store.impl.FileFactory;
+import org.apache.carbondata.core.load.LoadMetadataDetails;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.core.util.CarbonUtilException;
+import org.apache.carbondata.hadoop.internal.index.impl.InMemoryBTreeIndexLoader;
+import org.apache.carbondata.hadoop.internal.segment.Segment;
+import org.apache.carbondata.hadoop.internal.segment.SegmentManager;
+import org.apache.carbondata.hadoop.internal.segment.impl.IndexedSegment;
+import org.apache.carbondata.lcm.locks.ICarbonLock;
+import org.apache.carbondata.lcm.status.SegmentStatusManager;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Segment manager which keeps the state of all segments in the table status file of the
+ * table. Every state change is done under the table status lock and the file is rewritten
+ * atomically, so a segment becomes visible for query only after it is committed.
+ */
+public class FileSegmentManager implements SegmentManager {
+
+  private static final Log LOG = LogFactory.getLog(FileSegmentManager.class);
+
+  /**
+   * data is always written to the default partition
+   */
+  private static final String PARTITION_ID = "0";
+
+  protected AbsoluteTableIdentifier identifier;
+
+  private CarbonTablePath carbonTablePath;
+
+  private SegmentStatusManager segmentStatusManager;
+
+  public FileSegmentManager(AbsoluteTableIdentifier identifier) {
+    this.identifier = identifier;
+    this.carbonTablePath = CarbonStorePath
+        .getCarbonTablePath(identifier.getStorePath(), identifier.getCarbonTableIdentifier());
+    this.segmentStatusManager = new SegmentStatusManager(identifier);
+  }
+
+  /**
+   * @return lock used to guard the update of table status file
+   */
+  protected ICarbonLock getTableStatusLock() {
+    return segmentStatusManager.getTableStatusLock();
+  }
+
+  @Override
+  public Segment[] getAllValidSegments() throws IOException {
+    List<String> validSegments =
+        segmentStatusManager.getValidAndInvalidSegments().getValidSegments();
+    Segment[] segments = new Segment[validSegments.size()];
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = getSegment(validSegments.get(i));
+    }
+    return segments;
+  }
+
+  @Override
+  public Segment getSegment(String segmentId) {
+    return new IndexedSegment(segmentId,
+        carbonTablePath.getCarbonDataDirectoryPath(PARTITION_ID, segmentId),
+        new InMemoryBTreeIndexLoader(identifier));
+  }
+
+  @Override
+  public Segment openNewSegment() throws IOException {
+    ICarbonLock lock = getTableStatusLock();
+    String segmentId;
+    try {
+      if (!lock.lockWithRetries()) {
+        throw new IOException("Not able to acquire the table status lock for table " + identifier
+            .getCarbonTableIdentifier().getTableUniqueName());
+      }
+      LoadMetadataDetails[] details = readLoadMetadata();
+      segmentId = String.valueOf(getNextSegmentId(details));
+      LoadMetadataDetails newDetail = new LoadMetadataDetails();
+      newDetail.setLoadName(segmentId);
+      newDetail.setPartitionCount(PARTITION_ID);
+      newDetail.setLoadStatus(CarbonCommonConstants.STORE_LOADSTATUS_IN_PROGRESS);
+      newDetail.setLoadStartTime(readCurrentTime());
+      LoadMetadataDetails[] newDetails = new LoadMetadataDetails[details.length + 1];
+      System.arraycopy(details, 0, newDetails, 0, details.length);
+      newDetails[details.length] = newDetail;
+      writeLoadMetadata(newDetails);
+    } finally {
+      lock.unlock();
+    }
+    Segment segment = getSegment(segmentId);
+    FileFactory.mkdirs(segment.getPath(), FileFactory.getFileType(segment.getPath()));
+    LOG.info("Opened new segment " + segmentId + " for table " + identifier
+        .getCarbonTableIdentifier().getTableUniqueName());
+    return segment;
+  }
+
+  @Override
+  public void commitSegment(Segment segment) throws IOException {
+    updateSegmentStatus(segment, CarbonCommonConstants.STORE_LOADSTATUS_SUCCESS);
+  }
+
+  @Override
+  public void commitSegmentWithBadRecords(Segment segment) throws IOException {
+    updateSegmentStatus(segment, CarbonCommonConstants.STORE_LOADSTATUS_PARTIAL_SUCCESS);
+  }
+
+  @Override
+  public void closeSegment(Segment segment) throws IOException {
+    updateSegmentStatus(segment, CarbonCommonConstants.STORE_LOADSTATUS_FAILURE);
+    CarbonFile segmentFolder =
+        FileFactory.getCarbonFile(segment.getPath(), FileFactory.getFileType(segment.getPath()));
+    if (segmentFolder.exists()) {
+      try {
+        CarbonUtil.deleteFoldersAndFiles(segmentFolder);
+      } catch (CarbonUtilException e) {
+        throw new IOException(e);
+      }
+    }
+  }
+
+  @Override
+  public void deleteSegment(Segment segment) throws IOException {
+    ICarbonLock lock = getTableStatusLock();
+    try {
+      if (!lock.lockWithRetries()) {
+        throw new IOException("Not able to acquire the table status lock for table " + identifier
+            .getCarbonTableIdentifier().getTableUniqueName());
+      }
+      LoadMetadataDetails[] details = readLoadMetadata();
+      LoadMetadataDetails detail = getLoadMetadataDetails(details, segment);
+      detail.setLoadStatus(CarbonCommonConstants.MARKED_FOR_DELETE);
+      detail.setModificationOrdeletionTimesStamp(readCurrentTime());
+      writeLoadMetadata(details);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * change the status of an in progress segment, it fails if the segment is already
+   * committed or closed
+   */
+  private void updateSegmentStatus(Segment segment, String loadStatus) throws IOException {
+    ICarbonLock lock = getTableStatusLock();
+    try {
+      if (!lock.lockWithRetries()) {
+        throw new IOException("Not able to acquire the table status lock for table " + identifier
+            .getCarbonTableIdentifier().getTableUniqueName());
+      }
+      LoadMetadataDetails[] details = readLoadMetadata();
+      LoadMetadataDetails detail = getLoadMetadataDetails(details, segment);
+      if (!CarbonCommonConstants.STORE_LOADSTATUS_IN_PROGRESS
+          .equalsIgnoreCase(detail.getLoadStatus())) {
+        throw new IOException(
+            "Segment " + segment.getId() + " is not in progress, its status is " + detail
+                .getLoadStatus());
+      }
+      detail.setLoadStatus(loadStatus);
+      detail.setTimestamp(readCurrentTime());
+      writeLoadMetadata(details);
+    } finally {
+      lock.unlock();
+    }
+    LOG.info("Segment " + segment.getId() + " of table " + identifier.getCarbonTableIdentifier()
+        .getTableUniqueName() + " is updated to " + loadStatus);
+  }
+
+  private LoadMetadataDetails getLoadMetadataDetails(LoadMetadataDetails[] details,
+      Segment segment) throws IOException {
+    for (LoadMetadataDetails detail : details) {
+      if (detail.getLoadName().equals(segment.getId())) {
+        return detail;
+      }
+    }
+    throw new IOException("Segment " + segment.getId() + " does not exist in table status");
+  }
+
+  private LoadMetadataDetails[] readLoadMetadata() {
+    LoadMetadataDetails[] details =
+        segmentStatusManager.readLoadMetadata(carbonTablePath.getMetadataDirectoryPath());
+    return null == details ? new LoadMetadataDetails[0] : details;
+  }
+
+  private void writeLoadMetadata(LoadMetadataDetails[] details) throws IOException {
+    segmentStatusManager.writeLoadDetailsIntoFile(carbonTablePath.getTableStatusFilePath(),
+        details);
+  }
+
+  /**
+   * next segment id is one more than the maximum id of all loads, compacted segments like
+   * 0.1 are considered by their integer part
+   */
+  static int getNextSegmentId(LoadMetadataDetails[] details) {
+    int maxId = -1;
+    for (LoadMetadataDetails detail : details) {
+      String loadName = detail.getLoadName();
+      int pointIndex = loadName.indexOf(CarbonCommonConstants.POINT);
+      if (pointIndex >= 0) {
+        loadName = loadName.substring(0, pointIndex);
+      }
+      try {
+        maxId = Math.max(maxId, Integer.parseInt(loadName));
+      } catch (NumberFormatException e) {
+        LOG.warn("Ignoring invalid segment id " + detail.getLoadName());
+      }
+    }
+    return maxId + 1;
+  }
+
+  private String readCurrentTime() {
+    SimpleDateFormat sdf = new SimpleDateFormat(CarbonCommonConstants.CARBON_TIMESTAMP);
+    return sdf.format(new Date());
+  }
+}
@@ -16,41 +16,27 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-
 package org.apache.carbondata.hadoop.internal.segment.impl.zk;
 
-import java.io.IOException;
-
-import org.apache.carbondata.hadoop.internal.segment.Segment;
-import org.apache.carbondata.hadoop.internal.segment.SegmentManager;
+import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
+import org.apache.carbondata.hadoop.internal.segment.impl.fs.FileSegmentManager;
+import org.apache.carbondata.lcm.locks.ICarbonLock;
+import org.apache.carbondata.lcm.locks.LockUsage;
+import org.apache.carbondata.lcm.locks.ZooKeeperLocking;
 
 /**
  * This class leverage Zookeeper and HDFS file to manage segments.
  * Zookeeper is used for locking, and HDFS is for storing the state of segments.
  */
-public class ZkSegmentManager implements SegmentManager {
-  @Override
-  public Segment[] getAllValidSegments() {
-    return new Segment[0];
-  }
-
-  @Override
-  public Segment openNewSegment() throws IOException {
-    return null;
-  }
-
-  @Override
-  public void commitSegment(Segment segment) throws IOException {
+public class ZkSegmentManager extends FileSegmentManager {
 
+  public ZkSegmentManager(AbsoluteTableIdentifier identifier) {
+    super(identifier);
   }
 
   @Override
-  public void closeSegment(Segment segment) throws IOException {
-
-  }
-
-  @Override
-  public void deleteSegment(Segment segment) throws IOException {
-
+  protected ICarbonLock getTableStatusLock() {
+    return new ZooKeeperLocking(identifier.getCarbonTableIdentifier(),
+        LockUsage.TABLE_STATUS_LOCK);
   }
 }
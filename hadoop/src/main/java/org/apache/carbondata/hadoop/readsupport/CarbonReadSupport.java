@@ -20,6 +20,7 @@ package org.apache.carbondata.hadoop.readsupport;
 
 import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
 import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonColumn;
+import org.apache.carbondata.scan.result.ColumnarBatch;
 
 /**
  * It converts to the desired class while reading the rows from RecordReader
@@ -36,6 +37,15 @@ public interface CarbonReadSupport<T> {
 
   public T readRow(Object[] data);
 
+  /**
+   * It prepares the columnar batch read from RecordReader in vector mode, for example
+   * setting the dictionaries to decode the dictionary ids of the batch
+   *
+   * @param batch columnar batch
+   * @return columnar batch
+   */
+  ColumnarBatch readBatch(ColumnarBatch batch);
+
   /**
    * This method will be used to clear the dictionary cache and update access count for each
    * column involved which will be used during eviction of columns from LRU cache if memory
@@ -30,6 +30,7 @@ import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonColu
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.core.util.CarbonUtilException;
 import org.apache.carbondata.hadoop.readsupport.CarbonReadSupport;
+import org.apache.carbondata.scan.result.ColumnarBatch;
 
 /**
  * Its an abstract class provides necessary information to decode dictionary data
@@ -74,6 +75,22 @@ public abstract class AbstractDictionaryDecodedReadSupport<T> implements CarbonR
     }
   }
 
+  /**
+   * Dictionary ids are not decoded, dictionaries are set to the vectors so
+   * the values can be decoded only when they are required
+   *
+   * @param batch columnar batch
+   * @return same batch
+   */
+  @Override public ColumnarBatch readBatch(ColumnarBatch batch) {
+    for (int i = 0; i < dictionaries.length; i++) {
+      if (dictionaries[i] != null) {
+        batch.getColumn(i).setDictionary(dictionaries[i]);
+      }
+    }
+    return batch;
+  }
+
   /**
    * This method iwll be used to clear the dictionary cache and update access count for each
    * column involved which will be used during eviction of columns from LRU cache if memory
@@ -21,6 +21,7 @@ package org.apache.carbondata.hadoop.readsupport.impl;
 import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
 import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonColumn;
 import org.apache.carbondata.hadoop.readsupport.CarbonReadSupport;
+import org.apache.carbondata.scan.result.ColumnarBatch;
 
 public class RawDataReadSupport implements CarbonReadSupport<Object[]> {
 
@@ -38,6 +39,16 @@ public class RawDataReadSupport implements CarbonReadSupport<Object[]> {
     return data;
   }
 
+  /**
+   * Just return same batch.
+   *
+   * @param batch
+   * @return
+   */
+  @Override public ColumnarBatch readBatch(ColumnarBatch batch) {
+    return batch;
+  }
+
   /**
    * This method iwll be used to clear the dictionary cache and update access count for each
    * column involved which will be used during eviction of columns from LRU cache if memory
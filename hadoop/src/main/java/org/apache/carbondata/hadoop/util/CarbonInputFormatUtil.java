@@ -19,12 +19,22 @@
 
 package org.apache.carbondata.hadoop.util;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
+import org.apache.carbondata.core.carbon.datastore.DataRefNode;
+import org.apache.carbondata.core.carbon.datastore.block.BlockIndex;
+import org.apache.carbondata.core.carbon.datastore.block.BlockInfo;
+import org.apache.carbondata.core.carbon.datastore.block.TableBlockInfo;
+import org.apache.carbondata.core.carbon.datastore.exception.IndexBuilderException;
+import org.apache.carbondata.core.carbon.metadata.blocklet.DataFileFooter;
 import org.apache.carbondata.core.carbon.metadata.schema.table.CarbonTable;
 import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonDimension;
 import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonMeasure;
+import org.apache.carbondata.core.util.DataFileFooterConverter;
+import org.apache.carbondata.scan.executor.exception.QueryExecutionException;
 import org.apache.carbondata.scan.expression.Expression;
 import org.apache.carbondata.scan.filter.FilterExpressionProcessor;
 import org.apache.carbondata.scan.filter.resolver.FilterResolverIntf;
@@ -122,6 +132,40 @@ public class CarbonInputFormatUtil {
     }
   }
 
+  /**
+   * Below method will be used to get the blocklets of the block matching the
+   * filter, based on the min max of blocklets present in the footer of block
+   *
+   * @return sorted ids of matching blocklets, null if all blocklets are matching
+   */
+  public static int[] getMatchedBlockletIds(FilterExpressionProcessor filterExpressionProcessor,
+      AbsoluteTableIdentifier absoluteTableIdentifier, FilterResolverIntf filterResolver,
+      TableBlockInfo tableBlockInfo) throws IOException, IndexBuilderException {
+    DataFileFooter footer = new DataFileFooterConverter()
+        .readDataFileFooter(tableBlockInfo.getFilePath(), tableBlockInfo.getBlockOffset(),
+            tableBlockInfo.getBlockLength());
+    footer.setBlockInfo(new BlockInfo(tableBlockInfo));
+    BlockIndex blockIndex = new BlockIndex();
+    blockIndex.buildIndex(Arrays.asList(footer));
+    List<DataRefNode> blocklets;
+    try {
+      blocklets = filterExpressionProcessor
+          .getFilterredBlocks(blockIndex.getDataRefNode(), filterResolver, blockIndex,
+              absoluteTableIdentifier);
+    } catch (QueryExecutionException e) {
+      throw new IndexBuilderException(e.getMessage());
+    }
+    if (blocklets.size() == footer.getBlockletList().size()) {
+      return null;
+    }
+    int[] blockletIds = new int[blocklets.size()];
+    for (int i = 0; i < blockletIds.length; i++) {
+      blockletIds[i] = (int) blocklets.get(i).nodeNumber();
+    }
+    Arrays.sort(blockletIds);
+    return blockletIds;
+  }
+
   public static String processPath(String path) {
     if (path != null && path.startsWith("file:")) {
       return path.substring(5, path.length());
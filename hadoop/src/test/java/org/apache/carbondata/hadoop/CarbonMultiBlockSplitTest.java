@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.hadoop;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check combining of small blocks in to bigger splits
+ */
+public class CarbonMultiBlockSplitTest {
+
+  private static CarbonInputSplit createSplit(String fileName, long length, String location) {
+    return new CarbonInputSplit("0", new Path("/store/" + fileName), 0, length,
+        new String[] { location }, 1);
+  }
+
+  @Test public void testCombineSplitsOfSameLocation() throws Exception {
+    List<InputSplit> splits = new ArrayList<InputSplit>();
+    splits.add(createSplit("part-0", 40, "host1"));
+    splits.add(createSplit("part-1", 30, "host2"));
+    splits.add(createSplit("part-2", 50, "host1"));
+    splits.add(createSplit("part-3", 200, "host1"));
+    splits.add(createSplit("part-4", 20, "host1"));
+    List<InputSplit> combinedSplits = CarbonInputFormat.combineSplits(splits, 100);
+    Assert.assertEquals(4, combinedSplits.size());
+    CarbonMultiBlockSplit first = (CarbonMultiBlockSplit) combinedSplits.get(0);
+    Assert.assertEquals(2, first.getAllSplits().size());
+    Assert.assertEquals(90, first.getLength());
+    Assert.assertArrayEquals(new String[] { "host1" }, first.getLocations());
+    // block bigger than split size is a split of its own
+    CarbonMultiBlockSplit second = (CarbonMultiBlockSplit) combinedSplits.get(1);
+    Assert.assertEquals(1, second.getAllSplits().size());
+    Assert.assertEquals(200, second.getLength());
+    Assert.assertEquals(20, combinedSplits.get(2).getLength());
+    CarbonMultiBlockSplit fourth = (CarbonMultiBlockSplit) combinedSplits.get(3);
+    Assert.assertEquals(1, fourth.getAllSplits().size());
+    Assert.assertArrayEquals(new String[] { "host2" }, fourth.getLocations());
+  }
+
+  @Test public void testWriteAndReadFields() throws Exception {
+    List<CarbonInputSplit> splits = new ArrayList<CarbonInputSplit>();
+    splits.add(createSplit("part-0", 40, "host1"));
+    splits.add(createSplit("part-1", 30, "host1"));
+    CarbonMultiBlockSplit split = new CarbonMultiBlockSplit(splits, new String[] { "host1" });
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    split.write(new DataOutputStream(outputStream));
+    CarbonMultiBlockSplit readSplit = new CarbonMultiBlockSplit();
+    readSplit.readFields(
+        new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+    Assert.assertEquals(70, readSplit.getLength());
+    Assert.assertArrayEquals(new String[] { "host1" }, readSplit.getLocations());
+    Assert.assertEquals(2, readSplit.getAllSplits().size());
+    Assert.assertEquals("part-1", readSplit.getAllSplits().get(1).getPath().getName());
+    Assert.assertEquals("0", readSplit.getAllSplits().get(1).getSegmentId());
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.hadoop.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
+import org.apache.carbondata.core.carbon.CarbonDataLoadSchema;
+import org.apache.carbondata.core.carbon.CarbonTableIdentifier;
+import org.apache.carbondata.core.carbon.metadata.CarbonMetadata;
+import org.apache.carbondata.core.carbon.metadata.converter.ThriftWrapperSchemaConverterImpl;
+import org.apache.carbondata.core.carbon.metadata.datatype.DataType;
+import org.apache.carbondata.core.carbon.metadata.encoder.Encoding;
+import org.apache.carbondata.core.carbon.metadata.schema.SchemaEvolution;
+import org.apache.carbondata.core.carbon.metadata.schema.SchemaEvolutionEntry;
+import org.apache.carbondata.core.carbon.metadata.schema.table.CarbonTable;
+import org.apache.carbondata.core.carbon.metadata.schema.table.TableInfo;
+import org.apache.carbondata.core.carbon.metadata.schema.table.TableSchema;
+import org.apache.carbondata.core.carbon.metadata.schema.table.column.ColumnSchema;
+import org.apache.carbondata.core.carbon.path.CarbonStorePath;
+import org.apache.carbondata.core.carbon.path.CarbonTablePath;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.core.writer.ThriftWriter;
+import org.apache.carbondata.hadoop.internal.segment.SegmentManagerFactory;
+import org.apache.carbondata.processing.model.CarbonLoadModel;
+
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.JobContextImpl;
+import org.apache.hadoop.mapred.RecordWriter;
+import org.apache.hadoop.mapred.TaskAttemptContextImpl;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.JobID;
+import org.apache.hadoop.mapreduce.MRJobConfig;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskType;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test writing a table with CarbonTableOutputFormat and reading it back with
+ * CarbonTableInputFormat
+ */
+public class CarbonTableOutputFormatTest {
+
+  private static final int ROW_COUNT = 2500;
+
+  private String storePath;
+
+  private AbsoluteTableIdentifier identifier;
+
+  @Before public void setUp() {
+    storePath = System.getProperty("java.io.tmpdir") + File.separator + UUID.randomUUID();
+    identifier = new AbsoluteTableIdentifier(storePath,
+        new CarbonTableIdentifier("default", "outputtest", UUID.randomUUID().toString()));
+  }
+
+  @After public void tearDown() throws Exception {
+    CarbonUtil.deleteFoldersAndFiles(new File(storePath));
+  }
+
+  @Test public void testWriteAndRead() throws Exception {
+    JobConf job = createJob(createTable(false));
+    String attemptId = writeTask(job, 0);
+    File segmentDir = segmentDirOf(job);
+    // files are written in the directory of the attempt until the task is committed
+    Assert.assertEquals(0, listCarbonFiles(segmentDir).length);
+
+    CarbonTableOutputCommitter committer = new CarbonTableOutputCommitter();
+    committer.setupJob(new JobContextImpl(job, new JobID("output", 0)));
+    TaskAttemptContextImpl taskContext =
+        new TaskAttemptContextImpl(job, TaskAttemptID.forName(attemptId));
+    Assert.assertTrue(committer.needsTaskCommit(taskContext));
+    committer.commitTask(taskContext);
+    committer.commitJob(new JobContextImpl(job, new JobID("output", 0)));
+
+    Assert.assertFalse(new File(segmentDir, CarbonTableOutputFormat.TEMPORARY_DIR)
+        .exists());
+    Assert.assertTrue(listCarbonFiles(segmentDir).length > 0);
+
+    CarbonTableInputFormat<Object[]> inputFormat = new CarbonTableInputFormat<>();
+    JobConf readJob = new JobConf();
+    inputFormat.setTablePath(readJob, identifier.getTablePath());
+    org.apache.hadoop.mapreduce.JobContext readContext =
+        new org.apache.hadoop.mapreduce.task.JobContextImpl(readJob, new JobID("input", 0));
+    Set<String> names = new HashSet<>();
+    long salarySum = 0;
+    for (InputSplit split : inputFormat.getSplits(readContext)) {
+      org.apache.hadoop.mapreduce.TaskAttemptContext readTaskContext =
+          new org.apache.hadoop.mapreduce.task.TaskAttemptContextImpl(readJob,
+              new TaskAttemptID("input", 0, TaskType.MAP, 0, 0));
+      RecordReader<Void, Object[]> reader =
+          inputFormat.createRecordReader(split, readTaskContext);
+      reader.initialize(split, readTaskContext);
+      while (reader.nextKeyValue()) {
+        Object[] row = reader.getCurrentValue();
+        Assert.assertTrue(names.add(String.valueOf(row[0])));
+        salarySum += ((Number) row[2]).longValue();
+      }
+      reader.close();
+    }
+    Assert.assertEquals(ROW_COUNT, names.size());
+    Assert.assertEquals((long) ROW_COUNT * (ROW_COUNT - 1) / 2, salarySum);
+  }
+
+  @Test public void testAbortTask() throws Exception {
+    JobConf job = createJob(createTable(false));
+    String attemptId = writeTask(job, 0);
+    File segmentDir = segmentDirOf(job);
+
+    CarbonTableOutputCommitter committer = new CarbonTableOutputCommitter();
+    committer.setupJob(new JobContextImpl(job, new JobID("output", 0)));
+    committer.abortTask(new TaskAttemptContextImpl(job, TaskAttemptID.forName(attemptId)));
+    committer.commitJob(new JobContextImpl(job, new JobID("output", 0)));
+
+    // files of the aborted attempt are not moved into the segment
+    Assert.assertEquals(0, listCarbonFiles(segmentDir).length);
+    Assert.assertFalse(new File(segmentDir, CarbonTableOutputFormat.TEMPORARY_DIR)
+        .exists());
+  }
+
+  @Test public void testTableWithDictionaryIsRejected() throws Exception {
+    JobConf job = new JobConf();
+    CarbonTableOutputFormat.setLoadModel(job, createLoadModel(createTable(true)));
+    try {
+      new TestOutputFormat().checkOutputSpecs(null, job);
+      Assert.fail("table with dictionary column can not be loaded");
+    } catch (IOException e) {
+      // expected
+    }
+    Assert.assertEquals(0, SegmentManagerFactory.getSegmentManager(identifier)
+        .getAllValidSegments().length);
+  }
+
+  private JobConf createJob(CarbonTable table) throws IOException {
+    JobConf job = new JobConf();
+    CarbonTableOutputFormat.setLoadModel(job, createLoadModel(table));
+    new TestOutputFormat().checkOutputSpecs(null, job);
+    return job;
+  }
+
+  /**
+   * write all rows with a task attempt and return the attempt id
+   */
+  private String writeTask(JobConf job, int taskId) throws IOException {
+    TaskAttemptID attemptId = new TaskAttemptID("output", 0, TaskType.MAP, taskId, 0);
+    JobConf taskConf = new JobConf(job);
+    taskConf.set(MRJobConfig.TASK_ATTEMPT_ID, attemptId.toString());
+    taskConf.setInt(MRJobConfig.TASK_PARTITION, taskId);
+    RecordWriter<Void, Object[]> writer =
+        new TestOutputFormat().getRecordWriter(null, taskConf, "part", null);
+    for (int i = 0; i < ROW_COUNT; i++) {
+      writer.write(null, new Object[] { "name" + i, "city" + i % 10, String.valueOf(i) });
+    }
+    writer.close(null);
+    return attemptId.toString();
+  }
+
+  private File segmentDirOf(JobConf job) throws IOException {
+    return new File(CarbonTableOutputFormat.getSegmentPath(
+        CarbonTableOutputFormat.getLoadModel(job), job.get(CarbonTableOutputFormat.SEGMENT_ID))
+        .toString());
+  }
+
+  private static File[] listCarbonFiles(File segmentDir) {
+    File[] files = segmentDir.listFiles();
+    List<File> carbonFiles = new ArrayList<>();
+    if (files != null) {
+      for (File file : files) {
+        if (file.getName().endsWith(".carbondata")) {
+          carbonFiles.add(file);
+        }
+      }
+    }
+    return carbonFiles.toArray(new File[carbonFiles.size()]);
+  }
+
+  private CarbonLoadModel createLoadModel(CarbonTable table) {
+    CarbonLoadModel loadModel = new CarbonLoadModel();
+    loadModel.setCarbonDataLoadSchema(new CarbonDataLoadSchema(table));
+    loadModel.setDatabaseName(identifier.getCarbonTableIdentifier().getDatabaseName());
+    loadModel.setTableName(identifier.getCarbonTableIdentifier().getTableName());
+    loadModel.setStorePath(storePath);
+    loadModel.setCsvHeader("name,city,salary");
+    loadModel.setCsvDelimiter(",");
+    loadModel.setComplexDelimiterLevel1("\\$");
+    loadModel.setComplexDelimiterLevel2("\\:");
+    loadModel.setSerializationNullFormat("serialization_null_format,\\N");
+    loadModel.setBadRecordsLoggerEnable("bad_records_logger_enable,false");
+    loadModel.setBadRecordsAction("bad_records_action,force");
+    return loadModel;
+  }
+
+  private CarbonTable createTable(boolean dictionary) throws IOException {
+    List<Encoding> dimensionEncodings = new ArrayList<>();
+    if (dictionary) {
+      dimensionEncodings.add(Encoding.DICTIONARY);
+    }
+    List<ColumnSchema> columns = new ArrayList<>();
+    columns.add(createColumn("name", DataType.STRING, dimensionEncodings, true));
+    columns.add(createColumn("city", DataType.STRING, dimensionEncodings, true));
+    columns.add(createColumn("salary", DataType.INT, new ArrayList<Encoding>(), false));
+
+    TableSchema tableSchema = new TableSchema();
+    tableSchema.setTableName(identifier.getCarbonTableIdentifier().getTableName());
+    tableSchema.setTableId(identifier.getCarbonTableIdentifier().getTableId());
+    tableSchema.setListOfColumns(columns);
+    SchemaEvolution schemaEvolution = new SchemaEvolution();
+    schemaEvolution.setSchemaEvolutionEntryList(new ArrayList<SchemaEvolutionEntry>());
+    tableSchema.setSchemaEvalution(schemaEvolution);
+
+    TableInfo tableInfo = new TableInfo();
+    tableInfo.setStorePath(storePath);
+    tableInfo.setDatabaseName(identifier.getCarbonTableIdentifier().getDatabaseName());
+    tableInfo.setTableUniqueName(
+        identifier.getCarbonTableIdentifier().getDatabaseName() + "_" + tableSchema
+            .getTableName());
+    tableInfo.setLastUpdatedTime(System.currentTimeMillis());
+    tableInfo.setFactTable(tableSchema);
+    tableInfo.setAggregateTableList(new ArrayList<TableSchema>());
+    CarbonTablePath tablePath =
+        CarbonStorePath.getCarbonTablePath(storePath, identifier.getCarbonTableIdentifier());
+    String schemaFilePath = tablePath.getSchemaFilePath();
+    tableInfo.setMetaDataFilepath(CarbonTablePath.getFolderContainingFile(schemaFilePath));
+    new File(tableInfo.getMetaDataFilepath()).mkdirs();
+
+    org.apache.carbondata.format.TableInfo thriftTableInfo =
+        new ThriftWrapperSchemaConverterImpl().fromWrapperToExternalTableInfo(tableInfo,
+            tableInfo.getDatabaseName(), tableSchema.getTableName());
+    thriftTableInfo.getFact_table().getSchema_evolution().getSchema_evolution_history().add(
+        new org.apache.carbondata.format.SchemaEvolutionEntry(tableInfo.getLastUpdatedTime()));
+    ThriftWriter thriftWriter = new ThriftWriter(schemaFilePath, false);
+    thriftWriter.open();
+    thriftWriter.write(thriftTableInfo);
+    thriftWriter.close();
+
+    CarbonMetadata.getInstance().loadTableMetadata(tableInfo);
+    return CarbonMetadata.getInstance().getCarbonTable(tableInfo.getTableUniqueName());
+  }
+
+  private static ColumnSchema createColumn(String name, DataType dataType,
+      List<Encoding> encodings, boolean dimension) {
+    ColumnSchema column = new ColumnSchema();
+    column.setColumnName(name);
+    column.setColumnar(true);
+    column.setDataType(dataType);
+    column.setEncodingList(encodings);
+    column.setColumnUniqueId(UUID.randomUUID().toString());
+    column.setDimensionColumn(dimension);
+    return column;
+  }
+
+  /**
+   * rows are given to the output format in the order of the csv header
+   */
+  private static class TestOutputFormat extends CarbonTableOutputFormat<Object[]> {
+    @Override protected Object[] convertToRow(Object[] value) {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.hadoop.internal.segment.impl.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+
+import org.apache.carbondata.core.carbon.AbsoluteTableIdentifier;
+import org.apache.carbondata.core.carbon.CarbonTableIdentifier;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.load.LoadMetadataDetails;
+import org.apache.carbondata.core.util.CarbonUtil;
+import org.apache.carbondata.hadoop.internal.segment.Segment;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the segment state changes of file based segment manager
+ */
+public class FileSegmentManagerTest {
+
+  private String storePath;
+
+  private FileSegmentManager segmentManager;
+
+  @Before public void setUp() throws IOException {
+    storePath = System.getProperty("java.io.tmpdir") + File.separator + UUID.randomUUID();
+    AbsoluteTableIdentifier identifier = new AbsoluteTableIdentifier(storePath,
+        new CarbonTableIdentifier("default", "segmenttest", UUID.randomUUID().toString()));
+    new File(storePath + "/default/segmenttest/Metadata").mkdirs();
+    segmentManager = new FileSegmentManager(identifier);
+  }
+
+  @After public void tearDown() throws Exception {
+    CarbonUtil.deleteFoldersAndFiles(new File(storePath));
+  }
+
+  @Test public void testCommitSegment() throws IOException {
+    Segment segment = segmentManager.openNewSegment();
+    Assert.assertEquals("0", segment.getId());
+    Assert.assertTrue(new File(segment.getPath()).isDirectory());
+    // in progress segment is not visible
+    Assert.assertEquals(0, segmentManager.getAllValidSegments().length);
+
+    segmentManager.commitSegment(segment);
+    Segment[] segments = segmentManager.getAllValidSegments();
+    Assert.assertEquals(1, segments.length);
+    Assert.assertEquals("0", segments[0].getId());
+    Assert.assertEquals(segment.getPath(), segments[0].getPath());
+
+    try {
+      segmentManager.commitSegment(segment);
+      Assert.fail("committed segment can not be committed again");
+    } catch (IOException e) {
+      // expected
+    }
+
+    segmentManager.deleteSegment(segment);
+    Assert.assertEquals(0, segmentManager.getAllValidSegments().length);
+  }
+
+  @Test public void testCloseSegment() throws IOException {
+    Segment first = segmentManager.openNewSegment();
+    Segment second = segmentManager.openNewSegment();
+    Assert.assertEquals("1", second.getId());
+
+    segmentManager.closeSegment(second);
+    Assert.assertFalse(new File(second.getPath()).exists());
+    segmentManager.commitSegment(first);
+    Segment[] segments = segmentManager.getAllValidSegments();
+    Assert.assertEquals(1, segments.length);
+    Assert.assertEquals("0", segments[0].getId());
+    // id of closed segment is not reused
+    Assert.assertEquals("2", segmentManager.openNewSegment().getId());
+  }
+
+  @Test public void testCommitSegmentWithBadRecords() throws IOException {
+    Segment segment = segmentManager.openNewSegment();
+    segmentManager.commitSegmentWithBadRecords(segment);
+    // partially loaded segment is available for read
+    Segment[] segments = segmentManager.getAllValidSegments();
+    Assert.assertEquals(1, segments.length);
+    Assert.assertEquals(segment.getId(), segments[0].getId());
+  }
+
+  @Test public void testNextSegmentIdWithCompactedSegment() {
+    LoadMetadataDetails first = new LoadMetadataDetails();
+    first.setLoadName("3");
+    LoadMetadataDetails compacted = new LoadMetadataDetails();
+    compacted.setLoadName("4.1");
+    compacted.setLoadStatus(CarbonCommonConstants.STORE_LOADSTATUS_SUCCESS);
+    Assert.assertEquals(5,
+        FileSegmentManager.getNextSegmentId(new LoadMetadataDetails[] { first, compacted }));
+    Assert.assertEquals(0, FileSegmentManager.getNextSegmentId(new LoadMetadataDetails[0]));
+  }
+}
@@ -969,6 +969,11 @@ public final class CarbonLoaderUtil {
     List<Distributable> tableBlockInfos = new ArrayList<Distributable>();
     if (blockInfoList.size() < defaultParallelism && isBlockletDistributionEnabled) {
       for (TableBlockInfo tableBlockInfo : blockInfoList) {
+        int[] blockletIds = tableBlockInfo.getBlockletInfos().getBlockletIds();
+        if (null != blockletIds) {
+          distributeBlockletIds(tableBlockInfo, blockletIds, tableBlockInfos);
+          continue;
+        }
         int noOfBlockLets = tableBlockInfo.getBlockletInfos().getNoOfBlockLets();
         LOGGER.info(
             "No.Of blocklet : " + noOfBlockLets + ".Minimum blocklets required for distribution : "
@@ -1013,6 +1018,34 @@ public final class CarbonLoaderUtil {
     return tableBlockInfos;
   }
 
+  /**
+   * method to distribute the blocklets of a block which are pruned in driver, the
+   * matched blocklet ids are split into contiguous runs, each run is scanned by one
+   * task and its range covers only the ids of the run, so no blocklet is scanned twice
+   * @param tableBlockInfo
+   * @param blockletIds sorted ids of the matched blocklets
+   * @param tableBlockInfos
+   */
+  private static void distributeBlockletIds(TableBlockInfo tableBlockInfo, int[] blockletIds,
+      List<Distributable> tableBlockInfos) {
+    int blockletsPerTask = Math.max(1, minBlockLetsReqForDistribution);
+    if (blockletIds.length < blockletsPerTask) {
+      tableBlockInfos.add(tableBlockInfo);
+      return;
+    }
+    for (int i = 0; i < blockletIds.length; i += blockletsPerTask) {
+      int end = Math.min(i + blockletsPerTask, blockletIds.length);
+      BlockletInfos blockletInfos =
+          new BlockletInfos(tableBlockInfo.getBlockletInfos().getNoOfBlockLets(),
+              blockletIds[i], blockletIds[end - 1] - blockletIds[i] + 1);
+      blockletInfos.setBlockletIds(Arrays.copyOfRange(blockletIds, i, end));
+      tableBlockInfos.add(
+          new TableBlockInfo(tableBlockInfo.getFilePath(), tableBlockInfo.getBlockOffset(),
+              tableBlockInfo.getSegmentId(), tableBlockInfo.getLocations(),
+              tableBlockInfo.getBlockLength(), blockletInfos));
+    }
+  }
+
   /**
    * This will update the old table status details before clean files to the latest table status.
    * @param oldList
@@ -42,6 +42,7 @@ import org.apache.carbondata.core.carbon.datastore.block.{Distributable, TableBl
 import org.apache.carbondata.core.carbon.metadata.CarbonMetadata
 import org.apache.carbondata.core.carbon.metadata.schema.table.CarbonTable
 import org.apache.carbondata.core.constants.CarbonCommonConstants
+import org.apache.carbondata.core.dictionary.generator.TableDictionaryGenerator
 import org.apache.carbondata.core.load.{BlockDetails, LoadMetadataDetails}
 import org.apache.carbondata.core.util.CarbonProperties
 import org.apache.carbondata.integration.spark.merger.{CarbonCompactionUtil, CompactionCallable, CompactionType}
@@ -669,7 +670,8 @@ object CarbonDataRDDFactory extends Logging {
       columinar: Boolean,
       partitionStatus: String = CarbonCommonConstants.STORE_LOADSTATUS_SUCCESS,
       useKettle: Boolean,
-      dataFrame: Option[DataFrame] = None): Unit = {
+      dataFrame: Option[DataFrame] = None,
+      dictionaryGenerator: Option[TableDictionaryGenerator] = None): Unit = {
     val carbonTable = carbonLoadModel.getCarbonDataLoadSchema.getCarbonTable
     val isAgg = false
     // for handling of the segment Merging.
@@ -1065,6 +1067,18 @@ object CarbonDataRDDFactory extends Logging {
         logWarning("Cannot write load metadata file as data load failed")
         throw new Exception(errorMessage)
       } else {
+          // in single pass load, dictionary values generated by the driver dictionary server
+          // have to be written before the segment becomes visible
+          try {
+            dictionaryGenerator.foreach(_.writeDictionaryData())
+          } catch {
+            case ex: Exception =>
+              CarbonLoaderUtil.deleteSegment(carbonLoadModel, currentLoadCount)
+              logger.audit(s"Data load is failed for " +
+                s"${carbonLoadModel.getDatabaseName}.${carbonLoadModel.getTableName}")
+              logger.error(ex)
+              throw new Exception("Dataload failed due to failure in writing dictionary.")
+          }
           val metadataDetails = status(0)._2
           if (!isAgg) {
             val status = CarbonLoaderUtil
@@ -32,7 +32,7 @@ import org.apache.spark.sql.hive.DistributionUtil
 import org.apache.carbondata.common.CarbonIterator
 import org.apache.carbondata.common.logging.LogServiceFactory
 import org.apache.carbondata.core.cache.dictionary.Dictionary
-import org.apache.carbondata.core.carbon.datastore.block.{BlockletInfos, TableBlockInfo}
+import org.apache.carbondata.core.carbon.datastore.block.TableBlockInfo
 import org.apache.carbondata.core.carbon.datastore.SegmentTaskIndexStore
 import org.apache.carbondata.core.carbon.querystatistics.{QueryStatistic, QueryStatisticsConstants}
 import org.apache.carbondata.core.util.CarbonTimeStatisticsFactory
@@ -124,8 +124,7 @@ class CarbonScanRDD[V: ClassTag](
       val blockListTemp = carbonInputSplits.map(inputSplit =>
         new TableBlockInfo(inputSplit.getPath.toString,
           inputSplit.getStart, inputSplit.getSegmentId,
-          inputSplit.getLocations, inputSplit.getLength,
-          new BlockletInfos(inputSplit.getNumberOfBlocklets, 0, inputSplit.getNumberOfBlocklets)
+          inputSplit.getLocations, inputSplit.getLength, inputSplit.getBlockletInfos
         )
       )
       var activeNodes = Array[String]()
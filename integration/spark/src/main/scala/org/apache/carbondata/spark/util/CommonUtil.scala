@@ -25,6 +25,7 @@ import org.apache.spark.sql.execution.command.{ColumnProperty, Field}
 
 import org.apache.carbondata.core.carbon.metadata.datatype.DataType
 import org.apache.carbondata.core.constants.CarbonCommonConstants
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory
 import org.apache.carbondata.spark.exception.MalformedCarbonCommandException
 
 object CommonUtil {
@@ -230,6 +231,41 @@ object CommonUtil {
     }
   }
 
+  /**
+   * This method will validate the table compressor specified by the user
+   *
+   * @param tableProperties
+   */
+  def validateTableCompressor(tableProperties: Map[String, String]): Unit = {
+    val compressor = tableProperties.get(CarbonCommonConstants.TABLE_COMPRESSOR)
+    if (compressor.isDefined && null == CompressorFactory.getCompressionCodec(compressor.get)) {
+      throw new MalformedCarbonCommandException("Invalid table_compressor value found: " +
+                                                s"${ compressor.get }, only snappy, lz4, zstd " +
+                                                s"and none are supported.")
+    }
+  }
+
+  /**
+   * This method will validate the bloom filter columns specified by the user, bloom filter
+   * is supported only for the no dictionary columns
+   *
+   * @param tableProperties
+   * @param noDictionaryDims
+   */
+  def validateBloomFilterColumns(tableProperties: Map[String, String],
+      noDictionaryDims: Seq[String]): Unit = {
+    val bloomFilterColumns = tableProperties.get(CarbonCommonConstants.TABLE_BLOOM_FILTER_COLUMNS)
+    if (bloomFilterColumns.isDefined) {
+      bloomFilterColumns.get.split(',').map(_.trim).foreach { column =>
+        if (!noDictionaryDims.exists(_.equalsIgnoreCase(column))) {
+          throw new MalformedCarbonCommandException("Invalid bloom_filter_columns value found: " +
+                                                    s"$column, only DICTIONARY_EXCLUDE columns " +
+                                                    s"are supported.")
+        }
+      }
+    }
+  }
+
   /**
    * This method will parse the configure string from 'XX MB/M' to 'XX'
    *
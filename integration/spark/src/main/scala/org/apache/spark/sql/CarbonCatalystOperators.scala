@@ -26,6 +26,8 @@ import org.apache.spark.sql.hive.HiveContext
 import org.apache.spark.sql.optimizer.{CarbonAliasDecoderRelation, CarbonDecoderRelation}
 import org.apache.spark.sql.types._
 
+import org.apache.carbondata.scan.aggregator.SurrogateKeyAggregator.AggregateType
+
 /**
  * Top command
  */
@@ -83,6 +85,19 @@ case class CarbonDictionaryCatalystDecoder(
   override def output: Seq[Attribute] = child.output
 }
 
+/**
+ * Partial aggregation on dictionary surrogate keys, groups of the child rows are aggregated
+ * before the surrogate keys are decoded
+ */
+case class CarbonPartialCatalystAggregate(
+    groupingAttributes: Seq[Attribute],
+    aggregateTypes: Seq[AggregateType],
+    aggregateInputs: Seq[Attribute],
+    aggregateOutputs: Seq[Attribute],
+    child: LogicalPlan) extends UnaryNode {
+  override def output: Seq[Attribute] = groupingAttributes ++ aggregateOutputs
+}
+
 abstract class CarbonProfile(attributes: Seq[Attribute]) extends Serializable {
   def isEmpty: Boolean = attributes.isEmpty
 }
@@ -29,12 +29,13 @@ import org.apache.spark.sql.types._
 
 import org.apache.carbondata.core.cache.{Cache, CacheProvider, CacheType}
 import org.apache.carbondata.core.cache.dictionary.{Dictionary, DictionaryColumnUniqueIdentifier}
+import org.apache.carbondata.core.cache.dictionary.{DictionaryValues, ForwardDictionary}
 import org.apache.carbondata.core.carbon.{AbsoluteTableIdentifier, ColumnIdentifier}
 import org.apache.carbondata.core.carbon.metadata.datatype.DataType
 import org.apache.carbondata.core.carbon.metadata.encoder.Encoding
 import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonDimension
 import org.apache.carbondata.core.carbon.querystatistics._
-import org.apache.carbondata.core.util.{CarbonTimeStatisticsFactory, DataTypeUtil}
+import org.apache.carbondata.core.util.CarbonTimeStatisticsFactory
 
 /**
  * It decodes the data.
@@ -162,14 +163,21 @@ case class CarbonDictionaryDecoder(
 
       val recorder = CarbonTimeStatisticsFactory.createExecutorRecorder(queryId);
       if (isRequiredToDecode) {
-        val dataTypes = child.output.map { attr => attr.dataType }
+        val dataTypes = child.output.map { attr => attr.dataType }.toArray
         child.execute().mapPartitions { iter =>
           val cacheProvider: CacheProvider = CacheProvider.getInstance
           val forwardDictionaryCache: Cache[DictionaryColumnUniqueIdentifier, Dictionary] =
             cacheProvider.createCache(CacheType.FORWARD_DICTIONARY, storePath)
           val dicts: Seq[Dictionary] = getDictionary(absoluteTableIdentifiers,
             forwardDictionaryCache)
-          val dictIndex = dicts.zipWithIndex.filter(x => x._1 != null).map(x => x._2)
+          // dictionary values converted to data type, indexed by surrogate key
+          val dictionaryValues: Array[DictionaryValues] = dicts.map { dictionary =>
+            if (null != dictionary) {
+              dictionary.asInstanceOf[ForwardDictionary].getDictionaryValues
+            } else {
+              null
+            }
+          }.toArray
           // add a task completion listener to clear dictionary that is a decisive factor for
           // LRU eviction policy
           val dictionaryTaskCleaner = TaskContext.get
@@ -181,7 +189,10 @@ case class CarbonDictionaryDecoder(
             }
           )
           new Iterator[InternalRow] {
-            val unsafeProjection = UnsafeProjection.create(output.map(_.dataType).toArray)
+            val outputTypes = output.map(_.dataType).toArray
+            val unsafeProjection = UnsafeProjection.create(outputTypes)
+            // typed row reused for every row, so that values are not boxed
+            val decodedRow = new SpecificMutableRow(outputTypes)
             var flag = true
             var total = 0L
             override final def hasNext: Boolean = {
@@ -198,15 +209,18 @@ case class CarbonDictionaryDecoder(
             override final def next(): InternalRow = {
               val startTime = System.currentTimeMillis()
               val row: InternalRow = iter.next()
-              val data = row.toSeq(dataTypes).toArray
-              dictIndex.foreach { index =>
-                if (data(index) != null) {
-                  data(index) = DataTypeUtil.getDataBasedOnDataType(dicts(index)
-                      .getDictionaryValueForKey(data(index).asInstanceOf[Int]),
-                      getDictionaryColumnIds(index)._3)
+              var index = 0
+              while (index < dataTypes.length) {
+                if (row.isNullAt(index)) {
+                  decodedRow.setNullAt(index)
+                } else if (null != dictionaryValues(index)) {
+                  decodeValue(row.getInt(index), dictionaryValues(index), decodedRow, index)
+                } else {
+                  copyValue(row, dataTypes(index), decodedRow, index)
                 }
+                index += 1
               }
-              val result = unsafeProjection(new GenericMutableRow(data))
+              val result = unsafeProjection(decodedRow)
               total += System.currentTimeMillis() - startTime
               result
             }
@@ -218,6 +232,43 @@ case class CarbonDictionaryDecoder(
     }
   }
 
+  /**
+   * Sets the dictionary value of surrogate key in the row without parsing the value
+   */
+  private def decodeValue(surrogateKey: Int, dictionaryValues: DictionaryValues,
+      row: MutableRow, ordinal: Int): Unit = {
+    if (dictionaryValues.isNull(surrogateKey)) {
+      row.setNullAt(ordinal)
+    } else {
+      dictionaryValues.getDataType match {
+        case DataType.INT => row.setInt(ordinal, dictionaryValues.getInt(surrogateKey))
+        case DataType.SHORT => row.setShort(ordinal, dictionaryValues.getShort(surrogateKey))
+        case DataType.LONG | DataType.TIMESTAMP =>
+          row.setLong(ordinal, dictionaryValues.getLong(surrogateKey))
+        case DataType.DOUBLE => row.setDouble(ordinal, dictionaryValues.getDouble(surrogateKey))
+        case DataType.DECIMAL => row.update(ordinal, dictionaryValues.getDecimal(surrogateKey))
+        case _ => row.update(ordinal, dictionaryValues.getUTF8String(surrogateKey))
+      }
+    }
+  }
+
+  /**
+   * Copies the value which is not decoded to the row using the typed getter
+   */
+  private def copyValue(from: InternalRow, dataType: types.DataType, row: MutableRow,
+      ordinal: Int): Unit = {
+    dataType match {
+      case IntegerType | DateType => row.setInt(ordinal, from.getInt(ordinal))
+      case LongType | TimestampType => row.setLong(ordinal, from.getLong(ordinal))
+      case ShortType => row.setShort(ordinal, from.getShort(ordinal))
+      case DoubleType => row.setDouble(ordinal, from.getDouble(ordinal))
+      case FloatType => row.setFloat(ordinal, from.getFloat(ordinal))
+      case BooleanType => row.setBoolean(ordinal, from.getBoolean(ordinal))
+      case ByteType => row.setByte(ordinal, from.getByte(ordinal))
+      case _ => row.update(ordinal, from.get(ordinal, dataType))
+    }
+  }
+
   private def isRequiredToDecode = {
     getDictionaryColumnIds.find(p => p._1 != null) match {
       case Some(value) => true
@@ -26,11 +26,14 @@ import org.apache.hadoop.conf.Configuration
 import org.apache.spark.rdd.RDD
 import org.apache.spark.sql.catalyst.InternalRow
 import org.apache.spark.sql.catalyst.expressions._
-import org.apache.spark.sql.execution.LeafNode
+import org.apache.spark.sql.execution.{LeafNode, SparkPlan, UnaryNode}
 import org.apache.spark.sql.hive.CarbonMetastoreCatalog
+import org.apache.spark.sql.types.{DataType, DoubleType, IntegerType, LongType}
 
 import org.apache.carbondata.core.constants.CarbonCommonConstants
 import org.apache.carbondata.core.util.CarbonProperties
+import org.apache.carbondata.scan.aggregator.SurrogateKeyAggregator
+import org.apache.carbondata.scan.aggregator.SurrogateKeyAggregator.AggregateType
 import org.apache.carbondata.scan.model._
 import org.apache.carbondata.spark.{CarbonFilters, RawValue, RawValueImpl}
 import org.apache.carbondata.spark.rdd.CarbonScanRDD
@@ -189,3 +192,132 @@ case class CarbonScan(
   }
 
 }
+
+/**
+ * Partial aggregation on dictionary surrogate keys in executor. Rows of each partition are grouped
+ * on the surrogate keys using a primitive hash table, so that the dictionary decoder above it
+ * decodes only the groups. Number of groups kept in memory is bounded, once it is reached the
+ * groups are returned and aggregation starts again, the final aggregate merges them.
+ */
+case class CarbonPartialAggregate(
+    groupingAttributes: Seq[Attribute],
+    aggregateTypes: Seq[AggregateType],
+    aggregateInputs: Seq[Attribute],
+    aggregateOutputs: Seq[Attribute],
+    child: SparkPlan) extends UnaryNode {
+
+  override def output: Seq[Attribute] = groupingAttributes ++ aggregateOutputs
+
+  override def outputsUnsafeRows: Boolean = true
+
+  override def canProcessUnsafeRows: Boolean = true
+
+  override def canProcessSafeRows: Boolean = true
+
+  override def doExecute(): RDD[InternalRow] = {
+    val keyOrdinals = groupingAttributes.map(ordinalInChild).toArray
+    val inputOrdinals = aggregateInputs.map(ordinalInChild).toArray
+    val inputTypes: Array[DataType] = aggregateInputs.map(_.dataType).toArray
+    val types = aggregateTypes.toArray
+    val isDoubleValue = aggregateOutputs.map(_.dataType == DoubleType).toArray
+    val outputTypes: Array[DataType] = output.map(_.dataType).toArray
+    val maxGroups = getMaxGroups
+    child.execute().mapPartitions { iter =>
+      val aggregator = new SurrogateKeyAggregator(keyOrdinals.length, types, isDoubleValue,
+        maxGroups)
+      val keys = new Array[Int](keyOrdinals.length)
+      val unsafeProjection = UnsafeProjection.create(outputTypes)
+      val groupRow = new SpecificMutableRow(outputTypes)
+
+      // aggregates the rows till the aggregator is full or all rows are read
+      def aggregateRows(): Unit = {
+        while (!aggregator.isFull && iter.hasNext) {
+          val row = iter.next()
+          var index = 0
+          while (index < keyOrdinals.length) {
+            // surrogate key starts from 1, so 0 is used for null
+            keys(index) =
+              if (row.isNullAt(keyOrdinals(index))) 0 else row.getInt(keyOrdinals(index))
+            index += 1
+          }
+          val group = aggregator.addGroup(keys)
+          index = 0
+          while (index < types.length) {
+            val ordinal = inputOrdinals(index)
+            if (!row.isNullAt(ordinal)) {
+              if (types(index) == AggregateType.COUNT) {
+                aggregator.count(group, index)
+              } else if (inputTypes(index) == DoubleType) {
+                aggregator.aggregate(group, index, row.getDouble(ordinal))
+              } else if (inputTypes(index) == LongType) {
+                aggregator.aggregate(group, index, row.getLong(ordinal))
+              } else {
+                aggregator.aggregate(group, index, row.getInt(ordinal).toLong)
+              }
+            }
+            index += 1
+          }
+        }
+      }
+
+      new Iterator[InternalRow] {
+        var group = 0
+
+        override def hasNext: Boolean = {
+          if (group >= aggregator.getNumberOfGroups && iter.hasNext) {
+            // all the groups are returned, so aggregate the next rows
+            aggregator.clear()
+            group = 0
+            aggregateRows()
+          }
+          group < aggregator.getNumberOfGroups
+        }
+
+        override def next(): InternalRow = {
+          if (!hasNext) {
+            throw new NoSuchElementException
+          }
+          var index = 0
+          while (index < keyOrdinals.length) {
+            val key = aggregator.getKey(group, index)
+            if (key == 0) groupRow.setNullAt(index) else groupRow.setInt(index, key)
+            index += 1
+          }
+          val offset = keyOrdinals.length
+          index = 0
+          while (index < types.length) {
+            if (aggregator.isNull(group, index)) {
+              groupRow.setNullAt(offset + index)
+            } else if (outputTypes(offset + index) == DoubleType) {
+              groupRow.setDouble(offset + index, aggregator.getDouble(group, index))
+            } else if (outputTypes(offset + index) == IntegerType) {
+              groupRow.setInt(offset + index, aggregator.getLong(group, index).toInt)
+            } else {
+              groupRow.setLong(offset + index, aggregator.getLong(group, index))
+            }
+            index += 1
+          }
+          group += 1
+          unsafeProjection(groupRow)
+        }
+      }
+    }
+  }
+
+  private def getMaxGroups: Int = {
+    val defaultValue = CarbonCommonConstants.CARBON_PARTIAL_AGGREGATE_MAX_GROUPS_DEFAULT.toInt
+    try {
+      val maxGroups = CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.CARBON_PARTIAL_AGGREGATE_MAX_GROUPS,
+          CarbonCommonConstants.CARBON_PARTIAL_AGGREGATE_MAX_GROUPS_DEFAULT).toInt
+      // at least one group is needed to make progress
+      if (maxGroups > 0) maxGroups else defaultValue
+    } catch {
+      case e: NumberFormatException => defaultValue
+    }
+  }
+
+  private def ordinalInChild(attribute: Attribute): Int = {
+    child.output.indexWhere(_.exprId == attribute.exprId)
+  }
+}
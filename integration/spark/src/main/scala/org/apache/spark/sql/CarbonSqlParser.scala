@@ -516,6 +516,10 @@ class CarbonSqlParser()
     val partitioner: Option[Partitioner] = getPartitionerObject(partitionCols, tableProperties)
     // validate the tableBlockSize from table properties
     CommonUtil.validateTableBlockSize(tableProperties)
+    // validate the table compressor from table properties
+    CommonUtil.validateTableCompressor(tableProperties)
+    // validate the bloom filter columns from table properties
+    CommonUtil.validateBloomFilterColumns(tableProperties, noDictionaryDims)
 
     tableModel(ifNotExistPresent,
       dbName.getOrElse(CarbonCommonConstants.DATABASE_DEFAULT_NAME),
@@ -980,7 +984,8 @@ class CarbonSqlParser()
     val supportedOptions = Seq("DELIMITER", "QUOTECHAR", "FILEHEADER", "ESCAPECHAR", "MULTILINE",
       "COMPLEX_DELIMITER_LEVEL_1", "COMPLEX_DELIMITER_LEVEL_2", "COLUMNDICT",
       "SERIALIZATION_NULL_FORMAT", "BAD_RECORDS_LOGGER_ENABLE", "BAD_RECORDS_ACTION",
-      "ALL_DICTIONARY_PATH", "MAXCOLUMNS", "COMMENTCHAR", "USE_KETTLE", "DATEFORMAT"
+      "ALL_DICTIONARY_PATH", "MAXCOLUMNS", "COMMENTCHAR", "USE_KETTLE", "DATEFORMAT",
+      "SINGLE_PASS"
     )
     var isSupported = true
     val invalidOptions = StringBuilder.newBuilder
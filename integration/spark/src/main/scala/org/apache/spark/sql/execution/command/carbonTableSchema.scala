@@ -49,6 +49,8 @@ import org.apache.carbondata.core.carbon.metadata.schema.table.column.{CarbonDim
 import org.apache.carbondata.core.carbon.path.CarbonStorePath
 import org.apache.carbondata.core.constants.CarbonCommonConstants
 import org.apache.carbondata.core.datastorage.store.impl.FileFactory
+import org.apache.carbondata.core.dictionary.generator.TableDictionaryGenerator
+import org.apache.carbondata.core.dictionary.server.DictionaryServer
 import org.apache.carbondata.core.load.LoadMetadataDetails
 import org.apache.carbondata.core.util.{CarbonProperties, CarbonUtil}
 import org.apache.carbondata.integration.spark.merger.CompactionType
@@ -1131,6 +1133,19 @@ case class LoadTable(
           throw new MalformedCarbonCommandException(errorMessage)
       }
       val maxColumns = options.getOrElse("maxcolumns", null)
+      // single pass load generates dictionary through the driver dictionary server while loading
+      // the data, it is only supported by the new data load flow for csv files without complex
+      // columns and predefined dictionary
+      val singlePass = options.getOrElse("single_pass", "false").trim.toLowerCase match {
+        case "true" =>
+          !useKettle && dataFrame.isEmpty && columnDict == null && allDictionaryPath.isEmpty &&
+          table.getDimensionByTableName(table.getFactTableName).asScala.forall(!_.isComplex)
+        case "false" => false
+        case illegal =>
+          val errorMessage = "Illegal syntax found: [" + illegal + "] .The value single_pass in " +
+            "load DDL which you set can only be 'true' or 'false', please check your input DDL."
+          throw new MalformedCarbonCommandException(errorMessage)
+      }
       carbonLoadModel.setMaxColumns(maxColumns)
       carbonLoadModel.setEscapeChar(escapeChar)
       carbonLoadModel.setQuoteChar(quoteChar)
@@ -1161,6 +1176,8 @@ case class LoadTable(
       carbonLoadModel.setAllDictPath(allDictionaryPath)
 
       var partitionStatus = CarbonCommonConstants.STORE_LOADSTATUS_SUCCESS
+      var dictionaryGenerator: Option[TableDictionaryGenerator] = None
+      var dictionaryServer: Option[DictionaryServer] = None
       try {
         // First system has to partition the data first and then call the load data
         if (null == relation.tableMeta.partitioner.partitionColumn ||
@@ -1173,9 +1190,26 @@ case class LoadTable(
           carbonLoadModel.setColDictFilePath(columnDict)
           carbonLoadModel.setDirectLoad(true)
         }
-        GlobalDictionaryUtil
-          .generateGlobalDictionary(sqlContext, carbonLoadModel, relation.tableMeta.storePath,
-            dataFrame)
+        if (singlePass) {
+          LOGGER.info(s"Starting dictionary server for single pass load of $dbName.$tableName")
+          dictionaryGenerator = Some(new TableDictionaryGenerator(table))
+          // only the executors of this load get the token through load model
+          val dictionaryServerToken = UUID.randomUUID().toString
+          dictionaryServer = Some(new DictionaryServer(dictionaryGenerator.get,
+            dictionaryServerToken))
+          val driverHost = sqlContext.sparkContext.getConf.get("spark.driver.host")
+          dictionaryServer.get.start(driverHost, CarbonProperties.getInstance()
+            .getProperty(CarbonCommonConstants.CARBON_DICTIONARY_SERVER_PORT,
+              CarbonCommonConstants.CARBON_DICTIONARY_SERVER_PORT_DEFAULT).toInt)
+          carbonLoadModel.setSinglePass(true)
+          carbonLoadModel.setDictionaryServerHost(driverHost)
+          carbonLoadModel.setDictionaryServerPort(dictionaryServer.get.getPort)
+          carbonLoadModel.setDictionaryServerToken(dictionaryServerToken)
+        } else {
+          GlobalDictionaryUtil
+            .generateGlobalDictionary(sqlContext, carbonLoadModel, relation.tableMeta.storePath,
+              dataFrame)
+        }
         CarbonDataRDDFactory.loadCarbonData(sqlContext,
             carbonLoadModel,
             relation.tableMeta.storePath,
@@ -1184,7 +1218,8 @@ case class LoadTable(
             columinar,
             partitionStatus,
             useKettle,
-            dataFrame)
+            dataFrame,
+            dictionaryGenerator)
       }
       catch {
         case ex: Exception =>
@@ -1193,6 +1228,8 @@ case class LoadTable(
           throw ex
       }
       finally {
+        dictionaryServer.foreach(_.shutdown())
+        dictionaryGenerator.foreach(_.clear())
         // Once the data load is successful delete the unwanted partition files
         try {
           val fileType = FileFactory.getFileType(partitionLocation)
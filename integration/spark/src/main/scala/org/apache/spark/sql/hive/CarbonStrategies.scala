@@ -71,6 +71,13 @@ class CarbonStrategies(sqlContext: SQLContext) extends QueryPlanner[SparkPlan] {
             profile,
             aliasMap,
             planLater(child))(sqlContext) :: Nil
+        case CarbonPartialCatalystAggregate(groupingAttributes, aggregateTypes, aggregateInputs,
+            aggregateOutputs, child) =>
+          CarbonPartialAggregate(groupingAttributes,
+            aggregateTypes,
+            aggregateInputs,
+            aggregateOutputs,
+            planLater(child)) :: Nil
         case _ =>
           Nil
       }
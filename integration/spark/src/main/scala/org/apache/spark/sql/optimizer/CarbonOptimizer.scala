@@ -34,7 +34,8 @@ import org.apache.spark.sql.types.{IntegerType, StringType}
 
 import org.apache.carbondata.common.logging.LogServiceFactory
 import org.apache.carbondata.core.carbon.querystatistics.QueryStatistic
-import org.apache.carbondata.core.util.CarbonTimeStatisticsFactory
+import org.apache.carbondata.core.constants.CarbonCommonConstants
+import org.apache.carbondata.core.util.{CarbonProperties, CarbonTimeStatisticsFactory}
 import org.apache.carbondata.spark.CarbonFilters
 
 /**
@@ -50,12 +51,23 @@ object CarbonOptimizer {
     val executedPlan: LogicalPlan = optimizer.execute(plan)
     val relations = CarbonOptimizer.collectCarbonRelation(plan)
     if (relations.nonEmpty) {
-      new ResolveCarbonFunctions(relations).apply(executedPlan)
+      val resolvedPlan = new ResolveCarbonFunctions(relations).apply(executedPlan)
+      if (isPartialAggregateEnabled) {
+        new CarbonPartialAggregateRule().apply(resolvedPlan)
+      } else {
+        resolvedPlan
+      }
     } else {
       executedPlan
     }
   }
 
+  private def isPartialAggregateEnabled: Boolean = {
+    CarbonProperties.getInstance()
+      .getProperty(CarbonCommonConstants.CARBON_PARTIAL_AGGREGATE_ENABLE,
+        CarbonCommonConstants.CARBON_PARTIAL_AGGREGATE_ENABLE_DEFAULT).toBoolean
+  }
+
   // get the carbon relation from plan.
   def collectCarbonRelation(plan: LogicalPlan): Seq[CarbonDecoderRelation] = {
     plan collect {
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.spark.sql.optimizer
+
+import scala.collection.mutable.ArrayBuffer
+
+import org.apache.spark.sql._
+import org.apache.spark.sql.catalyst.expressions._
+import org.apache.spark.sql.catalyst.planning.PhysicalOperation
+import org.apache.spark.sql.catalyst.plans.logical._
+import org.apache.spark.sql.catalyst.rules.Rule
+import org.apache.spark.sql.execution.datasources.LogicalRelation
+import org.apache.spark.sql.types.{DataType, DoubleType, IntegerType, LongType}
+import org.apache.spark.util.Utils
+
+import org.apache.carbondata.common.logging.LogServiceFactory
+import org.apache.carbondata.scan.aggregator.SurrogateKeyAggregator.AggregateType
+
+/**
+ * Adds a partial aggregate on dictionary surrogate keys under the dictionary decoder, when the
+ * decoder is below an aggregate which groups on the dictionary columns decoded by it. Without it
+ * every scanned row is decoded and spark groups on the decoded values. Partial aggregate returns
+ * the groups of each partition on the surrogate keys, so the decoder and the aggregate above it
+ * handle only the groups.
+ * Only the aggregates which do not need the decoded values are supported: sum, min, max and count
+ * on columns which are not dictionary encoded.
+ * Aggregate functions are matched on the node name as the function classes are different in
+ * spark 1.5 and 1.6.
+ */
+class CarbonPartialAggregateRule extends Rule[LogicalPlan] {
+
+  val LOGGER = LogServiceFactory.getLogService(this.getClass.getName)
+
+  def apply(plan: LogicalPlan): LogicalPlan = {
+    plan transform {
+      case agg@Aggregate(groupingExpressions, _,
+          decoder@CarbonDictionaryCatalystDecoder(_, profile, _, _,
+            PhysicalOperation(_, _, l: LogicalRelation)))
+        if l.relation.isInstanceOf[CarbonDatasourceRelation] &&
+           groupingExpressions.nonEmpty &&
+           isGroupedOnDecodedKeys(groupingExpressions, profile, decoder.child, l) =>
+        addPartialAggregate(agg, decoder, l).getOrElse(agg)
+    }
+  }
+
+  /**
+   * Grouping has to be only on the dictionary columns which are surrogate keys under the
+   * decoder and decoded by it
+   */
+  private def isGroupedOnDecodedKeys(groupingExpressions: Seq[Expression],
+      profile: CarbonProfile,
+      child: LogicalPlan,
+      relation: LogicalRelation): Boolean = {
+    groupingExpressions.forall {
+      case attr: AttributeReference =>
+        child.output.find(_.exprId == attr.exprId) match {
+          case Some(key) =>
+            key.dataType == IntegerType && isDictionaryEncoded(key, relation) &&
+            isDecoded(key, profile)
+          case None => false
+        }
+      case _ => false
+    }
+  }
+
+  private def isDecoded(attr: Attribute, profile: CarbonProfile): Boolean = {
+    profile match {
+      case IncludeProfile(attributes) => attributes.exists(_.exprId == attr.exprId)
+      case ExcludeProfile(attributes) => !attributes.exists(_.exprId == attr.exprId)
+      case _ => false
+    }
+  }
+
+  private def isDictionaryEncoded(attr: Attribute, relation: LogicalRelation): Boolean = {
+    relation.relation.asInstanceOf[CarbonDatasourceRelation].carbonRelation.metaData
+      .dictionaryMap.get(attr.name) match {
+      case Some(true) => true
+      case _ => false
+    }
+  }
+
+  private def addPartialAggregate(agg: Aggregate,
+      decoder: CarbonDictionaryCatalystDecoder,
+      relation: LogicalRelation): Option[LogicalPlan] = {
+    // grouping keys as surrogate keys from the child of decoder
+    val groupingAttributes = agg.groupingExpressions.map { exp =>
+      decoder.child.output.find(_.exprId == exp.asInstanceOf[Attribute].exprId).get
+    }
+    val aggregateTypes = new ArrayBuffer[AggregateType]()
+    val aggregateInputs = new ArrayBuffer[Alias]()
+    val aggregateOutputs = new ArrayBuffer[Attribute]()
+    val newAggregateExpressions = agg.aggregateExpressions.map {
+      case attr: Attribute if groupingAttributes.exists(_.exprId == attr.exprId) =>
+        Some(attr)
+      case alias@Alias(attr: Attribute, _)
+        if groupingAttributes.exists(_.exprId == attr.exprId) =>
+        Some(alias)
+      case alias@Alias(aggExp, _) =>
+        val function = unwrapAggregateFunction(aggExp)
+        val aggregateType = function.flatMap(getAggregateType)
+        if (aggregateType.isDefined &&
+            function.get.children.size == 1 &&
+            !function.get.children.head.references.exists(isDictionaryEncoded(_, relation)) &&
+            isSupportedInput(aggregateType.get, function.get.children.head.dataType)) {
+          val index = aggregateTypes.size
+          val input = function.get.children.head
+          val output = AttributeReference(s"partial_aggregate_$index",
+            getOutputType(aggregateType.get, input.dataType))()
+          aggregateTypes += aggregateType.get
+          aggregateInputs += Alias(input, s"partial_input_$index")()
+          aggregateOutputs += output
+          val newFunction = if (aggregateType.get == AggregateType.COUNT) {
+            createSum(function.get, output)
+          } else {
+            function.get.withNewChildren(Seq(output))
+          }
+          Some(alias.withNewChildren(Seq(replaceAggregateFunction(aggExp, newFunction))))
+        } else {
+          None
+        }
+      case _ => None
+    }
+    if (newAggregateExpressions.exists(_.isEmpty)) {
+      None
+    } else {
+      LOGGER.info("Adding partial aggregate on dictionary surrogate keys under the decoder")
+      val projection = Project(groupingAttributes ++ aggregateInputs, decoder.child)
+      val partialAggregate = CarbonPartialCatalystAggregate(groupingAttributes,
+        aggregateTypes,
+        aggregateInputs.map(_.toAttribute),
+        aggregateOutputs,
+        projection)
+      Some(Aggregate(agg.groupingExpressions,
+        newAggregateExpressions.map(_.get.asInstanceOf[NamedExpression]),
+        decoder.copy(child = partialAggregate)))
+    }
+  }
+
+  /**
+   * In spark 1.6 the aggregate function is wrapped with AggregateExpression, distinct aggregates
+   * are not supported.
+   */
+  private def unwrapAggregateFunction(aggExp: Expression): Option[Expression] = {
+    if (aggExp.nodeName == "AggregateExpression") {
+      if (aggExp.productIterator.exists(_ == true)) {
+        None
+      } else {
+        Some(aggExp.children.head)
+      }
+    } else {
+      Some(aggExp)
+    }
+  }
+
+  private def replaceAggregateFunction(aggExp: Expression, function: Expression): Expression = {
+    if (aggExp.nodeName == "AggregateExpression") {
+      aggExp.withNewChildren(Seq(function))
+    } else {
+      function
+    }
+  }
+
+  private def getAggregateType(function: Expression): Option[AggregateType] = {
+    function.nodeName match {
+      case "Sum" => Some(AggregateType.SUM)
+      case "Min" => Some(AggregateType.MIN)
+      case "Max" => Some(AggregateType.MAX)
+      case "Count" => Some(AggregateType.COUNT)
+      case _ => None
+    }
+  }
+
+  private def isSupportedInput(aggregateType: AggregateType, dataType: DataType): Boolean = {
+    aggregateType == AggregateType.COUNT || dataType == IntegerType || dataType == LongType ||
+    dataType == DoubleType
+  }
+
+  private def getOutputType(aggregateType: AggregateType, inputType: DataType): DataType = {
+    aggregateType match {
+      case AggregateType.COUNT => LongType
+      case AggregateType.SUM if inputType != DoubleType => LongType
+      case _ => inputType
+    }
+  }
+
+  /**
+   * Partial counts are summed up, sum is created from the package of count function so that it
+   * is the same kind of aggregate function in spark 1.5 and 1.6.
+   */
+  private def createSum(count: Expression, child: Expression): Expression = {
+    val sumClass = Utils.getContextOrSparkClassLoader
+      .loadClass(count.getClass.getPackage.getName + ".Sum")
+    sumClass.getConstructor(classOf[Expression]).newInstance(child).asInstanceOf[Expression]
+  }
+}
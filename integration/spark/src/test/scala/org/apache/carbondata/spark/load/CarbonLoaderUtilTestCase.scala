@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.carbondata.spark.load
+
+import scala.collection.JavaConverters._
+
+import org.scalatest.{BeforeAndAfterAll, FunSuite}
+
+import org.apache.carbondata.core.carbon.datastore.block.{BlockletInfos, TableBlockInfo}
+import org.apache.carbondata.core.constants.CarbonCommonConstants
+import org.apache.carbondata.core.util.CarbonProperties
+
+/**
+ * Test Case for the distribution of the blocklets pruned in driver by
+ * org.apache.carbondata.spark.load.CarbonLoaderUtil
+ */
+class CarbonLoaderUtilTestCase extends FunSuite with BeforeAndAfterAll {
+
+  val blockletIds = Array(1, 2, 3, 7, 8, 12, 15, 16, 17, 20, 25)
+
+  var blockletDistribution: String = _
+
+  override def beforeAll {
+    blockletDistribution = CarbonProperties.getInstance()
+      .getProperty(CarbonCommonConstants.ENABLE_BLOCKLET_DISTRIBUTION,
+        CarbonCommonConstants.ENABLE_BLOCKLET_DISTRIBUTION_DEFAULTVALUE)
+    CarbonProperties.getInstance()
+      .addProperty(CarbonCommonConstants.ENABLE_BLOCKLET_DISTRIBUTION, "true")
+  }
+
+  override def afterAll {
+    CarbonProperties.getInstance()
+      .addProperty(CarbonCommonConstants.ENABLE_BLOCKLET_DISTRIBUTION, blockletDistribution)
+  }
+
+  def distributeBlockletIds(): Seq[BlockletInfos] = {
+    val blockletInfos = new BlockletInfos(30, 0, 30)
+    blockletInfos.setBlockletIds(blockletIds)
+    val block = new TableBlockInfo("part-0-0-1462341987000", 0, "0", Array("1"), 111,
+      blockletInfos)
+    CarbonLoaderUtil.distributeBlockLets(List(block).asJava, 100).asScala
+      .map(_.asInstanceOf[TableBlockInfo].getBlockletInfos)
+  }
+
+  test("test pruned blocklet ids are distributed in contiguous runs") {
+    val distributed = distributeBlockletIds()
+    assert(distributed.size > 1)
+    // each task gets the next run of the matched ids and all ids are distributed once
+    assert(distributed.flatMap(_.getBlockletIds.toSeq) == blockletIds.toSeq)
+    distributed.foreach { infos =>
+      assert(infos.getNoOfBlockLets == 30)
+    }
+  }
+
+  test("test ranges of pruned blocklet ids do not overlap") {
+    val distributed = distributeBlockletIds()
+    assert(distributed.size > 1)
+    distributed.foreach { infos =>
+      val ids = infos.getBlockletIds
+      // range of the task covers only its own ids
+      assert(infos.getStartBlockletNumber == ids.head)
+      assert(infos.getNumberOfBlockletToScan == ids.last - ids.head + 1)
+    }
+    distributed.sliding(2).foreach { case Seq(previous, next) =>
+      assert(previous.getStartBlockletNumber + previous.getNumberOfBlockletToScan <=
+        next.getStartBlockletNumber)
+    }
+  }
+}
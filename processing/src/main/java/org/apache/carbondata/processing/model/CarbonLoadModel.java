@@ -133,6 +133,33 @@ public class CarbonLoadModel implements Serializable {
    */
   private String rddIteratorKey;
 
+  /**
+   * whether dictionary keys are generated by dictionary server during data load instead
+   * of generating global dictionary before data load
+   */
+  private boolean singlePass;
+
+  /**
+   * host of dictionary server in case of single pass load
+   */
+  private String dictionaryServerHost;
+
+  /**
+   * port of dictionary server in case of single pass load
+   */
+  private int dictionaryServerPort;
+
+  /**
+   * token of the load which dictionary clients send to dictionary server
+   */
+  private String dictionaryServerToken;
+
+  /**
+   * directory where the carbondata and index files are written, if not set files are
+   * written directly into the segment directory
+   */
+  private String carbonDataDirectoryPath;
+
   /**
    * get escape char
    * @return
@@ -356,6 +383,11 @@ public class CarbonLoadModel implements Serializable {
     copy.commentChar = commentChar;
     copy.maxColumns = maxColumns;
     copy.storePath = storePath;
+    copy.singlePass = singlePass;
+    copy.dictionaryServerHost = dictionaryServerHost;
+    copy.dictionaryServerPort = dictionaryServerPort;
+    copy.dictionaryServerToken = dictionaryServerToken;
+    copy.carbonDataDirectoryPath = carbonDataDirectoryPath;
     return copy;
   }
 
@@ -401,6 +433,11 @@ public class CarbonLoadModel implements Serializable {
     copyObj.dateFormat = dateFormat;
     copyObj.maxColumns = maxColumns;
     copyObj.storePath = storePath;
+    copyObj.singlePass = singlePass;
+    copyObj.dictionaryServerHost = dictionaryServerHost;
+    copyObj.dictionaryServerPort = dictionaryServerPort;
+    copyObj.dictionaryServerToken = dictionaryServerToken;
+    copyObj.carbonDataDirectoryPath = carbonDataDirectoryPath;
     return copyObj;
   }
 
@@ -644,4 +681,44 @@ public class CarbonLoadModel implements Serializable {
     this.rddIteratorKey = rddIteratorKey;
 
   }
+
+  public boolean isSinglePass() {
+    return singlePass;
+  }
+
+  public void setSinglePass(boolean singlePass) {
+    this.singlePass = singlePass;
+  }
+
+  public String getDictionaryServerHost() {
+    return dictionaryServerHost;
+  }
+
+  public void setDictionaryServerHost(String dictionaryServerHost) {
+    this.dictionaryServerHost = dictionaryServerHost;
+  }
+
+  public int getDictionaryServerPort() {
+    return dictionaryServerPort;
+  }
+
+  public void setDictionaryServerPort(int dictionaryServerPort) {
+    this.dictionaryServerPort = dictionaryServerPort;
+  }
+
+  public String getDictionaryServerToken() {
+    return dictionaryServerToken;
+  }
+
+  public void setDictionaryServerToken(String dictionaryServerToken) {
+    this.dictionaryServerToken = dictionaryServerToken;
+  }
+
+  public String getCarbonDataDirectoryPath() {
+    return carbonDataDirectoryPath;
+  }
+
+  public void setCarbonDataDirectoryPath(String carbonDataDirectoryPath) {
+    this.carbonDataDirectoryPath = carbonDataDirectoryPath;
+  }
 }
@@ -133,6 +133,16 @@ public final class DataLoadProcessBuilder {
         loadModel.getBadRecordsAction().split(",")[1]);
     configuration.setDataLoadProperty(DataLoadProcessorConstants.FACT_FILE_PATH,
         loadModel.getFactFilePath());
+    configuration.setDataLoadProperty(DataLoadProcessorConstants.SINGLE_PASS,
+        loadModel.isSinglePass());
+    configuration.setDataLoadProperty(DataLoadProcessorConstants.DICTIONARY_SERVER_HOST,
+        loadModel.getDictionaryServerHost());
+    configuration.setDataLoadProperty(DataLoadProcessorConstants.DICTIONARY_SERVER_PORT,
+        loadModel.getDictionaryServerPort());
+    configuration.setDataLoadProperty(DataLoadProcessorConstants.DICTIONARY_SERVER_TOKEN,
+        loadModel.getDictionaryServerToken());
+    configuration.setDataLoadProperty(DataLoadProcessorConstants.CARBON_DATA_DIRECTORY_PATH,
+        loadModel.getCarbonDataDirectoryPath());
     List<CarbonDimension> dimensions =
         carbonTable.getDimensionByTableName(carbonTable.getFactTableName());
     List<CarbonMeasure> measures =
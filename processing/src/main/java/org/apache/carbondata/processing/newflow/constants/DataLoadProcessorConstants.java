@@ -42,4 +42,14 @@ public final class DataLoadProcessorConstants {
 
   public static final String FACT_FILE_PATH = "FACT_FILE_PATH";
 
+  public static final String SINGLE_PASS = "SINGLE_PASS";
+
+  public static final String DICTIONARY_SERVER_HOST = "DICTIONARY_SERVER_HOST";
+
+  public static final String DICTIONARY_SERVER_PORT = "DICTIONARY_SERVER_PORT";
+
+  public static final String DICTIONARY_SERVER_TOKEN = "DICTIONARY_SERVER_TOKEN";
+
+  public static final String CARBON_DATA_DIRECTORY_PATH = "CARBON_DATA_DIRECTORY_PATH";
+
 }
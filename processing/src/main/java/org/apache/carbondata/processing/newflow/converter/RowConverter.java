@@ -20,6 +20,7 @@ package org.apache.carbondata.processing.newflow.converter;
 
 import org.apache.carbondata.processing.newflow.exception.CarbonDataLoadingException;
 import org.apache.carbondata.processing.newflow.row.CarbonRow;
+import org.apache.carbondata.processing.newflow.row.CarbonRowBatch;
 
 /**
  * convert the row
@@ -28,6 +29,13 @@ public interface RowConverter {
 
   void initialize();
 
+  /**
+   * It is called before the rows of the batch are converted
+   * @param rowBatch
+   * @throws CarbonDataLoadingException
+   */
+  void prepare(CarbonRowBatch rowBatch) throws CarbonDataLoadingException;
+
   CarbonRow convert(CarbonRow row) throws CarbonDataLoadingException;
 
   RowConverter createCopyForNewThread();
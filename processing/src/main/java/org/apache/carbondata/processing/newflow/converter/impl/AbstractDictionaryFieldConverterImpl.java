@@ -21,9 +21,20 @@ package org.apache.carbondata.processing.newflow.converter.impl;
 import java.util.List;
 
 import org.apache.carbondata.processing.newflow.converter.FieldConverter;
+import org.apache.carbondata.processing.newflow.exception.CarbonDataLoadingException;
+import org.apache.carbondata.processing.newflow.row.CarbonRowBatch;
 
 public abstract class AbstractDictionaryFieldConverterImpl implements FieldConverter {
 
   public abstract void fillColumnCardinality(List<Integer> cardinality);
 
+  /**
+   * It is called before the rows of the batch are converted, so that dictionary keys of
+   * the new values of the batch can be generated together.
+   * @param rowBatch
+   * @throws CarbonDataLoadingException
+   */
+  public void generateKeys(CarbonRowBatch rowBatch) throws CarbonDataLoadingException {
+  }
+
 }
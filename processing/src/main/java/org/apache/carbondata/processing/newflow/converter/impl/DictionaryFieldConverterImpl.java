@@ -19,6 +19,8 @@
 
 package org.apache.carbondata.processing.newflow.converter.impl;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import org.apache.carbondata.common.logging.LogService;
@@ -31,13 +33,17 @@ import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonDime
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.devapi.BiDictionary;
 import org.apache.carbondata.core.devapi.DictionaryGenerationException;
+import org.apache.carbondata.core.dictionary.client.DictionaryClient;
+import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.core.util.CarbonUtilException;
 import org.apache.carbondata.core.util.DataTypeUtil;
 import org.apache.carbondata.processing.newflow.DataField;
 import org.apache.carbondata.processing.newflow.converter.BadRecordLogHolder;
+import org.apache.carbondata.processing.newflow.dictionary.DictionaryServerClientDictionary;
 import org.apache.carbondata.processing.newflow.dictionary.PreCreatedDictionary;
 import org.apache.carbondata.processing.newflow.exception.CarbonDataLoadingException;
 import org.apache.carbondata.processing.newflow.row.CarbonRow;
+import org.apache.carbondata.processing.newflow.row.CarbonRowBatch;
 
 public class DictionaryFieldConverterImpl extends AbstractDictionaryFieldConverterImpl {
 
@@ -54,7 +60,8 @@ public class DictionaryFieldConverterImpl extends AbstractDictionaryFieldConvert
 
   public DictionaryFieldConverterImpl(DataField dataField,
       Cache<DictionaryColumnUniqueIdentifier, Dictionary> cache,
-      CarbonTableIdentifier carbonTableIdentifier, String nullFormat, int index) {
+      CarbonTableIdentifier carbonTableIdentifier, String nullFormat, int index,
+      DictionaryClient dictionaryClient, String storePath) {
     this.index = index;
     this.carbonDimension = (CarbonDimension) dataField.getColumn();
     this.nullFormat = nullFormat;
@@ -62,8 +69,19 @@ public class DictionaryFieldConverterImpl extends AbstractDictionaryFieldConvert
         new DictionaryColumnUniqueIdentifier(carbonTableIdentifier,
             dataField.getColumn().getColumnIdentifier(), dataField.getColumn().getDataType());
     try {
-      Dictionary dictionary = cache.get(identifier);
-      dictionaryGenerator = new PreCreatedDictionary(dictionary);
+      if (null != dictionaryClient) {
+        // single pass load, dictionary of previous loads may not exist
+        Dictionary dictionary = null;
+        String columnId = dataField.getColumn().getColumnId();
+        if (CarbonUtil.isDictionaryFileExists(storePath, carbonTableIdentifier, columnId)) {
+          dictionary = cache.get(identifier);
+        }
+        dictionaryGenerator =
+            new DictionaryServerClientDictionary(dictionary, dictionaryClient, columnId);
+      } else {
+        Dictionary dictionary = cache.get(identifier);
+        dictionaryGenerator = new PreCreatedDictionary(dictionary);
+      }
     } catch (CarbonUtilException e) {
       LOGGER.error(e);
       throw new RuntimeException(e);
@@ -73,8 +91,8 @@ public class DictionaryFieldConverterImpl extends AbstractDictionaryFieldConvert
   @Override public void convert(CarbonRow row, BadRecordLogHolder logHolder)
       throws CarbonDataLoadingException {
     try {
-      String parsedValue = DataTypeUtil.parseValue(row.getString(index), carbonDimension);
-      if(null == parsedValue || parsedValue.equals(nullFormat)) {
+      String parsedValue = getParsedValue(row);
+      if (null == parsedValue) {
         row.update(CarbonCommonConstants.MEMBER_DEFAULT_VAL_SURROGATE_KEY, index);
       } else {
         row.update(dictionaryGenerator.getOrGenerateKey(parsedValue), index);
@@ -84,6 +102,37 @@ public class DictionaryFieldConverterImpl extends AbstractDictionaryFieldConvert
     }
   }
 
+  @Override public void generateKeys(CarbonRowBatch rowBatch)
+      throws CarbonDataLoadingException {
+    if (!(dictionaryGenerator instanceof DictionaryServerClientDictionary)) {
+      return;
+    }
+    List<Object> values = new ArrayList<>();
+    Iterator<CarbonRow> iterator = rowBatch.getBatchIterator();
+    while (iterator.hasNext()) {
+      String parsedValue = getParsedValue(iterator.next());
+      if (null != parsedValue) {
+        values.add(parsedValue);
+      }
+    }
+    try {
+      ((DictionaryServerClientDictionary) dictionaryGenerator).generateKeys(values);
+    } catch (DictionaryGenerationException e) {
+      throw new CarbonDataLoadingException(e);
+    }
+  }
+
+  /**
+   * @return parsed value of the column in the row, null if it is null value
+   */
+  private String getParsedValue(CarbonRow row) {
+    String parsedValue = DataTypeUtil.parseValue(row.getString(index), carbonDimension);
+    if (null == parsedValue || parsedValue.equals(nullFormat)) {
+      return null;
+    }
+    return parsedValue;
+  }
+
   @Override
   public void fillColumnCardinality(List<Integer> cardinality) {
     cardinality.add(dictionaryGenerator.size());
@@ -18,6 +18,7 @@
  */
 package org.apache.carbondata.processing.newflow.converter.impl;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,7 +27,9 @@ import org.apache.carbondata.core.cache.CacheProvider;
 import org.apache.carbondata.core.cache.CacheType;
 import org.apache.carbondata.core.cache.dictionary.Dictionary;
 import org.apache.carbondata.core.cache.dictionary.DictionaryColumnUniqueIdentifier;
+import org.apache.carbondata.core.dictionary.client.DictionaryClient;
 import org.apache.carbondata.core.util.CarbonTimeStatisticsFactory;
+import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.processing.newflow.CarbonDataLoadConfiguration;
 import org.apache.carbondata.processing.newflow.DataField;
 import org.apache.carbondata.processing.newflow.constants.DataLoadProcessorConstants;
@@ -35,6 +38,7 @@ import org.apache.carbondata.processing.newflow.converter.FieldConverter;
 import org.apache.carbondata.processing.newflow.converter.RowConverter;
 import org.apache.carbondata.processing.newflow.exception.CarbonDataLoadingException;
 import org.apache.carbondata.processing.newflow.row.CarbonRow;
+import org.apache.carbondata.processing.newflow.row.CarbonRowBatch;
 import org.apache.carbondata.processing.surrogatekeysgenerator.csvbased.BadRecordsLogger;
 
 /**
@@ -53,6 +57,11 @@ public class RowConverterImpl implements RowConverter {
 
   private BadRecordLogHolder logHolder;
 
+  /**
+   * client of driver dictionary server, only used in single pass load
+   */
+  private DictionaryClient dictionaryClient;
+
   public RowConverterImpl(DataField[] fields, CarbonDataLoadConfiguration configuration,
       BadRecordsLogger badRecordLogger) {
     this.fields = fields;
@@ -70,13 +79,29 @@ public class RowConverterImpl implements RowConverter {
         configuration.getDataLoadProperty(DataLoadProcessorConstants.SERIALIZATION_NULL_FORMAT)
             .toString();
     List<FieldConverter> fieldConverterList = new ArrayList<>();
+    Object singlePass = configuration.getDataLoadProperty(DataLoadProcessorConstants.SINGLE_PASS);
+    if (null != singlePass && (Boolean) singlePass) {
+      String host = configuration
+          .getDataLoadProperty(DataLoadProcessorConstants.DICTIONARY_SERVER_HOST).toString();
+      int port = (Integer) configuration
+          .getDataLoadProperty(DataLoadProcessorConstants.DICTIONARY_SERVER_PORT);
+      String token = configuration
+          .getDataLoadProperty(DataLoadProcessorConstants.DICTIONARY_SERVER_TOKEN).toString();
+      try {
+        dictionaryClient = new DictionaryClient(host, port, token);
+      } catch (IOException e) {
+        throw new CarbonDataLoadingException(
+            "Failed to connect to dictionary server " + host + ":" + port, e);
+      }
+    }
 
     long lruCacheStartTime = System.currentTimeMillis();
 
     for (int i = 0; i < fields.length; i++) {
       FieldConverter fieldConverter = FieldEncoderFactory.getInstance()
           .createFieldEncoder(fields[i], cache,
-              configuration.getTableIdentifier().getCarbonTableIdentifier(), i, nullFormat);
+              configuration.getTableIdentifier().getCarbonTableIdentifier(), i, nullFormat,
+              dictionaryClient, configuration.getTableIdentifier().getStorePath());
       fieldConverterList.add(fieldConverter);
     }
     CarbonTimeStatisticsFactory.getLoadStatisticsInstance()
@@ -85,6 +110,19 @@ public class RowConverterImpl implements RowConverter {
     logHolder = new BadRecordLogHolder();
   }
 
+  /**
+   * In single pass load, dictionary keys of the new values in the batch are got from the
+   * dictionary server with one request per column
+   */
+  @Override
+  public void prepare(CarbonRowBatch rowBatch) throws CarbonDataLoadingException {
+    for (int i = 0; i < fieldConverters.length; i++) {
+      if (fieldConverters[i] instanceof AbstractDictionaryFieldConverterImpl) {
+        ((AbstractDictionaryFieldConverterImpl) fieldConverters[i]).generateKeys(rowBatch);
+      }
+    }
+  }
+
   @Override
   public CarbonRow convert(CarbonRow row) throws CarbonDataLoadingException {
     CarbonRow copy = row.getCopy();
@@ -116,6 +154,10 @@ public class RowConverterImpl implements RowConverter {
     }
     // Set the cardinality to configuration, it will be used by further step for mdk key.
     configuration.setDataLoadProperty(DataLoadProcessorConstants.DIMENSION_LENGTHS, cardinality);
+    if (null != dictionaryClient) {
+      CarbonUtil.closeStreams(dictionaryClient);
+      dictionaryClient = null;
+    }
   }
 
   @Override
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.carbondata.processing.newflow.dictionary;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.carbondata.core.cache.dictionary.Dictionary;
+import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.devapi.BiDictionary;
+import org.apache.carbondata.core.devapi.DictionaryGenerationException;
+import org.apache.carbondata.core.dictionary.client.DictionaryClient;
+
+/**
+ * Dictionary used in single pass data load. Values present in the dictionary of previous
+ * loads are looked up in that dictionary, keys of other values are got from the dictionary
+ * server and kept in a local cache so that each new value is requested only once.
+ * New values of a row batch are requested together by generateKeys, so that a batch needs
+ * one request per column instead of one request per new value.
+ */
+public class DictionaryServerClientDictionary implements BiDictionary<Integer, Object> {
+
+  /**
+   * dictionary of previous loads, null if it does not exist
+   */
+  private Dictionary dictionary;
+
+  private DictionaryClient client;
+
+  private String columnId;
+
+  /**
+   * keys of new values got from dictionary server
+   */
+  private Map<Object, Integer> localCache = new ConcurrentHashMap<>();
+
+  /**
+   * values of the keys in local cache
+   */
+  private Map<Integer, String> reverseLocalCache = new ConcurrentHashMap<>();
+
+  /**
+   * maximum surrogate key used by this dictionary
+   */
+  private volatile int maxKey;
+
+  public DictionaryServerClientDictionary(Dictionary dictionary, DictionaryClient client,
+      String columnId) {
+    this.dictionary = dictionary;
+    this.client = client;
+    this.columnId = columnId;
+    if (null != dictionary) {
+      maxKey = dictionary.getDictionaryChunks().getSize();
+    } else {
+      maxKey = CarbonCommonConstants.MEMBER_DEFAULT_VAL_SURROGATE_KEY;
+    }
+  }
+
+  @Override
+  public Integer getOrGenerateKey(Object value) throws DictionaryGenerationException {
+    Integer key = getKey(value);
+    if (key == null) {
+      generateKeys(Collections.singletonList(value));
+      key = localCache.get(value);
+    }
+    return key;
+  }
+
+  /**
+   * This method will get the keys of all the given values which are not present in the
+   * dictionary from the dictionary server in a single request
+   *
+   * @param values dictionary values
+   * @throws DictionaryGenerationException if keys could not be got from server
+   */
+  public void generateKeys(List<Object> values) throws DictionaryGenerationException {
+    Set<Object> newValues = new LinkedHashSet<>();
+    for (Object value : values) {
+      if (getKey(value) == null) {
+        newValues.add(value);
+      }
+    }
+    if (newValues.isEmpty()) {
+      return;
+    }
+    String[] newValueStrings = new String[newValues.size()];
+    int index = 0;
+    for (Object value : newValues) {
+      newValueStrings[index++] = value.toString();
+    }
+    int[] keys;
+    try {
+      keys = client.generateKeys(columnId, newValueStrings);
+    } catch (IOException e) {
+      throw new DictionaryGenerationException(e);
+    }
+    int batchMaxKey = CarbonCommonConstants.MEMBER_DEFAULT_VAL_SURROGATE_KEY;
+    index = 0;
+    for (Object value : newValues) {
+      reverseLocalCache.put(keys[index], newValueStrings[index]);
+      localCache.put(value, keys[index]);
+      batchMaxKey = Math.max(batchMaxKey, keys[index]);
+      index++;
+    }
+    synchronized (this) {
+      maxKey = Math.max(maxKey, batchMaxKey);
+    }
+  }
+
+  @Override
+  public Integer getKey(Object value) {
+    Integer key = localCache.get(value);
+    if (key == null && null != dictionary) {
+      int existingKey = dictionary.getSurrogateKey(value.toString());
+      if (existingKey != CarbonCommonConstants.INVALID_SURROGATE_KEY) {
+        key = existingKey;
+      }
+    }
+    return key;
+  }
+
+  @Override
+  public String getValue(Integer key) {
+    if (null != dictionary) {
+      String value = dictionary.getDictionaryValueForKey(key);
+      if (null != value) {
+        return value;
+      }
+    }
+    return reverseLocalCache.get(key);
+  }
+
+  @Override
+  public int size() {
+    return maxKey;
+  }
+}
@@ -92,6 +92,7 @@ public class DataConverterProcessorStepImpl extends AbstractDataLoadProcessorSte
    */
   protected CarbonRowBatch processRowBatch(CarbonRowBatch rowBatch, RowConverter localConverter) {
     CarbonRowBatch newBatch = new CarbonRowBatch();
+    localConverter.prepare(rowBatch);
     Iterator<CarbonRow> batchIterator = rowBatch.getBatchIterator();
     while (batchIterator.hasNext()) {
       newBatch.addRow(localConverter.convert(batchIterator.next()));
@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.processing.sortandgroupby.sortdata;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.apache.carbondata.processing.util.RemoveDictionaryUtil;
+
+/**
+ * Sorts the rows of sort buffer using the packed key prefix of the rows.
+ * Surrogate keys of the leading dictionary dimensions (dimensions before first
+ * no dictionary dimension) are packed in to long words with only the bits
+ * required for the maximum surrogate of the batch, followed by first 8 bytes
+ * of the first no dictionary dimension. Row indexes are sorted with LSD radix
+ * sort on the packed words and only rows having same key prefix are compared
+ * using the row comparator. So row comparator is used only when no
+ * dictionary dimensions or dimensions after them need to be compared
+ */
+public class KeyPrefixRowSorter {
+
+  /**
+   * bits of one radix digit
+   */
+  private static final int RADIX_BITS = 8;
+
+  private static final int RADIX_SIZE = 1 << RADIX_BITS;
+
+  private static final int RADIX_MASK = RADIX_SIZE - 1;
+
+  /**
+   * below this size rows are sorted using comparator directly
+   */
+  private static final int MIN_ROWS_FOR_PREFIX_SORT = 64;
+
+  /**
+   * comparator used for sorting the rows having same key prefix
+   */
+  private Comparator<Object[]> comparator;
+
+  /**
+   * whether row is in kettle format, where surrogate keys are in Integer
+   * array and no dictionary dimensions are packed in a byte array
+   */
+  private boolean useKettle;
+
+  /**
+   * number of leading dictionary dimensions which are part of the key prefix
+   */
+  private int prefixDimensionCount;
+
+  /**
+   * whether first 8 bytes of the no dictionary dimension after leading
+   * dictionary dimensions are part of the key prefix
+   */
+  private boolean noDictionaryPrefix;
+
+  /**
+   * whether key prefix is complete sort key, if true rows with same key
+   * prefix are equal and need not be compared
+   */
+  private boolean completeKey;
+
+  public KeyPrefixRowSorter(SortParameters parameters, Comparator<Object[]> comparator) {
+    this.comparator = comparator;
+    this.useKettle = parameters.isUseKettle();
+    boolean[] noDictionaryMapping = parameters.getNoDictionaryDimnesionColumn();
+    if (parameters.getNoDictionaryCount() == 0) {
+      prefixDimensionCount = parameters.getDimColCount();
+      completeKey = true;
+    } else {
+      while (prefixDimensionCount < noDictionaryMapping.length
+          && !noDictionaryMapping[prefixDimensionCount]) {
+        prefixDimensionCount++;
+      }
+      // in kettle format no dictionary dimensions are packed with their
+      // offsets, so only dictionary dimensions are used in prefix
+      noDictionaryPrefix = !useKettle && prefixDimensionCount < noDictionaryMapping.length;
+    }
+  }
+
+  /**
+   * Below method will be used to sort the rows
+   *
+   * @param rows rows to be sorted
+   */
+  public void sort(Object[][] rows) {
+    int size = rows.length;
+    if (size < MIN_ROWS_FOR_PREFIX_SORT || (prefixDimensionCount == 0 && !noDictionaryPrefix)) {
+      Arrays.sort(rows, comparator);
+      return;
+    }
+    long[][] keys = buildKeyPrefix(rows);
+    if (null == keys) {
+      Arrays.sort(rows, comparator);
+      return;
+    }
+    int[] rowIndexes = new int[size];
+    for (int i = 0; i < size; i++) {
+      rowIndexes[i] = i;
+    }
+    int numberOfWords = keys.length - 1;
+    // least significant word first, as radix sort is stable order of less
+    // significant words is kept for the rows with same more significant word
+    for (int word = numberOfWords - 1; word >= 0; word--) {
+      radixSort(keys[word], (int) keys[numberOfWords][word], rowIndexes);
+    }
+    Object[][] unsortedRows = rows.clone();
+    for (int i = 0; i < size; i++) {
+      rows[i] = unsortedRows[rowIndexes[i]];
+    }
+    if (!completeKey) {
+      sortRowsWithSamePrefix(rows, keys, rowIndexes);
+    }
+  }
+
+  /**
+   * Below method will be used to pack the key prefix of all the rows
+   *
+   * @return key words of the rows, last array holds the number of bits used
+   * by each word. null if key prefix cannot be packed
+   */
+  private long[][] buildKeyPrefix(Object[][] rows) {
+    int size = rows.length;
+    // find bits required for each dimension based on maximum surrogate
+    int[] bits = new int[prefixDimensionCount];
+    int[] maxValues = new int[prefixDimensionCount];
+    for (int i = 0; i < size; i++) {
+      for (int dim = 0; dim < prefixDimensionCount; dim++) {
+        int surrogate = getSurrogate(rows[i], dim);
+        if (surrogate < 0) {
+          // comparator compares the signed values, so cannot be packed
+          return null;
+        }
+        if (surrogate > maxValues[dim]) {
+          maxValues[dim] = surrogate;
+        }
+      }
+    }
+    // assign the dimensions to words, a dimension is not split across words
+    int[] wordOfDimension = new int[prefixDimensionCount];
+    int numberOfWords = 0;
+    int usedBits = 0;
+    int[] wordBits = new int[prefixDimensionCount + 1];
+    for (int dim = 0; dim < prefixDimensionCount; dim++) {
+      bits[dim] = Integer.SIZE - Integer.numberOfLeadingZeros(maxValues[dim]);
+      if (numberOfWords == 0 || usedBits + bits[dim] > Long.SIZE) {
+        numberOfWords++;
+        usedBits = 0;
+      }
+      usedBits += bits[dim];
+      wordOfDimension[dim] = numberOfWords - 1;
+      wordBits[numberOfWords - 1] = usedBits;
+    }
+    int noDictionaryWord = -1;
+    if (noDictionaryPrefix) {
+      noDictionaryWord = numberOfWords++;
+      wordBits[noDictionaryWord] = Long.SIZE;
+    }
+    long[][] keys = new long[numberOfWords + 1][];
+    for (int word = 0; word < numberOfWords; word++) {
+      keys[word] = new long[size];
+    }
+    keys[numberOfWords] = new long[numberOfWords];
+    for (int word = 0; word < numberOfWords; word++) {
+      keys[numberOfWords][word] = wordBits[word];
+    }
+    for (int i = 0; i < size; i++) {
+      for (int dim = 0; dim < prefixDimensionCount; dim++) {
+        long[] wordKeys = keys[wordOfDimension[dim]];
+        wordKeys[i] = (wordKeys[i] << bits[dim]) | getSurrogate(rows[i], dim);
+      }
+      if (noDictionaryPrefix) {
+        keys[noDictionaryWord][i] = getBytePrefix((byte[]) rows[i][prefixDimensionCount]);
+      }
+    }
+    return keys;
+  }
+
+  private int getSurrogate(Object[] row, int dimension) {
+    if (useKettle) {
+      return RemoveDictionaryUtil.getDimension(dimension, row);
+    }
+    return (int) row[dimension];
+  }
+
+  /**
+   * first 8 bytes of the value in big endian order, padded with zero. Unsigned
+   * order of the prefix is same as the byte order of the values except for
+   * the values which are equal in first 8 bytes
+   */
+  private static long getBytePrefix(byte[] value) {
+    long prefix = 0;
+    int length = Math.min(value.length, 8);
+    for (int i = 0; i < length; i++) {
+      prefix = (prefix << 8) | (value[i] & 0xFF);
+    }
+    return prefix << ((8 - length) << 3);
+  }
+
+  /**
+   * Below method will be used to sort the row indexes by one key word using
+   * LSD radix sort, it is stable so previous order is kept for same keys
+   *
+   * @param keys       key of each row
+   * @param bits       number of bits used in key
+   * @param rowIndexes row indexes in current order, will be updated with sorted order
+   */
+  private static void radixSort(long[] keys, int bits, int[] rowIndexes) {
+    int size = rowIndexes.length;
+    long[] currentKeys = new long[size];
+    for (int i = 0; i < size; i++) {
+      currentKeys[i] = keys[rowIndexes[i]];
+    }
+    long[] tempKeys = new long[size];
+    int[] tempIndexes = new int[size];
+    int[] currentIndexes = rowIndexes;
+    int[] counts = new int[RADIX_SIZE];
+    for (int shift = 0; shift < bits; shift += RADIX_BITS) {
+      Arrays.fill(counts, 0);
+      for (int i = 0; i < size; i++) {
+        counts[(int) (currentKeys[i] >>> shift) & RADIX_MASK]++;
+      }
+      // all keys have same digit, nothing to sort
+      if (counts[(int) (currentKeys[0] >>> shift) & RADIX_MASK] == size) {
+        continue;
+      }
+      int offset = 0;
+      for (int digit = 0; digit < RADIX_SIZE; digit++) {
+        int count = counts[digit];
+        counts[digit] = offset;
+        offset += count;
+      }
+      for (int i = 0; i < size; i++) {
+        int position = counts[(int) (currentKeys[i] >>> shift) & RADIX_MASK]++;
+        tempKeys[position] = currentKeys[i];
+        tempIndexes[position] = currentIndexes[i];
+      }
+      long[] swapKeys = currentKeys;
+      currentKeys = tempKeys;
+      tempKeys = swapKeys;
+      int[] swapIndexes = currentIndexes;
+      currentIndexes = tempIndexes;
+      tempIndexes = swapIndexes;
+    }
+    if (currentIndexes != rowIndexes) {
+      System.arraycopy(currentIndexes, 0, rowIndexes, 0, size);
+    }
+  }
+
+  /**
+   * Below method will be used to sort the rows having same key prefix using
+   * the row comparator
+   *
+   * @param rows       rows sorted by key prefix
+   * @param keys       key words of the rows in original order
+   * @param rowIndexes original index of the sorted rows
+   */
+  private void sortRowsWithSamePrefix(Object[][] rows, long[][] keys, int[] rowIndexes) {
+    int start = 0;
+    for (int i = 1; i <= rows.length; i++) {
+      if (i == rows.length || !isSamePrefix(keys, rowIndexes[i - 1], rowIndexes[i])) {
+        if (i - start > 1) {
+          Arrays.sort(rows, start, i, comparator);
+        }
+        start = i;
+      }
+    }
+  }
+
+  private static boolean isSamePrefix(long[][] keys, int first, int second) {
+    // last array of keys holds the bits of the words
+    for (int word = 0; word < keys.length - 1; word++) {
+      if (keys[word][first] != keys[word][second]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
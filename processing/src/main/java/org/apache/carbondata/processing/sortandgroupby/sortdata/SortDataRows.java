@@ -26,6 +26,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -150,21 +151,7 @@ public class SortDataRows {
       Object[][] toSort;
       toSort = new Object[entryCount][];
       System.arraycopy(recordHolderList, 0, toSort, 0, entryCount);
-
-      if (parameters.isUseKettle()) {
-        if (parameters.getNoDictionaryCount() > 0) {
-          Arrays.sort(toSort, new RowComparator(parameters.getNoDictionaryDimnesionColumn(),
-              parameters.getNoDictionaryCount()));
-        } else {
-          Arrays.sort(toSort, new RowComparatorForNormalDims(parameters.getDimColCount()));
-        }
-      } else {
-        if (parameters.getNoDictionaryCount() > 0) {
-          Arrays.sort(toSort, new NewRowComparator(parameters.getNoDictionaryDimnesionColumn()));
-        } else {
-          Arrays.sort(toSort, new NewRowComparatorForNormalDims(parameters.getDimColCount()));
-        }
-      }
+      sortRecords(toSort);
       recordHolderList = toSort;
 
       // create new file
@@ -179,6 +166,36 @@ public class SortDataRows {
     this.recordHolderList = null;
   }
 
+  /**
+   * Below method will be used to sort the records, if key prefix sort is
+   * enabled records are sorted by packed key prefix and comparator is used
+   * only for the records with same key prefix
+   *
+   * @param records records to be sorted
+   */
+  private void sortRecords(Object[][] records) {
+    Comparator<Object[]> comparator;
+    if (parameters.isUseKettle()) {
+      if (parameters.getNoDictionaryCount() > 0) {
+        comparator = new RowComparator(parameters.getNoDictionaryDimnesionColumn(),
+            parameters.getNoDictionaryCount());
+      } else {
+        comparator = new RowComparatorForNormalDims(parameters.getDimColCount());
+      }
+    } else {
+      if (parameters.getNoDictionaryCount() > 0) {
+        comparator = new NewRowComparator(parameters.getNoDictionaryDimnesionColumn());
+      } else {
+        comparator = new NewRowComparatorForNormalDims(parameters.getDimColCount());
+      }
+    }
+    if (parameters.isPrefixSortEnabled()) {
+      new KeyPrefixRowSorter(parameters, comparator).sort(records);
+    } else {
+      Arrays.sort(records, comparator);
+    }
+  }
+
   /**
    * Below method will be used to write data to file
    *
@@ -418,24 +435,7 @@ public class SortDataRows {
     @Override public Void call() throws Exception {
       try {
         long startTime = System.currentTimeMillis();
-        if (parameters.isUseKettle()) {
-          if (parameters.getNoDictionaryCount() > 0) {
-            Arrays.sort(recordHolderArray,
-                new RowComparator(parameters.getNoDictionaryDimnesionColumn(),
-                    parameters.getNoDictionaryCount()));
-          } else {
-            Arrays.sort(recordHolderArray,
-                new RowComparatorForNormalDims(parameters.getDimColCount()));
-          }
-        } else {
-          if (parameters.getNoDictionaryCount() > 0) {
-            Arrays.sort(recordHolderArray,
-                new NewRowComparator(parameters.getNoDictionaryDimnesionColumn()));
-          } else {
-            Arrays.sort(recordHolderArray,
-                new NewRowComparatorForNormalDims(parameters.getDimColCount()));
-          }
-        }
+        sortRecords(recordHolderArray);
 
         // create a new file every time
         File sortTempFile = new File(
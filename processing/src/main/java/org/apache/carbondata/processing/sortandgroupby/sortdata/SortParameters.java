@@ -121,6 +121,11 @@ public class SortParameters {
    */
   private boolean useKettle = true;
 
+  /**
+   * whether rows are sorted using the packed key prefix
+   */
+  private boolean prefixSortEnabled;
+
   public String getTempFileLocation() {
     return tempFileLocation;
   }
@@ -305,6 +310,14 @@ public class SortParameters {
     this.useKettle = useKettle;
   }
 
+  public boolean isPrefixSortEnabled() {
+    return prefixSortEnabled;
+  }
+
+  public void setPrefixSortEnabled(boolean prefixSortEnabled) {
+    this.prefixSortEnabled = prefixSortEnabled;
+  }
+
   public static SortParameters createSortParameters(CarbonDataLoadConfiguration configuration) {
     SortParameters parameters = new SortParameters();
     CarbonTableIdentifier tableIdentifier =
@@ -398,6 +411,10 @@ public class SortParameters {
       LOGGER.info("Compression will be used for writing the sort temp File");
     }
 
+    parameters.setPrefixSortEnabled(Boolean.parseBoolean(carbonProperties
+        .getProperty(CarbonCommonConstants.CARBON_LOAD_SORT_PREFIX_ENABLE,
+            CarbonCommonConstants.CARBON_LOAD_SORT_PREFIX_ENABLE_DEFAULT)));
+
     parameters.setPrefetch(CarbonCommonConstants.CARBON_PREFETCH_IN_MERGE_VALUE);
     parameters.setBufferSize(CarbonCommonConstants.CARBON_PREFETCH_BUFFERSIZE);
 
@@ -499,6 +516,10 @@ public class SortParameters {
       LOGGER.info("Compression will be used for writing the sort temp File");
     }
 
+    parameters.setPrefixSortEnabled(Boolean.parseBoolean(carbonProperties
+        .getProperty(CarbonCommonConstants.CARBON_LOAD_SORT_PREFIX_ENABLE,
+            CarbonCommonConstants.CARBON_LOAD_SORT_PREFIX_ENABLE_DEFAULT)));
+
     parameters.setPrefetch(CarbonCommonConstants.CARBON_PREFETCH_IN_MERGE_VALUE);
     parameters.setBufferSize(CarbonCommonConstants.CARBON_PREFETCH_BUFFERSIZE);
 
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.processing.store;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.carbondata.processing.store.writer.NodeHolder;
+import org.apache.carbondata.processing.store.writer.exception.CarbonDataWriterException;
+
+/**
+ * Lock free ring buffer used to hand over the encoded blocklets from producer threads to
+ * the writer threads in blocklet sequence order.
+ *
+ * Each slot keeps the sequence it expects next, so a producer can put a blocklet only after
+ * the blocklet written one round earlier to the same slot is taken, and a writer can take a
+ * blocklet only when the producer of that sequence has put it. Producers may complete in any
+ * order and every writer takes its own sequences in increasing order. Waiting threads are
+ * parked for a short time instead of blocking on a monitor, and the time spent waiting is
+ * recorded as producer stall and consumer stall.
+ */
+public class BlockletRingBuffer {
+
+  /**
+   * time for which a waiting thread is parked before checking the slot again
+   */
+  private static final long PARK_NANOS = 50000L;
+
+  private final AtomicReferenceArray<NodeHolder> slots;
+
+  private final AtomicLongArray slotSequences;
+
+  private final int mask;
+
+  /**
+   * total number of blocklets, -1 till all blocklets are submitted
+   */
+  private volatile long endSequence = -1;
+
+  private volatile boolean aborted;
+
+  private final AtomicLong producerStallNanos = new AtomicLong();
+
+  private final AtomicLong consumerStallNanos = new AtomicLong();
+
+  /**
+   * @param minCapacity minimum number of slots, rounded up to power of 2
+   */
+  public BlockletRingBuffer(int minCapacity) {
+    int capacity = 1;
+    while (capacity < minCapacity) {
+      capacity <<= 1;
+    }
+    this.mask = capacity - 1;
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.slotSequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      slotSequences.set(i, i);
+    }
+  }
+
+  /**
+   * put the blocklet of given sequence, waits if the slot is still occupied by the
+   * blocklet of previous round
+   */
+  public void put(long sequence, NodeHolder nodeHolder) throws CarbonDataWriterException {
+    int index = (int) (sequence & mask);
+    long waitStart = 0;
+    while (slotSequences.get(index) != sequence) {
+      if (aborted) {
+        throw new CarbonDataWriterException("Blocklet writing is aborted");
+      }
+      if (waitStart == 0) {
+        waitStart = System.nanoTime();
+      }
+      LockSupport.parkNanos(PARK_NANOS);
+    }
+    if (waitStart != 0) {
+      producerStallNanos.addAndGet(System.nanoTime() - waitStart);
+    }
+    slots.set(index, nodeHolder);
+    // publish the blocklet, slot sequence is set after the blocklet so that the writer
+    // sees the blocklet once it sees the sequence
+    slotSequences.set(index, sequence + 1);
+  }
+
+  /**
+   * take the blocklet of given sequence, waits till the producer puts it
+   *
+   * @return blocklet, null if the sequence is beyond the last blocklet
+   */
+  public NodeHolder take(long sequence) throws CarbonDataWriterException {
+    int index = (int) (sequence & mask);
+    long waitStart = 0;
+    while (slotSequences.get(index) != sequence + 1) {
+      if (aborted) {
+        throw new CarbonDataWriterException("Blocklet writing is aborted");
+      }
+      long end = endSequence;
+      if (end >= 0 && sequence >= end) {
+        return null;
+      }
+      if (waitStart == 0) {
+        waitStart = System.nanoTime();
+      }
+      LockSupport.parkNanos(PARK_NANOS);
+    }
+    if (waitStart != 0) {
+      consumerStallNanos.addAndGet(System.nanoTime() - waitStart);
+    }
+    NodeHolder nodeHolder = slots.get(index);
+    slots.set(index, null);
+    // release the slot for the next round
+    slotSequences.set(index, sequence + mask + 1);
+    return nodeHolder;
+  }
+
+  /**
+   * called once all blocklets are put, writers waiting for a sequence beyond the last
+   * blocklet will return
+   *
+   * @param numberOfBlocklets total number of blocklets put
+   */
+  public void finish(long numberOfBlocklets) {
+    endSequence = numberOfBlocklets;
+  }
+
+  /**
+   * wake up and fail all waiting producers and writers
+   */
+  public void abort() {
+    aborted = true;
+  }
+
+  /**
+   * add the time producer waited outside the ring buffer, for example for the permit to
+   * submit a blocklet
+   */
+  public void addProducerStallNanos(long nanos) {
+    producerStallNanos.addAndGet(nanos);
+  }
+
+  public long getProducerStallNanos() {
+    return producerStallNanos.get();
+  }
+
+  public long getConsumerStallNanos() {
+    return consumerStallNanos.get();
+  }
+}
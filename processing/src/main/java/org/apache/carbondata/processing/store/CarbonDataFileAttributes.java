@@ -62,6 +62,14 @@ public class CarbonDataFileAttributes {
     return taskId;
   }
 
+  /**
+   * @param taskId task id of the data files
+   * @return attributes of the data files of same load with given task id
+   */
+  public CarbonDataFileAttributes getAttributesOfTask(int taskId) {
+    return new CarbonDataFileAttributes(taskId, factTimeStamp);
+  }
+
   /**
    * @return fact time stamp which is load start time
    */
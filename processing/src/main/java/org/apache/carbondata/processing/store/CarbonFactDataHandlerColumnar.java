@@ -23,12 +23,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -36,22 +38,28 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.core.carbon.datastore.block.SegmentProperties;
 import org.apache.carbondata.core.carbon.metadata.CarbonMetadata;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
+import org.apache.carbondata.core.carbon.metadata.encoder.Encoding;
 import org.apache.carbondata.core.carbon.metadata.schema.table.CarbonTable;
+import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonDimension;
+import org.apache.carbondata.core.carbon.metadata.schema.table.column.CarbonMeasure;
 import org.apache.carbondata.core.carbon.metadata.schema.table.column.ColumnSchema;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.datastorage.store.columnar.BlockIndexerStorageForInt;
 import org.apache.carbondata.core.datastorage.store.columnar.BlockIndexerStorageForNoInvertedIndex;
 import org.apache.carbondata.core.datastorage.store.columnar.ColumnGroupModel;
 import org.apache.carbondata.core.datastorage.store.columnar.IndexStorage;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
+import org.apache.carbondata.core.datastorage.store.compression.MeasurePageEncoding;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 import org.apache.carbondata.core.datastorage.store.dataholder.CarbonWriteDataHolder;
+import org.apache.carbondata.core.datastorage.store.dataholder.MeasurePageBuilder;
 import org.apache.carbondata.core.datastorage.util.StoreFactory;
 import org.apache.carbondata.core.keygenerator.KeyGenException;
 import org.apache.carbondata.core.keygenerator.KeyGenerator;
@@ -60,7 +68,6 @@ import org.apache.carbondata.core.keygenerator.columnar.impl.MultiDimKeyVarLengt
 import org.apache.carbondata.core.keygenerator.factory.KeyGeneratorFactory;
 import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.CarbonUtil;
-import org.apache.carbondata.core.util.DataTypeUtil;
 import org.apache.carbondata.core.util.ValueCompressionUtil;
 import org.apache.carbondata.processing.datatypes.GenericDataType;
 import org.apache.carbondata.processing.mdkeygen.file.FileManager;
@@ -92,6 +99,19 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
    * data writer
    */
   private CarbonFactDataWriter dataWriter;
+  /**
+   * writers of the data files written in parallel, first writer is same as dataWriter
+   */
+  private CarbonFactDataWriter[] dataWriters;
+  /**
+   * whether file of the writer is opened, writers other than first one open the file
+   * when they get the first blocklet
+   */
+  private boolean[] dataWriterInitialized;
+  /**
+   * number of data files written in parallel
+   */
+  private int numberOfDataWriters;
   /**
    * File manager
    */
@@ -137,14 +157,6 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
    * table block size in MB
    */
   private int tableBlockSize;
-  /**
-   * otherMeasureIndex
-   */
-  private int[] otherMeasureIndex;
-  /**
-   * customMeasureIndex
-   */
-  private int[] customMeasureIndex;
   /**
    * dimLens
    */
@@ -212,22 +224,13 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
    */
   private int writerTaskSequenceCounter;
   /**
-   * a private class that will hold the data for blocklets
+   * ring buffer which hands over the blocklets from producers to the writers in order
    */
-  private BlockletDataHolder blockletDataHolder;
-  /**
-   * a private class which will take each blocklet in order and write to a file
-   */
-  private Consumer consumer;
+  private BlockletRingBuffer blockletRingBuffer;
   /**
    * number of cores configured
    */
   private int numberOfCores;
-  /**
-   * integer that will be incremented for every new blocklet submitted to producer for processing
-   * the data and decremented every time consumer fetches the blocklet for writing
-   */
-  private AtomicInteger blockletProcessingCount;
   /**
    * flag to check whether all blocklets have been finished writing
    */
@@ -266,6 +269,24 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
    * Segment properties
    */
   private SegmentProperties segmentProperties;
+
+  /**
+   * codec used to compress each measure
+   */
+  private CompressionCodec[] measureCompressionCodec;
+  /**
+   * whether measure pages are encoded with adaptive page encoding
+   */
+  private boolean isAdaptivePageEncodingEnabled;
+  /**
+   * block index of each no dictionary column, -1 if bloom filter is not
+   * configured for the column. null if no column has bloom filter
+   */
+  private int[] bloomFilterBlockIndexes;
+  /**
+   * false positive probability of the bloom filters
+   */
+  private double bloomFilterFpp;
   /**
    * flag to check for compaction flow
    */
@@ -366,7 +387,13 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
         .getCarbonTable(databaseName + CarbonCommonConstants.UNDERSCORE + tableName);
     dimensionType =
         CarbonUtil.identifyDimensionType(carbonTable.getDimensionByTableName(tableName));
+    this.measureCompressionCodec = getMeasureCompressionCodec(carbonTable);
+    this.bloomFilterBlockIndexes = getBloomFilterBlockIndexes(carbonTable);
+    this.bloomFilterFpp = getBloomFilterFpp();
 
+    this.isAdaptivePageEncodingEnabled = Boolean.parseBoolean(CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.ENABLE_ADAPTIVE_PAGE_ENCODING,
+            CarbonCommonConstants.ENABLE_ADAPTIVE_PAGE_ENCODING_DEFAULT_VAL));
     this.compactionFlow = carbonFactDataHandlerModel.isCompactionFlow();
     // in compaction flow the measure with decimal type will come as spark decimal.
     // need to convert it to byte array.
@@ -394,17 +421,27 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
       }
     }
 
-    blockletProcessingCount = new AtomicInteger(0);
+    try {
+      numberOfDataWriters = Integer.parseInt(CarbonProperties.getInstance()
+          .getProperty(CarbonCommonConstants.NUMBER_OF_DATA_WRITERS,
+              CarbonCommonConstants.NUMBER_OF_DATA_WRITERS_DEFAULT_VAL));
+    } catch (NumberFormatException exc) {
+      LOGGER.error("Configured value for property " + CarbonCommonConstants.NUMBER_OF_DATA_WRITERS
+          + "is wrong.Falling back to the default value "
+          + CarbonCommonConstants.NUMBER_OF_DATA_WRITERS_DEFAULT_VAL);
+      numberOfDataWriters =
+          Integer.parseInt(CarbonCommonConstants.NUMBER_OF_DATA_WRITERS_DEFAULT_VAL);
+    }
+    numberOfDataWriters = Math.max(1, numberOfDataWriters);
+
     producerExecutorService = Executors.newFixedThreadPool(numberOfCores);
     producerExecutorServiceTaskList =
         new ArrayList<>(CarbonCommonConstants.DEFAULT_COLLECTION_SIZE);
     LOGGER.info("Initializing writer executors");
-    consumerExecutorService = Executors.newFixedThreadPool(1);
-    consumerExecutorServiceTaskList = new ArrayList<>(1);
+    consumerExecutorService = Executors.newFixedThreadPool(numberOfDataWriters);
+    consumerExecutorServiceTaskList = new ArrayList<>(numberOfDataWriters);
     semaphore = new Semaphore(numberOfCores);
-    blockletDataHolder = new BlockletDataHolder();
-    consumer = new Consumer(blockletDataHolder);
-    consumerExecutorServiceTaskList.add(consumerExecutorService.submit(consumer));
+    blockletRingBuffer = new BlockletRingBuffer(2 * (numberOfCores + numberOfDataWriters));
   }
 
   private boolean[] arrangeUniqueBlockType(boolean[] aggKeyBlock) {
@@ -446,6 +483,11 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
     fileManager = new FileManager();
     fileManager.setName(new File(this.storeLocation).getName());
     setWritingConfiguration();
+    // each writer takes every numberOfDataWriters'th blocklet, so the blocklets of each
+    // data file are still in sorted order
+    for (int i = 0; i < numberOfDataWriters; i++) {
+      consumerExecutorServiceTaskList.add(consumerExecutorService.submit(new Consumer(i)));
+    }
   }
 
   /**
@@ -462,10 +504,11 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
     // this to leaf node file and update the intermediate files
     if (this.entryCount == this.blockletSize) {
       try {
+        long waitStart = System.nanoTime();
         semaphore.acquire();
+        blockletRingBuffer.addProducerStallNanos(System.nanoTime() - waitStart);
         producerExecutorServiceTaskList.add(producerExecutorService
-            .submit(new Producer(blockletDataHolder, dataRows, ++writerTaskSequenceCounter)));
-        blockletProcessingCount.incrementAndGet();
+            .submit(new Producer(dataRows, ++writerTaskSequenceCounter)));
         // set the entry count to zero
         processedDataCount += entryCount;
         LOGGER.info("Total Number Of records added to store: " + processedDataCount);
@@ -480,47 +523,12 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
 
   // TODO remove after kettle flow is removed
   private NodeHolder processDataRows(List<Object[]> dataRows) throws CarbonDataWriterException {
-    Object[] max = new Object[measureCount];
-    Object[] min = new Object[measureCount];
-    int[] decimal = new int[measureCount];
-    Object[] uniqueValue = new Object[measureCount];
-    // to store index of the measure columns which are null
-    BitSet[] nullValueIndexBitSet = getMeasureNullValueIndexBitSet(measureCount);
-    for (int i = 0; i < max.length; i++) {
-      if (type[i] == CarbonCommonConstants.BIG_INT_MEASURE) {
-        max[i] = Long.MIN_VALUE;
-      } else if (type[i] == CarbonCommonConstants.SUM_COUNT_VALUE_MEASURE) {
-        max[i] = -Double.MAX_VALUE;
-      } else if (type[i] == CarbonCommonConstants.BIG_DECIMAL_MEASURE) {
-        max[i] = new BigDecimal(0.0);
-      } else {
-        max[i] = 0.0;
-      }
-    }
-    for (int i = 0; i < min.length; i++) {
-      if (type[i] == CarbonCommonConstants.BIG_INT_MEASURE) {
-        min[i] = Long.MAX_VALUE;
-        uniqueValue[i] = Long.MIN_VALUE;
-      } else if (type[i] == CarbonCommonConstants.SUM_COUNT_VALUE_MEASURE) {
-        min[i] = Double.MAX_VALUE;
-        uniqueValue[i] = Double.MIN_VALUE;
-      } else if (type[i] == CarbonCommonConstants.BIG_DECIMAL_MEASURE) {
-        min[i] = new BigDecimal(Double.MAX_VALUE);
-        uniqueValue[i] = new BigDecimal(Double.MIN_VALUE);
-      } else {
-        min[i] = 0.0;
-        uniqueValue[i] = 0.0;
-      }
-    }
-    for (int i = 0; i < decimal.length; i++) {
-      decimal[i] = 0;
-    }
+    MeasurePageBuilder[] measurePages = createMeasurePageBuilders(dataRows.size());
 
     byte[] startKey = null;
     byte[] endKey = null;
     byte[] noDictStartKey = null;
     byte[] noDictEndKey = null;
-    CarbonWriteDataHolder[] dataHolder = initialiseDataHolder(dataRows.size());
     CarbonWriteDataHolder keyDataHolder = initialiseKeyBlockHolder(dataRows.size());
     CarbonWriteDataHolder noDictionaryKeyDataHolder = null;
     if ((noDictionaryCount + complexColCount) > 0) {
@@ -534,8 +542,6 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
       if (noDictionaryCount > 0 || complexIndexMap.size() > 0) {
         noDictionaryKey = (byte[]) row[this.mdKeyIndex - 1];
       }
-      ByteBuffer byteBuffer = null;
-      byte[] b = null;
       if (count == 0) {
         startKey = mdKey;
         noDictStartKey = noDictionaryKey;
@@ -552,112 +558,37 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
       }
       //Add all columns to keyDataHolder
       keyDataHolder.setWritableByteArrayValueByIndex(count, this.mdKeyIndex, row);
-      // CHECKSTYLE:OFF Approval No:Approval-351
-      for (int k = 0; k < otherMeasureIndex.length; k++) {
-        if (type[otherMeasureIndex[k]] == CarbonCommonConstants.BIG_INT_MEASURE) {
-          if (null == row[otherMeasureIndex[k]]) {
-            nullValueIndexBitSet[otherMeasureIndex[k]].set(count);
-            dataHolder[otherMeasureIndex[k]].setWritableLongValueByIndex(count, 0L);
-          } else {
-            dataHolder[otherMeasureIndex[k]]
-                .setWritableLongValueByIndex(count, row[otherMeasureIndex[k]]);
-          }
-        } else {
-          if (null == row[otherMeasureIndex[k]]) {
-            nullValueIndexBitSet[otherMeasureIndex[k]].set(count);
-            dataHolder[otherMeasureIndex[k]].setWritableDoubleValueByIndex(count, 0.0);
-          } else {
-            dataHolder[otherMeasureIndex[k]]
-                .setWritableDoubleValueByIndex(count, row[otherMeasureIndex[k]]);
-          }
-        }
-      }
-      calculateMaxMin(max, min, decimal, otherMeasureIndex, row);
-      for (int i = 0; i < customMeasureIndex.length; i++) {
-        if (null == row[customMeasureIndex[i]]
-            && type[customMeasureIndex[i]] == CarbonCommonConstants.BIG_DECIMAL_MEASURE) {
-          BigDecimal val = BigDecimal.valueOf(0);
-          b = DataTypeUtil.bigDecimalToByte(val);
-          nullValueIndexBitSet[customMeasureIndex[i]].set(count);
-        } else {
-          if (this.compactionFlow) {
-            BigDecimal bigDecimal = ((Decimal) row[customMeasureIndex[i]]).toJavaBigDecimal();
-            b = DataTypeUtil.bigDecimalToByte(bigDecimal);
-          } else {
-            b = (byte[]) row[customMeasureIndex[i]];
-          }
-        }
-        byteBuffer = ByteBuffer.allocate(b.length + CarbonCommonConstants.INT_SIZE_IN_BYTE);
-        byteBuffer.putInt(b.length);
-        byteBuffer.put(b);
-        byteBuffer.flip();
-        b = byteBuffer.array();
-        dataHolder[customMeasureIndex[i]].setWritableByteArrayValueByIndex(count, b);
-      }
-      calculateMaxMin(max, min, decimal, customMeasureIndex, row);
+      addMeasuresToPages(measurePages, row);
     }
-    calculateUniqueValue(min, uniqueValue);
     byte[][] byteArrayValues = keyDataHolder.getByteArrayValues().clone();
     byte[][] noDictionaryValueHolder = null;
     if ((noDictionaryCount + complexColCount) > 0) {
       noDictionaryValueHolder = noDictionaryKeyDataHolder.getByteArrayValues();
     }
-    ValueCompressionModel compressionModel = ValueCompressionUtil
-        .getValueCompressionModel(max, min, decimal, uniqueValue, type, new byte[max.length]);
-    byte[][] writableMeasureDataArray =
-        StoreFactory.createDataStore(compressionModel).getWritableMeasureDataArray(dataHolder)
-            .clone();
+    ValueCompressionModel compressionModel =
+        ValueCompressionUtil.getValueCompressionModel(measurePages, type);
+    compressionModel.setCompressionCodec(measureCompressionCodec);
+    if (isAdaptivePageEncodingEnabled) {
+      compressionModel.setPageEncoding(new MeasurePageEncoding[measureCount]);
+    }
+    byte[][] writableMeasureDataArray = StoreFactory.createDataStore(compressionModel)
+        .getWritableMeasureDataArray(getMeasureDataHolders(measurePages)).clone();
     NodeHolder nodeHolder =
         getNodeHolderObject(writableMeasureDataArray, byteArrayValues, dataRows.size(), startKey,
             endKey, compressionModel, noDictionaryValueHolder, noDictStartKey, noDictEndKey);
-    nodeHolder.setMeasureNullValueIndex(nullValueIndexBitSet);
+    nodeHolder.setMeasureNullValueIndex(getMeasureNullValueIndexBitSet(measurePages));
     LOGGER.info("Number Of records processed: " + dataRows.size());
     return nodeHolder;
   }
 
   private NodeHolder processDataRowsWithOutKettle(List<Object[]> dataRows)
       throws CarbonDataWriterException {
-    Object[] max = new Object[measureCount];
-    Object[] min = new Object[measureCount];
-    int[] decimal = new int[measureCount];
-    Object[] uniqueValue = new Object[measureCount];
-    // to store index of the measure columns which are null
-    BitSet[] nullValueIndexBitSet = getMeasureNullValueIndexBitSet(measureCount);
-    for (int i = 0; i < max.length; i++) {
-      if (type[i] == CarbonCommonConstants.BIG_INT_MEASURE) {
-        max[i] = Long.MIN_VALUE;
-      } else if (type[i] == CarbonCommonConstants.SUM_COUNT_VALUE_MEASURE) {
-        max[i] = -Double.MAX_VALUE;
-      } else if (type[i] == CarbonCommonConstants.BIG_DECIMAL_MEASURE) {
-        max[i] = new BigDecimal(0.0);
-      } else {
-        max[i] = 0.0;
-      }
-    }
-    for (int i = 0; i < min.length; i++) {
-      if (type[i] == CarbonCommonConstants.BIG_INT_MEASURE) {
-        min[i] = Long.MAX_VALUE;
-        uniqueValue[i] = Long.MIN_VALUE;
-      } else if (type[i] == CarbonCommonConstants.SUM_COUNT_VALUE_MEASURE) {
-        min[i] = Double.MAX_VALUE;
-        uniqueValue[i] = Double.MIN_VALUE;
-      } else if (type[i] == CarbonCommonConstants.BIG_DECIMAL_MEASURE) {
-        min[i] = new BigDecimal(Double.MAX_VALUE);
-        uniqueValue[i] = new BigDecimal(Double.MIN_VALUE);
-      } else {
-        min[i] = 0.0;
-        uniqueValue[i] = 0.0;
-      }
-    }
-    for (int i = 0; i < decimal.length; i++) {
-      decimal[i] = 0;
-    }
+    MeasurePageBuilder[] measurePages = createMeasurePageBuilders(dataRows.size());
 
     byte[] startKey = null;
     byte[] endKey = null;
     byte[][] noDictStartKey = null;
     byte[][] noDictEndKey = null;
-    CarbonWriteDataHolder[] dataHolder = initialiseDataHolder(dataRows.size());
     CarbonWriteDataHolder keyDataHolder = initialiseKeyBlockHolderWithOutKettle(dataRows.size());
     CarbonWriteDataHolder noDictionaryKeyDataHolder = null;
     if ((noDictionaryCount + complexColCount) > 0) {
@@ -671,8 +602,6 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
       if (noDictionaryCount > 0 || complexIndexMap.size() > 0) {
         noDictionaryKey = (byte[][]) row[this.mdKeyIndex - 1];
       }
-      ByteBuffer byteBuffer = null;
-      byte[] b = null;
       if (count == 0) {
         startKey = mdKey;
         noDictStartKey = noDictionaryKey;
@@ -688,65 +617,26 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
         noDictionaryKeyDataHolder.setWritableNonDictByteArrayValueByIndex(count, noDictionaryKey);
       }
 
-      for (int k = 0; k < otherMeasureIndex.length; k++) {
-        if (type[otherMeasureIndex[k]] == CarbonCommonConstants.BIG_INT_MEASURE) {
-          if (null == row[otherMeasureIndex[k]]) {
-            nullValueIndexBitSet[otherMeasureIndex[k]].set(count);
-            dataHolder[otherMeasureIndex[k]].setWritableLongValueByIndex(count, 0L);
-          } else {
-            dataHolder[otherMeasureIndex[k]]
-                .setWritableLongValueByIndex(count, row[otherMeasureIndex[k]]);
-          }
-        } else {
-          if (null == row[otherMeasureIndex[k]]) {
-            nullValueIndexBitSet[otherMeasureIndex[k]].set(count);
-            dataHolder[otherMeasureIndex[k]].setWritableDoubleValueByIndex(count, 0.0);
-          } else {
-            dataHolder[otherMeasureIndex[k]]
-                .setWritableDoubleValueByIndex(count, row[otherMeasureIndex[k]]);
-          }
-        }
-      }
-      calculateMaxMin(max, min, decimal, otherMeasureIndex, row);
-      for (int i = 0; i < customMeasureIndex.length; i++) {
-        if (null == row[customMeasureIndex[i]]
-            && type[customMeasureIndex[i]] == CarbonCommonConstants.BIG_DECIMAL_MEASURE) {
-          BigDecimal val = BigDecimal.valueOf(0);
-          b = DataTypeUtil.bigDecimalToByte(val);
-          nullValueIndexBitSet[customMeasureIndex[i]].set(count);
-        } else {
-          if (this.compactionFlow) {
-            BigDecimal bigDecimal = ((Decimal) row[customMeasureIndex[i]]).toJavaBigDecimal();
-            b = DataTypeUtil.bigDecimalToByte(bigDecimal);
-          } else {
-            b = (byte[]) row[customMeasureIndex[i]];
-          }
-        }
-        byteBuffer = ByteBuffer.allocate(b.length + CarbonCommonConstants.INT_SIZE_IN_BYTE);
-        byteBuffer.putInt(b.length);
-        byteBuffer.put(b);
-        byteBuffer.flip();
-        b = byteBuffer.array();
-        dataHolder[customMeasureIndex[i]].setWritableByteArrayValueByIndex(count, b);
-      }
-      calculateMaxMin(max, min, decimal, customMeasureIndex, row);
+      addMeasuresToPages(measurePages, row);
     }
-    calculateUniqueValue(min, uniqueValue);
     byte[][] byteArrayValues = keyDataHolder.getByteArrayValues().clone();
     byte[][][] noDictionaryValueHolder = null;
     if ((noDictionaryCount + complexColCount) > 0) {
       noDictionaryValueHolder = noDictionaryKeyDataHolder.getNonDictByteArrayValues();
     }
-    ValueCompressionModel compressionModel = ValueCompressionUtil
-        .getValueCompressionModel(max, min, decimal, uniqueValue, type, new byte[max.length]);
-    byte[][] writableMeasureDataArray =
-        StoreFactory.createDataStore(compressionModel).getWritableMeasureDataArray(dataHolder)
-            .clone();
+    ValueCompressionModel compressionModel =
+        ValueCompressionUtil.getValueCompressionModel(measurePages, type);
+    compressionModel.setCompressionCodec(measureCompressionCodec);
+    if (isAdaptivePageEncodingEnabled) {
+      compressionModel.setPageEncoding(new MeasurePageEncoding[measureCount]);
+    }
+    byte[][] writableMeasureDataArray = StoreFactory.createDataStore(compressionModel)
+        .getWritableMeasureDataArray(getMeasureDataHolders(measurePages)).clone();
     NodeHolder nodeHolder =
         getNodeHolderObjectWithOutKettle(writableMeasureDataArray, byteArrayValues, dataRows.size(),
             startKey, endKey, compressionModel, noDictionaryValueHolder, noDictStartKey,
             noDictEndKey);
-    nodeHolder.setMeasureNullValueIndex(nullValueIndexBitSet);
+    nodeHolder.setMeasureNullValueIndex(getMeasureNullValueIndexBitSet(measurePages));
     LOGGER.info("Number Of records processed: " + dataRows.size());
     return nodeHolder;
   }
@@ -829,6 +719,7 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
         }
       }
     }
+    List<BlockletBloomFilter> bloomFilters = createBloomFilters(noDictionaryColumnsData);
     thread_pool_size = Integer.parseInt(CarbonProperties.getInstance()
         .getProperty(CarbonCommonConstants.NUM_CORES_BLOCK_SORT,
             CarbonCommonConstants.NUM_CORES_BLOCK_SORT_DEFAULT_VAL));
@@ -874,9 +765,11 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
     } catch (Exception e) {
       LOGGER.error(e, e.getMessage());
     }
-    return this.dataWriter
+    NodeHolder nodeHolder = this.dataWriter
         .buildDataNodeHolder(blockStorage, dataHolderLocal, entryCountLocal, startkeyLocal,
             endKeyLocal, compressionModel, noDictionaryStartKey, noDictionaryEndKey);
+    nodeHolder.setBloomFilters(bloomFilters);
+    return nodeHolder;
   }
 
   private NodeHolder getNodeHolderObjectWithOutKettle(byte[][] dataHolderLocal,
@@ -956,6 +849,7 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
         }
       }
     }
+    List<BlockletBloomFilter> bloomFilters = createBloomFilters(noDictionaryColumnsData);
     thread_pool_size = Integer.parseInt(CarbonProperties.getInstance()
         .getProperty(CarbonCommonConstants.NUM_CORES_BLOCK_SORT,
             CarbonCommonConstants.NUM_CORES_BLOCK_SORT_DEFAULT_VAL));
@@ -1009,9 +903,11 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
       composedNonDictEndKey =
           RemoveDictionaryUtil.packByteBufferIntoSingleByteArray(noDictionaryEndKey);
     }
-    return this.dataWriter
+    NodeHolder nodeHolder = this.dataWriter
         .buildDataNodeHolder(blockStorage, dataHolderLocal, entryCountLocal, startkeyLocal,
             endKeyLocal, compressionModel, composedNonDictStartKey, composedNonDictEndKey);
+    nodeHolder.setBloomFilters(bloomFilters);
+    return nodeHolder;
   }
 
 
@@ -1048,12 +944,12 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
     // than 0
     if (this.entryCount > 0) {
       producerExecutorServiceTaskList.add(producerExecutorService
-          .submit(new Producer(blockletDataHolder, dataRows, ++writerTaskSequenceCounter)));
-      blockletProcessingCount.incrementAndGet();
+          .submit(new Producer(dataRows, ++writerTaskSequenceCounter)));
       processedDataCount += entryCount;
     }
     closeWriterExecutionService(producerExecutorService);
     processWriteTaskSubmitList(producerExecutorServiceTaskList);
+    blockletRingBuffer.finish(writerTaskSequenceCounter);
     processingComplete = true;
   }
 
@@ -1140,99 +1036,140 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
    */
   public void closeHandler() throws CarbonDataWriterException {
     if (null != this.dataWriter) {
+      if (!processingComplete) {
+        // writers will finish after writing the blocklets submitted so far
+        blockletRingBuffer.finish(writerTaskSequenceCounter);
+      }
       // wait until all blocklets have been finished writing
-      while (blockletProcessingCount.get() > 0) {
-        try {
-          Thread.sleep(50);
-        } catch (InterruptedException e) {
-          throw new CarbonDataWriterException(e.getMessage());
+      processWriteTaskSubmitList(consumerExecutorServiceTaskList);
+      consumerExecutorService.shutdownNow();
+      LOGGER.info("All blocklets have been finished writing. Blocklet producer stall: "
+          + TimeUnit.NANOSECONDS.toMillis(blockletRingBuffer.getProducerStallNanos())
+          + " ms, writer stall: "
+          + TimeUnit.NANOSECONDS.toMillis(blockletRingBuffer.getConsumerStallNanos()) + " ms");
+      for (int i = 0; i < numberOfDataWriters; i++) {
+        if (dataWriterInitialized[i]) {
+          this.dataWriters[i].writeBlockletInfoToFile();
+          // close all the open stream for both the files
+          this.dataWriters[i].closeWriter();
         }
       }
-      consumerExecutorService.shutdownNow();
-      processWriteTaskSubmitList(consumerExecutorServiceTaskList);
-      this.dataWriter.writeBlockletInfoToFile();
-      LOGGER.info("All blocklets have been finished writing");
-      // close all the open stream for both the files
-      this.dataWriter.closeWriter();
     }
     this.dataWriter = null;
+    this.dataWriters = null;
     this.keyBlockHolder = null;
   }
 
   /**
-   * @param value
-   * @return it return no of value after decimal
+   * Below method will be used to get the codec of each measure, codec set in
+   * the column properties of the measure overrides the codec of the table
+   *
+   * @param carbonTable
+   * @return codec of each measure
    */
-  private int getDecimalCount(double value) {
-    String strValue = BigDecimal.valueOf(Math.abs(value)).toPlainString();
-    int integerPlaces = strValue.indexOf('.');
-    int decimalPlaces = 0;
-    if (-1 != integerPlaces) {
-      decimalPlaces = strValue.length() - integerPlaces - 1;
-    }
-    return decimalPlaces;
+  private CompressionCodec[] getMeasureCompressionCodec(CarbonTable carbonTable) {
+    CompressionCodec[] compressionCodec = new CompressionCodec[measureCount];
+    List<CarbonMeasure> measures = carbonTable.getMeasureByTableName(tableName);
+    for (int i = 0; i < measureCount; i++) {
+      ColumnSchema columnSchema = i < measures.size() ? measures.get(i).getColumnSchema() : null;
+      compressionCodec[i] =
+          CompressorFactory.getCompressionCodec(carbonTable.getCompressionCodec(), columnSchema);
+    }
+    return compressionCodec;
   }
+
   /**
-   * This method will be used to update the max value for each measure
+   * Below method will be used to get the block index of each no dictionary
+   * column for which bloom filter is configured. Blocks are in the same order
+   * as dimension type, column group is stored as one block
+   *
+   * @param carbonTable
+   * @return block index of each no dictionary column, null if bloom filter is
+   * not configured for any column
    */
-  private void calculateMaxMin(Object[] max, Object[] min, int[] decimal, int[] msrIndex,
-      Object[] row) {
-    // Update row level min max
-    for (int i = 0; i < msrIndex.length; i++) {
-      int count = msrIndex[i];
-      if (row[count] != null) {
-        if (type[count] == CarbonCommonConstants.SUM_COUNT_VALUE_MEASURE) {
-          double value = (double) row[count];
-          double maxVal = (double) max[count];
-          double minVal = (double) min[count];
-          max[count] = (maxVal > value ? max[count] : value);
-          min[count] = (minVal < value ? min[count] : value);
-          int num = getDecimalCount(value);
-          decimal[count] = (decimal[count] > num ? decimal[count] : num);
-        } else if (type[count] == CarbonCommonConstants.BIG_INT_MEASURE) {
-          long value = (long) row[count];
-          long maxVal = (long) max[count];
-          long minVal = (long) min[count];
-          max[count] = (maxVal > value ? max[count] : value);
-          min[count] = (minVal < value ? min[count] : value);
-          int num = getDecimalCount(value);
-          decimal[count] = (decimal[count] > num ? decimal[count] : num);
-        } else if (type[count] == CarbonCommonConstants.BIG_DECIMAL_MEASURE) {
-          byte[] buff = null;
-          // in compaction flow the measure with decimal type will come as spark decimal.
-          // need to convert it to byte array.
-          if (this.compactionFlow) {
-            BigDecimal bigDecimal = ((Decimal) row[count]).toJavaBigDecimal();
-            buff = DataTypeUtil.bigDecimalToByte(bigDecimal);
-          } else {
-            buff = (byte[]) row[count];
-          }
-          BigDecimal value = DataTypeUtil.byteToBigDecimal(buff);
-          BigDecimal minVal = (BigDecimal) min[count];
-          min[count] = minVal.min(value);
+  private int[] getBloomFilterBlockIndexes(CarbonTable carbonTable) {
+    if (!carbonTable.hasBloomFilterColumns() || noDictionaryCount == 0) {
+      return null;
+    }
+    int[] blockIndexes = new int[noDictionaryCount];
+    Arrays.fill(blockIndexes, -1);
+    boolean isConfigured = false;
+    Set<Integer> processedColumnGroup = new HashSet<Integer>();
+    int blockIndex = 0;
+    int noDictionaryIndex = 0;
+    for (CarbonDimension dimension : carbonTable.getDimensionByTableName(tableName)) {
+      List<CarbonDimension> childs = dimension.getListOfChildDimensions();
+      // complex dimensions will always be at last
+      if (null != childs && childs.size() > 0) {
+        break;
+      }
+      if (!dimension.isColumnar()) {
+        if (processedColumnGroup.add(dimension.columnGroupId())) {
+          blockIndex++;
+        }
+        continue;
+      }
+      if (!dimension.hasEncoding(Encoding.DICTIONARY) && noDictionaryIndex < noDictionaryCount) {
+        if (carbonTable.isBloomFilterColumn(dimension.getColName())) {
+          blockIndexes[noDictionaryIndex] = blockIndex;
+          isConfigured = true;
         }
+        noDictionaryIndex++;
       }
+      blockIndex++;
     }
+    return isConfigured ? blockIndexes : null;
   }
 
   /**
-   * This method will calculate the unique value which will be used as storage
-   * key for null values of measures
+   * @return false positive probability of the bloom filter configured in
+   * carbon properties
+   */
+  private double getBloomFilterFpp() {
+    String fpp = CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.CARBON_BLOOM_FILTER_FPP,
+            CarbonCommonConstants.CARBON_BLOOM_FILTER_FPP_DEFAULT_VAL);
+    try {
+      double value = Double.parseDouble(fpp);
+      if (value > 0 && value < 1) {
+        return value;
+      }
+    } catch (NumberFormatException e) {
+      // fall back to default value
+    }
+    LOGGER.info("Configured value for property " + CarbonCommonConstants.CARBON_BLOOM_FILTER_FPP
+        + " is wrong.Falling back to the default value "
+        + CarbonCommonConstants.CARBON_BLOOM_FILTER_FPP_DEFAULT_VAL);
+    return Double.parseDouble(CarbonCommonConstants.CARBON_BLOOM_FILTER_FPP_DEFAULT_VAL);
+  }
+
+  /**
+   * Below method will be used to create the bloom filter of the configured no
+   * dictionary columns of the blocklet
    *
-   * @param minValue
-   * @param uniqueValue
+   * @param noDictionaryColumnsData values of each no dictionary column, each
+   *                                value is prefixed with its length
+   * @return bloom filters, null if not configured
    */
-  private void calculateUniqueValue(Object[] minValue, Object[] uniqueValue) {
-    for (int i = 0; i < measureCount; i++) {
-      if (type[i] == CarbonCommonConstants.BIG_INT_MEASURE) {
-        uniqueValue[i] = (long) minValue[i] - 1;
-      } else if (type[i] == CarbonCommonConstants.BIG_DECIMAL_MEASURE) {
-        BigDecimal val = (BigDecimal) minValue[i];
-        uniqueValue[i] = (val.subtract(new BigDecimal(1.0)));
-      } else {
-        uniqueValue[i] = (double) minValue[i] - 1;
+  private List<BlockletBloomFilter> createBloomFilters(byte[][][] noDictionaryColumnsData) {
+    if (null == bloomFilterBlockIndexes || null == noDictionaryColumnsData) {
+      return null;
+    }
+    List<BlockletBloomFilter> bloomFilters = new ArrayList<>();
+    for (int i = 0; i < bloomFilterBlockIndexes.length; i++) {
+      if (bloomFilterBlockIndexes[i] < 0) {
+        continue;
+      }
+      byte[][] columnData = noDictionaryColumnsData[i];
+      BlockletBloomFilter bloomFilter =
+          BlockletBloomFilter.create(bloomFilterBlockIndexes[i], columnData.length, bloomFilterFpp);
+      for (byte[] value : columnData) {
+        // first 2 bytes are the length of the value
+        bloomFilter.add(value, 2, value.length - 2);
       }
+      bloomFilters.add(bloomFilter);
     }
+    return bloomFilters;
   }
 
   /**
@@ -1278,39 +1215,34 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
       this.keyBlockHolder[i].resetCounter();
     }
 
-    // agg type
-    List<Integer> otherMeasureIndexList =
-        new ArrayList<Integer>(CarbonCommonConstants.DEFAULT_COLLECTION_SIZE);
-    List<Integer> customMeasureIndexList =
-        new ArrayList<Integer>(CarbonCommonConstants.DEFAULT_COLLECTION_SIZE);
-    for (int j = 0; j < type.length; j++) {
-      if (type[j] != CarbonCommonConstants.BYTE_VALUE_MEASURE
-          && type[j] != CarbonCommonConstants.BIG_DECIMAL_MEASURE) {
-        otherMeasureIndexList.add(j);
-      } else {
-        customMeasureIndexList.add(j);
-      }
-    }
-    otherMeasureIndex = new int[otherMeasureIndexList.size()];
-    customMeasureIndex = new int[customMeasureIndexList.size()];
-    for (int i = 0; i < otherMeasureIndex.length; i++) {
-      otherMeasureIndex[i] = otherMeasureIndexList.get(i);
-    }
-    for (int i = 0; i < customMeasureIndex.length; i++) {
-      customMeasureIndex[i] = customMeasureIndexList.get(i);
-    }
     setComplexMapSurrogateIndex(this.dimensionCount);
     int[] blockKeySize = getBlockKeySizeWithComplexTypes(new MultiDimKeyVarLengthEquiSplitGenerator(
         CarbonUtil.getIncrementedCardinalityFullyFilled(completeDimLens.clone()), (byte) dimSet)
         .getBlockKeySize());
     System.arraycopy(blockKeySize, noOfColStore, keyBlockSize, noOfColStore,
         blockKeySize.length - noOfColStore);
-    this.dataWriter =
-        getFactDataWriter(this.storeLocation, this.measureCount, this.mdkeyLength, this.tableName,
-            fileManager, keyBlockSize);
-    this.dataWriter.setIsNoDictionary(isNoDictionary);
+    this.dataWriters = new CarbonFactDataWriter[numberOfDataWriters];
+    this.dataWriterInitialized = new boolean[numberOfDataWriters];
+    for (int i = 0; i < numberOfDataWriters; i++) {
+      IFileManagerComposite writerFileManager = fileManager;
+      CarbonDataFileAttributes fileAttributes = carbonDataFileAttributes;
+      if (numberOfDataWriters > 1) {
+        // every writer writes its own data and index files, so each of them gets an
+        // unique task id
+        writerFileManager = new FileManager();
+        writerFileManager.setName(new File(this.storeLocation).getName());
+        fileAttributes = carbonDataFileAttributes
+            .getAttributesOfTask(carbonDataFileAttributes.getTaskId() * numberOfDataWriters + i);
+      }
+      dataWriters[i] =
+          getFactDataWriter(this.storeLocation, this.measureCount, this.mdkeyLength,
+              this.tableName, writerFileManager, keyBlockSize, fileAttributes);
+      dataWriters[i].setIsNoDictionary(isNoDictionary);
+    }
+    this.dataWriter = dataWriters[0];
     // initialize the channel;
     this.dataWriter.initializeWriter();
+    dataWriterInitialized[0] = true;
     //initializeColGrpMinMax();
   }
 
@@ -1361,19 +1293,63 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
     return keyDataHolder;
   }
 
-  private CarbonWriteDataHolder[] initialiseDataHolder(int size) {
-    CarbonWriteDataHolder[] dataHolder = new CarbonWriteDataHolder[this.measureCount];
-    for (int i = 0; i < otherMeasureIndex.length; i++) {
-      dataHolder[otherMeasureIndex[i]] = new CarbonWriteDataHolder();
-      if (type[otherMeasureIndex[i]] == CarbonCommonConstants.BIG_INT_MEASURE) {
-        dataHolder[otherMeasureIndex[i]].initialiseLongValues(size);
-      } else {
-        dataHolder[otherMeasureIndex[i]].initialiseDoubleValues(size);
+  /**
+   * Below method will be used to create the page builder of each measure
+   *
+   * @param pageSize number of rows in the blocklet
+   * @return page builder of each measure
+   */
+  private MeasurePageBuilder[] createMeasurePageBuilders(int pageSize) {
+    MeasurePageBuilder[] measurePages = new MeasurePageBuilder[measureCount];
+    for (int i = 0; i < measureCount; i++) {
+      measurePages[i] = MeasurePageBuilder.newInstance(type[i], pageSize);
+    }
+    return measurePages;
+  }
+
+  /**
+   * Below method will be used to add the measure values of the row to the
+   * page of each measure
+   *
+   * @param measurePages page builder of each measure
+   * @param row          row
+   */
+  private void addMeasuresToPages(MeasurePageBuilder[] measurePages, Object[] row) {
+    for (int i = 0; i < measureCount; i++) {
+      Object value = row[i];
+      if (null == value) {
+        measurePages[i].putNull();
+        continue;
+      }
+      switch (type[i]) {
+        case CarbonCommonConstants.BIG_INT_MEASURE:
+          measurePages[i].putLong((long) value);
+          break;
+        case CarbonCommonConstants.BIG_DECIMAL_MEASURE:
+        case CarbonCommonConstants.BYTE_VALUE_MEASURE:
+          // in compaction flow the measure with decimal type will come as spark decimal.
+          if (this.compactionFlow) {
+            measurePages[i].putDecimal(((Decimal) value).toJavaBigDecimal());
+          } else {
+            measurePages[i].putBytes((byte[]) value);
+          }
+          break;
+        default:
+          measurePages[i].putDouble((double) value);
       }
     }
-    for (int i = 0; i < customMeasureIndex.length; i++) {
-      dataHolder[customMeasureIndex[i]] = new CarbonWriteDataHolder();
-      dataHolder[customMeasureIndex[i]].initialiseByteArrayValues(size);
+  }
+
+  /**
+   * Below method will be used to get the data holder of each measure page
+   *
+   * @param measurePages page builder of each measure
+   * @return data holders
+   */
+  private CarbonWriteDataHolder[] getMeasureDataHolders(MeasurePageBuilder[] measurePages) {
+    CarbonWriteDataHolder[] dataHolder = new CarbonWriteDataHolder[measurePages.length];
+    for (int i = 0; i < measurePages.length; i++) {
+      dataHolder[i] = measurePages[i].getWriteDataHolder();
     }
     return dataHolder;
   }
@@ -1382,25 +1358,23 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
    * Below method will be used to get the bit set array for
    * all the measure, which will store the indexes which are null
    *
-   * @param measureCount
+   * @param measurePages page builder of each measure
    * @return bit set to store null value index
    */
-  private BitSet[] getMeasureNullValueIndexBitSet(int measureCount) {
-    BitSet[] nullvalueIndexBitset = new BitSet[measureCount];
-    // creating a bit set for all the measure column
-    nullvalueIndexBitset = new BitSet[this.measureCount];
-    for (int i = 0; i < nullvalueIndexBitset.length; i++) {
-      // bitset size will be blocklet size
-      nullvalueIndexBitset[i] = new BitSet(this.blockletSize);
-    }
-    return nullvalueIndexBitset;
+  private BitSet[] getMeasureNullValueIndexBitSet(MeasurePageBuilder[] measurePages) {
+    BitSet[] nullValueIndexBitSet = new BitSet[measurePages.length];
+    for (int i = 0; i < measurePages.length; i++) {
+      nullValueIndexBitSet[i] = measurePages[i].getNullBitSet();
+    }
+    return nullValueIndexBitSet;
   }
 
   private CarbonFactDataWriter<?> getFactDataWriter(String storeLocation, int measureCount,
-      int mdKeyLength, String tableName, IFileManagerComposite fileManager, int[] keyBlockSize) {
+      int mdKeyLength, String tableName, IFileManagerComposite fileManager, int[] keyBlockSize,
+      CarbonDataFileAttributes fileAttributes) {
     return new CarbonFactDataWriterImplForIntIndexAndAggBlock(storeLocation, measureCount,
         mdKeyLength, tableName, fileManager, keyBlockSize, aggKeyBlock, isComplexTypes(),
-        noDictionaryCount, carbonDataFileAttributes, databaseName, wrapperColumnSchemaList,
+        noDictionaryCount, fileAttributes, databaseName, wrapperColumnSchemaList,
         noDictionaryCount, dimensionType, carbonDataDirectoryPath, colCardinality,
         segmentProperties, tableBlockSize);
   }
@@ -1429,88 +1403,15 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
     return isComplexType;
   }
 
-  /**
-   * This method will reset the block processing count
-   */
-  private void resetBlockletProcessingCount() {
-    blockletProcessingCount.set(0);
-  }
-
-  /**
-   * This class will hold the holder objects and manage producer and consumer for reading
-   * and writing the blocklet data
-   */
-  private final class BlockletDataHolder {
-    /**
-     * array of blocklet data holder objects
-     */
-    private NodeHolder[] nodeHolders;
-    /**
-     * flag to check whether the producer has completed processing for holder
-     * object which is required to be picked form an index
-     */
-    private AtomicBoolean available;
-    /**
-     * index from which data node holder object needs to be picked for writing
-     */
-    private int currentIndex;
-
-    private BlockletDataHolder() {
-      nodeHolders = new NodeHolder[numberOfCores];
-      available = new AtomicBoolean(false);
-    }
-
-    /**
-     * @return a node holder object
-     * @throws InterruptedException if consumer thread is interrupted
-     */
-    public synchronized NodeHolder get() throws InterruptedException {
-      NodeHolder nodeHolder = nodeHolders[currentIndex];
-      // if node holder is null means producer thread processing the data which has to
-      // be inserted at this current index has not completed yet
-      if (null == nodeHolder && !processingComplete) {
-        available.set(false);
-      }
-      while (!available.get()) {
-        wait();
-      }
-      nodeHolder = nodeHolders[currentIndex];
-      nodeHolders[currentIndex] = null;
-      currentIndex++;
-      // reset current index when it reaches length of node holder array
-      if (currentIndex >= nodeHolders.length) {
-        currentIndex = 0;
-      }
-      return nodeHolder;
-    }
-
-    /**
-     * @param nodeHolder
-     * @param index
-     */
-    public synchronized void put(NodeHolder nodeHolder, int index) {
-      nodeHolders[index] = nodeHolder;
-      // notify the consumer thread when index at which object is to be inserted
-      // becomes equal to current index from where data has to be picked for writing
-      if (index == currentIndex) {
-        available.set(true);
-        notifyAll();
-      }
-    }
-  }
-
   /**
    * Producer which will process data equivalent to 1 blocklet size
    */
   private final class Producer implements Callable<Void> {
 
-    private BlockletDataHolder blockletDataHolder;
     private List<Object[]> dataRows;
     private int sequenceNumber;
 
-    private Producer(BlockletDataHolder blockletDataHolder, List<Object[]> dataRows,
-        int sequenceNumber) {
-      this.blockletDataHolder = blockletDataHolder;
+    private Producer(List<Object[]> dataRows, int sequenceNumber) {
       this.dataRows = dataRows;
       this.sequenceNumber = sequenceNumber;
     }
@@ -1529,27 +1430,30 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
         } else {
           nodeHolder = processDataRowsWithOutKettle(dataRows);
         }
-        // insert the object in array according to sequence number
-        int indexInNodeHolderArray = (sequenceNumber - 1) % numberOfCores;
-        blockletDataHolder.put(nodeHolder, indexInNodeHolderArray);
+        // insert the object in ring buffer according to sequence number
+        blockletRingBuffer.put(sequenceNumber - 1, nodeHolder);
         return null;
       } catch (Throwable throwable) {
+        blockletRingBuffer.abort();
         consumerExecutorService.shutdownNow();
-        resetBlockletProcessingCount();
         throw new CarbonDataWriterException(throwable.getMessage(), throwable);
       }
     }
   }
 
   /**
-   * Consumer class will get one blocklet data at a time and submit for writing
+   * Consumer class will get the blocklets of one writer in order and write them to its
+   * data file. Writer i gets the blocklets i, i + n, i + 2n and so on, so its files are
+   * sorted but each of them covers the key range of all the writers. Contiguous runs of
+   * blocklets are not used as producers complete in sequence order and a run as big as
+   * a file would leave only one writer busy at a time
    */
   private final class Consumer implements Callable<Void> {
 
-    private BlockletDataHolder blockletDataHolder;
+    private int writerIndex;
 
-    private Consumer(BlockletDataHolder blockletDataHolder) {
-      this.blockletDataHolder = blockletDataHolder;
+    private Consumer(int writerIndex) {
+      this.writerIndex = writerIndex;
     }
 
     /**
@@ -1559,23 +1463,25 @@ public class CarbonFactDataHandlerColumnar implements CarbonFactHandler {
      * @throws Exception if unable to compute a result
      */
     @Override public Void call() throws Exception {
-      while (!processingComplete || blockletProcessingCount.get() > 0) {
-        NodeHolder nodeHolder = null;
-        try {
-          nodeHolder = blockletDataHolder.get();
-          if (null != nodeHolder) {
-            dataWriter.writeBlockletData(nodeHolder);
-          }
-          blockletProcessingCount.decrementAndGet();
-        } catch (Throwable throwable) {
-          if (!processingComplete || blockletProcessingCount.get() > 0) {
-            producerExecutorService.shutdownNow();
-            resetBlockletProcessingCount();
-            throw new CarbonDataWriterException(throwable.getMessage(), throwable);
+      long sequence = writerIndex;
+      try {
+        NodeHolder nodeHolder;
+        while ((nodeHolder = blockletRingBuffer.take(sequence)) != null) {
+          try {
+            if (!dataWriterInitialized[writerIndex]) {
+              dataWriters[writerIndex].initializeWriter();
+              dataWriterInitialized[writerIndex] = true;
+            }
+            dataWriters[writerIndex].writeBlockletData(nodeHolder);
+          } finally {
+            semaphore.release();
           }
-        } finally {
-          semaphore.release();
+          sequence += numberOfDataWriters;
         }
+      } catch (Throwable throwable) {
+        blockletRingBuffer.abort();
+        producerExecutorService.shutdownNow();
+        throw new CarbonDataWriterException(throwable.getMessage(), throwable);
       }
       return null;
     }
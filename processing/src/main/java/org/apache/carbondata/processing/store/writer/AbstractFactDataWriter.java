@@ -30,6 +30,7 @@ import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -41,6 +42,7 @@ import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.core.carbon.datastore.block.SegmentProperties;
 import org.apache.carbondata.core.carbon.metadata.CarbonMetadata;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
 import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBTreeIndex;
 import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletIndex;
 import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletMinMaxIndex;
@@ -52,6 +54,7 @@ import org.apache.carbondata.core.carbon.metadata.schema.table.column.ColumnSche
 import org.apache.carbondata.core.carbon.path.CarbonStorePath;
 import org.apache.carbondata.core.carbon.path.CarbonTablePath;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.filesystem.CarbonFile;
 import org.apache.carbondata.core.datastorage.store.impl.FileFactory;
 import org.apache.carbondata.core.metadata.BlockletInfoColumnar;
@@ -62,6 +65,7 @@ import org.apache.carbondata.core.util.CarbonProperties;
 import org.apache.carbondata.core.util.CarbonUtil;
 import org.apache.carbondata.core.writer.CarbonFooterWriter;
 import org.apache.carbondata.core.writer.CarbonIndexFileWriter;
+import org.apache.carbondata.core.writer.CarbonIndexMapFileWriter;
 import org.apache.carbondata.format.BlockIndex;
 import org.apache.carbondata.format.FileFooter;
 import org.apache.carbondata.format.IndexHeader;
@@ -173,6 +177,18 @@ public abstract class AbstractFactDataWriter<T> implements CarbonFactDataWriter<
   private FileOutputStream fileOutputStream;
 
   private SegmentProperties segmentProperties;
+  /**
+   * wrapper column schema of the table, used to get the column properties
+   */
+  private List<ColumnSchema> wrapperColumnSchemaList;
+  /**
+   * codec of the table, codec set in column properties overrides it
+   */
+  private CompressionCodec tableCompressionCodec;
+  /**
+   * codec of each key block, it will be same for all the blocklets
+   */
+  private CompressionCodec[] keyBlockCompressionCodec;
 
   private List<BlockIndexInfo> blockIndexInfoList;
 
@@ -218,6 +234,8 @@ public abstract class AbstractFactDataWriter<T> implements CarbonFactDataWriter<
         .getCarbonTable(databaseName + CarbonCommonConstants.UNDERSCORE + tableName);
     carbonTablePath =
         CarbonStorePath.getCarbonTablePath(storeLocation, carbonTable.getCarbonTableIdentifier());
+    this.tableCompressionCodec = carbonTable.getCompressionCodec();
+    this.wrapperColumnSchemaList = columnSchema;
     //TODO: We should delete the levelmetadata file after reading here.
     // so only data loading flow will need to read from cardinality file.
     if (null == this.localCardinality) {
@@ -235,6 +253,35 @@ public abstract class AbstractFactDataWriter<T> implements CarbonFactDataWriter<
     }
   }
 
+  /**
+   * Below method will be used to get the codec of each key block. Codec set
+   * in the column properties overrides the table codec, column group blocks
+   * always use the table codec
+   *
+   * @param numberOfKeyBlocks number of key blocks
+   * @return codec of each key block
+   */
+  protected CompressionCodec[] getKeyBlockCompressionCodec(int numberOfKeyBlocks) {
+    if (null != keyBlockCompressionCodec && keyBlockCompressionCodec.length == numberOfKeyBlocks) {
+      return keyBlockCompressionCodec;
+    }
+    CompressionCodec[] compressionCodec = new CompressionCodec[numberOfKeyBlocks];
+    for (int i = 0; i < numberOfKeyBlocks; i++) {
+      compressionCodec[i] = tableCompressionCodec;
+      Set<Integer> dimOrdinals =
+          null == segmentProperties ? null : segmentProperties.getDimensionOrdinalForBlock(i);
+      if (null != dimOrdinals && dimOrdinals.size() == 1) {
+        int dimOrdinal = dimOrdinals.iterator().next();
+        if (dimOrdinal < wrapperColumnSchemaList.size()) {
+          compressionCodec[i] = CompressorFactory
+              .getCompressionCodec(tableCompressionCodec, wrapperColumnSchemaList.get(dimOrdinal));
+        }
+      }
+    }
+    keyBlockCompressionCodec = compressionCodec;
+    return compressionCodec;
+  }
+
   /**
    * This method will return max of block size and file size
    *
@@ -459,6 +506,7 @@ public abstract class AbstractFactDataWriter<T> implements CarbonFactDataWriter<
     //add column min max data
     infoObj.setColumnMaxData(nodeHolder.getColumnMaxData());
     infoObj.setColumnMinData(nodeHolder.getColumnMinData());
+    infoObj.setBloomFilters(nodeHolder.getBloomFilters());
     infoObj.setMeasureNullValueIndex(nodeHolder.getMeasureNullValueIndex());
     long[] keyOffSets = new long[nodeHolder.getKeyLengths().length];
 
@@ -495,6 +543,7 @@ public abstract class AbstractFactDataWriter<T> implements CarbonFactDataWriter<
     // set end key
     infoObj.setEndKey(nodeHolder.getEndKey());
     infoObj.setCompressionModel(nodeHolder.getCompressionModel());
+    infoObj.setKeyBlockCompressionCodec(nodeHolder.getKeyBlockCompressionCodec());
     // return leaf metadata
     return infoObj;
   }
@@ -543,6 +592,14 @@ public abstract class AbstractFactDataWriter<T> implements CarbonFactDataWriter<
     writer.close();
     // copy from temp to actual store location
     copyCarbonDataFileToCarbonStorePath(fileName);
+    if (Boolean.parseBoolean(CarbonProperties.getInstance()
+        .getProperty(CarbonCommonConstants.CARBON_INDEX_MAP_FILE_ENABLE,
+            CarbonCommonConstants.CARBON_INDEX_MAP_FILE_ENABLE_DEFAULT))) {
+      // write the same indexes in memory mappable layout
+      String indexMapFileName = CarbonTablePath.getCarbonIndexMapFilePath(fileName);
+      new CarbonIndexMapFileWriter().writeIndexMapFile(indexMapFileName, blockIndexInfoList);
+      copyCarbonDataFileToCarbonStorePath(indexMapFileName);
+    }
   }
 
   /**
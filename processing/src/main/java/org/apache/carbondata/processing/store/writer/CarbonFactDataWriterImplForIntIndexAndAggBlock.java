@@ -27,10 +27,11 @@ import java.util.List;
 import org.apache.carbondata.common.logging.LogService;
 import org.apache.carbondata.common.logging.LogServiceFactory;
 import org.apache.carbondata.core.carbon.datastore.block.SegmentProperties;
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
 import org.apache.carbondata.core.carbon.metadata.schema.table.column.ColumnSchema;
 import org.apache.carbondata.core.constants.CarbonCommonConstants;
 import org.apache.carbondata.core.datastorage.store.columnar.IndexStorage;
-import org.apache.carbondata.core.datastorage.store.compression.SnappyCompression.SnappyByteCompression;
+import org.apache.carbondata.core.datastorage.store.compression.CompressorFactory;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 import org.apache.carbondata.core.keygenerator.mdkey.NumberCompressor;
 import org.apache.carbondata.core.metadata.BlockletInfoColumnar;
@@ -99,7 +100,10 @@ public class CarbonFactDataWriterImplForIntIndexAndAggBlock extends AbstractFact
 
     byte[][] allMinValue = new byte[keyStorageArray.length][];
     byte[][] allMaxValue = new byte[keyStorageArray.length][];
-    byte[][] keyBlockData = fillAndCompressedKeyBlockData(keyStorageArray, entryCount);
+    CompressionCodec[] keyBlockCompressionCodec =
+        getKeyBlockCompressionCodec(keyStorageArray.length);
+    byte[][] keyBlockData =
+        fillAndCompressedKeyBlockData(keyStorageArray, entryCount, keyBlockCompressionCodec);
     boolean[] colGrpBlock = new boolean[keyStorageArray.length];
 
     for (int i = 0; i < keyLengths.length; i++) {
@@ -235,6 +239,7 @@ public class CarbonFactDataWriterImplForIntIndexAndAggBlock extends AbstractFact
     holder.setDataIndexMapLength(dataIndexMapLength);
     holder.setCompressedDataIndex(compressedDataIndex);
     holder.setCompressionModel(compressionModel);
+    holder.setKeyBlockCompressionCodec(keyBlockCompressionCodec);
     //setting column min max value
     holder.setColumnMaxData(allMaxValue);
     holder.setColumnMinData(allMinValue);
@@ -301,7 +306,7 @@ public class CarbonFactDataWriterImplForIntIndexAndAggBlock extends AbstractFact
   }
 
   protected byte[][] fillAndCompressedKeyBlockData(IndexStorage<int[]>[] keyStorageArray,
-      int entryCount) {
+      int entryCount, CompressionCodec[] keyBlockCompressionCodec) {
     byte[][] keyBlockData = new byte[keyStorageArray.length][];
     int destPos = 0;
     int keyBlockSizePosition = -1;
@@ -346,7 +351,8 @@ public class CarbonFactDataWriterImplForIntIndexAndAggBlock extends AbstractFact
           }
         }
       }
-      keyBlockData[i] = SnappyByteCompression.INSTANCE.compress(keyBlockData[i]);
+      keyBlockData[i] = CompressorFactory.getByteCompressor(keyBlockCompressionCodec[i])
+          .compress(keyBlockData[i]);
     }
     return keyBlockData;
   }
@@ -431,6 +437,7 @@ public class CarbonFactDataWriterImplForIntIndexAndAggBlock extends AbstractFact
     //add column min max length
     info.setColumnMaxData(nodeHolder.getColumnMaxData());
     info.setColumnMinData(nodeHolder.getColumnMinData());
+    info.setBloomFilters(nodeHolder.getBloomFilters());
     long[] keyOffSets = new long[nodeHolder.getKeyLengths().length];
 
     for (int i = 0; i < keyOffSets.length; i++) {
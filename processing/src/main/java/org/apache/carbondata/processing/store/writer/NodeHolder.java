@@ -20,7 +20,10 @@
 package org.apache.carbondata.processing.store.writer;
 
 import java.util.BitSet;
+import java.util.List;
 
+import org.apache.carbondata.core.carbon.metadata.blocklet.compressor.CompressionCodec;
+import org.apache.carbondata.core.carbon.metadata.blocklet.index.BlockletBloomFilter;
 import org.apache.carbondata.core.datastorage.store.compression.ValueCompressionModel;
 
 public class NodeHolder {
@@ -112,6 +115,11 @@ public class NodeHolder {
    */
   private ValueCompressionModel compressionModel;
 
+  /**
+   * codec used to compress each key block
+   */
+  private CompressionCodec[] keyBlockCompressionCodec;
+
   /**
    * array of aggBlocks flag to identify the aggBlocks
    */
@@ -138,6 +146,11 @@ public class NodeHolder {
    */
   private BitSet[] measureNullValueIndex;
 
+  /**
+   * bloom filter of the columns configured by the user, null if not present
+   */
+  private List<BlockletBloomFilter> bloomFilters;
+
   /**
    * @return the keyArray
    */
@@ -380,6 +393,14 @@ public class NodeHolder {
     this.compressionModel = compressionModel;
   }
 
+  public CompressionCodec[] getKeyBlockCompressionCodec() {
+    return keyBlockCompressionCodec;
+  }
+
+  public void setKeyBlockCompressionCodec(CompressionCodec[] keyBlockCompressionCodec) {
+    this.keyBlockCompressionCodec = keyBlockCompressionCodec;
+  }
+
   /**
    * returns array of aggBlocks flag to identify the aag blocks
    *
@@ -453,4 +474,18 @@ public class NodeHolder {
   public void setMeasureNullValueIndex(BitSet[] measureNullValueIndex) {
     this.measureNullValueIndex = measureNullValueIndex;
   }
+
+  /**
+   * @return the bloomFilters
+   */
+  public List<BlockletBloomFilter> getBloomFilters() {
+    return bloomFilters;
+  }
+
+  /**
+   * @param bloomFilters the bloomFilters to set
+   */
+  public void setBloomFilters(List<BlockletBloomFilter> bloomFilters) {
+    this.bloomFilters = bloomFilters;
+  }
 }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.processing.newflow.dictionary;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.carbondata.core.carbon.metadata.datatype.DataType;
+import org.apache.carbondata.core.carbon.metadata.encoder.Encoding;
+import org.apache.carbondata.core.carbon.metadata.schema.table.CarbonTable;
+import org.apache.carbondata.core.carbon.metadata.schema.table.TableInfo;
+import org.apache.carbondata.core.carbon.metadata.schema.table.TableSchema;
+import org.apache.carbondata.core.carbon.metadata.schema.table.column.ColumnSchema;
+import org.apache.carbondata.core.dictionary.client.DictionaryClient;
+import org.apache.carbondata.core.dictionary.generator.TableDictionaryGenerator;
+import org.apache.carbondata.core.dictionary.server.DictionaryServer;
+import org.apache.carbondata.core.util.CarbonUtilException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DictionaryServerClientDictionaryTest {
+
+  private String columnId = UUID.randomUUID().toString();
+
+  private AtomicInteger requestCount = new AtomicInteger();
+
+  private DictionaryServer server;
+
+  private DictionaryClient client;
+
+  @Before public void setUp() throws IOException {
+    CarbonTable carbonTable = new CarbonTable();
+    carbonTable.loadCarbonTable(getTableInfo());
+    server = new DictionaryServer(new TableDictionaryGenerator(carbonTable) {
+      @Override public int[] generateKeys(String columnId, String[] values)
+          throws CarbonUtilException {
+        requestCount.incrementAndGet();
+        return super.generateKeys(columnId, values);
+      }
+    }, "token");
+    server.start("localhost", 0);
+    client = new DictionaryClient("localhost", server.getPort(), "token");
+  }
+
+  @After public void tearDown() throws IOException {
+    client.close();
+    server.shutdown();
+  }
+
+  /**
+   * new values of a batch are requested from server together and only once
+   */
+  @Test public void testNewValuesOfBatchAreRequestedTogether() throws Exception {
+    DictionaryServerClientDictionary dictionary =
+        new DictionaryServerClientDictionary(null, client, columnId);
+    dictionary.generateKeys(Arrays.<Object>asList("a", "b", "a", "c"));
+    Assert.assertEquals(1, requestCount.get());
+    Assert.assertEquals(Integer.valueOf(2), dictionary.getOrGenerateKey("a"));
+    Assert.assertEquals(Integer.valueOf(3), dictionary.getOrGenerateKey("b"));
+    Assert.assertEquals(Integer.valueOf(4), dictionary.getOrGenerateKey("c"));
+    Assert.assertEquals(1, requestCount.get());
+
+    // only the unknown value of the next batch is requested
+    dictionary.generateKeys(Arrays.<Object>asList("b", "d"));
+    Assert.assertEquals(2, requestCount.get());
+    dictionary.generateKeys(Arrays.<Object>asList("a", "d"));
+    Assert.assertEquals(2, requestCount.get());
+    Assert.assertEquals(5, dictionary.size());
+  }
+
+  @Test public void testValueOfGeneratedKey() throws Exception {
+    DictionaryServerClientDictionary dictionary =
+        new DictionaryServerClientDictionary(null, client, columnId);
+    dictionary.generateKeys(Arrays.<Object>asList("a", "b"));
+    Assert.assertEquals("b", dictionary.getValue(dictionary.getKey("b")));
+    Assert.assertNull(dictionary.getValue(100));
+  }
+
+  private ColumnSchema getDictionaryColumn() {
+    ColumnSchema column = new ColumnSchema();
+    column.setColumnar(true);
+    column.setColumnName("name");
+    column.setColumnUniqueId(columnId);
+    column.setDataType(DataType.STRING);
+    column.setDimensionColumn(true);
+    List<Encoding> encodeList = new ArrayList<Encoding>();
+    encodeList.add(Encoding.DICTIONARY);
+    column.setEncodingList(encodeList);
+    column.setNumberOfChild(0);
+    return column;
+  }
+
+  private TableInfo getTableInfo() {
+    TableSchema tableSchema = new TableSchema();
+    List<ColumnSchema> columnSchemaList = new ArrayList<ColumnSchema>();
+    columnSchemaList.add(getDictionaryColumn());
+    tableSchema.setListOfColumns(columnSchemaList);
+    tableSchema.setTableId(UUID.randomUUID().toString());
+    tableSchema.setTableName("clientDictionaryTable");
+    TableInfo info = new TableInfo();
+    info.setDatabaseName("clientDictionaryDatabase");
+    info.setLastUpdatedTime(System.currentTimeMillis());
+    info.setTableUniqueName("clientDictionaryDatabase_clientDictionaryTable");
+    info.setFactTable(tableSchema);
+    info.setStorePath(System.getProperty("java.io.tmpdir") + "/clientDictionaryStore");
+    return info;
+  }
+}
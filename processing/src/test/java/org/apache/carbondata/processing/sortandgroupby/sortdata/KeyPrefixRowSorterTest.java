@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.processing.sortandgroupby.sortdata;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class to check key prefix sort gives same order as comparator sort
+ */
+public class KeyPrefixRowSorterTest {
+
+  private Random random = new Random(7);
+
+  @Test public void testDictionaryDimensions() {
+    SortParameters parameters = createParameters(new boolean[] { false, false, false });
+    // cardinality of 3 dimensions needs more than one word
+    int[] cardinality = new int[] { 5, Integer.MAX_VALUE, 1000 };
+    Object[][] rows = new Object[5000][];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = new Object[] { random.nextInt(cardinality[0]), random.nextInt(cardinality[1]),
+          random.nextInt(cardinality[2]), (double) i };
+    }
+    assertSameOrder(parameters, rows, new NewRowComparatorForNormalDims(3));
+  }
+
+  @Test public void testNoDictionaryDimensions() {
+    boolean[] noDictionaryMapping = new boolean[] { false, true, false };
+    SortParameters parameters = createParameters(noDictionaryMapping);
+    String[] values = new String[] { "", "a", "ab", "abcdefgh", "abcdefghi", "abcdefghj", "b" };
+    Object[][] rows = new Object[3000][];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = new Object[] { random.nextInt(4),
+          values[random.nextInt(values.length)].getBytes(), random.nextInt(3), (double) i };
+    }
+    assertSameOrder(parameters, rows, new NewRowComparator(noDictionaryMapping));
+  }
+
+  @Test public void testKettleRows() {
+    SortParameters parameters = createParameters(new boolean[] { false, false });
+    parameters.setUseKettle(true);
+    Object[][] rows = new Object[1000][];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = new Object[] { new Integer[] { random.nextInt(10), random.nextInt(300) }, null,
+          new Object[] { (double) i } };
+    }
+    assertSameOrder(parameters, rows, new RowComparatorForNormalDims(2));
+  }
+
+  private SortParameters createParameters(boolean[] noDictionaryMapping) {
+    SortParameters parameters = new SortParameters();
+    int noDictionaryCount = 0;
+    for (boolean noDictionary : noDictionaryMapping) {
+      if (noDictionary) {
+        noDictionaryCount++;
+      }
+    }
+    parameters.setUseKettle(false);
+    parameters.setDimColCount(noDictionaryMapping.length);
+    parameters.setNoDictionaryCount(noDictionaryCount);
+    parameters.setNoDictionaryDimnesionColumn(noDictionaryMapping);
+    return parameters;
+  }
+
+  private void assertSameOrder(SortParameters parameters, Object[][] rows,
+      Comparator<Object[]> comparator) {
+    Object[][] expected = rows.clone();
+    Arrays.sort(expected, comparator);
+    new KeyPrefixRowSorter(parameters, comparator).sort(rows);
+    for (int i = 0; i < rows.length; i++) {
+      Assert.assertSame(expected[i], rows[i]);
+    }
+  }
+}
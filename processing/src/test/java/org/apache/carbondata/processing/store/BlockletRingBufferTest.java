@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.carbondata.processing.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.carbondata.processing.store.writer.NodeHolder;
+import org.apache.carbondata.processing.store.writer.exception.CarbonDataWriterException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the ordered hand over of blocklets to multiple writers
+ */
+public class BlockletRingBufferTest {
+
+  @Test public void testWritersGetBlockletsInOrder() throws Exception {
+    final int numberOfBlocklets = 200;
+    final int numberOfWriters = 3;
+    final BlockletRingBuffer ringBuffer = new BlockletRingBuffer(4);
+    final NodeHolder[] nodeHolders = new NodeHolder[numberOfBlocklets];
+    for (int i = 0; i < numberOfBlocklets; i++) {
+      nodeHolders[i] = new NodeHolder();
+      nodeHolders[i].setEntryCount(i);
+    }
+    ExecutorService executorService = Executors.newFixedThreadPool(numberOfWriters);
+    ExecutorService producerService = Executors.newFixedThreadPool(5);
+    final Random random = new Random();
+    try {
+      List<Future<List<Integer>>> writers = new ArrayList<>();
+      for (int w = 0; w < numberOfWriters; w++) {
+        final int writerIndex = w;
+        writers.add(executorService.submit(new Callable<List<Integer>>() {
+          @Override public List<Integer> call() throws Exception {
+            List<Integer> written = new ArrayList<>();
+            NodeHolder nodeHolder;
+            long sequence = writerIndex;
+            while ((nodeHolder = ringBuffer.take(sequence)) != null) {
+              written.add(nodeHolder.getEntryCount());
+              sequence += numberOfWriters;
+            }
+            return written;
+          }
+        }));
+      }
+      // producers are submitted in order but complete in random order
+      List<Future<Void>> producers = new ArrayList<>();
+      for (int i = 0; i < numberOfBlocklets; i++) {
+        final int sequence = i;
+        producers.add(producerService.submit(new Callable<Void>() {
+          @Override public Void call() throws Exception {
+            Thread.sleep(random.nextInt(3));
+            ringBuffer.put(sequence, nodeHolders[sequence]);
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> producer : producers) {
+        producer.get();
+      }
+      ringBuffer.finish(numberOfBlocklets);
+      for (int w = 0; w < numberOfWriters; w++) {
+        List<Integer> written = writers.get(w).get();
+        Assert.assertEquals((numberOfBlocklets - w + numberOfWriters - 1) / numberOfWriters,
+            written.size());
+        for (int i = 0; i < written.size(); i++) {
+          Assert.assertEquals(w + i * numberOfWriters, (int) written.get(i));
+        }
+      }
+    } finally {
+      producerService.shutdownNow();
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test(expected = CarbonDataWriterException.class)
+  public void testAbortWakesUpWriter() throws Exception {
+    final BlockletRingBuffer ringBuffer = new BlockletRingBuffer(2);
+    new Thread(new Runnable() {
+      @Override public void run() {
+        try {
+          Thread.sleep(100);
+        } catch (InterruptedException e) {
+          // ignore
+        }
+        ringBuffer.abort();
+      }
+    }).start();
+    ringBuffer.take(0);
+  }
+}